@@ -6,6 +6,7 @@ import com.transer.vortice.auth.domain.model.Role;
 import com.transer.vortice.auth.domain.model.User;
 import com.transer.vortice.auth.domain.repository.RoleRepository;
 import com.transer.vortice.auth.domain.repository.UserRepository;
+import com.transer.vortice.auth.infrastructure.login.FailedLoginResult;
 import com.transer.vortice.auth.presentation.dto.request.ForgotPasswordRequest;
 import com.transer.vortice.auth.presentation.dto.request.LoginRequest;
 import com.transer.vortice.auth.presentation.dto.request.RegisterRequest;
@@ -16,22 +17,21 @@ import com.transer.vortice.shared.infrastructure.email.EmailService;
 import com.transer.vortice.shared.infrastructure.exception.BusinessException;
 import com.transer.vortice.shared.infrastructure.exception.NotFoundException;
 import com.transer.vortice.shared.infrastructure.exception.ValidationException;
+import com.transer.vortice.shared.infrastructure.security.AuthenticatedUser;
+import com.transer.vortice.shared.infrastructure.security.jwt.JwtRevocationService;
 import com.transer.vortice.shared.infrastructure.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.DisabledException;
-import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -50,94 +50,88 @@ public class AuthService {
     private final RefreshTokenService refreshTokenService;
     private final PasswordResetTokenService passwordResetTokenService;
     private final EmailService emailService;
-    private final AuthenticationManager authenticationManager;
+    private final LoginActivityService loginActivityService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtRevocationService jwtRevocationService;
     private final PasswordEncoder passwordEncoder;
 
     @Value("${vortice.jwt.expiration}")
     private Long jwtExpirationMs;
 
+    /**
+     * Hash de una contraseña aleatoria contra el que se verifica la de un usuario
+     * inexistente (se calcula en el primer uso).
+     */
+    private volatile String unknownUserPasswordHash;
+
     /**
      * Autentica un usuario y genera tokens de acceso.
      *
+     * El usuario (con roles y permisos) se carga una sola vez y la contraseña se verifica
+     * aquí, sin pasar por el AuthenticationManager, que lo cargaría de nuevo. El último
+     * login se escribe por lotes ({@link LoginActivityService}) y el intento fallido con un
+     * incremento atómico; no hay transacción abierta durante la verificación de la
+     * contraseña, y el intento fallido queda registrado aunque el login lance excepción.
+     *
      * @param loginRequest datos de login
      * @return respuesta con tokens y datos del usuario
      * @throws BusinessException si las credenciales son inválidas
      */
-    @Transactional
     public AuthResponse login(LoginRequest loginRequest) {
         log.info("Intento de login para usuario: {}", loginRequest.getUsernameOrEmail());
 
-        try {
-            // Autenticar usuario
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            loginRequest.getUsernameOrEmail(),
-                            loginRequest.getPassword()
-                    )
-            );
-
-            // Buscar usuario en BD
-            User user = userRepository.findByUsernameOrEmail(
-                            loginRequest.getUsernameOrEmail(),
-                            loginRequest.getUsernameOrEmail())
-                    .orElseThrow(() -> new BusinessException("Usuario no encontrado"));
-
-            // Verificar que el usuario puede hacer login
-            if (!user.canLogin()) {
-                if (!user.getIsActive()) {
-                    log.warn("Intento de login con usuario inactivo: {}", user.getUsername());
-                    throw new DisabledException("La cuenta de usuario está desactivada");
-                }
-                if (user.getIsLocked()) {
-                    log.warn("Intento de login con usuario bloqueado: {}", user.getUsername());
-                    throw new LockedException("La cuenta de usuario está bloqueada debido a múltiples intentos fallidos");
-                }
-            }
-
-            // Registrar login exitoso
-            user.registerSuccessfulLogin();
-            userRepository.save(user);
-
-            // Generar tokens
-            String accessToken = jwtTokenProvider.generateToken(authentication);
-            RefreshToken refreshToken = refreshTokenService.createRefreshToken(user);
-
-            log.info("Login exitoso para usuario: {} (ID: {})", user.getUsername(), user.getId());
-
-            return buildAuthResponse(accessToken, refreshToken.getToken(), user);
-
-        } catch (BadCredentialsException e) {
+        User user = userRepository.findByUsernameOrEmail(
+                        loginRequest.getUsernameOrEmail(),
+                        loginRequest.getUsernameOrEmail())
+                .orElse(null);
+
+        if (user == null) {
+            // Mismo costo que una contraseña incorrecta para no revelar si el usuario existe
+            passwordEncoder.matches(loginRequest.getPassword(), unknownUserPasswordHash());
+            log.warn("Credenciales inválidas para usuario: {}", loginRequest.getUsernameOrEmail());
+            throw new BusinessException("Credenciales inválidas");
+        }
+
+        // Verificar que el usuario puede hacer login (antes de la contraseña, como Spring Security)
+        if (user.getIsLocked()) {
+            log.warn("Intento de login con usuario bloqueado: {}", user.getUsername());
+            throw new BusinessException("La cuenta de usuario está bloqueada. Contacte al administrador");
+        }
+        if (!user.getIsActive()) {
+            log.warn("Intento de login con usuario desactivado: {}", user.getUsername());
+            throw new BusinessException("La cuenta de usuario está desactivada");
+        }
+
+        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPasswordHash())) {
             log.warn("Credenciales inválidas para usuario: {}", loginRequest.getUsernameOrEmail());
 
             // Incrementar contador de intentos fallidos
-            userRepository.findByUsernameOrEmail(
-                            loginRequest.getUsernameOrEmail(),
-                            loginRequest.getUsernameOrEmail())
-                    .ifPresent(user -> {
-                        user.incrementFailedLoginAttempts();
-                        userRepository.save(user);
-
-                        if (user.getIsLocked()) {
-                            log.warn("Usuario bloqueado por múltiples intentos fallidos: {}",
-                                    user.getUsername());
-                        }
+            loginActivityService.recordFailedLogin(user.getId())
+                    .filter(FailedLoginResult::locked)
+                    .ifPresent(result -> {
+                        log.warn("Usuario bloqueado por múltiples intentos fallidos: {}", user.getUsername());
+                        jwtRevocationService.revokeAllForUser(user.getId());
                     });
 
             throw new BusinessException("Credenciales inválidas");
+        }
 
-        } catch (DisabledException e) {
-            log.warn("Intento de login con usuario desactivado: {}", loginRequest.getUsernameOrEmail());
-            throw new BusinessException("La cuenta de usuario está desactivada");
+        // Registrar login exitoso
+        loginActivityService.recordSuccessfulLogin(user);
 
-        } catch (LockedException e) {
-            log.warn("Intento de login con usuario bloqueado: {}", loginRequest.getUsernameOrEmail());
-            throw new BusinessException("La cuenta de usuario está bloqueada. Contacte al administrador");
+        // Generar tokens
+        AuthenticatedUser principal = CustomUserDetailsService.buildPrincipal(user);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                principal,
+                null,
+                principal.getAuthorities()
+        );
+        String accessToken = jwtTokenProvider.generateToken(authentication);
+        RefreshToken refreshToken = refreshTokenService.createRefreshToken(user);
 
-        } catch (AuthenticationException e) {
-            log.error("Error de autenticación para usuario: {}", loginRequest.getUsernameOrEmail(), e);
-            throw new BusinessException("Error al autenticar usuario: " + e.getMessage());
-        }
+        log.info("Login exitoso para usuario: {} (ID: {})", user.getUsername(), user.getId());
+
+        return buildAuthResponse(accessToken, refreshToken.getToken(), user);
     }
 
     /**
@@ -187,18 +181,15 @@ public class AuthService {
 
         log.info("Usuario registrado exitosamente: {} (ID: {})", user.getUsername(), user.getId());
 
-        // Enviar email de bienvenida
-        try {
-            emailService.sendWelcomeEmail(user.getEmail(), user.getFullName());
-        } catch (Exception e) {
-            // No fallar el registro si el email falla
-            log.error("Error al enviar email de bienvenida a: {}", user.getEmail(), e);
-        }
+        // Encolar email de bienvenida: se envía desde el outbox si el registro hace commit
+        emailService.sendWelcomeEmail(user.getEmail(), user.getFullName());
 
         // Generar tokens
+        AuthenticatedUser principal = CustomUserDetailsService.buildPrincipal(user);
         Authentication authentication = new UsernamePasswordAuthenticationToken(
-                user.getUsername(),
-                registerRequest.getPassword()
+                principal,
+                null,
+                principal.getAuthorities()
         );
         String accessToken = jwtTokenProvider.generateToken(authentication);
         RefreshToken refreshToken = refreshTokenService.createRefreshToken(user);
@@ -209,37 +200,35 @@ public class AuthService {
     /**
      * Renueva el access token usando un refresh token válido.
      *
+     * El refresh token se rota en una sola sentencia ({@link RefreshTokenService}). No hay
+     * transacción: la revocación de la familia ante un token reutilizado se mantiene
+     * aunque la petición termine en error.
+     *
      * @param refreshTokenValue valor del refresh token
      * @return respuesta con nuevos tokens
      * @throws BusinessException si el refresh token no es válido
      */
-    @Transactional
     public AuthResponse refreshToken(String refreshTokenValue) {
         log.debug("Intentando renovar access token");
 
-        // Buscar y verificar el refresh token
-        RefreshToken refreshToken = refreshTokenService.findByToken(refreshTokenValue);
-        refreshToken = refreshTokenService.verifyExpiration(refreshToken);
+        // Rotar el refresh token (security best practice)
+        RefreshToken newRefreshToken = refreshTokenService.rotateRefreshToken(refreshTokenValue);
 
-        User user = refreshToken.getUser();
+        User user = newRefreshToken.getUser();
 
         // Verificar que el usuario siga activo
         if (!user.canLogin()) {
             log.warn("Intento de refresh token con usuario inactivo/bloqueado: {}", user.getUsername());
+            refreshTokenService.revokeToken(newRefreshToken.getToken());
             throw new BusinessException("El usuario no puede acceder al sistema");
         }
 
-        // Rotar el refresh token (security best practice)
-        RefreshToken newRefreshToken = refreshTokenService.rotateRefreshToken(refreshToken, user);
-
-        // Generar nuevo access token
+        // Generar nuevo access token (con roles y permisos actuales del usuario)
+        AuthenticatedUser principal = CustomUserDetailsService.buildPrincipal(user);
         Authentication authentication = new UsernamePasswordAuthenticationToken(
-                user.getUsername(),
+                principal,
                 null,
-                user.getRoles().stream()
-                        .map(role -> new org.springframework.security.core.authority.SimpleGrantedAuthority(
-                                "ROLE_" + role.getName()))
-                        .collect(Collectors.toSet())
+                principal.getAuthorities()
         );
         String newAccessToken = jwtTokenProvider.generateToken(authentication);
 
@@ -260,6 +249,12 @@ public class AuthService {
 
         refreshTokenService.revokeToken(refreshTokenValue);
 
+        // Revocar también el access token con el que se hizo la petición (si se envió)
+        Authentication current = SecurityContextHolder.getContext().getAuthentication();
+        if (current != null && current.getPrincipal() instanceof AuthenticatedUser principal) {
+            jwtRevocationService.revokeToken(principal.getTokenId(), principal.getTokenExpiresAt());
+        }
+
         log.info("Logout exitoso");
     }
 
@@ -294,14 +289,9 @@ public class AuthService {
 
         log.info("Token de recuperación generado para usuario: {}", user.getUsername());
 
-        // Enviar email con el token de reset
-        try {
-            emailService.sendPasswordResetEmail(user.getEmail(), user.getFullName(), resetToken.getToken());
-            log.info("Email de recuperación enviado a: {}", user.getEmail());
-        } catch (Exception e) {
-            log.error("Error al enviar email de recuperación a: {}", user.getEmail(), e);
-            throw new BusinessException("Error al enviar el email de recuperación. Intente nuevamente más tarde.");
-        }
+        // Encolar email con el token de reset en la misma transacción que el token:
+        // ambos se confirman juntos y el outbox reintenta el envío si el SMTP falla
+        emailService.sendPasswordResetEmail(user.getEmail(), user.getFullName(), resetToken.getToken());
 
         // Por seguridad, no retornar el token en producción
         // Solo retornar en modo desarrollo para facilitar testing
@@ -344,18 +334,23 @@ public class AuthService {
         // Marcar token como usado
         passwordResetTokenService.markTokenAsUsed(resetToken);
 
-        // Invalidar todos los refresh tokens del usuario (por seguridad)
+        // Invalidar todos los refresh tokens y access tokens del usuario (por seguridad)
         refreshTokenService.revokeAllUserTokens(user);
+        jwtRevocationService.revokeAllForUser(user.getId());
 
         log.info("Contraseña reseteada exitosamente para usuario: {}", user.getUsername());
 
-        // Enviar email de confirmación de cambio de contraseña
-        try {
-            emailService.sendPasswordChangedEmail(user.getEmail(), user.getFullName());
-        } catch (Exception e) {
-            // No fallar el reset si el email falla
-            log.error("Error al enviar email de confirmación de cambio de contraseña a: {}", user.getEmail(), e);
+        // Encolar email de confirmación de cambio de contraseña
+        emailService.sendPasswordChangedEmail(user.getEmail(), user.getFullName());
+    }
+
+    private String unknownUserPasswordHash() {
+        String hash = unknownUserPasswordHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode(UUID.randomUUID().toString());
+            unknownUserPasswordHash = hash;
         }
+        return hash;
     }
 
     /**
@@ -0,0 +1,96 @@
+package com.transer.vortice.auth.application.service;
+
+import com.transer.vortice.auth.domain.model.Permission;
+import com.transer.vortice.auth.domain.model.Role;
+import com.transer.vortice.auth.domain.repository.PermissionRepository;
+import com.transer.vortice.auth.domain.repository.RoleRepository;
+import com.transer.vortice.shared.infrastructure.security.AuthorityIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Carga el modelo de autorización compilado en {@link AuthorityIndex}: registra los
+ * nombres de todos los roles y permisos, en orden alfabético, e instala los permisos de
+ * cada rol. Con ese modelo se resuelven en cada verificación los permisos efectivos de
+ * los roles del token.
+ *
+ * Se ejecuta al arrancar, cada vez que se crea, modifica o elimina un rol o permiso en
+ * esta réplica (AuthorizationModelListener) y periódicamente para aplicar los cambios
+ * hechos en otra réplica. Los ordinales existentes no cambian.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthorizationModelService {
+
+    private final RoleRepository roleRepository;
+    private final PermissionRepository permissionRepository;
+    private final AuthorityIndex authorityIndex;
+
+    /**
+     * Carga el modelo al arrancar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // Hasta la primera carga se usan los permisos del token
+            log.error("Error cargando el modelo de autorización", e);
+        }
+    }
+
+    /**
+     * Recarga el modelo para aplicar los cambios hechos en otra réplica.
+     */
+    @Scheduled(fixedDelayString = "${vortice.authorization.refresh-interval-ms:30000}",
+            initialDelayString = "${vortice.authorization.refresh-interval-ms:30000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // Se conserva el modelo anterior hasta la siguiente recarga
+            log.warn("Error recargando el modelo de autorización: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Registra los roles y permisos que aún no estén en el índice e instala los permisos
+     * de cada rol.
+     *
+     * @return authorities registradas en total
+     */
+    public int refresh() {
+        List<Role> roles = roleRepository.findAllWithPermissions().stream()
+                .sorted(Comparator.comparing(Role::getName))
+                .toList();
+        List<String> permissions = permissionRepository.findAll().stream()
+                .map(Permission::getName)
+                .sorted()
+                .toList();
+
+        roles.forEach(role -> authorityIndex.internRole(role.getName()));
+        int size = authorityIndex.internAll(permissions);
+
+        Map<String, List<String>> permissionsByRole = new LinkedHashMap<>();
+        roles.forEach(role -> permissionsByRole.put(role.getName(), role.getPermissions().stream()
+                .map(Permission::getName)
+                .toList()));
+        authorityIndex.installModel(permissionsByRole);
+
+        log.debug("Modelo de autorización cargado: {} roles, {} permisos ({} authorities registradas)",
+                roles.size(), permissions.size(), size);
+        return size;
+    }
+}
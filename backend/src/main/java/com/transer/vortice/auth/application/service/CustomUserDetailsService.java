@@ -2,6 +2,7 @@ package com.transer.vortice.auth.application.service;
 
 import com.transer.vortice.auth.domain.model.User;
 import com.transer.vortice.auth.domain.repository.UserRepository;
+import com.transer.vortice.shared.infrastructure.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
@@ -50,25 +51,26 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         log.debug("Usuario encontrado: {} (ID: {})", user.getUsername(), user.getId());
 
-        return buildUserDetails(user);
+        return buildPrincipal(user);
     }
 
     /**
-     * Construye un objeto UserDetails de Spring Security desde un User del dominio.
+     * Construye el principal de Spring Security desde un User del dominio.
+     * Incluye el ID del usuario y su oficina para que se propaguen al access token.
      *
      * @param user usuario del dominio
      * @return UserDetails para Spring Security
      */
-    private UserDetails buildUserDetails(User user) {
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUsername())
-                .password(user.getPasswordHash())
-                .authorities(getAuthorities(user))
-                .accountExpired(false)
-                .accountLocked(user.getIsLocked())
-                .credentialsExpired(false)
-                .disabled(!user.getIsActive())
-                .build();
+    static AuthenticatedUser buildPrincipal(User user) {
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getUsername(),
+                user.getPasswordHash(),
+                user.getOfficeId(),
+                getAuthorities(user),
+                user.getIsActive(),
+                !user.getIsLocked()
+        );
     }
 
     /**
@@ -78,7 +80,7 @@ public class CustomUserDetailsService implements UserDetailsService {
      * @param user usuario del dominio
      * @return colección de authorities
      */
-    private Collection<? extends GrantedAuthority> getAuthorities(User user) {
+    private static Collection<? extends GrantedAuthority> getAuthorities(User user) {
         Set<GrantedAuthority> authorities = new HashSet<>();
 
         // Agregar autoridades basadas en roles y sus permisos
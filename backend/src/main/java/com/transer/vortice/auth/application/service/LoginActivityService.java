@@ -0,0 +1,115 @@
+package com.transer.vortice.auth.application.service;
+
+import com.transer.vortice.auth.domain.model.User;
+import com.transer.vortice.auth.infrastructure.login.FailedLoginResult;
+import com.transer.vortice.auth.infrastructure.login.LoginAttemptRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro de la actividad de login de los usuarios.
+ *
+ * El último login no se escribe en el request: se acumula en memoria (un valor por
+ * usuario, el más reciente) y se escribe por lotes cada {@code flush-interval-ms} en una
+ * sola sentencia, y al detener la aplicación. En un cambio de turno cientos de logins
+ * se convierten así en unas pocas escrituras. Un login con intentos fallidos previos
+ * reinicia el contador en el momento, y los intentos fallidos se cuentan en la base de
+ * datos con un incremento atómico: el bloqueo por intentos no depende del lote.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoginActivityService {
+
+    private final LoginAttemptRepository loginAttemptRepository;
+
+    /**
+     * Último login pendiente de escribir por id de usuario.
+     */
+    private final ConcurrentHashMap<Long, Instant> pendingLastLogins = new ConcurrentHashMap<>();
+
+    /**
+     * Registra un login exitoso. Actualiza la entidad en memoria (para la respuesta) sin
+     * guardarla.
+     *
+     * @param user usuario autenticado, con el contador de intentos leído en el login
+     */
+    public void recordSuccessfulLogin(User user) {
+        boolean hadFailedAttempts = user.getFailedLoginAttempts() > 0;
+        user.registerSuccessfulLogin();
+        if (hadFailedAttempts) {
+            loginAttemptRepository.resetFailedAttempts(user.getId());
+        }
+        pendingLastLogins.merge(user.getId(), user.getLastLoginAt(), LoginActivityService::latest);
+    }
+
+    /**
+     * Registra un intento fallido y bloquea la cuenta al alcanzar
+     * {@link User#MAX_FAILED_LOGIN_ATTEMPTS}.
+     *
+     * @return estado del usuario tras el intento, vacío si ya no existe
+     */
+    public Optional<FailedLoginResult> recordFailedLogin(Long userId) {
+        return loginAttemptRepository.recordFailedAttempt(userId, User.MAX_FAILED_LOGIN_ATTEMPTS);
+    }
+
+    /**
+     * Escribe los últimos logins pendientes según el intervalo configurado.
+     */
+    @Scheduled(fixedDelayString = "${vortice.login-activity.flush-interval-ms:2000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * Escribe los últimos logins pendientes antes de detener la aplicación.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Escribe en una sentencia los últimos logins pendientes. Si la escritura falla, se
+     * conservan para el siguiente intento.
+     *
+     * @return usuarios escritos
+     */
+    public int flush() {
+        if (pendingLastLogins.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Instant> batch = new HashMap<>();
+        for (Long userId : pendingLastLogins.keySet()) {
+            Instant loginAt = pendingLastLogins.remove(userId);
+            if (loginAt != null) {
+                batch.put(userId, loginAt);
+            }
+        }
+        try {
+            loginAttemptRepository.updateLastLogin(batch);
+            log.debug("Último login escrito para {} usuarios", batch.size());
+            return batch.size();
+        } catch (RuntimeException e) {
+            batch.forEach((userId, loginAt) -> pendingLastLogins.merge(userId, loginAt, LoginActivityService::latest));
+            log.error("Error escribiendo el último login de {} usuarios; se reintenta en el siguiente ciclo",
+                    batch.size(), e);
+            return 0;
+        }
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
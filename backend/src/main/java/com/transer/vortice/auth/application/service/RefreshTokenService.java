@@ -1,97 +1,131 @@
 package com.transer.vortice.auth.application.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.transer.vortice.auth.domain.model.RefreshToken;
 import com.transer.vortice.auth.domain.model.User;
-import com.transer.vortice.auth.domain.repository.RefreshTokenRepository;
+import com.transer.vortice.auth.domain.repository.UserRepository;
+import com.transer.vortice.auth.infrastructure.token.RefreshTokenStore;
+import com.transer.vortice.auth.infrastructure.token.StoredRefreshToken;
+import com.transer.vortice.shared.infrastructure.config.RefreshTokenProperties;
 import com.transer.vortice.shared.infrastructure.exception.BusinessException;
 import com.transer.vortice.shared.infrastructure.exception.NotFoundException;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.HexFormat;
 import java.util.UUID;
 
 /**
  * Servicio para gestionar refresh tokens.
  * Maneja la creación, validación, renovación y revocación de tokens de actualización.
  *
+ * Solo se guarda el SHA-256 del token ({@link RefreshTokenStore}) y la renovación rota el
+ * token en una sola sentencia. Los tokens renovados desde un mismo login forman una
+ * familia: si se presenta un token que ya fue rotado (posible robo), se revoca la familia
+ * completa y el cliente legítimo debe volver a iniciar sesión. Los tokens rotados por
+ * esta instancia se recuerdan en memoria, de modo que su reutilización se detecta sin
+ * consultar la base de datos; los demás casos se resuelven con la fila del token.
+ *
+ * Cada operación es una sentencia que se confirma al ejecutarse: la revocación de una
+ * familia no se deshace aunque la petición termine en error.
+ *
  * @author Vórtice Development Team
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RefreshTokenService {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserRepository userRepository;
+    private final RefreshTokenProperties properties;
+    private final long refreshTokenExpirationMs;
 
-    @Value("${vortice.jwt.refresh-expiration}")
-    private Long refreshTokenExpirationMs;
+    /**
+     * Familia de cada token rotado por esta instancia, por hash del token (hex).
+     */
+    private final Cache<String, UUID> rotatedTokens;
+
+    private final Counter reuseCounter;
+
+    public RefreshTokenService(RefreshTokenStore refreshTokenStore,
+                               UserRepository userRepository,
+                               RefreshTokenProperties properties,
+                               MeterRegistry meterRegistry,
+                               @Value("${vortice.jwt.refresh-expiration}") long refreshTokenExpirationMs) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.refreshTokenExpirationMs = refreshTokenExpirationMs;
+        // Pasada la vida útil del token, su reutilización ya se rechaza por expiración
+        this.rotatedTokens = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(refreshTokenExpirationMs))
+                .maximumSize(properties.getRotatedTokensCacheSize())
+                .build();
+        this.reuseCounter = Counter.builder("vortice.auth.refresh.reuse")
+                .description("Refresh tokens ya rotados presentados de nuevo (familia revocada)")
+                .register(meterRegistry);
+    }
 
     /**
-     * Crea un nuevo refresh token para un usuario.
+     * Crea un nuevo refresh token para un usuario, en una familia nueva.
      *
      * @param user usuario propietario del token
-     * @return refresh token creado
+     * @return refresh token creado, con su valor en claro
      */
-    @Transactional
     public RefreshToken createRefreshToken(User user) {
         log.debug("Creando refresh token para usuario: {}", user.getUsername());
 
-        String tokenValue = UUID.randomUUID().toString();
+        String tokenValue = newTokenValue();
         Instant expiresAt = Instant.now().plusMillis(refreshTokenExpirationMs);
 
-        RefreshToken refreshToken = new RefreshToken(tokenValue, user, expiresAt);
-        refreshToken = refreshTokenRepository.save(refreshToken);
+        StoredRefreshToken stored = refreshTokenStore.insert(
+                hash(tokenValue), user.getId(), UUID.randomUUID(), expiresAt);
 
         log.info("Refresh token creado exitosamente para usuario: {} (ID: {})",
                 user.getUsername(), user.getId());
 
-        return refreshToken;
+        return toRefreshToken(tokenValue, stored, user);
     }
 
     /**
-     * Busca un refresh token por su valor.
+     * Rota un refresh token: revoca el presentado y emite su reemplazo en la misma familia.
      *
-     * @param token valor del token
-     * @return refresh token encontrado
+     * @param tokenValue valor del token presentado por el cliente
+     * @return nuevo refresh token, con su valor en claro y el usuario (roles y permisos)
      * @throws NotFoundException si el token no existe
+     * @throws BusinessException si el token fue revocado (se revoca su familia) o expiró
      */
-    @Transactional(readOnly = true)
-    public RefreshToken findByToken(String token) {
-        log.debug("Buscando refresh token");
-
-        return refreshTokenRepository.findByToken(token)
-                .orElseThrow(() -> {
-                    log.warn("Refresh token no encontrado");
-                    return new NotFoundException("Refresh token no encontrado");
-                });
-    }
+    public RefreshToken rotateRefreshToken(String tokenValue) {
+        byte[] tokenHash = hash(tokenValue);
+        String key = HexFormat.of().formatHex(tokenHash);
 
-    /**
-     * Verifica que un refresh token sea válido (no revocado y no expirado).
-     *
-     * @param refreshToken token a verificar
-     * @return el mismo token si es válido
-     * @throws BusinessException si el token no es válido
-     */
-    @Transactional
-    public RefreshToken verifyExpiration(RefreshToken refreshToken) {
-        if (refreshToken.getRevoked()) {
-            log.warn("Intento de uso de refresh token revocado (ID: {})", refreshToken.getId());
-            throw new BusinessException("El refresh token ha sido revocado");
+        UUID rotatedFamily = rotatedTokens.getIfPresent(key);
+        if (rotatedFamily != null) {
+            throw reuseDetected(rotatedFamily);
         }
 
-        if (refreshToken.isExpired()) {
-            log.warn("Intento de uso de refresh token expirado (ID: {})", refreshToken.getId());
-            refreshTokenRepository.delete(refreshToken);
-            throw new BusinessException("El refresh token ha expirado. Por favor, inicie sesión nuevamente");
-        }
+        String newTokenValue = newTokenValue();
+        Instant expiresAt = Instant.now().plusMillis(refreshTokenExpirationMs);
+        StoredRefreshToken rotated = refreshTokenStore.rotate(tokenHash, hash(newTokenValue), expiresAt)
+                .orElseThrow(() -> rejection(tokenHash));
+        rotatedTokens.put(key, rotated.familyId());
 
-        return refreshToken;
+        User user = userRepository.findWithPermissionsById(rotated.userId())
+                .orElseThrow(() -> new NotFoundException("Usuario no encontrado"));
+
+        log.debug("Refresh token rotado para usuario: {} (ID: {})", user.getUsername(), user.getId());
+
+        return toRefreshToken(newTokenValue, rotated, user);
     }
 
     /**
@@ -99,16 +133,12 @@ public class RefreshTokenService {
      *
      * @param token valor del token a revocar
      */
-    @Transactional
     public void revokeToken(String token) {
         log.debug("Revocando refresh token");
 
-        refreshTokenRepository.findByToken(token)
-                .ifPresent(refreshToken -> {
-                    refreshToken.revoke();
-                    refreshTokenRepository.save(refreshToken);
-                    log.info("Refresh token revocado exitosamente (ID: {})", refreshToken.getId());
-                });
+        if (refreshTokenStore.revoke(hash(token)) > 0) {
+            log.info("Refresh token revocado exitosamente");
+        }
     }
 
     /**
@@ -116,51 +146,110 @@ public class RefreshTokenService {
      *
      * @param user usuario propietario de los tokens
      */
-    @Transactional
     public void revokeAllUserTokens(User user) {
         log.debug("Revocando todos los tokens del usuario: {}", user.getUsername());
 
-        int revokedCount = refreshTokenRepository.revokeAllUserTokens(user, Instant.now());
+        int revokedCount = refreshTokenStore.revokeAllForUser(user.getId());
 
         log.info("Revocados {} tokens del usuario: {} (ID: {})",
                 revokedCount, user.getUsername(), user.getId());
     }
 
     /**
-     * Rota un refresh token (revoca el anterior y crea uno nuevo).
+     * Limpia tokens expirados de la base de datos según el cron configurado.
+     */
+    @Scheduled(cron = "${vortice.refresh-tokens.cleanup-cron:0 0 2 * * *}")
+    public void scheduledCleanup() {
+        try {
+            cleanupExpiredTokens();
+        } catch (RuntimeException e) {
+            log.error("Error limpiando refresh tokens expirados; se reintenta en la siguiente ejecución", e);
+        }
+    }
+
+    /**
+     * Elimina los tokens expirados por bloques de {@code cleanup-chunk-size} filas, cada uno
+     * en su propia sentencia, con una pausa entre bloques: las renovaciones no esperan a
+     * una única eliminación masiva y el vacuum puede avanzar entre bloques.
      *
-     * @param oldToken token anterior a revocar
-     * @param user usuario propietario del token
-     * @return nuevo refresh token
+     * @return tokens eliminados
      */
-    @Transactional
-    public RefreshToken rotateRefreshToken(RefreshToken oldToken, User user) {
-        log.debug("Rotando refresh token para usuario: {}", user.getUsername());
+    public int cleanupExpiredTokens() {
+        log.info("Iniciando limpieza de refresh tokens expirados");
 
-        // Crear nuevo token
-        RefreshToken newToken = createRefreshToken(user);
+        Instant now = Instant.now();
+        int chunkSize = properties.getCleanupChunkSize();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenStore.deleteExpired(now, chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize && pause());
+
+        log.info("Limpieza completada: {} refresh tokens expirados eliminados", total);
+        return total;
+    }
 
-        // Revocar el token anterior y marcarlo como reemplazado
-        oldToken.revokeAndReplace(newToken.getToken());
-        refreshTokenRepository.save(oldToken);
+    // =====================================================
+    // MÉTODOS AUXILIARES
+    // =====================================================
 
-        log.info("Refresh token rotado exitosamente para usuario: {} (ID: {})",
-                user.getUsername(), user.getId());
+    /**
+     * Motivo por el que el token presentado no pudo rotarse.
+     */
+    private RuntimeException rejection(byte[] tokenHash) {
+        StoredRefreshToken stored = refreshTokenStore.findByHash(tokenHash).orElse(null);
+        if (stored == null) {
+            log.warn("Refresh token no encontrado");
+            return new NotFoundException("Refresh token no encontrado");
+        }
+        if (stored.revoked()) {
+            return reuseDetected(stored.familyId());
+        }
+        log.warn("Intento de uso de refresh token expirado (ID: {})", stored.id());
+        return new BusinessException("El refresh token ha expirado. Por favor, inicie sesión nuevamente");
+    }
 
-        return newToken;
+    private BusinessException reuseDetected(UUID familyId) {
+        int revoked = refreshTokenStore.revokeFamily(familyId);
+        reuseCounter.increment();
+        log.warn("Reutilización de refresh token revocado; familia {} revocada ({} tokens vigentes)",
+                familyId, revoked);
+        return new BusinessException("El refresh token ha sido revocado");
     }
 
-    /**
-     * Limpia tokens expirados de la base de datos.
-     * Se ejecuta automáticamente cada día a las 2:00 AM.
-     */
-    @Scheduled(cron = "0 0 2 * * ?") // Cada día a las 2:00 AM
-    @Transactional
-    public void cleanupExpiredTokens() {
-        log.info("Iniciando limpieza de refresh tokens expirados");
+    private boolean pause() {
+        if (properties.getCleanupPauseMs() <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(properties.getCleanupPauseMs());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static RefreshToken toRefreshToken(String tokenValue, StoredRefreshToken stored, User user) {
+        RefreshToken refreshToken = new RefreshToken(tokenValue, user, stored.expiresAt());
+        refreshToken.setId(stored.id());
+        refreshToken.setFamilyId(stored.familyId());
+        return refreshToken;
+    }
 
-        int deletedCount = refreshTokenRepository.deleteExpiredTokens(Instant.now());
+    private static String newTokenValue() {
+        return UUID.randomUUID().toString();
+    }
 
-        log.info("Limpieza completada: {} refresh tokens expirados eliminados", deletedCount);
+    /**
+     * SHA-256 del valor del token, tal como se guarda en refresh_tokens.token_hash.
+     */
+    static byte[] hash(String tokenValue) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(tokenValue.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
     }
 }
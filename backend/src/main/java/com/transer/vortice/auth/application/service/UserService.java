@@ -9,6 +9,7 @@ import com.transer.vortice.shared.infrastructure.email.EmailService;
 import com.transer.vortice.shared.infrastructure.exception.BusinessException;
 import com.transer.vortice.shared.infrastructure.exception.NotFoundException;
 import com.transer.vortice.shared.infrastructure.exception.ValidationException;
+import com.transer.vortice.shared.infrastructure.security.jwt.JwtRevocationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -34,6 +35,8 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
+    private final RefreshTokenService refreshTokenService;
+    private final JwtRevocationService jwtRevocationService;
 
     /**
      * Obtiene el usuario autenticado actualmente.
@@ -136,15 +139,14 @@ public class UserService {
 
         userRepository.save(user);
 
+        // Invalidar todos los refresh tokens y access tokens del usuario (por seguridad)
+        refreshTokenService.revokeAllUserTokens(user);
+        jwtRevocationService.revokeAllForUser(user.getId());
+
         log.info("Contraseña cambiada exitosamente para usuario: {}", user.getUsername());
 
-        // Enviar email de confirmación de cambio de contraseña
-        try {
-            emailService.sendPasswordChangedEmail(user.getEmail(), user.getFullName());
-        } catch (Exception e) {
-            // No fallar el cambio de contraseña si el email falla
-            log.error("Error al enviar email de confirmación de cambio de contraseña a: {}", user.getEmail(), e);
-        }
+        // Encolar email de confirmación de cambio de contraseña
+        emailService.sendPasswordChangedEmail(user.getEmail(), user.getFullName());
     }
 
     /**
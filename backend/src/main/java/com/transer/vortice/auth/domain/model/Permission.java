@@ -1,5 +1,6 @@
 package com.transer.vortice.auth.domain.model;
 
+import com.transer.vortice.auth.infrastructure.authorization.AuthorizationModelListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -21,7 +22,7 @@ import java.time.Instant;
  */
 @Entity
 @Table(name = "permissions")
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, AuthorizationModelListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,61 +1,48 @@
 package com.transer.vortice.auth.domain.model;
 
-import jakarta.persistence.*;
-import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import java.io.Serializable;
 import java.time.Instant;
+import java.util.UUID;
 
 /**
- * Entidad de dominio que representa un token de actualización (refresh token).
+ * Modelo de dominio que representa un token de actualización (refresh token).
  * Se usa para obtener nuevos access tokens sin requerir credenciales.
  *
+ * En la base de datos solo se guarda el hash del token (refresh_tokens.token_hash); el
+ * valor en claro solo está disponible en el objeto devuelto al emitirlo o rotarlo.
+ *
  * @author Vórtice Development Team
  */
-@Entity
-@Table(name = "refresh_tokens")
-@EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-public class RefreshToken implements Serializable {
+public class RefreshToken {
 
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @NotBlank(message = "El token es obligatorio")
-    @Column(name = "token", unique = true, nullable = false, length = 500)
+    /**
+     * Valor entregado al cliente (solo al emitir el token).
+     */
     private String token;
 
-    @NotNull(message = "El usuario es obligatorio")
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @NotNull(message = "La fecha de expiración es obligatoria")
-    @Column(name = "expires_at", nullable = false)
+    /**
+     * Familia de rotación: compartida por los tokens renovados desde un mismo login.
+     */
+    private UUID familyId;
+
     private Instant expiresAt;
 
-    @Column(name = "revoked", nullable = false)
     private Boolean revoked = false;
 
-    @Column(name = "revoked_at")
     private Instant revokedAt;
 
-    @Column(name = "replaced_by_token", length = 500)
-    private String replacedByToken;
-
-    @CreatedDate
-    @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
     // =====================================================
@@ -95,14 +82,6 @@ public class RefreshToken implements Serializable {
         this.revokedAt = Instant.now();
     }
 
-    /**
-     * Revoca el token y lo reemplaza por uno nuevo.
-     */
-    public void revokeAndReplace(String newToken) {
-        revoke();
-        this.replacedByToken = newToken;
-    }
-
     // =====================================================
     // equals, hashCode y toString
     // =====================================================
@@ -123,8 +102,8 @@ public class RefreshToken implements Serializable {
     public String toString() {
         return "RefreshToken{" +
                 "id=" + id +
-                ", token='" + token.substring(0, Math.min(20, token.length())) + "...'" +
                 ", userId=" + (user != null ? user.getId() : null) +
+                ", familyId=" + familyId +
                 ", expiresAt=" + expiresAt +
                 ", revoked=" + revoked +
                 '}';
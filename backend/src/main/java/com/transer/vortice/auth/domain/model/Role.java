@@ -1,5 +1,6 @@
 package com.transer.vortice.auth.domain.model;
 
+import com.transer.vortice.auth.infrastructure.authorization.AuthorizationModelListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -24,7 +25,7 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "roles")
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, AuthorizationModelListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -87,14 +88,18 @@ public class Role implements Serializable {
      * Agrega un permiso al rol.
      */
     public void addPermission(Permission permission) {
-        this.permissions.add(permission);
+        if (this.permissions.add(permission)) {
+            markPermissionsChanged();
+        }
     }
 
     /**
      * Remueve un permiso del rol.
      */
     public void removePermission(Permission permission) {
-        this.permissions.remove(permission);
+        if (this.permissions.remove(permission)) {
+            markPermissionsChanged();
+        }
     }
 
     /**
@@ -112,6 +117,14 @@ public class Role implements Serializable {
         return isSystemRole != null && isSystemRole;
     }
 
+    /**
+     * Un cambio solo en la colección de permisos no marca el rol como modificado: se
+     * actualiza updated_at para que se ejecute AuthorizationModelListener.
+     */
+    private void markPermissionsChanged() {
+        this.updatedAt = Instant.now();
+    }
+
     // =====================================================
     // equals, hashCode y toString
     // =====================================================
@@ -1,10 +1,12 @@
 package com.transer.vortice.auth.domain.model;
 
+import com.transer.vortice.auth.infrastructure.authorization.UserAccessChangeListener;
 import com.transer.vortice.shared.domain.entity.AuditableEntity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,22 +14,33 @@ import lombok.Setter;
 
 import java.time.Instant;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
 /**
  * Entidad de dominio que representa un usuario en el sistema.
  *
+ * Los cambios que afectan a los claims o a la validez de sus access tokens (roles,
+ * oficina, desactivación o bloqueo) se marcan en la entidad; al guardarla,
+ * {@link UserAccessChangeListener} revoca los tokens emitidos hasta ese momento.
+ *
  * @author Vórtice Development Team
  */
 @Entity
 @Table(name = "users")
+@EntityListeners(UserAccessChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class User extends AuditableEntity {
 
+    /**
+     * Intentos fallidos de login consecutivos que bloquean la cuenta.
+     */
+    public static final int MAX_FAILED_LOGIN_ATTEMPTS = 5;
+
     @NotBlank(message = "El nombre de usuario es obligatorio")
     @Size(min = 3, max = 50, message = "El nombre de usuario debe tener entre 3 y 50 caracteres")
     @Column(name = "username", unique = true, nullable = false, length = 50)
@@ -79,6 +92,40 @@ public class User extends AuditableEntity {
     @Column(name = "office_id", nullable = false)
     private UUID officeId;
 
+    /**
+     * Indica si cambiaron roles, oficina, o si la cuenta se desactivó o bloqueó desde la
+     * carga o el último guardado.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean accessChanged;
+
+    // =====================================================
+    // Setters con seguimiento de cambios de acceso
+    // =====================================================
+
+    public void setIsActive(Boolean isActive) {
+        if (Boolean.TRUE.equals(this.isActive) && !Boolean.TRUE.equals(isActive)) {
+            this.accessChanged = true;
+        }
+        this.isActive = isActive;
+    }
+
+    public void setIsLocked(Boolean isLocked) {
+        if (!Boolean.TRUE.equals(this.isLocked) && Boolean.TRUE.equals(isLocked)) {
+            this.accessChanged = true;
+        }
+        this.isLocked = isLocked;
+    }
+
+    public void setOfficeId(UUID officeId) {
+        if (this.officeId != null && !Objects.equals(this.officeId, officeId)) {
+            this.accessChanged = true;
+        }
+        this.officeId = officeId;
+    }
+
     // =====================================================
     // Métodos de negocio
     // =====================================================
@@ -102,8 +149,8 @@ public class User extends AuditableEntity {
      */
     public void incrementFailedLoginAttempts() {
         this.failedLoginAttempts++;
-        if (this.failedLoginAttempts >= 5) {
-            this.isLocked = true;
+        if (this.failedLoginAttempts >= MAX_FAILED_LOGIN_ATTEMPTS) {
+            setIsLocked(true);
         }
     }
 
@@ -126,14 +173,42 @@ public class User extends AuditableEntity {
      * Agrega un rol al usuario.
      */
     public void addRole(Role role) {
-        this.roles.add(role);
+        if (this.roles.add(role)) {
+            markRolesChanged();
+        }
     }
 
     /**
      * Remueve un rol del usuario.
      */
     public void removeRole(Role role) {
-        this.roles.remove(role);
+        if (this.roles.remove(role)) {
+            markRolesChanged();
+        }
+    }
+
+    /**
+     * Verifica si cambiaron roles, oficina, o si la cuenta se desactivó o bloqueó sin
+     * que se hayan revocado aún sus tokens.
+     */
+    public boolean isAccessChanged() {
+        return accessChanged;
+    }
+
+    /**
+     * Marca los cambios de acceso como aplicados (tokens ya revocados).
+     */
+    public void clearAccessChanged() {
+        this.accessChanged = false;
+    }
+
+    /**
+     * Un cambio solo en la colección de roles no actualiza la fila de users ni dispara
+     * los callbacks de actualización: la fecha de modificación la marca como modificada.
+     */
+    private void markRolesChanged() {
+        this.accessChanged = true;
+        setUpdatedAt(Instant.now());
     }
 
     /**
@@ -48,4 +48,12 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
      */
     @Query("SELECT r FROM Role r WHERE r.isSystemRole = false")
     List<Role> findCustomRoles();
+
+    /**
+     * Busca todos los roles con sus permisos cargados en la misma consulta.
+     *
+     * @return lista de roles con permisos
+     */
+    @Query("SELECT DISTINCT r FROM Role r LEFT JOIN FETCH r.permissions")
+    List<Role> findAllWithPermissions();
 }
@@ -47,6 +47,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
            "WHERE u.username = :username OR u.email = :email")
     Optional<User> findByUsernameOrEmail(@Param("username") String username, @Param("email") String email);
 
+    /**
+     * Busca un usuario por su ID cargando sus roles y permisos.
+     *
+     * @param id ID del usuario
+     * @return Optional con el usuario si existe
+     */
+    @Query("SELECT DISTINCT u FROM User u " +
+           "LEFT JOIN FETCH u.roles r " +
+           "LEFT JOIN FETCH r.permissions " +
+           "WHERE u.id = :id")
+    Optional<User> findWithPermissionsById(@Param("id") Long id);
+
     /**
      * Verifica si existe un usuario con el nombre de usuario dado.
      *
@@ -0,0 +1,50 @@
+package com.transer.vortice.auth.infrastructure.authorization;
+
+import com.transer.vortice.auth.application.service.AuthorizationModelService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Listener JPA que recarga el modelo de autorización cuando un rol o permiso se crea,
+ * modifica o elimina, incluidos los cambios en los permisos de un rol.
+ *
+ * Igual que {@link com.transer.vortice.tire.infrastructure.alert.AlertRulesInvalidationListener},
+ * la recarga se hace después del commit y el servicio se resuelve con ObjectProvider.
+ * Los permisos efectivos se resuelven con el modelo en cada verificación, por lo que
+ * los tokens ya emitidos reciben el cambio en el siguiente request de cada réplica que
+ * recargue el modelo.
+ *
+ * @author Vórtice Development Team
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthorizationModelListener {
+
+    private final ObjectProvider<AuthorizationModelService> authorizationModelService;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onRoleOrPermissionChange(Object roleOrPermission) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh();
+                }
+            });
+        } else {
+            refresh();
+        }
+    }
+
+    private void refresh() {
+        authorizationModelService.ifAvailable(AuthorizationModelService::refresh);
+    }
+}
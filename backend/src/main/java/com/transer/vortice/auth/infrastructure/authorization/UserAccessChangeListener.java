@@ -0,0 +1,45 @@
+package com.transer.vortice.auth.infrastructure.authorization;
+
+import com.transer.vortice.auth.domain.model.User;
+import com.transer.vortice.shared.infrastructure.security.jwt.JwtRevocationService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener JPA que revoca los access tokens de un usuario cuando cambian sus roles, su
+ * oficina, o su cuenta se desactiva o bloquea ({@link User#isAccessChanged()}).
+ *
+ * El principal se construye desde los claims del token: sin la revocación, esos cambios
+ * no tendrían efecto hasta que el token expire. La revocación se escribe en la misma
+ * transacción que el cambio; con un refresh token válido el cliente obtiene un access
+ * token con los claims nuevos.
+ *
+ * @author Vórtice Development Team
+ */
+@Component
+@RequiredArgsConstructor
+public class UserAccessChangeListener {
+
+    private final ObjectProvider<JwtRevocationService> jwtRevocationService;
+
+    /**
+     * Un usuario nuevo no tiene tokens emitidos: los roles asignados al crearlo no
+     * requieren revocación.
+     */
+    @PostPersist
+    public void onUserPersist(User user) {
+        user.clearAccessChanged();
+    }
+
+    @PostUpdate
+    public void onUserUpdate(User user) {
+        if (!user.isAccessChanged()) {
+            return;
+        }
+        user.clearAccessChanged();
+        jwtRevocationService.ifAvailable(service -> service.revokeAllForUser(user.getId()));
+    }
+}
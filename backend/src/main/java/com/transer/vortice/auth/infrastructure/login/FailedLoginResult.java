@@ -0,0 +1,12 @@
+package com.transer.vortice.auth.infrastructure.login;
+
+/**
+ * Estado del usuario tras registrar un intento fallido de login.
+ *
+ * @param failedAttempts intentos fallidos consecutivos, incluido el actual
+ * @param locked true si la cuenta quedó (o ya estaba) bloqueada
+ *
+ * @author Vórtice Development Team
+ */
+public record FailedLoginResult(int failedAttempts, boolean locked) {
+}
@@ -0,0 +1,95 @@
+package com.transer.vortice.auth.infrastructure.login;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Acceso JDBC a los datos de login de users: intentos fallidos, bloqueo y último login.
+ *
+ * Cada escritura es una sola sentencia sobre las columnas que cambia, sin cargar la
+ * entidad ni sobrescribir el resto de la fila. El contador de intentos fallidos se
+ * incrementa en la base de datos (UPDATE ... RETURNING), de modo que los intentos
+ * simultáneos de un mismo usuario se cuentan todos y el bloqueo ocurre exactamente
+ * en el intento que alcanza el máximo.
+ *
+ * @author Vórtice Development Team
+ */
+@Repository
+@RequiredArgsConstructor
+public class LoginAttemptRepository {
+
+    static final String FAILED_ATTEMPT_SQL = """
+            UPDATE users
+            SET failed_login_attempts = failed_login_attempts + 1,
+                is_locked = is_locked OR failed_login_attempts + 1 >= ?
+            WHERE id = ?
+            RETURNING failed_login_attempts, is_locked
+            """;
+
+    static final String RESET_FAILED_ATTEMPTS_SQL = """
+            UPDATE users
+            SET failed_login_attempts = 0
+            WHERE id = ? AND failed_login_attempts > 0
+            """;
+
+    static final String LAST_LOGIN_SQL = """
+            UPDATE users u
+            SET last_login_at = l.login_at
+            FROM unnest(?::bigint[], ?::timestamptz[]) AS l(id, login_at)
+            WHERE u.id = l.id
+              AND (u.last_login_at IS NULL OR u.last_login_at < l.login_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Suma un intento fallido y bloquea la cuenta al alcanzar {@code maxAttempts}.
+     *
+     * @return estado tras el intento, vacío si el usuario no existe
+     */
+    public Optional<FailedLoginResult> recordFailedAttempt(long userId, int maxAttempts) {
+        return jdbcTemplate.query(FAILED_ATTEMPT_SQL, (rs, rowNum) -> new FailedLoginResult(
+                        rs.getInt("failed_login_attempts"),
+                        rs.getBoolean("is_locked")),
+                maxAttempts, userId).stream().findFirst();
+    }
+
+    /**
+     * Reinicia el contador de intentos fallidos tras un login exitoso.
+     */
+    public void resetFailedAttempts(long userId) {
+        jdbcTemplate.update(RESET_FAILED_ATTEMPTS_SQL, userId);
+    }
+
+    /**
+     * Escribe el último login de varios usuarios en una sentencia. Un valor anterior al
+     * ya guardado no lo sobrescribe.
+     *
+     * @return usuarios actualizados
+     */
+    public int updateLastLogin(Map<Long, Instant> lastLogins) {
+        if (lastLogins.isEmpty()) {
+            return 0;
+        }
+        Long[] ids = new Long[lastLogins.size()];
+        Timestamp[] timestamps = new Timestamp[lastLogins.size()];
+        int i = 0;
+        for (Map.Entry<Long, Instant> entry : lastLogins.entrySet()) {
+            ids[i] = entry.getKey();
+            timestamps[i] = Timestamp.from(entry.getValue());
+            i++;
+        }
+        return jdbcTemplate.update(LAST_LOGIN_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("bigint", ids));
+            ps.setArray(2, connection.createArrayOf("timestamptz", timestamps));
+        });
+    }
+}
@@ -0,0 +1,156 @@
+package com.transer.vortice.auth.infrastructure.token;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Acceso JDBC a refresh_tokens (V3.14.0). Los tokens se identifican por el SHA-256 de su
+ * valor (token_hash, 32 bytes), con un índice único que incluye las columnas consultadas.
+ *
+ * {@link #rotate} revoca el token presentado e inserta su reemplazo en una sola
+ * sentencia: el UPDATE solo afecta a un token vigente, de modo que de dos renovaciones
+ * simultáneas con el mismo token solo una obtiene reemplazo. Cada método es una
+ * sentencia; fuera de una transacción se confirma al ejecutarse.
+ *
+ * @author Vórtice Development Team
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    static final String INSERT_SQL = """
+            INSERT INTO refresh_tokens (token_hash, user_id, family_id, expires_at)
+            VALUES (?, ?, ?, ?)
+            RETURNING id, user_id, family_id, expires_at, revoked
+            """;
+
+    static final String ROTATE_SQL = """
+            WITH old AS (
+                UPDATE refresh_tokens
+                SET revoked = true, revoked_at = CURRENT_TIMESTAMP
+                WHERE token_hash = ? AND revoked = false AND expires_at > CURRENT_TIMESTAMP
+                RETURNING user_id, family_id
+            )
+            INSERT INTO refresh_tokens (token_hash, user_id, family_id, expires_at)
+            SELECT ?, user_id, family_id, ?
+            FROM old
+            RETURNING id, user_id, family_id, expires_at, revoked
+            """;
+
+    static final String FIND_SQL = """
+            SELECT id, user_id, family_id, expires_at, revoked
+            FROM refresh_tokens
+            WHERE token_hash = ?
+            """;
+
+    static final String REVOKE_SQL = """
+            UPDATE refresh_tokens
+            SET revoked = true, revoked_at = CURRENT_TIMESTAMP
+            WHERE token_hash = ? AND revoked = false
+            """;
+
+    static final String REVOKE_FAMILY_SQL = """
+            UPDATE refresh_tokens
+            SET revoked = true, revoked_at = CURRENT_TIMESTAMP
+            WHERE family_id = ? AND revoked = false
+            """;
+
+    static final String REVOKE_USER_SQL = """
+            UPDATE refresh_tokens
+            SET revoked = true, revoked_at = CURRENT_TIMESTAMP
+            WHERE user_id = ? AND revoked = false
+            """;
+
+    static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM refresh_tokens
+            WHERE id IN (
+                SELECT id FROM refresh_tokens
+                WHERE expires_at < ?
+                ORDER BY expires_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            """;
+
+    private static final RowMapper<StoredRefreshToken> ROW_MAPPER = (rs, rowNum) -> new StoredRefreshToken(
+            rs.getLong("id"),
+            rs.getLong("user_id"),
+            rs.getObject("family_id", UUID.class),
+            rs.getTimestamp("expires_at").toInstant(),
+            rs.getBoolean("revoked"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Guarda un token nuevo.
+     *
+     * @param tokenHash SHA-256 del valor del token
+     * @param familyId familia de rotación (una nueva por login)
+     * @return token guardado
+     */
+    public StoredRefreshToken insert(byte[] tokenHash, long userId, UUID familyId, Instant expiresAt) {
+        return jdbcTemplate.queryForObject(INSERT_SQL, ROW_MAPPER,
+                tokenHash, userId, familyId, Timestamp.from(expiresAt));
+    }
+
+    /**
+     * Revoca el token si está vigente y guarda su reemplazo en la misma familia.
+     *
+     * @return el token nuevo, vacío si el anterior no existe, ya fue revocado o expiró
+     */
+    public Optional<StoredRefreshToken> rotate(byte[] tokenHash, byte[] newTokenHash, Instant newExpiresAt) {
+        return jdbcTemplate.query(ROTATE_SQL, ROW_MAPPER,
+                tokenHash, newTokenHash, Timestamp.from(newExpiresAt)).stream().findFirst();
+    }
+
+    /**
+     * Busca un token por el hash de su valor.
+     */
+    public Optional<StoredRefreshToken> findByHash(byte[] tokenHash) {
+        return jdbcTemplate.query(FIND_SQL, ROW_MAPPER, tokenHash).stream().findFirst();
+    }
+
+    /**
+     * Revoca un token.
+     *
+     * @return 1 si estaba vigente, 0 si no existe o ya estaba revocado
+     */
+    public int revoke(byte[] tokenHash) {
+        return jdbcTemplate.update(REVOKE_SQL, tokenHash);
+    }
+
+    /**
+     * Revoca los tokens vigentes de una familia de rotación.
+     *
+     * @return tokens revocados
+     */
+    public int revokeFamily(UUID familyId) {
+        return jdbcTemplate.update(REVOKE_FAMILY_SQL, familyId);
+    }
+
+    /**
+     * Revoca los tokens vigentes de un usuario.
+     *
+     * @return tokens revocados
+     */
+    public int revokeAllForUser(long userId) {
+        return jdbcTemplate.update(REVOKE_USER_SQL, userId);
+    }
+
+    /**
+     * Elimina hasta {@code limit} tokens expirados antes de {@code before}, empezando por
+     * los más antiguos. Las filas bloqueadas por una renovación en curso se omiten.
+     *
+     * @return filas eliminadas
+     */
+    public int deleteExpired(Instant before, int limit) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.from(before), limit);
+    }
+}
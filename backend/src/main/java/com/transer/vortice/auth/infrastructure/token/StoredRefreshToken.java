@@ -0,0 +1,25 @@
+package com.transer.vortice.auth.infrastructure.token;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Fila de refresh_tokens tal como la lee el almacén (sin el hash).
+ *
+ * @param id ID del token
+ * @param userId usuario propietario
+ * @param familyId familia de rotación
+ * @param expiresAt expiración
+ * @param revoked true si fue revocado o rotado
+ *
+ * @author Vórtice Development Team
+ */
+public record StoredRefreshToken(long id, long userId, UUID familyId, Instant expiresAt, boolean revoked) {
+
+    /**
+     * Verifica si el token ha expirado.
+     */
+    public boolean isExpired() {
+        return !expiresAt.isAfter(Instant.now());
+    }
+}
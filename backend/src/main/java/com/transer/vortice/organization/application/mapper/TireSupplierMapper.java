@@ -3,6 +3,7 @@ package com.transer.vortice.organization.application.mapper;
 import com.transer.vortice.organization.application.dto.CreateTireSupplierRequest;
 import com.transer.vortice.organization.application.dto.TireSupplierResponse;
 import com.transer.vortice.organization.domain.model.Office;
+import com.transer.vortice.organization.domain.model.OfficeSummary;
 import com.transer.vortice.organization.domain.model.TireSupplier;
 import org.springframework.stereotype.Component;
 
@@ -82,4 +83,20 @@ public class TireSupplierMapper {
         }
         return response;
     }
+
+    /**
+     * Convierte TireSupplier entity a TireSupplierResponse DTO con el resumen de la oficina
+     *
+     * @param supplier Entidad TireSupplier
+     * @param office Resumen de la oficina (del directorio de oficinas)
+     * @return DTO de respuesta con información de oficina
+     */
+    public TireSupplierResponse toResponseWithOfficeSummary(TireSupplier supplier, OfficeSummary office) {
+        TireSupplierResponse response = toResponse(supplier);
+        if (response != null && office != null) {
+            response.setOfficeCode(office.code());
+            response.setOfficeName(office.name());
+        }
+        return response;
+    }
 }
@@ -3,6 +3,7 @@ package com.transer.vortice.organization.application.mapper;
 import com.transer.vortice.organization.application.dto.CreateWarehouseLocationRequest;
 import com.transer.vortice.organization.application.dto.WarehouseLocationResponse;
 import com.transer.vortice.organization.domain.model.Office;
+import com.transer.vortice.organization.domain.model.OfficeSummary;
 import com.transer.vortice.organization.domain.model.Warehouse;
 import com.transer.vortice.organization.domain.model.WarehouseLocation;
 import org.springframework.stereotype.Component;
@@ -93,4 +94,22 @@ public class WarehouseLocationMapper {
         }
         return response;
     }
+
+    /**
+     * Convierte WarehouseLocation entity a WarehouseLocationResponse DTO con el resumen de la oficina
+     *
+     * @param location Entidad WarehouseLocation
+     * @param warehouse Entidad Warehouse
+     * @param office Resumen de la oficina (del directorio de oficinas)
+     * @return DTO de respuesta con información completa de almacén y oficina
+     */
+    public WarehouseLocationResponse toResponseWithOfficeSummary(WarehouseLocation location, Warehouse warehouse,
+                                                                OfficeSummary office) {
+        WarehouseLocationResponse response = toResponseWithWarehouse(location, warehouse);
+        if (response != null && office != null) {
+            response.setOfficeCode(office.code());
+            response.setOfficeName(office.name());
+        }
+        return response;
+    }
 }
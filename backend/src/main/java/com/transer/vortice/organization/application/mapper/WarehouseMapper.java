@@ -3,6 +3,7 @@ package com.transer.vortice.organization.application.mapper;
 import com.transer.vortice.organization.application.dto.CreateWarehouseRequest;
 import com.transer.vortice.organization.application.dto.WarehouseResponse;
 import com.transer.vortice.organization.domain.model.Office;
+import com.transer.vortice.organization.domain.model.OfficeSummary;
 import com.transer.vortice.organization.domain.model.Warehouse;
 import org.springframework.stereotype.Component;
 
@@ -75,6 +76,22 @@ public class WarehouseMapper {
         return response;
     }
 
+    /**
+     * Convierte Warehouse entity a WarehouseResponse DTO con el resumen de la oficina
+     *
+     * @param warehouse Entidad Warehouse
+     * @param office Resumen de la oficina (del directorio de oficinas)
+     * @return DTO de respuesta con información de oficina
+     */
+    public WarehouseResponse toResponseWithOfficeSummary(Warehouse warehouse, OfficeSummary office) {
+        WarehouseResponse response = toResponse(warehouse);
+        if (response != null && office != null) {
+            response.setOfficeCode(office.code());
+            response.setOfficeName(office.name());
+        }
+        return response;
+    }
+
     /**
      * Convierte Warehouse entity a WarehouseResponse DTO con información adicional
      *
@@ -0,0 +1,125 @@
+package com.transer.vortice.organization.application.service;
+
+import com.transer.vortice.organization.domain.model.OfficeSummary;
+import com.transer.vortice.organization.domain.repository.OfficeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Directorio en memoria de oficinas (ID -> código y nombre).
+ *
+ * Los listados de almacenes, ubicaciones y proveedores resuelven la oficina de todas
+ * sus filas con una sola llamada a {@link #findAllById(Collection)}: las oficinas en
+ * caché se sirven desde memoria y las faltantes se cargan con una única consulta IN.
+ * Así cada listado emite un número constante de consultas sin importar su tamaño.
+ *
+ * Las oficinas cambian muy poco y la tabla offices no tiene RLS, por lo que la caché
+ * es compartida por todos los usuarios. Se invalida al modificar una oficina
+ * (ver OfficeDirectoryEvictionListener) y además expira según vortice.cache.specs.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Component
+public class OfficeDirectory {
+
+    /**
+     * Nombre de la caché (configurable en vortice.cache.specs).
+     */
+    public static final String CACHE_NAME = "office-directory";
+
+    private final OfficeRepository officeRepository;
+    private final Cache cache;
+
+    public OfficeDirectory(OfficeRepository officeRepository, CacheManager cacheManager) {
+        this.officeRepository = officeRepository;
+        this.cache = cacheManager.getCache(CACHE_NAME);
+    }
+
+    /**
+     * Obtiene el resumen de una oficina.
+     *
+     * @param officeId ID de la oficina (puede ser null)
+     * @return resumen de la oficina, o vacío si no existe
+     */
+    public Optional<OfficeSummary> findById(UUID officeId) {
+        if (officeId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(findAllById(Set.of(officeId)).get(officeId));
+    }
+
+    /**
+     * Obtiene el resumen de varias oficinas con a lo sumo una consulta a la base de datos.
+     *
+     * @param officeIds IDs de las oficinas (se ignoran los null)
+     * @return mapa ID -> resumen con las oficinas encontradas
+     */
+    public Map<UUID, OfficeSummary> findAllById(Collection<UUID> officeIds) {
+        Map<UUID, OfficeSummary> result = new HashMap<>();
+        Set<UUID> missing = new LinkedHashSet<>();
+
+        for (UUID officeId : officeIds) {
+            if (officeId == null || result.containsKey(officeId)) {
+                continue;
+            }
+            OfficeSummary cached = cache != null ? cache.get(officeId, OfficeSummary.class) : null;
+            if (cached != null) {
+                result.put(officeId, cached);
+            } else {
+                missing.add(officeId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (OfficeSummary office : officeRepository.findSummariesByIdIn(missing)) {
+                result.put(office.id(), office);
+                if (cache != null) {
+                    cache.put(office.id(), office);
+                }
+            }
+            log.debug("Directorio de oficinas: {} cargadas de la base de datos, {} desde caché",
+                    missing.size(), result.size() - missing.size());
+        }
+
+        return result;
+    }
+
+    /**
+     * Resuelve las oficinas de una colección de elementos.
+     *
+     * @param items elementos (almacenes, proveedores, etc.)
+     * @param officeIdExtractor función que obtiene el ID de oficina de cada elemento
+     * @return mapa ID -> resumen con las oficinas encontradas
+     */
+    public <T> Map<UUID, OfficeSummary> resolve(Collection<T> items, Function<T, UUID> officeIdExtractor) {
+        Set<UUID> officeIds = new LinkedHashSet<>();
+        for (T item : items) {
+            officeIds.add(officeIdExtractor.apply(item));
+        }
+        return findAllById(officeIds);
+    }
+
+    /**
+     * Elimina una oficina del directorio.
+     *
+     * @param officeId ID de la oficina
+     */
+    public void evict(UUID officeId) {
+        if (cache != null && officeId != null) {
+            cache.evict(officeId);
+            log.debug("Oficina {} eliminada del directorio", officeId);
+        }
+    }
+}
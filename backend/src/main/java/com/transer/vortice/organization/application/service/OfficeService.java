@@ -12,10 +12,13 @@ import com.transer.vortice.organization.domain.repository.OfficeRepository;
 import com.transer.vortice.organization.domain.repository.TireSupplierRepository;
 import com.transer.vortice.organization.domain.repository.WarehouseRepository;
 import com.transer.vortice.organization.infrastructure.security.SecurityUtils;
+import com.transer.vortice.shared.infrastructure.pagination.CursorPage;
+import com.transer.vortice.shared.infrastructure.pagination.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -241,6 +244,30 @@ public class OfficeService {
         return offices.map(officeMapper::toResponse);
     }
 
+    /**
+     * Lista oficinas por keyset (cursor), ordenadas por nombre y sin consulta de conteo.
+     *
+     * @param cursor cursor de la página anterior (null para la primera página)
+     * @param size tamaño de página
+     * @return página de DTOs con el cursor de la siguiente
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<OfficeResponse> scrollOffices(String cursor, int size) {
+        log.debug("Listando oficinas por cursor - tamaño: {}", size);
+
+        String filters = KeysetCursor.hashFilters();
+        KeysetCursor after = KeysetCursor.decode(cursor, Sort.Direction.ASC, filters);
+        Pageable limit = CursorPage.limit(size);
+
+        List<Office> offices = after == null
+                ? officeRepository.scrollAll(limit)
+                : officeRepository.scrollAllAfter(after.key(), after.id(), limit);
+
+        return CursorPage.of(offices, size,
+                office -> new KeysetCursor(office.getName(), office.getId(), Sort.Direction.ASC, filters),
+                officeMapper::toResponse);
+    }
+
     /**
      * Obtiene una oficina con información detallada (totales de almacenes, proveedores, usuarios).
      * Solo administradores nacionales pueden ver detalles de cualquier oficina.
@@ -10,18 +10,23 @@ import com.transer.vortice.organization.domain.exception.ForbiddenOfficeAccessEx
 import com.transer.vortice.organization.domain.exception.OfficeNotFoundException;
 import com.transer.vortice.organization.domain.exception.TireSupplierNotFoundException;
 import com.transer.vortice.organization.domain.model.Office;
+import com.transer.vortice.organization.domain.model.OfficeSummary;
 import com.transer.vortice.organization.domain.model.TireSupplier;
 import com.transer.vortice.organization.domain.repository.OfficeRepository;
 import com.transer.vortice.organization.domain.repository.TireSupplierRepository;
 import com.transer.vortice.organization.infrastructure.security.SecurityUtils;
+import com.transer.vortice.shared.infrastructure.pagination.CursorPage;
+import com.transer.vortice.shared.infrastructure.pagination.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -43,6 +48,7 @@ public class TireSupplierService {
     private final OfficeRepository officeRepository;
     private final TireSupplierMapper tireSupplierMapper;
     private final SecurityUtils securityUtils;
+    private final OfficeDirectory officeDirectory;
 
     /**
      * Crea un nuevo proveedor de llantas.
@@ -257,12 +263,7 @@ public class TireSupplierService {
 
         List<TireSupplier> suppliers = tireSupplierRepository.findAllByTaxIdAndDeletedAtIsNull(taxId);
 
-        return suppliers.stream()
-                .map(supplier -> {
-                    Office office = officeRepository.findById(supplier.getOfficeId()).orElse(null);
-                    return tireSupplierMapper.toResponseWithOffice(supplier, office);
-                })
-                .collect(Collectors.toList());
+        return toResponsesWithOffice(suppliers);
     }
 
     /**
@@ -278,12 +279,7 @@ public class TireSupplierService {
 
         List<TireSupplier> suppliers = tireSupplierRepository.findAllActive();
 
-        return suppliers.stream()
-                .map(supplier -> {
-                    Office office = officeRepository.findById(supplier.getOfficeId()).orElse(null);
-                    return tireSupplierMapper.toResponseWithOffice(supplier, office);
-                })
-                .collect(Collectors.toList());
+        return toResponsesWithOffice(suppliers);
     }
 
     /**
@@ -325,10 +321,40 @@ public class TireSupplierService {
 
         Page<TireSupplier> suppliers = tireSupplierRepository.search(searchTerm, pageable);
 
-        return suppliers.map(supplier -> {
-            Office office = officeRepository.findById(supplier.getOfficeId()).orElse(null);
-            return tireSupplierMapper.toResponseWithOffice(supplier, office);
-        });
+        Map<UUID, OfficeSummary> offices = officeDirectory.resolve(suppliers.getContent(), TireSupplier::getOfficeId);
+
+        return suppliers.map(supplier -> tireSupplierMapper.toResponseWithOfficeSummary(
+                supplier, offices.get(supplier.getOfficeId())));
+    }
+
+    /**
+     * Busca proveedores por nombre o código por keyset (cursor), ordenados por nombre
+     * y sin consulta de conteo. El RLS filtra automáticamente por oficina del usuario.
+     *
+     * @param searchTerm término de búsqueda (null o vacío para todos)
+     * @param cursor cursor de la página anterior (null para la primera página)
+     * @param size tamaño de página
+     * @return página de DTOs con el cursor de la siguiente
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TireSupplierResponse> scrollSuppliers(String searchTerm, String cursor, int size) {
+        log.debug("Buscando proveedores por cursor con término: {}", searchTerm);
+
+        String search = searchTerm == null ? "" : searchTerm.trim();
+        String filters = KeysetCursor.hashFilters(search);
+        KeysetCursor after = KeysetCursor.decode(cursor, Sort.Direction.ASC, filters);
+        Pageable limit = CursorPage.limit(size);
+
+        List<TireSupplier> suppliers = after == null
+                ? tireSupplierRepository.scrollSearch(search, limit)
+                : tireSupplierRepository.scrollSearchAfter(search, after.key(), after.id(), limit);
+
+        Map<UUID, OfficeSummary> offices = officeDirectory.resolve(suppliers, TireSupplier::getOfficeId);
+
+        return CursorPage.of(suppliers, size,
+                supplier -> new KeysetCursor(supplier.getName(), supplier.getId(), Sort.Direction.ASC, filters),
+                supplier -> tireSupplierMapper.toResponseWithOfficeSummary(
+                        supplier, offices.get(supplier.getOfficeId())));
     }
 
     /**
@@ -355,4 +381,19 @@ public class TireSupplierService {
 
         return tireSupplierMapper.toResponseWithOffice(updatedSupplier, office);
     }
+
+    /**
+     * Convierte una lista de proveedores resolviendo todas sus oficinas en una sola consulta.
+     *
+     * @param suppliers proveedores a convertir
+     * @return lista de DTOs con información de oficina
+     */
+    private List<TireSupplierResponse> toResponsesWithOffice(List<TireSupplier> suppliers) {
+        Map<UUID, OfficeSummary> offices = officeDirectory.resolve(suppliers, TireSupplier::getOfficeId);
+
+        return suppliers.stream()
+                .map(supplier -> tireSupplierMapper.toResponseWithOfficeSummary(
+                        supplier, offices.get(supplier.getOfficeId())))
+                .collect(Collectors.toList());
+    }
 }
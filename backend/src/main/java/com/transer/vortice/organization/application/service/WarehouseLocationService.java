@@ -10,6 +10,7 @@ import com.transer.vortice.organization.domain.exception.ForbiddenOfficeAccessEx
 import com.transer.vortice.organization.domain.exception.WarehouseLocationNotFoundException;
 import com.transer.vortice.organization.domain.exception.WarehouseNotFoundException;
 import com.transer.vortice.organization.domain.model.Office;
+import com.transer.vortice.organization.domain.model.OfficeSummary;
 import com.transer.vortice.organization.domain.model.Warehouse;
 import com.transer.vortice.organization.domain.model.WarehouseLocation;
 import com.transer.vortice.organization.domain.repository.OfficeRepository;
@@ -19,12 +20,17 @@ import com.transer.vortice.organization.infrastructure.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -46,6 +52,7 @@ public class WarehouseLocationService {
     private final OfficeRepository officeRepository;
     private final WarehouseLocationMapper warehouseLocationMapper;
     private final SecurityUtils securityUtils;
+    private final OfficeDirectory officeDirectory;
 
     /**
      * Crea una nueva ubicación de almacén.
@@ -226,14 +233,7 @@ public class WarehouseLocationService {
 
         List<WarehouseLocation> locations = warehouseLocationRepository.findAllActive();
 
-        return locations.stream()
-                .map(location -> {
-                    Warehouse warehouse = warehouseRepository.findById(location.getWarehouseId()).orElse(null);
-                    Office office = warehouse != null ?
-                            officeRepository.findById(warehouse.getOfficeId()).orElse(null) : null;
-                    return warehouseLocationMapper.toResponseWithDetails(location, warehouse, office);
-                })
-                .collect(Collectors.toList());
+        return toResponsesWithDetails(locations);
     }
 
     /**
@@ -275,12 +275,8 @@ public class WarehouseLocationService {
 
         Page<WarehouseLocation> locations = warehouseLocationRepository.search(searchTerm, pageable);
 
-        return locations.map(location -> {
-            Warehouse warehouse = warehouseRepository.findById(location.getWarehouseId()).orElse(null);
-            Office office = warehouse != null ?
-                    officeRepository.findById(warehouse.getOfficeId()).orElse(null) : null;
-            return warehouseLocationMapper.toResponseWithDetails(location, warehouse, office);
-        });
+        return new PageImpl<>(toResponsesWithDetails(locations.getContent()), pageable,
+                locations.getTotalElements());
     }
 
     /**
@@ -309,4 +305,32 @@ public class WarehouseLocationService {
 
         return warehouseLocationMapper.toResponseWithDetails(updatedLocation, warehouse, office);
     }
+
+    /**
+     * Convierte una lista de ubicaciones resolviendo sus almacenes y oficinas por lotes:
+     * una consulta IN para los almacenes y una para las oficinas no presentes en el directorio.
+     *
+     * @param locations ubicaciones a convertir
+     * @return lista de DTOs con información de almacén y oficina, en el mismo orden
+     */
+    private List<WarehouseLocationResponse> toResponsesWithDetails(List<WarehouseLocation> locations) {
+        Set<UUID> warehouseIds = new LinkedHashSet<>();
+        for (WarehouseLocation location : locations) {
+            warehouseIds.add(location.getWarehouseId());
+        }
+
+        Map<UUID, Warehouse> warehouses = warehouseIds.isEmpty()
+                ? Map.of()
+                : warehouseRepository.findAllById(warehouseIds).stream()
+                        .collect(Collectors.toMap(Warehouse::getId, Function.identity()));
+        Map<UUID, OfficeSummary> offices = officeDirectory.resolve(warehouses.values(), Warehouse::getOfficeId);
+
+        return locations.stream()
+                .map(location -> {
+                    Warehouse warehouse = warehouses.get(location.getWarehouseId());
+                    OfficeSummary office = warehouse != null ? offices.get(warehouse.getOfficeId()) : null;
+                    return warehouseLocationMapper.toResponseWithOfficeSummary(location, warehouse, office);
+                })
+                .collect(Collectors.toList());
+    }
 }
@@ -6,19 +6,24 @@ import com.transer.vortice.organization.application.dto.WarehouseResponse;
 import com.transer.vortice.organization.application.mapper.WarehouseMapper;
 import com.transer.vortice.organization.domain.exception.*;
 import com.transer.vortice.organization.domain.model.Office;
+import com.transer.vortice.organization.domain.model.OfficeSummary;
 import com.transer.vortice.organization.domain.model.Warehouse;
 import com.transer.vortice.organization.domain.repository.OfficeRepository;
 import com.transer.vortice.organization.domain.repository.WarehouseLocationRepository;
 import com.transer.vortice.organization.domain.repository.WarehouseRepository;
 import com.transer.vortice.organization.infrastructure.security.SecurityUtils;
+import com.transer.vortice.shared.infrastructure.pagination.CursorPage;
+import com.transer.vortice.shared.infrastructure.pagination.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -41,6 +46,7 @@ public class WarehouseService {
     private final WarehouseLocationRepository warehouseLocationRepository;
     private final WarehouseMapper warehouseMapper;
     private final SecurityUtils securityUtils;
+    private final OfficeDirectory officeDirectory;
 
     /**
      * Crea un nuevo almacén.
@@ -228,13 +234,12 @@ public class WarehouseService {
 
         List<Warehouse> warehouses = warehouseRepository.findAllActive();
 
-        // Cargar todas las oficinas necesarias
-        // Nota: en producción se podría optimizar con fetch join
+        // Resolver todas las oficinas en una sola consulta (o desde el directorio en caché)
+        Map<UUID, OfficeSummary> offices = officeDirectory.resolve(warehouses, Warehouse::getOfficeId);
+
         return warehouses.stream()
-                .map(warehouse -> {
-                    Office office = officeRepository.findById(warehouse.getOfficeId()).orElse(null);
-                    return warehouseMapper.toResponseWithOffice(warehouse, office);
-                })
+                .map(warehouse -> warehouseMapper.toResponseWithOfficeSummary(
+                        warehouse, offices.get(warehouse.getOfficeId())))
                 .collect(Collectors.toList());
     }
 
@@ -263,6 +268,39 @@ public class WarehouseService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Lista los almacenes de una oficina por keyset (cursor), ordenados por nombre
+     * y sin consulta de conteo.
+     *
+     * @param officeId ID de la oficina
+     * @param cursor cursor de la página anterior (null para la primera página)
+     * @param size tamaño de página
+     * @return página de DTOs con el cursor de la siguiente
+     * @throws ForbiddenOfficeAccessException si el usuario no tiene acceso a la oficina
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<WarehouseResponse> scrollWarehousesByOffice(UUID officeId, String cursor, int size) {
+        log.debug("Listando almacenes de oficina {} por cursor - tamaño: {}", officeId, size);
+
+        if (!securityUtils.hasAccessToOffice(officeId)) {
+            throw new ForbiddenOfficeAccessException(officeId);
+        }
+
+        String filters = KeysetCursor.hashFilters(officeId);
+        KeysetCursor after = KeysetCursor.decode(cursor, Sort.Direction.ASC, filters);
+        Pageable limit = CursorPage.limit(size);
+
+        List<Warehouse> warehouses = after == null
+                ? warehouseRepository.scrollByOfficeId(officeId, limit)
+                : warehouseRepository.scrollByOfficeIdAfter(officeId, after.key(), after.id(), limit);
+
+        OfficeSummary office = officeDirectory.findById(officeId).orElse(null);
+
+        return CursorPage.of(warehouses, size,
+                warehouse -> new KeysetCursor(warehouse.getName(), warehouse.getId(), Sort.Direction.ASC, filters),
+                warehouse -> warehouseMapper.toResponseWithOfficeSummary(warehouse, office));
+    }
+
     /**
      * Busca almacenes por nombre o código con paginación.
      * El RLS filtrará automáticamente por oficina del usuario.
@@ -277,10 +315,10 @@ public class WarehouseService {
 
         Page<Warehouse> warehouses = warehouseRepository.search(searchTerm, pageable);
 
-        return warehouses.map(warehouse -> {
-            Office office = officeRepository.findById(warehouse.getOfficeId()).orElse(null);
-            return warehouseMapper.toResponseWithOffice(warehouse, office);
-        });
+        Map<UUID, OfficeSummary> offices = officeDirectory.resolve(warehouses.getContent(), Warehouse::getOfficeId);
+
+        return warehouses.map(warehouse -> warehouseMapper.toResponseWithOfficeSummary(
+                warehouse, offices.get(warehouse.getOfficeId())));
     }
 
     /**
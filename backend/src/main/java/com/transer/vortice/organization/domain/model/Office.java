@@ -1,5 +1,6 @@
 package com.transer.vortice.organization.domain.model;
 
+import com.transer.vortice.organization.infrastructure.cache.OfficeDirectoryEvictionListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -26,6 +27,7 @@ import lombok.Setter;
  */
 @Entity
 @Table(name = "offices")
+@EntityListeners(OfficeDirectoryEvictionListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,20 @@
+package com.transer.vortice.organization.domain.model;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Proyección de solo lectura con los datos de una oficina que se muestran junto a
+ * almacenes, ubicaciones y proveedores.
+ *
+ * Se obtiene con una expresión constructora JPQL ({@code SELECT new ...}), sin
+ * cargar la entidad {@link Office} completa en el contexto de persistencia.
+ *
+ * @param id ID de la oficina
+ * @param code código de la oficina
+ * @param name nombre de la oficina
+ *
+ * @author Vórtice Development Team
+ */
+public record OfficeSummary(UUID id, String code, String name) implements Serializable {
+}
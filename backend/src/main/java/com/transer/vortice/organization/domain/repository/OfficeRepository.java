@@ -1,6 +1,7 @@
 package com.transer.vortice.organization.domain.repository;
 
 import com.transer.vortice.organization.domain.model.Office;
+import com.transer.vortice.organization.domain.model.OfficeSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -110,4 +112,37 @@ public interface OfficeRepository extends JpaRepository<Office, UUID> {
      */
     @Query("SELECT COUNT(o) FROM Office o WHERE o.deletedAt IS NULL AND o.isActive = true")
     long countActive();
+
+    /**
+     * Obtiene código y nombre de varias oficinas en una sola consulta.
+     * Incluye oficinas eliminadas, para poder mostrar la oficina de registros históricos.
+     *
+     * @param ids IDs de las oficinas
+     * @return resumen de las oficinas encontradas
+     */
+    @Query("SELECT new com.transer.vortice.organization.domain.model.OfficeSummary(o.id, o.code, o.name) " +
+           "FROM Office o WHERE o.id IN :ids")
+    List<OfficeSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Primera página por keyset de oficinas no eliminadas, ordenadas por nombre (sin COUNT).
+     *
+     * @param limit Límite de filas (ver CursorPage.limit)
+     * @return Oficinas de la página
+     */
+    @Query("SELECT o FROM Office o WHERE o.deletedAt IS NULL ORDER BY o.name ASC, o.id ASC")
+    List<Office> scrollAll(Pageable limit);
+
+    /**
+     * Página siguiente por keyset: oficinas posteriores a (nombre, ID).
+     *
+     * @param name Nombre de la última fila entregada
+     * @param id ID de la última fila entregada
+     * @param limit Límite de filas (ver CursorPage.limit)
+     * @return Oficinas de la página
+     */
+    @Query("SELECT o FROM Office o WHERE o.deletedAt IS NULL " +
+           "AND (o.name, o.id) > (:name, :id) " +
+           "ORDER BY o.name ASC, o.id ASC")
+    List<Office> scrollAllAfter(@Param("name") String name, @Param("id") UUID id, Pageable limit);
 }
@@ -140,4 +140,34 @@ public interface TireSupplierRepository extends JpaRepository<TireSupplier, UUID
      * @return Número de proveedores
      */
     long countByOfficeIdAndDeletedAtIsNull(UUID officeId);
+
+    /**
+     * Primera página por keyset de la búsqueda de proveedores, ordenada por nombre (sin COUNT)
+     *
+     * @param search Texto a buscar (vacío para todos)
+     * @param limit Límite de filas (ver CursorPage.limit)
+     * @return Proveedores de la página
+     */
+    @Query("SELECT ts FROM TireSupplier ts WHERE ts.deletedAt IS NULL AND " +
+           "(LOWER(ts.code) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(ts.name) LIKE LOWER(CONCAT('%', :search, '%'))) " +
+           "ORDER BY ts.name ASC, ts.id ASC")
+    List<TireSupplier> scrollSearch(@Param("search") String search, Pageable limit);
+
+    /**
+     * Página siguiente por keyset de la búsqueda: proveedores posteriores a (nombre, ID)
+     *
+     * @param search Texto a buscar (vacío para todos)
+     * @param name Nombre de la última fila entregada
+     * @param id ID de la última fila entregada
+     * @param limit Límite de filas (ver CursorPage.limit)
+     * @return Proveedores de la página
+     */
+    @Query("SELECT ts FROM TireSupplier ts WHERE ts.deletedAt IS NULL AND " +
+           "(LOWER(ts.code) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(ts.name) LIKE LOWER(CONCAT('%', :search, '%'))) " +
+           "AND (ts.name, ts.id) > (:name, :id) " +
+           "ORDER BY ts.name ASC, ts.id ASC")
+    List<TireSupplier> scrollSearchAfter(@Param("search") String search,
+                                         @Param("name") String name,
+                                         @Param("id") UUID id,
+                                         Pageable limit);
 }
@@ -136,4 +136,32 @@ public interface WarehouseRepository extends JpaRepository<Warehouse, UUID> {
            "(LOWER(w.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(w.code) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
     Page<Warehouse> search(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    /**
+     * Primera página por keyset de los almacenes de una oficina, ordenados por nombre (sin COUNT).
+     *
+     * @param officeId ID de la oficina
+     * @param limit Límite de filas (ver CursorPage.limit)
+     * @return Almacenes de la página
+     */
+    @Query("SELECT w FROM Warehouse w WHERE w.officeId = :officeId AND w.deletedAt IS NULL " +
+           "ORDER BY w.name ASC, w.id ASC")
+    List<Warehouse> scrollByOfficeId(@Param("officeId") UUID officeId, Pageable limit);
+
+    /**
+     * Página siguiente por keyset: almacenes de la oficina posteriores a (nombre, ID).
+     *
+     * @param officeId ID de la oficina
+     * @param name Nombre de la última fila entregada
+     * @param id ID de la última fila entregada
+     * @param limit Límite de filas (ver CursorPage.limit)
+     * @return Almacenes de la página
+     */
+    @Query("SELECT w FROM Warehouse w WHERE w.officeId = :officeId AND w.deletedAt IS NULL " +
+           "AND (w.name, w.id) > (:name, :id) " +
+           "ORDER BY w.name ASC, w.id ASC")
+    List<Warehouse> scrollByOfficeIdAfter(@Param("officeId") UUID officeId,
+                                          @Param("name") String name,
+                                          @Param("id") UUID id,
+                                          Pageable limit);
 }
@@ -0,0 +1,48 @@
+package com.transer.vortice.organization.infrastructure.cache;
+
+import com.transer.vortice.organization.application.service.OfficeDirectory;
+import com.transer.vortice.organization.domain.model.Office;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Listener JPA que retira una oficina del {@link OfficeDirectory} cuando se crea,
+ * modifica o elimina.
+ *
+ * La invalidación se hace después del commit, igual que en las cachés de catálogos,
+ * para que una lectura concurrente no vuelva a cargar datos aún no confirmados.
+ *
+ * @author Vórtice Development Team
+ */
+@Component
+@RequiredArgsConstructor
+public class OfficeDirectoryEvictionListener {
+
+    private final ObjectProvider<OfficeDirectory> officeDirectory;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onOfficeChange(Office office) {
+        UUID officeId = office.getId();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    officeDirectory.ifAvailable(directory -> directory.evict(officeId));
+                }
+            });
+        } else {
+            officeDirectory.ifAvailable(directory -> directory.evict(officeId));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.transer.vortice.organization.infrastructure.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bits de rol publicados en la variable de sesión {@code app.current_roles}.
+ *
+ * Las políticas RLS comparan la máscara con un AND de bits en lugar de consultar
+ * users/user_roles por cada fila. Los valores de los bits forman parte del contrato
+ * con la base de datos (ver migración V3.4.0): no reordenar ni reutilizar bits.
+ *
+ * La equivalencia de roles es la misma que usa {@link SecurityUtils}: ADMIN cuenta
+ * como administrador nacional y de oficina.
+ *
+ * @author Vórtice Development Team
+ */
+public enum RlsRole {
+
+    NATIONAL_ADMIN(1, "ROLE_ADMIN_NATIONAL", "ROLE_ADMIN"),
+    OFFICE_ADMIN(1 << 1, "ROLE_ADMIN_OFFICE", "ROLE_ADMIN"),
+    WAREHOUSE_MANAGER(1 << 2, "ROLE_WAREHOUSE_MANAGER");
+
+    private static final Map<String, Integer> MASK_BY_AUTHORITY = new HashMap<>();
+
+    static {
+        for (RlsRole role : values()) {
+            for (String authority : role.authorities) {
+                MASK_BY_AUTHORITY.merge(authority, role.bit, (a, b) -> a | b);
+            }
+        }
+    }
+
+    private final int bit;
+    private final String[] authorities;
+
+    RlsRole(int bit, String... authorities) {
+        this.bit = bit;
+        this.authorities = authorities;
+    }
+
+    public int getBit() {
+        return bit;
+    }
+
+    /**
+     * Calcula la máscara de roles a partir de las autoridades del usuario.
+     *
+     * @param authorities autoridades con prefijo ROLE_
+     * @return máscara de bits (0 si ninguna autoridad tiene bit asignado)
+     */
+    public static int mask(Collection<? extends GrantedAuthority> authorities) {
+        if (authorities == null) {
+            return 0;
+        }
+        int mask = 0;
+        for (GrantedAuthority authority : authorities) {
+            mask |= MASK_BY_AUTHORITY.getOrDefault(authority.getAuthority(), 0);
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,108 @@
+package com.transer.vortice.organization.infrastructure.security;
+
+import com.transer.vortice.shared.infrastructure.security.AuthenticatedUser;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Gestor de transacciones JPA que establece el contexto de Row-Level Security (RLS).
+ *
+ * Al iniciar cada transacción ejecuta, en una sola sentencia y sobre la misma conexión
+ * que usarán las consultas de negocio, {@code set_config(..., true)} para:
+ * - app.current_user_id: ID del usuario (funciones heredadas de V3.0.1).
+ * - app.current_office_id: oficina del usuario.
+ * - app.current_roles: máscara de bits de {@link RlsRole}.
+ * El tercer argumento (is_local = true) limita los valores a la transacción: al hacer
+ * commit o rollback las variables desaparecen y la conexión vuelve limpia al pool.
+ *
+ * Los valores se toman del principal autenticado ({@link AuthenticatedUser}), sin consultar
+ * la base de datos; las políticas RLS (V3.4.0) los comparan directamente, sin buscar el
+ * usuario y sus roles por cada fila. Las transacciones sin usuario autenticado (login,
+ * tareas programadas) no establecen contexto y las políticas RLS deniegan el acceso.
+ *
+ * Reemplaza al antiguo RLSContextFilter, que obtenía una conexión adicional del pool
+ * para ejecutar SET LOCAL fuera de toda transacción (sin efecto sobre las consultas
+ * posteriores, que podían usar otra conexión).
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+public class RlsTransactionManager extends JpaTransactionManager {
+
+    static final String SET_CONTEXT_SQL = "SELECT set_config('app.current_user_id', ?, true), "
+            + "set_config('app.current_office_id', ?, true), "
+            + "set_config('app.current_roles', ?, true)";
+
+    public RlsTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+
+        AuthenticatedUser principal = currentPrincipal();
+        if (principal == null || principal.getId() == null) {
+            return;
+        }
+
+        DataSource dataSource = getDataSource();
+        ConnectionHolder holder = dataSource != null
+                ? (ConnectionHolder) TransactionSynchronizationManager.getResource(dataSource)
+                : null;
+        if (holder == null) {
+            log.warn("Transacción sin conexión JDBC expuesta, contexto RLS no establecido");
+            return;
+        }
+
+        try {
+            applyContext(holder.getConnection(), principal);
+            log.trace("Contexto RLS establecido para usuario ID: {}", principal.getId());
+        } catch (SQLException e) {
+            // No interrumpir la transacción: si el contexto no se establece,
+            // las políticas RLS de la base de datos deniegan el acceso
+            log.error("Error al establecer contexto RLS", e);
+        }
+    }
+
+    /**
+     * Establece las variables de sesión RLS en la conexión de la transacción.
+     * Es la primera sentencia de la transacción: el driver la envía junto con el BEGIN.
+     *
+     * @param connection conexión de la transacción (autocommit deshabilitado)
+     * @param principal usuario autenticado
+     */
+    static void applyContext(Connection connection, AuthenticatedUser principal) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SET_CONTEXT_SQL)) {
+            statement.setString(1, principal.getId().toString());
+            statement.setString(2, principal.getOfficeId() != null ? principal.getOfficeId().toString() : "");
+            statement.setString(3, Integer.toString(RlsRole.mask(principal.getAuthorities())));
+            statement.execute();
+        }
+    }
+
+    /**
+     * Obtiene el principal del request actual.
+     *
+     * @return principal o null si no hay usuario autenticado con {@link AuthenticatedUser}
+     */
+    static AuthenticatedUser currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal;
+        }
+        return null;
+    }
+}
@@ -2,10 +2,12 @@ package com.transer.vortice.organization.infrastructure.security;
 
 import com.transer.vortice.auth.domain.model.User;
 import com.transer.vortice.auth.domain.repository.UserRepository;
+import com.transer.vortice.shared.infrastructure.security.AuthenticatedUser;
+import com.transer.vortice.shared.infrastructure.security.AuthorityIndex;
+import com.transer.vortice.shared.infrastructure.security.AuthoritySet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
@@ -15,6 +17,10 @@ import java.util.UUID;
  * Utilidad para acceder a información del usuario autenticado actual.
  * Proporciona métodos para obtener el ID del usuario, su oficina y verificar roles.
  *
+ * Con un {@link AuthenticatedUser} (login o token JWT) las verificaciones de rol usan sus
+ * authorities efectivas ({@link AuthorityIndex#authoritiesOf}): un test de bit, sin
+ * recorrer las authorities.
+ *
  * @author Vórtice Development Team
  */
 @Slf4j
@@ -23,6 +29,7 @@ import java.util.UUID;
 public class SecurityUtils {
 
     private final UserRepository userRepository;
+    private final AuthorityIndex authorityIndex;
 
     /**
      * Obtiene el nombre de usuario del usuario autenticado actualmente.
@@ -55,10 +62,15 @@ public class SecurityUtils {
 
     /**
      * Obtiene el ID del usuario autenticado actualmente.
+     * Si el principal proviene del token JWT no se consulta la base de datos.
      *
      * @return ID del usuario o null si no hay usuario autenticado
      */
     public Long getCurrentUserId() {
+        AuthenticatedUser principal = getAuthenticatedPrincipal();
+        if (principal != null) {
+            return principal.getId();
+        }
         User user = getCurrentUser();
         return user != null ? user.getId() : null;
     }
@@ -70,6 +82,10 @@ public class SecurityUtils {
      * @return UUID de la oficina o null si no hay usuario autenticado
      */
     public UUID getCurrentUserOfficeId() {
+        AuthenticatedUser principal = getAuthenticatedPrincipal();
+        if (principal != null) {
+            return principal.getOfficeId();
+        }
         User user = getCurrentUser();
         return user != null ? user.getOfficeId() : null;
     }
@@ -81,15 +97,8 @@ public class SecurityUtils {
      * @return true si el usuario tiene el rol, false en caso contrario
      */
     public boolean hasRole(String roleName) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            return false;
-        }
-
-        String roleWithPrefix = "ROLE_" + roleName;
-        return authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .anyMatch(authority -> authority.equals(roleWithPrefix));
+        AuthoritySet authorities = getCurrentAuthorities();
+        return authorities != null && authorities.hasRole(roleName);
     }
 
     /**
@@ -99,7 +108,7 @@ public class SecurityUtils {
      * @return true si el usuario es administrador nacional
      */
     public boolean isNationalAdmin() {
-        return hasRole("ADMIN_NATIONAL") || hasRole("ADMIN");
+        return isNationalAdmin(getCurrentAuthorities());
     }
 
     /**
@@ -108,7 +117,8 @@ public class SecurityUtils {
      * @return true si el usuario es administrador de oficina
      */
     public boolean isOfficeAdmin() {
-        return hasRole("ADMIN_OFFICE") || hasRole("ADMIN");
+        AuthoritySet authorities = getCurrentAuthorities();
+        return authorities != null && authorities.hasAnyRole("ADMIN_OFFICE", "ADMIN");
     }
 
     /**
@@ -133,6 +143,10 @@ public class SecurityUtils {
         }
 
         // Admin nacional tiene acceso a todas las oficinas
+        AuthenticatedUser principal = getAuthenticatedPrincipal();
+        if (principal != null) {
+            return isNationalAdmin(authorityIndex.authoritiesOf(principal)) || officeId.equals(principal.getOfficeId());
+        }
         if (isNationalAdmin()) {
             return true;
         }
@@ -153,4 +167,39 @@ public class SecurityUtils {
                authentication.isAuthenticated() &&
                !authentication.getPrincipal().equals("anonymousUser");
     }
+
+    /**
+     * Authorities del usuario autenticado: las efectivas del principal o, con otro tipo de
+     * principal, un conjunto construido a partir de las authorities de la autenticación.
+     *
+     * @return authorities o null si no hay autenticación
+     */
+    private AuthoritySet getCurrentAuthorities() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return authorityIndex.authoritiesOf(principal);
+        }
+        return authorityIndex.setOf(authentication.getAuthorities());
+    }
+
+    private static boolean isNationalAdmin(AuthoritySet authorities) {
+        return authorities != null && authorities.hasAnyRole("ADMIN_NATIONAL", "ADMIN");
+    }
+
+    /**
+     * Obtiene el principal autenticado construido desde el token JWT o el login.
+     *
+     * @return principal o null si la autenticación no usa {@link AuthenticatedUser}
+     */
+    private AuthenticatedUser getAuthenticatedPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal;
+        }
+        return null;
+    }
 }
@@ -4,6 +4,7 @@ import com.transer.vortice.organization.application.dto.CreateOfficeRequest;
 import com.transer.vortice.organization.application.dto.OfficeResponse;
 import com.transer.vortice.organization.application.dto.UpdateOfficeRequest;
 import com.transer.vortice.organization.application.service.OfficeService;
+import com.transer.vortice.shared.infrastructure.pagination.CursorPage;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -138,6 +139,22 @@ public class OfficeController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Lista oficinas con paginación por cursor (sin conteo total), ordenadas por nombre.
+     * Solo administradores nacionales pueden recorrer todas las oficinas.
+     *
+     * GET /api/v1/offices/scroll?size=20&cursor=...
+     */
+    @GetMapping("/scroll")
+    @PreAuthorize("hasRole('ADMIN_NATIONAL') or hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<OfficeResponse>> scrollOffices(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("REST: Solicitud para listar oficinas por cursor");
+        CursorPage<OfficeResponse> response = officeService.scrollOffices(cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Obtiene una oficina con información detallada (totales).
      * Solo administradores nacionales pueden ver detalles de cualquier oficina.
@@ -4,6 +4,7 @@ import com.transer.vortice.organization.application.dto.CreateTireSupplierReques
 import com.transer.vortice.organization.application.dto.TireSupplierResponse;
 import com.transer.vortice.organization.application.dto.UpdateTireSupplierRequest;
 import com.transer.vortice.organization.application.service.TireSupplierService;
+import com.transer.vortice.shared.infrastructure.pagination.CursorPage;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -171,6 +172,23 @@ public class TireSupplierController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Busca proveedores por nombre o código con paginación por cursor (sin conteo total).
+     * El RLS filtra automáticamente por oficina del usuario.
+     *
+     * GET /api/v1/tire-suppliers/scroll?q=termino&size=20&cursor=...
+     */
+    @GetMapping("/scroll")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPage<TireSupplierResponse>> scrollSuppliers(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("REST: Solicitud para buscar proveedores por cursor con término: {}", q);
+        CursorPage<TireSupplierResponse> response = tireSupplierService.scrollSuppliers(q, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Activa o desactiva un proveedor.
      * Administradores de oficina y nacionales pueden cambiar el estado.
@@ -4,6 +4,7 @@ import com.transer.vortice.organization.application.dto.CreateWarehouseRequest;
 import com.transer.vortice.organization.application.dto.UpdateWarehouseRequest;
 import com.transer.vortice.organization.application.dto.WarehouseResponse;
 import com.transer.vortice.organization.application.service.WarehouseService;
+import com.transer.vortice.shared.infrastructure.pagination.CursorPage;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -140,6 +141,23 @@ public class WarehouseController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Lista los almacenes de una oficina con paginación por cursor (sin conteo total).
+     * El usuario debe tener acceso a la oficina.
+     *
+     * GET /api/v1/warehouses/by-office/{officeId}/scroll?size=20&cursor=...
+     */
+    @GetMapping("/by-office/{officeId}/scroll")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPage<WarehouseResponse>> scrollWarehousesByOffice(
+            @PathVariable UUID officeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("REST: Solicitud para listar almacenes de oficina {} por cursor", officeId);
+        CursorPage<WarehouseResponse> response = warehouseService.scrollWarehousesByOffice(officeId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Busca almacenes por nombre o código con paginación.
      * El RLS filtra automáticamente por oficina del usuario.
@@ -0,0 +1,68 @@
+package com.transer.vortice.shared.infrastructure.concurrency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Filtro que limita los requests en proceso con {@link DatabaseConcurrencyLimiter}.
+ *
+ * Se registra después de la cadena de Spring Security: los requests rechazados por rate
+ * limiting o sin autenticación no ocupan cupo. Si no hay cupo dentro del tiempo de espera
+ * responde 503 con Retry-After en lugar de dejar que el request espere una conexión de
+ * Hikari hasta su connection-timeout. Actuator no se limita.
+ *
+ * Solo se registra en el modo de hilos virtuales; con hilos de plataforma el pool de
+ * Tomcat cumple esta función.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private static final byte[] BUSY_BODY = ("{\"status\":503,\"error\":\"Service Unavailable\","
+            + "\"message\":\"El servidor está ocupado, intente de nuevo en unos segundos\"}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final DatabaseConcurrencyLimiter limiter;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator", request.getContextPath().length());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        if (!limiter.tryAcquire()) {
+            log.warn("Sin cupo de concurrencia para {} {} ({} en proceso, {} en espera)",
+                    request.getMethod(), request.getRequestURI(), limiter.getInFlight(), limiter.getWaiting());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+            response.getOutputStream().write(BUSY_BODY);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.transer.vortice.shared.infrastructure.concurrency;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limitador de trabajo concurrente contra la base de datos.
+ *
+ * Con hilos virtuales Tomcat ya no limita los requests simultáneos por tamaño de pool:
+ * miles de requests pueden llegar a la vez a Hikari, esperar su connection-timeout y
+ * fallar todos juntos. El limitador deja pasar un número de requests proporcional al
+ * pool y hace esperar al resto en una cola justa (FIFO) con un tiempo acotado; un hilo
+ * virtual bloqueado en el semáforo no ocupa un hilo de plataforma.
+ *
+ * @author Vórtice Development Team
+ */
+public class DatabaseConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final int limit;
+    private final long acquireTimeoutNanos;
+
+    /**
+     * @param limit trabajos simultáneos permitidos
+     * @param acquireTimeoutMs espera máxima por un cupo
+     */
+    public DatabaseConcurrencyLimiter(int limit, long acquireTimeoutMs) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("El límite de concurrencia debe ser al menos 1");
+        }
+        this.permits = new Semaphore(limit, true);
+        this.limit = limit;
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs);
+    }
+
+    /**
+     * Toma un cupo esperando como máximo el tiempo configurado.
+     *
+     * @return false si no hubo cupo a tiempo o el hilo fue interrumpido
+     */
+    public boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Devuelve un cupo tomado con {@link #tryAcquire()}.
+     */
+    public void release() {
+        permits.release();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Trabajos en proceso.
+     */
+    public int getInFlight() {
+        return limit - permits.availablePermits();
+    }
+
+    /**
+     * Hilos esperando un cupo (estimado).
+     */
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+}
@@ -0,0 +1,45 @@
+package com.transer.vortice.shared.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Propiedades de configuración de las reglas de alertas de llantas.
+ * Lee la configuración desde application.yml bajo el prefijo vortice.alerts.
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "vortice.alerts")
+public class AlertProperties {
+
+    /**
+     * Habilitar/deshabilitar la evaluación de alertas en muestreos y movimientos.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Profundidad en mm bajo la cual cualquier banda de la llanta genera CRITICAL_DEPTH.
+     */
+    private double criticalDepthMm = 3.0;
+
+    /**
+     * Veces la tasa de desgaste esperada de la especificación a partir de la cual se
+     * genera IRREGULAR_WEAR.
+     */
+    private double wearRateFactor = 1.5;
+
+    /**
+     * Km mínimos entre dos muestreos para medir la tasa de desgaste (evita el ruido de
+     * muestreos muy cercanos).
+     */
+    private int minWearSegmentKm = 2_000;
+
+    /**
+     * Vigencia en ms de los umbrales compilados: pasado este tiempo se vuelven a leer
+     * las especificaciones (cambios hechos desde otro nodo).
+     */
+    private long rulesTtlMs = 300_000;
+}
@@ -1,37 +1,73 @@
 package com.transer.vortice.shared.infrastructure.config;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import javax.sql.DataSource;
 import java.util.concurrent.Executor;
 
 /**
  * Configuración para procesamiento asíncrono.
  * Permite ejecutar métodos anotados con @Async en hilos separados.
  *
+ * Con spring.threads.virtual.enabled=true cada tarea se ejecuta en un hilo virtual, sin
+ * cola ni rechazos: al llegar al límite de concurrencia (por defecto el tamaño del pool
+ * de Hikari) quien envía la tarea espera a que termine otra.
+ *
  * @author Vórtice Development Team
  */
 @Slf4j
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer {
 
+    private static final String THREAD_NAME_PREFIX = "Async-";
+
+    private final Environment environment;
+    private final ObjectProvider<DataSource> dataSource;
+    private final ObjectProvider<VirtualThreadProperties> virtualThreadProperties;
+
     @Override
     public Executor getAsyncExecutor() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return virtualThreadExecutor();
+        }
+
         log.info("Configurando ThreadPoolTaskExecutor para procesamiento asíncrono");
 
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(10);
         executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("Async-");
+        executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
         executor.initialize();
 
         return executor;
     }
+
+    private Executor virtualThreadExecutor() {
+        int limit = virtualThreadProperties.getObject().getAsyncConcurrencyLimit();
+        if (limit <= 0) {
+            limit = VirtualThreadConfig.maximumPoolSize(dataSource.getObject());
+        }
+        log.info("Configurando executor de hilos virtuales para procesamiento asíncrono (límite {})", limit);
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(limit);
+        executor.setTaskTerminationTimeout(60_000);
+
+        return executor;
+    }
 }
@@ -0,0 +1,47 @@
+package com.transer.vortice.shared.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Propiedades de configuración de las cachés de la aplicación.
+ * Lee la configuración desde application.yml bajo el prefijo vortice.cache.
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "vortice.cache")
+public class CacheProperties {
+
+    /**
+     * Configuración por caché (clave: nombre de la caché en minúsculas, ej: tire-brands).
+     * Las cachés no declaradas usan la configuración por defecto.
+     */
+    private Map<String, CacheSpec> specs = new LinkedHashMap<>();
+
+    /**
+     * Configuración por defecto para cachés no declaradas en specs.
+     */
+    private CacheSpec defaults = new CacheSpec();
+
+    /**
+     * Configuración individual de una caché.
+     */
+    @Data
+    public static class CacheSpec {
+        /**
+         * Tiempo de vida de cada entrada en minutos (desde su carga).
+         */
+        private long ttlMinutes = 10;
+
+        /**
+         * Número máximo de entradas.
+         */
+        private long maxSize = 1_000;
+    }
+}
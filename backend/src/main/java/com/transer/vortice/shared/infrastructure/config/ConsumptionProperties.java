@@ -0,0 +1,33 @@
+package com.transer.vortice.shared.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Propiedades de configuración de los acumulados mensuales de consumo de llantas.
+ * Lee la configuración desde application.yml bajo el prefijo vortice.consumption.
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "vortice.consumption")
+public class ConsumptionProperties {
+
+    /**
+     * Habilitar/deshabilitar la reconstrucción programada de los acumulados.
+     * Los acumulados se mantienen en línea por triggers aunque esté deshabilitada.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Expresión cron de la reconstrucción completa.
+     */
+    private String rebuildCron = "0 0 4 * * SUN";
+
+    /**
+     * Máximo de meses por consulta de indicadores.
+     */
+    private int maxMonths = 36;
+}
@@ -0,0 +1,74 @@
+package com.transer.vortice.shared.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Propiedades de configuración del outbox de emails.
+ * Lee la configuración desde application.yml bajo el prefijo vortice.email-outbox.
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "vortice.email-outbox")
+public class EmailOutboxProperties {
+
+    /**
+     * Habilitar/deshabilitar el despacho programado. Los emails se siguen encolando
+     * aunque esté deshabilitado.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Intervalo entre ciclos de despacho (milisegundos, desde el fin del anterior).
+     */
+    private long pollIntervalMs = 1_000;
+
+    /**
+     * Emails reclamados y enviados por lote, sobre una misma conexión SMTP.
+     */
+    private int batchSize = 200;
+
+    /**
+     * Máximo de lotes por ciclo; el ciclo termina antes si la cola queda vacía.
+     */
+    private int maxBatchesPerPoll = 50;
+
+    /**
+     * Intentos de envío antes de marcar el email como FAILED.
+     */
+    private int maxAttempts = 8;
+
+    /**
+     * Espera antes del primer reintento; se duplica en cada intento.
+     */
+    private long initialBackoffMs = 30_000;
+
+    /**
+     * Espera máxima entre reintentos.
+     */
+    private long maxBackoffMs = 3_600_000;
+
+    /**
+     * Tiempo durante el cual un lote reclamado no se entrega a otro nodo. Debe superar
+     * con holgura el envío de un lote completo.
+     */
+    private long leaseMs = 300_000;
+
+    /**
+     * Días que se conservan los emails enviados antes de purgarlos.
+     */
+    private int sentRetentionDays = 7;
+
+    /**
+     * Expresión cron de la purga de emails enviados.
+     */
+    private String purgeCron = "0 45 3 * * *";
+
+    /**
+     * Filas eliminadas por sentencia en la purga.
+     */
+    private int purgeChunkSize = 5_000;
+}
@@ -0,0 +1,49 @@
+package com.transer.vortice.shared.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Propiedades de configuración del mantenimiento de particiones de las tablas
+ * históricas (history_records y sampling_history).
+ * Lee la configuración desde application.yml bajo el prefijo vortice.history-partitions.
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "vortice.history-partitions")
+public class HistoryPartitionProperties {
+
+    /**
+     * Habilitar/deshabilitar el mantenimiento programado.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Expresión cron del mantenimiento.
+     */
+    private String cron = "0 30 3 * * *";
+
+    /**
+     * Meses hacia adelante con partición ya creada.
+     */
+    private int lookaheadMonths = 3;
+
+    /**
+     * Meses que se conservan en la base de datos; las particiones que terminan antes
+     * se exportan a archivo y se eliminan. 0 deshabilita el archivo.
+     */
+    private int retentionMonths = 0;
+
+    /**
+     * Directorio local de los archivos de particiones archivadas (JSON por línea, gzip).
+     */
+    private String archiveDirectory = "./archive/history";
+
+    /**
+     * Filas leídas por ida a la base de datos al exportar una partición.
+     */
+    private int fetchSize = 5_000;
+}
@@ -0,0 +1,40 @@
+package com.transer.vortice.shared.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Propiedades de configuración de la lista de revocación de access tokens.
+ * Lee la configuración desde application.yml bajo el prefijo vortice.jwt.revocation.
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "vortice.jwt.revocation")
+public class JwtRevocationProperties {
+
+    /**
+     * Intervalo de lectura de las revocaciones registradas por otras réplicas. Es el
+     * retraso máximo con el que una revocación se aplica en todos los nodos.
+     */
+    private long pollIntervalMs = 2_000;
+
+    /**
+     * Margen hacia atrás de cada lectura. Cubre las revocaciones escritas dentro de una
+     * transacción que se confirma después de la lectura anterior y la diferencia de
+     * reloj entre nodos y base de datos.
+     */
+    private long pollLookbackMs = 60_000;
+
+    /**
+     * Expresión cron de la limpieza de revocaciones vencidas.
+     */
+    private String cleanupCron = "0 15 2 * * *";
+
+    /**
+     * Revocaciones de cada tipo (por token y por usuario) retenidas en memoria.
+     */
+    private long maxEntries = 100_000;
+}
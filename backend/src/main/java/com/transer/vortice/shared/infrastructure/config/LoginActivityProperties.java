@@ -0,0 +1,23 @@
+package com.transer.vortice.shared.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Propiedades de configuración del registro de actividad de login.
+ * Lee la configuración desde application.yml bajo el prefijo vortice.login-activity.
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "vortice.login-activity")
+public class LoginActivityProperties {
+
+    /**
+     * Intervalo de escritura de los últimos logins acumulados en memoria (milisegundos).
+     * Es también lo máximo que last_login_at puede ir atrasado respecto al login real.
+     */
+    private long flushIntervalMs = 2_000;
+}
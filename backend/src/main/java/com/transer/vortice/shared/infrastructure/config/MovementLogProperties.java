@@ -0,0 +1,43 @@
+package com.transer.vortice.shared.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Propiedades de configuración de la ingesta de tickets de movimientos del canal móvil.
+ * Lee la configuración desde application.yml bajo el prefijo vortice.movement-log.
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "vortice.movement-log")
+public class MovementLogProperties {
+
+    /**
+     * Habilitar/deshabilitar el procesamiento programado de la cola.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Intervalo entre revisiones de la cola en milisegundos.
+     */
+    private long pollIntervalMs = 5_000;
+
+    /**
+     * Hilos del pool de procesamiento: placas distintas que se procesan en paralelo.
+     * Cada hilo ocupa una conexión del pool de base de datos mientras aplica un ticket.
+     */
+    private int workers = 4;
+
+    /**
+     * Placas que se reparten entre los workers en cada ronda.
+     */
+    private int platesPerRound = 200;
+
+    /**
+     * Tickets de una misma placa que un worker procesa antes de liberar el hilo.
+     */
+    private int ticketsPerPlate = 100;
+}
@@ -1,9 +1,17 @@
 package com.transer.vortice.shared.infrastructure.config;
 
+import com.transer.vortice.shared.infrastructure.ratelimit.RateLimitService;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Propiedades de configuración para Rate Limiting.
  * Lee la configuración desde application.yml bajo el prefijo vortice.rate-limit.
@@ -20,6 +28,23 @@ public class RateLimitProperties {
      */
     private boolean enabled = true;
 
+    /**
+     * Almacén de buckets: CAFFEINE (memoria local, por defecto) o JDBC
+     * (PostgreSQL, compartido entre réplicas).
+     */
+    private StoreType store = StoreType.CAFFEINE;
+
+    /**
+     * Número máximo de buckets en memoria (almacén CAFFEINE).
+     */
+    private long maxBuckets = 100_000;
+
+    /**
+     * Minutos sin uso tras los cuales se descarta un bucket.
+     * Debe ser mayor o igual al mayor periodo de relleno para no reiniciar límites antes de tiempo.
+     */
+    private long idleExpirationMinutes = 60;
+
     /**
      * Configuración de límite global para todos los endpoints.
      */
@@ -35,6 +60,100 @@ public class RateLimitProperties {
      */
     private LimitConfig register = new LimitConfig();
 
+    /**
+     * Tabla de rutas con límite específico (por prefijo de path y método HTTP).
+     * Se compila al arrancar; gana el prefijo más largo y, a igual prefijo, la ruta
+     * con método explícito. Las rutas sin coincidencia usan el límite GLOBAL.
+     */
+    private List<RouteConfig> routes = new ArrayList<>(List.of(
+            new RouteConfig("/auth/login", null, RateLimitService.RateLimitType.AUTH, 1),
+            new RouteConfig("/auth/register", null, RateLimitService.RateLimitType.REGISTER, 1)
+    ));
+
+    /**
+     * Límites para requests autenticados (con access token válido).
+     * Sustituyen al límite GLOBAL por IP, de modo que los dispositivos detrás de una
+     * misma IP (NAT) no compiten entre sí.
+     */
+    private AuthenticatedConfig authenticated = new AuthenticatedConfig();
+
+    /**
+     * Clave del bucket para requests autenticados.
+     */
+    public enum KeyStrategy {
+        /**
+         * Un bucket por usuario (claim uid).
+         */
+        USER,
+        /**
+         * Un bucket compartido por oficina (claim oid); si el token no tiene oficina se usa el usuario.
+         */
+        OFFICE
+    }
+
+    /**
+     * Configuración de límites para requests autenticados.
+     */
+    @Data
+    public static class AuthenticatedConfig {
+        /**
+         * Habilitar límites por usuario/oficina. Si está deshabilitado se aplica el límite GLOBAL por IP.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Clave del bucket: USER u OFFICE.
+         */
+        private KeyStrategy keyBy = KeyStrategy.USER;
+
+        /**
+         * Límite por defecto para usuarios sin un nivel específico por rol.
+         */
+        private LimitConfig defaultTier = new LimitConfig();
+
+        /**
+         * Niveles por rol (nombre del rol sin prefijo ROLE_). Si el usuario tiene varios
+         * roles con nivel, se aplica el de mayor capacidad.
+         */
+        private Map<String, LimitConfig> tiers = new LinkedHashMap<>();
+    }
+
+    /**
+     * Tipos de almacén de buckets.
+     */
+    public enum StoreType {
+        CAFFEINE,
+        JDBC
+    }
+
+    /**
+     * Asociación de una ruta con un tipo de límite y su costo en tokens.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RouteConfig {
+        /**
+         * Prefijo del path, sin el context-path (ej: /auth/login).
+         */
+        private String pathPrefix;
+
+        /**
+         * Método HTTP (GET, POST, ...). Vacío aplica a todos los métodos.
+         */
+        private String method;
+
+        /**
+         * Tipo de límite a aplicar.
+         */
+        private RateLimitService.RateLimitType limitType = RateLimitService.RateLimitType.GLOBAL;
+
+        /**
+         * Tokens que consume cada request de la ruta (peso del endpoint).
+         */
+        private long cost = 1;
+    }
+
     /**
      * Configuración individual de límite.
      */
@@ -0,0 +1,39 @@
+package com.transer.vortice.shared.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Propiedades de configuración del almacén de refresh tokens.
+ * Lee la configuración desde application.yml bajo el prefijo vortice.refresh-tokens.
+ * La vida útil del token sigue en vortice.jwt.refresh-expiration.
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "vortice.refresh-tokens")
+public class RefreshTokenProperties {
+
+    /**
+     * Expresión cron de la limpieza de tokens expirados.
+     */
+    private String cleanupCron = "0 0 2 * * *";
+
+    /**
+     * Filas eliminadas por sentencia en la limpieza.
+     */
+    private int cleanupChunkSize = 1_000;
+
+    /**
+     * Pausa entre bloques de la limpieza, para ceder la tabla a las renovaciones.
+     */
+    private long cleanupPauseMs = 50;
+
+    /**
+     * Tokens rotados recordados en memoria para detectar su reutilización sin consultar
+     * la base de datos.
+     */
+    private long rotatedTokensCacheSize = 100_000;
+}
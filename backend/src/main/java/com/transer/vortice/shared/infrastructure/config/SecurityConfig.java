@@ -1,11 +1,14 @@
 package com.transer.vortice.shared.infrastructure.config;
 
 import com.transer.vortice.shared.infrastructure.ratelimit.RateLimitFilter;
+import com.transer.vortice.shared.infrastructure.security.AuthorityIndex;
+import com.transer.vortice.shared.infrastructure.security.AuthoritySetMethodSecurityExpressionHandler;
 import com.transer.vortice.shared.infrastructure.security.jwt.JwtAuthenticationFilter;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -98,6 +101,15 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Evalúa hasRole/hasAuthority de @PreAuthorize con los permisos efectivos del principal.
+     * Estático para que la seguridad de métodos lo tome sin inicializar esta configuración.
+     */
+    @Bean
+    static MethodSecurityExpressionHandler methodSecurityExpressionHandler(AuthorityIndex authorityIndex) {
+        return new AuthoritySetMethodSecurityExpressionHandler(authorityIndex);
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -0,0 +1,29 @@
+package com.transer.vortice.shared.infrastructure.config;
+
+import com.transer.vortice.organization.infrastructure.security.RlsTransactionManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Configuración del gestor de transacciones.
+ * Reemplaza el JpaTransactionManager de Spring Boot por {@link RlsTransactionManager},
+ * que establece el contexto RLS al inicio de cada transacción.
+ *
+ * @author Vórtice Development Team
+ */
+@Configuration
+public class TransactionConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager(
+            EntityManagerFactory entityManagerFactory,
+            ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        RlsTransactionManager transactionManager = new RlsTransactionManager(entityManagerFactory);
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+}
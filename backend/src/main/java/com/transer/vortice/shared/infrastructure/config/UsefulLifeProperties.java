@@ -0,0 +1,39 @@
+package com.transer.vortice.shared.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Propiedades de configuración del refresco de la vista de vida útil (mv_useful_life).
+ * Lee la configuración desde application.yml bajo el prefijo vortice.useful-life.
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "vortice.useful-life")
+public class UsefulLifeProperties {
+
+    /**
+     * Habilitar/deshabilitar el refresco programado.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Intervalo entre revisiones de la marca de sucia en milisegundos.
+     * Es también el atraso máximo esperado de la vista respecto a las escrituras.
+     */
+    private long refreshIntervalMs = 60_000;
+
+    /**
+     * Espera máxima a que terminen las transacciones que escribieron antes de tomar
+     * la marca. Si se agota, el refresco se pospone a la siguiente revisión.
+     */
+    private long writerWaitMs = 10_000;
+
+    /**
+     * Máximo de filas por consulta de la vista.
+     */
+    private int maxResults = 500;
+}
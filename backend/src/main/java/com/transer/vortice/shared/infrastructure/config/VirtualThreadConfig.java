@@ -0,0 +1,79 @@
+package com.transer.vortice.shared.infrastructure.config;
+
+import com.transer.vortice.shared.infrastructure.concurrency.ConcurrencyLimitFilter;
+import com.transer.vortice.shared.infrastructure.concurrency.DatabaseConcurrencyLimiter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Configuración del modo de hilos virtuales (spring.threads.virtual.enabled=true).
+ *
+ * Spring Boot ya ejecuta los requests de Tomcat y las tareas @Scheduled en hilos
+ * virtuales; {@link AsyncConfig} hace lo mismo con @Async. Esta configuración agrega el
+ * limitador de concurrencia dimensionado con el pool de Hikari para que los requests
+ * no se amontonen esperando conexión, y publica su ocupación en los gauges
+ * {@code vortice.concurrency.in-flight} y {@code vortice.concurrency.waiting}.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * Tamaño usado si el DataSource no es Hikari (valor por defecto de Hikari).
+     */
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public DatabaseConcurrencyLimiter databaseConcurrencyLimiter(
+            DataSource dataSource, VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+        int poolSize = maximumPoolSize(dataSource);
+        int limit = Math.max(1, poolSize * properties.getRequestsPerConnection());
+        log.info("Hilos virtuales habilitados: {} requests simultáneos para {} conexiones", limit, poolSize);
+
+        DatabaseConcurrencyLimiter limiter = new DatabaseConcurrencyLimiter(limit, properties.getAcquireTimeoutMs());
+        Gauge.builder("vortice.concurrency.in-flight", limiter, l -> l.getInFlight())
+                .description("Requests en proceso dentro del límite de concurrencia")
+                .register(meterRegistry);
+        Gauge.builder("vortice.concurrency.waiting", limiter, l -> l.getWaiting())
+                .description("Requests esperando cupo de concurrencia")
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(DatabaseConcurrencyLimiter limiter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limiter));
+        // Después de Spring Security
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+    /**
+     * Tamaño máximo del pool de conexiones.
+     */
+    static int maximumPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("No se pudo leer el tamaño del pool de conexiones", e);
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
@@ -0,0 +1,36 @@
+package com.transer.vortice.shared.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Propiedades del modo de hilos virtuales.
+ * Lee la configuración desde application.yml bajo el prefijo vortice.virtual-threads.
+ *
+ * El modo se activa con spring.threads.virtual.enabled (Tomcat, @Async y @Scheduled);
+ * estas propiedades solo dimensionan el limitador de concurrencia contra la base de datos.
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "vortice.virtual-threads")
+public class VirtualThreadProperties {
+
+    /**
+     * Requests HTTP en proceso por conexión del pool de Hikari. Con 1 cada request
+     * tiene su conexión; valores mayores aprovechan que parte del request no usa la base.
+     */
+    private int requestsPerConnection = 2;
+
+    /**
+     * Espera máxima de un request por un cupo antes de responder 503.
+     */
+    private long acquireTimeoutMs = 2_000;
+
+    /**
+     * Tareas @Async simultáneas; 0 usa el tamaño del pool de Hikari.
+     */
+    private int asyncConcurrencyLimit = 0;
+}
@@ -0,0 +1,47 @@
+package com.transer.vortice.shared.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Propiedades de configuración de la proyección de desgaste de llantas.
+ * Lee la configuración desde application.yml bajo el prefijo vortice.wear-prediction.
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "vortice.wear-prediction")
+public class WearPredictionProperties {
+
+    /**
+     * Habilitar/deshabilitar el cálculo nocturno de toda la flota.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Expresión cron del cálculo de toda la flota.
+     */
+    private String cron = "0 0 2 * * *";
+
+    /**
+     * Profundidad mínima legal en mm: la proyección calcula los km hasta alcanzarla.
+     */
+    private double minimumDepthMm = 3.0;
+
+    /**
+     * Hilos del pool fork-join del cálculo de la flota.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Filas leídas por ida a la base de datos al cargar los muestreos de la flota.
+     */
+    private int fetchSize = 10_000;
+
+    /**
+     * Instalaciones escritas por sentencia al guardar las proyecciones.
+     */
+    private int writeChunkSize = 5_000;
+}
@@ -0,0 +1,14 @@
+package com.transer.vortice.shared.infrastructure.email;
+
+/**
+ * Resultado fallido del envío de un email del outbox.
+ *
+ * @param id id en email_outbox
+ * @param retryDelayMs espera antes del siguiente intento (ignorada si es definitivo)
+ * @param permanent true si no se reintenta (queda en FAILED)
+ * @param error causa del fallo
+ *
+ * @author Vórtice Development Team
+ */
+public record EmailDeliveryFailure(long id, long retryDelayMs, boolean permanent, String error) {
+}
@@ -0,0 +1,330 @@
+package com.transer.vortice.shared.infrastructure.email;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.transer.vortice.shared.infrastructure.config.EmailOutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Despachador del outbox de emails (email_outbox, V3.13.0).
+ *
+ * Cada ciclo reclama lotes de {@code batch-size} emails vencidos, los renderiza con
+ * Thymeleaf y los envía con una sola llamada a {@link JavaMailSender#send(MimeMessage...)},
+ * que abre una conexión SMTP por lote y la reutiliza para todos sus mensajes. El
+ * resultado del lote se registra en dos sentencias: enviados y fallidos.
+ *
+ * Un fallo de envío se reintenta con backoff exponencial hasta {@code max-attempts};
+ * un email que no se puede preparar (plantilla o dirección inválida) o que el servidor
+ * rechaza por destinatario inválido queda en FAILED sin reintentos. Varios nodos pueden
+ * despachar a la vez: cada lote se reclama con FOR UPDATE SKIP LOCKED.
+ *
+ * Métricas:
+ * <ul>
+ *   <li>{@code vortice.email.outbox.pending}: emails pendientes.</li>
+ *   <li>{@code vortice.email.outbox.oldest.age}: antigüedad del pendiente más antiguo.</li>
+ *   <li>{@code vortice.email.outbox.latency}: tiempo desde que se encola hasta que se envía.</li>
+ *   <li>{@code vortice.email.outbox.sent} y {@code vortice.email.outbox.failures}
+ *       (outcome=retry|permanent).</li>
+ * </ul>
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Service
+public class EmailOutboxDispatcher {
+
+    /**
+     * Carpeta de las plantillas de email bajo templates/.
+     */
+    static final String TEMPLATE_PREFIX = "email/";
+
+    private static final TypeReference<Map<String, Object>> VARIABLES_TYPE = new TypeReference<>() {
+    };
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final SpringTemplateEngine templateEngine;
+    private final ObjectMapper objectMapper;
+    private final EmailOutboxProperties properties;
+    private final String fromEmail;
+    private final String appName;
+    private final String appUrl;
+    private final String supportEmail;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicReference<Instant> oldestPending = new AtomicReference<>();
+    private final Timer latency;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+
+    public EmailOutboxDispatcher(
+            EmailOutboxRepository emailOutboxRepository,
+            JavaMailSender mailSender,
+            SpringTemplateEngine templateEngine,
+            ObjectMapper objectMapper,
+            EmailOutboxProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${spring.mail.username}") String fromEmail,
+            @Value("${vortice.app.name:Vórtice}") String appName,
+            @Value("${vortice.app.url:http://localhost:5173}") String appUrl,
+            @Value("${vortice.app.support-email:soporte@vortice.transer.com}") String supportEmail) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mailSender = mailSender;
+        this.templateEngine = templateEngine;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.fromEmail = fromEmail;
+        this.appName = appName;
+        this.appUrl = appUrl;
+        this.supportEmail = supportEmail;
+
+        Gauge.builder("vortice.email.outbox.pending", pending, AtomicLong::get)
+                .description("Emails pendientes de envío en el outbox")
+                .register(meterRegistry);
+        Gauge.builder("vortice.email.outbox.oldest.age", oldestPending, EmailOutboxDispatcher::ageSeconds)
+                .description("Antigüedad del email pendiente más antiguo")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.latency = Timer.builder("vortice.email.outbox.latency")
+                .description("Tiempo desde que se encola un email hasta que se envía")
+                .register(meterRegistry);
+        this.sent = Counter.builder("vortice.email.outbox.sent")
+                .description("Emails enviados")
+                .register(meterRegistry);
+        this.retried = Counter.builder("vortice.email.outbox.failures")
+                .description("Envíos fallidos")
+                .tag("outcome", "retry")
+                .register(meterRegistry);
+        this.failed = Counter.builder("vortice.email.outbox.failures")
+                .description("Envíos fallidos")
+                .tag("outcome", "permanent")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Despacha el outbox cada {@code poll-interval-ms} desde el fin del ciclo anterior.
+     */
+    @Scheduled(fixedDelayString = "${vortice.email-outbox.poll-interval-ms:1000}")
+    public void scheduledDispatch() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            log.error("Error despachando el outbox de emails; se reintenta en el siguiente ciclo", e);
+        }
+    }
+
+    /**
+     * Envía lotes hasta vaciar la cola vencida o completar {@code max-batches-per-poll}.
+     *
+     * @return emails enviados
+     */
+    public int dispatch() {
+        int delivered = 0;
+        try {
+            for (int i = 0; i < properties.getMaxBatchesPerPoll(); i++) {
+                List<OutboxEmail> batch = emailOutboxRepository.claim(properties.getBatchSize(), properties.getLeaseMs());
+                if (batch.isEmpty()) {
+                    break;
+                }
+                delivered += deliver(batch);
+                if (batch.size() < properties.getBatchSize()) {
+                    break;
+                }
+            }
+        } finally {
+            refreshMetrics();
+        }
+        return delivered;
+    }
+
+    /**
+     * Purga los emails enviados que superan el periodo de retención.
+     */
+    @Scheduled(cron = "${vortice.email-outbox.purge-cron:0 45 3 * * *}")
+    public void scheduledPurge() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            purgeSent();
+        } catch (RuntimeException e) {
+            log.error("Error purgando el outbox de emails; se reintenta en la siguiente ejecución", e);
+        }
+    }
+
+    /**
+     * Elimina por bloques los emails enviados antes del periodo de retención.
+     *
+     * @return filas eliminadas
+     */
+    public int purgeSent() {
+        Instant cutoff = Instant.now().minus(Duration.ofDays(properties.getSentRetentionDays()));
+        int total = 0;
+        int deleted;
+        do {
+            deleted = emailOutboxRepository.purgeSent(cutoff, properties.getPurgeChunkSize());
+            total += deleted;
+        } while (deleted == properties.getPurgeChunkSize());
+        if (total > 0) {
+            log.info("Emails enviados purgados del outbox: {}", total);
+        }
+        return total;
+    }
+
+    /**
+     * Actualiza los gauges con el estado actual de la cola.
+     */
+    public void refreshMetrics() {
+        EmailOutboxRepository.PendingStats stats = emailOutboxRepository.findPendingStats();
+        pending.set(stats.pending());
+        oldestPending.set(stats.oldestCreatedAt());
+    }
+
+    /**
+     * Espera antes del siguiente intento: {@code initial * 2^(attempts - 1)}, acotada a {@code max}.
+     *
+     * @param attempts intentos ya realizados (1 tras el primero)
+     */
+    static long backoffMs(int attempts, long initialMs, long maxMs) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 30);
+        long delay = initialMs << shift;
+        return delay <= 0 || delay > maxMs ? maxMs : delay;
+    }
+
+    // =====================================================
+    // MÉTODOS AUXILIARES
+    // =====================================================
+
+    private int deliver(List<OutboxEmail> batch) {
+        List<EmailDeliveryFailure> failures = new ArrayList<>();
+        List<OutboxEmail> prepared = new ArrayList<>(batch.size());
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+        for (OutboxEmail email : batch) {
+            try {
+                messages.add(prepare(email));
+                prepared.add(email);
+            } catch (Exception e) {
+                log.warn("Email {} para {} descartado: no se pudo preparar", email.id(), email.recipient(), e);
+                failures.add(new EmailDeliveryFailure(email.id(), 0, true, "Error preparando el email: " + e.getMessage()));
+            }
+        }
+
+        Map<Object, Exception> sendErrors = Map.of();
+        MailException batchError = null;
+        if (!messages.isEmpty()) {
+            try {
+                mailSender.send(messages.toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                sendErrors = e.getFailedMessages();
+                batchError = sendErrors.isEmpty() ? e : null;
+            } catch (MailException e) {
+                batchError = e;
+            }
+        }
+
+        Instant now = Instant.now();
+        List<Long> sentIds = new ArrayList<>(prepared.size());
+        for (int i = 0; i < prepared.size(); i++) {
+            OutboxEmail email = prepared.get(i);
+            Exception error = batchError != null ? batchError : sendErrors.get(messages.get(i));
+            if (error == null) {
+                sentIds.add(email.id());
+                latency.record(Duration.between(email.createdAt(), now));
+            } else {
+                failures.add(failure(email, error));
+            }
+        }
+
+        emailOutboxRepository.markSent(sentIds);
+        emailOutboxRepository.markFailed(failures);
+
+        sent.increment(sentIds.size());
+        long permanent = failures.stream().filter(EmailDeliveryFailure::permanent).count();
+        failed.increment(permanent);
+        retried.increment(failures.size() - permanent);
+        if (!failures.isEmpty()) {
+            log.warn("Lote de emails: {} enviados, {} fallidos ({} definitivos)",
+                    sentIds.size(), failures.size(), permanent);
+        } else {
+            log.debug("Lote de emails: {} enviados", sentIds.size());
+        }
+        return sentIds.size();
+    }
+
+    private MimeMessage prepare(OutboxEmail email) throws MessagingException, IOException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(
+                mimeMessage,
+                MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED,
+                StandardCharsets.UTF_8.name()
+        );
+
+        helper.setTo(email.recipient());
+        helper.setSubject(email.subject());
+        helper.setFrom(fromEmail, appName);
+
+        // Variables del email más las comunes a todos los templates
+        Map<String, Object> variables = new HashMap<>(objectMapper.readValue(email.variables(), VARIABLES_TYPE));
+        variables.put("appName", appName);
+        variables.put("appUrl", appUrl);
+        variables.put("supportEmail", supportEmail);
+        variables.put("currentYear", Year.now().getValue());
+
+        Context context = new Context();
+        context.setVariables(variables);
+        helper.setText(templateEngine.process(TEMPLATE_PREFIX + email.templateName(), context), true);
+        return mimeMessage;
+    }
+
+    private EmailDeliveryFailure failure(OutboxEmail email, Exception error) {
+        boolean permanent = email.attempts() >= properties.getMaxAttempts() || isInvalidRecipient(error);
+        long delay = backoffMs(email.attempts(), properties.getInitialBackoffMs(), properties.getMaxBackoffMs());
+        return new EmailDeliveryFailure(email.id(), delay, permanent, error.getMessage());
+    }
+
+    /**
+     * El servidor rechazó el destinatario: reintentar no cambia el resultado.
+     */
+    private static boolean isInvalidRecipient(Exception error) {
+        return error instanceof SendFailedException sendFailed
+                && sendFailed.getInvalidAddresses() != null
+                && sendFailed.getInvalidAddresses().length > 0;
+    }
+
+    private static double ageSeconds(AtomicReference<Instant> oldest) {
+        Instant instant = oldest.get();
+        return instant != null ? Duration.between(instant, Instant.now()).toMillis() / 1000.0 : 0;
+    }
+}
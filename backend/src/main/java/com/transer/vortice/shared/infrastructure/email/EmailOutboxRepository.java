@@ -0,0 +1,188 @@
+package com.transer.vortice.shared.infrastructure.email;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Acceso JDBC al outbox de emails (email_outbox, V3.13.0).
+ *
+ * {@link #enqueue} usa la conexión de la transacción del llamador si existe: el email se
+ * confirma o se descarta junto con el cambio que lo origina. El despachador trabaja en
+ * autocommit: {@link #claim} reclama un lote en una sola sentencia (FOR UPDATE SKIP
+ * LOCKED, sin bloquear a otros nodos) y adelanta next_attempt_at como lease; los
+ * resultados del lote se escriben en una sentencia por tipo (arreglos con unnest).
+ *
+ * @author Vórtice Development Team
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmailOutboxRepository {
+
+    static final String ENQUEUE_SQL = """
+            INSERT INTO email_outbox (recipient, subject, template_name, variables)
+            VALUES (?, ?, ?, ?::jsonb)
+            """;
+
+    static final String CLAIM_SQL = """
+            WITH batch AS (
+                SELECT id
+                FROM email_outbox
+                WHERE status = 'PENDING' AND next_attempt_at <= CURRENT_TIMESTAMP
+                ORDER BY next_attempt_at, id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE email_outbox o
+            SET attempts = o.attempts + 1,
+                next_attempt_at = CURRENT_TIMESTAMP + ? * INTERVAL '1 millisecond'
+            FROM batch
+            WHERE o.id = batch.id
+            RETURNING o.id, o.recipient, o.subject, o.template_name, o.variables::text AS variables,
+                      o.attempts, o.created_at
+            """;
+
+    static final String MARK_SENT_SQL = """
+            UPDATE email_outbox
+            SET status = 'SENT', sent_at = CURRENT_TIMESTAMP, last_error = NULL
+            WHERE id = ANY(?::bigint[])
+            """;
+
+    static final String MARK_FAILED_SQL = """
+            UPDATE email_outbox o
+            SET status = CASE WHEN f.permanent THEN 'FAILED' ELSE 'PENDING' END,
+                next_attempt_at = CURRENT_TIMESTAMP + f.delay_ms * INTERVAL '1 millisecond',
+                last_error = f.error
+            FROM unnest(?::bigint[], ?::bigint[], ?::boolean[], ?::text[]) AS f(id, delay_ms, permanent, error)
+            WHERE o.id = f.id
+            """;
+
+    static final String PENDING_SQL = """
+            SELECT count(*) AS pending, min(created_at) AS oldest
+            FROM email_outbox
+            WHERE status = 'PENDING'
+            """;
+
+    static final String PURGE_SQL = """
+            DELETE FROM email_outbox
+            WHERE id IN (
+                SELECT id FROM email_outbox
+                WHERE status = 'SENT' AND sent_at < ?
+                LIMIT ?
+            )
+            """;
+
+    /**
+     * Longitud máxima del error guardado por intento.
+     */
+    static final int MAX_ERROR_LENGTH = 2_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Encola un email en la transacción actual.
+     *
+     * @param variables variables de la plantilla en JSON
+     */
+    public void enqueue(String recipient, String subject, String templateName, String variables) {
+        jdbcTemplate.update(ENQUEUE_SQL, recipient, subject, templateName, variables);
+    }
+
+    /**
+     * Reclama hasta {@code limit} emails pendientes cuyo intento ya venció, en orden de
+     * intento. Cada uno suma un intento y no vuelve a reclamarse hasta que pase
+     * {@code leaseMs}, salvo que se registre antes su resultado.
+     */
+    public List<OutboxEmail> claim(int limit, long leaseMs) {
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new OutboxEmail(
+                        rs.getLong("id"),
+                        rs.getString("recipient"),
+                        rs.getString("subject"),
+                        rs.getString("template_name"),
+                        rs.getString("variables"),
+                        rs.getInt("attempts"),
+                        rs.getTimestamp("created_at").toInstant()),
+                limit, leaseMs);
+    }
+
+    /**
+     * Marca los emails como enviados.
+     */
+    public int markSent(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Long[] array = ids.toArray(Long[]::new);
+        return jdbcTemplate.update(MARK_SENT_SQL, ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", array)));
+    }
+
+    /**
+     * Registra los envíos fallidos: los definitivos quedan en FAILED y los demás se
+     * reprograman tras su espera.
+     */
+    public int markFailed(List<EmailDeliveryFailure> failures) {
+        if (failures.isEmpty()) {
+            return 0;
+        }
+        int size = failures.size();
+        Long[] ids = new Long[size];
+        Long[] delays = new Long[size];
+        Boolean[] permanent = new Boolean[size];
+        String[] errors = new String[size];
+        for (int i = 0; i < size; i++) {
+            EmailDeliveryFailure failure = failures.get(i);
+            ids[i] = failure.id();
+            delays[i] = failure.permanent() ? 0 : failure.retryDelayMs();
+            permanent[i] = failure.permanent();
+            errors[i] = truncate(failure.error());
+        }
+        return jdbcTemplate.update(MARK_FAILED_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("bigint", ids));
+            ps.setArray(2, connection.createArrayOf("bigint", delays));
+            ps.setArray(3, connection.createArrayOf("boolean", permanent));
+            ps.setArray(4, connection.createArrayOf("text", errors));
+        });
+    }
+
+    /**
+     * Emails pendientes (incluidos los reclamados en curso) y el momento en que se
+     * encoló el más antiguo, o null si no hay.
+     */
+    public PendingStats findPendingStats() {
+        return jdbcTemplate.queryForObject(PENDING_SQL, (rs, rowNum) -> {
+            Timestamp oldest = rs.getTimestamp("oldest");
+            return new PendingStats(rs.getLong("pending"), oldest != null ? oldest.toInstant() : null);
+        });
+    }
+
+    /**
+     * Elimina hasta {@code limit} emails enviados antes de {@code before}.
+     *
+     * @return filas eliminadas
+     */
+    public int purgeSent(Instant before, int limit) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.from(before), limit);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * Tamaño de la cola pendiente.
+     *
+     * @param pending emails pendientes
+     * @param oldestCreatedAt encolado del más antiguo (null si no hay)
+     */
+    public record PendingStats(long pending, Instant oldestCreatedAt) {
+    }
+}
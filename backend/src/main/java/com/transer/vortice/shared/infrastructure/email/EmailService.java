@@ -1,23 +1,21 @@
 package com.transer.vortice.shared.infrastructure.email;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 /**
  * Servicio para envío de emails.
- * Utiliza JavaMailSender y Thymeleaf para templates HTML.
+ *
+ * Los emails no se envían en línea: se encolan en email_outbox (V3.13.0) en la
+ * transacción del llamador y {@link EmailOutboxDispatcher} los renderiza con Thymeleaf
+ * y los envía por lotes, con reintentos. Un email solo sale si la transacción que lo
+ * origina hace commit, y un fallo del servidor SMTP no afecta al llamador.
  *
  * @author Vórtice Development Team
  */
@@ -26,11 +24,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final JavaMailSender mailSender;
-    private final SpringTemplateEngine templateEngine;
-
-    @Value("${spring.mail.username}")
-    private String fromEmail;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final ObjectMapper objectMapper;
 
     @Value("${vortice.app.name:Vórtice}")
     private String appName;
@@ -38,60 +33,23 @@ public class EmailService {
     @Value("${vortice.app.url:http://localhost:5173}")
     private String appUrl;
 
-    @Value("${vortice.app.support-email:soporte@vortice.transer.com}")
-    private String supportEmail;
-
     /**
-     * Envía un email de forma asíncrona.
+     * Encola un email en la transacción actual (sin transacción, se confirma de inmediato).
      *
      * @param to destinatario
      * @param subject asunto
-     * @param templateName nombre del template Thymeleaf
-     * @param variables variables para el template
+     * @param templateName nombre del template Thymeleaf en templates/email
+     * @param variables variables para el template (las comunes a todos se agregan al enviar)
      */
-    @Async
     public void sendEmail(String to, String subject, String templateName, Map<String, Object> variables) {
+        String json;
         try {
-            log.info("Enviando email a: {} con template: {}", to, templateName);
-
-            MimeMessage mimeMessage = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(
-                    mimeMessage,
-                    MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED,
-                    StandardCharsets.UTF_8.name()
-            );
-
-            // Configurar destinatario y asunto
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setFrom(fromEmail, appName);
-
-            // Agregar variables comunes a todos los templates
-            variables.put("appName", appName);
-            variables.put("appUrl", appUrl);
-            variables.put("supportEmail", supportEmail);
-            variables.put("currentYear", java.time.Year.now().getValue());
-
-            // Procesar template con Thymeleaf
-            Context context = new Context();
-            context.setVariables(variables);
-            String htmlContent = templateEngine.process(templateName, context);
-
-            // Establecer contenido HTML
-            helper.setText(htmlContent, true);
-
-            // Enviar email
-            mailSender.send(mimeMessage);
-
-            log.info("Email enviado exitosamente a: {}", to);
-
-        } catch (MessagingException e) {
-            log.error("Error al enviar email a: {}", to, e);
-            throw new RuntimeException("Error al enviar email", e);
-        } catch (Exception e) {
-            log.error("Error inesperado al enviar email a: {}", to, e);
-            throw new RuntimeException("Error inesperado al enviar email", e);
+            json = objectMapper.writeValueAsString(variables);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Variables de email no serializables para el template " + templateName, e);
         }
+        emailOutboxRepository.enqueue(to, subject, templateName, json);
+        log.debug("Email encolado para: {} con template: {}", to, templateName);
     }
 
     /**
@@ -102,7 +60,7 @@ public class EmailService {
      * @param resetToken token de recuperación
      */
     public void sendPasswordResetEmail(String to, String userName, String resetToken) {
-        log.info("Enviando email de recuperación de contraseña a: {}", to);
+        log.info("Encolando email de recuperación de contraseña para: {}", to);
 
         String resetUrl = appUrl + "/reset-password?token=" + resetToken;
 
@@ -123,7 +81,7 @@ public class EmailService {
      * @param userName nombre del usuario
      */
     public void sendWelcomeEmail(String to, String userName) {
-        log.info("Enviando email de bienvenida a: {}", to);
+        log.info("Encolando email de bienvenida para: {}", to);
 
         Map<String, Object> variables = Map.of(
                 "userName", userName,
@@ -140,7 +98,7 @@ public class EmailService {
      * @param userName nombre del usuario
      */
     public void sendPasswordChangedEmail(String to, String userName) {
-        log.info("Enviando email de confirmación de cambio de contraseña a: {}", to);
+        log.info("Encolando email de confirmación de cambio de contraseña para: {}", to);
 
         Map<String, Object> variables = Map.of(
                 "userName", userName,
@@ -0,0 +1,20 @@
+package com.transer.vortice.shared.infrastructure.email;
+
+import java.time.Instant;
+
+/**
+ * Email reclamado del outbox por el despachador.
+ *
+ * @param id id en email_outbox
+ * @param recipient destinatario
+ * @param subject asunto
+ * @param templateName plantilla Thymeleaf (sin el prefijo email/)
+ * @param variables variables de la plantilla en JSON
+ * @param attempts intentos realizados, incluido el actual
+ * @param createdAt momento en que se encoló
+ *
+ * @author Vórtice Development Team
+ */
+public record OutboxEmail(long id, String recipient, String subject, String templateName, String variables,
+                          int attempts, Instant createdAt) {
+}
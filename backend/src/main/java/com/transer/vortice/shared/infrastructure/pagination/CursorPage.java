@@ -0,0 +1,65 @@
+package com.transer.vortice.shared.infrastructure.pagination;
+
+import com.transer.vortice.shared.infrastructure.exception.ValidationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados leída por keyset.
+ *
+ * A diferencia de {@link org.springframework.data.domain.Page} no incluye total de
+ * elementos ni número de página: no se ejecuta COUNT(*). Para saber si hay más filas
+ * el repositorio lee {@code size + 1} registros (ver {@link #limit(int)}); la fila
+ * extra solo indica que existe una página siguiente y no se entrega.
+ *
+ * @param content elementos de la página
+ * @param size tamaño de página solicitado
+ * @param hasNext true si existen más elementos después de esta página
+ * @param nextCursor cursor para pedir la página siguiente (null si no hay más)
+ * @author Vórtice Development Team
+ */
+public record CursorPage<T>(List<T> content, int size, boolean hasNext, String nextCursor) {
+
+    /**
+     * Tamaño de página máximo permitido.
+     */
+    public static final int MAX_SIZE = 200;
+
+    /**
+     * Construye la página a partir de las filas leídas con {@link #limit(int)}.
+     *
+     * @param rows filas leídas (hasta size + 1)
+     * @param size tamaño de página solicitado
+     * @param cursorOf función que obtiene la posición (clave + ID) de una fila
+     * @param mapper función que convierte cada fila en el elemento de respuesta
+     * @return página con el cursor de la última fila entregada
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size,
+                                          Function<E, KeysetCursor> cursorOf,
+                                          Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode() : null;
+
+        return new CursorPage<>(pageRows.stream().map(mapper).toList(), size, hasNext, nextCursor);
+    }
+
+    /**
+     * Límite de lectura para una página: size + 1 filas, sin ordenamiento adicional
+     * (el orden lo fija la consulta) y sin consulta de conteo.
+     *
+     * @param size tamaño de página solicitado
+     * @return límite para el repositorio
+     * @throws ValidationException si el tamaño está fuera de rango
+     */
+    public static Pageable limit(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new ValidationException("El tamaño de página debe estar entre 1 y " + MAX_SIZE);
+        }
+        return PageRequest.of(0, size + 1);
+    }
+}
@@ -0,0 +1,125 @@
+package com.transer.vortice.shared.infrastructure.pagination;
+
+import com.transer.vortice.shared.infrastructure.exception.ValidationException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Posición de lectura para paginación por keyset (seek).
+ *
+ * Guarda el valor de la clave de ordenamiento (código, nombre) y el ID de la última
+ * fila entregada; la siguiente página se lee con la comparación de filas
+ * {@code (clave, id) > (:key, :id)}, que PostgreSQL usa como límite del Index Scan sobre
+ * el índice (clave, id) sin recorrer las filas anteriores, a diferencia de OFFSET.
+ * La forma {@code clave > :key OR (clave = :key AND id > :id)} no sirve como límite del
+ * índice y solo filtra.
+ *
+ * El cursor también guarda la dirección y un hash de los filtros de la consulta que lo
+ * generó: una posición solo tiene sentido en esa misma consulta, y un cursor usado con
+ * otra dirección u otros filtros se rechaza en lugar de devolver una página que salta
+ * o repite filas.
+ *
+ * Hacia el cliente viaja como un texto opaco en Base64 URL-safe; su formato interno
+ * no forma parte del contrato de la API.
+ *
+ * @param key valor de la clave de ordenamiento de la última fila
+ * @param id ID de la última fila
+ * @param direction dirección de la consulta que generó el cursor
+ * @param filtersHash hash de los filtros de esa consulta (ver {@link #hashFilters(Object...)})
+ * @author Vórtice Development Team
+ */
+public record KeysetCursor(String key, UUID id, Sort.Direction direction, String filtersHash) {
+
+    private static final String VERSION = "2";
+    private static final char SEPARATOR = ':';
+    private static final int HASH_LENGTH = 8;
+    private static final int UUID_LENGTH = 36;
+    private static final String INVALID = "Cursor de paginación inválido";
+
+    public KeysetCursor {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(id, "id");
+        Objects.requireNonNull(direction, "direction");
+        Objects.requireNonNull(filtersHash, "filtersHash");
+        if (filtersHash.length() != HASH_LENGTH) {
+            throw new IllegalArgumentException("filtersHash debe tener " + HASH_LENGTH + " caracteres");
+        }
+    }
+
+    /**
+     * Hash de los filtros de una consulta, en el orden dado (null es un valor más). No es
+     * una firma: solo detecta que el cursor se usa con otra consulta.
+     *
+     * @param filters valores de los filtros
+     * @return CRC32 en hexadecimal (8 caracteres)
+     */
+    public static String hashFilters(Object... filters) {
+        CRC32 crc = new CRC32();
+        crc.update((filters.length + Arrays.toString(filters)).getBytes(StandardCharsets.UTF_8));
+        return String.format("%08x", crc.getValue());
+    }
+
+    /**
+     * Codifica el cursor como texto opaco.
+     *
+     * @return cursor en Base64 URL-safe sin relleno
+     */
+    public String encode() {
+        String raw = VERSION + SEPARATOR + (direction.isAscending() ? 'A' : 'D') + SEPARATOR + filtersHash
+                + SEPARATOR + id + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un cursor recibido del cliente y verifica que lo generó la misma consulta.
+     *
+     * @param cursor texto opaco generado por {@link #encode()}
+     * @param direction dirección de la consulta actual
+     * @param filtersHash hash de los filtros de la consulta actual
+     * @return cursor decodificado, o null si no se envió cursor (primera página)
+     * @throws ValidationException si el cursor está mal formado o es de otra dirección o filtros
+     */
+    public static KeysetCursor decode(String cursor, Sort.Direction direction, String filtersHash) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        KeysetCursor decoded;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            // Formato: <versión>:<A|D>:<hash>:<uuid>:<clave>. La clave va al final porque puede contener ':'
+            int hashStart = VERSION.length() + 3;
+            int idStart = hashStart + HASH_LENGTH + 1;
+            int keyStart = idStart + UUID_LENGTH + 1;
+            if (!raw.startsWith(VERSION + SEPARATOR) || raw.length() < keyStart
+                    || raw.charAt(hashStart - 1) != SEPARATOR
+                    || raw.charAt(idStart - 1) != SEPARATOR
+                    || raw.charAt(keyStart - 1) != SEPARATOR) {
+                throw new ValidationException(INVALID);
+            }
+            Sort.Direction cursorDirection = switch (raw.charAt(hashStart - 2)) {
+                case 'A' -> Sort.Direction.ASC;
+                case 'D' -> Sort.Direction.DESC;
+                default -> throw new ValidationException(INVALID);
+            };
+            UUID id = UUID.fromString(raw.substring(idStart, keyStart - 1));
+            decoded = new KeysetCursor(raw.substring(keyStart), id, cursorDirection,
+                    raw.substring(hashStart, idStart - 1));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(INVALID);
+        }
+
+        if (decoded.direction() != direction) {
+            throw new ValidationException("El cursor de paginación corresponde a otra dirección de ordenamiento");
+        }
+        if (!decoded.filtersHash().equals(filtersHash)) {
+            throw new ValidationException("El cursor de paginación corresponde a otros filtros");
+        }
+        return decoded;
+    }
+}
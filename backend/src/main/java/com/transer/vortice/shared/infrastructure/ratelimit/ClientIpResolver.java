@@ -0,0 +1,76 @@
+package com.transer.vortice.shared.infrastructure.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Resuelve la IP del cliente considerando los headers de proxy.
+ *
+ * El primer salto de X-Forwarded-For se localiza recorriendo el header por índices,
+ * sin dividirlo en un arreglo; solo se crea un String cuando el valor tiene
+ * espacios o varios saltos.
+ *
+ * @author Vórtice Development Team
+ */
+public final class ClientIpResolver {
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+    private static final String X_REAL_IP = "X-Real-IP";
+
+    private ClientIpResolver() {
+    }
+
+    /**
+     * Obtiene la IP del cliente (X-Forwarded-For, X-Real-IP o dirección remota).
+     *
+     * @param request petición HTTP
+     * @return dirección IP del cliente
+     */
+    public static String resolve(HttpServletRequest request) {
+        String firstHop = firstHop(request.getHeader(X_FORWARDED_FOR));
+        if (firstHop != null) {
+            return firstHop;
+        }
+
+        String xRealIp = request.getHeader(X_REAL_IP);
+        if (xRealIp != null && !xRealIp.isEmpty()) {
+            return xRealIp;
+        }
+
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * Extrae el primer salto de un header X-Forwarded-For.
+     *
+     * @param header valor del header (puede ser null)
+     * @return primer salto sin espacios, o null si el header está vacío
+     */
+    static String firstHop(String header) {
+        if (header == null) {
+            return null;
+        }
+
+        int length = header.length();
+        int start = 0;
+        while (start < length && isWhitespace(header.charAt(start))) {
+            start++;
+        }
+
+        int end = start;
+        while (end < length && header.charAt(end) != ',') {
+            end++;
+        }
+        while (end > start && isWhitespace(header.charAt(end - 1))) {
+            end--;
+        }
+
+        if (start == end) {
+            return null;
+        }
+        return start == 0 && end == length ? header : header.substring(start, end);
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t';
+    }
+}
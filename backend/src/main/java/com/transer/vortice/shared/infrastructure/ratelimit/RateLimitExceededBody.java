@@ -0,0 +1,112 @@
+package com.transer.vortice.shared.infrastructure.ratelimit;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Cuerpo JSON pre-serializado de la respuesta 429 Too Many Requests.
+ *
+ * Las partes fijas del JSON se serializan una sola vez por política ({@link RateLimitPolicy});
+ * en cada rechazo solo se escriben los valores variables (segundos de espera,
+ * path y timestamp), sin construir un Map ni pasar por ObjectMapper.
+ *
+ * @author Vórtice Development Team
+ */
+final class RateLimitExceededBody {
+
+    private static final byte[] MESSAGE_END = bytes(" segundos.\",\"retryAfterSeconds\":");
+    private static final byte[] PATH_START = bytes(",\"path\":\"");
+    private static final byte[] TIMESTAMP_START = bytes("\",\"timestamp\":");
+    private static final byte[] BODY_END = bytes("}");
+
+    private RateLimitExceededBody() {
+    }
+
+    /**
+     * Pre-serializa la parte inicial del cuerpo para una política.
+     *
+     * @param name nombre de la política (campo limitType)
+     * @param description descripción legible del límite
+     * @return bytes UTF-8 de la parte inicial del cuerpo
+     */
+    static byte[] prefix(String name, String description) {
+        return bytes("{\"status\":429,\"error\":\"Too Many Requests\",\"limitType\":\"" + escapeJson(name)
+                + "\",\"message\":\"Límite de peticiones excedido para " + escapeJson(description)
+                + ". Por favor, intente nuevamente en ");
+    }
+
+    /**
+     * Escribe el cuerpo de la respuesta 429.
+     *
+     * @param out stream de salida de la respuesta
+     * @param policy política excedida
+     * @param retryAfterSeconds segundos hasta el próximo relleno
+     * @param path URI solicitado
+     * @param timestamp instante del rechazo en milisegundos
+     * @throws IOException si hay error al escribir la respuesta
+     */
+    static void write(
+            OutputStream out,
+            RateLimitPolicy policy,
+            long retryAfterSeconds,
+            String path,
+            long timestamp) throws IOException {
+
+        byte[] seconds = bytes(Long.toString(retryAfterSeconds));
+        out.write(policy.getExceededBodyPrefix());
+        out.write(seconds);
+        out.write(MESSAGE_END);
+        out.write(seconds);
+        out.write(PATH_START);
+        out.write(bytes(escapeJson(path)));
+        out.write(TIMESTAMP_START);
+        out.write(bytes(Long.toString(timestamp)));
+        out.write(BODY_END);
+    }
+
+    /**
+     * Obtiene una descripción legible del tipo de límite.
+     *
+     * @param limitType tipo de límite
+     * @return descripción en español
+     */
+    static String describe(RateLimitService.RateLimitType limitType) {
+        return switch (limitType) {
+            case GLOBAL -> "peticiones generales";
+            case AUTH -> "intentos de login";
+            case REGISTER -> "intentos de registro";
+        };
+    }
+
+    /**
+     * Escapa un valor para incluirlo dentro de un string JSON.
+     */
+    private static String escapeJson(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        StringBuilder escaped = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                if (escaped == null) {
+                    escaped = new StringBuilder(value.length() + 16).append(value, 0, i);
+                }
+                switch (c) {
+                    case '"' -> escaped.append("\\\"");
+                    case '\\' -> escaped.append("\\\\");
+                    default -> escaped.append(String.format("\\u%04x", (int) c));
+                }
+            } else if (escaped != null) {
+                escaped.append(c);
+            }
+        }
+        return escaped != null ? escaped.toString() : value;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
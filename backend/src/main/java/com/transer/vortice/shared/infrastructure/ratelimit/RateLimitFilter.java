@@ -1,6 +1,9 @@
 package com.transer.vortice.shared.infrastructure.ratelimit;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.transer.vortice.shared.infrastructure.config.RateLimitProperties;
+import com.transer.vortice.shared.infrastructure.security.jwt.JwtAuthenticationFilter;
+import com.transer.vortice.shared.infrastructure.security.jwt.JwtClaims;
+import com.transer.vortice.shared.infrastructure.security.jwt.JwtTokenProvider;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.ConsumptionProbe;
 import jakarta.servlet.FilterChain;
@@ -16,13 +19,22 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.Duration;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.OutputStream;
 
 /**
  * Filtro para aplicar rate limiting a las peticiones HTTP.
- * Intercepta todas las peticiones y verifica si la IP ha excedido el límite.
+ * Intercepta todas las peticiones y verifica si el cliente ha excedido el límite.
+ *
+ * Los requests autenticados (access token válido) se limitan por usuario u oficina
+ * con el nivel correspondiente a sus roles; el resto se limita por IP. Cada ruta
+ * consume la cantidad de tokens configurada como su costo.
+ * Los claims se obtienen de la caché de tokens verificados de {@link JwtTokenProvider},
+ * por lo que este filtro no repite la verificación de la firma.
+ *
+ * El camino de decisión está pensado para no crear objetos por request:
+ * la ruta se resuelve con la tabla precompilada {@link RateLimitRouteTable},
+ * la IP con {@link ClientIpResolver} y los valores numéricos de los headers
+ * se toman de una tabla de Strings precalculada.
  *
  * @author Vórtice Development Team
  */
@@ -31,8 +43,28 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class RateLimitFilter extends OncePerRequestFilter {
 
+    private static final String HEADER_LIMIT = "X-RateLimit-Limit";
+    private static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+    private static final String HEADER_TYPE = "X-RateLimit-Type";
+    private static final String HEADER_RETRY_AFTER = "Retry-After";
+
+    /**
+     * Valores de header precalculados para 0..1024 tokens.
+     */
+    private static final String[] NUMBER_HEADER_VALUES = new String[1025];
+
+    static {
+        for (int i = 0; i < NUMBER_HEADER_VALUES.length; i++) {
+            NUMBER_HEADER_VALUES[i] = Integer.toString(i);
+        }
+    }
+
+    private static final String USER_KEY_PREFIX = "U:";
+    private static final String OFFICE_KEY_PREFIX = "O:";
+
     private final RateLimitService rateLimitService;
-    private final ObjectMapper objectMapper;
+    private final RateLimitRouteTable routeTable;
+    private final JwtTokenProvider jwtTokenProvider;
 
     @Override
     protected void doFilterInternal(
@@ -46,63 +78,68 @@ public class RateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
-        String clientIp = getClientIp(request);
+        String clientIp = ClientIpResolver.resolve(request);
         String requestUri = request.getRequestURI();
 
-        // Determinar el tipo de límite según el endpoint
-        RateLimitService.RateLimitType limitType = determineLimitType(requestUri);
+        // Determinar el tipo de límite y costo según el endpoint (sin context-path)
+        RateLimitRouteTable.Route route = routeTable
+                .resolve(request.getMethod(), requestUri, request.getContextPath().length());
+
+        // Resolver política y clave: usuario/oficina si está autenticado, IP en otro caso
+        RateLimitPolicy policy = rateLimitService.getPolicy(route.limitType());
+        String clientKey = clientIp;
 
-        // Resolver el bucket para la IP
-        Bucket bucket = rateLimitService.resolveBucket(clientIp, limitType);
+        JwtClaims claims = resolveClaims(request, route);
+        if (claims != null) {
+            policy = rateLimitService.getTierPolicy(claims.authorities());
+            clientKey = authenticatedKey(claims);
+        }
+
+        Bucket bucket = rateLimitService.resolveBucket(clientKey, policy);
 
-        // Intentar consumir 1 token
-        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        // Intentar consumir el costo de la ruta
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(route.cost());
 
         if (probe.isConsumed()) {
-            // Token consumido exitosamente - agregar headers informativos
-            addRateLimitHeaders(response, probe, limitType);
+            // Tokens consumidos exitosamente - agregar headers informativos
+            addRateLimitHeaders(response, probe, policy);
             filterChain.doFilter(request, response);
         } else {
             // Límite excedido - retornar 429 Too Many Requests
-            handleRateLimitExceeded(response, probe, clientIp, requestUri, limitType);
+            handleRateLimitExceeded(response, probe, clientKey, requestUri, policy);
         }
     }
 
     /**
-     * Determina el tipo de límite según el URI de la petición.
+     * Obtiene los claims del access token cuando aplica el límite por usuario.
+     * Solo se consideran rutas con límite GLOBAL; login y registro siempre se limitan por IP.
      *
-     * @param requestUri URI de la petición
-     * @return tipo de límite a aplicar
+     * @return claims del token o null si el request no está autenticado
      */
-    private RateLimitService.RateLimitType determineLimitType(String requestUri) {
-        if (requestUri.contains("/auth/login")) {
-            return RateLimitService.RateLimitType.AUTH;
-        } else if (requestUri.contains("/auth/register")) {
-            return RateLimitService.RateLimitType.REGISTER;
-        } else {
-            return RateLimitService.RateLimitType.GLOBAL;
+    private JwtClaims resolveClaims(HttpServletRequest request, RateLimitRouteTable.Route route) {
+        if (route.limitType() != RateLimitService.RateLimitType.GLOBAL
+                || !rateLimitService.isAuthenticatedLimitEnabled()) {
+            return null;
         }
+
+        String jwt = JwtAuthenticationFilter.extractJwtFromRequest(request);
+        if (jwt == null) {
+            return null;
+        }
+
+        JwtClaims claims = jwtTokenProvider.parseToken(jwt).orElse(null);
+        return claims != null && claims.userId() != null ? claims : null;
     }
 
     /**
-     * Obtiene la IP del cliente desde la petición.
-     * Considera headers de proxy (X-Forwarded-For, X-Real-IP).
-     *
-     * @param request petición HTTP
-     * @return dirección IP del cliente
+     * Clave del bucket para un request autenticado según la estrategia configurada.
      */
-    private String getClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
+    private String authenticatedKey(JwtClaims claims) {
+        if (rateLimitService.getAuthenticatedKeyStrategy() == RateLimitProperties.KeyStrategy.OFFICE
+                && claims.officeId() != null) {
+            return OFFICE_KEY_PREFIX + claims.officeId();
         }
-
-        return request.getRemoteAddr();
+        return USER_KEY_PREFIX + claims.userId();
     }
 
     /**
@@ -110,45 +147,45 @@ public class RateLimitFilter extends OncePerRequestFilter {
      *
      * @param response respuesta HTTP
      * @param probe resultado de la verificación del bucket
-     * @param limitType tipo de límite aplicado
+     * @param policy política aplicada
      */
     private void addRateLimitHeaders(
             HttpServletResponse response,
             ConsumptionProbe probe,
-            RateLimitService.RateLimitType limitType) {
+            RateLimitPolicy policy) {
 
-        // X-RateLimit-Limit: límite total de requests
-        response.setHeader("X-RateLimit-Limit", String.valueOf(probe.getRemainingTokens() + 1));
+        // X-RateLimit-Limit: capacidad real del bucket
+        response.setHeader(HEADER_LIMIT, policy.getLimitHeader());
 
-        // X-RateLimit-Remaining: requests restantes
-        response.setHeader("X-RateLimit-Remaining", String.valueOf(probe.getRemainingTokens()));
+        // X-RateLimit-Remaining: tokens restantes
+        response.setHeader(HEADER_REMAINING, headerValue(probe.getRemainingTokens()));
 
-        // X-RateLimit-Type: tipo de límite aplicado
-        response.setHeader("X-RateLimit-Type", limitType.name());
+        // X-RateLimit-Type: política aplicada
+        response.setHeader(HEADER_TYPE, policy.getName());
     }
 
     /**
      * Maneja el caso cuando se excede el límite de rate.
-     * Retorna un 429 Too Many Requests con información del error.
+     * Retorna un 429 Too Many Requests con el cuerpo pre-serializado.
      *
      * @param response respuesta HTTP
      * @param probe resultado de la verificación del bucket
-     * @param clientIp IP del cliente
+     * @param clientKey clave del cliente (IP, usuario u oficina)
      * @param requestUri URI solicitado
-     * @param limitType tipo de límite excedido
+     * @param policy política excedida
      * @throws IOException si hay error al escribir la respuesta
      */
     private void handleRateLimitExceeded(
             HttpServletResponse response,
             ConsumptionProbe probe,
-            String clientIp,
+            String clientKey,
             String requestUri,
-            RateLimitService.RateLimitType limitType) throws IOException {
+            RateLimitPolicy policy) throws IOException {
 
         long waitForRefill = probe.getNanosToWaitForRefill() / 1_000_000_000; // convertir a segundos
 
-        log.warn("Rate limit excedido - IP: {}, URI: {}, Type: {}, Wait: {}s",
-                clientIp, requestUri, limitType, waitForRefill);
+        log.warn("Rate limit excedido - Cliente: {}, URI: {}, Type: {}, Wait: {}s",
+                clientKey, requestUri, policy.getName(), waitForRefill);
 
         // Configurar respuesta HTTP 429
         response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
@@ -156,41 +193,23 @@ public class RateLimitFilter extends OncePerRequestFilter {
         response.setCharacterEncoding("UTF-8");
 
         // Headers estándar de rate limiting
-        response.setHeader("X-RateLimit-Limit", "0");
-        response.setHeader("X-RateLimit-Remaining", "0");
-        response.setHeader("X-RateLimit-Type", limitType.name());
-        response.setHeader("Retry-After", String.valueOf(waitForRefill));
+        response.setHeader(HEADER_LIMIT, policy.getLimitHeader());
+        response.setHeader(HEADER_REMAINING, NUMBER_HEADER_VALUES[0]);
+        response.setHeader(HEADER_TYPE, policy.getName());
+        response.setHeader(HEADER_RETRY_AFTER, headerValue(waitForRefill));
 
         // Cuerpo de la respuesta con detalles del error
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("timestamp", System.currentTimeMillis());
-        errorResponse.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
-        errorResponse.put("error", "Too Many Requests");
-        errorResponse.put("message", String.format(
-                "Límite de peticiones excedido para %s. Por favor, intente nuevamente en %d segundos.",
-                getLimitTypeDescription(limitType),
-                waitForRefill
-        ));
-        errorResponse.put("path", requestUri);
-        errorResponse.put("retryAfterSeconds", waitForRefill);
-        errorResponse.put("limitType", limitType.name());
-
-        // Escribir respuesta JSON
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
-        response.getWriter().flush();
+        OutputStream out = response.getOutputStream();
+        RateLimitExceededBody.write(out, policy, waitForRefill, requestUri, System.currentTimeMillis());
+        out.flush();
     }
 
     /**
-     * Obtiene una descripción legible del tipo de límite.
-     *
-     * @param limitType tipo de límite
-     * @return descripción en español
+     * Convierte un número a valor de header, reutilizando los valores precalculados.
      */
-    private String getLimitTypeDescription(RateLimitService.RateLimitType limitType) {
-        return switch (limitType) {
-            case GLOBAL -> "peticiones generales";
-            case AUTH -> "intentos de login";
-            case REGISTER -> "intentos de registro";
-        };
+    private static String headerValue(long value) {
+        return value >= 0 && value < NUMBER_HEADER_VALUES.length
+                ? NUMBER_HEADER_VALUES[(int) value]
+                : Long.toString(value);
     }
 }
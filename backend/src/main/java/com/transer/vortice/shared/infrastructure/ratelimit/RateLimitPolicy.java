@@ -0,0 +1,74 @@
+package com.transer.vortice.shared.infrastructure.ratelimit;
+
+import com.transer.vortice.shared.infrastructure.config.RateLimitProperties;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.Refill;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Política de rate limiting precompilada.
+ *
+ * Agrupa todo lo que el filtro necesita por request y que solo depende de la
+ * configuración: la configuración del bucket, el valor del header X-RateLimit-Limit
+ * y el prefijo pre-serializado del cuerpo 429. Se construye una vez al arrancar.
+ *
+ * @author Vórtice Development Team
+ */
+@Getter
+public final class RateLimitPolicy {
+
+    /**
+     * Nombre de la política; se usa como prefijo de la clave del bucket y
+     * como valor del header X-RateLimit-Type.
+     */
+    private final String name;
+    private final RateLimitService.RateLimitType limitType;
+    private final long capacity;
+    private final long refillPeriodMinutes;
+    private final BucketConfiguration bucketConfiguration;
+
+    /**
+     * Valor del header X-RateLimit-Limit (capacidad real del bucket).
+     */
+    private final String limitHeader;
+
+    /**
+     * Parte fija inicial del cuerpo JSON de la respuesta 429.
+     */
+    private final byte[] exceededBodyPrefix;
+
+    RateLimitPolicy(
+            String name,
+            RateLimitService.RateLimitType limitType,
+            String description,
+            RateLimitProperties.LimitConfig config) {
+        this.name = name;
+        this.limitType = limitType;
+        this.capacity = config.getCapacity();
+        this.refillPeriodMinutes = config.getRefillPeriodMinutes();
+        this.bucketConfiguration = BucketConfiguration.builder()
+                .addLimit(Bandwidth.classic(
+                        config.getCapacity(),
+                        Refill.intervally(
+                                config.getRefillTokens(),
+                                Duration.ofMinutes(config.getRefillPeriodMinutes())
+                        )
+                ))
+                .build();
+        this.limitHeader = Long.toString(config.getCapacity());
+        this.exceededBodyPrefix = RateLimitExceededBody.prefix(name, description);
+    }
+
+    /**
+     * Clave del bucket en el almacén para un cliente (IP, usuario u oficina).
+     *
+     * @param clientKey clave del cliente
+     * @return clave del bucket
+     */
+    public String bucketKey(String clientKey) {
+        return name + ':' + clientKey;
+    }
+}
@@ -0,0 +1,81 @@
+package com.transer.vortice.shared.infrastructure.ratelimit;
+
+import com.transer.vortice.shared.infrastructure.config.RateLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Tabla precompilada de rutas a políticas de rate limiting y costo en tokens.
+ *
+ * Se construye una sola vez a partir de vortice.rate-limit.routes, ordenada por
+ * prefijo más largo primero (y, a igual prefijo, las rutas con método explícito primero),
+ * de modo que la resolución por request es un recorrido de un arreglo pequeño
+ * con comparaciones de regiones de String, sin crear objetos.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Component
+public class RateLimitRouteTable {
+
+    private static final Route DEFAULT_ROUTE = new Route("/", null, RateLimitService.RateLimitType.GLOBAL, 1);
+
+    private final Route[] routes;
+
+    public RateLimitRouteTable(RateLimitProperties rateLimitProperties) {
+        this.routes = compile(rateLimitProperties.getRoutes());
+        log.info("Tabla de rutas de rate limiting compilada: {} rutas", routes.length);
+    }
+
+    /**
+     * Resuelve la ruta que aplica a un request.
+     *
+     * @param method método HTTP del request
+     * @param requestUri URI del request (incluye el context-path)
+     * @param pathOffset longitud del context-path a ignorar al comparar
+     * @return ruta aplicable (GLOBAL si ninguna coincide)
+     */
+    public Route resolve(String method, String requestUri, int pathOffset) {
+        for (Route route : routes) {
+            if (requestUri.startsWith(route.pathPrefix(), pathOffset)
+                    && (route.method() == null || route.method().equals(method))) {
+                return route;
+            }
+        }
+        return DEFAULT_ROUTE;
+    }
+
+    private static Route[] compile(List<RateLimitProperties.RouteConfig> configs) {
+        return configs.stream()
+                .filter(config -> StringUtils.hasText(config.getPathPrefix()))
+                .map(config -> new Route(
+                        config.getPathPrefix(),
+                        StringUtils.hasText(config.getMethod()) ? config.getMethod().toUpperCase(Locale.ROOT) : null,
+                        config.getLimitType() != null ? config.getLimitType() : RateLimitService.RateLimitType.GLOBAL,
+                        Math.max(config.getCost(), 1)))
+                .sorted(Comparator.comparingInt((Route route) -> route.pathPrefix().length()).reversed()
+                        .thenComparing(route -> route.method() == null))
+                .toArray(Route[]::new);
+    }
+
+    /**
+     * Ruta compilada.
+     *
+     * @param pathPrefix prefijo del path (sin context-path)
+     * @param method método HTTP o null para todos
+     * @param limitType tipo de límite a aplicar
+     * @param cost tokens que consume cada request
+     */
+    public record Route(
+            String pathPrefix,
+            String method,
+            RateLimitService.RateLimitType limitType,
+            long cost
+    ) {
+    }
+}
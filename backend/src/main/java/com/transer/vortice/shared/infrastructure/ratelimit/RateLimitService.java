@@ -1,34 +1,62 @@
 package com.transer.vortice.shared.infrastructure.ratelimit;
 
 import com.transer.vortice.shared.infrastructure.config.RateLimitProperties;
-import io.github.bucket4j.Bandwidth;
+import com.transer.vortice.shared.infrastructure.ratelimit.store.RateLimitBucketStore;
 import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Servicio para gestionar rate limiting basado en IP y endpoint.
+ * Servicio para gestionar rate limiting basado en IP, usuario/oficina y endpoint.
  * Usa Bucket4j para implementar el algoritmo de token bucket.
+ * El estado de los buckets se delega en un {@link RateLimitBucketStore}.
+ *
+ * Las políticas ({@link RateLimitPolicy}) se precompilan al arrancar:
+ * una por tipo de límite (GLOBAL, AUTH, REGISTER) y una por nivel de usuario
+ * autenticado (vortice.rate-limit.authenticated).
  *
  * @author Vórtice Development Team
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RateLimitService {
 
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final String TIER_PREFIX = "TIER_";
+    private static final String DEFAULT_TIER = "DEFAULT";
+
     private final RateLimitProperties rateLimitProperties;
+    private final RateLimitBucketStore bucketStore;
+
+    private final Map<RateLimitType, RateLimitPolicy> policies = new EnumMap<>(RateLimitType.class);
+
+    /**
+     * Niveles por authority de rol (ROLE_*), para resolver sin crear Strings.
+     */
+    private final Map<String, RateLimitPolicy> tierPolicies = new HashMap<>();
+    private final RateLimitPolicy defaultTierPolicy;
+
+    public RateLimitService(RateLimitProperties rateLimitProperties, RateLimitBucketStore bucketStore) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.bucketStore = bucketStore;
 
-    // Cache de buckets por IP
-    private final Map<String, Bucket> globalBuckets = new ConcurrentHashMap<>();
-    private final Map<String, Bucket> authBuckets = new ConcurrentHashMap<>();
-    private final Map<String, Bucket> registerBuckets = new ConcurrentHashMap<>();
+        for (RateLimitType limitType : RateLimitType.values()) {
+            policies.put(limitType, new RateLimitPolicy(
+                    limitType.name(), limitType, RateLimitExceededBody.describe(limitType), getLimitConfig(limitType)));
+        }
+
+        RateLimitProperties.AuthenticatedConfig authenticated = rateLimitProperties.getAuthenticated();
+        this.defaultTierPolicy = createTierPolicy(DEFAULT_TIER, authenticated.getDefaultTier());
+        authenticated.getTiers().forEach((role, config) ->
+                tierPolicies.put(ROLE_PREFIX + role.toUpperCase(Locale.ROOT), createTierPolicy(role, config)));
+    }
 
     /**
      * Resuelve el bucket apropiado para la IP y tipo de límite.
@@ -38,31 +66,86 @@ public class RateLimitService {
      * @return bucket correspondiente
      */
     public Bucket resolveBucket(String key, RateLimitType limitType) {
-        return switch (limitType) {
-            case GLOBAL -> globalBuckets.computeIfAbsent(key, k -> createBucket(rateLimitProperties.getGlobal()));
-            case AUTH -> authBuckets.computeIfAbsent(key, k -> createBucket(rateLimitProperties.getAuth()));
-            case REGISTER -> registerBuckets.computeIfAbsent(key, k -> createBucket(rateLimitProperties.getRegister()));
-        };
+        return resolveBucket(key, getPolicy(limitType));
     }
 
     /**
-     * Crea un nuevo bucket con la configuración especificada.
+     * Resuelve el bucket de un cliente para una política.
      *
-     * @param config configuración del límite
-     * @return bucket configurado
+     * @param key clave del cliente (IP, usuario u oficina)
+     * @param policy política a aplicar
+     * @return bucket correspondiente
      */
-    private Bucket createBucket(RateLimitProperties.LimitConfig config) {
-        Bandwidth limit = Bandwidth.classic(
-                config.getCapacity(),
-                Refill.intervally(
-                        config.getRefillTokens(),
-                        Duration.ofMinutes(config.getRefillPeriodMinutes())
-                )
-        );
+    public Bucket resolveBucket(String key, RateLimitPolicy policy) {
+        return bucketStore.resolve(policy.bucketKey(key), policy::getBucketConfiguration);
+    }
 
-        return Bucket.builder()
-                .addLimit(limit)
-                .build();
+    /**
+     * Obtiene la política de un tipo de límite.
+     *
+     * @param limitType tipo de límite
+     * @return política precompilada
+     */
+    public RateLimitPolicy getPolicy(RateLimitType limitType) {
+        return policies.get(limitType);
+    }
+
+    /**
+     * Obtiene la política de nivel para un usuario autenticado según sus roles.
+     * Si tiene varios roles con nivel se aplica el de mayor capacidad.
+     *
+     * @param authorities authorities del usuario (claims del token)
+     * @return política del nivel del usuario
+     */
+    public RateLimitPolicy getTierPolicy(Collection<? extends GrantedAuthority> authorities) {
+        RateLimitPolicy selected = defaultTierPolicy;
+        if (tierPolicies.isEmpty()) {
+            return selected;
+        }
+        for (GrantedAuthority authority : authorities) {
+            RateLimitPolicy tier = tierPolicies.get(authority.getAuthority());
+            if (tier != null && tier.getCapacity() > selected.getCapacity()) {
+                selected = tier;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Verifica si los límites por usuario/oficina están habilitados.
+     *
+     * @return true si están habilitados
+     */
+    public boolean isAuthenticatedLimitEnabled() {
+        return rateLimitProperties.getAuthenticated().isEnabled();
+    }
+
+    /**
+     * Obtiene la estrategia de clave para requests autenticados.
+     *
+     * @return USER u OFFICE
+     */
+    public RateLimitProperties.KeyStrategy getAuthenticatedKeyStrategy() {
+        return rateLimitProperties.getAuthenticated().getKeyBy();
+    }
+
+    private RateLimitPolicy createTierPolicy(String tier, RateLimitProperties.LimitConfig config) {
+        return new RateLimitPolicy(
+                TIER_PREFIX + tier,
+                RateLimitType.GLOBAL,
+                "peticiones del usuario (nivel " + tier + ")",
+                config);
+    }
+
+    /**
+     * Obtiene la configuración del tipo de límite.
+     */
+    private RateLimitProperties.LimitConfig getLimitConfig(RateLimitType limitType) {
+        return switch (limitType) {
+            case GLOBAL -> rateLimitProperties.getGlobal();
+            case AUTH -> rateLimitProperties.getAuth();
+            case REGISTER -> rateLimitProperties.getRegister();
+        };
     }
 
     /**
@@ -80,9 +163,9 @@ public class RateLimitService {
      * @param ip dirección IP a limpiar
      */
     public void clearBucketsForIp(String ip) {
-        globalBuckets.remove(ip);
-        authBuckets.remove(ip);
-        registerBuckets.remove(ip);
+        for (RateLimitPolicy policy : policies.values()) {
+            bucketStore.invalidate(policy.bucketKey(ip));
+        }
         log.info("Buckets limpiados para IP: {}", ip);
     }
 
@@ -90,9 +173,7 @@ public class RateLimitService {
      * Limpia todos los buckets (útil para testing).
      */
     public void clearAllBuckets() {
-        globalBuckets.clear();
-        authBuckets.clear();
-        registerBuckets.clear();
+        bucketStore.invalidateAll();
         log.info("Todos los buckets han sido limpiados");
     }
 
@@ -104,19 +185,14 @@ public class RateLimitService {
      * @return objeto con estadísticas
      */
     public BucketStats getStats(String ip, RateLimitType limitType) {
-        Bucket bucket = resolveBucket(ip, limitType);
+        RateLimitPolicy policy = getPolicy(limitType);
+        Bucket bucket = resolveBucket(ip, policy);
         long availableTokens = bucket.getAvailableTokens();
 
-        RateLimitProperties.LimitConfig config = switch (limitType) {
-            case GLOBAL -> rateLimitProperties.getGlobal();
-            case AUTH -> rateLimitProperties.getAuth();
-            case REGISTER -> rateLimitProperties.getRegister();
-        };
-
         return new BucketStats(
                 availableTokens,
-                config.getCapacity(),
-                config.getRefillPeriodMinutes()
+                policy.getCapacity(),
+                policy.getRefillPeriodMinutes()
         );
     }
 
@@ -0,0 +1,65 @@
+package com.transer.vortice.shared.infrastructure.ratelimit.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.transer.vortice.shared.infrastructure.config.RateLimitProperties;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Almacén de buckets en memoria basado en Caffeine (por defecto).
+ *
+ * A diferencia de un ConcurrentHashMap, está acotado por tamaño
+ * (vortice.rate-limit.max-buckets) y descarta los buckets sin uso tras
+ * vortice.rate-limit.idle-expiration-minutes, por lo que no crece sin límite
+ * ante un escaneo o muchas IPs distintas.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "vortice.rate-limit.store", havingValue = "caffeine", matchIfMissing = true)
+public class CaffeineRateLimitBucketStore implements RateLimitBucketStore {
+
+    private final Cache<String, Bucket> buckets;
+
+    public CaffeineRateLimitBucketStore(RateLimitProperties rateLimitProperties) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(rateLimitProperties.getMaxBuckets())
+                .expireAfterAccess(Duration.ofMinutes(rateLimitProperties.getIdleExpirationMinutes()))
+                .build();
+        log.info("Rate limiting con almacén en memoria (max: {} buckets, inactividad: {} min)",
+                rateLimitProperties.getMaxBuckets(), rateLimitProperties.getIdleExpirationMinutes());
+    }
+
+    @Override
+    public Bucket resolve(String key, Supplier<BucketConfiguration> configuration) {
+        return buckets.get(key, k -> createBucket(configuration.get()));
+    }
+
+    @Override
+    public void invalidate(String key) {
+        buckets.invalidate(key);
+    }
+
+    @Override
+    public void invalidateAll() {
+        buckets.invalidateAll();
+    }
+
+    private Bucket createBucket(BucketConfiguration configuration) {
+        LocalBucketBuilder builder = Bucket.builder();
+        for (Bandwidth bandwidth : configuration.getBandwidths()) {
+            builder.addLimit(bandwidth);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.transer.vortice.shared.infrastructure.ratelimit.store;
+
+import com.transer.vortice.shared.infrastructure.config.RateLimitProperties;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.jdbc.BucketTableSettings;
+import io.github.bucket4j.distributed.jdbc.PrimaryKeyMapper;
+import io.github.bucket4j.distributed.jdbc.SQLProxyConfiguration;
+import io.github.bucket4j.postgresql.PostgreSQLadvisoryLockBasedProxyManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.function.Supplier;
+
+/**
+ * Almacén de buckets en PostgreSQL usando el proxy manager de Bucket4j.
+ *
+ * El estado de cada bucket se guarda en shared.rate_limit_buckets y se actualiza
+ * bajo un advisory lock, de modo que todas las réplicas del backend detrás de nginx
+ * comparten los mismos límites. Los buckets sin uso se eliminan periódicamente
+ * según vortice.rate-limit.idle-expiration-minutes.
+ *
+ * Se activa con vortice.rate-limit.store=jdbc.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "vortice.rate-limit.store", havingValue = "jdbc")
+public class JdbcRateLimitBucketStore implements RateLimitBucketStore {
+
+    private static final String TABLE_NAME = "shared.rate_limit_buckets";
+
+    private final PostgreSQLadvisoryLockBasedProxyManager<String> proxyManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final long idleExpirationMinutes;
+
+    public JdbcRateLimitBucketStore(
+            DataSource dataSource,
+            JdbcTemplate jdbcTemplate,
+            RateLimitProperties rateLimitProperties) {
+        SQLProxyConfiguration<String> configuration = SQLProxyConfiguration.builder()
+                .withTableSettings(BucketTableSettings.customSettings(TABLE_NAME, "id", "state"))
+                .withPrimaryKeyMapper(PrimaryKeyMapper.STRING)
+                .build(dataSource);
+        this.proxyManager = new PostgreSQLadvisoryLockBasedProxyManager<>(configuration);
+        this.jdbcTemplate = jdbcTemplate;
+        this.idleExpirationMinutes = rateLimitProperties.getIdleExpirationMinutes();
+        log.info("Rate limiting con almacén compartido en PostgreSQL ({})", TABLE_NAME);
+    }
+
+    @Override
+    public Bucket resolve(String key, Supplier<BucketConfiguration> configuration) {
+        return proxyManager.builder().build(key, configuration);
+    }
+
+    @Override
+    public void invalidate(String key) {
+        proxyManager.removeProxy(key);
+    }
+
+    @Override
+    public void invalidateAll() {
+        jdbcTemplate.update("DELETE FROM " + TABLE_NAME);
+    }
+
+    /**
+     * Elimina los buckets que no se han usado durante el periodo de inactividad.
+     * Se ejecuta cada 10 minutos.
+     */
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void cleanupIdleBuckets() {
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM " + TABLE_NAME + " WHERE updated_at < now() - make_interval(mins => ?)",
+                (int) idleExpirationMinutes);
+        if (deleted > 0) {
+            log.info("Buckets de rate limiting inactivos eliminados: {}", deleted);
+        }
+    }
+}
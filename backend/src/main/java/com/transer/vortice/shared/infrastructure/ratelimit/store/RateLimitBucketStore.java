@@ -0,0 +1,40 @@
+package com.transer.vortice.shared.infrastructure.ratelimit.store;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+
+import java.util.function.Supplier;
+
+/**
+ * Almacén de buckets de rate limiting.
+ *
+ * Abstrae dónde vive el estado de cada bucket para que {@code RateLimitService} y
+ * {@code RateLimitFilter} funcionen igual con un almacén local a la instancia
+ * (Caffeine) o compartido entre réplicas (PostgreSQL).
+ * Se selecciona con la propiedad vortice.rate-limit.store.
+ *
+ * @author Vórtice Development Team
+ */
+public interface RateLimitBucketStore {
+
+    /**
+     * Obtiene el bucket asociado a una clave, creándolo si no existe.
+     *
+     * @param key clave del bucket (incluye el tipo de límite)
+     * @param configuration configuración a usar cuando el bucket se crea
+     * @return bucket listo para consumir tokens
+     */
+    Bucket resolve(String key, Supplier<BucketConfiguration> configuration);
+
+    /**
+     * Elimina el bucket de una clave.
+     *
+     * @param key clave del bucket
+     */
+    void invalidate(String key);
+
+    /**
+     * Elimina todos los buckets.
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,148 @@
+package com.transer.vortice.shared.infrastructure.security;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.io.Serial;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Principal del usuario autenticado.
+ * Además del username y las authorities, transporta el ID del usuario y su oficina
+ * para que los filtros y servicios no tengan que consultar la base de datos
+ * en cada request.
+ *
+ * Se construye en dos escenarios:
+ * - En el login, desde la entidad User (con password para que Spring Security la verifique).
+ * - En cada request autenticado, desde los claims del access token JWT (sin password).
+ *
+ * Las authorities del token se compilan en un {@link AuthoritySet} la primera vez que se
+ * verifican; los permisos efectivos los resuelve {@link AuthorityIndex#authoritiesOf}
+ * con el modelo de autorización vigente.
+ *
+ * @author Vórtice Development Team
+ */
+@Getter
+public class AuthenticatedUser implements UserDetails, CredentialsContainer {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+    private final String username;
+    private final UUID officeId;
+    private final List<GrantedAuthority> authorities;
+    private final boolean enabled;
+    private final boolean accountNonLocked;
+
+    /**
+     * Identificador del access token (claim jti) con el que se autenticó el request.
+     * Es null cuando el principal proviene del login.
+     */
+    private final String tokenId;
+
+    /**
+     * Fecha de expiración del access token. Es null cuando el principal proviene del login.
+     */
+    private final Instant tokenExpiresAt;
+
+    private String password;
+
+    /**
+     * Authorities concedidas como bitset. No se serializa: los ordinales son propios de
+     * cada instancia del backend y se recalculan al deserializar.
+     */
+    @Getter(AccessLevel.NONE)
+    private transient volatile AuthoritySet grantedAuthoritySet;
+
+    public AuthenticatedUser(
+            Long id,
+            String username,
+            String password,
+            UUID officeId,
+            Collection<? extends GrantedAuthority> authorities,
+            boolean enabled,
+            boolean accountNonLocked) {
+        this(id, username, password, officeId, authorities, enabled, accountNonLocked, null, null);
+    }
+
+    private AuthenticatedUser(
+            Long id,
+            String username,
+            String password,
+            UUID officeId,
+            Collection<? extends GrantedAuthority> authorities,
+            boolean enabled,
+            boolean accountNonLocked,
+            String tokenId,
+            Instant tokenExpiresAt) {
+        this.id = id;
+        this.username = username;
+        this.password = password;
+        this.officeId = officeId;
+        this.authorities = List.copyOf(authorities);
+        this.enabled = enabled;
+        this.accountNonLocked = accountNonLocked;
+        this.tokenId = tokenId;
+        this.tokenExpiresAt = tokenExpiresAt;
+    }
+
+    /**
+     * Construye el principal a partir de los claims de un access token ya validado.
+     * Un token emitido solo se entrega a usuarios activos y no bloqueados;
+     * las desactivaciones posteriores se propagan mediante la revocación de tokens.
+     */
+    public static AuthenticatedUser fromToken(
+            Long id,
+            String username,
+            UUID officeId,
+            Collection<? extends GrantedAuthority> authorities,
+            String tokenId,
+            Instant tokenExpiresAt) {
+        return new AuthenticatedUser(id, username, null, officeId, authorities, true, true, tokenId, tokenExpiresAt);
+    }
+
+    /**
+     * Authorities concedidas (las del token o el login) como bitset del índice dado.
+     * Las verificaciones usan {@link AuthorityIndex#authoritiesOf}, que agrega los
+     * permisos del modelo vigente.
+     */
+    AuthoritySet grantedAuthoritySet(AuthorityIndex index) {
+        AuthoritySet set = grantedAuthoritySet;
+        if (set == null || !set.belongsTo(index)) {
+            set = index.setOf(authorities);
+            grantedAuthoritySet = set;
+        }
+        return set;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser{" +
+                "id=" + id +
+                ", username='" + username + '\'' +
+                ", officeId=" + officeId +
+                '}';
+    }
+}
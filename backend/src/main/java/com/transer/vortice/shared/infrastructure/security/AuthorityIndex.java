@@ -0,0 +1,256 @@
+package com.transer.vortice.shared.infrastructure.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice de authorities (roles con prefijo ROLE_ y permisos) a ordinales, y modelo de
+ * autorización compilado (permisos de cada rol) sobre esos ordinales.
+ *
+ * Cada authority recibe un ordinal fijo la primera vez que se registra y una única
+ * instancia de {@link GrantedAuthority}; con esos ordinales {@link AuthoritySet} resuelve
+ * cada verificación con una consulta al mapa y un test de bit. Los ordinales no se
+ * reutilizan ni cambian: los conjuntos ya construidos siguen siendo válidos cuando se
+ * agregan roles o permisos.
+ *
+ * Los permisos efectivos de un principal se calculan al verificar
+ * ({@link #authoritiesOf(AuthenticatedUser)}): los roles salen del token y los permisos
+ * del modelo cargado por AuthorizationModelService, de modo que un cambio en los permisos
+ * de un rol aplica en el siguiente request aunque el token se haya emitido antes.
+ *
+ * El índice es propio de cada instancia del backend: los ordinales no se persisten ni
+ * viajan en el token.
+ *
+ * @author Vórtice Development Team
+ */
+@Component
+public class AuthorityIndex {
+
+    public static final String ROLE_PREFIX = "ROLE_";
+
+    private final ConcurrentHashMap<String, Integer> ordinals = new ConcurrentHashMap<>();
+
+    /**
+     * Ordinal de cada rol por su nombre sin prefijo (solo roles ya registrados).
+     */
+    private final ConcurrentHashMap<String, Integer> roleOrdinals = new ConcurrentHashMap<>();
+
+    private final AuthoritySet empty = new AuthoritySet(this, new long[0]);
+
+    /**
+     * Instancia única de cada authority, por ordinal. Se reemplaza (copia) al registrar.
+     */
+    private volatile GrantedAuthority[] authorities = new GrantedAuthority[0];
+
+    /**
+     * Modelo de autorización vigente; null hasta la primera carga.
+     */
+    private volatile CompiledModel model;
+
+    /**
+     * Ordinal de una authority, registrándola si es nueva.
+     */
+    public int intern(String authority) {
+        Integer ordinal = ordinals.get(authority);
+        return ordinal != null ? ordinal : register(authority);
+    }
+
+    /**
+     * Registra varias authorities (las ya registradas conservan su ordinal).
+     *
+     * @return authorities registradas en total
+     */
+    public int internAll(Collection<String> names) {
+        names.forEach(this::intern);
+        return size();
+    }
+
+    /**
+     * Ordinal de una authority sin registrarla.
+     *
+     * @return ordinal, o -1 si nadie la tiene
+     */
+    public int ordinalOf(String authority) {
+        Integer ordinal = ordinals.get(authority);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * Ordinal de un rol por su nombre. Acepta el nombre con o sin el prefijo ROLE_, igual
+     * que hasRole de Spring Security.
+     *
+     * @return ordinal, o -1 si nadie tiene el rol
+     */
+    public int roleOrdinalOf(String roleName) {
+        Integer ordinal = roleOrdinals.get(roleName);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        int resolved = ordinalOf(roleName.startsWith(ROLE_PREFIX) ? roleName : ROLE_PREFIX + roleName);
+        if (resolved >= 0) {
+            roleOrdinals.put(roleName, resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * Ordinal de un rol por su nombre sin prefijo, registrándolo si es nuevo.
+     */
+    public int internRole(String roleName) {
+        Integer ordinal = roleOrdinals.get(roleName);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        int interned = intern(ROLE_PREFIX + roleName);
+        roleOrdinals.put(roleName, interned);
+        return interned;
+    }
+
+    /**
+     * Instancia única de la authority con el ordinal dado.
+     */
+    public GrantedAuthority authority(int ordinal) {
+        return authorities[ordinal];
+    }
+
+    /**
+     * Instancia única de una authority, registrándola si es nueva.
+     */
+    public GrantedAuthority authority(String authority) {
+        return authority(intern(authority));
+    }
+
+    /**
+     * Authorities registradas.
+     */
+    public int size() {
+        return authorities.length;
+    }
+
+    /**
+     * Construye el conjunto de las authorities dadas, registrando las nuevas.
+     */
+    public AuthoritySet setOf(Collection<? extends GrantedAuthority> granted) {
+        if (granted == null || granted.isEmpty()) {
+            return empty;
+        }
+        long[] words = new long[0];
+        for (GrantedAuthority authority : granted) {
+            if (authority.getAuthority() != null) {
+                words = set(words, intern(authority.getAuthority()));
+            }
+        }
+        return new AuthoritySet(this, words);
+    }
+
+    // =====================================================
+    // Modelo de autorización
+    // =====================================================
+
+    /**
+     * Reemplaza el modelo de autorización: permisos de cada rol, por nombre del rol sin
+     * prefijo. Los conjuntos efectivos calculados con el modelo anterior se descartan.
+     */
+    public void installModel(Map<String, ? extends Collection<String>> permissionsByRole) {
+        long[][] byRole = new long[0][];
+        for (Map.Entry<String, ? extends Collection<String>> role : permissionsByRole.entrySet()) {
+            int ordinal = internRole(role.getKey());
+            long[] words = new long[0];
+            for (String permission : role.getValue()) {
+                words = set(words, intern(permission));
+            }
+            if (ordinal >= byRole.length) {
+                byRole = Arrays.copyOf(byRole, ordinal + 1);
+            }
+            byRole[ordinal] = words;
+        }
+        model = new CompiledModel(byRole);
+    }
+
+    /**
+     * Verifica si ya se cargó el modelo de autorización.
+     */
+    public boolean isModelLoaded() {
+        return model != null;
+    }
+
+    /**
+     * Authorities efectivas del principal: sus roles (del token) más los permisos que el
+     * modelo vigente asigna a esos roles. Los permisos del token solo se usan mientras el
+     * modelo no se ha cargado.
+     */
+    public AuthoritySet authoritiesOf(AuthenticatedUser principal) {
+        AuthoritySet granted = principal.grantedAuthoritySet(this);
+        CompiledModel current = model;
+        return current != null ? current.effective(granted) : granted;
+    }
+
+    private synchronized int register(String authority) {
+        Integer existing = ordinals.get(authority);
+        if (existing != null) {
+            return existing;
+        }
+        int ordinal = authorities.length;
+        GrantedAuthority[] grown = Arrays.copyOf(authorities, ordinal + 1);
+        grown[ordinal] = new SimpleGrantedAuthority(authority);
+        // El arreglo se publica antes que el ordinal: quien lee el ordinal encuentra su instancia
+        authorities = grown;
+        ordinals.put(authority, ordinal);
+        return ordinal;
+    }
+
+    private static long[] set(long[] words, int ordinal) {
+        int word = ordinal >>> 6;
+        if (word >= words.length) {
+            words = Arrays.copyOf(words, word + 1);
+        }
+        words[word] |= 1L << ordinal;
+        return words;
+    }
+
+    /**
+     * Permisos de cada rol por ordinal del rol, y conjuntos efectivos ya calculados por
+     * conjunto concedido en el token. Hay tantas entradas como combinaciones distintas de
+     * authorities en los tokens vigentes; se descartan con el modelo.
+     */
+    private final class CompiledModel {
+
+        private final long[][] permissionsByRole;
+        private final ConcurrentHashMap<AuthoritySet, AuthoritySet> effective = new ConcurrentHashMap<>();
+
+        private CompiledModel(long[][] permissionsByRole) {
+            this.permissionsByRole = permissionsByRole;
+        }
+
+        AuthoritySet effective(AuthoritySet granted) {
+            return effective.computeIfAbsent(granted, this::compile);
+        }
+
+        private AuthoritySet compile(AuthoritySet granted) {
+            long[] words = new long[0];
+            GrantedAuthority[] registered = authorities;
+            for (int ordinal : granted.ordinals()) {
+                if (!registered[ordinal].getAuthority().startsWith(ROLE_PREFIX)) {
+                    continue;
+                }
+                words = set(words, ordinal);
+                long[] permissions = ordinal < permissionsByRole.length ? permissionsByRole[ordinal] : null;
+                if (permissions != null) {
+                    if (permissions.length > words.length) {
+                        words = Arrays.copyOf(words, permissions.length);
+                    }
+                    for (int word = 0; word < permissions.length; word++) {
+                        words[word] |= permissions[word];
+                    }
+                }
+            }
+            return new AuthoritySet(AuthorityIndex.this, words);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.transer.vortice.shared.infrastructure.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Conjunto inmutable de authorities de un principal, como bitset sobre los ordinales de
+ * un {@link AuthorityIndex}. Cada verificación es una consulta al índice y un test de bit,
+ * sin recorrer las authorities ni concatenar el prefijo ROLE_.
+ *
+ * Se construye con {@link AuthorityIndex#setOf} o, para los permisos efectivos de un
+ * principal, con {@link AuthorityIndex#authoritiesOf}.
+ *
+ * @author Vórtice Development Team
+ */
+public final class AuthoritySet {
+
+    private final AuthorityIndex index;
+    private final long[] words;
+
+    AuthoritySet(AuthorityIndex index, long[] words) {
+        this.index = index;
+        this.words = words;
+    }
+
+    /**
+     * Verifica si el conjunto contiene el ordinal (un ordinal negativo nunca está).
+     */
+    public boolean contains(int ordinal) {
+        if (ordinal < 0) {
+            return false;
+        }
+        int word = ordinal >>> 6;
+        return word < words.length && (words[word] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Verifica si el conjunto contiene la authority (permiso o rol con prefijo).
+     */
+    public boolean hasAuthority(String authority) {
+        return contains(index.ordinalOf(authority));
+    }
+
+    /**
+     * Verifica si el conjunto contiene alguna de las authorities.
+     */
+    public boolean hasAnyAuthority(String... authorities) {
+        for (String authority : authorities) {
+            if (hasAuthority(authority)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica si el conjunto contiene el rol (nombre con o sin prefijo ROLE_).
+     */
+    public boolean hasRole(String roleName) {
+        return contains(index.roleOrdinalOf(roleName));
+    }
+
+    /**
+     * Verifica si el conjunto contiene alguno de los roles.
+     */
+    public boolean hasAnyRole(String... roleNames) {
+        for (String roleName : roleNames) {
+            if (hasRole(roleName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Authorities del conjunto, en orden de ordinal (instancias únicas del índice).
+     */
+    public List<GrantedAuthority> toAuthorities() {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (int ordinal : ordinals()) {
+            authorities.add(index.authority(ordinal));
+        }
+        return authorities;
+    }
+
+    /**
+     * Ordinales del conjunto, en orden ascendente.
+     */
+    int[] ordinals() {
+        int[] ordinals = new int[Arrays.stream(words).mapToInt(Long::bitCount).sum()];
+        int next = 0;
+        for (int word = 0; word < words.length; word++) {
+            long bits = words[word];
+            while (bits != 0) {
+                ordinals[next++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return ordinals;
+    }
+
+    /**
+     * Verifica si el conjunto se construyó con el índice dado.
+     */
+    boolean belongsTo(AuthorityIndex other) {
+        return index == other;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AuthoritySet other)) return false;
+        return index == other.index && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+}
@@ -0,0 +1,40 @@
+package com.transer.vortice.shared.infrastructure.security;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
+import org.springframework.security.core.Authentication;
+
+import java.util.function.Supplier;
+
+/**
+ * Manejador de expresiones de seguridad de métodos que evalúa las verificaciones de rol
+ * y authority de @PreAuthorize/@PostAuthorize con el bitset del principal
+ * ({@link AuthoritySetSecurityExpressionRoot}). El contexto de evaluación (parámetros,
+ * resolución de beans, filtros y valor de retorno) es el estándar de Spring Security.
+ *
+ * No aplica una RoleHierarchy: si se configura una, las verificaciones deben volver a la
+ * raíz estándar.
+ *
+ * @author Vórtice Development Team
+ */
+public class AuthoritySetMethodSecurityExpressionHandler extends DefaultMethodSecurityExpressionHandler {
+
+    private final AuthorityIndex authorityIndex;
+
+    public AuthoritySetMethodSecurityExpressionHandler(AuthorityIndex authorityIndex) {
+        this.authorityIndex = authorityIndex;
+    }
+
+    @Override
+    public EvaluationContext createEvaluationContext(Supplier<Authentication> authentication, MethodInvocation mi) {
+        EvaluationContext context = super.createEvaluationContext(authentication, mi);
+        if (context instanceof StandardEvaluationContext standardContext
+                && standardContext.getRootObject().getValue() instanceof MethodSecurityExpressionOperations root) {
+            standardContext.setRootObject(new AuthoritySetSecurityExpressionRoot(root, authorityIndex));
+        }
+        return context;
+    }
+}
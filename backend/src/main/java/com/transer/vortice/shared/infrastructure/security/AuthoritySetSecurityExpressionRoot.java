@@ -0,0 +1,131 @@
+package com.transer.vortice.shared.infrastructure.security;
+
+import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
+import org.springframework.security.core.Authentication;
+
+/**
+ * Raíz de las expresiones de seguridad de métodos (@PreAuthorize) que resuelve hasRole,
+ * hasAnyRole, hasAuthority y hasAnyAuthority con el {@link AuthoritySet} del
+ * {@link AuthenticatedUser} ({@link AuthorityIndex#authoritiesOf}), en lugar de construir
+ * un conjunto de cadenas por invocación.
+ * Con cualquier otro principal, y para el resto de operaciones, delega en la raíz
+ * estándar de Spring Security.
+ *
+ * @author Vórtice Development Team
+ */
+class AuthoritySetSecurityExpressionRoot implements MethodSecurityExpressionOperations {
+
+    private final MethodSecurityExpressionOperations delegate;
+    private final AuthorityIndex authorityIndex;
+
+    AuthoritySetSecurityExpressionRoot(MethodSecurityExpressionOperations delegate, AuthorityIndex authorityIndex) {
+        this.delegate = delegate;
+        this.authorityIndex = authorityIndex;
+    }
+
+    @Override
+    public boolean hasAuthority(String authority) {
+        AuthoritySet authorities = authoritySet();
+        return authorities != null ? authorities.hasAuthority(authority) : delegate.hasAuthority(authority);
+    }
+
+    @Override
+    public boolean hasAnyAuthority(String... authorities) {
+        AuthoritySet authoritySet = authoritySet();
+        return authoritySet != null ? authoritySet.hasAnyAuthority(authorities) : delegate.hasAnyAuthority(authorities);
+    }
+
+    @Override
+    public boolean hasRole(String role) {
+        AuthoritySet authorities = authoritySet();
+        return authorities != null ? authorities.hasRole(role) : delegate.hasRole(role);
+    }
+
+    @Override
+    public boolean hasAnyRole(String... roles) {
+        AuthoritySet authorities = authoritySet();
+        return authorities != null ? authorities.hasAnyRole(roles) : delegate.hasAnyRole(roles);
+    }
+
+    private AuthoritySet authoritySet() {
+        Authentication authentication = delegate.getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return authorityIndex.authoritiesOf(principal);
+        }
+        return null;
+    }
+
+    // =====================================================
+    // Delegación
+    // =====================================================
+
+    @Override
+    public Authentication getAuthentication() {
+        return delegate.getAuthentication();
+    }
+
+    @Override
+    public boolean permitAll() {
+        return delegate.permitAll();
+    }
+
+    @Override
+    public boolean denyAll() {
+        return delegate.denyAll();
+    }
+
+    @Override
+    public boolean isAnonymous() {
+        return delegate.isAnonymous();
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return delegate.isAuthenticated();
+    }
+
+    @Override
+    public boolean isRememberMe() {
+        return delegate.isRememberMe();
+    }
+
+    @Override
+    public boolean isFullyAuthenticated() {
+        return delegate.isFullyAuthenticated();
+    }
+
+    @Override
+    public boolean hasPermission(Object target, Object permission) {
+        return delegate.hasPermission(target, permission);
+    }
+
+    @Override
+    public boolean hasPermission(Object targetId, String targetType, Object permission) {
+        return delegate.hasPermission(targetId, targetType, permission);
+    }
+
+    @Override
+    public void setFilterObject(Object filterObject) {
+        delegate.setFilterObject(filterObject);
+    }
+
+    @Override
+    public Object getFilterObject() {
+        return delegate.getFilterObject();
+    }
+
+    @Override
+    public void setReturnObject(Object returnObject) {
+        delegate.setReturnObject(returnObject);
+    }
+
+    @Override
+    public Object getReturnObject() {
+        return delegate.getReturnObject();
+    }
+
+    @Override
+    public Object getThis() {
+        return delegate.getThis();
+    }
+}
@@ -1,11 +1,13 @@
 package com.transer.vortice.shared.infrastructure.security.jwt;
 
+import com.transer.vortice.shared.infrastructure.security.AuthenticatedUser;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,6 +24,11 @@ import java.io.IOException;
  * Intercepta cada request, extrae el token JWT del header Authorization,
  * lo valida y configura el contexto de seguridad de Spring.
  *
+ * En modo stateless (vortice.jwt.stateless-auth=true, por defecto) el principal se
+ * construye únicamente desde los claims del token, sin consultar la base de datos.
+ * Los tokens emitidos antes de que existieran los claims uid/perms se resuelven
+ * cargando el usuario con el UserDetailsService.
+ *
  * @author Vórtice Development Team
  */
 @Slf4j
@@ -30,8 +37,12 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtRevocationService jwtRevocationService;
     private final UserDetailsService userDetailsService;
 
+    @Value("${vortice.jwt.stateless-auth:true}")
+    private boolean statelessAuth;
+
     /**
      * Procesa cada request para validar el token JWT.
      */
@@ -45,29 +56,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // Extraer token JWT del header
             String jwt = extractJwtFromRequest(request);
 
-            // Si hay token y es válido, configurar autenticación
-            if (jwt != null && jwtTokenProvider.validateToken(jwt)) {
-                String username = jwtTokenProvider.getUsernameFromToken(jwt);
-
-                // Cargar detalles del usuario
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-                // Crear authentication token
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
-
-                authentication.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
-
-                // Configurar en el contexto de seguridad
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                log.debug("Usuario autenticado: {} - URI: {}", username, request.getRequestURI());
+            // Verificar y extraer claims en una sola pasada
+            JwtClaims claims = jwt != null ? jwtTokenProvider.parseToken(jwt).orElse(null) : null;
+
+            if (claims != null) {
+                if (jwtRevocationService.isRevoked(claims.tokenId(), claims.userId(), claims.issuedAt())) {
+                    log.debug("Token JWT revocado - URI: {}", request.getRequestURI());
+                } else {
+                    UserDetails userDetails = statelessAuth && claims.userId() != null
+                            ? buildPrincipalFromClaims(claims)
+                            : userDetailsService.loadUserByUsername(claims.subject());
+
+                    // Crear authentication token
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(
+                                    userDetails,
+                                    null,
+                                    userDetails.getAuthorities()
+                            );
+
+                    authentication.setDetails(
+                            new WebAuthenticationDetailsSource().buildDetails(request)
+                    );
+
+                    // Configurar en el contexto de seguridad
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+
+                    log.debug("Usuario autenticado: {} - URI: {}", claims.subject(), request.getRequestURI());
+                }
             }
 
         } catch (Exception e) {
@@ -79,13 +95,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Construye el principal del usuario a partir de los claims del token.
+     *
+     * @param claims claims del access token ya validado
+     * @return principal autenticado
+     */
+    private AuthenticatedUser buildPrincipalFromClaims(JwtClaims claims) {
+        return AuthenticatedUser.fromToken(
+                claims.userId(),
+                claims.subject(),
+                claims.officeId(),
+                claims.authorities(),
+                claims.tokenId(),
+                claims.expiresAt()
+        );
+    }
+
     /**
      * Extrae el token JWT del header Authorization.
      *
      * @param request HTTP request
      * @return token JWT o null si no está presente
      */
-    private String extractJwtFromRequest(HttpServletRequest request) {
+    public static String extractJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
 
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
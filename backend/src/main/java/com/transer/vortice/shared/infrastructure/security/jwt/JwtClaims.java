@@ -0,0 +1,35 @@
+package com.transer.vortice.shared.infrastructure.security.jwt;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Claims de un access token JWT ya verificado.
+ *
+ * Se obtiene en una sola pasada (verificación de firma + lectura de claims) con
+ * {@link JwtTokenProvider#parseToken(String)}. Es inmutable, por lo que la misma
+ * instancia se reutiliza desde la caché de tokens verificados.
+ *
+ * @param tokenId claim jti (null en tokens antiguos)
+ * @param subject username del usuario
+ * @param userId claim uid (null en tokens antiguos)
+ * @param officeId claim oid
+ * @param authorities roles (ROLE_*) y permisos del token
+ * @param issuedAt fecha de emisión
+ * @param expiresAt fecha de expiración
+ *
+ * @author Vórtice Development Team
+ */
+public record JwtClaims(
+        String tokenId,
+        String subject,
+        Long userId,
+        UUID officeId,
+        List<GrantedAuthority> authorities,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,208 @@
+package com.transer.vortice.shared.infrastructure.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.transer.vortice.shared.infrastructure.config.JwtRevocationProperties;
+import com.transer.vortice.shared.infrastructure.security.jwt.JwtRevocationStore.Revocation;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Lista de revocación para access tokens JWT.
+ *
+ * Permite invalidar tokens antes de su expiración sin consultar la base de datos
+ * en cada request. Soporta dos tipos de revocación:
+ * - Por token (claim jti): usado en logout.
+ * - Por usuario: invalida todos los tokens emitidos hasta un instante
+ *   (cambio/reset de contraseña, bloqueo o desactivación de la cuenta, cambio de
+ *   roles u oficina).
+ *
+ * Cada revocación se guarda en jwt_revocations ({@link JwtRevocationStore}) y en la
+ * caché local. Cada réplica carga las vigentes al arrancar y lee cada
+ * {@code poll-interval-ms} las registradas por las demás, de modo que una revocación
+ * se aplica en todos los nodos con ese retraso máximo. La verificación de cada request
+ * solo consulta la caché.
+ *
+ * Las entradas expiran automáticamente tras la vida útil del access token,
+ * porque pasado ese tiempo el token ya es rechazado por su propia expiración.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Component
+public class JwtRevocationService {
+
+    private final JwtRevocationStore store;
+    private final JwtRevocationProperties properties;
+    private final Duration tokenLifetime;
+    private final Clock clock;
+
+    private final Cache<String, Boolean> revokedTokenIds;
+    private final Cache<Long, Instant> revokedUsers;
+
+    /**
+     * Inicio de la última lectura de jwt_revocations; null hasta la carga inicial.
+     */
+    private volatile Instant lastSyncStartedAt;
+
+    public JwtRevocationService(
+            JwtRevocationStore store,
+            JwtRevocationProperties properties,
+            @Value("${vortice.jwt.expiration}") long jwtExpiration) {
+        this(store, properties, jwtExpiration, Clock.systemUTC());
+    }
+
+    JwtRevocationService(JwtRevocationStore store, JwtRevocationProperties properties,
+                         long jwtExpiration, Clock clock) {
+        this.store = store;
+        this.properties = properties;
+        this.tokenLifetime = Duration.ofMillis(jwtExpiration);
+        this.clock = clock;
+        this.revokedTokenIds = Caffeine.newBuilder()
+                .expireAfterWrite(tokenLifetime)
+                .maximumSize(properties.getMaxEntries())
+                .build();
+        this.revokedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(tokenLifetime)
+                .maximumSize(properties.getMaxEntries())
+                .build();
+    }
+
+    /**
+     * Carga las revocaciones vigentes antes de que la instancia atienda requests.
+     * Si falla, la siguiente sincronización programada reintenta la carga completa.
+     */
+    @PostConstruct
+    void loadOnStartup() {
+        try {
+            synchronize();
+        } catch (RuntimeException e) {
+            log.error("Error cargando las revocaciones de access tokens", e);
+        }
+    }
+
+    /**
+     * Revoca un access token específico.
+     *
+     * @param tokenId claim jti del token
+     * @param expiresAt expiración del token (null: la vida útil completa desde ahora)
+     */
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        if (tokenId == null) {
+            return;
+        }
+        Instant now = now();
+        revokedTokenIds.put(tokenId, Boolean.TRUE);
+        store.insertToken(tokenId, now, expiresAt != null ? expiresAt : now.plus(tokenLifetime));
+        log.debug("Access token revocado (jti: {})", tokenId);
+    }
+
+    /**
+     * Revoca todos los access tokens emitidos hasta ahora para un usuario.
+     * Los tokens emitidos en un segundo posterior siguen siendo válidos.
+     *
+     * @param userId ID del usuario
+     */
+    public void revokeAllForUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        Instant now = now();
+        revokedUsers.asMap().merge(userId, now, JwtRevocationService::latest);
+        store.insertUser(userId, now, now.plus(tokenLifetime));
+        log.info("Access tokens revocados para usuario ID: {}", userId);
+    }
+
+    /**
+     * Verifica si un token está revocado.
+     *
+     * El claim iat tiene precisión de segundos (truncado): un token emitido en el mismo
+     * segundo que la revocación, antes o después de ella, se considera revocado.
+     *
+     * @param tokenId claim jti del token (puede ser null en tokens antiguos)
+     * @param userId ID del usuario propietario
+     * @param issuedAt fecha de emisión del token
+     * @return true si el token fue revocado
+     */
+    public boolean isRevoked(String tokenId, Long userId, Instant issuedAt) {
+        if (tokenId != null && revokedTokenIds.getIfPresent(tokenId) != null) {
+            return true;
+        }
+        if (userId == null) {
+            return false;
+        }
+        Instant revokedAt = revokedUsers.getIfPresent(userId);
+        return revokedAt != null && (issuedAt == null || !issuedAt.isAfter(revokedAt));
+    }
+
+    /**
+     * Lee las revocaciones registradas por las demás réplicas según el intervalo configurado.
+     */
+    @Scheduled(fixedDelayString = "${vortice.jwt.revocation.poll-interval-ms:2000}")
+    public void scheduledSynchronize() {
+        try {
+            synchronize();
+        } catch (RuntimeException e) {
+            log.error("Error sincronizando las revocaciones de access tokens; se reintenta en el siguiente ciclo", e);
+        }
+    }
+
+    /**
+     * Aplica a la caché local las revocaciones de jwt_revocations: todas las vigentes en
+     * la primera lectura y, en las siguientes, las registradas desde la lectura anterior
+     * menos {@code poll-lookback-ms}. Aplicar una revocación dos veces no tiene efecto.
+     *
+     * @return revocaciones leídas
+     */
+    public int synchronize() {
+        Instant startedAt = now();
+        Instant previous = lastSyncStartedAt;
+        List<Revocation> revocations = previous == null
+                ? store.findActive()
+                : store.findRecordedSince(previous.minusMillis(properties.getPollLookbackMs()));
+        revocations.forEach(this::apply);
+        lastSyncStartedAt = startedAt;
+        if (previous == null) {
+            log.info("Revocaciones de access tokens cargadas: {}", revocations.size());
+        }
+        return revocations.size();
+    }
+
+    /**
+     * Elimina de jwt_revocations las revocaciones de tokens ya expirados.
+     */
+    @Scheduled(cron = "${vortice.jwt.revocation.cleanup-cron:0 15 2 * * *}")
+    public void cleanupExpired() {
+        int deleted = store.deleteExpired();
+        log.info("Revocaciones de access tokens vencidas eliminadas: {}", deleted);
+    }
+
+    private void apply(Revocation revocation) {
+        if (revocation.tokenId() != null) {
+            revokedTokenIds.put(revocation.tokenId(), Boolean.TRUE);
+        } else if (revocation.userId() != null) {
+            revokedUsers.asMap().merge(revocation.userId(), revocation.revokedAt(), JwtRevocationService::latest);
+        }
+    }
+
+    /**
+     * Instante actual con la precisión de PostgreSQL, para que la caché local y la fila
+     * guardada comparen igual.
+     */
+    private Instant now() {
+        return clock.instant().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
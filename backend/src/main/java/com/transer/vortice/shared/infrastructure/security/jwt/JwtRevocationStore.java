@@ -0,0 +1,105 @@
+package com.transer.vortice.shared.infrastructure.security.jwt;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Acceso JDBC a jwt_revocations (V3.15.0), la lista de revocación compartida por las
+ * réplicas. Cada método es una sentencia: dentro de una transacción (reset o cambio de
+ * contraseña) la revocación se confirma junto con el cambio que la origina.
+ *
+ * @author Vórtice Development Team
+ */
+@Repository
+@RequiredArgsConstructor
+public class JwtRevocationStore {
+
+    static final String INSERT_TOKEN_SQL = """
+            INSERT INTO jwt_revocations (token_id, revoked_at, expires_at)
+            VALUES (?, ?, ?)
+            """;
+
+    static final String INSERT_USER_SQL = """
+            INSERT INTO jwt_revocations (user_id, revoked_at, expires_at)
+            VALUES (?, ?, ?)
+            """;
+
+    static final String FIND_ACTIVE_SQL = """
+            SELECT token_id, user_id, revoked_at, expires_at
+            FROM jwt_revocations
+            WHERE expires_at > CURRENT_TIMESTAMP
+            """;
+
+    static final String FIND_RECORDED_SINCE_SQL = """
+            SELECT token_id, user_id, revoked_at, expires_at
+            FROM jwt_revocations
+            WHERE recorded_at >= ? AND expires_at > CURRENT_TIMESTAMP
+            """;
+
+    static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM jwt_revocations
+            WHERE expires_at < CURRENT_TIMESTAMP
+            """;
+
+    private static final RowMapper<Revocation> ROW_MAPPER = (rs, rowNum) -> new Revocation(
+            rs.getString("token_id"),
+            (Long) rs.getObject("user_id"),
+            rs.getTimestamp("revoked_at").toInstant(),
+            rs.getTimestamp("expires_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Guarda la revocación de un token.
+     *
+     * @param tokenId claim jti del token
+     * @param expiresAt expiración del token (luego la revocación ya no hace falta)
+     */
+    public void insertToken(String tokenId, Instant revokedAt, Instant expiresAt) {
+        jdbcTemplate.update(INSERT_TOKEN_SQL, tokenId, Timestamp.from(revokedAt), Timestamp.from(expiresAt));
+    }
+
+    /**
+     * Guarda la revocación de los tokens de un usuario emitidos hasta revokedAt.
+     *
+     * @param expiresAt expiración del último token que pudo emitirse antes de revokedAt
+     */
+    public void insertUser(long userId, Instant revokedAt, Instant expiresAt) {
+        jdbcTemplate.update(INSERT_USER_SQL, userId, Timestamp.from(revokedAt), Timestamp.from(expiresAt));
+    }
+
+    /**
+     * Revocaciones vigentes, para la carga inicial de la caché.
+     */
+    public List<Revocation> findActive() {
+        return jdbcTemplate.query(FIND_ACTIVE_SQL, ROW_MAPPER);
+    }
+
+    /**
+     * Revocaciones vigentes registradas desde el instante dado.
+     */
+    public List<Revocation> findRecordedSince(Instant since) {
+        return jdbcTemplate.query(FIND_RECORDED_SINCE_SQL, ROW_MAPPER, Timestamp.from(since));
+    }
+
+    /**
+     * Elimina las revocaciones de tokens ya expirados.
+     *
+     * @return filas eliminadas
+     */
+    public int deleteExpired() {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL);
+    }
+
+    /**
+     * Revocación guardada: de un token (tokenId) o de un usuario (userId).
+     */
+    public record Revocation(String tokenId, Long userId, Instant revokedAt, Instant expiresAt) {
+    }
+}
@@ -1,16 +1,31 @@
 package com.transer.vortice.shared.infrastructure.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.transer.vortice.shared.infrastructure.security.AuthenticatedUser;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -21,38 +36,86 @@ import java.util.stream.Collectors;
 @Component
 public class JwtTokenProvider {
 
+    /**
+     * Claims del access token.
+     * roles: authorities de rol (ROLE_*) separadas por coma.
+     * perms: permisos individuales separados por coma.
+     * uid / oid: ID del usuario y de su oficina.
+     */
+    public static final String CLAIM_ROLES = "roles";
+    public static final String CLAIM_PERMISSIONS = "perms";
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_OFFICE_ID = "oid";
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
     private final SecretKey secretKey;
     private final long jwtExpiration;
     private final long refreshExpiration;
 
+    /**
+     * Parser inmutable y thread-safe, construido una sola vez.
+     */
+    private final JwtParser jwtParser;
+
+    /**
+     * Tokens ya verificados: hash del token -> claims. Cada entrada expira con su token.
+     */
+    private final Cache<String, JwtClaims> verifiedTokens;
+
     public JwtTokenProvider(
             @Value("${vortice.jwt.secret}") String secret,
             @Value("${vortice.jwt.expiration}") long jwtExpiration,
-            @Value("${vortice.jwt.refresh-expiration}") long refreshExpiration) {
+            @Value("${vortice.jwt.refresh-expiration}") long refreshExpiration,
+            @Value("${vortice.jwt.verified-cache-size:10000}") long verifiedCacheSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.jwtExpiration = jwtExpiration;
         this.refreshExpiration = refreshExpiration;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
     /**
-     * Genera un token de acceso JWT
+     * Genera un token de acceso JWT.
+     * Si el principal es un {@link AuthenticatedUser}, el token incluye el ID del usuario,
+     * su oficina, roles y permisos, de modo que el filtro JWT pueda reconstruir el principal
+     * sin consultar la base de datos.
      */
     public String generateToken(Authentication authentication) {
         String username = authentication.getName();
-        String authorities = authentication.getAuthorities().stream()
+        String roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith(ROLE_PREFIX))
+                .collect(Collectors.joining(","));
+        String permissions = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
+                .filter(authority -> !authority.startsWith(ROLE_PREFIX))
                 .collect(Collectors.joining(","));
 
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
-                .claim("roles", authorities)
+                .claim(CLAIM_ROLES, roles)
+                .claim(CLAIM_PERMISSIONS, permissions)
                 .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(secretKey)
-                .compact();
+                .expiration(expiryDate);
+
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            builder.claim(CLAIM_USER_ID, principal.getId());
+            if (principal.getOfficeId() != null) {
+                builder.claim(CLAIM_OFFICE_ID, principal.getOfficeId().toString());
+            }
+        }
+
+        return builder.signWith(secretKey).compact();
     }
 
     /**
@@ -71,30 +134,63 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * Verifica el token y extrae sus claims en una sola pasada.
+     * Los tokens ya verificados se sirven desde una caché acotada (clave: hash SHA-256
+     * del token) hasta su expiración, evitando repetir la verificación de la firma
+     * para clientes que envían el mismo token en cada request.
+     *
+     * @param token access token JWT
+     * @return claims del token, o vacío si el token es inválido o expiró
+     */
+    public Optional<JwtClaims> parseToken(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+
+        String tokenHash = hash(token);
+        JwtClaims cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        JwtClaims claims = verifyAndExtract(token);
+        if (claims != null && claims.expiresAt() != null) {
+            verifiedTokens.put(tokenHash, claims);
+        }
+        return Optional.ofNullable(claims);
+    }
+
     /**
      * Extrae el username del token
      */
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return getClaimsFromToken(token).getSubject();
+    }
 
-        return claims.getSubject();
+    /**
+     * Extrae todos los claims del token
+     */
+    public Claims getClaimsFromToken(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     /**
      * Valida el token JWT
      */
     public boolean validateToken(String token) {
+        return parseToken(token).isPresent();
+    }
+
+    /**
+     * Verifica la firma del token y construye sus claims, sin pasar por la caché.
+     *
+     * @return claims del token o null si es inválido
+     */
+    JwtClaims verifyAndExtract(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (SecurityException ex) {
+            return toJwtClaims(jwtParser.parseSignedClaims(token).getPayload());
+        } catch (io.jsonwebtoken.security.SecurityException ex) {
             log.error("Firma JWT inválida");
         } catch (MalformedJwtException ex) {
             log.error("Token JWT inválido");
@@ -105,6 +201,75 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string está vacío");
         }
-        return false;
+        return null;
+    }
+
+    private JwtClaims toJwtClaims(Claims claims) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        addAuthorities(authorities, claims.get(CLAIM_ROLES, String.class));
+        addAuthorities(authorities, claims.get(CLAIM_PERMISSIONS, String.class));
+
+        String officeId = claims.get(CLAIM_OFFICE_ID, String.class);
+
+        return new JwtClaims(
+                claims.getId(),
+                claims.getSubject(),
+                claims.get(CLAIM_USER_ID, Long.class),
+                officeId != null ? UUID.fromString(officeId) : null,
+                List.copyOf(authorities),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration())
+        );
+    }
+
+    /**
+     * Agrega las authorities de un claim separado por comas.
+     */
+    private static void addAuthorities(List<GrantedAuthority> authorities, String claimValue) {
+        if (!StringUtils.hasText(claimValue)) {
+            return;
+        }
+        for (String authority : StringUtils.commaDelimitedListToStringArray(claimValue)) {
+            authorities.add(new SimpleGrantedAuthority(authority));
+        }
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+
+    /**
+     * Hash SHA-256 del token, usado como clave de la caché para no retener el token completo.
+     */
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    /**
+     * Expira cada entrada de la caché en el instante de expiración de su token.
+     */
+    private static final class TokenExpiry implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims value, long currentTime) {
+            long remainingMillis = value.expiresAt().toEpochMilli() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
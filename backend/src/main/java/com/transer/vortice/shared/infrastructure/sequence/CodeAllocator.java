@@ -0,0 +1,142 @@
+package com.transer.vortice.shared.infrastructure.sequence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Asignador de códigos de negocio respaldado por secuencias de PostgreSQL.
+ *
+ * Usa pre-asignación por bloques (hi/lo): cada llamada a nextval() reserva un bloque
+ * de tantos números como el INCREMENT BY de la secuencia, y los números del bloque se
+ * entregan desde memoria sin volver a la base de datos. Las secuencias de PostgreSQL
+ * son atómicas y no transaccionales, así que dos creaciones concurrentes (en el mismo
+ * nodo o en réplicas distintas) nunca reciben el mismo código.
+ *
+ * Consecuencias de la pre-asignación:
+ * - Los números no usados de un bloque se pierden al reiniciar la aplicación (huecos).
+ * - Con varias réplicas, cada una consume su propio bloque: los códigos son únicos
+ *   pero no estrictamente crecientes en el tiempo.
+ * - Un rollback de la transacción que usó el código no lo devuelve a la secuencia.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CodeAllocator {
+
+    private static final String NEXTVAL_SQL = "SELECT nextval(?::regclass)";
+
+    private static final String INCREMENT_SQL =
+            "SELECT increment_by FROM pg_sequences WHERE schemaname = ? AND sequencename = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Bloque vigente por secuencia.
+     */
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    /**
+     * Asigna el siguiente número de la secuencia.
+     *
+     * @param sequence secuencia de códigos
+     * @return número único
+     */
+    public long nextValue(CodeSequence sequence) {
+        return blockFor(sequence).next();
+    }
+
+    /**
+     * Asigna el siguiente código formateado de la secuencia.
+     *
+     * @param sequence secuencia de códigos
+     * @return código único (ej: FT-000042)
+     */
+    public String nextCode(CodeSequence sequence) {
+        String code = sequence.format(nextValue(sequence));
+        log.debug("Código asignado de {}: {}", sequence.sequenceName(), code);
+        return code;
+    }
+
+    /**
+     * Asigna varios códigos de la secuencia, para creaciones masivas.
+     *
+     * @param sequence secuencia de códigos
+     * @param count cantidad de códigos
+     * @return códigos únicos en orden de asignación
+     */
+    public List<String> nextCodes(CodeSequence sequence, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("La cantidad de códigos no puede ser negativa: " + count);
+        }
+        Block block = blockFor(sequence);
+        List<String> codes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            codes.add(sequence.format(block.next()));
+        }
+        return codes;
+    }
+
+    private Block blockFor(CodeSequence sequence) {
+        return blocks.computeIfAbsent(sequence.sequenceName(), name -> new Block(sequence));
+    }
+
+    /**
+     * Rango [next, limit) de números reservados de una secuencia.
+     * Se usa un ReentrantLock (y no synchronized) para no fijar hilos virtuales
+     * al hilo portador durante el round-trip de nextval().
+     */
+    private final class Block {
+
+        private final CodeSequence sequence;
+        private final ReentrantLock lock = new ReentrantLock();
+        private long incrementBy;
+        private long next;
+        private long limit;
+
+        private Block(CodeSequence sequence) {
+            this.sequence = sequence;
+        }
+
+        long next() {
+            lock.lock();
+            try {
+                if (next >= limit) {
+                    refill();
+                }
+                return next++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void refill() {
+            if (incrementBy == 0) {
+                Long increment = jdbcTemplate.queryForObject(
+                        INCREMENT_SQL, Long.class, sequence.schema(), sequence.simpleName());
+                if (increment == null || increment < 1) {
+                    throw new IllegalStateException(
+                            "La secuencia " + sequence.sequenceName() + " debe tener un INCREMENT BY positivo");
+                }
+                incrementBy = increment;
+            }
+
+            Long start = jdbcTemplate.queryForObject(NEXTVAL_SQL, Long.class, sequence.sequenceName());
+            if (start == null) {
+                throw new IllegalStateException("nextval() no retornó valor para " + sequence.sequenceName());
+            }
+            next = start;
+            limit = start + incrementBy;
+            log.debug("Bloque reservado de {}: [{}, {})", sequence.sequenceName(), next, limit);
+        }
+    }
+}
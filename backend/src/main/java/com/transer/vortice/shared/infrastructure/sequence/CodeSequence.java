@@ -0,0 +1,67 @@
+package com.transer.vortice.shared.infrastructure.sequence;
+
+import java.util.Objects;
+
+/**
+ * Definición de una secuencia de códigos de negocio respaldada por una secuencia de PostgreSQL.
+ *
+ * El código se forma con el prefijo, un guión y el número con relleno de ceros
+ * (ej: prefijo "FT" y 6 dígitos: FT-000042). Si el número supera el ancho configurado
+ * se usan todos sus dígitos.
+ *
+ * El tamaño de bloque (hi/lo) no se define aquí: es el INCREMENT BY de la secuencia
+ * en la base de datos.
+ *
+ * @param prefix prefijo del código (vacío para códigos solo numéricos)
+ * @param sequenceName nombre calificado de la secuencia (esquema.secuencia)
+ * @param digits ancho mínimo de la parte numérica
+ *
+ * @author Vórtice Development Team
+ */
+public record CodeSequence(String prefix, String sequenceName, int digits) {
+
+    private static final String SEPARATOR = "-";
+
+    public CodeSequence {
+        Objects.requireNonNull(prefix, "El prefijo no puede ser null");
+        Objects.requireNonNull(sequenceName, "El nombre de la secuencia no puede ser null");
+        if (sequenceName.indexOf('.') < 0) {
+            throw new IllegalArgumentException("La secuencia debe incluir el esquema: " + sequenceName);
+        }
+        if (digits < 1 || digits > 19) {
+            throw new IllegalArgumentException("El número de dígitos debe estar entre 1 y 19: " + digits);
+        }
+    }
+
+    /**
+     * Formatea un número de la secuencia como código.
+     *
+     * @param number número asignado por la secuencia
+     * @return código formateado (ej: FT-000042)
+     */
+    public String format(long number) {
+        String digitsText = Long.toString(number);
+        StringBuilder code = new StringBuilder(prefix.length() + SEPARATOR.length() + Math.max(digits, digitsText.length()));
+        if (!prefix.isEmpty()) {
+            code.append(prefix).append(SEPARATOR);
+        }
+        for (int i = digitsText.length(); i < digits; i++) {
+            code.append('0');
+        }
+        return code.append(digitsText).toString();
+    }
+
+    /**
+     * Esquema de la secuencia.
+     */
+    String schema() {
+        return sequenceName.substring(0, sequenceName.indexOf('.'));
+    }
+
+    /**
+     * Nombre de la secuencia sin esquema.
+     */
+    String simpleName() {
+        return sequenceName.substring(sequenceName.indexOf('.') + 1);
+    }
+}
@@ -0,0 +1,28 @@
+package com.transer.vortice.tire.application.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de request para recibir en un solo envío los tickets acumulados por un terminal móvil
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovementLogBatchRequest {
+
+    public static final int MAX_TICKETS = 1000;
+
+    @NotEmpty(message = "El envío debe contener al menos un ticket")
+    @Size(max = MAX_TICKETS, message = "El envío supera el máximo de tickets permitidos")
+    @Valid
+    private List<MovementLogTicketRequest> tickets;
+}
@@ -0,0 +1,38 @@
+package com.transer.vortice.tire.application.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de request para un ticket de movimientos enviado por un terminal móvil
+ * (formato TMPLOGMOV: @P[Origen]@P[Destino]@[LLANTA]@[GRUPO]@[PI]@[PC]@[PD]@[PRESION]@[OBS]@[TIPO];)
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovementLogTicketRequest {
+
+    @NotNull(message = "El número de ticket es obligatorio")
+    @Positive(message = "El número de ticket debe ser positivo")
+    private Long ticket;
+
+    @NotBlank(message = "La placa es obligatoria")
+    @Size(max = 10, message = "La placa no puede exceder 10 caracteres")
+    private String licensePlate;
+
+    @NotNull(message = "El kilometraje del vehículo es obligatorio")
+    @Min(value = 0, message = "El kilometraje debe ser mayor o igual a 0")
+    private Integer mileage;
+
+    @NotBlank(message = "El log de movimientos es obligatorio")
+    @Size(max = 4000, message = "El log de movimientos no puede exceder 4000 caracteres")
+    private String movementLog;
+}
@@ -0,0 +1,39 @@
+package com.transer.vortice.tire.application.dto.request;
+
+import com.transer.vortice.tire.domain.model.lifecycle.TireLifecycleStateMachine;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO de request para registrar los movimientos de llantas de un vehículo en un solo lote
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TireMovementBatchRequest {
+
+    @NotNull(message = "El kilometraje del vehículo es obligatorio")
+    @Min(value = 0, message = "El kilometraje debe ser mayor o igual a 0")
+    private Integer mileage;
+
+    @NotNull(message = "La fecha de los movimientos es obligatoria")
+    @PastOrPresent(message = "La fecha de los movimientos no puede ser futura")
+    private LocalDate movementDate;
+
+    @NotEmpty(message = "El lote debe contener al menos un movimiento")
+    @Size(max = TireLifecycleStateMachine.MAX_MOVEMENTS, message = "El lote supera el máximo de movimientos permitidos")
+    @Valid
+    private List<TireMovementRequest> movements;
+}
@@ -0,0 +1,39 @@
+package com.transer.vortice.tire.application.dto.request;
+
+import com.transer.vortice.tire.domain.model.lifecycle.TireMovementType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * DTO de request para un movimiento de llanta dentro de un lote
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TireMovementRequest {
+
+    @NotNull(message = "El tipo de movimiento es obligatorio")
+    private TireMovementType type;
+
+    @NotBlank(message = "El número de llanta es obligatorio")
+    @Size(max = 20, message = "El número de llanta no puede superar los 20 caracteres")
+    private String tireNumber;
+
+    // Obligatoria en MOUNT y ROTATE (se valida contra la clase del vehículo)
+    @Min(value = 1, message = "La posición debe ser mayor o igual a 1")
+    @Max(value = 32, message = "La posición debe ser menor o igual a 32")
+    private Short position;
+
+    // Solo DISMOUNT
+    private UUID removalReasonId;
+}
@@ -0,0 +1,53 @@
+package com.transer.vortice.tire.application.dto.request;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO de request para el muestreo de una llanta (profundidades en mm y presión en PSI)
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TireSampleRequest {
+
+    @NotBlank(message = "El número de llanta es obligatorio")
+    @Size(max = 20, message = "El número de llanta no puede superar los 20 caracteres")
+    private String tireNumber;
+
+    @NotNull(message = "La profundidad interna es obligatoria")
+    @DecimalMin(value = "0.0", message = "La profundidad interna debe ser mayor o igual a 0")
+    @DecimalMax(value = "99.9", message = "La profundidad interna debe ser menor a 100")
+    @Digits(integer = 2, fraction = 1, message = "La profundidad interna admite un decimal")
+    private BigDecimal depthInternalMm;
+
+    @NotNull(message = "La profundidad central es obligatoria")
+    @DecimalMin(value = "0.0", message = "La profundidad central debe ser mayor o igual a 0")
+    @DecimalMax(value = "99.9", message = "La profundidad central debe ser menor a 100")
+    @Digits(integer = 2, fraction = 1, message = "La profundidad central admite un decimal")
+    private BigDecimal depthCentralMm;
+
+    @NotNull(message = "La profundidad externa es obligatoria")
+    @DecimalMin(value = "0.0", message = "La profundidad externa debe ser mayor o igual a 0")
+    @DecimalMax(value = "99.9", message = "La profundidad externa debe ser menor a 100")
+    @Digits(integer = 2, fraction = 1, message = "La profundidad externa admite un decimal")
+    private BigDecimal depthExternalMm;
+
+    @NotNull(message = "La presión es obligatoria")
+    @Min(value = 0, message = "La presión debe ser mayor o igual a 0")
+    @Max(value = 200, message = "La presión debe ser menor o igual a 200")
+    private Integer pressurePsi;
+}
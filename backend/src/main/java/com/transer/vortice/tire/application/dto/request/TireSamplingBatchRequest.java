@@ -0,0 +1,27 @@
+package com.transer.vortice.tire.application.dto.request;
+
+import com.transer.vortice.tire.domain.model.sampling.SamplingValidator;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de request para registrar en un solo envío los muestreos de una ruta de vehículos
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TireSamplingBatchRequest {
+
+    @NotEmpty(message = "El envío debe contener al menos un vehículo")
+    @Size(max = SamplingValidator.MAX_VEHICLES, message = "El envío supera el máximo de vehículos permitidos")
+    @Valid
+    private List<VehicleSamplingRequest> vehicles;
+}
@@ -0,0 +1,43 @@
+package com.transer.vortice.tire.application.dto.request;
+
+import com.transer.vortice.tire.domain.model.sampling.SamplingValidator;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de request para los muestreos de las llantas de un vehículo
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehicleSamplingRequest {
+
+    @NotNull(message = "El vehículo es obligatorio")
+    private UUID vehicleId;
+
+    @NotNull(message = "El kilometraje del vehículo es obligatorio")
+    @Min(value = 0, message = "El kilometraje debe ser mayor o igual a 0")
+    private Integer mileage;
+
+    @NotNull(message = "La fecha de muestreo es obligatoria")
+    @PastOrPresent(message = "La fecha de muestreo no puede ser futura")
+    private LocalDate samplingDate;
+
+    @NotEmpty(message = "El vehículo debe tener al menos una llanta muestreada")
+    @Size(max = SamplingValidator.MAX_SAMPLES_PER_VEHICLE, message = "El vehículo supera el máximo de llantas permitidas")
+    @Valid
+    private List<TireSampleRequest> samples;
+}
@@ -0,0 +1,22 @@
+package com.transer.vortice.tire.application.dto.response;
+
+import java.util.List;
+
+/**
+ * Contenido de un catálogo tal como se guarda en caché.
+ *
+ * El ETag se calcula a partir del contenido al cargar el catálogo desde la base de
+ * datos: es igual en todas las réplicas y solo cambia si el contenido cambia, aunque la
+ * entrada se recargue (expiración o invalidación por escritura). Así el controlador
+ * puede responder 304 sin consultar la base de datos ni serializar la lista.
+ *
+ * @param items elementos del catálogo (lista inmutable)
+ * @param etag ETag entre comillas
+ *
+ * @author Vórtice Development Team
+ */
+public record CatalogSnapshot<T>(
+        List<T> items,
+        String etag
+) {
+}
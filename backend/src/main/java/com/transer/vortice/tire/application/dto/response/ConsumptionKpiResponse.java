@@ -0,0 +1,33 @@
+package com.transer.vortice.tire.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de respuesta con los indicadores de consumo de llantas de un periodo: totales,
+ * detalle por mes (solo meses con movimiento) y por especificación técnica.
+ * officeId es null cuando se consultan todas las oficinas.
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsumptionKpiResponse {
+    private YearMonth from;
+    private YearMonth to;
+    private UUID officeId;
+    private long newTires;
+    private BigDecimal newTiresCost;
+    private BigDecimal averageCostPerNewTire;
+    private long installations;
+    private long removals;
+    private List<ConsumptionMonthResponse> months;
+    private List<ConsumptionSpecificationResponse> specifications;
+}
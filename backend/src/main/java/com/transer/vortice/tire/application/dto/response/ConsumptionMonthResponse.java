@@ -0,0 +1,24 @@
+package com.transer.vortice.tire.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO de respuesta con el consumo de llantas de un mes (month es el primer día del mes).
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsumptionMonthResponse {
+    private LocalDate month;
+    private long newTires;
+    private BigDecimal newTiresCost;
+    private long installations;
+    private long removals;
+}
@@ -0,0 +1,29 @@
+package com.transer.vortice.tire.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO de respuesta con el consumo de llantas de una especificación técnica en el periodo.
+ * averageCostPerNewTire es null si no hubo llantas nuevas.
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsumptionSpecificationResponse {
+    private UUID technicalSpecificationId;
+    private String specificationCode;
+    private UUID brandId;
+    private String brandName;
+    private long newTires;
+    private BigDecimal newTiresCost;
+    private BigDecimal averageCostPerNewTire;
+    private long installations;
+    private long removals;
+}
@@ -0,0 +1,24 @@
+package com.transer.vortice.tire.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta para la recepción de tickets del canal móvil.
+ * Los tickets duplicados ya estaban en la cola y no se vuelven a encolar.
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovementLogBatchResponse {
+    private int received;
+    private int queued;
+    private int rejected;
+    private List<Long> duplicateTickets;
+    private List<MovementLogTicketResponse> rejectedTickets;
+}
@@ -0,0 +1,26 @@
+package com.transer.vortice.tire.application.dto.response;
+
+import com.transer.vortice.tire.infrastructure.ingestion.MovementLogStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO de respuesta con el estado de un ticket de movimientos del canal móvil
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovementLogTicketResponse {
+    private Long ticket;
+    private String licensePlate;
+    private MovementLogStatus status;
+    private int movementCount;
+    private String errorMessage;
+    private Instant receivedAt;
+    private Instant processedAt;
+}
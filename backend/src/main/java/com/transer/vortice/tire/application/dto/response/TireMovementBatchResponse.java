@@ -0,0 +1,27 @@
+package com.transer.vortice.tire.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de respuesta para un lote de movimientos de llantas aplicado a un vehículo
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TireMovementBatchResponse {
+    private UUID vehicleId;
+    private Integer mileage;
+    private LocalDate movementDate;
+    private int dismounted;
+    private int rotated;
+    private int mounted;
+    private List<TireMovementResult> movements;
+}
@@ -0,0 +1,23 @@
+package com.transer.vortice.tire.application.dto.response;
+
+import com.transer.vortice.tire.domain.model.lifecycle.TireMovementType;
+import com.transer.vortice.tire.domain.model.lifecycle.TireState;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de respuesta para un movimiento de llanta aplicado
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TireMovementResult {
+    private String tireNumber;
+    private TireMovementType type;
+    private Short fromPosition;
+    private Short toPosition;
+    private TireState resultingState;
+}
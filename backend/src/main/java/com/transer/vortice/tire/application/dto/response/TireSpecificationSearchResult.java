@@ -0,0 +1,34 @@
+package com.transer.vortice.tire.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * DTO de resultado de búsqueda rápida (typeahead) de Especificaciones Técnicas
+ *
+ * Contiene solo lo necesario para mostrar una sugerencia en el buscador,
+ * junto con la relevancia calculada por el motor de búsqueda.
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TireSpecificationSearchResult {
+
+    private UUID id;
+    private String code;
+    private String dimension;
+
+    private String brandName;
+    private String typeName;
+    private String referenceName;
+
+    private Boolean isActive;
+
+    // Relevancia (mayor es mejor)
+    private Double rank;
+}
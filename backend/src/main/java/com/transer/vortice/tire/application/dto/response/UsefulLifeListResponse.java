@@ -0,0 +1,25 @@
+package com.transer.vortice.tire.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO de respuesta de la consulta de vida útil con la frescura de los datos.
+ * refreshedAt indica hasta cuándo están incluidas las escrituras; stale indica que
+ * hay escrituras posteriores pendientes del siguiente refresco.
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsefulLifeListResponse {
+    private Instant refreshedAt;
+    private boolean stale;
+    private Instant dirtySince;
+    private List<UsefulLifeResponse> tires;
+}
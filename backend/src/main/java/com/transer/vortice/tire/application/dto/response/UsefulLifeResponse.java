@@ -0,0 +1,39 @@
+package com.transer.vortice.tire.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO de respuesta con la vida útil de una llanta montada (fila de mv_useful_life)
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsefulLifeResponse {
+    private UUID installationId;
+    private UUID tireId;
+    private String tireNumber;
+    private String generation;
+    private UUID vehicleId;
+    private String vehicleLicensePlate;
+    private Integer vehicleCurrentMileage;
+    private Short position;
+    private BigDecimal currentDepthInternal;
+    private BigDecimal currentDepthCentral;
+    private BigDecimal currentDepthExternal;
+    private BigDecimal currentAvgDepth;
+    private LocalDate lastSamplingDate;
+    private Integer totalAccumulatedMileage;
+    private Integer mileageAtInstallation;
+    private Integer mileageSinceInstallation;
+    private Integer expectedMileage;
+    private BigDecimal expectedAvgDepth;
+    private BigDecimal mileageEfficiencyPercentage;
+}
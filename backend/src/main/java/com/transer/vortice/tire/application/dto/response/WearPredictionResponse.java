@@ -0,0 +1,33 @@
+package com.transer.vortice.tire.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO de respuesta con la proyección de desgaste de una llanta montada.
+ * Los campos de proyección son null mientras no haya al menos dos muestreos con desgaste medible.
+ *
+ * @author Vórtice Development Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WearPredictionResponse {
+    private UUID installationId;
+    private String tireNumber;
+    private Short position;
+    private int sampleCount;
+    private LocalDate lastSamplingDate;
+    private BigDecimal wearRateMmPer1000Km;
+    private BigDecimal fittedDepthMm;
+    private BigDecimal kmPerDay;
+    private Integer remainingKm;
+    private LocalDate projectedRemovalDate;
+    private Instant computedAt;
+}
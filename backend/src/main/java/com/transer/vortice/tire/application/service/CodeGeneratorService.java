@@ -1,13 +1,17 @@
 package com.transer.vortice.tire.application.service;
 
-import com.transer.vortice.tire.domain.repository.TireSpecificationRepository;
+import com.transer.vortice.shared.infrastructure.sequence.CodeAllocator;
+import com.transer.vortice.shared.infrastructure.sequence.CodeSequence;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
- * Servicio para generar códigos únicos autoincrementales
+ * Servicio para generar códigos únicos del módulo de llantas.
+ *
+ * Los códigos se asignan desde secuencias de PostgreSQL mediante {@link CodeAllocator},
+ * por lo que son únicos aun con creaciones concurrentes y no requieren consultar
+ * las tablas de negocio.
  *
  * @author Vórtice Development Team
  */
@@ -16,32 +20,60 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CodeGeneratorService {
 
-    private final TireSpecificationRepository tireSpecificationRepository;
+    /**
+     * Fichas técnicas: FT-NNNNNN.
+     */
+    public static final CodeSequence TIRE_SPECIFICATION =
+            new CodeSequence("FT", "tire_management.seq_technical_specification_code", 6);
+
+    /**
+     * Números de llanta: LL-NNNNNNNN.
+     */
+    public static final CodeSequence TIRE_NUMBER =
+            new CodeSequence("LL", "tire_management.seq_tire_number", 8);
+
+    /**
+     * Certificados de baja: CB-NNNNNN.
+     */
+    public static final CodeSequence RETIREMENT_CERTIFICATE =
+            new CodeSequence("CB", "tire_management.seq_retirement_certificate_number", 6);
+
+    private final CodeAllocator codeAllocator;
 
     /**
-     * Genera un código único autoincremental para especificaciones técnicas
+     * Genera un código único para especificaciones técnicas
      *
      * Formato: FT-NNNNNN (ej: FT-000001, FT-000002, etc.)
      *
      * @return código único generado
      */
-    @Transactional
     public String generateTireSpecificationCode() {
-        // Obtener el último código usado
-        long count = tireSpecificationRepository.count();
-        long nextNumber = count + 1;
-
-        // Generar código con formato FT-NNNNNN (6 dígitos)
-        String code = String.format("FT-%06d", nextNumber);
-
-        // Verificar que no exista (por si hay eliminaciones)
-        while (tireSpecificationRepository.existsByCode(code)) {
-            nextNumber++;
-            code = String.format("FT-%06d", nextNumber);
-        }
+        String code = codeAllocator.nextCode(TIRE_SPECIFICATION);
 
         log.info("Código generado para especificación técnica: {}", code);
 
         return code;
     }
+
+    /**
+     * Genera un número único de llanta
+     *
+     * Formato: LL-NNNNNNNN
+     *
+     * @return número de llanta generado
+     */
+    public String generateTireNumber() {
+        return codeAllocator.nextCode(TIRE_NUMBER);
+    }
+
+    /**
+     * Genera un número único de certificado de baja
+     *
+     * Formato: CB-NNNNNN
+     *
+     * @return número de certificado generado
+     */
+    public String generateRetirementCertificateNumber() {
+        return codeAllocator.nextCode(RETIREMENT_CERTIFICATE);
+    }
 }
@@ -0,0 +1,154 @@
+package com.transer.vortice.tire.application.service;
+
+import com.transer.vortice.shared.infrastructure.config.HistoryPartitionProperties;
+import com.transer.vortice.tire.infrastructure.partition.HistoryPartitionRepository;
+import com.transer.vortice.tire.infrastructure.partition.PartitionInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mantenimiento de particiones de las tablas históricas (history_records y sampling_history).
+ *
+ * Cada ejecución, por tabla:
+ * <ol>
+ *   <li>Crea las particiones mensuales que falten hasta {@code lookahead-months} meses
+ *       adelante, para que ningún evento caiga en la partición DEFAULT.</li>
+ *   <li>Si {@code retention-months} es mayor a 0, archiva (JSON por línea + gzip en
+ *       {@code archive-directory}) y elimina las particiones que terminan antes del
+ *       periodo de retención, una por transacción.</li>
+ *   <li>Publica el tamaño de cada partición en los gauges
+ *       {@code vortice.partition.size} (bytes) y {@code vortice.partition.rows} (estimadas).</li>
+ * </ol>
+ *
+ * Un único nodo hace mantenimiento a la vez: cada paso toma un advisory lock de
+ * transacción y se omite si otro nodo lo tiene.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Service
+public class HistoryPartitionMaintenanceService {
+
+    private final HistoryPartitionRepository historyPartitionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final HistoryPartitionProperties properties;
+    private final MultiGauge partitionSize;
+    private final MultiGauge partitionRows;
+
+    public HistoryPartitionMaintenanceService(
+            HistoryPartitionRepository historyPartitionRepository,
+            PlatformTransactionManager transactionManager,
+            HistoryPartitionProperties properties,
+            MeterRegistry meterRegistry) {
+        this.historyPartitionRepository = historyPartitionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.partitionSize = MultiGauge.builder("vortice.partition.size")
+                .description("Tamaño de la partición con índices")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.partitionRows = MultiGauge.builder("vortice.partition.rows")
+                .description("Filas estimadas de la partición (última estadística)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ejecuta el mantenimiento según el cron configurado.
+     */
+    @Scheduled(cron = "${vortice.history-partitions.cron:0 30 3 * * *}")
+    public void scheduledMaintenance() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            maintain();
+        } catch (RuntimeException e) {
+            log.error("Error en el mantenimiento de particiones; se reintenta en la siguiente ejecución", e);
+        }
+    }
+
+    /**
+     * Crea, archiva y mide las particiones de todas las tablas administradas.
+     *
+     * @return particiones creadas
+     */
+    public List<String> maintain() {
+        ZonedDateTime now = ZonedDateTime.now();
+        Instant until = now.plusMonths(properties.getLookaheadMonths()).toInstant();
+        List<String> created = new ArrayList<>();
+
+        for (String table : HistoryPartitionRepository.TABLES) {
+            List<String> tableCreated = transactionTemplate.execute(status ->
+                    historyPartitionRepository.tryLock()
+                            ? historyPartitionRepository.createPartitionsUntil(table, until)
+                            : List.of());
+            created.addAll(tableCreated);
+
+            if (properties.getRetentionMonths() > 0) {
+                archiveBefore(table, now.minusMonths(properties.getRetentionMonths()).toInstant());
+            }
+        }
+
+        refreshMetrics();
+        return created;
+    }
+
+    /**
+     * Actualiza los gauges de tamaño con el estado actual de las particiones.
+     */
+    public void refreshMetrics() {
+        List<MultiGauge.Row<?>> sizes = new ArrayList<>();
+        List<MultiGauge.Row<?>> rows = new ArrayList<>();
+        for (String table : HistoryPartitionRepository.TABLES) {
+            for (PartitionInfo partition : historyPartitionRepository.findPartitions(table)) {
+                Tags tags = Tags.of("table", table, "partition", partition.name());
+                sizes.add(MultiGauge.Row.of(tags, partition.totalBytes()));
+                rows.add(MultiGauge.Row.of(tags, partition.estimatedRows()));
+            }
+        }
+        partitionSize.register(sizes, true);
+        partitionRows.register(rows, true);
+    }
+
+    // =====================================================
+    // MÉTODOS AUXILIARES
+    // =====================================================
+
+    private void archiveBefore(String table, Instant cutoff) {
+        Path directory = Path.of(properties.getArchiveDirectory());
+        List<PartitionInfo> expired = historyPartitionRepository.findPartitions(table).stream()
+                .filter(p -> !p.isDefault() && !p.rangeTo().isAfter(cutoff))
+                .toList();
+        if (expired.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo crear el directorio de archivo " + directory, e);
+        }
+
+        for (PartitionInfo partition : expired) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (historyPartitionRepository.tryLock()) {
+                    historyPartitionRepository.archive(table, partition.name(), directory, properties.getFetchSize());
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.transer.vortice.tire.application.service;
+
+import com.transer.vortice.organization.infrastructure.security.SecurityUtils;
+import com.transer.vortice.shared.infrastructure.exception.NotFoundException;
+import com.transer.vortice.shared.infrastructure.exception.ValidationException;
+import com.transer.vortice.tire.application.dto.request.MovementLogBatchRequest;
+import com.transer.vortice.tire.application.dto.request.MovementLogTicketRequest;
+import com.transer.vortice.tire.application.dto.response.MovementLogBatchResponse;
+import com.transer.vortice.tire.application.dto.response.MovementLogTicketResponse;
+import com.transer.vortice.tire.domain.model.lifecycle.TireLifecycleStateMachine;
+import com.transer.vortice.tire.infrastructure.ingestion.MovementLogReader;
+import com.transer.vortice.tire.infrastructure.ingestion.MovementLogStagingRepository;
+import com.transer.vortice.tire.infrastructure.ingestion.MovementLogStatus;
+import com.transer.vortice.tire.infrastructure.ingestion.StagedTicket;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Servicio de recepción de tickets de movimientos del canal móvil (reemplaza PK_MOVTMP.LOGMOVTMP).
+ *
+ * La recepción solo valida la sintaxis del log y encola los tickets; los movimientos se
+ * aplican después en {@link MovementLogProcessor}. Así el terminal recibe respuesta
+ * inmediata aunque traiga el turno completo, y un reenvío del mismo ticket (reintento
+ * por mala señal) no se encola dos veces.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovementLogIngestionService {
+
+    private final MovementLogStagingRepository stagingRepository;
+    private final SecurityUtils securityUtils;
+
+    // =====================================================
+    // USE CASE: Recibir Tickets
+    // =====================================================
+
+    /**
+     * Encola los tickets de un envío.
+     *
+     * Los tickets con el log mal formado se guardan como rechazados (R) con el motivo,
+     * de modo que el terminal pueda consultarlos y no se reintenten indefinidamente.
+     * Un ticket repetido dentro del mismo envío se encola una sola vez (la primera
+     * aparición) y las repeticiones se informan como duplicadas.
+     *
+     * @param request tickets del envío
+     * @return resumen de tickets encolados, rechazados y duplicados
+     */
+    @Transactional
+    public MovementLogBatchResponse receive(MovementLogBatchRequest request) {
+        List<StagedTicket> staged = new ArrayList<>(request.getTickets().size());
+        List<Long> duplicates = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (MovementLogTicketRequest ticket : request.getTickets()) {
+            if (seen.add(ticket.getTicket())) {
+                staged.add(stage(ticket));
+            } else {
+                duplicates.add(ticket.getTicket());
+            }
+        }
+
+        Set<Long> inserted = stagingRepository.insert(
+                staged, securityUtils.getCurrentUserId(), securityUtils.getCurrentUserOfficeId());
+
+        int queued = 0;
+        List<MovementLogTicketResponse> rejected = new ArrayList<>();
+        for (StagedTicket ticket : staged) {
+            if (!inserted.contains(ticket.ticket())) {
+                duplicates.add(ticket.ticket());
+            } else if (ticket.status() == MovementLogStatus.R) {
+                rejected.add(new MovementLogTicketResponse(ticket.ticket(), ticket.licensePlate(), ticket.status(),
+                        ticket.movementCount(), ticket.errorMessage(), null, null));
+            } else {
+                queued++;
+            }
+        }
+
+        log.info("Tickets de movimientos recibidos: {} encolados, {} rechazados, {} duplicados",
+                queued, rejected.size(), duplicates.size());
+
+        return new MovementLogBatchResponse(request.getTickets().size(), queued, rejected.size(), duplicates, rejected);
+    }
+
+    // =====================================================
+    // USE CASE: Consultar Ticket
+    // =====================================================
+
+    @Transactional(readOnly = true)
+    public MovementLogTicketResponse findByTicket(Long ticket) {
+        return stagingRepository.findByTicket(ticket)
+                .orElseThrow(() -> new NotFoundException("Ticket", ticket));
+    }
+
+    // =====================================================
+    // MÉTODOS AUXILIARES
+    // =====================================================
+
+    /**
+     * Valida la sintaxis del log recorriéndolo una vez, sin materializar los movimientos.
+     */
+    private StagedTicket stage(MovementLogTicketRequest request) {
+        String licensePlate = request.getLicensePlate().trim().toUpperCase(Locale.ROOT);
+        MovementLogReader reader = new MovementLogReader(request.getMovementLog());
+        try {
+            while (reader.next()) {
+                // next() valida el registro; los movimientos se construyen al procesar
+            }
+            int count = reader.recordNumber();
+            if (count == 0) {
+                throw new ValidationException("El log de movimientos no contiene registros");
+            }
+            if (count > TireLifecycleStateMachine.MAX_MOVEMENTS) {
+                throw new ValidationException(String.format(
+                        "El ticket no puede superar %d movimientos", TireLifecycleStateMachine.MAX_MOVEMENTS));
+            }
+            return new StagedTicket(request.getTicket(), licensePlate, request.getMileage(),
+                    request.getMovementLog(), count, MovementLogStatus.A, null);
+        } catch (ValidationException e) {
+            return new StagedTicket(request.getTicket(), licensePlate, request.getMileage(),
+                    request.getMovementLog(), reader.recordNumber(), MovementLogStatus.R, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.transer.vortice.tire.application.service;
+
+import com.transer.vortice.shared.infrastructure.config.MovementLogProperties;
+import com.transer.vortice.shared.infrastructure.exception.BusinessException;
+import com.transer.vortice.tire.domain.model.lifecycle.TireMovement;
+import com.transer.vortice.tire.infrastructure.ingestion.MovementLogReader;
+import com.transer.vortice.tire.infrastructure.ingestion.MovementLogStagingRepository;
+import com.transer.vortice.tire.infrastructure.ingestion.PendingTicket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Procesador de la cola de tickets del canal móvil (reemplaza PDB_LEERLOG).
+ *
+ * Cada ronda toma las placas con tickets pendientes y reparte una tarea por placa en el
+ * pool acotado {@code movementLogExecutor}: placas distintas avanzan en paralelo y los
+ * tickets de una misma placa se aplican uno tras otro en orden de ticket, cada uno en su
+ * propia transacción con {@link TireLifecycleService}. Un ticket inválido se marca como
+ * rechazado (R) con el motivo y la placa continúa con el siguiente, como hacía el
+ * procedimiento original; un error de infraestructura deja el ticket pendiente y
+ * detiene la placa hasta la siguiente ronda para no alterar el orden.
+ *
+ * Varias instancias pueden procesar la cola a la vez: el ticket se bloquea con
+ * FOR UPDATE SKIP LOCKED y el vehículo con FOR UPDATE dentro de la transacción.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Service
+public class MovementLogProcessor {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final MovementLogStagingRepository stagingRepository;
+    private final TireLifecycleService tireLifecycleService;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final MovementLogProperties properties;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    public MovementLogProcessor(
+            MovementLogStagingRepository stagingRepository,
+            TireLifecycleService tireLifecycleService,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("movementLogExecutor") Executor executor,
+            MovementLogProperties properties) {
+        this.stagingRepository = stagingRepository;
+        this.tireLifecycleService = tireLifecycleService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.properties = properties;
+    }
+
+    /**
+     * Revisa la cola periódicamente.
+     */
+    @Scheduled(fixedDelayString = "${vortice.movement-log.poll-interval-ms:5000}",
+            initialDelayString = "${vortice.movement-log.poll-interval-ms:5000}")
+    public void scheduledDrain() {
+        if (properties.isEnabled()) {
+            drain();
+        }
+    }
+
+    /**
+     * Procesa rondas hasta vaciar la cola o hasta que una ronda no avance
+     * (los tickets restantes los tiene otra instancia).
+     *
+     * @return tickets procesados o rechazados; 0 si ya había un vaciado en curso
+     */
+    public int drain() {
+        if (!draining.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            int total = 0;
+            List<String> plates;
+            while (!(plates = stagingRepository.findPendingPlates(properties.getPlatesPerRound())).isEmpty()) {
+                List<CompletableFuture<Integer>> tasks = plates.stream()
+                        .map(plate -> CompletableFuture.supplyAsync(() -> processPlate(plate), executor))
+                        .toList();
+                int round = tasks.stream().mapToInt(CompletableFuture::join).sum();
+                if (round == 0) {
+                    break;
+                }
+                total += round;
+                log.info("Ronda de ingesta: {} placas, {} tickets", plates.size(), round);
+            }
+            return total;
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    // =====================================================
+    // MÉTODOS AUXILIARES
+    // =====================================================
+
+    /**
+     * Aplica en orden los tickets pendientes de una placa.
+     *
+     * @return tickets procesados o rechazados
+     */
+    int processPlate(String licensePlate) {
+        int done = 0;
+        for (PendingTicket ticket : stagingRepository.findPending(licensePlate, properties.getTicketsPerPlate())) {
+            if (!processTicket(ticket)) {
+                break;
+            }
+            done++;
+        }
+        return done;
+    }
+
+    /**
+     * @return false si el ticket no pudo resolverse y la placa debe detenerse
+     */
+    private boolean processTicket(PendingTicket ticket) {
+        if (ticket.vehicleId() == null) {
+            stagingRepository.markRejected(ticket.id(),
+                    "Vehículo con placa " + ticket.licensePlate() + " no encontrado");
+            return true;
+        }
+        try {
+            List<TireMovement> movements = MovementLogReader.readAll(ticket.movementLog());
+            Boolean applied = transactionTemplate.execute(status -> {
+                if (!stagingRepository.lockPending(ticket.id())) {
+                    return false;
+                }
+                tireLifecycleService.applyMovements(ticket.vehicleId(), ticket.mileage(), ticket.receivedOn(),
+                        movements, ticket.receivedBy());
+                stagingRepository.markProcessed(ticket.id());
+                return true;
+            });
+            return Boolean.TRUE.equals(applied);
+        } catch (BusinessException | DataIntegrityViolationException e) {
+            log.warn("Ticket {} de la placa {} rechazado: {}", ticket.ticket(), ticket.licensePlate(), e.getMessage());
+            stagingRepository.markRejected(ticket.id(), truncate(e.getMessage()));
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Error procesando el ticket {} de la placa {}; queda pendiente",
+                    ticket.ticket(), ticket.licensePlate(), e);
+            return false;
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,135 @@
+package com.transer.vortice.tire.application.service;
+
+import com.transer.vortice.shared.infrastructure.config.AlertProperties;
+import com.transer.vortice.tire.domain.model.alert.AlertCandidate;
+import com.transer.vortice.tire.domain.model.alert.AlertEvaluator;
+import com.transer.vortice.tire.domain.model.alert.MountedTire;
+import com.transer.vortice.tire.domain.model.alert.TireReading;
+import com.transer.vortice.tire.domain.model.sampling.SamplingBaseline;
+import com.transer.vortice.tire.domain.model.sampling.SamplingRecord;
+import com.transer.vortice.tire.infrastructure.alert.AlertJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Servicio de alertas de llantas: evalúa las reglas sobre cada lote de muestreos o de
+ * movimientos dentro de la transacción que lo escribe y guarda las alertas nuevas en
+ * una sentencia.
+ *
+ * Las reglas se compilan ({@link AlertEvaluator}) con los umbrales de todas las
+ * especificaciones técnicas y se reutilizan entre lotes. Se vuelven a compilar cuando
+ * cambia una especificación en este nodo ({@link #invalidateRules()}), cuando un lote
+ * trae una especificación desconocida y, para cambios hechos desde otro nodo, al vencer
+ * vortice.alerts.rules-ttl-ms.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TireAlertService {
+
+    private final AlertJdbcRepository alertJdbcRepository;
+    private final AlertProperties properties;
+
+    private volatile AlertEvaluator evaluator;
+
+    // =====================================================
+    // USE CASE: Evaluar Muestreos
+    // =====================================================
+
+    /**
+     * Evalúa los muestreos recién insertados contra su línea base.
+     *
+     * @param records muestreos insertados
+     * @param baselines línea base por instalación
+     * @return alertas nuevas
+     */
+    @Transactional
+    public int evaluateSamplings(List<SamplingRecord> records, Map<UUID, SamplingBaseline> baselines) {
+        if (!properties.isEnabled() || records.isEmpty()) {
+            return 0;
+        }
+        AlertEvaluator rules = rules(baselines.values().stream().map(SamplingBaseline::specificationId).toList());
+        List<AlertCandidate> alerts = new ArrayList<>();
+        for (SamplingRecord record : records) {
+            rules.evaluate(toReading(record, baselines.get(record.installationId())), alerts);
+        }
+        return alertJdbcRepository.insert(alerts);
+    }
+
+    // =====================================================
+    // USE CASE: Evaluar Movimientos
+    // =====================================================
+
+    /**
+     * Evalúa las llantas que quedaron montadas en el vehículo después de un lote de
+     * movimientos, con el kilometraje registrado en la visita.
+     *
+     * @return alertas nuevas
+     */
+    @Transactional
+    public int evaluateVehicle(UUID vehicleId, int mileage) {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        List<MountedTire> tires = alertJdbcRepository.findMountedTires(vehicleId, mileage);
+        AlertEvaluator rules = rules(tires.stream().map(MountedTire::specificationId).toList());
+        List<AlertCandidate> alerts = new ArrayList<>();
+        for (MountedTire tire : tires) {
+            rules.evaluate(tire, alerts);
+        }
+        return alertJdbcRepository.insert(alerts);
+    }
+
+    /**
+     * Descarta las reglas compiladas: el siguiente lote vuelve a leer las especificaciones.
+     */
+    public void invalidateRules() {
+        evaluator = null;
+        log.debug("Reglas de alertas invalidadas");
+    }
+
+    // =====================================================
+    // MÉTODOS AUXILIARES
+    // =====================================================
+
+    private AlertEvaluator rules(List<UUID> specificationIds) {
+        AlertEvaluator current = evaluator;
+        if (current != null
+                && System.currentTimeMillis() - current.compiledAt() < properties.getRulesTtlMs()
+                && specificationIds.stream().allMatch(current::covers)) {
+            return current;
+        }
+        AlertEvaluator compiled = AlertEvaluator.compile(alertJdbcRepository.findThresholds(),
+                properties.getCriticalDepthMm(), properties.getWearRateFactor(), properties.getMinWearSegmentKm(),
+                System.currentTimeMillis());
+        evaluator = compiled;
+        log.debug("Reglas de alertas compiladas");
+        return compiled;
+    }
+
+    private TireReading toReading(SamplingRecord record, SamplingBaseline baseline) {
+        int mileageAtInstallation = baseline.mileageAtInstallation();
+        return new TireReading(
+                record.installationId(),
+                baseline.tireId(),
+                baseline.tireNumber(),
+                record.vehicleId(),
+                baseline.specificationId(),
+                record.mileage() - mileageAtInstallation,
+                record.depthInternal().doubleValue(),
+                record.depthCentral().doubleValue(),
+                record.depthExternal().doubleValue(),
+                record.pressure(),
+                baseline.lastMileage() != null ? baseline.lastMileage() - mileageAtInstallation : Double.NaN,
+                baseline.lastAverageDepth() != null ? baseline.lastAverageDepth().doubleValue() : Double.NaN);
+    }
+}
@@ -1,5 +1,8 @@
 package com.transer.vortice.tire.application.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.transer.vortice.tire.application.dto.response.CatalogSnapshot;
 import com.transer.vortice.tire.application.dto.response.TireBrandResponse;
 import com.transer.vortice.tire.application.dto.response.TireReferenceResponse;
 import com.transer.vortice.tire.application.dto.response.TireSupplierResponse;
@@ -9,13 +12,19 @@ import com.transer.vortice.tire.domain.repository.TireBrandRepository;
 import com.transer.vortice.tire.domain.repository.TireReferenceRepository;
 import com.transer.vortice.tire.domain.repository.TireCatalogSupplierRepository;
 import com.transer.vortice.tire.domain.repository.TireTypeRepository;
+import com.transer.vortice.tire.infrastructure.cache.TireCatalog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 /**
  * Servicio para gestión de catálogos del módulo de llantas
@@ -23,6 +32,16 @@ import java.util.stream.Collectors;
  * Proporciona acceso a los catálogos base (marcas, tipos, referencias, proveedores)
  * para ser utilizados en formularios y filtros.
  *
+ * Los catálogos se sirven desde caché (una caché por catálogo, con su propio TTL en
+ * vortice.cache.specs). La caché se invalida al modificar una entidad del catálogo
+ * (TireCatalogCacheEvictionListener). Los métodos no abren transacción propia para que
+ * un acierto de caché no tome una conexión del pool; cada carga usa la transacción
+ * de solo lectura del repositorio.
+ *
+ * El ETag se deriva del contenido (SHA-256 del catálogo serializado) al cargar la
+ * entrada: es el mismo en todas las réplicas y no cambia al recargar un catálogo que
+ * no cambió, de modo que If-None-Match responde 304 en cualquier nodo.
+ *
  * @author Vórtice Development Team
  */
 @Slf4j
@@ -30,11 +49,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TireCatalogService {
 
+    /**
+     * Bytes del SHA-256 usados en el ETag (128 bits).
+     */
+    private static final int ETAG_HASH_BYTES = 16;
+
     private final TireBrandRepository tireBrandRepository;
     private final TireTypeRepository tireTypeRepository;
     private final TireReferenceRepository tireReferenceRepository;
     private final TireCatalogSupplierRepository tireCatalogSupplierRepository;
     private final TireSpecificationMapper mapper;
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
 
     // =====================================================
     // MARCAS DE LLANTAS
@@ -45,13 +71,22 @@ public class TireCatalogService {
      *
      * @return lista de marcas activas
      */
-    @Transactional(readOnly = true)
     public List<TireBrandResponse> getAllActiveBrands() {
-        log.info("Obteniendo todas las marcas activas");
+        return getActiveBrandsCatalog().items();
+    }
 
-        return tireBrandRepository.findAllActive().stream()
-                .map(mapper::toBrandResponse)
-                .collect(Collectors.toList());
+    /**
+     * Obtiene las marcas activas con su ETag, desde caché
+     *
+     * @return catálogo en caché
+     */
+    public CatalogSnapshot<TireBrandResponse> getActiveBrandsCatalog() {
+        return getCatalog(TireCatalog.BRANDS, TireCatalog.KEY_ACTIVE, () -> {
+            log.info("Obteniendo todas las marcas activas");
+            return tireBrandRepository.findAllActive().stream()
+                    .map(mapper::toBrandResponse)
+                    .toList();
+        });
     }
 
     /**
@@ -59,13 +94,22 @@ public class TireCatalogService {
      *
      * @return lista de todas las marcas
      */
-    @Transactional(readOnly = true)
     public List<TireBrandResponse> getAllBrands() {
-        log.info("Obteniendo todas las marcas");
+        return getBrandsCatalog().items();
+    }
 
-        return tireBrandRepository.findAll().stream()
-                .map(mapper::toBrandResponse)
-                .collect(Collectors.toList());
+    /**
+     * Obtiene todas las marcas con su ETag, desde caché
+     *
+     * @return catálogo en caché
+     */
+    public CatalogSnapshot<TireBrandResponse> getBrandsCatalog() {
+        return getCatalog(TireCatalog.BRANDS, TireCatalog.KEY_ALL, () -> {
+            log.info("Obteniendo todas las marcas");
+            return tireBrandRepository.findAll().stream()
+                    .map(mapper::toBrandResponse)
+                    .toList();
+        });
     }
 
     // =====================================================
@@ -77,13 +121,22 @@ public class TireCatalogService {
      *
      * @return lista de tipos activos
      */
-    @Transactional(readOnly = true)
     public List<TireTypeResponse> getAllActiveTypes() {
-        log.info("Obteniendo todos los tipos activos");
+        return getActiveTypesCatalog().items();
+    }
 
-        return tireTypeRepository.findAllActive().stream()
-                .map(mapper::toTypeResponse)
-                .collect(Collectors.toList());
+    /**
+     * Obtiene los tipos activos con su ETag, desde caché
+     *
+     * @return catálogo en caché
+     */
+    public CatalogSnapshot<TireTypeResponse> getActiveTypesCatalog() {
+        return getCatalog(TireCatalog.TYPES, TireCatalog.KEY_ACTIVE, () -> {
+            log.info("Obteniendo todos los tipos activos");
+            return tireTypeRepository.findAllActive().stream()
+                    .map(mapper::toTypeResponse)
+                    .toList();
+        });
     }
 
     /**
@@ -91,13 +144,22 @@ public class TireCatalogService {
      *
      * @return lista de todos los tipos
      */
-    @Transactional(readOnly = true)
     public List<TireTypeResponse> getAllTypes() {
-        log.info("Obteniendo todos los tipos");
+        return getTypesCatalog().items();
+    }
 
-        return tireTypeRepository.findAll().stream()
-                .map(mapper::toTypeResponse)
-                .collect(Collectors.toList());
+    /**
+     * Obtiene todos los tipos con su ETag, desde caché
+     *
+     * @return catálogo en caché
+     */
+    public CatalogSnapshot<TireTypeResponse> getTypesCatalog() {
+        return getCatalog(TireCatalog.TYPES, TireCatalog.KEY_ALL, () -> {
+            log.info("Obteniendo todos los tipos");
+            return tireTypeRepository.findAll().stream()
+                    .map(mapper::toTypeResponse)
+                    .toList();
+        });
     }
 
     // =====================================================
@@ -109,13 +171,22 @@ public class TireCatalogService {
      *
      * @return lista de referencias activas
      */
-    @Transactional(readOnly = true)
     public List<TireReferenceResponse> getAllActiveReferences() {
-        log.info("Obteniendo todas las referencias activas");
+        return getActiveReferencesCatalog().items();
+    }
 
-        return tireReferenceRepository.findAllActive().stream()
-                .map(mapper::toReferenceResponse)
-                .collect(Collectors.toList());
+    /**
+     * Obtiene las referencias activas con su ETag, desde caché
+     *
+     * @return catálogo en caché
+     */
+    public CatalogSnapshot<TireReferenceResponse> getActiveReferencesCatalog() {
+        return getCatalog(TireCatalog.REFERENCES, TireCatalog.KEY_ACTIVE, () -> {
+            log.info("Obteniendo todas las referencias activas");
+            return tireReferenceRepository.findAllActive().stream()
+                    .map(mapper::toReferenceResponse)
+                    .toList();
+        });
     }
 
     /**
@@ -123,13 +194,22 @@ public class TireCatalogService {
      *
      * @return lista de todas las referencias
      */
-    @Transactional(readOnly = true)
     public List<TireReferenceResponse> getAllReferences() {
-        log.info("Obteniendo todas las referencias");
+        return getReferencesCatalog().items();
+    }
 
-        return tireReferenceRepository.findAll().stream()
-                .map(mapper::toReferenceResponse)
-                .collect(Collectors.toList());
+    /**
+     * Obtiene todas las referencias con su ETag, desde caché
+     *
+     * @return catálogo en caché
+     */
+    public CatalogSnapshot<TireReferenceResponse> getReferencesCatalog() {
+        return getCatalog(TireCatalog.REFERENCES, TireCatalog.KEY_ALL, () -> {
+            log.info("Obteniendo todas las referencias");
+            return tireReferenceRepository.findAll().stream()
+                    .map(mapper::toReferenceResponse)
+                    .toList();
+        });
     }
 
     // =====================================================
@@ -141,13 +221,22 @@ public class TireCatalogService {
      *
      * @return lista de proveedores activos
      */
-    @Transactional(readOnly = true)
     public List<TireSupplierResponse> getAllActiveSuppliers() {
-        log.info("Obteniendo todos los proveedores activos");
+        return getActiveSuppliersCatalog().items();
+    }
 
-        return tireCatalogSupplierRepository.findAllActive().stream()
-                .map(mapper::toSupplierResponse)
-                .collect(Collectors.toList());
+    /**
+     * Obtiene los proveedores activos con su ETag, desde caché
+     *
+     * @return catálogo en caché
+     */
+    public CatalogSnapshot<TireSupplierResponse> getActiveSuppliersCatalog() {
+        return getCatalog(TireCatalog.SUPPLIERS, TireCatalog.KEY_ACTIVE, () -> {
+            log.info("Obteniendo todos los proveedores activos");
+            return tireCatalogSupplierRepository.findAllActive().stream()
+                    .map(mapper::toSupplierResponse)
+                    .toList();
+        });
     }
 
     /**
@@ -155,12 +244,61 @@ public class TireCatalogService {
      *
      * @return lista de todos los proveedores
      */
-    @Transactional(readOnly = true)
     public List<TireSupplierResponse> getAllSuppliers() {
-        log.info("Obteniendo todos los proveedores");
+        return getSuppliersCatalog().items();
+    }
+
+    /**
+     * Obtiene todos los proveedores con su ETag, desde caché
+     *
+     * @return catálogo en caché
+     */
+    public CatalogSnapshot<TireSupplierResponse> getSuppliersCatalog() {
+        return getCatalog(TireCatalog.SUPPLIERS, TireCatalog.KEY_ALL, () -> {
+            log.info("Obteniendo todos los proveedores");
+            return tireCatalogSupplierRepository.findAll().stream()
+                    .map(mapper::toSupplierResponse)
+                    .toList();
+        });
+    }
 
-        return tireCatalogSupplierRepository.findAll().stream()
-                .map(mapper::toSupplierResponse)
-                .collect(Collectors.toList());
+    // =====================================================
+    // CACHÉ
+    // =====================================================
+
+    /**
+     * Obtiene un catálogo desde su caché, cargándolo desde la base de datos si no está.
+     *
+     * @param catalog catálogo
+     * @param key clave de la entrada (active / all)
+     * @param loader carga de los elementos desde la base de datos
+     * @return catálogo con su ETag
+     */
+    private <T> CatalogSnapshot<T> getCatalog(TireCatalog catalog, String key, Supplier<List<T>> loader) {
+        Cache cache = cacheManager.getCache(catalog.getCacheName());
+        if (cache == null) {
+            return load(catalog, key, loader);
+        }
+        return cache.get(key, () -> load(catalog, key, loader));
+    }
+
+    private <T> CatalogSnapshot<T> load(TireCatalog catalog, String key, Supplier<List<T>> loader) {
+        List<T> items = loader.get();
+        String etag = "\"" + catalog.getCacheName() + '-' + key + '-' + contentHash(items) + "\"";
+        return new CatalogSnapshot<>(items, etag);
+    }
+
+    /**
+     * Hash del catálogo serializado a JSON (la misma representación que la respuesta).
+     */
+    private String contentHash(List<?> items) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(items));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, ETAG_HASH_BYTES));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el catálogo para su ETag", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
     }
 }
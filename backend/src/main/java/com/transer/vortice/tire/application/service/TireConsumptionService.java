@@ -0,0 +1,146 @@
+package com.transer.vortice.tire.application.service;
+
+import com.transer.vortice.organization.domain.exception.ForbiddenOfficeAccessException;
+import com.transer.vortice.organization.infrastructure.security.SecurityUtils;
+import com.transer.vortice.shared.infrastructure.config.ConsumptionProperties;
+import com.transer.vortice.shared.infrastructure.exception.ValidationException;
+import com.transer.vortice.tire.application.dto.response.ConsumptionKpiResponse;
+import com.transer.vortice.tire.application.dto.response.ConsumptionMonthResponse;
+import com.transer.vortice.tire.application.dto.response.ConsumptionSpecificationResponse;
+import com.transer.vortice.tire.infrastructure.consumption.ConsumptionRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Servicio de indicadores de consumo de llantas.
+ *
+ * Los acumulados mensuales (consumption_monthly, V3.12.0) se mantienen por triggers en
+ * la misma transacción de cada compra, montaje o desmontaje, por lo que las consultas
+ * siempre están al día y solo leen unas pocas filas por mes. La reconstrucción completa
+ * es una conciliación periódica: corrige lo que no pasa por los triggers (borrados
+ * lógicos, cambios de especificación u oficina de una llanta).
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Service
+public class TireConsumptionService {
+
+    private final ConsumptionRollupRepository consumptionRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ConsumptionProperties properties;
+    private final SecurityUtils securityUtils;
+
+    public TireConsumptionService(
+            ConsumptionRollupRepository consumptionRollupRepository,
+            PlatformTransactionManager transactionManager,
+            ConsumptionProperties properties,
+            SecurityUtils securityUtils) {
+        this.consumptionRollupRepository = consumptionRollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.securityUtils = securityUtils;
+    }
+
+    /**
+     * Reconstruye los acumulados según el cron configurado.
+     */
+    @Scheduled(cron = "${vortice.consumption.rebuild-cron:0 0 4 * * SUN}")
+    public void scheduledRebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Error reconstruyendo los acumulados de consumo; se reintenta en la siguiente ejecución", e);
+        }
+    }
+
+    /**
+     * Reconstruye los acumulados del historial conservado si ningún otro nodo lo está haciendo.
+     *
+     * @return true si se reconstruyeron
+     */
+    public boolean rebuild() {
+        long start = System.nanoTime();
+        Integer rows = transactionTemplate.execute(status ->
+                consumptionRollupRepository.tryLock() ? consumptionRollupRepository.rebuild() : null);
+        if (rows == null) {
+            log.debug("Otro nodo está reconstruyendo los acumulados de consumo");
+            return false;
+        }
+        log.info("Acumulados de consumo reconstruidos: {} filas en {} ms",
+                rows, (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    // =====================================================
+    // USE CASE: Consultar Indicadores de Consumo
+    // =====================================================
+
+    /**
+     * Indicadores de consumo del periodo. Sin oficina, un administrador nacional ve todas
+     * las oficinas y los demás usuarios solo la suya.
+     *
+     * @param from primer mes
+     * @param to último mes (incluido)
+     * @param officeId oficina (opcional)
+     * @return totales, detalle por mes y por especificación técnica
+     */
+    @Transactional(readOnly = true)
+    public ConsumptionKpiResponse findKpis(YearMonth from, YearMonth to, UUID officeId) {
+        if (from.isAfter(to)) {
+            throw new ValidationException("El mes inicial no puede ser posterior al mes final");
+        }
+        long months = ChronoUnit.MONTHS.between(from, to) + 1;
+        if (months > properties.getMaxMonths()) {
+            throw new ValidationException("El periodo no puede superar " + properties.getMaxMonths() + " meses");
+        }
+
+        UUID scopedOfficeId = resolveOffice(officeId);
+        List<ConsumptionMonthResponse> monthly = consumptionRollupRepository.findMonthly(
+                from.atDay(1), to.atDay(1), scopedOfficeId);
+        List<ConsumptionSpecificationResponse> bySpecification = consumptionRollupRepository.findBySpecification(
+                from.atDay(1), to.atDay(1), scopedOfficeId);
+
+        long newTires = 0;
+        BigDecimal cost = BigDecimal.ZERO;
+        long installations = 0;
+        long removals = 0;
+        for (ConsumptionMonthResponse month : monthly) {
+            newTires += month.getNewTires();
+            cost = cost.add(month.getNewTiresCost());
+            installations += month.getInstallations();
+            removals += month.getRemovals();
+        }
+
+        return new ConsumptionKpiResponse(from, to, scopedOfficeId, newTires, cost,
+                ConsumptionRollupRepository.averageCost(cost, newTires), installations, removals,
+                monthly, bySpecification);
+    }
+
+    // =====================================================
+    // MÉTODOS AUXILIARES
+    // =====================================================
+
+    private UUID resolveOffice(UUID officeId) {
+        if (officeId != null) {
+            if (!securityUtils.hasAccessToOffice(officeId)) {
+                throw new ForbiddenOfficeAccessException(officeId);
+            }
+            return officeId;
+        }
+        return securityUtils.isNationalAdmin() ? null : securityUtils.getCurrentUserOfficeId();
+    }
+}
@@ -0,0 +1,127 @@
+package com.transer.vortice.tire.application.service;
+
+import com.transer.vortice.organization.infrastructure.security.SecurityUtils;
+import com.transer.vortice.shared.infrastructure.exception.NotFoundException;
+import com.transer.vortice.tire.application.dto.request.TireMovementBatchRequest;
+import com.transer.vortice.tire.application.dto.request.TireMovementRequest;
+import com.transer.vortice.tire.application.dto.response.TireMovementBatchResponse;
+import com.transer.vortice.tire.application.dto.response.TireMovementResult;
+import com.transer.vortice.tire.domain.model.lifecycle.TireLifecyclePlan;
+import com.transer.vortice.tire.domain.model.lifecycle.TireLifecycleStateMachine;
+import com.transer.vortice.tire.domain.model.lifecycle.TireMovement;
+import com.transer.vortice.tire.domain.model.lifecycle.TireMovementType;
+import com.transer.vortice.tire.domain.model.lifecycle.TireSnapshot;
+import com.transer.vortice.tire.domain.model.lifecycle.TireState;
+import com.transer.vortice.tire.domain.model.lifecycle.VehicleSnapshot;
+import com.transer.vortice.tire.infrastructure.lifecycle.TireLifecycleJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Servicio de aplicación del ciclo de vida de llantas (montaje, desmontaje y rotación).
+ *
+ * Porta PK_LLANTASWEB (PDB_MONTARLLANTA / PDB_DESMONTARLLANTA / PDB_ROTARLLANTA):
+ * todos los movimientos de un vehículo en una visita al taller se registran en una
+ * transacción. El lote se valida completo en memoria ({@link TireLifecycleStateMachine})
+ * y se escribe con batches JDBC ({@link TireLifecycleJdbcRepository}); si un movimiento
+ * no es válido no se aplica ninguno. Después del lote se evalúan las reglas de alertas
+ * de kilometraje de las llantas que quedan montadas ({@link TireAlertService}).
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TireLifecycleService {
+
+    private final TireLifecycleJdbcRepository tireLifecycleJdbcRepository;
+    private final TireAlertService tireAlertService;
+    private final SecurityUtils securityUtils;
+
+    // =====================================================
+    // USE CASE: Registrar Movimientos de un Vehículo
+    // =====================================================
+
+    /**
+     * Aplica un lote de movimientos de llantas sobre un vehículo.
+     *
+     * @param vehicleId ID del vehículo
+     * @param request kilometraje, fecha y movimientos
+     * @return resumen de los movimientos aplicados
+     * @throws NotFoundException si el vehículo o alguna llanta no existe
+     */
+    @Transactional
+    public TireMovementBatchResponse applyMovements(UUID vehicleId, TireMovementBatchRequest request) {
+        List<TireMovement> movements = request.getMovements().stream()
+                .map(this::toMovement)
+                .toList();
+
+        TireLifecyclePlan plan = applyMovements(vehicleId, request.getMileage(), request.getMovementDate(),
+                movements, securityUtils.getCurrentUserId());
+
+        return toResponse(plan, request);
+    }
+
+    /**
+     * Aplica un lote de movimientos ya convertidos al modelo de dominio en nombre de un usuario.
+     * Lo usan los procesos sin usuario autenticado en el hilo (ingesta de tickets del canal móvil).
+     *
+     * @param vehicleId ID del vehículo
+     * @param mileage kilometraje del vehículo en la visita
+     * @param movementDate fecha de los movimientos
+     * @param movements movimientos del lote
+     * @param userId usuario que registra los movimientos (puede ser null)
+     * @return plan aplicado
+     * @throws NotFoundException si el vehículo o alguna llanta no existe
+     */
+    @Transactional
+    public TireLifecyclePlan applyMovements(UUID vehicleId, int mileage, LocalDate movementDate,
+                                            List<TireMovement> movements, Long userId) {
+        log.info("Registrando {} movimientos de llantas en el vehículo {}", movements.size(), vehicleId);
+
+        VehicleSnapshot vehicle = tireLifecycleJdbcRepository.lockVehicle(vehicleId)
+                .orElseThrow(() -> new NotFoundException("Vehículo", vehicleId));
+        Map<String, TireSnapshot> tires = tireLifecycleJdbcRepository.lockTires(
+                movements.stream().map(TireMovement::tireNumber).distinct().toList());
+
+        TireLifecyclePlan plan = TireLifecycleStateMachine.plan(vehicle, mileage, movementDate, tires, movements);
+
+        tireLifecycleJdbcRepository.apply(plan, movementDate, userId);
+        tireAlertService.evaluateVehicle(vehicleId, mileage);
+
+        log.info("Movimientos aplicados al vehículo {}: {} desmontajes, {} rotaciones, {} montajes",
+                vehicleId, plan.dismounts().size(), plan.rotations().size(), plan.mounts().size());
+
+        return plan;
+    }
+
+    // =====================================================
+    // MÉTODOS AUXILIARES
+    // =====================================================
+
+    private TireMovement toMovement(TireMovementRequest request) {
+        return new TireMovement(request.getType(), request.getTireNumber().trim(),
+                request.getPosition(), request.getRemovalReasonId());
+    }
+
+    private TireMovementBatchResponse toResponse(TireLifecyclePlan plan, TireMovementBatchRequest request) {
+        List<TireMovementResult> results = new ArrayList<>(plan.size());
+        plan.dismounts().forEach(d -> results.add(new TireMovementResult(
+                d.tireNumber(), TireMovementType.DISMOUNT, d.position(), null, TireState.INTERMEDIATE)));
+        plan.rotations().forEach(r -> results.add(new TireMovementResult(
+                r.tireNumber(), TireMovementType.ROTATE, r.fromPosition(), r.toPosition(), TireState.ACTIVE)));
+        plan.mounts().forEach(m -> results.add(new TireMovementResult(
+                m.tireNumber(), TireMovementType.MOUNT, null, m.position(), TireState.ACTIVE)));
+
+        return new TireMovementBatchResponse(plan.vehicleId(), request.getMileage(), request.getMovementDate(),
+                plan.dismounts().size(), plan.rotations().size(), plan.mounts().size(), results);
+    }
+}
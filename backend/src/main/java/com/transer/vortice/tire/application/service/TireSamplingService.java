@@ -0,0 +1,106 @@
+package com.transer.vortice.tire.application.service;
+
+import com.transer.vortice.organization.infrastructure.security.SecurityUtils;
+import com.transer.vortice.shared.infrastructure.exception.ValidationException;
+import com.transer.vortice.tire.application.dto.request.TireSampleRequest;
+import com.transer.vortice.tire.application.dto.request.TireSamplingBatchRequest;
+import com.transer.vortice.tire.application.dto.request.VehicleSamplingRequest;
+import com.transer.vortice.tire.application.dto.response.TireSamplingBatchResponse;
+import com.transer.vortice.tire.domain.model.sampling.SamplingBaseline;
+import com.transer.vortice.tire.domain.model.sampling.SamplingRecord;
+import com.transer.vortice.tire.domain.model.sampling.SamplingValidator;
+import com.transer.vortice.tire.domain.model.sampling.TireSample;
+import com.transer.vortice.tire.domain.model.sampling.VehicleSampling;
+import com.transer.vortice.tire.domain.model.wear.WearObservation;
+import com.transer.vortice.tire.infrastructure.sampling.TireSamplingJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de aplicación del muestreo de desgaste de llantas.
+ *
+ * Porta MLFR009 para una ruta completa de vehículos: una consulta trae la línea base
+ * (instalación activa y último muestreo) de todas las llantas del envío, la validación
+ * se hace en memoria ({@link SamplingValidator}) y la escritura es una sola sentencia
+ * ({@link TireSamplingJdbcRepository}). Si un muestreo no es válido no se registra ninguno.
+ * En la misma transacción se actualiza la proyección de desgaste de las llantas muestreadas
+ * ({@link WearPredictionService}) y se evalúan las reglas de alertas ({@link TireAlertService}).
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TireSamplingService {
+
+    private final TireSamplingJdbcRepository tireSamplingJdbcRepository;
+    private final WearPredictionService wearPredictionService;
+    private final TireAlertService tireAlertService;
+    private final SecurityUtils securityUtils;
+
+    // =====================================================
+    // USE CASE: Registrar Muestreos
+    // =====================================================
+
+    /**
+     * Registra los muestreos de un grupo de vehículos.
+     *
+     * @param request muestreos por vehículo
+     * @return cantidad de vehículos y muestreos registrados
+     * @throws ValidationException con los errores de todas las llantas rechazadas
+     */
+    @Transactional
+    public TireSamplingBatchResponse registerSamplings(TireSamplingBatchRequest request) {
+        List<VehicleSampling> vehicles = request.getVehicles().stream()
+                .map(this::toVehicleSampling)
+                .toList();
+        List<UUID> vehicleIds = vehicles.stream().map(VehicleSampling::vehicleId).distinct().toList();
+
+        Map<String, SamplingBaseline> baselines = tireSamplingJdbcRepository.lockBaselines(vehicleIds);
+        List<SamplingRecord> records = SamplingValidator.validate(vehicles, baselines);
+
+        int inserted = tireSamplingJdbcRepository.insert(records, securityUtils.getCurrentUserId());
+        Map<UUID, SamplingBaseline> byInstallation = baselines.values().stream()
+                .collect(Collectors.toMap(SamplingBaseline::installationId, Function.identity()));
+        wearPredictionService.applySamplings(toObservations(records, byInstallation));
+        int alerts = tireAlertService.evaluateSamplings(records, byInstallation);
+
+        log.info("Muestreos registrados: {} llantas de {} vehículos, {} alertas nuevas",
+                inserted, vehicleIds.size(), alerts);
+        return new TireSamplingBatchResponse(vehicleIds.size(), inserted);
+    }
+
+    // =====================================================
+    // MÉTODOS AUXILIARES
+    // =====================================================
+
+    private List<WearObservation> toObservations(List<SamplingRecord> records, Map<UUID, SamplingBaseline> baselines) {
+        return records.stream()
+                .map(record -> new WearObservation(
+                        record.installationId(),
+                        record.mileage() - baselines.get(record.installationId()).mileageAtInstallation(),
+                        record.depthInternal().add(record.depthCentral()).add(record.depthExternal()).doubleValue() / 3,
+                        record.samplingDate()))
+                .toList();
+    }
+
+    private VehicleSampling toVehicleSampling(VehicleSamplingRequest request) {
+        List<TireSample> samples = request.getSamples().stream()
+                .map(this::toSample)
+                .toList();
+        return new VehicleSampling(request.getVehicleId(), request.getMileage(), request.getSamplingDate(), samples);
+    }
+
+    private TireSample toSample(TireSampleRequest request) {
+        return new TireSample(request.getTireNumber().trim(), request.getDepthInternalMm(),
+                request.getDepthCentralMm(), request.getDepthExternalMm(), request.getPressurePsi());
+    }
+}
@@ -3,9 +3,12 @@ package com.transer.vortice.tire.application.service;
 import com.transer.vortice.shared.infrastructure.exception.BusinessException;
 import com.transer.vortice.shared.infrastructure.exception.NotFoundException;
 import com.transer.vortice.shared.infrastructure.exception.ValidationException;
+import com.transer.vortice.shared.infrastructure.pagination.CursorPage;
+import com.transer.vortice.shared.infrastructure.pagination.KeysetCursor;
 import com.transer.vortice.tire.application.dto.request.CreateTireSpecificationRequest;
 import com.transer.vortice.tire.application.dto.request.UpdateTireSpecificationRequest;
 import com.transer.vortice.tire.application.dto.response.TireSpecificationResponse;
+import com.transer.vortice.tire.application.dto.response.TireSpecificationSearchResult;
 import com.transer.vortice.tire.application.dto.response.TireSpecificationSummaryResponse;
 import com.transer.vortice.tire.application.mapper.TireSpecificationMapper;
 import com.transer.vortice.tire.domain.model.TireSpecification;
@@ -14,10 +17,12 @@ import com.transer.vortice.tire.domain.model.catalog.TireReference;
 import com.transer.vortice.tire.domain.model.catalog.TireSupplier;
 import com.transer.vortice.tire.domain.model.catalog.TireType;
 import com.transer.vortice.tire.domain.repository.*;
+import com.transer.vortice.tire.infrastructure.search.TireSpecificationSearchRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +42,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TireSpecificationService {
 
+    /**
+     * Máximo de sugerencias por búsqueda rápida.
+     */
+    public static final int MAX_TYPEAHEAD_RESULTS = 50;
+
     private final TireSpecificationRepository tireSpecificationRepository;
     private final TireBrandRepository tireBrandRepository;
     private final TireTypeRepository tireTypeRepository;
@@ -44,6 +54,7 @@ public class TireSpecificationService {
     private final TireCatalogSupplierRepository tireCatalogSupplierRepository;
     private final TireSpecificationMapper mapper;
     private final CodeGeneratorService codeGeneratorService;
+    private final TireSpecificationSearchRepository tireSpecificationSearchRepository;
 
     // =====================================================
     // USE CASE: Crear Especificación Técnica
@@ -118,6 +129,59 @@ public class TireSpecificationService {
         return specificationsPage.map(mapper::toSummaryResponse);
     }
 
+    /**
+     * Lista especificaciones técnicas por keyset (cursor), ordenadas por código.
+     *
+     * Pensado para clientes que recorren el catálogo completo con scroll: cada página
+     * se lee desde la posición del cursor usando el índice (código, ID), sin OFFSET
+     * ni COUNT(*), por lo que su costo no crece con la profundidad de la página.
+     *
+     * @param brandId ID de la marca (opcional)
+     * @param typeId ID del tipo (opcional)
+     * @param referenceId ID de la referencia (opcional)
+     * @param isActive estado activo (opcional)
+     * @param cursor cursor de la página anterior (null para la primera página)
+     * @param size tamaño de página
+     * @param direction dirección de ordenamiento por código
+     * @return página de especificaciones con el cursor de la siguiente
+     * @throws ValidationException si el tamaño es inválido o el cursor está mal formado o
+     *         se generó con otra dirección u otros filtros
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TireSpecificationSummaryResponse> scrollTireSpecifications(
+            UUID brandId,
+            UUID typeId,
+            UUID referenceId,
+            Boolean isActive,
+            String cursor,
+            int size,
+            Sort.Direction direction
+    ) {
+        log.info("Listando especificaciones técnicas por cursor - Tamaño: {}, Dirección: {}", size, direction);
+
+        String filters = KeysetCursor.hashFilters(brandId, typeId, referenceId, isActive);
+        KeysetCursor after = KeysetCursor.decode(cursor, direction, filters);
+        Pageable limit = CursorPage.limit(size);
+        boolean descending = direction == Sort.Direction.DESC;
+
+        List<TireSpecification> specifications;
+        if (after == null) {
+            specifications = descending
+                    ? tireSpecificationRepository.scrollByFiltersDesc(brandId, typeId, referenceId, isActive, limit)
+                    : tireSpecificationRepository.scrollByFilters(brandId, typeId, referenceId, isActive, limit);
+        } else {
+            specifications = descending
+                    ? tireSpecificationRepository.scrollByFiltersBefore(
+                            brandId, typeId, referenceId, isActive, after.key(), after.id(), limit)
+                    : tireSpecificationRepository.scrollByFiltersAfter(
+                            brandId, typeId, referenceId, isActive, after.key(), after.id(), limit);
+        }
+
+        return CursorPage.of(specifications, size,
+                specification -> new KeysetCursor(specification.getCode(), specification.getId(), direction, filters),
+                mapper::toSummaryResponse);
+    }
+
     /**
      * Lista todas las especificaciones técnicas activas sin paginación
      *
@@ -296,6 +360,29 @@ public class TireSpecificationService {
         return specificationsPage.map(mapper::toSummaryResponse);
     }
 
+    /**
+     * Búsqueda rápida (typeahead) de especificaciones técnicas
+     *
+     * Usa el documento de búsqueda indexado: coincidencia por prefijo de cada palabra,
+     * sin distinguir acentos ni mayúsculas, ordenada por relevancia.
+     *
+     * @param query texto escrito por el usuario
+     * @param includeInactive true para incluir especificaciones inactivas
+     * @param limit máximo de resultados
+     * @return sugerencias ordenadas por relevancia
+     * @throws ValidationException si el límite está fuera de rango
+     */
+    @Transactional(readOnly = true)
+    public List<TireSpecificationSearchResult> typeaheadTireSpecifications(String query, boolean includeInactive, int limit) {
+        if (limit < 1 || limit > MAX_TYPEAHEAD_RESULTS) {
+            throw new ValidationException("El límite de resultados debe estar entre 1 y " + MAX_TYPEAHEAD_RESULTS);
+        }
+
+        log.debug("Búsqueda rápida de especificaciones técnicas: {}", query);
+
+        return tireSpecificationSearchRepository.search(query, includeInactive, limit);
+    }
+
     /**
      * Busca especificaciones técnicas con filtros múltiples
      *
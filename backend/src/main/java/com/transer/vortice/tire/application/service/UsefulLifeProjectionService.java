@@ -0,0 +1,79 @@
+package com.transer.vortice.tire.application.service;
+
+import com.transer.vortice.shared.infrastructure.config.UsefulLifeProperties;
+import com.transer.vortice.tire.application.dto.response.UsefulLifeListResponse;
+import com.transer.vortice.tire.application.dto.response.UsefulLifeResponse;
+import com.transer.vortice.tire.infrastructure.projection.UsefulLifeProjectionRepository;
+import com.transer.vortice.tire.infrastructure.projection.UsefulLifeRefreshState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Servicio de la proyección de vida útil (tire_management.mv_useful_life).
+ *
+ * Los tableros leen la vista constantemente; recalcularla completa en cada lectura o
+ * en cada escritura no es viable. Se refresca en segundo plano solo cuando hubo
+ * escrituras relevantes (marca de sucia de V3.8.0) y cada consulta informa hasta
+ * cuándo están incluidos los datos.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UsefulLifeProjectionService {
+
+    private final UsefulLifeProjectionRepository usefulLifeProjectionRepository;
+    private final UsefulLifeProperties properties;
+
+    /**
+     * Revisa la marca de sucia periódicamente.
+     */
+    @Scheduled(fixedDelayString = "${vortice.useful-life.refresh-interval-ms:60000}",
+            initialDelayString = "${vortice.useful-life.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("Error refrescando la vista de vida útil; se reintenta en la siguiente revisión", e);
+        }
+    }
+
+    /**
+     * Refresca la vista si tiene escrituras pendientes y ningún otro nodo la está refrescando.
+     *
+     * @return true si se refrescó la vista
+     */
+    public boolean refresh() {
+        return usefulLifeProjectionRepository.refreshIfDirty(properties.getWriterWaitMs());
+    }
+
+    // =====================================================
+    // USE CASE: Consultar Vida Útil
+    // =====================================================
+
+    /**
+     * Llantas montadas, primero las de menor profundidad promedio, con la frescura de los datos.
+     *
+     * @param vehicleId filtra por vehículo (opcional)
+     * @param limit máximo de filas (acotado por vortice.useful-life.max-results)
+     * @return llantas y estado de refresco de la vista
+     */
+    @Transactional(readOnly = true)
+    public UsefulLifeListResponse find(UUID vehicleId, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, properties.getMaxResults()));
+        UsefulLifeRefreshState state = usefulLifeProjectionRepository.findState();
+        List<UsefulLifeResponse> tires = usefulLifeProjectionRepository.find(vehicleId, boundedLimit);
+
+        return new UsefulLifeListResponse(state.refreshedAt(), state.stale(), state.dirtySince(), tires);
+    }
+}
@@ -0,0 +1,198 @@
+package com.transer.vortice.tire.application.service;
+
+import com.transer.vortice.shared.infrastructure.config.WearPredictionProperties;
+import com.transer.vortice.tire.application.dto.response.WearPredictionResponse;
+import com.transer.vortice.tire.domain.model.wear.WearForecastBatch;
+import com.transer.vortice.tire.domain.model.wear.WearObservation;
+import com.transer.vortice.tire.domain.model.wear.WearRegression;
+import com.transer.vortice.tire.domain.model.wear.WearSampleSet;
+import com.transer.vortice.tire.infrastructure.wear.WearPredictionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de la proyección de desgaste: tasa de desgaste (mm por 1000 km), km hasta la
+ * profundidad mínima legal y fecha proyectada de retiro de cada llanta montada.
+ *
+ * <ul>
+ *   <li>Cálculo de la flota: se cargan todos los muestreos de las instalaciones activas
+ *       en arreglos primitivos ({@link WearSampleSet}) y se ajusta la recta de cada una en
+ *       un pool fork-join, sin objetos por muestreo.</li>
+ *   <li>Actualización incremental: al registrar muestreos se suman los puntos nuevos a
+ *       los estadísticos guardados, sin releer el historial de la instalación.</li>
+ * </ul>
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Service
+public class WearPredictionService {
+
+    private final WearPredictionRepository wearPredictionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final WearPredictionProperties properties;
+
+    public WearPredictionService(
+            WearPredictionRepository wearPredictionRepository,
+            PlatformTransactionManager transactionManager,
+            WearPredictionProperties properties) {
+        this.wearPredictionRepository = wearPredictionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    /**
+     * Recalcula toda la flota según el cron configurado.
+     */
+    @Scheduled(cron = "${vortice.wear-prediction.cron:0 0 2 * * *}")
+    public void scheduledFleetForecast() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            forecastFleet();
+        } catch (RuntimeException e) {
+            log.error("Error calculando la proyección de desgaste de la flota; se reintenta en la siguiente ejecución", e);
+        }
+    }
+
+    // =====================================================
+    // USE CASE: Proyectar Desgaste de la Flota
+    // =====================================================
+
+    /**
+     * Recalcula desde los muestreos la proyección de todas las instalaciones activas.
+     * Un único nodo calcula a la vez; las proyecciones actualizadas por un muestreo
+     * posterior a la lectura no se sobrescriben.
+     *
+     * @return instalaciones proyectadas, 0 si otro nodo está calculando
+     */
+    public int forecastFleet() {
+        Integer saved = transactionTemplate.execute(status -> {
+            if (!wearPredictionRepository.tryLockFleet()) {
+                log.debug("Otro nodo está calculando la proyección de desgaste");
+                return 0;
+            }
+            long start = System.nanoTime();
+            WearSampleSet samples = wearPredictionRepository.loadFleet(properties.getFetchSize());
+            long loaded = System.nanoTime();
+
+            WearForecastBatch batch;
+            try (ForkJoinPool pool = new ForkJoinPool(properties.getParallelism())) {
+                batch = samples.forecast(properties.getMinimumDepthMm(), pool);
+            }
+            long computed = System.nanoTime();
+
+            int rows = wearPredictionRepository.save(batch, properties.getWriteChunkSize());
+            int deleted = wearPredictionRepository.deleteInactive();
+
+            log.info("Proyección de desgaste: {} instalaciones, {} muestreos (carga {} ms, cálculo {} ms, "
+                            + "escritura {} ms), {} eliminadas",
+                    batch.size(), samples.samples(), millis(start, loaded), millis(loaded, computed),
+                    millis(computed, System.nanoTime()), deleted);
+            return rows;
+        });
+        return saved != null ? saved : 0;
+    }
+
+    // =====================================================
+    // USE CASE: Actualizar con Muestreos Nuevos
+    // =====================================================
+
+    /**
+     * Incorpora muestreos recién insertados a la proyección de sus instalaciones. Debe
+     * llamarse en la transacción que los insertó.
+     *
+     * Las instalaciones sin proyección guardada, o con un muestreo anterior (en km) al
+     * último incorporado, se recalculan desde sus muestreos.
+     *
+     * @param observations muestreos nuevos
+     * @return instalaciones actualizadas
+     */
+    @Transactional
+    public int applySamplings(List<WearObservation> observations) {
+        if (observations.isEmpty()) {
+            return 0;
+        }
+        Map<UUID, List<WearObservation>> byInstallation = observations.stream()
+                .sorted(Comparator.comparingDouble(WearObservation::km))
+                .collect(Collectors.groupingBy(WearObservation::installationId, LinkedHashMap::new, Collectors.toList()));
+
+        WearForecastBatch stored = wearPredictionRepository.lockStats(byInstallation.keySet());
+        Set<UUID> recalculate = new LinkedHashSet<>(byInstallation.keySet());
+        List<Integer> incremental = new ArrayList<>();
+        for (int i = 0; i < stored.size(); i++) {
+            List<WearObservation> points = byInstallation.get(stored.installationId(i));
+            if (points.get(0).km() > stored.stat(i, WearRegression.LAST_X)) {
+                recalculate.remove(stored.installationId(i));
+                incremental.add(i);
+            }
+        }
+
+        WearForecastBatch updated = select(stored, incremental);
+        for (int i = 0; i < updated.size(); i++) {
+            for (WearObservation point : byInstallation.get(updated.installationId(i))) {
+                updated.add(i, point.km(), point.averageDepth(), point.samplingDate());
+            }
+        }
+        updated.predict(properties.getMinimumDepthMm());
+        int saved = wearPredictionRepository.save(updated, properties.getWriteChunkSize());
+
+        if (!recalculate.isEmpty()) {
+            WearForecastBatch recalculated = wearPredictionRepository.loadSamples(recalculate)
+                    .forecast(properties.getMinimumDepthMm(), ForkJoinPool.commonPool());
+            saved += wearPredictionRepository.save(recalculated, properties.getWriteChunkSize());
+        }
+
+        log.debug("Proyección de desgaste actualizada: {} incrementales, {} recalculadas",
+                updated.size(), recalculate.size());
+        return saved;
+    }
+
+    // =====================================================
+    // USE CASE: Consultar Proyección
+    // =====================================================
+
+    /**
+     * Proyección de las llantas montadas en un vehículo.
+     */
+    @Transactional(readOnly = true)
+    public List<WearPredictionResponse> findByVehicle(UUID vehicleId) {
+        return wearPredictionRepository.findByVehicle(vehicleId);
+    }
+
+    // =====================================================
+    // MÉTODOS AUXILIARES
+    // =====================================================
+
+    private static WearForecastBatch select(WearForecastBatch batch, List<Integer> indexes) {
+        UUID[] ids = new UUID[indexes.size()];
+        double[] stats = new double[indexes.size() * WearRegression.STATS];
+        for (int i = 0; i < ids.length; i++) {
+            int index = indexes.get(i);
+            ids[i] = batch.installationId(index);
+            System.arraycopy(batch.stats(), index * WearRegression.STATS, stats, i * WearRegression.STATS,
+                    WearRegression.STATS);
+        }
+        return new WearForecastBatch(ids, stats);
+    }
+
+    private static long millis(long from, long to) {
+        return (to - from) / 1_000_000;
+    }
+}
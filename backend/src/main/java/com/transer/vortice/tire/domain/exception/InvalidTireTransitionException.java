@@ -0,0 +1,23 @@
+package com.transer.vortice.tire.domain.exception;
+
+import com.transer.vortice.shared.infrastructure.exception.BusinessException;
+import com.transer.vortice.tire.domain.model.lifecycle.TireMovementType;
+import com.transer.vortice.tire.domain.model.lifecycle.TireState;
+
+/**
+ * Excepción lanzada cuando un movimiento no es válido para el estado actual de la llanta
+ * o para la ocupación del vehículo.
+ *
+ * @author Vórtice Development Team
+ */
+public class InvalidTireTransitionException extends BusinessException {
+
+    public InvalidTireTransitionException(String tireNumber, TireState currentState, TireMovementType movement) {
+        super("INVALID_TIRE_TRANSITION", String.format(
+                "La llanta %s está en estado %s y no admite el movimiento %s", tireNumber, currentState, movement));
+    }
+
+    public InvalidTireTransitionException(String message) {
+        super("INVALID_TIRE_TRANSITION", message);
+    }
+}
@@ -5,6 +5,7 @@ import com.transer.vortice.tire.domain.model.catalog.TireBrand;
 import com.transer.vortice.tire.domain.model.catalog.TireReference;
 import com.transer.vortice.tire.domain.model.catalog.TireSupplier;
 import com.transer.vortice.tire.domain.model.catalog.TireType;
+import com.transer.vortice.tire.infrastructure.alert.AlertRulesInvalidationListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
@@ -31,6 +32,7 @@ import java.util.Map;
  */
 @Entity
 @Table(name = "technical_specifications", schema = "tire_management")
+@EntityListeners(AlertRulesInvalidationListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,24 @@
+package com.transer.vortice.tire.domain.model.alert;
+
+import java.util.UUID;
+
+/**
+ * Alerta generada por una regla, pendiente de escribirse en tire_management.alerts.
+ *
+ * @param type tipo de alerta (define la prioridad)
+ * @param tireId llanta
+ * @param installationId instalación activa (clave de deduplicación junto con el tipo)
+ * @param vehicleId vehículo
+ * @param message descripción para el usuario
+ * @param alertData valores medidos y umbral en JSON
+ *
+ * @author Vórtice Development Team
+ */
+public record AlertCandidate(
+        AlertType type,
+        UUID tireId,
+        UUID installationId,
+        UUID vehicleId,
+        String message,
+        String alertData) {
+}
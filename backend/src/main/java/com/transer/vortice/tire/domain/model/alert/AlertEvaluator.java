@@ -0,0 +1,173 @@
+package com.transer.vortice.tire.domain.model.alert;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reglas de alertas compiladas: los umbrales de cada especificación técnica se calculan
+ * una vez y quedan en arreglos primitivos indexados por especificación, de modo que
+ * evaluar una lectura es una búsqueda en un mapa y unas pocas comparaciones.
+ *
+ * Reglas:
+ * <ul>
+ *   <li>CRITICAL_DEPTH: alguna banda bajo la profundidad crítica.</li>
+ *   <li>INCORRECT_PRESSURE: presión fuera de expected_performance.pressure_range.</li>
+ *   <li>IRREGULAR_WEAR: desgaste desde el muestreo anterior mayor a {@code wearRateFactor}
+ *       veces el esperado, (profundidad inicial - crítica) / km esperados.</li>
+ *   <li>MILEAGE_EXCEEDED: km del montaje actual mayores a los esperados.</li>
+ * </ul>
+ *
+ * Las lecturas de llantas sin especificación, o con una especificación desconocida, solo
+ * se evalúan contra la profundidad crítica. Es inmutable y se comparte entre hilos.
+ *
+ * @author Vórtice Development Team
+ */
+public final class AlertEvaluator {
+
+    private final Map<UUID, Integer> index;
+    private final int[] pressureMin;
+    private final int[] pressureMax;
+    private final int[] expectedMileage;
+    private final double[] maxWearPerKm;
+    private final double criticalDepth;
+    private final int minWearSegmentKm;
+    private final long compiledAt;
+
+    private AlertEvaluator(int size, double criticalDepth, int minWearSegmentKm, long compiledAt) {
+        this.index = new HashMap<>(Math.max(16, size * 2));
+        this.pressureMin = new int[size];
+        this.pressureMax = new int[size];
+        this.expectedMileage = new int[size];
+        this.maxWearPerKm = new double[size];
+        this.criticalDepth = criticalDepth;
+        this.minWearSegmentKm = minWearSegmentKm;
+        this.compiledAt = compiledAt;
+    }
+
+    /**
+     * Compila los umbrales de las especificaciones.
+     *
+     * @param specifications especificaciones técnicas vigentes
+     * @param criticalDepth profundidad crítica en mm
+     * @param wearRateFactor veces la tasa de desgaste esperada que se considera anormal
+     * @param minWearSegmentKm km mínimos entre muestreos para medir la tasa de desgaste
+     * @param compiledAt instante de compilación (ms epoch)
+     */
+    public static AlertEvaluator compile(Collection<SpecificationThresholds> specifications, double criticalDepth,
+                                         double wearRateFactor, int minWearSegmentKm, long compiledAt) {
+        AlertEvaluator evaluator = new AlertEvaluator(specifications.size(), criticalDepth, minWearSegmentKm, compiledAt);
+        int i = 0;
+        for (SpecificationThresholds spec : specifications) {
+            evaluator.index.put(spec.specificationId(), i);
+            evaluator.pressureMin[i] = spec.pressureMin() != null ? spec.pressureMin() : Integer.MIN_VALUE;
+            evaluator.pressureMax[i] = spec.pressureMax() != null ? spec.pressureMax() : Integer.MAX_VALUE;
+            evaluator.expectedMileage[i] = spec.expectedMileage() > 0 ? spec.expectedMileage() : Integer.MAX_VALUE;
+            double usableDepth = spec.initialAverageDepth() - criticalDepth;
+            evaluator.maxWearPerKm[i] = spec.expectedMileage() > 0 && usableDepth > 0
+                    ? wearRateFactor * usableDepth / spec.expectedMileage()
+                    : Double.POSITIVE_INFINITY;
+            i++;
+        }
+        return evaluator;
+    }
+
+    public long compiledAt() {
+        return compiledAt;
+    }
+
+    /**
+     * Indica si la especificación tiene umbrales compilados (null no tiene umbrales propios).
+     */
+    public boolean covers(UUID specificationId) {
+        return specificationId == null || index.containsKey(specificationId);
+    }
+
+    /**
+     * Evalúa un muestreo y agrega a {@code alerts} las alertas que dispara.
+     */
+    public void evaluate(TireReading reading, List<AlertCandidate> alerts) {
+        double minimumDepth = reading.minimumDepth();
+        if (minimumDepth < criticalDepth) {
+            alerts.add(new AlertCandidate(AlertType.CRITICAL_DEPTH, reading.tireId(), reading.installationId(),
+                    reading.vehicleId(),
+                    "Llanta " + reading.tireNumber() + ": profundidad de " + round(minimumDepth, 1)
+                            + " mm bajo el mínimo de " + round(criticalDepth, 1) + " mm",
+                    "{\"depth_mm\":" + round(minimumDepth, 2) + ",\"threshold_mm\":" + round(criticalDepth, 2) + "}"));
+        }
+
+        int spec = indexOf(reading.specificationId());
+        if (spec < 0) {
+            return;
+        }
+
+        int pressure = reading.pressure();
+        if (pressure < pressureMin[spec] || pressure > pressureMax[spec]) {
+            alerts.add(new AlertCandidate(AlertType.INCORRECT_PRESSURE, reading.tireId(), reading.installationId(),
+                    reading.vehicleId(),
+                    "Llanta " + reading.tireNumber() + ": presión de " + pressure + " psi fuera del rango esperado",
+                    "{\"pressure_psi\":" + pressure + ",\"min_psi\":" + bound(pressureMin[spec], Integer.MIN_VALUE)
+                            + ",\"max_psi\":" + bound(pressureMax[spec], Integer.MAX_VALUE) + "}"));
+        }
+
+        double segmentKm = reading.kmSinceInstallation() - reading.previousKm();
+        if (segmentKm >= minWearSegmentKm) {
+            double wearPerKm = (reading.previousAverageDepth() - reading.averageDepth()) / segmentKm;
+            if (wearPerKm > maxWearPerKm[spec]) {
+                alerts.add(new AlertCandidate(AlertType.IRREGULAR_WEAR, reading.tireId(), reading.installationId(),
+                        reading.vehicleId(),
+                        "Llanta " + reading.tireNumber() + ": desgaste de " + round(wearPerKm * 1_000, 3)
+                                + " mm por 1000 km, mayor al esperado de " + round(maxWearPerKm[spec] * 1_000, 3),
+                        "{\"wear_mm_per_1000km\":" + round(wearPerKm * 1_000, 4)
+                                + ",\"threshold_mm_per_1000km\":" + round(maxWearPerKm[spec] * 1_000, 4)
+                                + ",\"segment_km\":" + (long) segmentKm + "}"));
+            }
+        }
+
+        evaluateMileage(spec, reading.installationId(), reading.tireId(), reading.tireNumber(), reading.vehicleId(),
+                reading.kmSinceInstallation(), alerts);
+    }
+
+    /**
+     * Evalúa las reglas de kilometraje de una llanta montada.
+     */
+    public void evaluate(MountedTire tire, List<AlertCandidate> alerts) {
+        int spec = indexOf(tire.specificationId());
+        if (spec >= 0) {
+            evaluateMileage(spec, tire.installationId(), tire.tireId(), tire.tireNumber(), tire.vehicleId(),
+                    tire.kmSinceInstallation(), alerts);
+        }
+    }
+
+    private void evaluateMileage(int spec, UUID installationId, UUID tireId, String tireNumber, UUID vehicleId,
+                                 int km, List<AlertCandidate> alerts) {
+        if (km > expectedMileage[spec]) {
+            alerts.add(new AlertCandidate(AlertType.MILEAGE_EXCEEDED, tireId, installationId, vehicleId,
+                    "Llanta " + tireNumber + ": " + km + " km en el montaje actual, superior a los "
+                            + expectedMileage[spec] + " km esperados",
+                    "{\"km\":" + km + ",\"expected_km\":" + expectedMileage[spec] + "}"));
+        }
+    }
+
+    private int indexOf(UUID specificationId) {
+        if (specificationId == null) {
+            return -1;
+        }
+        Integer spec = index.get(specificationId);
+        return spec != null ? spec : -1;
+    }
+
+    private static String bound(int value, int none) {
+        return value == none ? "null" : Integer.toString(value);
+    }
+
+    /**
+     * Redondeo para mensajes y JSON; más barato que String.format en lotes grandes.
+     */
+    private static double round(double value, int decimals) {
+        double scale = Math.pow(10, decimals);
+        return Math.round(value * scale) / scale;
+    }
+}
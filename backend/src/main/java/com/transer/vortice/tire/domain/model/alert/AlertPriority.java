@@ -0,0 +1,16 @@
+package com.transer.vortice.tire.domain.model.alert;
+
+/**
+ * Prioridad de una alerta (tipo tire_management.alert_priority).
+ *
+ * - HIGH: acción en menos de 24 horas.
+ * - MEDIUM: acción en menos de 72 horas.
+ * - LOW: informativa.
+ *
+ * @author Vórtice Development Team
+ */
+public enum AlertPriority {
+    HIGH,
+    MEDIUM,
+    LOW
+}
@@ -0,0 +1,27 @@
+package com.transer.vortice.tire.domain.model.alert;
+
+/**
+ * Tipo de alerta (tipo tire_management.alert_type) y la prioridad con la que la
+ * generan las reglas.
+ *
+ * @author Vórtice Development Team
+ */
+public enum AlertType {
+
+    CRITICAL_DEPTH(AlertPriority.HIGH),
+    IRREGULAR_WEAR(AlertPriority.MEDIUM),
+    SAMPLING_REQUIRED(AlertPriority.LOW),
+    INCORRECT_PRESSURE(AlertPriority.MEDIUM),
+    LOW_INVENTORY(AlertPriority.LOW),
+    MILEAGE_EXCEEDED(AlertPriority.LOW);
+
+    private final AlertPriority priority;
+
+    AlertType(AlertPriority priority) {
+        this.priority = priority;
+    }
+
+    public AlertPriority getPriority() {
+        return priority;
+    }
+}
@@ -0,0 +1,25 @@
+package com.transer.vortice.tire.domain.model.alert;
+
+import java.util.UUID;
+
+/**
+ * Llanta montada con los km recorridos en su montaje actual, para las reglas que
+ * dependen solo del kilometraje (movimientos del vehículo).
+ *
+ * @param installationId instalación activa
+ * @param tireId llanta
+ * @param tireNumber número de la llanta física
+ * @param vehicleId vehículo
+ * @param specificationId especificación técnica de la llanta (null si no tiene)
+ * @param kmSinceInstallation km recorridos desde el montaje
+ *
+ * @author Vórtice Development Team
+ */
+public record MountedTire(
+        UUID installationId,
+        UUID tireId,
+        String tireNumber,
+        UUID vehicleId,
+        UUID specificationId,
+        int kmSinceInstallation) {
+}
@@ -0,0 +1,22 @@
+package com.transer.vortice.tire.domain.model.alert;
+
+import java.util.UUID;
+
+/**
+ * Valores de una especificación técnica que usan las reglas de alertas.
+ *
+ * @param specificationId ID de la especificación técnica
+ * @param expectedMileage km esperados por montaje
+ * @param initialAverageDepth profundidad promedio inicial en mm
+ * @param pressureMin presión mínima de expected_performance.pressure_range (null si no tiene)
+ * @param pressureMax presión máxima de expected_performance.pressure_range (null si no tiene)
+ *
+ * @author Vórtice Development Team
+ */
+public record SpecificationThresholds(
+        UUID specificationId,
+        int expectedMileage,
+        double initialAverageDepth,
+        Integer pressureMin,
+        Integer pressureMax) {
+}
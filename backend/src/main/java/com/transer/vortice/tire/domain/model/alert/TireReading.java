@@ -0,0 +1,44 @@
+package com.transer.vortice.tire.domain.model.alert;
+
+import java.util.UUID;
+
+/**
+ * Muestreo de una llanta montada a evaluar contra las reglas de alertas.
+ *
+ * @param installationId instalación activa
+ * @param tireId llanta
+ * @param tireNumber número de la llanta física
+ * @param vehicleId vehículo
+ * @param specificationId especificación técnica de la llanta (null si no tiene)
+ * @param kmSinceInstallation km recorridos desde el montaje
+ * @param depthInternal profundidad banda interna en mm
+ * @param depthCentral profundidad banda central en mm
+ * @param depthExternal profundidad banda externa en mm
+ * @param pressure presión en psi
+ * @param previousKm km desde el montaje del muestreo anterior ({@code NaN} si no tiene)
+ * @param previousAverageDepth profundidad promedio del muestreo anterior ({@code NaN} si no tiene)
+ *
+ * @author Vórtice Development Team
+ */
+public record TireReading(
+        UUID installationId,
+        UUID tireId,
+        String tireNumber,
+        UUID vehicleId,
+        UUID specificationId,
+        int kmSinceInstallation,
+        double depthInternal,
+        double depthCentral,
+        double depthExternal,
+        int pressure,
+        double previousKm,
+        double previousAverageDepth) {
+
+    public double averageDepth() {
+        return (depthInternal + depthCentral + depthExternal) / 3;
+    }
+
+    public double minimumDepth() {
+        return Math.min(depthInternal, Math.min(depthCentral, depthExternal));
+    }
+}
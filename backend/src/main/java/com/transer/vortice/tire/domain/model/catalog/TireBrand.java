@@ -1,6 +1,7 @@
 package com.transer.vortice.tire.domain.model.catalog;
 
 import com.transer.vortice.shared.domain.entity.AuditableUUIDEntity;
+import com.transer.vortice.tire.infrastructure.cache.TireCatalogCacheEvictionListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -18,6 +19,7 @@ import lombok.Setter;
  */
 @Entity
 @Table(name = "brands", schema = "tire_management")
+@EntityListeners(TireCatalogCacheEvictionListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
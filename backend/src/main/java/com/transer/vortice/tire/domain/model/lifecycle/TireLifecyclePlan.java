@@ -0,0 +1,31 @@
+package com.transer.vortice.tire.domain.model.lifecycle;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Plan validado de un lote de movimientos de un vehículo, agrupado por tipo para
+ * ejecutarse con una sentencia por lote y paso (desmontajes, rotaciones, montajes).
+ *
+ * @author Vórtice Development Team
+ */
+public record TireLifecyclePlan(
+        UUID vehicleId,
+        int mileage,
+        List<Dismount> dismounts,
+        List<Rotation> rotations,
+        List<Mount> mounts) {
+
+    public record Dismount(UUID tireId, String tireNumber, UUID installationId, short position, UUID removalReasonId) {
+    }
+
+    public record Rotation(UUID tireId, String tireNumber, UUID installationId, short fromPosition, short toPosition) {
+    }
+
+    public record Mount(UUID tireId, String tireNumber, short position) {
+    }
+
+    public int size() {
+        return dismounts.size() + rotations.size() + mounts.size();
+    }
+}
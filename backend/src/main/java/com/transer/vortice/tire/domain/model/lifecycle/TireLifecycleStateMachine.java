@@ -0,0 +1,165 @@
+package com.transer.vortice.tire.domain.model.lifecycle;
+
+import com.transer.vortice.shared.infrastructure.exception.NotFoundException;
+import com.transer.vortice.shared.infrastructure.exception.ValidationException;
+import com.transer.vortice.tire.domain.exception.InvalidTireTransitionException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Máquina de estados del ciclo de vida de llantas.
+ *
+ * Valida un lote completo de movimientos de un vehículo contra el estado leído al
+ * inicio de la transacción, sin acceder a la base de datos. La ocupación de
+ * posiciones se evalúa sobre el resultado final del lote: primero se liberan las
+ * posiciones de los desmontajes y de origen de las rotaciones, luego se ocupan los
+ * destinos. Así un intercambio (1 -> 2 y 2 -> 1) o un reemplazo (desmontar y montar
+ * en la misma posición) son válidos en un mismo lote.
+ *
+ * @author Vórtice Development Team
+ */
+public final class TireLifecycleStateMachine {
+
+    /**
+     * Máximo de movimientos por lote (dos por cada posición posible de un vehículo).
+     */
+    public static final int MAX_MOVEMENTS = 64;
+
+    private TireLifecycleStateMachine() {
+    }
+
+    /**
+     * Valida el lote y construye el plan de ejecución.
+     *
+     * @param vehicle vehículo bloqueado con su ocupación actual
+     * @param mileage kilometraje del vehículo en el momento de los movimientos
+     * @param movementDate fecha de los movimientos
+     * @param tires llantas del lote por número
+     * @param movements movimientos en el orden recibido
+     * @return plan validado
+     * @throws ValidationException si el lote es inconsistente (posiciones, kilometraje, llantas repetidas)
+     * @throws InvalidTireTransitionException si algún movimiento no es válido para el estado de la llanta
+     * @throws NotFoundException si alguna llanta no existe
+     */
+    public static TireLifecyclePlan plan(VehicleSnapshot vehicle, int mileage, LocalDate movementDate,
+                                         Map<String, TireSnapshot> tires, List<TireMovement> movements) {
+        if (movements == null || movements.isEmpty()) {
+            throw new ValidationException("El lote debe contener al menos un movimiento");
+        }
+        if (movements.size() > MAX_MOVEMENTS) {
+            throw new ValidationException(String.format(
+                    "El lote no puede superar %d movimientos", MAX_MOVEMENTS));
+        }
+        if (mileage < vehicle.currentMileage()) {
+            throw new ValidationException(String.format(
+                    "El kilometraje (%d) no puede ser menor al kilometraje actual del vehículo (%d)",
+                    mileage, vehicle.currentMileage()));
+        }
+
+        Map<Short, UUID> occupancy = new HashMap<>(vehicle.occupiedPositions());
+        Set<String> seen = new HashSet<>();
+        List<TireLifecyclePlan.Dismount> dismounts = new ArrayList<>();
+        List<TireLifecyclePlan.Rotation> rotations = new ArrayList<>();
+        List<TireLifecyclePlan.Mount> mounts = new ArrayList<>();
+
+        // Paso 1: validar transiciones y liberar posiciones de origen
+        for (TireMovement movement : movements) {
+            TireSnapshot tire = tires.get(movement.tireNumber());
+            if (tire == null) {
+                throw new NotFoundException(String.format("Llanta con número %s no encontrada", movement.tireNumber()));
+            }
+            if (!seen.add(tire.tireNumber())) {
+                throw new ValidationException(String.format(
+                        "La llanta %s aparece más de una vez en el lote", tire.tireNumber()));
+            }
+            requireTransition(vehicle, tire, movement);
+            if (movement.type().requiresPosition()) {
+                requirePosition(vehicle, movement);
+            }
+
+            switch (movement.type()) {
+                case DISMOUNT -> {
+                    requireMileageAfterInstallation(tire, mileage, movementDate);
+                    occupancy.remove(tire.position());
+                    dismounts.add(new TireLifecyclePlan.Dismount(tire.tireId(), tire.tireNumber(),
+                            tire.installationId(), tire.position(), movement.removalReasonId()));
+                }
+                case ROTATE -> {
+                    if (movement.position().equals(tire.position())) {
+                        throw new ValidationException(String.format(
+                                "La llanta %s ya está en la posición %d", tire.tireNumber(), tire.position()));
+                    }
+                    occupancy.remove(tire.position());
+                    rotations.add(new TireLifecyclePlan.Rotation(tire.tireId(), tire.tireNumber(),
+                            tire.installationId(), tire.position(), movement.position()));
+                }
+                case MOUNT -> mounts.add(new TireLifecyclePlan.Mount(
+                        tire.tireId(), tire.tireNumber(), movement.position()));
+            }
+        }
+
+        // Paso 2: ocupar posiciones destino
+        for (TireLifecyclePlan.Rotation rotation : rotations) {
+            occupy(occupancy, rotation.toPosition(), rotation.tireId(), rotation.tireNumber());
+        }
+        for (TireLifecyclePlan.Mount mount : mounts) {
+            occupy(occupancy, mount.position(), mount.tireId(), mount.tireNumber());
+        }
+
+        return new TireLifecyclePlan(vehicle.vehicleId(), mileage,
+                List.copyOf(dismounts), List.copyOf(rotations), List.copyOf(mounts));
+    }
+
+    private static void requireTransition(VehicleSnapshot vehicle, TireSnapshot tire, TireMovement movement) {
+        TireMovementType type = movement.type();
+        if (tire.state() != type.getRequiredState()) {
+            throw new InvalidTireTransitionException(tire.tireNumber(), tire.state(), type);
+        }
+        if (type == TireMovementType.MOUNT && !tire.inInventory()) {
+            throw new InvalidTireTransitionException(String.format(
+                    "La llanta %s no tiene registro vigente en inventario", tire.tireNumber()));
+        }
+        if (type.getRequiredState() == TireState.ACTIVE && !vehicle.vehicleId().equals(tire.vehicleId())) {
+            throw new InvalidTireTransitionException(String.format(
+                    "La llanta %s no está montada en el vehículo %s", tire.tireNumber(), vehicle.vehicleId()));
+        }
+    }
+
+    private static void requirePosition(VehicleSnapshot vehicle, TireMovement movement) {
+        Short position = movement.position();
+        if (position == null || position < 1 || position > vehicle.numberOfTires()) {
+            throw new ValidationException(String.format(
+                    "Posición inválida para la llanta %s: debe estar entre 1 y %d",
+                    movement.tireNumber(), vehicle.numberOfTires()));
+        }
+    }
+
+    private static void requireMileageAfterInstallation(TireSnapshot tire, int mileage, LocalDate movementDate) {
+        if (tire.mileageAtInstallation() != null && mileage < tire.mileageAtInstallation()) {
+            throw new ValidationException(String.format(
+                    "El kilometraje de desmontaje de la llanta %s (%d) es menor al de montaje (%d)",
+                    tire.tireNumber(), mileage, tire.mileageAtInstallation()));
+        }
+        if (tire.installationDate() != null && movementDate.isBefore(tire.installationDate())) {
+            throw new ValidationException(String.format(
+                    "La fecha de desmontaje de la llanta %s es anterior a la de montaje (%s)",
+                    tire.tireNumber(), tire.installationDate()));
+        }
+    }
+
+    private static void occupy(Map<Short, UUID> occupancy, short position, UUID tireId, String tireNumber) {
+        UUID current = occupancy.putIfAbsent(position, tireId);
+        if (current != null) {
+            throw new InvalidTireTransitionException(String.format(
+                    "La posición %d queda ocupada por otra llanta al montar o rotar la llanta %s",
+                    position, tireNumber));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.transer.vortice.tire.domain.model.lifecycle;
+
+import java.util.UUID;
+
+/**
+ * Movimiento solicitado para una llanta dentro de un lote de un vehículo.
+ *
+ * @param type tipo de movimiento
+ * @param tireNumber número de la llanta física
+ * @param position posición destino (MOUNT y ROTATE), null en DISMOUNT
+ * @param removalReasonId motivo de desmontaje (opcional, solo DISMOUNT)
+ *
+ * @author Vórtice Development Team
+ */
+public record TireMovement(TireMovementType type, String tireNumber, Short position, UUID removalReasonId) {
+}
@@ -0,0 +1,41 @@
+package com.transer.vortice.tire.domain.model.lifecycle;
+
+/**
+ * Movimientos de llanta sobre un vehículo (PK_LLANTASWEB: PDB_MONTARLLANTA,
+ * PDB_DESMONTARLLANTA y PDB_ROTARLLANTA) y la transición de estado que producen.
+ *
+ * - MOUNT: INVENTORY -> ACTIVE. Incrementa el contador de vehículos de generation.
+ * - DISMOUNT: ACTIVE -> INTERMEDIATE. La llanta queda pendiente de evaluación.
+ * - ROTATE: ACTIVE -> ACTIVE. Cambia de posición en el mismo vehículo; generation no cambia.
+ *
+ * @author Vórtice Development Team
+ */
+public enum TireMovementType {
+
+    MOUNT(TireState.INVENTORY, TireState.ACTIVE),
+    DISMOUNT(TireState.ACTIVE, TireState.INTERMEDIATE),
+    ROTATE(TireState.ACTIVE, TireState.ACTIVE);
+
+    private final TireState requiredState;
+    private final TireState resultingState;
+
+    TireMovementType(TireState requiredState, TireState resultingState) {
+        this.requiredState = requiredState;
+        this.resultingState = resultingState;
+    }
+
+    public TireState getRequiredState() {
+        return requiredState;
+    }
+
+    public TireState getResultingState() {
+        return resultingState;
+    }
+
+    /**
+     * Indica si el movimiento necesita una posición destino.
+     */
+    public boolean requiresPosition() {
+        return this != DISMOUNT;
+    }
+}
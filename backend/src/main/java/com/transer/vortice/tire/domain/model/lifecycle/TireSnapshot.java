@@ -0,0 +1,33 @@
+package com.transer.vortice.tire.domain.model.lifecycle;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Estado actual de una llanta leído (y bloqueado) al inicio de un lote de movimientos.
+ *
+ * @param tireId ID de la llanta
+ * @param tireNumber número de la llanta física
+ * @param state estado actual
+ * @param generation generation actual ([VV][R])
+ * @param inInventory true si tiene registro vigente en inventory
+ * @param installationId instalación activa (null si no está montada)
+ * @param vehicleId vehículo donde está montada (null si no está montada)
+ * @param position posición donde está montada (null si no está montada)
+ * @param mileageAtInstallation kilometraje del vehículo al montarla (null si no está montada)
+ * @param installationDate fecha de montaje (null si no está montada)
+ *
+ * @author Vórtice Development Team
+ */
+public record TireSnapshot(
+        UUID tireId,
+        String tireNumber,
+        TireState state,
+        String generation,
+        boolean inInventory,
+        UUID installationId,
+        UUID vehicleId,
+        Short position,
+        Integer mileageAtInstallation,
+        LocalDate installationDate) {
+}
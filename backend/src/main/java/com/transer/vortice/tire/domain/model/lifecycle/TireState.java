@@ -0,0 +1,17 @@
+package com.transer.vortice.tire.domain.model.lifecycle;
+
+/**
+ * Estado del ciclo de vida de una llanta (tipo tire_management.tire_state).
+ *
+ * Cada estado corresponde a la tabla donde vive la llanta:
+ * INVENTORY -> inventory, ACTIVE -> active_installations,
+ * INTERMEDIATE -> intermediate, RETIRED -> retired.
+ *
+ * @author Vórtice Development Team
+ */
+public enum TireState {
+    INVENTORY,
+    ACTIVE,
+    INTERMEDIATE,
+    RETIRED
+}
@@ -0,0 +1,17 @@
+package com.transer.vortice.tire.domain.model.lifecycle;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Estado del vehículo al inicio de un lote de movimientos.
+ *
+ * @param vehicleId ID del vehículo
+ * @param currentMileage kilometraje actual registrado
+ * @param numberOfTires número de posiciones según la clase del vehículo
+ * @param occupiedPositions posición -> ID de la llanta montada
+ *
+ * @author Vórtice Development Team
+ */
+public record VehicleSnapshot(UUID vehicleId, int currentMileage, int numberOfTires, Map<Short, UUID> occupiedPositions) {
+}
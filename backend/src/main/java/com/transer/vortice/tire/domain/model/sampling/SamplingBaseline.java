@@ -0,0 +1,36 @@
+package com.transer.vortice.tire.domain.model.sampling;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Instalación activa con su último muestreo, contra la que se valida un muestreo nuevo.
+ *
+ * @param installationId ID de la instalación activa
+ * @param tireId ID de la llanta
+ * @param tireNumber número de la llanta física
+ * @param specificationId especificación técnica de la llanta
+ * @param vehicleId vehículo donde está montada
+ * @param position posición donde está montada
+ * @param mileageAtInstallation kilometraje del vehículo al montarla
+ * @param installationDate fecha de montaje
+ * @param lastMileage kilometraje del último muestreo (null si no tiene)
+ * @param lastSamplingDate fecha del último muestreo (null si no tiene)
+ * @param lastAverageDepth profundidad promedio del último muestreo (null si no tiene)
+ *
+ * @author Vórtice Development Team
+ */
+public record SamplingBaseline(
+        UUID installationId,
+        UUID tireId,
+        String tireNumber,
+        UUID specificationId,
+        UUID vehicleId,
+        short position,
+        int mileageAtInstallation,
+        LocalDate installationDate,
+        Integer lastMileage,
+        LocalDate lastSamplingDate,
+        BigDecimal lastAverageDepth) {
+}
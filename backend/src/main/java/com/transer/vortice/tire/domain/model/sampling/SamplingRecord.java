@@ -0,0 +1,30 @@
+package com.transer.vortice.tire.domain.model.sampling;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Muestreo validado, listo para escribirse en tire_management.samplings.
+ *
+ * @param installationId instalación activa medida
+ * @param vehicleId vehículo de la instalación
+ * @param samplingDate fecha del muestreo
+ * @param mileage kilometraje del vehículo al muestrear
+ * @param depthInternal profundidad interna (mm)
+ * @param depthCentral profundidad central (mm)
+ * @param depthExternal profundidad externa (mm)
+ * @param pressure presión (PSI)
+ *
+ * @author Vórtice Development Team
+ */
+public record SamplingRecord(
+        UUID installationId,
+        UUID vehicleId,
+        LocalDate samplingDate,
+        int mileage,
+        BigDecimal depthInternal,
+        BigDecimal depthCentral,
+        BigDecimal depthExternal,
+        int pressure) {
+}
@@ -0,0 +1,112 @@
+package com.transer.vortice.tire.domain.model.sampling;
+
+import com.transer.vortice.shared.infrastructure.exception.ValidationException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Validación de muestreos contra el último muestreo de cada llanta (MLFR009.VALIDAR).
+ *
+ * Por cada llanta: el kilometraje debe superar al del último muestreo, la fecha no
+ * puede ser anterior y la profundidad promedio no puede aumentar. A diferencia del
+ * formulario, que se detenía en la primera llanta con error, se revisa el envío
+ * completo y se reportan todos los errores juntos (clave: número de llanta, o ID del
+ * vehículo para errores del vehículo); si hay alguno no se escribe ningún muestreo.
+ *
+ * @author Vórtice Development Team
+ */
+public final class SamplingValidator {
+
+    /**
+     * Máximo de vehículos por envío (una ruta de muestreo).
+     */
+    public static final int MAX_VEHICLES = 200;
+
+    /**
+     * Máximo de llantas por vehículo.
+     */
+    public static final int MAX_SAMPLES_PER_VEHICLE = 32;
+
+    private SamplingValidator() {
+    }
+
+    /**
+     * Valida el envío y lo convierte a las filas a insertar.
+     *
+     * @param vehicles muestreos por vehículo
+     * @param baselines instalaciones activas de los vehículos con su último muestreo, por número de llanta
+     * @return muestreos validados en el orden recibido
+     * @throws ValidationException con todos los errores encontrados
+     */
+    public static List<SamplingRecord> validate(List<VehicleSampling> vehicles, Map<String, SamplingBaseline> baselines) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        Set<UUID> seenVehicles = new HashSet<>();
+        Set<String> seenTires = new HashSet<>();
+        List<SamplingRecord> records = new ArrayList<>();
+
+        for (VehicleSampling vehicle : vehicles) {
+            if (!seenVehicles.add(vehicle.vehicleId())) {
+                errors.put(vehicle.vehicleId().toString(), "El vehículo aparece más de una vez en el envío");
+                continue;
+            }
+            for (TireSample sample : vehicle.samples()) {
+                String tireNumber = sample.tireNumber();
+                if (!seenTires.add(tireNumber)) {
+                    errors.put(tireNumber, "La llanta aparece más de una vez en el envío");
+                    continue;
+                }
+                SamplingBaseline baseline = baselines.get(tireNumber);
+                String error = check(vehicle, sample, baseline);
+                if (error != null) {
+                    errors.put(tireNumber, error);
+                    continue;
+                }
+                records.add(new SamplingRecord(baseline.installationId(), vehicle.vehicleId(),
+                        vehicle.samplingDate(), vehicle.mileage(), sample.depthInternal(),
+                        sample.depthCentral(), sample.depthExternal(), sample.pressure()));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ValidationException(
+                    String.format("No se pueden ingresar los muestreos: %d errores", errors.size()), errors);
+        }
+        return records;
+    }
+
+    private static String check(VehicleSampling vehicle, TireSample sample, SamplingBaseline baseline) {
+        if (baseline == null || !baseline.vehicleId().equals(vehicle.vehicleId())) {
+            return "La llanta no está montada en el vehículo";
+        }
+        if (vehicle.mileage() < baseline.mileageAtInstallation()) {
+            return String.format("Error en el kms: %d es menor al kilometraje de montaje (%d)",
+                    vehicle.mileage(), baseline.mileageAtInstallation());
+        }
+        if (vehicle.samplingDate().isBefore(baseline.installationDate())) {
+            return String.format("Error en la fecha de muestreo: %s es anterior al montaje (%s)",
+                    vehicle.samplingDate(), baseline.installationDate());
+        }
+        if (baseline.lastMileage() == null) {
+            return null;
+        }
+        if (vehicle.mileage() <= baseline.lastMileage()) {
+            return String.format("Error en el kms: %d debe ser mayor al del último muestreo (%d)",
+                    vehicle.mileage(), baseline.lastMileage());
+        }
+        if (vehicle.samplingDate().isBefore(baseline.lastSamplingDate())) {
+            return String.format("Error en la fecha de muestreo: %s es anterior al último muestreo (%s)",
+                    vehicle.samplingDate(), baseline.lastSamplingDate());
+        }
+        if (sample.averageDepth().compareTo(baseline.lastAverageDepth()) > 0) {
+            return String.format("Error en las profundidades: el promedio %s supera al del último muestreo (%s)",
+                    sample.averageDepth(), baseline.lastAverageDepth());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.transer.vortice.tire.domain.model.sampling;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Medición de una llanta dentro del muestreo de un vehículo.
+ *
+ * @param tireNumber número de la llanta física
+ * @param depthInternal profundidad interna (mm)
+ * @param depthCentral profundidad central (mm)
+ * @param depthExternal profundidad externa (mm)
+ * @param pressure presión (PSI)
+ *
+ * @author Vórtice Development Team
+ */
+public record TireSample(
+        String tireNumber,
+        BigDecimal depthInternal,
+        BigDecimal depthCentral,
+        BigDecimal depthExternal,
+        int pressure) {
+
+    private static final BigDecimal THREE = BigDecimal.valueOf(3);
+
+    /**
+     * Profundidad promedio (PI + PC + PD) / 3 con dos decimales, como en MLFR009.
+     */
+    public BigDecimal averageDepth() {
+        return depthInternal.add(depthCentral).add(depthExternal).divide(THREE, 2, RoundingMode.HALF_UP);
+    }
+}
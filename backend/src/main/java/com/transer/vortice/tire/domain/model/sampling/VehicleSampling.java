@@ -0,0 +1,18 @@
+package com.transer.vortice.tire.domain.model.sampling;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Muestreo completo de un vehículo: kilometraje y fecha comunes a todas sus llantas.
+ *
+ * @param vehicleId ID del vehículo
+ * @param mileage kilometraje del vehículo al muestrear
+ * @param samplingDate fecha del muestreo
+ * @param samples mediciones por llanta
+ *
+ * @author Vórtice Development Team
+ */
+public record VehicleSampling(UUID vehicleId, int mileage, LocalDate samplingDate, List<TireSample> samples) {
+}
@@ -0,0 +1,131 @@
+package com.transer.vortice.tire.domain.model.wear;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Estadísticos y proyecciones de desgaste de un conjunto de instalaciones, en arreglos
+ * primitivos con un bloque por instalación (ver {@link WearRegression}).
+ *
+ * @author Vórtice Development Team
+ */
+public final class WearForecastBatch {
+
+    /**
+     * Instalaciones que procesa cada tarea del fork-join sin dividirse más.
+     */
+    static final int SPLIT_THRESHOLD = 1_024;
+
+    private final UUID[] installationIds;
+    private final double[] stats;
+    private final double[] results;
+
+    public WearForecastBatch(UUID[] installationIds) {
+        this(installationIds, new double[installationIds.length * WearRegression.STATS]);
+    }
+
+    /**
+     * @param installationIds instalaciones
+     * @param stats estadísticos ya acumulados ({@link WearRegression#STATS} por instalación)
+     */
+    public WearForecastBatch(UUID[] installationIds, double[] stats) {
+        if (stats.length != installationIds.length * WearRegression.STATS) {
+            throw new IllegalArgumentException("Los estadísticos no corresponden a las instalaciones");
+        }
+        this.installationIds = installationIds;
+        this.stats = stats;
+        this.results = new double[installationIds.length * WearRegression.RESULTS];
+    }
+
+    public int size() {
+        return installationIds.length;
+    }
+
+    public UUID installationId(int index) {
+        return installationIds[index];
+    }
+
+    public double[] stats() {
+        return stats;
+    }
+
+    public double stat(int index, int field) {
+        return stats[index * WearRegression.STATS + field];
+    }
+
+    public double result(int index, int field) {
+        return results[index * WearRegression.RESULTS + field];
+    }
+
+    /**
+     * Agrega un muestreo a los estadísticos de la instalación.
+     */
+    public void add(int index, double km, double depth, LocalDate samplingDate) {
+        WearRegression.add(stats, index * WearRegression.STATS, km, depth, samplingDate.toEpochDay());
+    }
+
+    /**
+     * Calcula la proyección de todas las instalaciones en el hilo actual.
+     */
+    public void predict(double minimumDepth) {
+        predictRange(0, size(), minimumDepth);
+    }
+
+    /**
+     * Fecha proyectada de retiro o null si no se puede proyectar.
+     */
+    public LocalDate removalDate(int index) {
+        double day = result(index, WearRegression.REMOVAL_DAY);
+        return Double.isNaN(day) ? null : LocalDate.ofEpochDay((long) day);
+    }
+
+    void predictRange(int from, int to, double minimumDepth) {
+        for (int i = from; i < to; i++) {
+            WearRegression.predict(stats, i * WearRegression.STATS, minimumDepth, results, i * WearRegression.RESULTS);
+        }
+    }
+
+    /**
+     * Acumula los muestreos de {@code samples} y calcula las proyecciones en paralelo.
+     */
+    static void forecast(WearSampleSet samples, WearForecastBatch batch, double minimumDepth, ForkJoinPool pool) {
+        pool.invoke(new ForecastTask(samples, batch, minimumDepth, 0, batch.size()));
+    }
+
+    /**
+     * Divide el rango de instalaciones a la mitad hasta {@link #SPLIT_THRESHOLD}; cada hoja
+     * recorre sus puntos contiguos en los arreglos primitivos.
+     */
+    private static final class ForecastTask extends RecursiveAction {
+
+        private final WearSampleSet samples;
+        private final WearForecastBatch batch;
+        private final double minimumDepth;
+        private final int from;
+        private final int to;
+
+        ForecastTask(WearSampleSet samples, WearForecastBatch batch, double minimumDepth, int from, int to) {
+            this.samples = samples;
+            this.batch = batch;
+            this.minimumDepth = minimumDepth;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    samples.accumulate(i, batch.stats, i * WearRegression.STATS);
+                }
+                batch.predictRange(from, to, minimumDepth);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ForecastTask(samples, batch, minimumDepth, from, middle),
+                    new ForecastTask(samples, batch, minimumDepth, middle, to));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.transer.vortice.tire.domain.model.wear;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Muestreo nuevo de una instalación para actualizar su proyección de desgaste.
+ *
+ * @param installationId instalación activa
+ * @param km km recorridos por la llanta desde el montaje
+ * @param averageDepth profundidad promedio en mm
+ * @param samplingDate fecha del muestreo
+ *
+ * @author Vórtice Development Team
+ */
+public record WearObservation(UUID installationId, double km, double averageDepth, LocalDate samplingDate) {
+}
@@ -0,0 +1,119 @@
+package com.transer.vortice.tire.domain.model.wear;
+
+/**
+ * Regresión lineal por mínimos cuadrados de la profundidad promedio contra los km
+ * recorridos por la llanta en su montaje actual.
+ *
+ * Todo el estado vive en arreglos {@code double[]} con un bloque por instalación, para
+ * recorrer millones de muestreos sin crear objetos:
+ * <ul>
+ *   <li>Estadísticos ({@link #STATS} posiciones): n, Σx, Σy, Σx², Σxy, primer y último
+ *       punto (km y día epoch). Son sumas, por lo que un muestreo nuevo se incorpora con
+ *       {@link #add} sin releer los anteriores.</li>
+ *   <li>Resultados ({@link #RESULTS} posiciones): pendiente (mm/km), profundidad ajustada
+ *       al último muestreo, km restantes hasta la profundidad mínima, km/día del vehículo
+ *       y día epoch proyectado de retiro. {@code NaN} cuando no hay datos suficientes.</li>
+ * </ul>
+ *
+ * @author Vórtice Development Team
+ */
+public final class WearRegression {
+
+    public static final int N = 0;
+    public static final int SUM_X = 1;
+    public static final int SUM_Y = 2;
+    public static final int SUM_XX = 3;
+    public static final int SUM_XY = 4;
+    public static final int FIRST_X = 5;
+    public static final int FIRST_DAY = 6;
+    public static final int LAST_X = 7;
+    public static final int LAST_DAY = 8;
+    public static final int STATS = 9;
+
+    public static final int SLOPE = 0;
+    public static final int FITTED_DEPTH = 1;
+    public static final int REMAINING_KM = 2;
+    public static final int KM_PER_DAY = 3;
+    public static final int REMOVAL_DAY = 4;
+    public static final int RESULTS = 5;
+
+    /**
+     * Varianza mínima de x (km²) para considerar la pendiente: evita ajustar una recta
+     * sobre muestreos prácticamente en el mismo kilometraje.
+     */
+    private static final double MIN_X_VARIANCE = 1.0;
+
+    private WearRegression() {
+    }
+
+    /**
+     * Agrega un punto a los estadísticos de la instalación que empiezan en {@code base}.
+     */
+    public static void add(double[] stats, int base, double x, double y, double day) {
+        if (stats[base + N] == 0) {
+            stats[base + FIRST_X] = x;
+            stats[base + FIRST_DAY] = day;
+        }
+        stats[base + N] += 1;
+        stats[base + SUM_X] += x;
+        stats[base + SUM_Y] += y;
+        stats[base + SUM_XX] += x * x;
+        stats[base + SUM_XY] += x * y;
+        stats[base + LAST_X] = x;
+        stats[base + LAST_DAY] = day;
+    }
+
+    /**
+     * Agrega los puntos [from, to), ordenados por km, a los estadísticos.
+     */
+    public static void accumulate(double[] x, double[] y, double[] day, int from, int to, double[] stats, int base) {
+        for (int i = from; i < to; i++) {
+            add(stats, base, x[i], y[i], day[i]);
+        }
+    }
+
+    /**
+     * Calcula la proyección de una instalación a partir de sus estadísticos.
+     *
+     * @param stats estadísticos
+     * @param statsBase inicio del bloque de la instalación en {@code stats}
+     * @param minimumDepth profundidad mínima legal en mm
+     * @param results resultados
+     * @param resultsBase inicio del bloque de la instalación en {@code results}
+     */
+    public static void predict(double[] stats, int statsBase, double minimumDepth, double[] results, int resultsBase) {
+        double n = stats[statsBase + N];
+        double sx = stats[statsBase + SUM_X];
+        double sy = stats[statsBase + SUM_Y];
+        double sxx = stats[statsBase + SUM_XX];
+        double sxy = stats[statsBase + SUM_XY];
+        double firstX = stats[statsBase + FIRST_X];
+        double firstDay = stats[statsBase + FIRST_DAY];
+        double lastX = stats[statsBase + LAST_X];
+        double lastDay = stats[statsBase + LAST_DAY];
+
+        double kmPerDay = lastDay > firstDay && lastX > firstX ? (lastX - firstX) / (lastDay - firstDay) : Double.NaN;
+        double slope = Double.NaN;
+        double fittedDepth = Double.NaN;
+        double remainingKm = Double.NaN;
+        double removalDay = Double.NaN;
+
+        double denominator = n * sxx - sx * sx;
+        if (n >= 2 && denominator > MIN_X_VARIANCE * n * n) {
+            slope = (n * sxy - sx * sy) / denominator;
+            fittedDepth = (sy - slope * sx) / n + slope * lastX;
+            if (slope < 0) {
+                remainingKm = Math.max(0, (fittedDepth - minimumDepth) / -slope);
+                if (!Double.isNaN(kmPerDay)) {
+                    removalDay = lastDay + Math.ceil(remainingKm / kmPerDay);
+                }
+            }
+        }
+
+        results[resultsBase + SLOPE] = slope;
+        results[resultsBase + FITTED_DEPTH] = fittedDepth;
+        results[resultsBase + REMAINING_KM] = remainingKm;
+        results[resultsBase + KM_PER_DAY] = kmPerDay;
+        results[resultsBase + REMOVAL_DAY] = removalDay;
+    }
+}
@@ -0,0 +1,127 @@
+package com.transer.vortice.tire.domain.model.wear;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Muestreos de un conjunto de instalaciones en formato columnar: los puntos de cada
+ * instalación son contiguos (ordenados por km) y {@code offsets[i]..offsets[i + 1]}
+ * delimita los de la instalación i.
+ *
+ * Se construye con {@link Builder} leyendo las filas en orden de instalación; los
+ * arreglos crecen por duplicación, sin un objeto por muestreo.
+ *
+ * @author Vórtice Development Team
+ */
+public final class WearSampleSet {
+
+    private final UUID[] installationIds;
+    private final int[] offsets;
+    private final double[] km;
+    private final double[] depth;
+    private final double[] day;
+
+    private WearSampleSet(UUID[] installationIds, int[] offsets, double[] km, double[] depth, double[] day) {
+        this.installationIds = installationIds;
+        this.offsets = offsets;
+        this.km = km;
+        this.depth = depth;
+        this.day = day;
+    }
+
+    public int installations() {
+        return installationIds.length;
+    }
+
+    public int samples() {
+        return offsets[installationIds.length];
+    }
+
+    /**
+     * Calcula en paralelo los estadísticos y la proyección de cada instalación.
+     *
+     * @param minimumDepth profundidad mínima legal en mm
+     * @param pool pool fork-join en el que se reparten las instalaciones
+     */
+    public WearForecastBatch forecast(double minimumDepth, ForkJoinPool pool) {
+        WearForecastBatch batch = new WearForecastBatch(installationIds);
+        WearForecastBatch.forecast(this, batch, minimumDepth, pool);
+        return batch;
+    }
+
+    void accumulate(int installation, double[] stats, int base) {
+        WearRegression.accumulate(km, depth, day, offsets[installation], offsets[installation + 1], stats, base);
+    }
+
+    public static Builder builder(int expectedSamples) {
+        return new Builder(expectedSamples);
+    }
+
+    /**
+     * Acumula filas ordenadas por instalación y km.
+     */
+    public static final class Builder {
+
+        private UUID[] installationIds = new UUID[16];
+        private int[] offsets = new int[17];
+        private double[] km;
+        private double[] depth;
+        private double[] day;
+        private int installations;
+        private int samples;
+        private UUID current;
+
+        private Builder(int expectedSamples) {
+            int capacity = Math.max(16, expectedSamples);
+            km = new double[capacity];
+            depth = new double[capacity];
+            day = new double[capacity];
+        }
+
+        /**
+         * Agrega un muestreo; una instalación distinta a la anterior abre un nuevo bloque.
+         *
+         * @param installationId instalación
+         * @param kmSinceInstallation km recorridos por la llanta desde el montaje
+         * @param averageDepth profundidad promedio en mm
+         * @param samplingDate fecha del muestreo
+         */
+        public Builder add(UUID installationId, double kmSinceInstallation, double averageDepth, LocalDate samplingDate) {
+            return add(installationId, kmSinceInstallation, averageDepth, samplingDate.toEpochDay());
+        }
+
+        /**
+         * Igual que {@link #add(UUID, double, double, LocalDate)} con la fecha como día epoch.
+         */
+        public Builder add(UUID installationId, double kmSinceInstallation, double averageDepth, long samplingEpochDay) {
+            if (!installationId.equals(current)) {
+                if (installations == installationIds.length) {
+                    installationIds = Arrays.copyOf(installationIds, installations * 2);
+                    offsets = Arrays.copyOf(offsets, installations * 2 + 1);
+                }
+                installationIds[installations] = installationId;
+                offsets[installations] = samples;
+                installations++;
+                current = installationId;
+            }
+            if (samples == km.length) {
+                km = Arrays.copyOf(km, samples * 2);
+                depth = Arrays.copyOf(depth, samples * 2);
+                day = Arrays.copyOf(day, samples * 2);
+            }
+            km[samples] = kmSinceInstallation;
+            depth[samples] = averageDepth;
+            day[samples] = samplingEpochDay;
+            samples++;
+            return this;
+        }
+
+        public WearSampleSet build() {
+            int[] finalOffsets = Arrays.copyOf(offsets, installations + 1);
+            finalOffsets[installations] = samples;
+            return new WearSampleSet(Arrays.copyOf(installationIds, installations), finalOffsets, km, depth, day);
+        }
+    }
+}
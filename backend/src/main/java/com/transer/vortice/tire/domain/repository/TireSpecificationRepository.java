@@ -169,6 +169,125 @@ public interface TireSpecificationRepository extends JpaRepository<TireSpecifica
             Pageable pageable
     );
 
+    // =====================================================
+    // Paginación por keyset (código + ID)
+    // =====================================================
+
+    /**
+     * Primera página por keyset con filtros opcionales, ordenada por código ascendente.
+     * Carga marca, tipo y referencia en la misma consulta y no ejecuta COUNT(*).
+     *
+     * @param brandId ID de la marca (opcional)
+     * @param typeId ID del tipo (opcional)
+     * @param referenceId ID de la referencia (opcional)
+     * @param isActive estado activo (opcional)
+     * @param limit límite de filas (ver CursorPage.limit)
+     * @return especificaciones de la página
+     */
+    @Query("SELECT s FROM TireSpecification s " +
+           "JOIN FETCH s.brand JOIN FETCH s.type JOIN FETCH s.reference " +
+           "WHERE (:brandId IS NULL OR s.brand.id = :brandId) " +
+           "AND (:typeId IS NULL OR s.type.id = :typeId) " +
+           "AND (:referenceId IS NULL OR s.reference.id = :referenceId) " +
+           "AND (:isActive IS NULL OR s.isActive = :isActive) " +
+           "AND s.deletedAt IS NULL " +
+           "ORDER BY s.code ASC, s.id ASC")
+    List<TireSpecification> scrollByFilters(
+            @Param("brandId") UUID brandId,
+            @Param("typeId") UUID typeId,
+            @Param("referenceId") UUID referenceId,
+            @Param("isActive") Boolean isActive,
+            Pageable limit
+    );
+
+    /**
+     * Página siguiente por keyset: especificaciones posteriores a (código, ID) en orden ascendente.
+     *
+     * @param brandId ID de la marca (opcional)
+     * @param typeId ID del tipo (opcional)
+     * @param referenceId ID de la referencia (opcional)
+     * @param isActive estado activo (opcional)
+     * @param code código de la última fila entregada
+     * @param id ID de la última fila entregada
+     * @param limit límite de filas (ver CursorPage.limit)
+     * @return especificaciones de la página
+     */
+    @Query("SELECT s FROM TireSpecification s " +
+           "JOIN FETCH s.brand JOIN FETCH s.type JOIN FETCH s.reference " +
+           "WHERE (:brandId IS NULL OR s.brand.id = :brandId) " +
+           "AND (:typeId IS NULL OR s.type.id = :typeId) " +
+           "AND (:referenceId IS NULL OR s.reference.id = :referenceId) " +
+           "AND (:isActive IS NULL OR s.isActive = :isActive) " +
+           "AND s.deletedAt IS NULL " +
+           "AND (s.code, s.id) > (:code, :id) " +
+           "ORDER BY s.code ASC, s.id ASC")
+    List<TireSpecification> scrollByFiltersAfter(
+            @Param("brandId") UUID brandId,
+            @Param("typeId") UUID typeId,
+            @Param("referenceId") UUID referenceId,
+            @Param("isActive") Boolean isActive,
+            @Param("code") String code,
+            @Param("id") UUID id,
+            Pageable limit
+    );
+
+    /**
+     * Primera página por keyset con filtros opcionales, ordenada por código descendente.
+     *
+     * @param brandId ID de la marca (opcional)
+     * @param typeId ID del tipo (opcional)
+     * @param referenceId ID de la referencia (opcional)
+     * @param isActive estado activo (opcional)
+     * @param limit límite de filas (ver CursorPage.limit)
+     * @return especificaciones de la página
+     */
+    @Query("SELECT s FROM TireSpecification s " +
+           "JOIN FETCH s.brand JOIN FETCH s.type JOIN FETCH s.reference " +
+           "WHERE (:brandId IS NULL OR s.brand.id = :brandId) " +
+           "AND (:typeId IS NULL OR s.type.id = :typeId) " +
+           "AND (:referenceId IS NULL OR s.reference.id = :referenceId) " +
+           "AND (:isActive IS NULL OR s.isActive = :isActive) " +
+           "AND s.deletedAt IS NULL " +
+           "ORDER BY s.code DESC, s.id DESC")
+    List<TireSpecification> scrollByFiltersDesc(
+            @Param("brandId") UUID brandId,
+            @Param("typeId") UUID typeId,
+            @Param("referenceId") UUID referenceId,
+            @Param("isActive") Boolean isActive,
+            Pageable limit
+    );
+
+    /**
+     * Página siguiente por keyset: especificaciones anteriores a (código, ID) en orden descendente.
+     *
+     * @param brandId ID de la marca (opcional)
+     * @param typeId ID del tipo (opcional)
+     * @param referenceId ID de la referencia (opcional)
+     * @param isActive estado activo (opcional)
+     * @param code código de la última fila entregada
+     * @param id ID de la última fila entregada
+     * @param limit límite de filas (ver CursorPage.limit)
+     * @return especificaciones de la página
+     */
+    @Query("SELECT s FROM TireSpecification s " +
+           "JOIN FETCH s.brand JOIN FETCH s.type JOIN FETCH s.reference " +
+           "WHERE (:brandId IS NULL OR s.brand.id = :brandId) " +
+           "AND (:typeId IS NULL OR s.type.id = :typeId) " +
+           "AND (:referenceId IS NULL OR s.reference.id = :referenceId) " +
+           "AND (:isActive IS NULL OR s.isActive = :isActive) " +
+           "AND s.deletedAt IS NULL " +
+           "AND (s.code, s.id) < (:code, :id) " +
+           "ORDER BY s.code DESC, s.id DESC")
+    List<TireSpecification> scrollByFiltersBefore(
+            @Param("brandId") UUID brandId,
+            @Param("typeId") UUID typeId,
+            @Param("referenceId") UUID referenceId,
+            @Param("isActive") Boolean isActive,
+            @Param("code") String code,
+            @Param("id") UUID id,
+            Pageable limit
+    );
+
     /**
      * Cuenta especificaciones por marca
      *
@@ -0,0 +1,130 @@
+package com.transer.vortice.tire.infrastructure.alert;
+
+import com.transer.vortice.tire.domain.model.alert.AlertCandidate;
+import com.transer.vortice.tire.domain.model.alert.MountedTire;
+import com.transer.vortice.tire.domain.model.alert.SpecificationThresholds;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Acceso JDBC de las reglas de alertas: lectura de los umbrales de las especificaciones,
+ * de las llantas montadas de un vehículo y escritura de alertas.
+ *
+ * Las alertas de un lote se escriben en una sentencia (arreglos con unnest). Una alerta
+ * que ya está abierta para el mismo tipo e instalación se descarta con ON CONFLICT sobre
+ * uq_alerts_open (V3.11.0), también entre transacciones concurrentes.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AlertJdbcRepository {
+
+    static final String THRESHOLDS_SQL = """
+            SELECT id, expected_mileage,
+                   ((initial_depth_internal_mm + initial_depth_central_mm + initial_depth_external_mm) / 3)::float8
+                       AS initial_avg_depth,
+                   CASE WHEN jsonb_typeof(expected_performance #> '{pressure_range,min}') = 'number'
+                        THEN round((expected_performance #>> '{pressure_range,min}')::numeric)::int END AS pressure_min,
+                   CASE WHEN jsonb_typeof(expected_performance #> '{pressure_range,max}') = 'number'
+                        THEN round((expected_performance #>> '{pressure_range,max}')::numeric)::int END AS pressure_max
+            FROM tire_management.technical_specifications
+            """;
+
+    static final String MOUNTED_TIRES_SQL = """
+            SELECT ai.id AS installation_id, ai.tire_id, t.tire_number, t.technical_specification_id,
+                   ? - ai.mileage_at_installation AS km_since_installation
+            FROM tire_management.active_installations ai
+            JOIN tire_management.tires t ON t.id = ai.tire_id
+            WHERE ai.vehicle_id = ? AND ai.deleted_at IS NULL
+            """;
+
+    static final String INSERT_SQL = """
+            INSERT INTO tire_management.alerts (
+                alert_type, priority, tire_id, tire_installation_id, vehicle_id, message, alert_data)
+            SELECT type::tire_management.alert_type, priority::tire_management.alert_priority,
+                   tire_id, installation_id, vehicle_id, message, alert_data::jsonb
+            FROM unnest(?::text[], ?::text[], ?::uuid[], ?::uuid[], ?::uuid[], ?::text[], ?::text[])
+                AS a(type, priority, tire_id, installation_id, vehicle_id, message, alert_data)
+            ON CONFLICT (alert_type, tire_installation_id)
+                WHERE is_acknowledged = false AND tire_installation_id IS NOT NULL
+            DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Umbrales de todas las especificaciones técnicas, incluidas las eliminadas: las
+     * llantas montadas conservan su especificación.
+     */
+    public List<SpecificationThresholds> findThresholds() {
+        return jdbcTemplate.query(THRESHOLDS_SQL, (rs, rowNum) -> new SpecificationThresholds(
+                rs.getObject("id", UUID.class),
+                rs.getInt("expected_mileage"),
+                rs.getDouble("initial_avg_depth"),
+                rs.getObject("pressure_min", Integer.class),
+                rs.getObject("pressure_max", Integer.class)));
+    }
+
+    /**
+     * Llantas montadas en el vehículo con los km recorridos hasta el kilometraje dado.
+     */
+    public List<MountedTire> findMountedTires(UUID vehicleId, int mileage) {
+        return jdbcTemplate.query(MOUNTED_TIRES_SQL, (rs, rowNum) -> new MountedTire(
+                rs.getObject("installation_id", UUID.class),
+                rs.getObject("tire_id", UUID.class),
+                rs.getString("tire_number"),
+                vehicleId,
+                rs.getObject("technical_specification_id", UUID.class),
+                rs.getInt("km_since_installation")), mileage, vehicleId);
+    }
+
+    /**
+     * Escribe las alertas que no estén ya abiertas.
+     *
+     * @return alertas nuevas
+     */
+    public int insert(List<AlertCandidate> alerts) {
+        if (alerts.isEmpty()) {
+            return 0;
+        }
+        int size = alerts.size();
+        String[] types = new String[size];
+        String[] priorities = new String[size];
+        UUID[] tireIds = new UUID[size];
+        UUID[] installationIds = new UUID[size];
+        UUID[] vehicleIds = new UUID[size];
+        String[] messages = new String[size];
+        String[] data = new String[size];
+        for (int i = 0; i < size; i++) {
+            AlertCandidate alert = alerts.get(i);
+            types[i] = alert.type().name();
+            priorities[i] = alert.type().getPriority().name();
+            tireIds[i] = alert.tireId();
+            installationIds[i] = alert.installationId();
+            vehicleIds[i] = alert.vehicleId();
+            messages[i] = alert.message();
+            data[i] = alert.alertData();
+        }
+
+        int inserted = jdbcTemplate.update(INSERT_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("text", types));
+            ps.setArray(2, connection.createArrayOf("text", priorities));
+            ps.setArray(3, connection.createArrayOf("uuid", tireIds));
+            ps.setArray(4, connection.createArrayOf("uuid", installationIds));
+            ps.setArray(5, connection.createArrayOf("uuid", vehicleIds));
+            ps.setArray(6, connection.createArrayOf("text", messages));
+            ps.setArray(7, connection.createArrayOf("text", data));
+        });
+        log.debug("Alertas generadas: {} nuevas de {}", inserted, size);
+        return inserted;
+    }
+}
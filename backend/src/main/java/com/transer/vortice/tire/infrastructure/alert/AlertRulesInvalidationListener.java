@@ -0,0 +1,47 @@
+package com.transer.vortice.tire.infrastructure.alert;
+
+import com.transer.vortice.tire.application.service.TireAlertService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Listener JPA que invalida las reglas de alertas compiladas cuando una especificación
+ * técnica se crea, modifica o elimina.
+ *
+ * Igual que {@link com.transer.vortice.tire.infrastructure.cache.TireCatalogCacheEvictionListener},
+ * la invalidación se hace después del commit y el servicio se resuelve con ObjectProvider.
+ *
+ * @author Vórtice Development Team
+ */
+@Component
+@RequiredArgsConstructor
+public class AlertRulesInvalidationListener {
+
+    private final ObjectProvider<TireAlertService> tireAlertService;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onSpecificationChange(Object specification) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    private void invalidate() {
+        tireAlertService.ifAvailable(TireAlertService::invalidateRules);
+    }
+}
@@ -0,0 +1,56 @@
+package com.transer.vortice.tire.infrastructure.cache;
+
+import com.transer.vortice.tire.domain.model.catalog.TireBrand;
+import com.transer.vortice.tire.domain.model.catalog.TireReference;
+import com.transer.vortice.tire.domain.model.catalog.TireSupplier;
+import com.transer.vortice.tire.domain.model.catalog.TireType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Catálogos del módulo de llantas que se sirven desde caché.
+ * Cada catálogo tiene su propia caché (y TTL) en vortice.cache.specs.
+ *
+ * @author Vórtice Development Team
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TireCatalog {
+
+    BRANDS(TireCatalog.BRANDS_CACHE, TireBrand.class),
+    TYPES(TireCatalog.TYPES_CACHE, TireType.class),
+    REFERENCES(TireCatalog.REFERENCES_CACHE, TireReference.class),
+    SUPPLIERS(TireCatalog.SUPPLIERS_CACHE, TireSupplier.class);
+
+    /**
+     * Nombres de caché, como constantes para usarlas en anotaciones @Cacheable.
+     */
+    public static final String BRANDS_CACHE = "tire-brands";
+    public static final String TYPES_CACHE = "tire-types";
+    public static final String REFERENCES_CACHE = "tire-references";
+    public static final String SUPPLIERS_CACHE = "tire-suppliers";
+
+    /**
+     * Claves de las entradas de cada caché.
+     */
+    public static final String KEY_ACTIVE = "active";
+    public static final String KEY_ALL = "all";
+
+    private final String cacheName;
+    private final Class<?> entityClass;
+
+    /**
+     * Obtiene el catálogo al que pertenece una entidad.
+     *
+     * @param entity entidad de catálogo
+     * @return catálogo o null si la entidad no es de catálogo
+     */
+    public static TireCatalog of(Object entity) {
+        for (TireCatalog catalog : values()) {
+            if (catalog.entityClass.isInstance(entity)) {
+                return catalog;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.transer.vortice.tire.infrastructure.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Listener JPA que invalida la caché de un catálogo cuando una de sus entidades
+ * se crea, modifica o elimina.
+ *
+ * La invalidación se hace después del commit para que una lectura concurrente no
+ * vuelva a cargar en caché datos que todavía no son visibles.
+ * El CacheManager se resuelve con ObjectProvider porque Hibernate instancia el listener
+ * también en contextos reducidos (ej: tests @DataJpaTest).
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TireCatalogCacheEvictionListener {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCatalogChange(Object entity) {
+        TireCatalog catalog = TireCatalog.of(entity);
+        if (catalog == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(catalog);
+                }
+            });
+        } else {
+            evict(catalog);
+        }
+    }
+
+    private void evict(TireCatalog catalog) {
+        cacheManager.ifAvailable(manager -> {
+            Cache cache = manager.getCache(catalog.getCacheName());
+            if (cache != null) {
+                cache.clear();
+            }
+        });
+        log.debug("Caché del catálogo {} invalidada", catalog);
+    }
+}
@@ -0,0 +1,138 @@
+package com.transer.vortice.tire.infrastructure.consumption;
+
+import com.transer.vortice.tire.application.dto.response.ConsumptionMonthResponse;
+import com.transer.vortice.tire.application.dto.response.ConsumptionSpecificationResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Acceso JDBC a los acumulados mensuales de consumo (tire_management.consumption_monthly, V3.12.0).
+ *
+ * Los triggers de V3.12.0 suman compras, montajes y desmontajes en la transacción que
+ * los registra; las consultas de indicadores solo agregan filas del acumulado, una por
+ * mes, oficina, especificación y marca, sin tocar las tablas de ciclo de vida.
+ * {@link #rebuild()} recalcula el acumulado con tire_management.rebuild_consumption(), desde
+ * el primer mes del historial conservado (V3.16.0).
+ *
+ * @author Vórtice Development Team
+ */
+@Repository
+@RequiredArgsConstructor
+public class ConsumptionRollupRepository {
+
+    /**
+     * Clave del advisory lock de la reconstrucción (única en la base de datos).
+     */
+    static final long REBUILD_LOCK_KEY = 0x5654_5843_4F4E_5355L;
+
+    static final String REBUILD_SQL = "SELECT tire_management.rebuild_consumption()";
+
+    static final String MONTHLY_SQL = """
+            SELECT month, sum(new_tires) AS new_tires, sum(new_tires_cost) AS new_tires_cost,
+                   sum(installations) AS installations, sum(removals) AS removals
+            FROM tire_management.consumption_monthly
+            WHERE month BETWEEN ? AND ?
+              AND (?::uuid IS NULL OR office_id = ?::uuid)
+            GROUP BY month
+            ORDER BY month
+            """;
+
+    static final String BY_SPECIFICATION_SQL = """
+            SELECT c.technical_specification_id, ts.code AS specification_code, c.brand_id, b.name AS brand_name,
+                   c.new_tires, c.new_tires_cost, c.installations, c.removals
+            FROM (
+                SELECT technical_specification_id, brand_id, sum(new_tires) AS new_tires,
+                       sum(new_tires_cost) AS new_tires_cost, sum(installations) AS installations,
+                       sum(removals) AS removals
+                FROM tire_management.consumption_monthly
+                WHERE month BETWEEN ? AND ?
+                  AND (?::uuid IS NULL OR office_id = ?::uuid)
+                GROUP BY technical_specification_id, brand_id
+            ) c
+            JOIN tire_management.technical_specifications ts ON ts.id = c.technical_specification_id
+            JOIN tire_management.brands b ON b.id = c.brand_id
+            ORDER BY c.new_tires DESC, c.installations DESC, ts.code
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Toma el advisory lock de la reconstrucción hasta el fin de la transacción actual.
+     *
+     * @return false si otro nodo está reconstruyendo
+     */
+    public boolean tryLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, REBUILD_LOCK_KEY));
+    }
+
+    /**
+     * Reconstruye los acumulados desde las tablas de ciclo de vida. Los meses anteriores
+     * a la partición más antigua de history_records (archivados) se conservan. Debe
+     * ejecutarse en una transacción: hasta el commit las escrituras de ciclo de vida
+     * esperan y las lecturas ven los acumulados anteriores.
+     *
+     * @return filas de acumulado generadas
+     */
+    public int rebuild() {
+        Integer rows = jdbcTemplate.queryForObject(REBUILD_SQL, Integer.class);
+        return rows != null ? rows : 0;
+    }
+
+    /**
+     * Consumo por mes en el rango, solo meses con movimiento.
+     *
+     * @param from primer mes (primer día)
+     * @param to último mes (primer día)
+     * @param officeId filtra por oficina (opcional)
+     */
+    public List<ConsumptionMonthResponse> findMonthly(LocalDate from, LocalDate to, UUID officeId) {
+        return jdbcTemplate.query(MONTHLY_SQL, (rs, rowNum) -> new ConsumptionMonthResponse(
+                        rs.getDate("month").toLocalDate(),
+                        rs.getLong("new_tires"),
+                        rs.getBigDecimal("new_tires_cost"),
+                        rs.getLong("installations"),
+                        rs.getLong("removals")),
+                Date.valueOf(from), Date.valueOf(to), officeId, officeId);
+    }
+
+    /**
+     * Consumo por especificación técnica en el rango, primero las de más llantas nuevas.
+     *
+     * @param from primer mes (primer día)
+     * @param to último mes (primer día)
+     * @param officeId filtra por oficina (opcional)
+     */
+    public List<ConsumptionSpecificationResponse> findBySpecification(LocalDate from, LocalDate to, UUID officeId) {
+        return jdbcTemplate.query(BY_SPECIFICATION_SQL, (rs, rowNum) -> {
+                    long newTires = rs.getLong("new_tires");
+                    BigDecimal cost = rs.getBigDecimal("new_tires_cost");
+                    return new ConsumptionSpecificationResponse(
+                            rs.getObject("technical_specification_id", UUID.class),
+                            rs.getString("specification_code"),
+                            rs.getObject("brand_id", UUID.class),
+                            rs.getString("brand_name"),
+                            newTires,
+                            cost,
+                            averageCost(cost, newTires),
+                            rs.getLong("installations"),
+                            rs.getLong("removals"));
+                },
+                Date.valueOf(from), Date.valueOf(to), officeId, officeId);
+    }
+
+    /**
+     * Costo promedio por llanta nueva, null si no hubo llantas nuevas.
+     */
+    public static BigDecimal averageCost(BigDecimal cost, long newTires) {
+        return newTires > 0 ? cost.divide(BigDecimal.valueOf(newTires), 2, RoundingMode.HALF_UP) : null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.transer.vortice.tire.infrastructure.ingestion;
+
+import com.transer.vortice.shared.infrastructure.config.MovementLogProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Pool de workers de la ingesta de tickets del canal móvil.
+ *
+ * Es un pool fijo y acotado, separado del executor de @Async: cada worker aplica los
+ * tickets de una placa y ocupa una conexión del pool de base de datos, por lo que el
+ * número de hilos limita también las conexiones usadas por la ingesta. Si la cola se
+ * llena, el hilo que reparte las placas ejecuta la tarea él mismo (CallerRunsPolicy)
+ * en lugar de descartarla.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Configuration
+public class MovementLogExecutorConfig {
+
+    @Bean(name = "movementLogExecutor")
+    public ThreadPoolTaskExecutor movementLogExecutor(MovementLogProperties properties) {
+        log.info("Configurando pool de ingesta de movimientos con {} workers", properties.getWorkers());
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getWorkers());
+        executor.setMaxPoolSize(properties.getWorkers());
+        executor.setQueueCapacity(properties.getPlatesPerRound());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("MovementLog-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+
+        return executor;
+    }
+}
@@ -0,0 +1,279 @@
+package com.transer.vortice.tire.infrastructure.ingestion;
+
+import com.transer.vortice.shared.infrastructure.exception.ValidationException;
+import com.transer.vortice.tire.domain.model.lifecycle.TireMovement;
+import com.transer.vortice.tire.domain.model.lifecycle.TireMovementType;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector del formato de log de movimientos del canal móvil (TMPLOGMOV.LOGMOV).
+ *
+ * Cada registro tiene la forma {@code @P[Origen]@P[Destino]@[LLANTA]@[GRUPO]@[PI]@[PC]@[PD]@[PRESION]@[OBS]@[TIPO];}
+ * y un ticket concatena varios registros. A diferencia de PDB_LEERLOG, que recortaba el
+ * string con SUBSTR en cada campo, el lector recorre el texto una sola vez y solo guarda
+ * los límites (inicio, fin) de los diez campos del registro actual: los números se
+ * convierten directamente desde el texto y los campos de texto se exponen como vistas
+ * ({@link CharBuffer#wrap(CharSequence, int, int)}) sin copiar caracteres. El único
+ * String que se crea por registro es el número de llanta, que se usa como clave.
+ *
+ * Uso:
+ * <pre>
+ * MovementLogReader reader = new MovementLogReader(log);
+ * while (reader.next()) {
+ *     TireMovement movement = reader.toMovement();
+ * }
+ * </pre>
+ *
+ * No es thread-safe: cada ticket usa su propia instancia.
+ *
+ * @author Vórtice Development Team
+ */
+public final class MovementLogReader {
+
+    public static final char FIELD_SEPARATOR = '@';
+    public static final char RECORD_TERMINATOR = ';';
+    public static final char POSITION_PREFIX = 'P';
+
+    static final int ORIGIN = 0;
+    static final int DESTINATION = 1;
+    static final int TIRE = 2;
+    static final int GROUP = 3;
+    static final int DEPTH_INTERNAL = 4;
+    static final int DEPTH_CENTRAL = 5;
+    static final int DEPTH_EXTERNAL = 6;
+    static final int PRESSURE = 7;
+    static final int OBSERVATION = 8;
+    static final int TYPE = 9;
+
+    private static final int FIELD_COUNT = 10;
+
+    private final CharSequence source;
+    private final int length;
+    private final int[] starts = new int[FIELD_COUNT];
+    private final int[] ends = new int[FIELD_COUNT];
+
+    private int cursor;
+    private int record;
+
+    public MovementLogReader(CharSequence source) {
+        this.source = source;
+        this.length = source.length();
+    }
+
+    /**
+     * Lee todos los registros de un ticket.
+     *
+     * @throws ValidationException si algún registro está mal formado
+     */
+    public static List<TireMovement> readAll(CharSequence source) {
+        MovementLogReader reader = new MovementLogReader(source);
+        List<TireMovement> movements = new ArrayList<>();
+        while (reader.next()) {
+            movements.add(reader.toMovement());
+        }
+        return movements;
+    }
+
+    /**
+     * Avanza al siguiente registro y valida su sintaxis (tipo, posiciones y valores numéricos).
+     *
+     * @return false si no quedan registros
+     * @throws ValidationException si el registro está mal formado
+     */
+    public boolean next() {
+        skipWhitespace();
+        if (cursor >= length) {
+            return false;
+        }
+        record++;
+
+        // PDB_LEERLOG tolera registros sin la '@' inicial
+        if (source.charAt(cursor) == FIELD_SEPARATOR) {
+            cursor++;
+        }
+
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            char expected = field == TYPE ? RECORD_TERMINATOR : FIELD_SEPARATOR;
+            starts[field] = cursor;
+            while (cursor < length) {
+                char c = source.charAt(cursor);
+                if (c == expected) {
+                    break;
+                }
+                if (c == RECORD_TERMINATOR) {
+                    throw malformed("faltan campos (se esperaban " + FIELD_COUNT + ")");
+                }
+                cursor++;
+            }
+            if (cursor >= length) {
+                throw malformed(field == TYPE ? "falta el terminador '" + RECORD_TERMINATOR + "'"
+                        : "faltan campos (se esperaban " + FIELD_COUNT + ")");
+            }
+            ends[field] = cursor++;
+        }
+
+        if (trimmed(TIRE).isEmpty()) {
+            throw malformed("el número de llanta es obligatorio");
+        }
+        type();
+        position(ORIGIN);
+        position(DESTINATION);
+        for (int field = DEPTH_INTERNAL; field <= PRESSURE; field++) {
+            decimal(field);
+        }
+        return true;
+    }
+
+    /**
+     * Número del registro actual (desde 1).
+     */
+    public int recordNumber() {
+        return record;
+    }
+
+    public TireMovementType type() {
+        if (ends[TYPE] - starts[TYPE] != 1) {
+            throw malformed("tipo de transacción inválido '" + field(TYPE) + "'");
+        }
+        return switch (source.charAt(starts[TYPE])) {
+            case 'M' -> TireMovementType.MOUNT;
+            case 'R' -> TireMovementType.DISMOUNT;
+            case 'T' -> TireMovementType.ROTATE;
+            default -> throw malformed("tipo de transacción inválido '" + field(TYPE) + "'");
+        };
+    }
+
+    public Short originPosition() {
+        return position(ORIGIN);
+    }
+
+    public Short destinationPosition() {
+        return position(DESTINATION);
+    }
+
+    public String tireNumber() {
+        return trimmed(TIRE).toString();
+    }
+
+    public CharSequence group() {
+        return trimmed(GROUP);
+    }
+
+    public Double depthInternal() {
+        return decimal(DEPTH_INTERNAL);
+    }
+
+    public Double depthCentral() {
+        return decimal(DEPTH_CENTRAL);
+    }
+
+    public Double depthExternal() {
+        return decimal(DEPTH_EXTERNAL);
+    }
+
+    public Double pressure() {
+        return decimal(PRESSURE);
+    }
+
+    public CharSequence observation() {
+        return trimmed(OBSERVATION);
+    }
+
+    /**
+     * Convierte el registro actual al movimiento del motor de ciclo de vida.
+     * Montaje y rotación usan la posición destino; el desmontaje no lleva posición.
+     */
+    public TireMovement toMovement() {
+        TireMovementType type = type();
+        Short position = type.requiresPosition() ? destinationPosition() : null;
+        return new TireMovement(type, tireNumber(), position, null);
+    }
+
+    // =====================================================
+    // MÉTODOS AUXILIARES
+    // =====================================================
+
+    /**
+     * Vista del campo sin copiar caracteres.
+     */
+    CharSequence field(int field) {
+        return CharBuffer.wrap(source, starts[field], ends[field]);
+    }
+
+    private CharSequence trimmed(int field) {
+        int start = starts[field];
+        int end = ends[field];
+        while (start < end && Character.isWhitespace(source.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(source.charAt(end - 1))) {
+            end--;
+        }
+        return CharBuffer.wrap(source, start, end);
+    }
+
+    /**
+     * Posición con prefijo opcional 'P' (P01 → 1). Un campo vacío o solo con el prefijo es null.
+     */
+    private Short position(int field) {
+        int start = starts[field];
+        int end = ends[field];
+        if (start < end && source.charAt(start) == POSITION_PREFIX) {
+            start++;
+        }
+        if (start == end) {
+            return null;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (c < '0' || c > '9' || value > Short.MAX_VALUE / 10) {
+                throw malformed("posición inválida '" + field(field) + "'");
+            }
+            value = value * 10 + (c - '0');
+        }
+        return (short) value;
+    }
+
+    /**
+     * Decimal con punto o coma (10.5 / 10,5). Un campo vacío es null.
+     */
+    private Double decimal(int field) {
+        int start = starts[field];
+        int end = ends[field];
+        if (start == end) {
+            return null;
+        }
+        long digits = 0;
+        long scale = 1;
+        boolean fraction = false;
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if ((c == '.' || c == ',') && !fraction) {
+                fraction = true;
+            } else if (c >= '0' && c <= '9' && digits < Long.MAX_VALUE / 10) {
+                digits = digits * 10 + (c - '0');
+                if (fraction) {
+                    scale *= 10;
+                }
+            } else {
+                throw malformed("valor numérico inválido '" + field(field) + "'");
+            }
+        }
+        return (double) digits / scale;
+    }
+
+    private void skipWhitespace() {
+        while (cursor < length && Character.isWhitespace(source.charAt(cursor))) {
+            cursor++;
+        }
+    }
+
+    private ValidationException malformed(String reason) {
+        return new ValidationException(
+                "Registro " + record + " del log de movimientos mal formado (carácter " + cursor + "): " + reason);
+    }
+}
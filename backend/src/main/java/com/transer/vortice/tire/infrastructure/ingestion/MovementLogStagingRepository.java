@@ -0,0 +1,173 @@
+package com.transer.vortice.tire.infrastructure.ingestion;
+
+import com.transer.vortice.tire.application.dto.response.MovementLogTicketResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Acceso JDBC a la cola de tickets del canal móvil (tire_management.movement_log_staging).
+ *
+ * La recepción inserta todos los tickets de un envío en un batch con
+ * ON CONFLICT (ticket) DO NOTHING: el conteo por fila del batch indica qué tickets
+ * eran reenvíos. El procesamiento lee los pendientes por placa sobre el índice parcial
+ * idx_movement_log_staging_pending y bloquea cada ticket con FOR UPDATE SKIP LOCKED
+ * dentro de la transacción que lo aplica.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class MovementLogStagingRepository {
+
+    static final String INSERT_SQL = """
+            INSERT INTO tire_management.movement_log_staging (
+                ticket, license_plate, mileage, movement_log, movement_count,
+                status, error_message, processed_at, office_id, received_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, CASE WHEN ? = 'A' THEN NULL ELSE CURRENT_TIMESTAMP END, ?, ?)
+            ON CONFLICT (ticket) DO NOTHING
+            """;
+
+    /**
+     * Placas con tickets pendientes, primero la que lleva más tiempo esperando.
+     */
+    static final String PENDING_PLATES_SQL = """
+            SELECT license_plate
+            FROM tire_management.movement_log_staging
+            WHERE status = 'A'
+            GROUP BY license_plate
+            ORDER BY min(ticket)
+            LIMIT ?
+            """;
+
+    static final String PENDING_TICKETS_SQL = """
+            SELECT s.id, s.ticket, s.license_plate, v.id AS vehicle_id, s.mileage, s.movement_log,
+                   s.received_by, s.received_at::date AS received_on
+            FROM tire_management.movement_log_staging s
+            LEFT JOIN shared.vehicles v ON v.license_plate = s.license_plate AND v.deleted_at IS NULL
+            WHERE s.license_plate = ? AND s.status = 'A'
+            ORDER BY s.ticket
+            LIMIT ?
+            """;
+
+    static final String LOCK_PENDING_SQL = """
+            SELECT id FROM tire_management.movement_log_staging
+            WHERE id = ? AND status = 'A'
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    static final String MARK_SQL = """
+            UPDATE tire_management.movement_log_staging
+            SET status = ?, error_message = ?, processed_at = CURRENT_TIMESTAMP
+            WHERE id = ? AND status = 'A'
+            """;
+
+    static final String FIND_BY_TICKET_SQL = """
+            SELECT ticket, license_plate, status, movement_count, error_message, received_at, processed_at
+            FROM tire_management.movement_log_staging
+            WHERE ticket = ?
+            """;
+
+    private static final RowMapper<PendingTicket> PENDING_TICKET_MAPPER = (rs, rowNum) -> new PendingTicket(
+            rs.getLong("id"),
+            rs.getLong("ticket"),
+            rs.getString("license_plate"),
+            rs.getObject("vehicle_id", UUID.class),
+            rs.getInt("mileage"),
+            rs.getString("movement_log"),
+            rs.getObject("received_by", Long.class),
+            rs.getDate("received_on").toLocalDate());
+
+    private static final RowMapper<MovementLogTicketResponse> TICKET_MAPPER = (rs, rowNum) -> {
+        Timestamp processedAt = rs.getTimestamp("processed_at");
+        return new MovementLogTicketResponse(
+                rs.getLong("ticket"),
+                rs.getString("license_plate"),
+                MovementLogStatus.valueOf(rs.getString("status")),
+                rs.getInt("movement_count"),
+                rs.getString("error_message"),
+                rs.getTimestamp("received_at").toInstant(),
+                processedAt != null ? processedAt.toInstant() : null);
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Encola los tickets de un envío en un solo batch.
+     *
+     * @return números de ticket insertados; los ausentes ya estaban en la cola
+     */
+    public Set<Long> insert(List<StagedTicket> tickets, Long userId, UUID officeId) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, tickets, tickets.size(), (ps, t) -> {
+            ps.setLong(1, t.ticket());
+            ps.setString(2, t.licensePlate());
+            ps.setInt(3, t.mileage());
+            ps.setString(4, t.movementLog());
+            ps.setInt(5, t.movementCount());
+            ps.setString(6, t.status().name());
+            ps.setString(7, t.errorMessage());
+            ps.setString(8, t.status().name());
+            ps.setObject(9, officeId, Types.OTHER);
+            if (userId != null) {
+                ps.setLong(10, userId);
+            } else {
+                ps.setNull(10, Types.BIGINT);
+            }
+        });
+
+        Set<Long> inserted = new HashSet<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count != 0) {
+                    inserted.add(tickets.get(index).ticket());
+                }
+                index++;
+            }
+        }
+        return inserted;
+    }
+
+    public List<String> findPendingPlates(int limit) {
+        return jdbcTemplate.queryForList(PENDING_PLATES_SQL, String.class, limit);
+    }
+
+    /**
+     * Tickets pendientes de una placa en orden de ticket.
+     */
+    public List<PendingTicket> findPending(String licensePlate, int limit) {
+        return jdbcTemplate.query(PENDING_TICKETS_SQL, PENDING_TICKET_MAPPER, licensePlate, limit);
+    }
+
+    /**
+     * Bloquea un ticket pendiente hasta el final de la transacción actual.
+     *
+     * @return false si el ticket ya no está pendiente o lo tiene otra transacción
+     */
+    public boolean lockPending(long id) {
+        return !jdbcTemplate.queryForList(LOCK_PENDING_SQL, Long.class, id).isEmpty();
+    }
+
+    public void markProcessed(long id) {
+        jdbcTemplate.update(MARK_SQL, MovementLogStatus.P.name(), null, id);
+    }
+
+    public void markRejected(long id, String errorMessage) {
+        jdbcTemplate.update(MARK_SQL, MovementLogStatus.R.name(), errorMessage, id);
+    }
+
+    public Optional<MovementLogTicketResponse> findByTicket(long ticket) {
+        return jdbcTemplate.query(FIND_BY_TICKET_SQL, TICKET_MAPPER, ticket).stream().findFirst();
+    }
+}
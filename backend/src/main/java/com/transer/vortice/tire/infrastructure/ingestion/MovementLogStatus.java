@@ -0,0 +1,15 @@
+package com.transer.vortice.tire.infrastructure.ingestion;
+
+/**
+ * Estados de un ticket en la cola (heredados de TMPLOGMOV.ESTADO).
+ *
+ * @author Vórtice Development Team
+ */
+public enum MovementLogStatus {
+    /** Activo: pendiente de procesar */
+    A,
+    /** Procesado */
+    P,
+    /** Rechazado */
+    R
+}
@@ -0,0 +1,30 @@
+package com.transer.vortice.tire.infrastructure.ingestion;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Ticket pendiente (estado A) leído de la cola para procesarse.
+ *
+ * @param id ID de la fila en la cola
+ * @param ticket número de ticket del terminal
+ * @param licensePlate placa del vehículo
+ * @param vehicleId ID del vehículo o null si la placa no existe
+ * @param mileage kilometraje del vehículo en la visita
+ * @param movementLog string codificado de movimientos
+ * @param receivedBy usuario que envió el ticket
+ * @param receivedOn fecha de recepción, usada como fecha de los movimientos
+ *
+ * @author Vórtice Development Team
+ */
+public record PendingTicket(
+        long id,
+        long ticket,
+        String licensePlate,
+        UUID vehicleId,
+        int mileage,
+        String movementLog,
+        Long receivedBy,
+        LocalDate receivedOn
+) {
+}
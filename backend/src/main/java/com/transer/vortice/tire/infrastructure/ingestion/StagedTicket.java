@@ -0,0 +1,28 @@
+package com.transer.vortice.tire.infrastructure.ingestion;
+
+/**
+ * Ticket recibido del canal móvil listo para guardarse en la cola.
+ *
+ * Los tickets con el log mal formado se guardan directamente como rechazados
+ * ({@code status = 'R'}) para conservar el número de ticket y el motivo.
+ *
+ * @param ticket número de ticket del terminal (clave de idempotencia)
+ * @param licensePlate placa del vehículo
+ * @param mileage kilometraje del vehículo en la visita
+ * @param movementLog string codificado de movimientos
+ * @param movementCount número de registros del log
+ * @param status A (pendiente) o R (rechazado en la recepción)
+ * @param errorMessage motivo del rechazo o null
+ *
+ * @author Vórtice Development Team
+ */
+public record StagedTicket(
+        long ticket,
+        String licensePlate,
+        int mileage,
+        String movementLog,
+        int movementCount,
+        MovementLogStatus status,
+        String errorMessage
+) {
+}
@@ -0,0 +1,350 @@
+package com.transer.vortice.tire.infrastructure.lifecycle;
+
+import com.transer.vortice.tire.domain.model.lifecycle.TireLifecyclePlan;
+import com.transer.vortice.tire.domain.model.lifecycle.TireSnapshot;
+import com.transer.vortice.tire.domain.model.lifecycle.TireState;
+import com.transer.vortice.tire.domain.model.lifecycle.VehicleSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Acceso JDBC del motor de ciclo de vida de llantas.
+ *
+ * Un lote de movimientos de un vehículo se ejecuta con un número fijo de viajes a la
+ * base de datos, independiente del número de llantas: cada paso (historial, intermedio,
+ * kilometraje, borrado, estado...) es un único batch JDBC con una fila por llanta, y las
+ * columnas de la instalación o del inventario se copian con INSERT ... SELECT en el
+ * servidor en lugar de leerlas y reenviarlas desde la aplicación.
+ *
+ * Debe ejecutarse dentro de la transacción del servicio: las lecturas bloquean el
+ * vehículo y las llantas (FOR UPDATE) hasta el commit.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TireLifecycleJdbcRepository {
+
+    static final String LOCK_VEHICLE_SQL = """
+            SELECT v.current_mileage, vc.number_of_tires
+            FROM shared.vehicles v
+            JOIN shared.vehicle_classes vc ON vc.id = v.vehicle_class_id
+            WHERE v.id = ? AND v.deleted_at IS NULL
+            FOR UPDATE OF v
+            """;
+
+    static final String VEHICLE_POSITIONS_SQL = """
+            SELECT position, tire_id
+            FROM tire_management.active_installations
+            WHERE vehicle_id = ? AND deleted_at IS NULL
+            """;
+
+    static final String LOCK_TIRES_SQL = """
+            SELECT t.id, t.tire_number, t.current_state::text AS current_state, t.generation,
+                   i.id IS NOT NULL AS in_inventory,
+                   ai.id AS installation_id, ai.vehicle_id, ai.position,
+                   ai.mileage_at_installation, ai.installation_date
+            FROM tire_management.tires t
+            LEFT JOIN tire_management.inventory i ON i.tire_id = t.id AND i.deleted_at IS NULL
+            LEFT JOIN tire_management.active_installations ai ON ai.tire_id = t.id AND ai.deleted_at IS NULL
+            WHERE t.tire_number = ANY (?) AND t.deleted_at IS NULL
+            FOR UPDATE OF t
+            """;
+
+    static final String DEFER_POSITION_CONSTRAINT_SQL =
+            "SET CONSTRAINTS tire_management.uq_active_installations_vehicle_position DEFERRED";
+
+    // =====================================================
+    // DESMONTAJE
+    // =====================================================
+
+    /**
+     * Un registro de historial por periodo de montaje completo (montaje + desmontaje).
+     */
+    static final String INSERT_DISMOUNT_HISTORY_SQL = """
+            INSERT INTO tire_management.history_records (
+                tire_id, generation_at_event, purchase_cost, purchase_date, supplier_id, invoice_number,
+                technical_specification_id, is_retreaded, tread_compound_id, retreading_cost,
+                protector_id, protector_cost, vehicle_id, position, mileage_at_installation, installation_date,
+                mileage_at_removal, removal_date, removal_reason_id, created_by, updated_by)
+            SELECT ai.tire_id, t.generation, ai.purchase_cost, ai.purchase_date, ai.supplier_id, ai.invoice_number,
+                   t.technical_specification_id, ai.is_retreaded, ai.tread_compound_id, ai.retreading_cost,
+                   ai.protector_id, ai.protector_cost, ai.vehicle_id, ai.position, ai.mileage_at_installation,
+                   ai.installation_date, ?, ?, ?, ?, ?
+            FROM tire_management.active_installations ai
+            JOIN tire_management.tires t ON t.id = ai.tire_id
+            WHERE ai.id = ?
+            """;
+
+    /**
+     * Una llanta evaluada en un ciclo anterior reutiliza su registro (uq_intermediate_tire)
+     * y vuelve a quedar pendiente.
+     */
+    static final String INSERT_INTERMEDIATE_SQL = """
+            INSERT INTO tire_management.intermediate (
+                tire_id, purchase_cost, technical_specification_id, created_by, updated_by)
+            SELECT ai.tire_id, ai.purchase_cost, t.technical_specification_id, ?, ?
+            FROM tire_management.active_installations ai
+            JOIN tire_management.tires t ON t.id = ai.tire_id
+            WHERE ai.id = ?
+            ON CONFLICT (tire_id) DO UPDATE
+            SET purchase_cost = EXCLUDED.purchase_cost,
+                technical_specification_id = EXCLUDED.technical_specification_id,
+                evaluation_status = 'PENDING', evaluation_date = NULL,
+                evaluation_supplier_id = NULL, evaluation_notes = NULL,
+                deleted_at = NULL, deleted_by = NULL,
+                updated_by = EXCLUDED.updated_by, version = intermediate.version + 1
+            """;
+
+    /**
+     * Kilometraje recorrido en el periodo de montaje. La generation cambia en cada montaje,
+     * por lo que (tire_id, generation) identifica el periodo y el valor se reemplaza.
+     */
+    static final String UPSERT_ACCUMULATED_MILEAGE_SQL = """
+            INSERT INTO tire_management.accumulated_mileage (
+                tire_id, generation, total_accumulated_mileage, last_updated_date)
+            SELECT ai.tire_id, t.generation, ? - ai.mileage_at_installation, ?
+            FROM tire_management.active_installations ai
+            JOIN tire_management.tires t ON t.id = ai.tire_id
+            WHERE ai.id = ?
+            ON CONFLICT (tire_id, generation) DO UPDATE
+            SET total_accumulated_mileage = EXCLUDED.total_accumulated_mileage,
+                last_updated_date = EXCLUDED.last_updated_date
+            """;
+
+    /**
+     * Las alertas conservan tire_id y vehicle_id; solo se suelta la referencia a la instalación.
+     */
+    static final String DETACH_ALERTS_SQL =
+            "UPDATE tire_management.alerts SET tire_installation_id = NULL WHERE tire_installation_id = ?";
+
+    static final String DELETE_INSTALLATION_SQL =
+            "DELETE FROM tire_management.active_installations WHERE id = ?";
+
+    // =====================================================
+    // ROTACIÓN
+    // =====================================================
+
+    static final String ROTATE_SQL = """
+            UPDATE tire_management.active_installations
+            SET position = ?, updated_by = ?, version = version + 1
+            WHERE id = ?
+            """;
+
+    // =====================================================
+    // MONTAJE
+    // =====================================================
+
+    static final String UPDATE_VEHICLE_MILEAGE_SQL = """
+            UPDATE shared.vehicles
+            SET current_mileage = ?, current_mileage_updated_at = CURRENT_TIMESTAMP, updated_by = ?
+            WHERE id = ? AND current_mileage < ?
+            """;
+
+    static final String INSERT_INSTALLATION_SQL = """
+            INSERT INTO tire_management.active_installations (
+                tire_id, vehicle_id, position, purchase_cost, purchase_date, supplier_id, invoice_number,
+                is_retreaded, tread_compound_id, retreading_cost, protector_id, protector_cost,
+                mileage_at_installation, installation_date, created_by, updated_by)
+            SELECT i.tire_id, ?, ?, i.purchase_cost, i.purchase_date, i.supplier_id, i.invoice_number,
+                   i.is_retreaded, i.tread_compound_id, i.retreading_cost, i.protector_id, i.protector_cost,
+                   ?, ?, ?, ?
+            FROM tire_management.inventory i
+            WHERE i.tire_id = ? AND i.deleted_at IS NULL
+            """;
+
+    static final String DELETE_INVENTORY_SQL =
+            "DELETE FROM tire_management.inventory WHERE tire_id = ?";
+
+    // =====================================================
+    // ESTADO DE LA LLANTA
+    // =====================================================
+
+    static final String UPDATE_TIRE_STATE_SQL = """
+            UPDATE tire_management.tires
+            SET current_state = ?::tire_management.tire_state, updated_by = ?, version = version + 1
+            WHERE id = ?
+            """;
+
+    static final String UPDATE_MOUNTED_TIRE_SQL = """
+            UPDATE tire_management.tires
+            SET current_state = 'ACTIVE', generation = tire_management.increment_vehicle_count(generation),
+                updated_by = ?, version = version + 1
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Bloquea el vehículo y lee su ocupación actual.
+     *
+     * @param vehicleId ID del vehículo
+     * @return estado del vehículo o vacío si no existe o está eliminado
+     */
+    public Optional<VehicleSnapshot> lockVehicle(UUID vehicleId) {
+        List<int[]> rows = jdbcTemplate.query(LOCK_VEHICLE_SQL,
+                (rs, rowNum) -> new int[]{rs.getInt("current_mileage"), rs.getInt("number_of_tires")},
+                vehicleId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<Short, UUID> occupied = new HashMap<>();
+        jdbcTemplate.query(VEHICLE_POSITIONS_SQL,
+                rs -> {
+                    occupied.put(rs.getShort("position"), rs.getObject("tire_id", UUID.class));
+                },
+                vehicleId);
+
+        int[] vehicle = rows.get(0);
+        return Optional.of(new VehicleSnapshot(vehicleId, vehicle[0], vehicle[1], occupied));
+    }
+
+    /**
+     * Bloquea las llantas del lote y lee su estado con una sola consulta.
+     *
+     * @param tireNumbers números de llanta
+     * @return estado por número de llanta (las inexistentes no aparecen)
+     */
+    public Map<String, TireSnapshot> lockTires(Collection<String> tireNumbers) {
+        Map<String, TireSnapshot> tires = new HashMap<>();
+        jdbcTemplate.query(LOCK_TIRES_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", tireNumbers.toArray())),
+                rs -> {
+                    Date installationDate = rs.getDate("installation_date");
+                    int position = rs.getInt("position");
+                    Short positionValue = rs.wasNull() ? null : (short) position;
+                    int mileage = rs.getInt("mileage_at_installation");
+                    Integer mileageValue = rs.wasNull() ? null : mileage;
+                    TireSnapshot tire = new TireSnapshot(
+                            rs.getObject("id", UUID.class),
+                            rs.getString("tire_number"),
+                            TireState.valueOf(rs.getString("current_state")),
+                            rs.getString("generation"),
+                            rs.getBoolean("in_inventory"),
+                            rs.getObject("installation_id", UUID.class),
+                            rs.getObject("vehicle_id", UUID.class),
+                            positionValue,
+                            mileageValue,
+                            installationDate != null ? installationDate.toLocalDate() : null);
+                    tires.put(tire.tireNumber(), tire);
+                });
+        return tires;
+    }
+
+    /**
+     * Ejecuta el plan: desmontajes, rotaciones y montajes, en ese orden.
+     * La unicidad de posiciones se difiere hasta el commit para permitir intercambios.
+     *
+     * @param plan plan validado por la máquina de estados
+     * @param movementDate fecha de los movimientos
+     * @param userId usuario que registra los movimientos
+     */
+    public void apply(TireLifecyclePlan plan, LocalDate movementDate, Long userId) {
+        jdbcTemplate.execute(DEFER_POSITION_CONSTRAINT_SQL);
+
+        applyDismounts(plan.dismounts(), plan.mileage(), movementDate, userId);
+        applyRotations(plan.rotations(), userId);
+        applyMounts(plan, movementDate, userId);
+
+        log.debug("Lote aplicado al vehículo {}: {} desmontajes, {} rotaciones, {} montajes",
+                plan.vehicleId(), plan.dismounts().size(), plan.rotations().size(), plan.mounts().size());
+    }
+
+    private void applyDismounts(List<TireLifecyclePlan.Dismount> dismounts, int mileage,
+                                LocalDate movementDate, Long userId) {
+        if (dismounts.isEmpty()) {
+            return;
+        }
+        Date removalDate = Date.valueOf(movementDate);
+
+        jdbcTemplate.batchUpdate(INSERT_DISMOUNT_HISTORY_SQL, dismounts, dismounts.size(), (ps, d) -> {
+            ps.setInt(1, mileage);
+            ps.setDate(2, removalDate);
+            ps.setObject(3, d.removalReasonId(), Types.OTHER);
+            setUser(ps, 4, userId);
+            setUser(ps, 5, userId);
+            ps.setObject(6, d.installationId());
+        });
+        jdbcTemplate.batchUpdate(INSERT_INTERMEDIATE_SQL, dismounts, dismounts.size(), (ps, d) -> {
+            setUser(ps, 1, userId);
+            setUser(ps, 2, userId);
+            ps.setObject(3, d.installationId());
+        });
+        jdbcTemplate.batchUpdate(UPSERT_ACCUMULATED_MILEAGE_SQL, dismounts, dismounts.size(), (ps, d) -> {
+            ps.setInt(1, mileage);
+            ps.setDate(2, removalDate);
+            ps.setObject(3, d.installationId());
+        });
+        jdbcTemplate.batchUpdate(DETACH_ALERTS_SQL, dismounts, dismounts.size(),
+                (ps, d) -> ps.setObject(1, d.installationId()));
+        jdbcTemplate.batchUpdate(DELETE_INSTALLATION_SQL, dismounts, dismounts.size(),
+                (ps, d) -> ps.setObject(1, d.installationId()));
+        jdbcTemplate.batchUpdate(UPDATE_TIRE_STATE_SQL, dismounts, dismounts.size(), (ps, d) -> {
+            ps.setString(1, TireState.INTERMEDIATE.name());
+            setUser(ps, 2, userId);
+            ps.setObject(3, d.tireId());
+        });
+    }
+
+    private void applyRotations(List<TireLifecyclePlan.Rotation> rotations, Long userId) {
+        if (rotations.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ROTATE_SQL, rotations, rotations.size(), (ps, r) -> {
+            ps.setShort(1, r.toPosition());
+            setUser(ps, 2, userId);
+            ps.setObject(3, r.installationId());
+        });
+    }
+
+    private void applyMounts(TireLifecyclePlan plan, LocalDate movementDate, Long userId) {
+        List<TireLifecyclePlan.Mount> mounts = plan.mounts();
+        if (mounts.isEmpty()) {
+            return;
+        }
+        Date installationDate = Date.valueOf(movementDate);
+
+        // El trigger validate_installation_mileage exige kilometraje >= al actual del vehículo
+        jdbcTemplate.update(UPDATE_VEHICLE_MILEAGE_SQL, plan.mileage(), userId, plan.vehicleId(), plan.mileage());
+
+        jdbcTemplate.batchUpdate(INSERT_INSTALLATION_SQL, mounts, mounts.size(), (ps, m) -> {
+            ps.setObject(1, plan.vehicleId());
+            ps.setShort(2, m.position());
+            ps.setInt(3, plan.mileage());
+            ps.setDate(4, installationDate);
+            setUser(ps, 5, userId);
+            setUser(ps, 6, userId);
+            ps.setObject(7, m.tireId());
+        });
+        jdbcTemplate.batchUpdate(DELETE_INVENTORY_SQL, mounts, mounts.size(),
+                (ps, m) -> ps.setObject(1, m.tireId()));
+        jdbcTemplate.batchUpdate(UPDATE_MOUNTED_TIRE_SQL, mounts, mounts.size(), (ps, m) -> {
+            setUser(ps, 1, userId);
+            ps.setObject(2, m.tireId());
+        });
+    }
+
+    private static void setUser(PreparedStatement ps, int index, Long userId) throws SQLException {
+        if (userId != null) {
+            ps.setLong(index, userId);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.transer.vortice.tire.infrastructure.partition;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Acceso JDBC al mantenimiento de particiones por rango de created_at de las tablas
+ * históricas de tire_management.
+ *
+ * Las particiones nuevas son mensuales y contiguas a la última existente (el límite
+ * inferior es el superior de la anterior), por lo que no hay huecos ni solapamientos
+ * aunque las anteriores sean anuales. Si la partición DEFAULT ya tiene filas del mes,
+ * se mueven a la partición nueva en la misma transacción antes de adjuntarla.
+ *
+ * Los métodos que modifican deben ejecutarse dentro de una transacción.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class HistoryPartitionRepository {
+
+    static final String SCHEMA = "tire_management";
+
+    /**
+     * Tablas particionadas administradas (los nombres se interpolan en DDL).
+     */
+    public static final List<String> TABLES = List.of("history_records", "sampling_history");
+
+    /**
+     * Clave del advisory lock del mantenimiento (única en la base de datos).
+     */
+    static final long MAINTENANCE_LOCK_KEY = 0x5654_5850_4152_5449L;
+
+    static final String FIND_PARTITIONS_SQL = """
+            SELECT c.relname AS partition_name,
+                   b.bounds[1]::timestamptz AS range_from,
+                   b.bounds[2]::timestamptz AS range_to,
+                   pg_total_relation_size(c.oid) AS total_bytes,
+                   GREATEST(c.reltuples, 0)::bigint AS estimated_rows
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            CROSS JOIN LATERAL regexp_match(pg_get_expr(c.relpartbound, c.oid),
+                                            'FROM \\(''([^'']+)''\\) TO \\(''([^'']+)''\\)') AS b(bounds)
+            WHERE i.inhparent = ?::regclass
+            ORDER BY range_from NULLS LAST
+            """;
+
+    /**
+     * Nombre y límites de la partición mensual que empieza en el instante dado,
+     * calculados por PostgreSQL en la zona horaria de la sesión.
+     */
+    static final String NEXT_RANGE_SQL = """
+            SELECT to_char(b, 'YYYY_MM') AS suffix, b::text AS range_from, (b + interval '1 month')::text AS range_to
+            FROM (SELECT ?::timestamptz AS b) x
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Intenta tomar el lock del mantenimiento hasta el fin de la transacción actual.
+     *
+     * @return false si otro nodo está haciendo mantenimiento
+     */
+    public boolean tryLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, MAINTENANCE_LOCK_KEY));
+    }
+
+    /**
+     * Particiones de la tabla con su tamaño, ordenadas por rango (DEFAULT al final).
+     */
+    public List<PartitionInfo> findPartitions(String table) {
+        return jdbcTemplate.query(FIND_PARTITIONS_SQL, (rs, rowNum) -> new PartitionInfo(
+                rs.getString("partition_name"),
+                toInstant(rs.getTimestamp("range_from")),
+                toInstant(rs.getTimestamp("range_to")),
+                rs.getLong("total_bytes"),
+                rs.getLong("estimated_rows")), qualified(table));
+    }
+
+    /**
+     * Crea particiones mensuales contiguas hasta cubrir el instante dado.
+     *
+     * @return nombres de las particiones creadas
+     */
+    public List<String> createPartitionsUntil(String table, Instant until) {
+        List<PartitionInfo> partitions = findPartitions(checked(table));
+        String defaultPartition = partitions.stream()
+                .filter(PartitionInfo::isDefault)
+                .map(PartitionInfo::name)
+                .findFirst()
+                .orElse(null);
+        Instant upper = partitions.stream()
+                .filter(p -> !p.isDefault())
+                .map(PartitionInfo::rangeTo)
+                .max(Instant::compareTo)
+                .orElseThrow(() -> new IllegalStateException("La tabla " + table + " no tiene particiones por rango"));
+
+        List<String> created = new ArrayList<>();
+        while (upper.isBefore(until)) {
+            upper = createMonthlyPartition(table, upper, defaultPartition, created);
+        }
+        return created;
+    }
+
+    /**
+     * Exporta la partición a un archivo JSON por línea comprimido con gzip, y la separa
+     * y elimina de la tabla. El archivo queda completo antes de eliminar la partición;
+     * si la transacción falla la partición sigue en la tabla y la siguiente ejecución
+     * sobrescribe el archivo.
+     *
+     * @return filas archivadas
+     */
+    public long archive(String table, String partition, Path directory, int fetchSize) {
+        boolean archivable = findPartitions(checked(table)).stream()
+                .anyMatch(p -> p.name().equals(partition) && !p.isDefault());
+        if (!archivable) {
+            throw new IllegalArgumentException("La partición " + partition + " no es una partición por rango de " + table);
+        }
+        Path target = directory.resolve(partition + ".jsonl.gz");
+        Path temporary = directory.resolve(partition + ".jsonl.gz.tmp");
+        long rows = export(partition, temporary, fetchSize);
+        try {
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir el archivo " + target, e);
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + qualified(table) + " DETACH PARTITION " + qualified(partition));
+        jdbcTemplate.execute("DROP TABLE " + qualified(partition));
+        log.info("Partición {} archivada en {} ({} filas)", partition, target, rows);
+        return rows;
+    }
+
+    private Instant createMonthlyPartition(String table, Instant from, String defaultPartition, List<String> created) {
+        String[] range = jdbcTemplate.queryForObject(NEXT_RANGE_SQL, (rs, rowNum) -> new String[]{
+                rs.getString("suffix"), rs.getString("range_from"), rs.getString("range_to")}, Timestamp.from(from));
+        String partition = table + "_" + range[0];
+
+        jdbcTemplate.execute("CREATE TABLE " + qualified(partition)
+                + " (LIKE " + qualified(table) + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        if (defaultPartition != null) {
+            int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + qualified(defaultPartition)
+                    + " WHERE created_at >= ?::timestamptz AND created_at < ?::timestamptz RETURNING *)"
+                    + " INSERT INTO " + qualified(partition) + " SELECT * FROM moved", range[1], range[2]);
+            if (moved > 0) {
+                log.warn("{} filas movidas de {} a {}", moved, defaultPartition, partition);
+            }
+        }
+        jdbcTemplate.execute("ALTER TABLE " + qualified(table) + " ATTACH PARTITION " + qualified(partition)
+                + " FOR VALUES FROM ('" + range[1] + "') TO ('" + range[2] + "')");
+
+        created.add(partition);
+        log.info("Partición {} creada [{}, {})", partition, range[1], range[2]);
+        return jdbcTemplate.queryForObject("SELECT ?::timestamptz", Timestamp.class, range[2]).toInstant();
+    }
+
+    private long export(String partition, Path file, int fetchSize) {
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(fetchSize);
+        long[] rows = {0};
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8))) {
+            streaming.query("SELECT row_to_json(p)::text FROM " + qualified(partition) + " p",
+                    (RowCallbackHandler) rs -> {
+                        try {
+                            writer.write(rs.getString(1));
+                            writer.newLine();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        rows[0]++;
+                    });
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir el archivo " + file, e);
+        }
+        return rows[0];
+    }
+
+    private static String checked(String table) {
+        if (!TABLES.contains(table)) {
+            throw new IllegalArgumentException("Tabla no administrada: " + table);
+        }
+        return table;
+    }
+
+    private static String qualified(String name) {
+        return SCHEMA + "." + name;
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.transer.vortice.tire.infrastructure.partition;
+
+import java.time.Instant;
+
+/**
+ * Partición de una tabla histórica con su rango de created_at y su tamaño.
+ *
+ * @param name nombre de la partición (sin esquema)
+ * @param rangeFrom límite inferior incluido (null en la partición DEFAULT)
+ * @param rangeTo límite superior excluido (null en la partición DEFAULT)
+ * @param totalBytes tamaño con índices y TOAST
+ * @param estimatedRows filas según la última estadística (reltuples)
+ *
+ * @author Vórtice Development Team
+ */
+public record PartitionInfo(String name, Instant rangeFrom, Instant rangeTo, long totalBytes, long estimatedRows) {
+
+    public boolean isDefault() {
+        return rangeFrom == null;
+    }
+}
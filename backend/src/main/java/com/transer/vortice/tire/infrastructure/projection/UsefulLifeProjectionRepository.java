@@ -0,0 +1,230 @@
+package com.transer.vortice.tire.infrastructure.projection;
+
+import com.transer.vortice.tire.application.dto.response.UsefulLifeResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Acceso JDBC a la vista materializada tire_management.mv_useful_life y a su estado de
+ * refresco (tire_management.projection_refresh_state, V3.8.0).
+ *
+ * Los triggers de V3.8.0 marcan la vista como sucia; {@link #refreshIfDirty} la refresca
+ * con REFRESH ... CONCURRENTLY (las lecturas no se bloquean) solo si hay marca:
+ * <ol>
+ *   <li>pg_try_advisory_lock: si otro nodo está refrescando, no se hace nada.</li>
+ *   <li>Se toma la marca (dirty_since = NULL) y se confirma: las escrituras siguientes
+ *       vuelven a marcar la vista para el próximo refresco.</li>
+ *   <li>Se espera a que terminen las transacciones que ya tenían xid al tomar la marca:
+ *       una que escribió mientras la vista ya estaba marcada no volvió a marcarla y
+ *       quedaría fuera del refresco si este empezara antes de su commit.</li>
+ *   <li>REFRESH MATERIALIZED VIEW CONCURRENTLY y registro de refreshed_at. Si algo
+ *       falla se restaura la marca.</li>
+ * </ol>
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class UsefulLifeProjectionRepository {
+
+    static final String PROJECTION = "mv_useful_life";
+
+    /**
+     * Clave del advisory lock del refresco (única en la base de datos).
+     */
+    static final long REFRESH_LOCK_KEY = 0x5654_5846_4D56_554CL;
+
+    private static final long WRITER_POLL_MS = 50;
+
+    static final String CLAIM_SQL = """
+            UPDATE tire_management.projection_refresh_state s
+            SET dirty_since = NULL, refresh_started_at = clock_timestamp()
+            FROM (
+                SELECT projection_name, dirty_since
+                FROM tire_management.projection_refresh_state
+                WHERE projection_name = ? AND dirty_since IS NOT NULL
+                FOR UPDATE
+            ) claimed
+            WHERE s.projection_name = claimed.projection_name
+            RETURNING claimed.dirty_since
+            """;
+
+    static final String WRITER_FENCE_SQL = "SELECT pg_snapshot_xmax(pg_current_snapshot())::text";
+
+    /**
+     * Verdadero cuando terminaron todas las transacciones con xid anterior a la barrera
+     * (excepto la propia, si la hay).
+     */
+    static final String WRITERS_DONE_SQL = """
+            SELECT NOT EXISTS (
+                SELECT 1 FROM pg_snapshot_xip(pg_current_snapshot()) x
+                WHERE x < ?::xid8 AND x IS DISTINCT FROM pg_current_xact_id_if_assigned()
+            )
+            """;
+
+    static final String REFRESH_SQL = "REFRESH MATERIALIZED VIEW CONCURRENTLY tire_management.mv_useful_life";
+
+    static final String COMPLETE_SQL = """
+            UPDATE tire_management.projection_refresh_state
+            SET refreshed_at = refresh_started_at,
+                last_duration_ms = (EXTRACT(EPOCH FROM clock_timestamp() - refresh_started_at) * 1000)::int,
+                refresh_count = refresh_count + 1
+            WHERE projection_name = ?
+            """;
+
+    static final String RESTORE_SQL = """
+            UPDATE tire_management.projection_refresh_state
+            SET dirty_since = LEAST(COALESCE(dirty_since, ?), ?)
+            WHERE projection_name = ?
+            """;
+
+    static final String FIND_STATE_SQL = """
+            SELECT dirty_since, refreshed_at, last_duration_ms, refresh_count
+            FROM tire_management.projection_refresh_state
+            WHERE projection_name = ?
+            """;
+
+    static final String FIND_SQL = """
+            SELECT installation_id, tire_id, tire_number, generation, vehicle_id, vehicle_license_plate,
+                   vehicle_current_mileage, position, current_depth_internal, current_depth_central,
+                   current_depth_external, current_avg_depth, last_sampling_date, total_accumulated_mileage,
+                   mileage_at_installation, mileage_since_installation, expected_mileage, expected_avg_depth,
+                   mileage_efficiency_percentage
+            FROM tire_management.mv_useful_life
+            WHERE (?::uuid IS NULL OR vehicle_id = ?::uuid)
+            ORDER BY last_sampling_date IS NULL, current_avg_depth, tire_number
+            LIMIT ?
+            """;
+
+    private static final RowMapper<UsefulLifeResponse> USEFUL_LIFE_MAPPER = (rs, rowNum) -> {
+        Date lastSamplingDate = rs.getDate("last_sampling_date");
+        return new UsefulLifeResponse(
+                rs.getObject("installation_id", UUID.class),
+                rs.getObject("tire_id", UUID.class),
+                rs.getString("tire_number"),
+                rs.getString("generation"),
+                rs.getObject("vehicle_id", UUID.class),
+                rs.getString("vehicle_license_plate"),
+                rs.getInt("vehicle_current_mileage"),
+                rs.getShort("position"),
+                rs.getBigDecimal("current_depth_internal"),
+                rs.getBigDecimal("current_depth_central"),
+                rs.getBigDecimal("current_depth_external"),
+                rs.getBigDecimal("current_avg_depth"),
+                lastSamplingDate != null ? lastSamplingDate.toLocalDate() : null,
+                rs.getObject("total_accumulated_mileage", Integer.class),
+                rs.getObject("mileage_at_installation", Integer.class),
+                rs.getObject("mileage_since_installation", Integer.class),
+                rs.getObject("expected_mileage", Integer.class),
+                rs.getBigDecimal("expected_avg_depth"),
+                rs.getBigDecimal("mileage_efficiency_percentage"));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Refresca la vista si está marcada como sucia y ningún otro nodo la está refrescando.
+     * Debe llamarse fuera de una transacción: cada paso se confirma por separado.
+     *
+     * @param writerWaitMs espera máxima a las transacciones que escribieron antes de tomar la marca
+     * @return true si se refrescó la vista
+     */
+    public boolean refreshIfDirty(long writerWaitMs) {
+        Boolean refreshed = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            // Mismo connection para el advisory lock de sesión y su liberación
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            if (!Boolean.TRUE.equals(session.queryForObject(
+                    "SELECT pg_try_advisory_lock(?)", Boolean.class, REFRESH_LOCK_KEY))) {
+                log.debug("Otro nodo está refrescando {}", PROJECTION);
+                return false;
+            }
+            try {
+                return claimAndRefresh(session, writerWaitMs);
+            } finally {
+                session.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class, REFRESH_LOCK_KEY);
+            }
+        });
+        return Boolean.TRUE.equals(refreshed);
+    }
+
+    /**
+     * Estado de refresco de la vista.
+     */
+    public UsefulLifeRefreshState findState() {
+        return jdbcTemplate.queryForObject(FIND_STATE_SQL, (rs, rowNum) -> new UsefulLifeRefreshState(
+                toInstant(rs.getTimestamp("dirty_since")),
+                toInstant(rs.getTimestamp("refreshed_at")),
+                rs.getObject("last_duration_ms", Integer.class),
+                rs.getLong("refresh_count")), PROJECTION);
+    }
+
+    /**
+     * Llantas montadas de la vista, primero las de menor profundidad promedio.
+     *
+     * @param vehicleId filtra por vehículo (opcional)
+     * @param limit máximo de filas
+     */
+    public List<UsefulLifeResponse> find(UUID vehicleId, int limit) {
+        return jdbcTemplate.query(FIND_SQL, USEFUL_LIFE_MAPPER, vehicleId, vehicleId, limit);
+    }
+
+    private boolean claimAndRefresh(JdbcTemplate session, long writerWaitMs) {
+        List<Timestamp> claimed = session.queryForList(CLAIM_SQL, Timestamp.class, PROJECTION);
+        if (claimed.isEmpty()) {
+            return false;
+        }
+        Timestamp dirtySince = claimed.get(0);
+        try {
+            String fence = session.queryForObject(WRITER_FENCE_SQL, String.class);
+            if (!awaitWriters(session, fence, writerWaitMs)) {
+                log.warn("Refresco de {} pospuesto: hay transacciones de escritura abiertas hace más de {} ms",
+                        PROJECTION, writerWaitMs);
+                restore(session, dirtySince);
+                return false;
+            }
+            session.execute(REFRESH_SQL);
+            session.update(COMPLETE_SQL, PROJECTION);
+        } catch (RuntimeException e) {
+            restore(session, dirtySince);
+            throw e;
+        }
+        log.info("Vista {} refrescada (sucia desde {})", PROJECTION, dirtySince.toInstant());
+        return true;
+    }
+
+    private boolean awaitWriters(JdbcTemplate session, String fence, long writerWaitMs) {
+        long deadline = System.currentTimeMillis() + writerWaitMs;
+        while (!Boolean.TRUE.equals(session.queryForObject(WRITERS_DONE_SQL, Boolean.class, fence))) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(WRITER_POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void restore(JdbcTemplate session, Timestamp dirtySince) {
+        session.update(RESTORE_SQL, dirtySince, dirtySince, PROJECTION);
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
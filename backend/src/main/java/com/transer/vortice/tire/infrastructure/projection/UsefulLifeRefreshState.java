@@ -0,0 +1,23 @@
+package com.transer.vortice.tire.infrastructure.projection;
+
+import java.time.Instant;
+
+/**
+ * Estado de refresco de mv_useful_life.
+ *
+ * @param dirtySince primera escritura no incluida en la vista (null si está al día)
+ * @param refreshedAt la vista incluye todo lo confirmado antes de este instante (null si nunca se refrescó)
+ * @param lastDurationMs duración del último refresco
+ * @param refreshCount refrescos completados
+ *
+ * @author Vórtice Development Team
+ */
+public record UsefulLifeRefreshState(Instant dirtySince, Instant refreshedAt, Integer lastDurationMs, long refreshCount) {
+
+    /**
+     * Hay escrituras posteriores al último refresco.
+     */
+    public boolean stale() {
+        return dirtySince != null;
+    }
+}
@@ -0,0 +1,198 @@
+package com.transer.vortice.tire.infrastructure.sampling;
+
+import com.transer.vortice.tire.domain.model.sampling.SamplingBaseline;
+import com.transer.vortice.tire.domain.model.sampling.SamplingRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Acceso JDBC del registro masivo de muestreos.
+ *
+ * Un envío de cualquier tamaño se resuelve con dos sentencias:
+ * <ol>
+ *   <li>{@link #lockBaselines}: las instalaciones activas de todos los vehículos del
+ *       envío con su último muestreo (LATERAL sobre uq_sampling_installation_mileage).</li>
+ *   <li>{@link #insert}: los muestreos viajan como arreglos (unnest) y una sola sentencia
+ *       con CTEs inserta en samplings, actualiza accumulated_mileage y el kilometraje de
+ *       los vehículos. El histórico lo escribe duplicate_sampling_trigger, que desde
+ *       V3.7.0 es un trigger por sentencia con tabla de transición.</li>
+ * </ol>
+ *
+ * Debe ejecutarse dentro de la transacción del servicio: la lectura bloquea las
+ * instalaciones (FOR SHARE) para que no se desmonten hasta el commit.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TireSamplingJdbcRepository {
+
+    static final String LOCK_BASELINES_SQL = """
+            SELECT ai.id AS installation_id, ai.tire_id, t.tire_number, t.technical_specification_id, ai.vehicle_id, ai.position,
+                   ai.mileage_at_installation, ai.installation_date,
+                   last.vehicle_mileage_at_sampling AS last_mileage, last.sampling_date AS last_sampling_date,
+                   ROUND((last.depth_internal_mm + last.depth_central_mm + last.depth_external_mm) / 3.0, 2)
+                       AS last_average_depth
+            FROM tire_management.active_installations ai
+            JOIN tire_management.tires t ON t.id = ai.tire_id
+            LEFT JOIN LATERAL (
+                SELECT s.vehicle_mileage_at_sampling, s.sampling_date,
+                       s.depth_internal_mm, s.depth_central_mm, s.depth_external_mm
+                FROM tire_management.samplings s
+                WHERE s.tire_installation_id = ai.id
+                ORDER BY s.vehicle_mileage_at_sampling DESC
+                LIMIT 1
+            ) last ON true
+            WHERE ai.vehicle_id = ANY (?) AND ai.deleted_at IS NULL
+            FOR SHARE OF ai
+            """;
+
+    /**
+     * El kilometraje del periodo de montaje (muestreo - montaje) solo crece: GREATEST
+     * protege frente a un muestreo anterior registrado después. El desmontaje
+     * reemplaza el valor con el kilometraje final del periodo.
+     */
+    static final String INSERT_SQL = """
+            WITH input AS (
+                SELECT *
+                FROM unnest(?::uuid[], ?::uuid[], ?::date[], ?::int[], ?::numeric[], ?::numeric[], ?::numeric[], ?::int[])
+                    AS i(installation_id, vehicle_id, sampling_date, mileage,
+                         depth_internal, depth_central, depth_external, pressure)
+            ), inserted AS (
+                INSERT INTO tire_management.samplings (
+                    tire_installation_id, sampling_date, vehicle_mileage_at_sampling,
+                    depth_internal_mm, depth_central_mm, depth_external_mm, pressure_psi, created_by)
+                SELECT installation_id, sampling_date, mileage,
+                       depth_internal, depth_central, depth_external, pressure, ?
+                FROM input
+                RETURNING tire_installation_id, sampling_date, vehicle_mileage_at_sampling
+            ), accumulated AS (
+                INSERT INTO tire_management.accumulated_mileage (
+                    tire_id, generation, total_accumulated_mileage, last_updated_date)
+                SELECT ai.tire_id, t.generation, i.vehicle_mileage_at_sampling - ai.mileage_at_installation,
+                       i.sampling_date
+                FROM inserted i
+                JOIN tire_management.active_installations ai ON ai.id = i.tire_installation_id
+                JOIN tire_management.tires t ON t.id = ai.tire_id
+                ON CONFLICT (tire_id, generation) DO UPDATE
+                SET total_accumulated_mileage = GREATEST(accumulated_mileage.total_accumulated_mileage,
+                                                         EXCLUDED.total_accumulated_mileage),
+                    last_updated_date = GREATEST(accumulated_mileage.last_updated_date, EXCLUDED.last_updated_date),
+                    updated_at = CURRENT_TIMESTAMP
+            ), vehicle_mileage AS (
+                UPDATE shared.vehicles v
+                SET current_mileage = m.mileage, current_mileage_updated_at = CURRENT_TIMESTAMP, updated_by = ?
+                FROM (SELECT vehicle_id, max(mileage) AS mileage FROM input GROUP BY vehicle_id) m
+                WHERE v.id = m.vehicle_id AND v.current_mileage < m.mileage
+            )
+            SELECT count(*) FROM inserted
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Lee y bloquea las instalaciones activas de los vehículos con su último muestreo.
+     *
+     * @return línea base por número de llanta
+     */
+    public Map<String, SamplingBaseline> lockBaselines(Collection<UUID> vehicleIds) {
+        Map<String, SamplingBaseline> baselines = new HashMap<>();
+        jdbcTemplate.query(LOCK_BASELINES_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", vehicleIds.toArray())),
+                rs -> {
+                    int lastMileage = rs.getInt("last_mileage");
+                    Integer lastMileageValue = rs.wasNull() ? null : lastMileage;
+                    Date lastSamplingDate = rs.getDate("last_sampling_date");
+                    String tireNumber = rs.getString("tire_number");
+                    baselines.put(tireNumber, new SamplingBaseline(
+                            rs.getObject("installation_id", UUID.class),
+                            rs.getObject("tire_id", UUID.class),
+                            tireNumber,
+                            rs.getObject("technical_specification_id", UUID.class),
+                            rs.getObject("vehicle_id", UUID.class),
+                            rs.getShort("position"),
+                            rs.getInt("mileage_at_installation"),
+                            rs.getDate("installation_date").toLocalDate(),
+                            lastMileageValue,
+                            lastSamplingDate != null ? lastSamplingDate.toLocalDate() : null,
+                            rs.getBigDecimal("last_average_depth")));
+                });
+        return baselines;
+    }
+
+    /**
+     * Inserta los muestreos con su histórico y actualiza kilometrajes en una sentencia.
+     *
+     * @return muestreos insertados
+     */
+    public int insert(List<SamplingRecord> records, Long userId) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+        int size = records.size();
+        UUID[] installationIds = new UUID[size];
+        UUID[] vehicleIds = new UUID[size];
+        Date[] dates = new Date[size];
+        Integer[] mileages = new Integer[size];
+        BigDecimal[] depthsInternal = new BigDecimal[size];
+        BigDecimal[] depthsCentral = new BigDecimal[size];
+        BigDecimal[] depthsExternal = new BigDecimal[size];
+        Integer[] pressures = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            SamplingRecord record = records.get(i);
+            installationIds[i] = record.installationId();
+            vehicleIds[i] = record.vehicleId();
+            dates[i] = Date.valueOf(record.samplingDate());
+            mileages[i] = record.mileage();
+            depthsInternal[i] = record.depthInternal();
+            depthsCentral[i] = record.depthCentral();
+            depthsExternal[i] = record.depthExternal();
+            pressures[i] = record.pressure();
+        }
+
+        Integer inserted = jdbcTemplate.query(INSERT_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, array(connection, "uuid", installationIds));
+            ps.setArray(2, array(connection, "uuid", vehicleIds));
+            ps.setArray(3, array(connection, "date", dates));
+            ps.setArray(4, array(connection, "int4", mileages));
+            ps.setArray(5, array(connection, "numeric", depthsInternal));
+            ps.setArray(6, array(connection, "numeric", depthsCentral));
+            ps.setArray(7, array(connection, "numeric", depthsExternal));
+            ps.setArray(8, array(connection, "int4", pressures));
+            setUser(ps, 9, userId);
+            setUser(ps, 10, userId);
+        }, rs -> rs.next() ? rs.getInt(1) : 0);
+
+        log.debug("Muestreos insertados: {}", inserted);
+        return inserted != null ? inserted : 0;
+    }
+
+    private static Array array(Connection connection, String type, Object[] values) throws SQLException {
+        return connection.createArrayOf(type, values);
+    }
+
+    private static void setUser(PreparedStatement ps, int index, Long userId) throws SQLException {
+        if (userId != null) {
+            ps.setLong(index, userId);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.transer.vortice.tire.infrastructure.search;
+
+import com.transer.vortice.tire.application.dto.response.TireSpecificationSearchResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Búsqueda de fichas técnicas sobre el documento de búsqueda mantenido en
+ * tire_management.specification_search (ver migración V3.3.0).
+ *
+ * Combina dos índices GIN:
+ * - tsvector ponderado con coincidencia por prefijo ("mich 295" -> mich:* & 295:*),
+ *   que además da el ranking (código/dimensión > marca > tipo/referencia).
+ * - trigramas sobre el texto normalizado, para coincidencias dentro de una palabra
+ *   (solo a partir de {@link #MIN_SUBSTRING_LENGTH} caracteres, que es lo que el
+ *   índice de trigramas puede resolver).
+ *
+ * La normalización (minúsculas, sin acentos ni puntuación) la hace la base de datos
+ * con la misma función usada para construir el documento.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TireSpecificationSearchRepository {
+
+    /**
+     * Longitud mínima del término para buscar también dentro de las palabras.
+     */
+    static final int MIN_SUBSTRING_LENGTH = 3;
+
+    /**
+     * Máximo de palabras del término que se convierten en prefijos.
+     */
+    static final int MAX_TOKENS = 8;
+
+    static final String SEARCH_SQL = """
+            SELECT s.id, s.code, s.dimension,
+                   b.name AS brand_name, t.name AS type_name, r.name AS reference_name,
+                   s.is_active,
+                   ts_rank(ss.document, to_tsquery('tire_management.spec_search', ?)) AS rank
+            FROM tire_management.specification_search ss
+            JOIN tire_management.technical_specifications s ON s.id = ss.specification_id
+            JOIN tire_management.brands b ON b.id = s.brand_id
+            JOIN tire_management.types t ON t.id = s.type_id
+            JOIN tire_management.tire_references r ON r.id = s.reference_id
+            WHERE (ss.document @@ to_tsquery('tire_management.spec_search', ?)
+                   OR ss.search_text LIKE '%' || tire_management.search_normalize(?) || '%')
+              AND (s.is_active OR ?)
+            ORDER BY rank DESC, s.code
+            LIMIT ?
+            """;
+
+    private static final RowMapper<TireSpecificationSearchResult> ROW_MAPPER = (rs, rowNum) ->
+            new TireSpecificationSearchResult(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("code"),
+                    rs.getString("dimension"),
+                    rs.getString("brand_name"),
+                    rs.getString("type_name"),
+                    rs.getString("reference_name"),
+                    rs.getBoolean("is_active"),
+                    rs.getDouble("rank"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Busca fichas técnicas no eliminadas, ordenadas por relevancia.
+     *
+     * @param term texto escrito por el usuario
+     * @param includeInactive true para incluir fichas inactivas
+     * @param limit máximo de resultados
+     * @return resultados ordenados por relevancia y código (vacío si el término no tiene palabras)
+     */
+    public List<TireSpecificationSearchResult> search(String term, boolean includeInactive, int limit) {
+        List<String> tokens = tokenize(term);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        String prefixQuery = toPrefixQuery(tokens);
+        String substring = String.join("", tokens).length() >= MIN_SUBSTRING_LENGTH ? term : null;
+
+        List<TireSpecificationSearchResult> results = jdbcTemplate.query(SEARCH_SQL, ROW_MAPPER,
+                prefixQuery, prefixQuery, substring, includeInactive, limit);
+
+        log.debug("Búsqueda de fichas técnicas '{}' ({}): {} resultados", term, prefixQuery, results.size());
+        return results;
+    }
+
+    /**
+     * Separa el término en palabras alfanuméricas, igual que search_normalize en la base de datos.
+     * Descarta cualquier carácter con significado en tsquery (&, |, !, :, *, paréntesis, comillas).
+     */
+    static List<String> tokenize(String term) {
+        if (term == null) {
+            return List.of();
+        }
+        return Arrays.stream(term.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .limit(MAX_TOKENS)
+                .toList();
+    }
+
+    /**
+     * Construye la consulta de prefijos: todas las palabras deben aparecer como inicio de algún término.
+     */
+    static String toPrefixQuery(List<String> tokens) {
+        return tokens.stream()
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
@@ -0,0 +1,317 @@
+package com.transer.vortice.tire.infrastructure.wear;
+
+import com.transer.vortice.tire.application.dto.response.WearPredictionResponse;
+import com.transer.vortice.tire.domain.model.wear.WearForecastBatch;
+import com.transer.vortice.tire.domain.model.wear.WearRegression;
+import com.transer.vortice.tire.domain.model.wear.WearSampleSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Acceso JDBC a los muestreos de las instalaciones activas y a las proyecciones de
+ * desgaste (tire_management.wear_predictions, V3.10.0).
+ *
+ * Los muestreos se leen en orden de (instalación, km) sobre uq_sampling_installation_mileage
+ * y van directo a los arreglos de {@link WearSampleSet}. Las proyecciones se escriben
+ * por bloques con arreglos (unnest) y ON CONFLICT; una fila ya actualizada con un
+ * muestreo posterior (last_km mayor) no se sobrescribe con un cálculo más antiguo.
+ *
+ * La carga de la flota debe ejecutarse dentro de una transacción para que el fetch
+ * size use un cursor.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class WearPredictionRepository {
+
+    /**
+     * Clave del advisory lock del cálculo de la flota (única en la base de datos).
+     */
+    static final long FLEET_LOCK_KEY = 0x5654_5857_4541_5250L;
+
+    static final String SAMPLES_SQL = """
+            SELECT s.tire_installation_id,
+                   (s.vehicle_mileage_at_sampling - ai.mileage_at_installation)::float8 AS km,
+                   ((s.depth_internal_mm + s.depth_central_mm + s.depth_external_mm) / 3)::float8 AS avg_depth,
+                   s.sampling_date - DATE '1970-01-01' AS epoch_day
+            FROM tire_management.samplings s
+            JOIN tire_management.active_installations ai ON ai.id = s.tire_installation_id
+            WHERE ai.deleted_at IS NULL %s
+            ORDER BY s.tire_installation_id, s.vehicle_mileage_at_sampling
+            """;
+
+    static final String ESTIMATED_SAMPLES_SQL =
+            "SELECT GREATEST(reltuples, 0)::bigint FROM pg_class WHERE oid = 'tire_management.samplings'::regclass";
+
+    static final String LOCK_STATS_SQL = """
+            SELECT installation_id, sample_count, sum_km, sum_depth, sum_km_squared, sum_km_depth,
+                   first_km, first_sampling_date - DATE '1970-01-01' AS first_day,
+                   last_km, last_sampling_date - DATE '1970-01-01' AS last_day
+            FROM tire_management.wear_predictions
+            WHERE installation_id = ANY (?)
+            ORDER BY installation_id
+            FOR UPDATE
+            """;
+
+    static final String SAVE_SQL = """
+            INSERT INTO tire_management.wear_predictions (
+                installation_id, sample_count, sum_km, sum_depth, sum_km_squared, sum_km_depth,
+                first_km, first_sampling_date, last_km, last_sampling_date,
+                wear_rate_mm_per_1000km, fitted_depth_mm, km_per_day, remaining_km, projected_removal_date, computed_at)
+            SELECT u.*, CURRENT_TIMESTAMP
+            FROM unnest(?::uuid[], ?::int[], ?::float8[], ?::float8[], ?::float8[], ?::float8[],
+                        ?::float8[], ?::date[], ?::float8[], ?::date[],
+                        ?::float8[], ?::float8[], ?::float8[], ?::float8[], ?::date[])
+                AS u(installation_id, sample_count, sum_km, sum_depth, sum_km_squared, sum_km_depth,
+                     first_km, first_sampling_date, last_km, last_sampling_date,
+                     wear_rate_mm_per_1000km, fitted_depth_mm, km_per_day, remaining_km, projected_removal_date)
+            WHERE EXISTS (SELECT 1 FROM tire_management.active_installations ai WHERE ai.id = u.installation_id)
+            ON CONFLICT (installation_id) DO UPDATE
+            SET sample_count = EXCLUDED.sample_count,
+                sum_km = EXCLUDED.sum_km,
+                sum_depth = EXCLUDED.sum_depth,
+                sum_km_squared = EXCLUDED.sum_km_squared,
+                sum_km_depth = EXCLUDED.sum_km_depth,
+                first_km = EXCLUDED.first_km,
+                first_sampling_date = EXCLUDED.first_sampling_date,
+                last_km = EXCLUDED.last_km,
+                last_sampling_date = EXCLUDED.last_sampling_date,
+                wear_rate_mm_per_1000km = EXCLUDED.wear_rate_mm_per_1000km,
+                fitted_depth_mm = EXCLUDED.fitted_depth_mm,
+                km_per_day = EXCLUDED.km_per_day,
+                remaining_km = EXCLUDED.remaining_km,
+                projected_removal_date = EXCLUDED.projected_removal_date,
+                computed_at = EXCLUDED.computed_at
+            WHERE wear_predictions.last_km <= EXCLUDED.last_km
+            """;
+
+    static final String DELETE_INACTIVE_SQL = """
+            DELETE FROM tire_management.wear_predictions wp
+            USING tire_management.active_installations ai
+            WHERE ai.id = wp.installation_id AND ai.deleted_at IS NOT NULL
+            """;
+
+    static final String FIND_BY_VEHICLE_SQL = """
+            SELECT wp.installation_id, t.tire_number, ai.position, wp.sample_count, wp.last_sampling_date,
+                   wp.wear_rate_mm_per_1000km, wp.fitted_depth_mm, wp.km_per_day, wp.remaining_km,
+                   wp.projected_removal_date, wp.computed_at
+            FROM tire_management.wear_predictions wp
+            JOIN tire_management.active_installations ai ON ai.id = wp.installation_id
+            JOIN tire_management.tires t ON t.id = ai.tire_id
+            WHERE ai.vehicle_id = ? AND ai.deleted_at IS NULL
+            ORDER BY ai.position
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Intenta tomar el lock del cálculo de la flota hasta el fin de la transacción actual.
+     *
+     * @return false si otro nodo está calculando
+     */
+    public boolean tryLockFleet() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, FLEET_LOCK_KEY));
+    }
+
+    /**
+     * Muestreos de todas las instalaciones activas.
+     */
+    public WearSampleSet loadFleet(int fetchSize) {
+        Long estimated = jdbcTemplate.queryForObject(ESTIMATED_SAMPLES_SQL, Long.class);
+        WearSampleSet.Builder builder = WearSampleSet.builder((int) Math.min(estimated != null ? estimated : 0, 1 << 26));
+
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(fetchSize);
+        streaming.query(SAMPLES_SQL.formatted(""), (RowCallbackHandler) rs -> builder.add(
+                rs.getObject(1, UUID.class), rs.getDouble(2), rs.getDouble(3), rs.getLong(4)));
+        return builder.build();
+    }
+
+    /**
+     * Muestreos de las instalaciones indicadas.
+     */
+    public WearSampleSet loadSamples(Collection<UUID> installationIds) {
+        WearSampleSet.Builder builder = WearSampleSet.builder(installationIds.size() * 8);
+        jdbcTemplate.query(SAMPLES_SQL.formatted("AND ai.id = ANY (?)"),
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", installationIds.toArray())),
+                (RowCallbackHandler) rs -> builder.add(
+                        rs.getObject(1, UUID.class), rs.getDouble(2), rs.getDouble(3), rs.getLong(4)));
+        return builder.build();
+    }
+
+    /**
+     * Lee y bloquea los estadísticos guardados de las instalaciones (las que no tienen
+     * proyección no aparecen en el resultado).
+     */
+    public WearForecastBatch lockStats(Collection<UUID> installationIds) {
+        List<UUID> ids = new ArrayList<>();
+        List<double[]> rows = new ArrayList<>();
+        jdbcTemplate.query(LOCK_STATS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", installationIds.toArray())),
+                (RowCallbackHandler) rs -> {
+                    double[] stats = new double[WearRegression.STATS];
+                    stats[WearRegression.N] = rs.getInt("sample_count");
+                    stats[WearRegression.SUM_X] = rs.getDouble("sum_km");
+                    stats[WearRegression.SUM_Y] = rs.getDouble("sum_depth");
+                    stats[WearRegression.SUM_XX] = rs.getDouble("sum_km_squared");
+                    stats[WearRegression.SUM_XY] = rs.getDouble("sum_km_depth");
+                    stats[WearRegression.FIRST_X] = rs.getDouble("first_km");
+                    stats[WearRegression.FIRST_DAY] = rs.getLong("first_day");
+                    stats[WearRegression.LAST_X] = rs.getDouble("last_km");
+                    stats[WearRegression.LAST_DAY] = rs.getLong("last_day");
+                    ids.add(rs.getObject("installation_id", UUID.class));
+                    rows.add(stats);
+                });
+
+        double[] stats = new double[ids.size() * WearRegression.STATS];
+        for (int i = 0; i < rows.size(); i++) {
+            System.arraycopy(rows.get(i), 0, stats, i * WearRegression.STATS, WearRegression.STATS);
+        }
+        return new WearForecastBatch(ids.toArray(UUID[]::new), stats);
+    }
+
+    /**
+     * Guarda estadísticos y proyecciones del lote ya calculado.
+     *
+     * @return filas insertadas o actualizadas
+     */
+    public int save(WearForecastBatch batch, int chunkSize) {
+        int saved = 0;
+        for (int from = 0; from < batch.size(); from += chunkSize) {
+            int to = Math.min(batch.size(), from + chunkSize);
+            saved += saveChunk(batch, from, to);
+        }
+        return saved;
+    }
+
+    /**
+     * Elimina las proyecciones de instalaciones dadas de baja (deleted_at); las
+     * eliminadas físicamente se borran por ON DELETE CASCADE.
+     *
+     * @return proyecciones eliminadas
+     */
+    public int deleteInactive() {
+        return jdbcTemplate.update(DELETE_INACTIVE_SQL);
+    }
+
+    /**
+     * Proyecciones de las llantas montadas en un vehículo, por posición.
+     */
+    public List<WearPredictionResponse> findByVehicle(UUID vehicleId) {
+        return jdbcTemplate.query(FIND_BY_VEHICLE_SQL, (rs, rowNum) -> {
+            Date removalDate = rs.getDate("projected_removal_date");
+            Timestamp computedAt = rs.getTimestamp("computed_at");
+            return new WearPredictionResponse(
+                    rs.getObject("installation_id", UUID.class),
+                    rs.getString("tire_number"),
+                    rs.getShort("position"),
+                    rs.getInt("sample_count"),
+                    rs.getDate("last_sampling_date").toLocalDate(),
+                    scaled(rs.getObject("wear_rate_mm_per_1000km", Double.class), 4),
+                    scaled(rs.getObject("fitted_depth_mm", Double.class), 2),
+                    scaled(rs.getObject("km_per_day", Double.class), 2),
+                    rounded(rs.getObject("remaining_km", Double.class)),
+                    removalDate != null ? removalDate.toLocalDate() : null,
+                    computedAt.toInstant());
+        }, vehicleId);
+    }
+
+    private int saveChunk(WearForecastBatch batch, int from, int to) {
+        int size = to - from;
+        UUID[] ids = new UUID[size];
+        Integer[] counts = new Integer[size];
+        Double[] sumKm = new Double[size];
+        Double[] sumDepth = new Double[size];
+        Double[] sumKmSquared = new Double[size];
+        Double[] sumKmDepth = new Double[size];
+        Double[] firstKm = new Double[size];
+        Date[] firstDate = new Date[size];
+        Double[] lastKm = new Double[size];
+        Date[] lastDate = new Date[size];
+        Double[] wearRate = new Double[size];
+        Double[] fittedDepth = new Double[size];
+        Double[] kmPerDay = new Double[size];
+        Double[] remainingKm = new Double[size];
+        Date[] removalDate = new Date[size];
+
+        for (int i = from; i < to; i++) {
+            int row = i - from;
+            ids[row] = batch.installationId(i);
+            counts[row] = (int) batch.stat(i, WearRegression.N);
+            sumKm[row] = batch.stat(i, WearRegression.SUM_X);
+            sumDepth[row] = batch.stat(i, WearRegression.SUM_Y);
+            sumKmSquared[row] = batch.stat(i, WearRegression.SUM_XX);
+            sumKmDepth[row] = batch.stat(i, WearRegression.SUM_XY);
+            firstKm[row] = batch.stat(i, WearRegression.FIRST_X);
+            firstDate[row] = epochDay(batch.stat(i, WearRegression.FIRST_DAY));
+            lastKm[row] = batch.stat(i, WearRegression.LAST_X);
+            lastDate[row] = epochDay(batch.stat(i, WearRegression.LAST_DAY));
+            double slope = batch.result(i, WearRegression.SLOPE);
+            wearRate[row] = Double.isNaN(slope) ? null : -slope * 1_000;
+            fittedDepth[row] = nullable(batch.result(i, WearRegression.FITTED_DEPTH));
+            kmPerDay[row] = nullable(batch.result(i, WearRegression.KM_PER_DAY));
+            remainingKm[row] = nullable(batch.result(i, WearRegression.REMAINING_KM));
+            LocalDate removal = batch.removalDate(i);
+            removalDate[row] = removal != null ? Date.valueOf(removal) : null;
+        }
+
+        return jdbcTemplate.update(SAVE_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            setArray(ps, connection, 1, "uuid", ids);
+            setArray(ps, connection, 2, "int4", counts);
+            setArray(ps, connection, 3, "float8", sumKm);
+            setArray(ps, connection, 4, "float8", sumDepth);
+            setArray(ps, connection, 5, "float8", sumKmSquared);
+            setArray(ps, connection, 6, "float8", sumKmDepth);
+            setArray(ps, connection, 7, "float8", firstKm);
+            setArray(ps, connection, 8, "date", firstDate);
+            setArray(ps, connection, 9, "float8", lastKm);
+            setArray(ps, connection, 10, "date", lastDate);
+            setArray(ps, connection, 11, "float8", wearRate);
+            setArray(ps, connection, 12, "float8", fittedDepth);
+            setArray(ps, connection, 13, "float8", kmPerDay);
+            setArray(ps, connection, 14, "float8", remainingKm);
+            setArray(ps, connection, 15, "date", removalDate);
+        });
+    }
+
+    private static void setArray(PreparedStatement ps, Connection connection, int index, String type, Object[] values)
+            throws SQLException {
+        ps.setArray(index, connection.createArrayOf(type, values));
+    }
+
+    private static Date epochDay(double day) {
+        return Date.valueOf(LocalDate.ofEpochDay((long) day));
+    }
+
+    private static Double nullable(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    private static BigDecimal scaled(Double value, int scale) {
+        return value != null ? BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP) : null;
+    }
+
+    private static Integer rounded(Double value) {
+        return value != null ? (int) Math.round(value) : null;
+    }
+}
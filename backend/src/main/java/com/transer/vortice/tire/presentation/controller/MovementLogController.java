@@ -0,0 +1,85 @@
+package com.transer.vortice.tire.presentation.controller;
+
+import com.transer.vortice.tire.application.dto.request.MovementLogBatchRequest;
+import com.transer.vortice.tire.application.dto.response.MovementLogBatchResponse;
+import com.transer.vortice.tire.application.dto.response.MovementLogTicketResponse;
+import com.transer.vortice.tire.application.service.MovementLogIngestionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST para los tickets de movimientos del canal móvil
+ *
+ * Recibe los tickets acumulados por los terminales de mano y permite consultar su estado.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@RestController
+@RequestMapping("/v1/tire-lifecycle/movement-logs")
+@RequiredArgsConstructor
+@Tag(name = "Ciclo de Vida de Llantas", description = "Endpoints para montaje, desmontaje y rotación de llantas")
+@SecurityRequirement(name = "bearerAuth")
+public class MovementLogController {
+
+    private final MovementLogIngestionService movementLogIngestionService;
+
+    /**
+     * Recibe tickets de movimientos del canal móvil
+     */
+    @PostMapping
+    @PreAuthorize("hasAuthority('TIRE_LIFECYCLE_MOVE')")
+    @Operation(
+            summary = "Recibir tickets de movimientos",
+            description = "Encola los tickets enviados por un terminal móvil para aplicarlos en segundo plano. " +
+                    "Un ticket ya recibido no se vuelve a encolar."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Tickets recibidos"),
+            @ApiResponse(responseCode = "400", description = "Datos de entrada inválidos"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sin permisos para registrar movimientos")
+    })
+    public ResponseEntity<MovementLogBatchResponse> receive(@Valid @RequestBody MovementLogBatchRequest request) {
+        log.info("Request POST /api/v1/tire-lifecycle/movement-logs - {} tickets", request.getTickets().size());
+
+        MovementLogBatchResponse response = movementLogIngestionService.receive(request);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * Consulta el estado de un ticket
+     */
+    @GetMapping("/{ticket}")
+    @PreAuthorize("hasAuthority('TIRE_LIFECYCLE_MOVE')")
+    @Operation(
+            summary = "Consultar ticket de movimientos",
+            description = "Retorna el estado del ticket: A (pendiente), P (procesado) o R (rechazado con el motivo)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ticket encontrado"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sin permisos para consultar movimientos"),
+            @ApiResponse(responseCode = "404", description = "Ticket no encontrado")
+    })
+    public ResponseEntity<MovementLogTicketResponse> findByTicket(
+            @Parameter(description = "Número de ticket") @PathVariable Long ticket) {
+        log.debug("Request GET /api/v1/tire-lifecycle/movement-logs/{}", ticket);
+
+        MovementLogTicketResponse response = movementLogIngestionService.findByTicket(ticket);
+
+        return ResponseEntity.ok(response);
+    }
+}
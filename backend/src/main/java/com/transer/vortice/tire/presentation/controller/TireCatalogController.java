@@ -1,5 +1,6 @@
 package com.transer.vortice.tire.presentation.controller;
 
+import com.transer.vortice.tire.application.dto.response.CatalogSnapshot;
 import com.transer.vortice.tire.application.dto.response.TireBrandResponse;
 import com.transer.vortice.tire.application.dto.response.TireReferenceResponse;
 import com.transer.vortice.tire.application.dto.response.TireSupplierResponse;
@@ -12,11 +13,14 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -25,6 +29,7 @@ import java.util.List;
  *
  * Proporciona endpoints para obtener catálogos base (marcas, tipos, referencias, proveedores)
  * utilizados en formularios y filtros.
+ * Las respuestas incluyen ETag; con If-None-Match se responde 304 si el catálogo no cambió.
  *
  * @author Vórtice Development Team
  */
@@ -53,17 +58,18 @@ public class TireCatalogController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente"),
+            @ApiResponse(responseCode = "304", description = "El catálogo no ha cambiado (If-None-Match)"),
             @ApiResponse(responseCode = "401", description = "Usuario no autenticado"),
             @ApiResponse(responseCode = "403", description = "Sin permisos")
     })
-    public ResponseEntity<List<TireBrandResponse>> getAllActiveBrands() {
+    public ResponseEntity<List<TireBrandResponse>> getAllActiveBrands(WebRequest request) {
         log.info("Request GET /api/v1/tire-catalogs/brands");
 
-        List<TireBrandResponse> brands = tireCatalogService.getAllActiveBrands();
+        CatalogSnapshot<TireBrandResponse> brands = tireCatalogService.getActiveBrandsCatalog();
 
-        log.info("Marcas activas obtenidas: {} elementos", brands.size());
+        log.info("Marcas activas obtenidas: {} elementos", brands.items().size());
 
-        return ResponseEntity.ok(brands);
+        return catalogResponse(brands, request);
     }
 
     /**
@@ -77,17 +83,18 @@ public class TireCatalogController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente"),
+            @ApiResponse(responseCode = "304", description = "El catálogo no ha cambiado (If-None-Match)"),
             @ApiResponse(responseCode = "401", description = "Usuario no autenticado"),
             @ApiResponse(responseCode = "403", description = "Sin permisos")
     })
-    public ResponseEntity<List<TireBrandResponse>> getAllBrands() {
+    public ResponseEntity<List<TireBrandResponse>> getAllBrands(WebRequest request) {
         log.info("Request GET /api/v1/tire-catalogs/brands/all");
 
-        List<TireBrandResponse> brands = tireCatalogService.getAllBrands();
+        CatalogSnapshot<TireBrandResponse> brands = tireCatalogService.getBrandsCatalog();
 
-        log.info("Todas las marcas obtenidas: {} elementos", brands.size());
+        log.info("Todas las marcas obtenidas: {} elementos", brands.items().size());
 
-        return ResponseEntity.ok(brands);
+        return catalogResponse(brands, request);
     }
 
     // =====================================================
@@ -105,17 +112,18 @@ public class TireCatalogController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente"),
+            @ApiResponse(responseCode = "304", description = "El catálogo no ha cambiado (If-None-Match)"),
             @ApiResponse(responseCode = "401", description = "Usuario no autenticado"),
             @ApiResponse(responseCode = "403", description = "Sin permisos")
     })
-    public ResponseEntity<List<TireTypeResponse>> getAllActiveTypes() {
+    public ResponseEntity<List<TireTypeResponse>> getAllActiveTypes(WebRequest request) {
         log.info("Request GET /api/v1/tire-catalogs/types");
 
-        List<TireTypeResponse> types = tireCatalogService.getAllActiveTypes();
+        CatalogSnapshot<TireTypeResponse> types = tireCatalogService.getActiveTypesCatalog();
 
-        log.info("Tipos activos obtenidos: {} elementos", types.size());
+        log.info("Tipos activos obtenidos: {} elementos", types.items().size());
 
-        return ResponseEntity.ok(types);
+        return catalogResponse(types, request);
     }
 
     /**
@@ -129,17 +137,18 @@ public class TireCatalogController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente"),
+            @ApiResponse(responseCode = "304", description = "El catálogo no ha cambiado (If-None-Match)"),
             @ApiResponse(responseCode = "401", description = "Usuario no autenticado"),
             @ApiResponse(responseCode = "403", description = "Sin permisos")
     })
-    public ResponseEntity<List<TireTypeResponse>> getAllTypes() {
+    public ResponseEntity<List<TireTypeResponse>> getAllTypes(WebRequest request) {
         log.info("Request GET /api/v1/tire-catalogs/types/all");
 
-        List<TireTypeResponse> types = tireCatalogService.getAllTypes();
+        CatalogSnapshot<TireTypeResponse> types = tireCatalogService.getTypesCatalog();
 
-        log.info("Todos los tipos obtenidos: {} elementos", types.size());
+        log.info("Todos los tipos obtenidos: {} elementos", types.items().size());
 
-        return ResponseEntity.ok(types);
+        return catalogResponse(types, request);
     }
 
     // =====================================================
@@ -157,17 +166,18 @@ public class TireCatalogController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente"),
+            @ApiResponse(responseCode = "304", description = "El catálogo no ha cambiado (If-None-Match)"),
             @ApiResponse(responseCode = "401", description = "Usuario no autenticado"),
             @ApiResponse(responseCode = "403", description = "Sin permisos")
     })
-    public ResponseEntity<List<TireReferenceResponse>> getAllActiveReferences() {
+    public ResponseEntity<List<TireReferenceResponse>> getAllActiveReferences(WebRequest request) {
         log.info("Request GET /api/v1/tire-catalogs/references");
 
-        List<TireReferenceResponse> references = tireCatalogService.getAllActiveReferences();
+        CatalogSnapshot<TireReferenceResponse> references = tireCatalogService.getActiveReferencesCatalog();
 
-        log.info("Referencias activas obtenidas: {} elementos", references.size());
+        log.info("Referencias activas obtenidas: {} elementos", references.items().size());
 
-        return ResponseEntity.ok(references);
+        return catalogResponse(references, request);
     }
 
     /**
@@ -181,17 +191,18 @@ public class TireCatalogController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente"),
+            @ApiResponse(responseCode = "304", description = "El catálogo no ha cambiado (If-None-Match)"),
             @ApiResponse(responseCode = "401", description = "Usuario no autenticado"),
             @ApiResponse(responseCode = "403", description = "Sin permisos")
     })
-    public ResponseEntity<List<TireReferenceResponse>> getAllReferences() {
+    public ResponseEntity<List<TireReferenceResponse>> getAllReferences(WebRequest request) {
         log.info("Request GET /api/v1/tire-catalogs/references/all");
 
-        List<TireReferenceResponse> references = tireCatalogService.getAllReferences();
+        CatalogSnapshot<TireReferenceResponse> references = tireCatalogService.getReferencesCatalog();
 
-        log.info("Todas las referencias obtenidas: {} elementos", references.size());
+        log.info("Todas las referencias obtenidas: {} elementos", references.items().size());
 
-        return ResponseEntity.ok(references);
+        return catalogResponse(references, request);
     }
 
     // =====================================================
@@ -209,17 +220,18 @@ public class TireCatalogController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente"),
+            @ApiResponse(responseCode = "304", description = "El catálogo no ha cambiado (If-None-Match)"),
             @ApiResponse(responseCode = "401", description = "Usuario no autenticado"),
             @ApiResponse(responseCode = "403", description = "Sin permisos")
     })
-    public ResponseEntity<List<TireSupplierResponse>> getAllActiveSuppliers() {
+    public ResponseEntity<List<TireSupplierResponse>> getAllActiveSuppliers(WebRequest request) {
         log.info("Request GET /api/v1/tire-catalogs/suppliers");
 
-        List<TireSupplierResponse> suppliers = tireCatalogService.getAllActiveSuppliers();
+        CatalogSnapshot<TireSupplierResponse> suppliers = tireCatalogService.getActiveSuppliersCatalog();
 
-        log.info("Proveedores activos obtenidos: {} elementos", suppliers.size());
+        log.info("Proveedores activos obtenidos: {} elementos", suppliers.items().size());
 
-        return ResponseEntity.ok(suppliers);
+        return catalogResponse(suppliers, request);
     }
 
     /**
@@ -233,16 +245,39 @@ public class TireCatalogController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente"),
+            @ApiResponse(responseCode = "304", description = "El catálogo no ha cambiado (If-None-Match)"),
             @ApiResponse(responseCode = "401", description = "Usuario no autenticado"),
             @ApiResponse(responseCode = "403", description = "Sin permisos")
     })
-    public ResponseEntity<List<TireSupplierResponse>> getAllSuppliers() {
+    public ResponseEntity<List<TireSupplierResponse>> getAllSuppliers(WebRequest request) {
         log.info("Request GET /api/v1/tire-catalogs/suppliers/all");
 
-        List<TireSupplierResponse> suppliers = tireCatalogService.getAllSuppliers();
+        CatalogSnapshot<TireSupplierResponse> suppliers = tireCatalogService.getSuppliersCatalog();
 
-        log.info("Todos los proveedores obtenidos: {} elementos", suppliers.size());
+        log.info("Todos los proveedores obtenidos: {} elementos", suppliers.items().size());
 
-        return ResponseEntity.ok(suppliers);
+        return catalogResponse(suppliers, request);
+    }
+
+    // =====================================================
+    // UTILIDADES
+    // =====================================================
+
+    /**
+     * Construye la respuesta de un catálogo con su ETag.
+     * Si el cliente envía If-None-Match con el ETag vigente, responde 304 sin cuerpo
+     * (el catálogo viene de caché, por lo que no hay consulta a la base de datos ni serialización).
+     */
+    private <T> ResponseEntity<List<T>> catalogResponse(CatalogSnapshot<T> catalog, WebRequest request) {
+        if (request.checkNotModified(catalog.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(catalog.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(catalog.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(catalog.items());
     }
 }
@@ -0,0 +1,68 @@
+package com.transer.vortice.tire.presentation.controller;
+
+import com.transer.vortice.tire.application.dto.response.ConsumptionKpiResponse;
+import com.transer.vortice.tire.application.service.TireConsumptionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * Controlador REST para el Consumo de Llantas
+ *
+ * Expone los indicadores de consumo (llantas nuevas, costo, montajes y desmontajes) de
+ * los acumulados mensuales por oficina, especificación técnica y marca.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@RestController
+@RequestMapping("/v1/tire-consumption")
+@RequiredArgsConstructor
+@Tag(name = "Consumo de Llantas", description = "Endpoints de indicadores de consumo mensual de llantas")
+@SecurityRequirement(name = "bearerAuth")
+public class TireConsumptionController {
+
+    private final TireConsumptionService tireConsumptionService;
+
+    /**
+     * Consulta los indicadores de consumo de un periodo
+     */
+    @GetMapping
+    @PreAuthorize("hasAuthority('TIRE_CONSUMPTION_VIEW')")
+    @Operation(
+            summary = "Consultar indicadores de consumo",
+            description = "Retorna para el periodo [from, to] las llantas nuevas compradas y su costo, los montajes " +
+                    "y desmontajes, con detalle por mes y por especificación técnica. Sin officeId, un " +
+                    "administrador nacional consulta todas las oficinas y los demás usuarios la propia."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Consulta exitosa"),
+            @ApiResponse(responseCode = "400", description = "Periodo inválido"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sin permisos para consultar el consumo")
+    })
+    public ResponseEntity<ConsumptionKpiResponse> findKpis(
+            @Parameter(description = "Mes inicial (yyyy-MM)", required = true)
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @Parameter(description = "Mes final incluido (yyyy-MM)", required = true)
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @Parameter(description = "ID de la oficina") @RequestParam(required = false) UUID officeId) {
+        log.debug("Request GET /api/v1/tire-consumption - from: {}, to: {}, officeId: {}", from, to, officeId);
+
+        ConsumptionKpiResponse response = tireConsumptionService.findKpis(from, to, officeId);
+
+        return ResponseEntity.ok(response);
+    }
+}
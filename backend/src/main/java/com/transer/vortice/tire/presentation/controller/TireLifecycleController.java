@@ -0,0 +1,65 @@
+package com.transer.vortice.tire.presentation.controller;
+
+import com.transer.vortice.tire.application.dto.request.TireMovementBatchRequest;
+import com.transer.vortice.tire.application.dto.response.TireMovementBatchResponse;
+import com.transer.vortice.tire.application.service.TireLifecycleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * Controlador REST para el Ciclo de Vida de Llantas
+ *
+ * Registra en un solo lote los montajes, desmontajes y rotaciones de un vehículo.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@RestController
+@RequestMapping("/v1/tire-lifecycle")
+@RequiredArgsConstructor
+@Tag(name = "Ciclo de Vida de Llantas", description = "Endpoints para montaje, desmontaje y rotación de llantas")
+@SecurityRequirement(name = "bearerAuth")
+public class TireLifecycleController {
+
+    private final TireLifecycleService tireLifecycleService;
+
+    /**
+     * Registra los movimientos de llantas de un vehículo
+     */
+    @PostMapping("/vehicles/{vehicleId}/movements")
+    @PreAuthorize("hasAuthority('TIRE_LIFECYCLE_MOVE')")
+    @Operation(
+            summary = "Registrar movimientos de llantas",
+            description = "Aplica en una transacción todos los montajes, desmontajes y rotaciones de un vehículo. " +
+                    "Si algún movimiento no es válido no se aplica ninguno."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Movimientos aplicados exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Datos de entrada inválidos"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sin permisos para registrar movimientos"),
+            @ApiResponse(responseCode = "404", description = "Vehículo o llanta no encontrada"),
+            @ApiResponse(responseCode = "422", description = "Transición de estado o posición inválida")
+    })
+    public ResponseEntity<TireMovementBatchResponse> applyMovements(
+            @Parameter(description = "ID del vehículo") @PathVariable UUID vehicleId,
+            @Valid @RequestBody TireMovementBatchRequest request) {
+        log.info("Request POST /api/v1/tire-lifecycle/vehicles/{}/movements", vehicleId);
+
+        TireMovementBatchResponse response = tireLifecycleService.applyMovements(vehicleId, request);
+
+        return ResponseEntity.ok(response);
+    }
+}
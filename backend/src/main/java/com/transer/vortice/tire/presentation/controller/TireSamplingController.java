@@ -0,0 +1,60 @@
+package com.transer.vortice.tire.presentation.controller;
+
+import com.transer.vortice.tire.application.dto.request.TireSamplingBatchRequest;
+import com.transer.vortice.tire.application.dto.response.TireSamplingBatchResponse;
+import com.transer.vortice.tire.application.service.TireSamplingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST para el Muestreo de Llantas
+ *
+ * Registra en un solo envío las profundidades y presiones de una ruta de vehículos.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@RestController
+@RequestMapping("/v1/tire-samplings")
+@RequiredArgsConstructor
+@Tag(name = "Muestreo de Llantas", description = "Endpoints para el registro de muestreos de desgaste")
+@SecurityRequirement(name = "bearerAuth")
+public class TireSamplingController {
+
+    private final TireSamplingService tireSamplingService;
+
+    /**
+     * Registra los muestreos de un grupo de vehículos
+     */
+    @PostMapping
+    @PreAuthorize("hasAuthority('TIRE_SAMPLING_CREATE')")
+    @Operation(
+            summary = "Registrar muestreos",
+            description = "Valida cada llanta contra su último muestreo y registra todos los muestreos en una " +
+                    "transacción. Si algún muestreo no es válido no se registra ninguno y se retornan todos los errores."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Muestreos registrados exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Datos de entrada inválidos o muestreos rechazados"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sin permisos para registrar muestreos")
+    })
+    public ResponseEntity<TireSamplingBatchResponse> registerSamplings(
+            @Valid @RequestBody TireSamplingBatchRequest request) {
+        log.info("Request POST /api/v1/tire-samplings - {} vehículos", request.getVehicles().size());
+
+        TireSamplingBatchResponse response = tireSamplingService.registerSamplings(request);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
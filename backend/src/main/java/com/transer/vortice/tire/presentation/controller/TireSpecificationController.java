@@ -1,8 +1,11 @@
 package com.transer.vortice.tire.presentation.controller;
 
+import com.transer.vortice.shared.infrastructure.exception.ValidationException;
+import com.transer.vortice.shared.infrastructure.pagination.CursorPage;
 import com.transer.vortice.tire.application.dto.request.CreateTireSpecificationRequest;
 import com.transer.vortice.tire.application.dto.request.UpdateTireSpecificationRequest;
 import com.transer.vortice.tire.application.dto.response.TireSpecificationResponse;
+import com.transer.vortice.tire.application.dto.response.TireSpecificationSearchResult;
 import com.transer.vortice.tire.application.dto.response.TireSpecificationSummaryResponse;
 import com.transer.vortice.tire.application.service.TireSpecificationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -119,6 +122,60 @@ public class TireSpecificationController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Lista especificaciones técnicas por cursor (keyset), con filtros opcionales
+     */
+    @GetMapping("/scroll")
+    @PreAuthorize("hasAuthority('TIRE_SPECIFICATION_VIEW')")
+    @Operation(
+            summary = "Listar especificaciones técnicas por cursor",
+            description = "Retorna especificaciones ordenadas por código a partir de un cursor opaco. " +
+                    "No calcula el total de elementos; usar nextCursor para pedir la página siguiente " +
+                    "con la misma dirección y los mismos filtros."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista obtenida exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Cursor, dirección o tamaño de página inválido"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sin permisos para ver especificaciones")
+    })
+    public ResponseEntity<CursorPage<TireSpecificationSummaryResponse>> scrollTireSpecifications(
+            @Parameter(description = "ID de la marca (opcional)")
+            @RequestParam(required = false) UUID brandId,
+
+            @Parameter(description = "ID del tipo (opcional)")
+            @RequestParam(required = false) UUID typeId,
+
+            @Parameter(description = "ID de la referencia (opcional)")
+            @RequestParam(required = false) UUID referenceId,
+
+            @Parameter(description = "Estado activo (opcional)")
+            @RequestParam(required = false) Boolean isActive,
+
+            @Parameter(description = "Cursor de la página anterior (omitir para la primera página)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Tamaño de página")
+            @RequestParam(defaultValue = "20") int size,
+
+            @Parameter(description = "Dirección de ordenamiento por código (asc/desc)")
+            @RequestParam(defaultValue = "asc") String direction
+    ) {
+        log.info("Request GET /api/v1/tire-specifications/scroll?size={}&direction={}&cursor={}",
+                size, direction, cursor != null);
+
+        Sort.Direction sortDirection = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new ValidationException("Dirección de ordenamiento inválida: use asc o desc"));
+
+        CursorPage<TireSpecificationSummaryResponse> response = tireSpecificationService.scrollTireSpecifications(
+                brandId, typeId, referenceId, isActive, cursor, size, sortDirection
+        );
+
+        log.info("Lista por cursor obtenida: {} elementos, hasNext={}", response.content().size(), response.hasNext());
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Lista todas las especificaciones técnicas activas sin paginación
      */
@@ -279,6 +336,40 @@ public class TireSpecificationController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Búsqueda rápida (typeahead) de especificaciones técnicas
+     */
+    @GetMapping("/typeahead")
+    @PreAuthorize("hasAuthority('TIRE_SPECIFICATION_VIEW')")
+    @Operation(
+            summary = "Búsqueda rápida de especificaciones técnicas",
+            description = "Sugerencias para el buscador: coincidencia por prefijo de cada palabra en código, " +
+                    "dimensión, marca, tipo o referencia, sin distinguir acentos, ordenadas por relevancia"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Búsqueda realizada exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Límite de resultados inválido"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sin permisos para ver especificaciones")
+    })
+    public ResponseEntity<List<TireSpecificationSearchResult>> typeaheadTireSpecifications(
+            @Parameter(description = "Texto a buscar")
+            @RequestParam String q,
+
+            @Parameter(description = "Máximo de resultados")
+            @RequestParam(defaultValue = "10") int limit,
+
+            @Parameter(description = "Incluir especificaciones inactivas")
+            @RequestParam(defaultValue = "false") boolean includeInactive
+    ) {
+        log.debug("Request GET /api/v1/tire-specifications/typeahead?q={}", q);
+
+        List<TireSpecificationSearchResult> response =
+                tireSpecificationService.typeaheadTireSpecifications(q, includeInactive, limit);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Busca especificaciones técnicas con filtros múltiples
      */
@@ -0,0 +1,91 @@
+package com.transer.vortice.tire.presentation.controller;
+
+import com.transer.vortice.tire.application.dto.response.UsefulLifeListResponse;
+import com.transer.vortice.tire.application.dto.response.WearPredictionResponse;
+import com.transer.vortice.tire.application.service.UsefulLifeProjectionService;
+import com.transer.vortice.tire.application.service.WearPredictionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Controlador REST para la Vida Útil de Llantas
+ *
+ * Expone la vista materializada mv_useful_life para tableros con la fecha de su último refresco
+ * y la proyección de desgaste (km restantes y fecha de retiro) de las llantas montadas.
+ *
+ * @author Vórtice Development Team
+ */
+@Slf4j
+@RestController
+@RequestMapping("/v1/tire-useful-life")
+@RequiredArgsConstructor
+@Tag(name = "Vida Útil de Llantas", description = "Endpoints de consulta de desgaste y rendimiento de llantas montadas")
+@SecurityRequirement(name = "bearerAuth")
+public class UsefulLifeController {
+
+    private final UsefulLifeProjectionService usefulLifeProjectionService;
+    private final WearPredictionService wearPredictionService;
+
+    /**
+     * Consulta la vida útil de las llantas montadas
+     */
+    @GetMapping
+    @PreAuthorize("hasAuthority('TIRE_USEFUL_LIFE_VIEW')")
+    @Operation(
+            summary = "Consultar vida útil",
+            description = "Retorna las llantas montadas ordenadas por menor profundidad promedio. " +
+                    "refreshedAt indica hasta cuándo están incluidos los datos y stale si hay cambios " +
+                    "pendientes del siguiente refresco."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Consulta exitosa"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sin permisos para consultar la vida útil")
+    })
+    public ResponseEntity<UsefulLifeListResponse> find(
+            @Parameter(description = "ID del vehículo") @RequestParam(required = false) UUID vehicleId,
+            @Parameter(description = "Máximo de llantas") @RequestParam(defaultValue = "100") int limit) {
+        log.debug("Request GET /api/v1/tire-useful-life - vehicleId: {}, limit: {}", vehicleId, limit);
+
+        UsefulLifeListResponse response = usefulLifeProjectionService.find(vehicleId, limit);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Consulta la proyección de desgaste de las llantas de un vehículo
+     */
+    @GetMapping("/wear-predictions")
+    @PreAuthorize("hasAuthority('TIRE_USEFUL_LIFE_VIEW')")
+    @Operation(
+            summary = "Consultar proyección de desgaste",
+            description = "Retorna por posición la tasa de desgaste, los km restantes hasta la profundidad " +
+                    "mínima legal y la fecha proyectada de retiro de las llantas montadas en el vehículo. " +
+                    "Los campos de proyección son nulos si no hay muestreos suficientes."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Consulta exitosa"),
+            @ApiResponse(responseCode = "401", description = "Usuario no autenticado"),
+            @ApiResponse(responseCode = "403", description = "Sin permisos para consultar la vida útil")
+    })
+    public ResponseEntity<List<WearPredictionResponse>> findWearPredictions(
+            @Parameter(description = "ID del vehículo", required = true) @RequestParam UUID vehicleId) {
+        log.debug("Request GET /api/v1/tire-useful-life/wear-predictions - vehicleId: {}", vehicleId);
+
+        List<WearPredictionResponse> response = wearPredictionService.findByVehicle(vehicleId);
+
+        return ResponseEntity.ok(response);
+    }
+}
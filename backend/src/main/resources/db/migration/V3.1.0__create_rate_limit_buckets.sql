@@ -0,0 +1,35 @@
+-- =============================================================================
+-- Descripción: Crea la tabla de buckets de rate limiting compartidos entre
+--              réplicas del backend (Bucket4j PostgreSQL proxy manager)
+-- Versión: 3.1.0
+-- Autor: Vórtice Development Team
+-- Fecha: 2026-10-18
+-- =============================================================================
+
+CREATE TABLE shared.rate_limit_buckets (
+    id VARCHAR(255) PRIMARY KEY,
+    state BYTEA,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Bucket4j solo escribe id/state: mantener updated_at para limpiar buckets inactivos
+CREATE OR REPLACE FUNCTION shared.touch_rate_limit_bucket()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.updated_at := CURRENT_TIMESTAMP;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_rate_limit_buckets_touch
+    BEFORE UPDATE ON shared.rate_limit_buckets
+    FOR EACH ROW
+    EXECUTE FUNCTION shared.touch_rate_limit_bucket();
+
+CREATE INDEX idx_rate_limit_buckets_updated_at ON shared.rate_limit_buckets(updated_at);
+
+-- Comentarios de documentación
+COMMENT ON TABLE shared.rate_limit_buckets IS 'Estado de los buckets de rate limiting (Bucket4j) compartido entre réplicas';
+COMMENT ON COLUMN shared.rate_limit_buckets.id IS 'Clave del bucket: tipo de límite + cliente';
+COMMENT ON COLUMN shared.rate_limit_buckets.state IS 'Estado serializado del bucket';
+COMMENT ON COLUMN shared.rate_limit_buckets.updated_at IS 'Último uso del bucket, usado para limpiar buckets inactivos';
@@ -0,0 +1,46 @@
+-- =============================================================================
+-- Descripción: Proyección de desgaste y fecha de retiro por instalación.
+--
+--              wear_predictions guarda, por instalación activa, los estadísticos
+--              de la regresión lineal profundidad promedio vs km recorridos desde
+--              el montaje (n, Σx, Σy, Σx², Σxy, primer y último muestreo) y la
+--              proyección derivada. Al ser sumas, un muestreo nuevo se incorpora
+--              sin releer los anteriores; el cálculo nocturno de toda la flota
+--              los reconstruye desde samplings.
+--
+--              La fila se elimina con la instalación (desmontaje).
+-- Versión: 3.10.0
+-- Autor: Vórtice Development Team
+-- Fecha: 2026-10-18
+-- =============================================================================
+
+CREATE TABLE tire_management.wear_predictions (
+    installation_id UUID PRIMARY KEY REFERENCES tire_management.active_installations(id) ON DELETE CASCADE,
+
+    sample_count INTEGER NOT NULL CHECK (sample_count > 0),
+    sum_km DOUBLE PRECISION NOT NULL,
+    sum_depth DOUBLE PRECISION NOT NULL,
+    sum_km_squared DOUBLE PRECISION NOT NULL,
+    sum_km_depth DOUBLE PRECISION NOT NULL,
+    first_km DOUBLE PRECISION NOT NULL,
+    first_sampling_date DATE NOT NULL,
+    last_km DOUBLE PRECISION NOT NULL,
+    last_sampling_date DATE NOT NULL,
+
+    wear_rate_mm_per_1000km DOUBLE PRECISION,
+    fitted_depth_mm DOUBLE PRECISION,
+    km_per_day DOUBLE PRECISION,
+    remaining_km DOUBLE PRECISION,
+    projected_removal_date DATE,
+
+    computed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_wear_predictions_removal_date
+    ON tire_management.wear_predictions(projected_removal_date)
+    WHERE projected_removal_date IS NOT NULL;
+
+COMMENT ON TABLE tire_management.wear_predictions
+    IS 'Regresión de desgaste por instalación activa: estadísticos acumulables y proyección de km restantes y fecha de retiro';
+COMMENT ON COLUMN tire_management.wear_predictions.remaining_km
+    IS 'Km hasta la profundidad mínima legal según la recta ajustada; NULL si no hay desgaste medible';
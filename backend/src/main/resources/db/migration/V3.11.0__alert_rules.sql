@@ -0,0 +1,39 @@
+-- =============================================================================
+-- Descripción: Generación de alertas en línea con los muestreos y movimientos.
+--
+--              1. Tipo de alerta MILEAGE_EXCEEDED: la llanta superó el kilometraje
+--                 esperado de su especificación en el montaje actual.
+--              2. Deduplicación: una sola alerta sin reconocer por tipo e
+--                 instalación (uq_alerts_open). Las reglas insertan con
+--                 ON CONFLICT DO NOTHING, por lo que repetir la condición en
+--                 muestreos siguientes no genera alertas nuevas hasta que la
+--                 anterior se reconozca.
+-- Versión: 3.11.0
+-- Autor: Vórtice Development Team
+-- Fecha: 2026-10-18
+-- =============================================================================
+
+ALTER TYPE tire_management.alert_type ADD VALUE IF NOT EXISTS 'MILEAGE_EXCEEDED';
+
+-- Alertas abiertas repetidas (cargadas antes de esta versión): se conserva la más antigua
+UPDATE tire_management.alerts a
+SET is_acknowledged = true,
+    acknowledged_at = CURRENT_TIMESTAMP,
+    resolution_notes = 'Alerta duplicada cerrada al activar la deduplicación (V3.11.0)'
+WHERE a.is_acknowledged = false
+  AND a.tire_installation_id IS NOT NULL
+  AND EXISTS (
+      SELECT 1
+      FROM tire_management.alerts older
+      WHERE older.alert_type = a.alert_type
+        AND older.tire_installation_id = a.tire_installation_id
+        AND older.is_acknowledged = false
+        AND older.id < a.id
+  );
+
+CREATE UNIQUE INDEX uq_alerts_open
+    ON tire_management.alerts (alert_type, tire_installation_id)
+    WHERE is_acknowledged = false AND tire_installation_id IS NOT NULL;
+
+COMMENT ON INDEX tire_management.uq_alerts_open
+    IS 'Una alerta sin reconocer por tipo e instalación: las reglas insertan con ON CONFLICT DO NOTHING';
@@ -0,0 +1,318 @@
+-- =============================================================================
+-- Descripción: Acumulados mensuales de consumo de llantas mantenidos en línea.
+--
+--              v_monthly_consumption recorría inventory, active_installations y
+--              todas las particiones de history_records en cada consulta, con
+--              IN (SELECT ... FROM tires) y NOT IN (SELECT ... FROM
+--              active_installations). Además contaba la misma llanta en cada
+--              evento de generación 000.
+--
+--              1. tires.office_id: oficina dueña de la llanta. Por defecto la
+--                 oficina de la sesión (app.current_office_id, V3.4.0); las
+--                 llantas existentes quedan en NULL y se reportan en la oficina
+--                 principal.
+--              2. consumption_new_tires: registro de llantas nuevas (generación
+--                 000) ya contadas, una fila por llanta. Se conserva aunque la
+--                 llanta cambie de generación o salga de inventario.
+--              3. consumption_monthly: acumulados por mes, oficina, especificación
+--                 y marca (llantas nuevas y su costo, montajes y desmontajes).
+--              4. Triggers por sentencia con tablas de transición sobre
+--                 inventory, active_installations e history_records suman los
+--                 eventos de cada sentencia en la misma transacción.
+--              5. rebuild_consumption(): reconstrucción completa desde las tablas
+--                 de ciclo de vida (carga inicial y conciliación periódica).
+--              6. v_monthly_consumption lee de consumption_monthly.
+--              7. Permiso TIRE_CONSUMPTION_VIEW para los indicadores de consumo.
+-- Versión: 3.12.0
+-- Autor: Vórtice Development Team
+-- Fecha: 2026-10-18
+-- =============================================================================
+
+-- =============================================================================
+-- OFICINA DE LA LLANTA
+-- =============================================================================
+
+ALTER TABLE tire_management.tires
+    ADD COLUMN office_id UUID REFERENCES offices(id) DEFAULT rls_current_office_id();
+
+-- =============================================================================
+-- TABLAS
+-- =============================================================================
+
+CREATE TABLE tire_management.consumption_new_tires (
+    tire_id UUID PRIMARY KEY REFERENCES tire_management.tires(id) ON DELETE CASCADE,
+    purchase_month DATE NOT NULL,
+    purchase_cost NUMERIC(12,2) NOT NULL,
+    recorded_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE tire_management.consumption_monthly (
+    month DATE NOT NULL,
+    office_id UUID NOT NULL,
+    technical_specification_id UUID NOT NULL,
+    brand_id UUID NOT NULL,
+    new_tires INTEGER NOT NULL DEFAULT 0,
+    new_tires_cost NUMERIC(14,2) NOT NULL DEFAULT 0,
+    installations INTEGER NOT NULL DEFAULT 0,
+    removals INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_consumption_monthly PRIMARY KEY (month, office_id, technical_specification_id, brand_id)
+);
+
+-- =============================================================================
+-- ACTUALIZACIÓN EN LÍNEA
+-- =============================================================================
+--
+-- Cada trigger agrupa las filas de la sentencia por clave del acumulado y hace un
+-- único upsert ordenado por clave: dos transacciones que tocan los mismos meses
+-- bloquean las filas en el mismo orden y no se interbloquean.
+--
+-- La oficina, la especificación y la marca son las actuales de la llanta. Los
+-- montajes se cuentan al crear la instalación; el registro de historial del
+-- desmontaje solo suma el desmontaje.
+
+CREATE OR REPLACE FUNCTION tire_management.consumption_on_inventory()
+RETURNS TRIGGER AS $$
+BEGIN
+    WITH purchases AS (
+        INSERT INTO tire_management.consumption_new_tires (tire_id, purchase_month, purchase_cost)
+        SELECT n.tire_id, date_trunc('month', n.purchase_date)::date, n.purchase_cost
+        FROM new_inventory n
+        JOIN tire_management.tires t ON t.id = n.tire_id
+        WHERE t.generation = '000' AND n.deleted_at IS NULL
+        ON CONFLICT (tire_id) DO NOTHING
+        RETURNING tire_id, purchase_month, purchase_cost
+    )
+    INSERT INTO tire_management.consumption_monthly AS c (
+        month, office_id, technical_specification_id, brand_id, new_tires, new_tires_cost)
+    SELECT p.purchase_month,
+           COALESCE(t.office_id, 'a0000000-0000-0000-0000-000000000001'::UUID),
+           t.technical_specification_id, ts.brand_id, count(*), sum(p.purchase_cost)
+    FROM purchases p
+    JOIN tire_management.tires t ON t.id = p.tire_id
+    JOIN tire_management.technical_specifications ts ON ts.id = t.technical_specification_id
+    GROUP BY 1, 2, 3, 4
+    ORDER BY 1, 2, 3, 4
+    ON CONFLICT (month, office_id, technical_specification_id, brand_id) DO UPDATE
+    SET new_tires = c.new_tires + EXCLUDED.new_tires,
+        new_tires_cost = c.new_tires_cost + EXCLUDED.new_tires_cost,
+        updated_at = CURRENT_TIMESTAMP;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION tire_management.consumption_on_installation()
+RETURNS TRIGGER AS $$
+BEGIN
+    -- Una llanta nueva montada sin pasar por inventario también es una compra
+    WITH purchases AS (
+        INSERT INTO tire_management.consumption_new_tires (tire_id, purchase_month, purchase_cost)
+        SELECT n.tire_id, date_trunc('month', n.purchase_date)::date, n.purchase_cost
+        FROM new_installations n
+        JOIN tire_management.tires t ON t.id = n.tire_id
+        WHERE t.generation = '000' AND n.deleted_at IS NULL
+        ON CONFLICT (tire_id) DO NOTHING
+        RETURNING tire_id, purchase_month, purchase_cost
+    ),
+    events AS (
+        SELECT tire_id, purchase_month AS month, 1 AS new_tires, purchase_cost AS cost, 0 AS installations
+        FROM purchases
+        UNION ALL
+        SELECT tire_id, date_trunc('month', installation_date)::date, 0, 0, 1
+        FROM new_installations
+        WHERE deleted_at IS NULL
+    )
+    INSERT INTO tire_management.consumption_monthly AS c (
+        month, office_id, technical_specification_id, brand_id, new_tires, new_tires_cost, installations)
+    SELECT e.month,
+           COALESCE(t.office_id, 'a0000000-0000-0000-0000-000000000001'::UUID),
+           t.technical_specification_id, ts.brand_id, sum(e.new_tires), sum(e.cost), sum(e.installations)
+    FROM events e
+    JOIN tire_management.tires t ON t.id = e.tire_id
+    JOIN tire_management.technical_specifications ts ON ts.id = t.technical_specification_id
+    GROUP BY 1, 2, 3, 4
+    ORDER BY 1, 2, 3, 4
+    ON CONFLICT (month, office_id, technical_specification_id, brand_id) DO UPDATE
+    SET new_tires = c.new_tires + EXCLUDED.new_tires,
+        new_tires_cost = c.new_tires_cost + EXCLUDED.new_tires_cost,
+        installations = c.installations + EXCLUDED.installations,
+        updated_at = CURRENT_TIMESTAMP;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION tire_management.consumption_on_history()
+RETURNS TRIGGER AS $$
+BEGIN
+    WITH purchases AS (
+        INSERT INTO tire_management.consumption_new_tires (tire_id, purchase_month, purchase_cost)
+        SELECT n.tire_id, date_trunc('month', n.purchase_date)::date, n.purchase_cost
+        FROM new_history n
+        WHERE n.generation_at_event = '000'
+        ON CONFLICT (tire_id) DO NOTHING
+        RETURNING tire_id, purchase_month, purchase_cost
+    ),
+    events AS (
+        SELECT tire_id, purchase_month AS month, 1 AS new_tires, purchase_cost AS cost, 0 AS removals
+        FROM purchases
+        UNION ALL
+        SELECT tire_id, date_trunc('month', removal_date)::date, 0, 0, 1
+        FROM new_history
+        WHERE removal_date IS NOT NULL
+    )
+    INSERT INTO tire_management.consumption_monthly AS c (
+        month, office_id, technical_specification_id, brand_id, new_tires, new_tires_cost, removals)
+    SELECT e.month,
+           COALESCE(t.office_id, 'a0000000-0000-0000-0000-000000000001'::UUID),
+           t.technical_specification_id, ts.brand_id, sum(e.new_tires), sum(e.cost), sum(e.removals)
+    FROM events e
+    JOIN tire_management.tires t ON t.id = e.tire_id
+    JOIN tire_management.technical_specifications ts ON ts.id = t.technical_specification_id
+    GROUP BY 1, 2, 3, 4
+    ORDER BY 1, 2, 3, 4
+    ON CONFLICT (month, office_id, technical_specification_id, brand_id) DO UPDATE
+    SET new_tires = c.new_tires + EXCLUDED.new_tires,
+        new_tires_cost = c.new_tires_cost + EXCLUDED.new_tires_cost,
+        removals = c.removals + EXCLUDED.removals,
+        updated_at = CURRENT_TIMESTAMP;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER consumption_inventory
+AFTER INSERT ON tire_management.inventory
+REFERENCING NEW TABLE AS new_inventory
+FOR EACH STATEMENT
+EXECUTE FUNCTION tire_management.consumption_on_inventory();
+
+CREATE TRIGGER consumption_installations
+AFTER INSERT ON tire_management.active_installations
+REFERENCING NEW TABLE AS new_installations
+FOR EACH STATEMENT
+EXECUTE FUNCTION tire_management.consumption_on_installation();
+
+CREATE TRIGGER consumption_history
+AFTER INSERT ON tire_management.history_records
+REFERENCING NEW TABLE AS new_history
+FOR EACH STATEMENT
+EXECUTE FUNCTION tire_management.consumption_on_history();
+
+-- =============================================================================
+-- RECONSTRUCCIÓN
+-- =============================================================================
+--
+-- Recalcula consumption_monthly desde cero en la transacción del llamador:
+--   1. Bloquea consumption_monthly en modo EXCLUSIVE: las lecturas siguen viendo
+--      los acumulados anteriores hasta el commit; los triggers de otras
+--      transacciones esperan y suman su evento sobre el resultado reconstruido.
+--   2. Completa consumption_new_tires con las llantas nuevas que falten.
+--   3. Reemplaza los acumulados agregando compras, montajes (instalaciones
+--      activas e historial) y desmontajes.
+-- Corrige además las diferencias de eventos que no pasan por los triggers
+-- (borrados lógicos, cambios de especificación u oficina de la llanta).
+
+CREATE OR REPLACE FUNCTION tire_management.rebuild_consumption()
+RETURNS INTEGER AS $$
+DECLARE
+    v_rows INTEGER;
+BEGIN
+    LOCK TABLE tire_management.consumption_monthly IN EXCLUSIVE MODE;
+
+    INSERT INTO tire_management.consumption_new_tires (tire_id, purchase_month, purchase_cost)
+    SELECT DISTINCT ON (tire_id) tire_id, date_trunc('month', purchase_date)::date, purchase_cost
+    FROM (
+        SELECT i.tire_id, i.purchase_date, i.purchase_cost
+        FROM tire_management.inventory i
+        JOIN tire_management.tires t ON t.id = i.tire_id
+        WHERE t.generation = '000' AND i.deleted_at IS NULL
+        UNION ALL
+        SELECT ai.tire_id, ai.purchase_date, ai.purchase_cost
+        FROM tire_management.active_installations ai
+        JOIN tire_management.tires t ON t.id = ai.tire_id
+        WHERE t.generation = '000' AND ai.deleted_at IS NULL
+        UNION ALL
+        SELECT h.tire_id, h.purchase_date, h.purchase_cost
+        FROM tire_management.history_records h
+        WHERE h.generation_at_event = '000'
+    ) purchases
+    ORDER BY tire_id, purchase_date
+    ON CONFLICT (tire_id) DO NOTHING;
+
+    DELETE FROM tire_management.consumption_monthly;
+
+    INSERT INTO tire_management.consumption_monthly (
+        month, office_id, technical_specification_id, brand_id,
+        new_tires, new_tires_cost, installations, removals)
+    SELECT e.month,
+           COALESCE(t.office_id, 'a0000000-0000-0000-0000-000000000001'::UUID),
+           t.technical_specification_id, ts.brand_id,
+           sum(e.new_tires), sum(e.cost), sum(e.installations), sum(e.removals)
+    FROM (
+        SELECT tire_id, purchase_month AS month, 1 AS new_tires, purchase_cost AS cost,
+               0 AS installations, 0 AS removals
+        FROM tire_management.consumption_new_tires
+        UNION ALL
+        SELECT tire_id, date_trunc('month', installation_date)::date, 0, 0, 1, 0
+        FROM tire_management.active_installations
+        WHERE deleted_at IS NULL
+        UNION ALL
+        SELECT tire_id, date_trunc('month', installation_date)::date, 0, 0, 1, 0
+        FROM tire_management.history_records
+        WHERE installation_date IS NOT NULL
+        UNION ALL
+        SELECT tire_id, date_trunc('month', removal_date)::date, 0, 0, 0, 1
+        FROM tire_management.history_records
+        WHERE removal_date IS NOT NULL
+    ) e
+    JOIN tire_management.tires t ON t.id = e.tire_id
+    JOIN tire_management.technical_specifications ts ON ts.id = t.technical_specification_id
+    GROUP BY 1, 2, 3, 4;
+
+    GET DIAGNOSTICS v_rows = ROW_COUNT;
+    RETURN v_rows;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Carga inicial
+SELECT tire_management.rebuild_consumption();
+
+-- =============================================================================
+-- VISTA DE CONSUMO MENSUAL
+-- =============================================================================
+
+CREATE OR REPLACE VIEW tire_management.v_monthly_consumption AS
+SELECT
+    EXTRACT(YEAR FROM month) AS year,
+    EXTRACT(MONTH FROM month) AS month,
+    SUM(new_tires)::NUMERIC AS total_consumption
+FROM tire_management.consumption_monthly
+GROUP BY 1, 2
+HAVING SUM(new_tires) > 0
+ORDER BY year DESC, month DESC;
+
+-- Permiso de indicadores de consumo
+INSERT INTO permissions (name, resource, action, description, created_at) VALUES
+('TIRE_CONSUMPTION_VIEW', 'TIRE_CONSUMPTION', 'VIEW', 'Permite consultar los indicadores de consumo de llantas', CURRENT_TIMESTAMP)
+ON CONFLICT (name) DO NOTHING;
+
+INSERT INTO role_permissions (role_id, permission_id)
+SELECT r.id, p.id
+FROM roles r, permissions p
+WHERE r.name IN ('ADMIN', 'WORKSHOP_COORDINATOR', 'WAREHOUSE_MANAGER', 'PURCHASING_AGENT', 'MANAGER')
+  AND p.name = 'TIRE_CONSUMPTION_VIEW'
+ON CONFLICT DO NOTHING;
+
+COMMENT ON COLUMN tire_management.tires.office_id
+    IS 'Oficina dueña de la llanta (por defecto la de la sesión); NULL se reporta en la oficina principal';
+COMMENT ON TABLE tire_management.consumption_new_tires
+    IS 'Llantas nuevas (generación 000) ya contadas en consumption_monthly: una fila por llanta';
+COMMENT ON TABLE tire_management.consumption_monthly
+    IS 'Acumulados mensuales de consumo por oficina, especificación y marca; mantenidos por triggers y rebuild_consumption()';
+COMMENT ON FUNCTION tire_management.rebuild_consumption()
+    IS 'Reconstruye consumption_monthly desde inventory, active_installations e history_records';
+COMMENT ON VIEW tire_management.v_monthly_consumption
+    IS 'Llantas nuevas compradas por mes (cada llanta una vez), leídas de consumption_monthly';
@@ -0,0 +1,65 @@
+-- =============================================================================
+-- Descripción: Outbox transaccional de emails.
+--
+--              EmailService renderizaba y enviaba cada email en el pool de
+--              @Async, con una sesión SMTP por mensaje; los errores solo
+--              quedaban en el log y un email podía perderse aunque la
+--              transacción del llamador hiciera commit (o enviarse aunque
+--              hiciera rollback).
+--
+--              1. email_outbox: un email pendiente por fila, escrito en la
+--                 transacción del llamador (plantilla Thymeleaf y variables en
+--                 JSON; se renderiza al enviar).
+--              2. El despachador reclama lotes con FOR UPDATE SKIP LOCKED y
+--                 adelanta next_attempt_at como lease: si el nodo cae a mitad
+--                 del envío, el lote vuelve a quedar disponible al vencer.
+--              3. Los fallidos se reintentan con backoff exponencial hasta el
+--                 máximo de intentos y luego quedan en FAILED.
+--              4. Los enviados se purgan por bloques tras el periodo de
+--                 retención.
+-- Versión: 3.13.0
+-- Autor: Vórtice Development Team
+-- Fecha: 2026-10-18
+-- =============================================================================
+
+-- =============================================================================
+-- TABLA
+-- =============================================================================
+
+CREATE TABLE email_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(500) NOT NULL,
+    template_name VARCHAR(100) NOT NULL,
+    variables JSONB NOT NULL DEFAULT '{}'::jsonb,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    last_error TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    sent_at TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT chk_email_outbox_status CHECK (status IN ('PENDING', 'SENT', 'FAILED'))
+);
+
+-- Cola: solo los pendientes, en orden de reclamo
+CREATE INDEX idx_email_outbox_pending ON email_outbox (next_attempt_at, id)
+    WHERE status = 'PENDING';
+
+-- Purga de enviados
+CREATE INDEX idx_email_outbox_sent ON email_outbox (sent_at)
+    WHERE status = 'SENT';
+
+-- Tabla de alta rotación: vacuum frecuente para que la cola no acumule tuplas muertas
+ALTER TABLE email_outbox SET (
+    autovacuum_vacuum_scale_factor = 0.01,
+    autovacuum_analyze_scale_factor = 0.02
+);
+
+COMMENT ON TABLE email_outbox
+    IS 'Emails pendientes de envío, escritos en la transacción que los origina y despachados por lotes';
+COMMENT ON COLUMN email_outbox.variables
+    IS 'Variables de la plantilla Thymeleaf (templates/email/<template_name>.html)';
+COMMENT ON COLUMN email_outbox.next_attempt_at
+    IS 'Próximo intento; al reclamar un lote se adelanta como lease del despachador';
+COMMENT ON COLUMN email_outbox.attempts
+    IS 'Intentos de envío realizados (se incrementa al reclamar)';
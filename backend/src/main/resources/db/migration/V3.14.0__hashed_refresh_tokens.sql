@@ -0,0 +1,70 @@
+-- =============================================================================
+-- Descripción: Refresh tokens guardados por hash, con familia de rotación.
+--
+--              refresh_tokens guardaba el valor en claro (VARCHAR(500), índice
+--              único más un segundo índice sobre la misma columna) y cada
+--              renovación leía la fila, insertaba la nueva y actualizaba la
+--              anterior (tres sentencias).
+--
+--              1. token_hash: SHA-256 del valor entregado al cliente (32 bytes
+--                 fijos). El valor en claro ya no se guarda: token y
+--                 replaced_by_token se eliminan.
+--              2. Índice único sobre token_hash que incluye user_id, family_id,
+--                 expires_at y revoked: la búsqueda por token no necesita leer
+--                 la fila.
+--              3. family_id: todos los tokens obtenidos por rotación desde un
+--                 mismo login comparten familia. Si se presenta un token ya
+--                 rotado se revoca la familia completa.
+--              4. La limpieza de expirados borra por bloques con el índice de
+--                 expires_at existente.
+-- Versión: 3.14.0
+-- Autor: Vórtice Development Team
+-- Fecha: 2026-10-18
+-- =============================================================================
+
+-- =============================================================================
+-- COLUMNAS
+-- =============================================================================
+
+ALTER TABLE refresh_tokens
+    ADD COLUMN token_hash BYTEA,
+    ADD COLUMN family_id UUID;
+
+-- Los tokens vigentes siguen funcionando: su hash se calcula a partir del valor en claro
+UPDATE refresh_tokens
+SET token_hash = sha256(convert_to(token, 'UTF8')),
+    family_id = gen_random_uuid();
+
+ALTER TABLE refresh_tokens
+    ALTER COLUMN token_hash SET NOT NULL,
+    ALTER COLUMN family_id SET NOT NULL,
+    ADD CONSTRAINT chk_refresh_tokens_token_hash CHECK (octet_length(token_hash) = 32);
+
+DROP INDEX IF EXISTS idx_refresh_tokens_token;
+
+ALTER TABLE refresh_tokens
+    DROP COLUMN token,
+    DROP COLUMN replaced_by_token;
+
+-- =============================================================================
+-- ÍNDICES
+-- =============================================================================
+
+-- Búsqueda y rotación por token (cubre las columnas que se consultan)
+CREATE UNIQUE INDEX uk_refresh_tokens_token_hash ON refresh_tokens (token_hash)
+    INCLUDE (user_id, family_id, expires_at, revoked);
+
+-- Revocación de una familia ante reutilización
+CREATE INDEX idx_refresh_tokens_family_id ON refresh_tokens (family_id)
+    WHERE revoked = false;
+
+-- Cada renovación actualiza una fila e inserta otra
+ALTER TABLE refresh_tokens SET (
+    autovacuum_vacuum_scale_factor = 0.02,
+    autovacuum_analyze_scale_factor = 0.05
+);
+
+COMMENT ON COLUMN refresh_tokens.token_hash
+    IS 'SHA-256 del refresh token entregado al cliente; el valor en claro no se guarda';
+COMMENT ON COLUMN refresh_tokens.family_id
+    IS 'Familia de rotación: compartida por los tokens renovados desde un mismo login';
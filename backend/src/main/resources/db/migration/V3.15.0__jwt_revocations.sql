@@ -0,0 +1,50 @@
+-- =============================================================================
+-- Descripción: Revocaciones de access tokens compartidas entre réplicas.
+--
+--              La lista de revocación de JwtRevocationService era un mapa en
+--              memoria de cada instancia: un logout, bloqueo o reset de
+--              contraseña solo se aplicaba en el nodo que lo atendía y el resto
+--              seguía aceptando el token hasta su expiración (24 h).
+--
+--              1. jwt_revocations: una fila por revocación, de un token (jti)
+--                 o de todos los tokens de un usuario emitidos hasta
+--                 revoked_at (precisión de microsegundos).
+--              2. Cada réplica mantiene su caché local y la sincroniza
+--                 leyendo periódicamente las filas registradas desde la
+--                 lectura anterior (recorded_at); la verificación de cada
+--                 request sigue sin consultar la base de datos.
+--              3. expires_at: vencida la vida útil del access token la
+--                 revocación ya no hace falta y se elimina.
+-- Versión: 3.15.0
+-- Autor: Vórtice Development Team
+-- Fecha: 2026-10-18
+-- =============================================================================
+
+-- =============================================================================
+-- TABLA
+-- =============================================================================
+
+CREATE TABLE jwt_revocations (
+    id BIGSERIAL PRIMARY KEY,
+    token_id VARCHAR(64),
+    user_id BIGINT,
+    revoked_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    recorded_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT clock_timestamp(),
+    CONSTRAINT chk_jwt_revocations_target CHECK ((token_id IS NULL) <> (user_id IS NULL))
+);
+
+-- Sincronización incremental de las réplicas
+CREATE INDEX idx_jwt_revocations_recorded_at ON jwt_revocations (recorded_at);
+
+-- Carga inicial (vigentes) y limpieza de vencidas
+CREATE INDEX idx_jwt_revocations_expires_at ON jwt_revocations (expires_at);
+
+COMMENT ON TABLE jwt_revocations
+    IS 'Revocaciones de access tokens JWT, replicadas en la caché local de cada instancia';
+COMMENT ON COLUMN jwt_revocations.token_id
+    IS 'Claim jti del token revocado (revocación por token)';
+COMMENT ON COLUMN jwt_revocations.user_id
+    IS 'Usuario cuyos tokens emitidos hasta revoked_at quedan revocados';
+COMMENT ON COLUMN jwt_revocations.recorded_at
+    IS 'Instante de escritura, usado por las réplicas para leer solo las revocaciones nuevas';
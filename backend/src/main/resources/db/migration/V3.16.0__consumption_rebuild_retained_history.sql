@@ -0,0 +1,111 @@
+-- =============================================================================
+-- Descripción: Reconstrucción de consumo limitada al historial conservado.
+--
+--              rebuild_consumption() (V3.12.0) borraba todo consumption_monthly y
+--              lo recalculaba desde las particiones de history_records que
+--              existen. Con retención configurada, el mantenimiento de
+--              particiones archiva y elimina las particiones antiguas, y la
+--              reconstrucción semanal perdía los montajes y desmontajes de esos
+--              meses.
+--
+--              1. history_records_retained_from(): primer mes de la partición
+--                 por rango más antigua de history_records (NULL si no hay
+--                 particiones por rango).
+--              2. rebuild_consumption() solo reemplaza los meses desde ese mes;
+--                 los acumulados anteriores se conservan tal como los dejaron
+--                 los triggers y las reconstrucciones previas.
+-- Versión: 3.16.0
+-- Autor: Vórtice Development Team
+-- Fecha: 2026-10-18
+-- =============================================================================
+
+-- =============================================================================
+-- HISTORIAL CONSERVADO
+-- =============================================================================
+
+CREATE OR REPLACE FUNCTION tire_management.history_records_retained_from()
+RETURNS DATE AS $$
+    SELECT date_trunc('month', min(b.bounds[1]::timestamptz))::date
+    FROM pg_inherits i
+    JOIN pg_class c ON c.oid = i.inhrelid
+    CROSS JOIN LATERAL regexp_match(pg_get_expr(c.relpartbound, c.oid),
+                                    'FROM \(''([^'']+)''\) TO \(''([^'']+)''\)') AS b(bounds)
+    WHERE i.inhparent = 'tire_management.history_records'::regclass;
+$$ LANGUAGE sql STABLE;
+
+COMMENT ON FUNCTION tire_management.history_records_retained_from() IS
+    'Primer mes de history_records aún en la base de datos (partición por rango más antigua); los meses anteriores están archivados';
+
+-- =============================================================================
+-- RECONSTRUCCIÓN
+-- =============================================================================
+--
+-- Igual que en V3.12.0, pero los acumulados anteriores al historial conservado no se
+-- borran ni se recalculan: sus montajes y desmontajes ya no están en history_records.
+-- Sin particiones por rango se reconstruye todo.
+
+CREATE OR REPLACE FUNCTION tire_management.rebuild_consumption()
+RETURNS INTEGER AS $$
+DECLARE
+    v_from DATE;
+    v_rows INTEGER;
+BEGIN
+    LOCK TABLE tire_management.consumption_monthly IN EXCLUSIVE MODE;
+
+    v_from := COALESCE(tire_management.history_records_retained_from(), '-infinity'::date);
+
+    INSERT INTO tire_management.consumption_new_tires (tire_id, purchase_month, purchase_cost)
+    SELECT DISTINCT ON (tire_id) tire_id, date_trunc('month', purchase_date)::date, purchase_cost
+    FROM (
+        SELECT i.tire_id, i.purchase_date, i.purchase_cost
+        FROM tire_management.inventory i
+        JOIN tire_management.tires t ON t.id = i.tire_id
+        WHERE t.generation = '000' AND i.deleted_at IS NULL
+        UNION ALL
+        SELECT ai.tire_id, ai.purchase_date, ai.purchase_cost
+        FROM tire_management.active_installations ai
+        JOIN tire_management.tires t ON t.id = ai.tire_id
+        WHERE t.generation = '000' AND ai.deleted_at IS NULL
+        UNION ALL
+        SELECT h.tire_id, h.purchase_date, h.purchase_cost
+        FROM tire_management.history_records h
+        WHERE h.generation_at_event = '000'
+    ) purchases
+    ORDER BY tire_id, purchase_date
+    ON CONFLICT (tire_id) DO NOTHING;
+
+    DELETE FROM tire_management.consumption_monthly WHERE month >= v_from;
+
+    INSERT INTO tire_management.consumption_monthly (
+        month, office_id, technical_specification_id, brand_id,
+        new_tires, new_tires_cost, installations, removals)
+    SELECT e.month,
+           COALESCE(t.office_id, 'a0000000-0000-0000-0000-000000000001'::UUID),
+           t.technical_specification_id, ts.brand_id,
+           sum(e.new_tires), sum(e.cost), sum(e.installations), sum(e.removals)
+    FROM (
+        SELECT tire_id, purchase_month AS month, 1 AS new_tires, purchase_cost AS cost,
+               0 AS installations, 0 AS removals
+        FROM tire_management.consumption_new_tires
+        UNION ALL
+        SELECT tire_id, date_trunc('month', installation_date)::date, 0, 0, 1, 0
+        FROM tire_management.active_installations
+        WHERE deleted_at IS NULL
+        UNION ALL
+        SELECT tire_id, date_trunc('month', installation_date)::date, 0, 0, 1, 0
+        FROM tire_management.history_records
+        WHERE installation_date IS NOT NULL
+        UNION ALL
+        SELECT tire_id, date_trunc('month', removal_date)::date, 0, 0, 0, 1
+        FROM tire_management.history_records
+        WHERE removal_date IS NOT NULL
+    ) e
+    JOIN tire_management.tires t ON t.id = e.tire_id
+    JOIN tire_management.technical_specifications ts ON ts.id = t.technical_specification_id
+    WHERE e.month >= v_from
+    GROUP BY 1, 2, 3, 4;
+
+    GET DIAGNOSTICS v_rows = ROW_COUNT;
+    RETURN v_rows;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,50 @@
+-- =============================================================================
+-- Descripción: Crea las secuencias usadas para asignar códigos de negocio
+--              (fichas técnicas, números de llanta, certificados de baja).
+--              Cada secuencia avanza en bloques (INCREMENT BY) para que el
+--              backend reserve varios códigos por round-trip (hi/lo).
+-- Versión: 3.2.0
+-- Autor: Vórtice Development Team
+-- Fecha: 2026-10-18
+-- =============================================================================
+
+-- El INCREMENT BY de cada secuencia es el tamaño de bloque que reserva el backend:
+-- nextval() devuelve el primer número del bloque [valor, valor + INCREMENT BY - 1]
+CREATE SEQUENCE tire_management.seq_technical_specification_code
+    AS BIGINT
+    START WITH 1
+    INCREMENT BY 20
+    MINVALUE 1;
+
+CREATE SEQUENCE tire_management.seq_tire_number
+    AS BIGINT
+    START WITH 1
+    INCREMENT BY 50
+    MINVALUE 1;
+
+CREATE SEQUENCE tire_management.seq_retirement_certificate_number
+    AS BIGINT
+    START WITH 1
+    INCREMENT BY 20
+    MINVALUE 1;
+
+-- Continuar la numeración a partir de los códigos ya existentes
+SELECT setval('tire_management.seq_technical_specification_code',
+              COALESCE(MAX(SUBSTRING(code FROM 4)::BIGINT), 0) + 1, false)
+FROM tire_management.technical_specifications
+WHERE code ~ '^FT-\d+$';
+
+SELECT setval('tire_management.seq_tire_number',
+              COALESCE(MAX(SUBSTRING(tire_number FROM 4)::BIGINT), 0) + 1, false)
+FROM tire_management.tires
+WHERE tire_number ~ '^LL-\d+$';
+
+SELECT setval('tire_management.seq_retirement_certificate_number',
+              COALESCE(MAX(SUBSTRING(retirement_certificate_number FROM 4)::BIGINT), 0) + 1, false)
+FROM tire_management.retired
+WHERE retirement_certificate_number ~ '^CB-\d+$';
+
+-- Comentarios de documentación
+COMMENT ON SEQUENCE tire_management.seq_technical_specification_code IS 'Números de fichas técnicas (FT-NNNNNN), asignados en bloques de 20';
+COMMENT ON SEQUENCE tire_management.seq_tire_number IS 'Números de llanta (LL-NNNNNNNN), asignados en bloques de 50';
+COMMENT ON SEQUENCE tire_management.seq_retirement_certificate_number IS 'Números de certificados de baja (CB-NNNNNN), asignados en bloques de 20';
@@ -0,0 +1,36 @@
+-- =============================================================================
+-- Descripción: Índices para la paginación por keyset (cursor) de los listados
+--              de fichas técnicas, oficinas, almacenes y proveedores.
+--              Cada índice cubre exactamente el ORDER BY (clave, id) de la
+--              consulta, de modo que la página siguiente se lee con un
+--              Index Scan desde la posición del cursor, sin OFFSET ni Sort.
+-- Versión: 3.2.1
+-- Autor: Vórtice Development Team
+-- Fecha: 2026-10-18
+-- =============================================================================
+
+-- Fichas técnicas: ORDER BY code, id (ascendente y descendente)
+CREATE INDEX IF NOT EXISTS idx_tech_specs_code_id
+    ON tire_management.technical_specifications(code, id)
+    WHERE deleted_at IS NULL;
+
+-- Oficinas: ORDER BY name, id
+CREATE INDEX IF NOT EXISTS idx_offices_name_id
+    ON offices(name, id)
+    WHERE deleted_at IS NULL;
+
+-- Almacenes de una oficina: WHERE office_id = ? ORDER BY name, id
+CREATE INDEX IF NOT EXISTS idx_warehouses_office_name_id
+    ON warehouses(office_id, name, id)
+    WHERE deleted_at IS NULL;
+
+-- Proveedores: ORDER BY name, id (el RLS y el texto de búsqueda se aplican como filtro)
+CREATE INDEX IF NOT EXISTS idx_tire_suppliers_name_id
+    ON tire_suppliers(name, id)
+    WHERE deleted_at IS NULL;
+
+-- Comentarios de documentación
+COMMENT ON INDEX tire_management.idx_tech_specs_code_id IS 'Paginación por keyset de fichas técnicas (código, id)';
+COMMENT ON INDEX idx_offices_name_id IS 'Paginación por keyset de oficinas (nombre, id)';
+COMMENT ON INDEX idx_warehouses_office_name_id IS 'Paginación por keyset de almacenes por oficina (nombre, id)';
+COMMENT ON INDEX idx_tire_suppliers_name_id IS 'Paginación por keyset de proveedores (nombre, id)';
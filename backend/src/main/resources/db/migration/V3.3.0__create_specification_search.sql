@@ -0,0 +1,162 @@
+-- =============================================================================
+-- Descripción: Motor de búsqueda de fichas técnicas.
+--              Mantiene un documento de búsqueda por ficha (tsvector ponderado
+--              + texto normalizado para trigramas) sobre código, dimensión y
+--              nombres de marca, tipo y referencia, sin acentos y en minúsculas.
+--              El documento vive en su propia tabla y se sincroniza con
+--              triggers, sin tocar updated_at/version de las fichas.
+-- Versión: 3.3.0
+-- Autor: Vórtice Development Team
+-- Fecha: 2026-10-18
+-- =============================================================================
+
+CREATE EXTENSION IF NOT EXISTS unaccent WITH SCHEMA public;
+
+-- =====================================================
+-- NORMALIZACIÓN
+-- =====================================================
+
+-- Configuración de texto sin stemming (códigos y nombres propios) que elimina acentos
+CREATE TEXT SEARCH CONFIGURATION tire_management.spec_search (COPY = pg_catalog.simple);
+
+ALTER TEXT SEARCH CONFIGURATION tire_management.spec_search
+    ALTER MAPPING FOR word, numword, hword, hword_part, numhword
+    WITH public.unaccent, pg_catalog.simple;
+
+-- Minúsculas, sin acentos y sin puntuación: "295/80R22.5" -> "295 80r22 5", "FT-000123" -> "ft 000123".
+-- El backend aplica la misma separación a los términos de búsqueda, así que los prefijos
+-- coinciden con cada parte del código o de la dimensión.
+CREATE OR REPLACE FUNCTION tire_management.search_normalize(value TEXT)
+RETURNS TEXT
+LANGUAGE sql
+IMMUTABLE
+PARALLEL SAFE
+STRICT
+AS $$
+    SELECT btrim(regexp_replace(lower(public.unaccent('public.unaccent'::regdictionary, value)),
+                                '[^[:alnum:]]+', ' ', 'g'))
+$$;
+
+-- =====================================================
+-- DOCUMENTO DE BÚSQUEDA
+-- =====================================================
+
+CREATE TABLE tire_management.specification_search (
+    specification_id UUID PRIMARY KEY
+        REFERENCES tire_management.technical_specifications(id) ON DELETE CASCADE,
+    document TSVECTOR NOT NULL,
+    search_text TEXT NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Prefijos y ranking (document @@ to_tsquery('...:*'))
+CREATE INDEX idx_specification_search_document
+    ON tire_management.specification_search USING GIN (document);
+
+-- Coincidencias dentro de una palabra (search_text LIKE '%80r22%')
+CREATE INDEX idx_specification_search_trgm
+    ON tire_management.specification_search USING GIN (search_text gin_trgm_ops);
+
+-- Fuente del documento: solo fichas no eliminadas.
+-- Pesos: código y dimensión (A) > marca (B) > tipo y referencia (C)
+CREATE OR REPLACE VIEW tire_management.v_specification_search_source AS
+SELECT
+    s.id AS specification_id,
+    s.brand_id,
+    s.type_id,
+    s.reference_id,
+    setweight(to_tsvector('tire_management.spec_search', tire_management.search_normalize(s.code)), 'A') ||
+    setweight(to_tsvector('tire_management.spec_search', coalesce(tire_management.search_normalize(s.dimension), '')), 'A') ||
+    setweight(to_tsvector('tire_management.spec_search', tire_management.search_normalize(b.name)), 'B') ||
+    setweight(to_tsvector('tire_management.spec_search', tire_management.search_normalize(t.name)), 'C') ||
+    setweight(to_tsvector('tire_management.spec_search', tire_management.search_normalize(r.name)), 'C') AS document,
+    tire_management.search_normalize(
+        concat_ws(' ', s.code, s.dimension, b.name, t.name, r.name)) AS search_text
+FROM tire_management.technical_specifications s
+JOIN tire_management.brands b ON b.id = s.brand_id
+JOIN tire_management.types t ON t.id = s.type_id
+JOIN tire_management.tire_references r ON r.id = s.reference_id
+WHERE s.deleted_at IS NULL;
+
+-- =====================================================
+-- SINCRONIZACIÓN
+-- =====================================================
+
+-- Ficha creada, modificada o eliminada (soft delete)
+CREATE OR REPLACE FUNCTION tire_management.sync_specification_search()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.deleted_at IS NOT NULL THEN
+        DELETE FROM tire_management.specification_search WHERE specification_id = NEW.id;
+        RETURN NULL;
+    END IF;
+
+    INSERT INTO tire_management.specification_search (specification_id, document, search_text)
+    SELECT specification_id, document, search_text
+    FROM tire_management.v_specification_search_source
+    WHERE specification_id = NEW.id
+    ON CONFLICT (specification_id) DO UPDATE
+        SET document = EXCLUDED.document,
+            search_text = EXCLUDED.search_text,
+            updated_at = CURRENT_TIMESTAMP;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER sync_specification_search
+AFTER INSERT OR UPDATE OF code, dimension, brand_id, type_id, reference_id, deleted_at
+ON tire_management.technical_specifications
+FOR EACH ROW
+EXECUTE FUNCTION tire_management.sync_specification_search();
+
+-- Catálogo renombrado: recalcular las fichas que lo usan (una sola sentencia)
+CREATE OR REPLACE FUNCTION tire_management.sync_specification_search_catalog()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO tire_management.specification_search (specification_id, document, search_text)
+    SELECT specification_id, document, search_text
+    FROM tire_management.v_specification_search_source
+    WHERE CASE TG_TABLE_NAME
+              WHEN 'brands' THEN brand_id
+              WHEN 'types' THEN type_id
+              ELSE reference_id
+          END = NEW.id
+    ON CONFLICT (specification_id) DO UPDATE
+        SET document = EXCLUDED.document,
+            search_text = EXCLUDED.search_text,
+            updated_at = CURRENT_TIMESTAMP;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER sync_specification_search_brand
+AFTER UPDATE OF name ON tire_management.brands
+FOR EACH ROW
+WHEN (OLD.name IS DISTINCT FROM NEW.name)
+EXECUTE FUNCTION tire_management.sync_specification_search_catalog();
+
+CREATE TRIGGER sync_specification_search_type
+AFTER UPDATE OF name ON tire_management.types
+FOR EACH ROW
+WHEN (OLD.name IS DISTINCT FROM NEW.name)
+EXECUTE FUNCTION tire_management.sync_specification_search_catalog();
+
+CREATE TRIGGER sync_specification_search_reference
+AFTER UPDATE OF name ON tire_management.tire_references
+FOR EACH ROW
+WHEN (OLD.name IS DISTINCT FROM NEW.name)
+EXECUTE FUNCTION tire_management.sync_specification_search_catalog();
+
+-- Carga inicial
+INSERT INTO tire_management.specification_search (specification_id, document, search_text)
+SELECT specification_id, document, search_text
+FROM tire_management.v_specification_search_source;
+
+-- Comentarios de documentación
+COMMENT ON TABLE tire_management.specification_search IS 'Documento de búsqueda de fichas técnicas no eliminadas (mantenido por triggers)';
+COMMENT ON COLUMN tire_management.specification_search.document IS 'tsvector ponderado: código/dimensión (A), marca (B), tipo/referencia (C)';
+COMMENT ON COLUMN tire_management.specification_search.search_text IS 'Texto normalizado (minúsculas, sin acentos ni puntuación) para búsquedas por trigramas';
+COMMENT ON FUNCTION tire_management.search_normalize(TEXT) IS 'Normaliza texto para búsqueda: minúsculas, sin acentos y sin puntuación';
+COMMENT ON VIEW tire_management.v_specification_search_source IS 'Fuente del documento de búsqueda de fichas técnicas';
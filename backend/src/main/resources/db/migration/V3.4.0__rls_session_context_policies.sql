@@ -0,0 +1,102 @@
+-- =============================================================================
+-- Descripción: Políticas RLS basadas en variables de sesión
+-- Versión: 3.4.0
+-- Autor: Vórtice Development Team
+-- Fecha: 2026-10-18
+-- =============================================================================
+--
+-- Las políticas de V3.0.1 llaman a current_user_has_role() y get_user_office_id():
+-- funciones plpgsql SECURITY DEFINER que el planificador no puede expandir y que
+-- consultan users/user_roles. current_user_has_role() se evalúa además por cada
+-- fila en el OR de la política, lo que convierte un recorrido de N filas en N
+-- consultas adicionales.
+--
+-- La aplicación (RlsTransactionManager) publica ahora la oficina y una máscara de
+-- roles al inicio de cada transacción:
+--   app.current_office_id  UUID de la oficina del usuario
+--   app.current_roles      máscara de bits (1 = administrador nacional,
+--                          2 = administrador de oficina, 4 = jefe de almacén)
+--
+-- Las nuevas funciones son SQL de una sola sentencia, STABLE y sin SECURITY
+-- DEFINER, por lo que se expanden en línea. En las políticas se envuelven en una
+-- subconsulta escalar: se evalúan una sola vez por consulta (InitPlan) y la
+-- comparación office_id = $n sigue siendo utilizable por los índices.
+--
+-- get_user_office_id() y current_user_has_role() se conservan para consultas
+-- manuales y scripts existentes.
+-- =============================================================================
+
+-- =============================================================================
+-- FUNCIONES DE CONTEXTO
+-- =============================================================================
+
+CREATE OR REPLACE FUNCTION rls_current_office_id()
+RETURNS UUID
+LANGUAGE sql STABLE PARALLEL SAFE
+AS $$
+    SELECT NULLIF(current_setting('app.current_office_id', true), '')::UUID
+$$;
+
+CREATE OR REPLACE FUNCTION rls_current_roles()
+RETURNS INTEGER
+LANGUAGE sql STABLE PARALLEL SAFE
+AS $$
+    SELECT COALESCE(NULLIF(current_setting('app.current_roles', true), '')::INTEGER, 0)
+$$;
+
+-- =============================================================================
+-- POLÍTICAS
+-- =============================================================================
+
+DROP POLICY IF EXISTS warehouses_office_isolation ON warehouses;
+
+CREATE POLICY warehouses_office_isolation ON warehouses
+    FOR ALL
+    TO PUBLIC
+    USING (
+        -- Admin nacional: acceso total
+        (SELECT rls_current_roles() & 1) <> 0
+        OR
+        -- Usuario normal: solo su oficina
+        office_id = (SELECT rls_current_office_id())
+    );
+
+DROP POLICY IF EXISTS locations_office_isolation ON warehouse_locations;
+
+CREATE POLICY locations_office_isolation ON warehouse_locations
+    FOR ALL
+    TO PUBLIC
+    USING (
+        -- Admin nacional: acceso total
+        (SELECT rls_current_roles() & 1) <> 0
+        OR
+        -- Usuario normal: solo ubicaciones de almacenes de su oficina
+        warehouse_id IN (
+            SELECT w.id FROM warehouses w
+            WHERE w.office_id = (SELECT rls_current_office_id())
+              AND w.deleted_at IS NULL
+        )
+    );
+
+DROP POLICY IF EXISTS suppliers_office_isolation ON tire_suppliers;
+
+CREATE POLICY suppliers_office_isolation ON tire_suppliers
+    FOR ALL
+    TO PUBLIC
+    USING (
+        -- Admin nacional: acceso total
+        (SELECT rls_current_roles() & 1) <> 0
+        OR
+        -- Usuario normal: solo su oficina
+        office_id = (SELECT rls_current_office_id())
+    );
+
+-- =============================================================================
+-- COMENTARIOS
+-- =============================================================================
+
+COMMENT ON FUNCTION rls_current_office_id() IS 'Oficina del usuario actual (app.current_office_id), NULL si no hay contexto';
+COMMENT ON FUNCTION rls_current_roles() IS 'Máscara de roles del usuario actual (app.current_roles), 0 si no hay contexto';
+COMMENT ON POLICY warehouses_office_isolation ON warehouses IS 'Filtrado automático por oficina del usuario (variables de sesión)';
+COMMENT ON POLICY locations_office_isolation ON warehouse_locations IS 'Filtrado automático por oficina del usuario via warehouse (variables de sesión)';
+COMMENT ON POLICY suppliers_office_isolation ON tire_suppliers IS 'Filtrado automático por oficina del usuario (variables de sesión)';
@@ -0,0 +1,43 @@
+-- =============================================================================
+-- Descripción: Soporte para el motor de ciclo de vida de llantas
+--              (montaje / desmontaje / rotación por lotes de un vehículo).
+--
+--              1. La unicidad (vehicle_id, position) pasa a ser DEFERRABLE: un
+--                 lote puede intercambiar posiciones (rotación 1 <-> 2) dentro de
+--                 la misma transacción y la restricción se verifica al final
+--                 (SET CONSTRAINTS ... DEFERRED). Sin lote activo se sigue
+--                 verificando fila a fila (INITIALLY IMMEDIATE).
+--              2. Se elimina el trigger check_position_uniqueness: duplicaba la
+--                 restricción única con una consulta por fila y no puede
+--                 diferirse, por lo que impedía los intercambios.
+--              3. Permiso TIRE_LIFECYCLE_MOVE para registrar movimientos.
+-- Versión: 3.5.0
+-- Autor: Vórtice Development Team
+-- Fecha: 2026-10-18
+-- =============================================================================
+
+-- Restricción de posición diferible
+ALTER TABLE tire_management.active_installations
+    DROP CONSTRAINT uq_active_installations_vehicle_position;
+
+ALTER TABLE tire_management.active_installations
+    ADD CONSTRAINT uq_active_installations_vehicle_position
+    UNIQUE (vehicle_id, position) DEFERRABLE INITIALLY IMMEDIATE;
+
+-- Validación redundante por fila
+DROP TRIGGER IF EXISTS check_position_uniqueness ON tire_management.active_installations;
+
+-- Permiso de movimientos
+INSERT INTO permissions (name, resource, action, description, created_at) VALUES
+('TIRE_LIFECYCLE_MOVE', 'TIRE_LIFECYCLE', 'MOVE', 'Permite montar, desmontar y rotar llantas en vehículos', CURRENT_TIMESTAMP)
+ON CONFLICT (name) DO NOTHING;
+
+INSERT INTO role_permissions (role_id, permission_id)
+SELECT r.id, p.id
+FROM roles r, permissions p
+WHERE r.name IN ('ADMIN', 'WORKSHOP_COORDINATOR', 'MECHANIC')
+  AND p.name = 'TIRE_LIFECYCLE_MOVE'
+ON CONFLICT DO NOTHING;
+
+COMMENT ON CONSTRAINT uq_active_installations_vehicle_position ON tire_management.active_installations
+    IS 'Garantiza unicidad: una posición = una llanta. Diferible para rotaciones por lote';
@@ -0,0 +1,51 @@
+-- =============================================================================
+-- Descripción: Cola persistente de tickets de movimientos del canal móvil
+--              (equivalente a LLANTAS.TMPLOGMOV + PK_MOVTMP.LOGMOVTMP).
+--
+--              Cada ticket enviado por un terminal de mano guarda el string
+--              codificado (@P[Origen]@P[Destino]@[LLANTA]@...@[TIPO];) con la
+--              placa y el kilometraje. Estados heredados de TMPLOGMOV:
+--                A = Activo (pendiente), P = Procesado, R = Rechazado.
+--
+--              1. uq_movement_log_staging_ticket hace la recepción idempotente:
+--                 un ticket reenviado se descarta con ON CONFLICT DO NOTHING.
+--              2. idx_movement_log_staging_pending (parcial) solo contiene los
+--                 tickets pendientes, ordenados por placa y ticket, que es el
+--                 orden en que los procesa el pool de workers.
+-- Versión: 3.6.0
+-- Autor: Vórtice Development Team
+-- Fecha: 2026-10-18
+-- =============================================================================
+
+CREATE TABLE tire_management.movement_log_staging (
+    id BIGSERIAL PRIMARY KEY,
+    ticket BIGINT NOT NULL,
+    license_plate VARCHAR(10) NOT NULL,
+    mileage INTEGER NOT NULL,
+    movement_log TEXT NOT NULL,
+    movement_count SMALLINT NOT NULL DEFAULT 0,
+
+    status CHAR(1) NOT NULL DEFAULT 'A',
+    error_message TEXT,
+
+    office_id UUID,
+    received_by BIGINT REFERENCES users(id),
+    received_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP WITH TIME ZONE,
+
+    CONSTRAINT uq_movement_log_staging_ticket UNIQUE (ticket),
+    CONSTRAINT chk_movement_log_staging_status CHECK (status IN ('A', 'P', 'R')),
+    CONSTRAINT chk_movement_log_staging_mileage CHECK (mileage >= 0),
+    CONSTRAINT chk_movement_log_staging_processed CHECK ((status = 'A') = (processed_at IS NULL))
+);
+
+CREATE INDEX idx_movement_log_staging_pending
+    ON tire_management.movement_log_staging (license_plate, ticket)
+    WHERE status = 'A';
+
+COMMENT ON TABLE tire_management.movement_log_staging
+    IS 'Tickets de movimientos del canal móvil pendientes o procesados (antes TMPLOGMOV)';
+COMMENT ON COLUMN tire_management.movement_log_staging.movement_log
+    IS 'String codificado @P[Origen]@P[Destino]@[LLANTA]@[GRUPO]@[PI]@[PC]@[PD]@[PRESION]@[OBS]@[TIPO];';
+COMMENT ON COLUMN tire_management.movement_log_staging.status
+    IS 'A = Activo (pendiente), P = Procesado, R = Rechazado';
@@ -0,0 +1,72 @@
+-- =============================================================================
+-- Descripción: Registro masivo de muestreos de desgaste.
+--
+--              1. duplicate_sampling_trigger pasa de FOR EACH ROW a FOR EACH
+--                 STATEMENT con tabla de transición: el histórico de un INSERT
+--                 de N muestreos se escribe con un solo INSERT ... SELECT en
+--                 lugar de N ejecuciones de la función con su consulta a
+--                 active_installations + tires. Un INSERT de una fila sigue
+--                 copiándose igual, por lo que sampling_history se mantiene
+--                 completo para cualquier escritor.
+--                 La función por fila duplicate_sampling_to_history se conserva
+--                 (sin trigger) como referencia del comportamiento anterior.
+--              2. Permiso TIRE_SAMPLING_CREATE para registrar muestreos.
+-- Versión: 3.7.0
+-- Autor: Vórtice Development Team
+-- Fecha: 2026-10-18
+-- =============================================================================
+
+DROP TRIGGER IF EXISTS duplicate_sampling_trigger ON tire_management.samplings;
+
+CREATE OR REPLACE FUNCTION tire_management.copy_new_samplings_to_history()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO tire_management.sampling_history (
+        tire_id,
+        generation,
+        sampling_date,
+        vehicle_mileage_at_sampling,
+        depth_internal_mm,
+        depth_central_mm,
+        depth_external_mm,
+        pressure_psi,
+        created_at
+    )
+    SELECT
+        ai.tire_id,
+        t.generation,
+        s.sampling_date,
+        s.vehicle_mileage_at_sampling,
+        s.depth_internal_mm,
+        s.depth_central_mm,
+        s.depth_external_mm,
+        s.pressure_psi,
+        s.created_at
+    FROM new_samplings s
+    JOIN tire_management.active_installations ai ON ai.id = s.tire_installation_id
+    JOIN tire_management.tires t ON t.id = ai.tire_id;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER duplicate_sampling_trigger
+AFTER INSERT ON tire_management.samplings
+REFERENCING NEW TABLE AS new_samplings
+FOR EACH STATEMENT
+EXECUTE FUNCTION tire_management.copy_new_samplings_to_history();
+
+-- Permiso de muestreos
+INSERT INTO permissions (name, resource, action, description, created_at) VALUES
+('TIRE_SAMPLING_CREATE', 'TIRE_SAMPLING', 'CREATE', 'Permite registrar muestreos de desgaste de llantas', CURRENT_TIMESTAMP)
+ON CONFLICT (name) DO NOTHING;
+
+INSERT INTO role_permissions (role_id, permission_id)
+SELECT r.id, p.id
+FROM roles r, permissions p
+WHERE r.name IN ('ADMIN', 'WORKSHOP_COORDINATOR', 'MECHANIC')
+  AND p.name = 'TIRE_SAMPLING_CREATE'
+ON CONFLICT DO NOTHING;
+
+COMMENT ON FUNCTION tire_management.copy_new_samplings_to_history()
+    IS 'Copia al histórico todos los muestreos insertados por una sentencia (trigger por sentencia)';
@@ -0,0 +1,85 @@
+-- =============================================================================
+-- Descripción: Refresco incremental por demanda de mv_useful_life.
+--
+--              1. projection_refresh_state: una fila por proyección con la marca
+--                 de "sucia" (dirty_since) y los datos del último refresco.
+--              2. Triggers por sentencia sobre las tablas de las que lee la vista
+--                 marcan la proyección como sucia. Solo escriben cuando la marca
+--                 está vacía: mientras la proyección siga sucia los escritores no
+--                 tocan la fila y no compiten por su bloqueo.
+--              3. Permiso TIRE_USEFUL_LIFE_VIEW para la consulta de vida útil.
+--
+--              El refresco (REFRESH ... CONCURRENTLY) lo ejecuta el backend solo
+--              si la proyección está sucia, con un advisory lock para que un único
+--              nodo refresque a la vez.
+-- Versión: 3.8.0
+-- Autor: Vórtice Development Team
+-- Fecha: 2026-10-18
+-- =============================================================================
+
+CREATE TABLE tire_management.projection_refresh_state (
+    projection_name VARCHAR(63) PRIMARY KEY,
+    dirty_since TIMESTAMP WITH TIME ZONE,
+    refresh_started_at TIMESTAMP WITH TIME ZONE,
+    refreshed_at TIMESTAMP WITH TIME ZONE,
+    last_duration_ms INTEGER,
+    refresh_count BIGINT NOT NULL DEFAULT 0
+);
+
+-- La vista se creó con datos en V2.0.0; se marca sucia para el primer refresco
+INSERT INTO tire_management.projection_refresh_state (projection_name, dirty_since)
+VALUES ('mv_useful_life', CURRENT_TIMESTAMP);
+
+CREATE OR REPLACE FUNCTION tire_management.mark_useful_life_dirty()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE tire_management.projection_refresh_state
+    SET dirty_since = CURRENT_TIMESTAMP
+    WHERE projection_name = 'mv_useful_life'
+      AND dirty_since IS NULL;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER useful_life_dirty_samplings
+AFTER INSERT OR UPDATE OR DELETE ON tire_management.samplings
+FOR EACH STATEMENT EXECUTE FUNCTION tire_management.mark_useful_life_dirty();
+
+CREATE TRIGGER useful_life_dirty_installations
+AFTER INSERT OR UPDATE OR DELETE ON tire_management.active_installations
+FOR EACH STATEMENT EXECUTE FUNCTION tire_management.mark_useful_life_dirty();
+
+CREATE TRIGGER useful_life_dirty_accumulated_mileage
+AFTER INSERT OR UPDATE OR DELETE ON tire_management.accumulated_mileage
+FOR EACH STATEMENT EXECUTE FUNCTION tire_management.mark_useful_life_dirty();
+
+CREATE TRIGGER useful_life_dirty_tires
+AFTER UPDATE OF tire_number, generation, technical_specification_id ON tire_management.tires
+FOR EACH STATEMENT EXECUTE FUNCTION tire_management.mark_useful_life_dirty();
+
+CREATE TRIGGER useful_life_dirty_specifications
+AFTER UPDATE OF expected_mileage, initial_depth_internal_mm, initial_depth_central_mm, initial_depth_external_mm
+ON tire_management.technical_specifications
+FOR EACH STATEMENT EXECUTE FUNCTION tire_management.mark_useful_life_dirty();
+
+CREATE TRIGGER useful_life_dirty_vehicles
+AFTER UPDATE OF license_plate, current_mileage, deleted_at ON shared.vehicles
+FOR EACH STATEMENT EXECUTE FUNCTION tire_management.mark_useful_life_dirty();
+
+-- Permiso de consulta de vida útil
+INSERT INTO permissions (name, resource, action, description, created_at) VALUES
+('TIRE_USEFUL_LIFE_VIEW', 'TIRE_USEFUL_LIFE', 'VIEW', 'Permite consultar la vida útil de las llantas montadas', CURRENT_TIMESTAMP)
+ON CONFLICT (name) DO NOTHING;
+
+INSERT INTO role_permissions (role_id, permission_id)
+SELECT r.id, p.id
+FROM roles r, permissions p
+WHERE r.name IN ('ADMIN', 'WORKSHOP_COORDINATOR', 'MECHANIC', 'MANAGER')
+  AND p.name = 'TIRE_USEFUL_LIFE_VIEW'
+ON CONFLICT DO NOTHING;
+
+COMMENT ON TABLE tire_management.projection_refresh_state
+    IS 'Estado de refresco de las vistas materializadas: sucia desde dirty_since, último refresco en refreshed_at';
+COMMENT ON COLUMN tire_management.projection_refresh_state.refreshed_at
+    IS 'Inicio del último refresco completado: la proyección incluye todo lo confirmado antes de este instante';
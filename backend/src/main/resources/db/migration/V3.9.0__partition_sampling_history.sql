@@ -0,0 +1,66 @@
+-- =============================================================================
+-- Descripción: Particionamiento de sampling_history por created_at.
+--
+--              sampling_history es append-only y crece con cada muestreo; se
+--              particiona por rango de created_at igual que history_records para
+--              que el mantenimiento de particiones (creación mensual anticipada y
+--              archivo de las antiguas) trate ambas tablas de la misma forma.
+--              Se crean las particiones anuales 2024-2026 y DEFAULT; las
+--              mensuales siguientes las crea el backend.
+--
+--              La clave primaria pasa a (id, created_at): la clave de partición
+--              debe formar parte de las restricciones únicas.
+-- Versión: 3.9.0
+-- Autor: Vórtice Development Team
+-- Fecha: 2026-10-18
+-- =============================================================================
+
+ALTER TABLE tire_management.sampling_history RENAME TO sampling_history_unpartitioned;
+ALTER TABLE tire_management.sampling_history_unpartitioned
+    RENAME CONSTRAINT sampling_history_pkey TO sampling_history_unpartitioned_pkey;
+
+CREATE TABLE tire_management.sampling_history (
+    id BIGINT NOT NULL DEFAULT nextval('tire_management.sampling_history_id_seq'),
+    tire_id UUID NOT NULL REFERENCES tire_management.tires(id),
+    generation CHAR(3) NOT NULL,
+
+    sampling_date DATE NOT NULL,
+    vehicle_mileage_at_sampling INTEGER NOT NULL,
+
+    depth_internal_mm NUMERIC(4,1) NOT NULL,
+    depth_central_mm NUMERIC(4,1) NOT NULL,
+    depth_external_mm NUMERIC(4,1) NOT NULL,
+
+    pressure_psi INTEGER NOT NULL,
+
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE tire_management.sampling_history_2024 PARTITION OF tire_management.sampling_history
+FOR VALUES FROM ('2024-01-01') TO ('2025-01-01');
+
+CREATE TABLE tire_management.sampling_history_2025 PARTITION OF tire_management.sampling_history
+FOR VALUES FROM ('2025-01-01') TO ('2026-01-01');
+
+CREATE TABLE tire_management.sampling_history_2026 PARTITION OF tire_management.sampling_history
+FOR VALUES FROM ('2026-01-01') TO ('2027-01-01');
+
+CREATE TABLE tire_management.sampling_history_default PARTITION OF tire_management.sampling_history
+DEFAULT;
+
+INSERT INTO tire_management.sampling_history
+SELECT * FROM tire_management.sampling_history_unpartitioned;
+
+ALTER SEQUENCE tire_management.sampling_history_id_seq OWNED BY tire_management.sampling_history.id;
+
+DROP TABLE tire_management.sampling_history_unpartitioned;
+
+-- Índices: sampling_history (se crean en cada partición)
+CREATE INDEX idx_sampling_history_tire_gen ON tire_management.sampling_history(tire_id, generation);
+CREATE INDEX idx_sampling_history_date ON tire_management.sampling_history(sampling_date DESC);
+CREATE INDEX idx_sampling_history_tire_date ON tire_management.sampling_history(tire_id, sampling_date DESC);
+
+COMMENT ON TABLE tire_management.sampling_history
+    IS 'Histórico inmutable (append-only) de todos los muestreos, particionado por created_at';
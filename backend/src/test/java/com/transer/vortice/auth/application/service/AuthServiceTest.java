@@ -5,11 +5,14 @@ import com.transer.vortice.auth.domain.model.Role;
 import com.transer.vortice.auth.domain.model.User;
 import com.transer.vortice.auth.domain.repository.RoleRepository;
 import com.transer.vortice.auth.domain.repository.UserRepository;
+import com.transer.vortice.auth.infrastructure.login.FailedLoginResult;
 import com.transer.vortice.auth.presentation.dto.request.LoginRequest;
 import com.transer.vortice.auth.presentation.dto.request.RegisterRequest;
 import com.transer.vortice.auth.presentation.dto.response.AuthResponse;
+import com.transer.vortice.shared.infrastructure.email.EmailService;
 import com.transer.vortice.shared.infrastructure.exception.BusinessException;
 import com.transer.vortice.shared.infrastructure.exception.ValidationException;
+import com.transer.vortice.shared.infrastructure.security.jwt.JwtRevocationService;
 import com.transer.vortice.shared.infrastructure.security.jwt.JwtTokenProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,15 +21,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.Instant;
-import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -56,14 +54,20 @@ class AuthServiceTest {
     private RefreshTokenService refreshTokenService;
 
     @Mock
-    private AuthenticationManager authenticationManager;
+    private LoginActivityService loginActivityService;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private JwtRevocationService jwtRevocationService;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private EmailService emailService;
+
     @InjectMocks
     private AuthService authService;
 
@@ -72,7 +76,6 @@ class AuthServiceTest {
     private LoginRequest loginRequest;
     private RegisterRequest registerRequest;
     private RefreshToken refreshToken;
-    private Authentication authentication;
 
     @BeforeEach
     void setUp() {
@@ -110,26 +113,17 @@ class AuthServiceTest {
         refreshToken = new RefreshToken(UUID.randomUUID().toString(), testUser,
                 Instant.now().plusSeconds(604800));
         refreshToken.setId(1L);
-
-        // Crear authentication
-        authentication = new UsernamePasswordAuthenticationToken(
-                "testuser",
-                "password123",
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
-        );
     }
 
     @Test
     @DisplayName("Debe realizar login exitosamente")
     void shouldLoginSuccessfully() {
         // Given
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
         when(userRepository.findByUsernameOrEmail("testuser", "testuser"))
                 .thenReturn(Optional.of(testUser));
-        when(jwtTokenProvider.generateToken(authentication)).thenReturn("access-token");
+        when(passwordEncoder.matches("password123", testUser.getPasswordHash())).thenReturn(true);
+        when(jwtTokenProvider.generateToken(any(Authentication.class))).thenReturn("access-token");
         when(refreshTokenService.createRefreshToken(testUser)).thenReturn(refreshToken);
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         // When
         AuthResponse response = authService.login(loginRequest);
@@ -141,8 +135,9 @@ class AuthServiceTest {
         assertThat(response.getUser()).isNotNull();
         assertThat(response.getUser().getUsername()).isEqualTo("testuser");
 
-        verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).findByUsernameOrEmail("testuser", "testuser");
+        verify(loginActivityService, times(1)).recordSuccessfulLogin(testUser);
+        verify(userRepository, never()).save(any(User.class));
         verify(refreshTokenService, times(1)).createRefreshToken(testUser);
     }
 
@@ -150,10 +145,10 @@ class AuthServiceTest {
     @DisplayName("Debe lanzar excepción con credenciales inválidas")
     void shouldThrowExceptionWithInvalidCredentials() {
         // Given
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenThrow(new BadCredentialsException("Bad credentials"));
         when(userRepository.findByUsernameOrEmail(anyString(), anyString()))
                 .thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("password123", testUser.getPasswordHash())).thenReturn(false);
+        when(loginActivityService.recordFailedLogin(1L)).thenReturn(Optional.of(new FailedLoginResult(1, false)));
 
         // When & Then
         assertThatThrownBy(() -> authService.login(loginRequest))
@@ -161,8 +156,25 @@ class AuthServiceTest {
                 .hasMessageContaining("Credenciales inválidas");
 
         // Verificar que se incrementaron los intentos fallidos
-        verify(userRepository, times(1)).save(testUser);
-        assertThat(testUser.getFailedLoginAttempts()).isEqualTo(1);
+        verify(loginActivityService, times(1)).recordFailedLogin(1L);
+        verify(loginActivityService, never()).recordSuccessfulLogin(any());
+        verify(jwtRevocationService, never()).revokeAllForUser(any());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un usuario inexistente verificando igualmente una contraseña")
+    void shouldRejectUnknownUser() {
+        // Given
+        when(userRepository.findByUsernameOrEmail(anyString(), anyString())).thenReturn(Optional.empty());
+        when(passwordEncoder.encode(anyString())).thenReturn("$2a$10$dummyhash");
+
+        // When & Then
+        assertThatThrownBy(() -> authService.login(loginRequest))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Credenciales inválidas");
+
+        verify(passwordEncoder, times(1)).matches("password123", "$2a$10$dummyhash");
+        verify(loginActivityService, never()).recordFailedLogin(any());
     }
 
     @Test
@@ -170,19 +182,18 @@ class AuthServiceTest {
     void shouldLockAccountAfter5FailedAttempts() {
         // Given
         testUser.setFailedLoginAttempts(4); // Ya tiene 4 intentos fallidos
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenThrow(new BadCredentialsException("Bad credentials"));
         when(userRepository.findByUsernameOrEmail(anyString(), anyString()))
                 .thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("password123", testUser.getPasswordHash())).thenReturn(false);
+        when(loginActivityService.recordFailedLogin(1L)).thenReturn(Optional.of(new FailedLoginResult(5, true)));
 
         // When & Then
         assertThatThrownBy(() -> authService.login(loginRequest))
                 .isInstanceOf(BusinessException.class);
 
-        // Verificar que la cuenta fue bloqueada
-        verify(userRepository, times(1)).save(testUser);
-        assertThat(testUser.getFailedLoginAttempts()).isEqualTo(5);
-        assertThat(testUser.getIsLocked()).isTrue();
+        // Verificar que la cuenta fue bloqueada y sus tokens revocados
+        verify(loginActivityService, times(1)).recordFailedLogin(1L);
+        verify(jwtRevocationService, times(1)).revokeAllForUser(1L);
     }
 
     @Test
@@ -190,8 +201,6 @@ class AuthServiceTest {
     void shouldThrowExceptionWithLockedAccount() {
         // Given
         testUser.setIsLocked(true);
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
         when(userRepository.findByUsernameOrEmail("testuser", "testuser"))
                 .thenReturn(Optional.of(testUser));
 
@@ -200,6 +209,7 @@ class AuthServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("bloqueada");
 
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
         verify(jwtTokenProvider, never()).generateToken(any());
         verify(refreshTokenService, never()).createRefreshToken(any());
     }
@@ -209,15 +219,13 @@ class AuthServiceTest {
     void shouldThrowExceptionWithInactiveAccount() {
         // Given
         testUser.setIsActive(false);
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
         when(userRepository.findByUsernameOrEmail("testuser", "testuser"))
                 .thenReturn(Optional.of(testUser));
 
         // When & Then
         assertThatThrownBy(() -> authService.login(loginRequest))
                 .isInstanceOf(BusinessException.class)
-                .hasMessageContaining("inactiva");
+                .hasMessageContaining("desactivada");
 
         verify(jwtTokenProvider, never()).generateToken(any());
         verify(refreshTokenService, never()).createRefreshToken(any());
@@ -236,8 +244,6 @@ class AuthServiceTest {
             user.setId(2L);
             return user;
         });
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
         when(jwtTokenProvider.generateToken(any(Authentication.class))).thenReturn("access-token");
         when(refreshTokenService.createRefreshToken(any(User.class))).thenReturn(refreshToken);
 
@@ -296,11 +302,7 @@ class AuthServiceTest {
                 Instant.now().plusSeconds(604800));
         newRefreshToken.setId(2L);
 
-        when(refreshTokenService.findByToken(refreshTokenValue)).thenReturn(refreshToken);
-        when(refreshTokenService.verifyExpiration(refreshToken)).thenReturn(refreshToken);
-        when(refreshTokenService.rotateRefreshToken(refreshToken, testUser)).thenReturn(newRefreshToken);
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
+        when(refreshTokenService.rotateRefreshToken(refreshTokenValue)).thenReturn(newRefreshToken);
         when(jwtTokenProvider.generateToken(any(Authentication.class))).thenReturn("new-access-token");
 
         // When
@@ -312,45 +314,41 @@ class AuthServiceTest {
         assertThat(response.getRefreshToken()).isEqualTo(newRefreshToken.getToken());
         assertThat(response.getUser()).isNotNull();
 
-        verify(refreshTokenService, times(1)).findByToken(refreshTokenValue);
-        verify(refreshTokenService, times(1)).verifyExpiration(refreshToken);
-        verify(refreshTokenService, times(1)).rotateRefreshToken(refreshToken, testUser);
+        verify(refreshTokenService, times(1)).rotateRefreshToken(refreshTokenValue);
+        verify(refreshTokenService, never()).revokeToken(anyString());
     }
 
     @Test
-    @DisplayName("Debe realizar logout exitosamente")
-    void shouldLogoutSuccessfully() {
+    @DisplayName("Debe revocar el token rotado si el usuario ya no puede acceder")
+    void shouldRevokeRotatedTokenWhenUserCannotLogin() {
         // Given
+        testUser.setIsLocked(true);
         String refreshTokenValue = refreshToken.getToken();
-        doNothing().when(refreshTokenService).revokeToken(refreshTokenValue);
+        RefreshToken newRefreshToken = new RefreshToken(UUID.randomUUID().toString(), testUser,
+                Instant.now().plusSeconds(604800));
+        when(refreshTokenService.rotateRefreshToken(refreshTokenValue)).thenReturn(newRefreshToken);
 
-        // When
-        authService.logout(refreshTokenValue);
+        // When & Then
+        assertThatThrownBy(() -> authService.refreshToken(refreshTokenValue))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("no puede acceder");
 
-        // Then
-        verify(refreshTokenService, times(1)).revokeToken(refreshTokenValue);
+        verify(refreshTokenService, times(1)).revokeToken(newRefreshToken.getToken());
+        verify(jwtTokenProvider, never()).generateToken(any(Authentication.class));
     }
 
     @Test
-    @DisplayName("Debe resetear intentos fallidos después de login exitoso")
-    void shouldResetFailedAttemptsAfterSuccessfulLogin() {
+    @DisplayName("Debe realizar logout exitosamente")
+    void shouldLogoutSuccessfully() {
         // Given
-        testUser.setFailedLoginAttempts(3);
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
-        when(userRepository.findByUsernameOrEmail("testuser", "testuser"))
-                .thenReturn(Optional.of(testUser));
-        when(jwtTokenProvider.generateToken(authentication)).thenReturn("access-token");
-        when(refreshTokenService.createRefreshToken(testUser)).thenReturn(refreshToken);
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        String refreshTokenValue = refreshToken.getToken();
+        doNothing().when(refreshTokenService).revokeToken(refreshTokenValue);
 
         // When
-        authService.login(loginRequest);
+        authService.logout(refreshTokenValue);
 
         // Then
-        assertThat(testUser.getFailedLoginAttempts()).isEqualTo(0);
-        assertThat(testUser.getLastLoginAt()).isNotNull();
-        verify(userRepository, times(1)).save(testUser);
+        verify(refreshTokenService, times(1)).revokeToken(refreshTokenValue);
     }
 
     @Test
@@ -366,8 +364,6 @@ class AuthServiceTest {
             user.setId(2L);
             return user;
         });
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
         when(jwtTokenProvider.generateToken(any(Authentication.class))).thenReturn("access-token");
         when(refreshTokenService.createRefreshToken(any(User.class))).thenReturn(refreshToken);
 
@@ -401,13 +397,11 @@ class AuthServiceTest {
     void shouldHandleLoginByEmail() {
         // Given
         loginRequest.setUsernameOrEmail("test@example.com");
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
         when(userRepository.findByUsernameOrEmail("test@example.com", "test@example.com"))
                 .thenReturn(Optional.of(testUser));
-        when(jwtTokenProvider.generateToken(authentication)).thenReturn("access-token");
+        when(passwordEncoder.matches("password123", testUser.getPasswordHash())).thenReturn(true);
+        when(jwtTokenProvider.generateToken(any(Authentication.class))).thenReturn("access-token");
         when(refreshTokenService.createRefreshToken(testUser)).thenReturn(refreshToken);
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         // When
         AuthResponse response = authService.login(loginRequest);
@@ -424,13 +418,11 @@ class AuthServiceTest {
     @DisplayName("Debe incluir información del usuario en AuthResponse")
     void shouldIncludeUserInfoInAuthResponse() {
         // Given
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
         when(userRepository.findByUsernameOrEmail("testuser", "testuser"))
                 .thenReturn(Optional.of(testUser));
-        when(jwtTokenProvider.generateToken(authentication)).thenReturn("access-token");
+        when(passwordEncoder.matches("password123", testUser.getPasswordHash())).thenReturn(true);
+        when(jwtTokenProvider.generateToken(any(Authentication.class))).thenReturn("access-token");
         when(refreshTokenService.createRefreshToken(testUser)).thenReturn(refreshToken);
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         // When
         AuthResponse response = authService.login(loginRequest);
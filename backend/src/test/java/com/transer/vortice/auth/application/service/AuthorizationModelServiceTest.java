@@ -0,0 +1,94 @@
+package com.transer.vortice.auth.application.service;
+
+import com.transer.vortice.auth.domain.model.Permission;
+import com.transer.vortice.auth.domain.model.Role;
+import com.transer.vortice.auth.domain.repository.PermissionRepository;
+import com.transer.vortice.auth.domain.repository.RoleRepository;
+import com.transer.vortice.shared.infrastructure.security.AuthenticatedUser;
+import com.transer.vortice.shared.infrastructure.security.AuthorityIndex;
+import com.transer.vortice.shared.infrastructure.security.AuthoritySet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para AuthorizationModelService.
+ *
+ * @author Vórtice Development Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthorizationModelService Tests")
+class AuthorizationModelServiceTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private PermissionRepository permissionRepository;
+
+    private AuthorityIndex authorityIndex;
+    private AuthorizationModelService authorizationModelService;
+    private Permission tireView;
+    private Permission tireEdit;
+
+    @BeforeEach
+    void setUp() {
+        authorityIndex = new AuthorityIndex();
+        authorizationModelService = new AuthorizationModelService(roleRepository, permissionRepository, authorityIndex);
+        tireView = new Permission("TIRE_VIEW", "tire", "view");
+        tireEdit = new Permission("TIRE_EDIT", "tire", "edit");
+        when(permissionRepository.findAll()).thenReturn(List.of(tireView, tireEdit));
+    }
+
+    @Test
+    @DisplayName("Debe instalar los permisos de cada rol en el índice")
+    void shouldInstallRolePermissions() {
+        // Given
+        Role user = new Role("USER", "Usuario", false);
+        user.addPermission(tireView);
+        when(roleRepository.findAllWithPermissions()).thenReturn(List.of(user));
+
+        // When
+        int size = authorizationModelService.refresh();
+
+        // Then
+        AuthoritySet authorities = authorityIndex.authoritiesOf(principal("ROLE_USER"));
+        assertThat(size).isEqualTo(3);
+        assertThat(authorityIndex.isModelLoaded()).isTrue();
+        assertThat(authorities.hasAuthority("TIRE_VIEW")).isTrue();
+        assertThat(authorities.hasAuthority("TIRE_EDIT")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe aplicar en la siguiente recarga un permiso agregado a un rol")
+    void shouldApplyPermissionAddedOnRefresh() {
+        // Given
+        Role user = new Role("USER", "Usuario", false);
+        user.addPermission(tireView);
+        when(roleRepository.findAllWithPermissions()).thenReturn(List.of(user));
+        authorizationModelService.refresh();
+        AuthenticatedUser principal = principal("ROLE_USER", "TIRE_VIEW");
+
+        // When
+        user.addPermission(tireEdit);
+        authorizationModelService.refresh();
+
+        // Then
+        assertThat(authorityIndex.authoritiesOf(principal).hasAuthority("TIRE_EDIT")).isTrue();
+    }
+
+    private AuthenticatedUser principal(String... authorities) {
+        return AuthenticatedUser.fromToken(1L, "user", null,
+                Arrays.stream(authorities).map(SimpleGrantedAuthority::new).toList(), "jti", null);
+    }
+}
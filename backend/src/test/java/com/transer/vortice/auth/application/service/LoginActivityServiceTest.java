@@ -0,0 +1,142 @@
+package com.transer.vortice.auth.application.service;
+
+import com.transer.vortice.auth.domain.model.User;
+import com.transer.vortice.auth.infrastructure.login.FailedLoginResult;
+import com.transer.vortice.auth.infrastructure.login.LoginAttemptRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para LoginActivityService.
+ * Usa Mockito para simular dependencias.
+ *
+ * @author Vórtice Development Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginActivityService Tests")
+class LoginActivityServiceTest {
+
+    @Mock
+    private LoginAttemptRepository loginAttemptRepository;
+
+    @InjectMocks
+    private LoginActivityService loginActivityService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = user(1L);
+    }
+
+    @Test
+    @DisplayName("Debe resetear intentos fallidos después de login exitoso")
+    void shouldResetFailedAttemptsAfterSuccessfulLogin() {
+        // Given
+        testUser.setFailedLoginAttempts(3);
+
+        // When
+        loginActivityService.recordSuccessfulLogin(testUser);
+
+        // Then
+        assertThat(testUser.getFailedLoginAttempts()).isEqualTo(0);
+        assertThat(testUser.getLastLoginAt()).isNotNull();
+        verify(loginAttemptRepository, times(1)).resetFailedAttempts(1L);
+    }
+
+    @Test
+    @DisplayName("No debe escribir en la base de datos durante un login exitoso sin intentos fallidos")
+    void shouldNotWriteOnSuccessfulLoginWithoutFailedAttempts() {
+        // When
+        loginActivityService.recordSuccessfulLogin(testUser);
+
+        // Then
+        assertThat(testUser.getLastLoginAt()).isNotNull();
+        verifyNoInteractions(loginAttemptRepository);
+    }
+
+    @Test
+    @DisplayName("Debe escribir en un lote el último login de cada usuario")
+    @SuppressWarnings("unchecked")
+    void shouldFlushLatestLoginPerUser() {
+        // Given
+        User otherUser = user(2L);
+        loginActivityService.recordSuccessfulLogin(testUser);
+        loginActivityService.recordSuccessfulLogin(otherUser);
+        loginActivityService.recordSuccessfulLogin(testUser);
+        Instant latest = testUser.getLastLoginAt();
+
+        // When
+        int flushed = loginActivityService.flush();
+
+        // Then
+        assertThat(flushed).isEqualTo(2);
+        ArgumentCaptor<Map<Long, Instant>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(loginAttemptRepository, times(1)).updateLastLogin(captor.capture());
+        assertThat(captor.getValue())
+                .containsEntry(1L, latest)
+                .containsEntry(2L, otherUser.getLastLoginAt());
+
+        // Nada pendiente tras el lote
+        assertThat(loginActivityService.flush()).isZero();
+        verify(loginAttemptRepository, times(1)).updateLastLogin(anyMap());
+    }
+
+    @Test
+    @DisplayName("Debe conservar los logins pendientes si la escritura falla")
+    void shouldKeepPendingLoginsWhenFlushFails() {
+        // Given
+        loginActivityService.recordSuccessfulLogin(testUser);
+        when(loginAttemptRepository.updateLastLogin(anyMap()))
+                .thenThrow(new DataAccessResourceFailureException("Sin conexión"))
+                .thenReturn(1);
+
+        // When
+        int failed = loginActivityService.flush();
+        int retried = loginActivityService.flush();
+
+        // Then
+        assertThat(failed).isZero();
+        assertThat(retried).isEqualTo(1);
+        verify(loginAttemptRepository, times(2)).updateLastLogin(Map.of(1L, testUser.getLastLoginAt()));
+    }
+
+    @Test
+    @DisplayName("Debe registrar el intento fallido con el máximo de intentos del usuario")
+    void shouldRecordFailedLoginWithMaxAttempts() {
+        // Given
+        when(loginAttemptRepository.recordFailedAttempt(anyLong(), anyInt()))
+                .thenReturn(Optional.of(new FailedLoginResult(5, true)));
+
+        // When
+        Optional<FailedLoginResult> result = loginActivityService.recordFailedLogin(1L);
+
+        // Then
+        assertThat(result).contains(new FailedLoginResult(5, true));
+        verify(loginAttemptRepository).recordFailedAttempt(1L, User.MAX_FAILED_LOGIN_ATTEMPTS);
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user" + id);
+        user.setFailedLoginAttempts(0);
+        return user;
+    }
+}
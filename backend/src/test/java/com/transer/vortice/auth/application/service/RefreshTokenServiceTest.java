@@ -2,18 +2,21 @@ package com.transer.vortice.auth.application.service;
 
 import com.transer.vortice.auth.domain.model.RefreshToken;
 import com.transer.vortice.auth.domain.model.User;
-import com.transer.vortice.auth.domain.repository.RefreshTokenRepository;
+import com.transer.vortice.auth.domain.repository.UserRepository;
+import com.transer.vortice.auth.infrastructure.token.RefreshTokenStore;
+import com.transer.vortice.auth.infrastructure.token.StoredRefreshToken;
+import com.transer.vortice.shared.infrastructure.config.RefreshTokenProperties;
 import com.transer.vortice.shared.infrastructure.exception.BusinessException;
 import com.transer.vortice.shared.infrastructure.exception.NotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Instant;
 import java.util.Optional;
@@ -21,8 +24,11 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -36,20 +42,27 @@ import static org.mockito.Mockito.*;
 class RefreshTokenServiceTest {
 
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private UserRepository userRepository;
 
-    @InjectMocks
     private RefreshTokenService refreshTokenService;
+    private RefreshTokenProperties properties;
+    private MeterRegistry meterRegistry;
 
     private User testUser;
-    private RefreshToken testToken;
     private String tokenValue;
-    private final Long REFRESH_TOKEN_EXPIRATION_MS = 604800000L; // 7 días
+    private UUID familyId;
+    private final long REFRESH_TOKEN_EXPIRATION_MS = 604800000L; // 7 días
 
     @BeforeEach
     void setUp() {
-        // Configurar valor de expiración usando ReflectionTestUtils
-        ReflectionTestUtils.setField(refreshTokenService, "refreshTokenExpirationMs", REFRESH_TOKEN_EXPIRATION_MS);
+        properties = new RefreshTokenProperties();
+        properties.setCleanupPauseMs(0);
+        meterRegistry = new SimpleMeterRegistry();
+        refreshTokenService = new RefreshTokenService(refreshTokenStore, userRepository, properties,
+                meterRegistry, REFRESH_TOKEN_EXPIRATION_MS);
 
         // Crear usuario de prueba
         testUser = new User();
@@ -62,301 +75,242 @@ class RefreshTokenServiceTest {
         testUser.setIsActive(true);
         testUser.setIsLocked(false);
 
-        // Crear refresh token de prueba
         tokenValue = UUID.randomUUID().toString();
-        Instant expiresAt = Instant.now().plusMillis(REFRESH_TOKEN_EXPIRATION_MS);
-        testToken = new RefreshToken(tokenValue, testUser, expiresAt);
-        testToken.setId(1L);
+        familyId = UUID.randomUUID();
     }
 
+    // =====================================================
+    // TESTS: Creación
+    // =====================================================
+
     @Test
-    @DisplayName("Debe crear refresh token exitosamente")
+    @DisplayName("Debe crear refresh token guardando solo su hash")
     void shouldCreateRefreshToken() {
         // Given
-        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
-            RefreshToken token = invocation.getArgument(0);
-            token.setId(1L);
-            return token;
-        });
+        when(refreshTokenStore.insert(any(byte[].class), eq(1L), any(UUID.class), any(Instant.class)))
+                .thenAnswer(invocation -> new StoredRefreshToken(1L, 1L, invocation.getArgument(2),
+                        invocation.getArgument(3), false));
 
         // When
         RefreshToken createdToken = refreshTokenService.createRefreshToken(testUser);
 
         // Then
-        assertThat(createdToken).isNotNull();
         assertThat(createdToken.getUser()).isEqualTo(testUser);
         assertThat(createdToken.getToken()).isNotNull();
-        assertThat(createdToken.getExpiresAt()).isAfter(Instant.now());
+        assertThat(createdToken.getFamilyId()).isNotNull();
         assertThat(createdToken.getRevoked()).isFalse();
 
         // Verificar que el token expira aproximadamente en 7 días
         long expirationDiff = createdToken.getExpiresAt().toEpochMilli() - Instant.now().toEpochMilli();
         assertThat(expirationDiff).isBetween(REFRESH_TOKEN_EXPIRATION_MS - 1000, REFRESH_TOKEN_EXPIRATION_MS + 1000);
 
-        verify(refreshTokenRepository, times(1)).save(any(RefreshToken.class));
+        verify(refreshTokenStore, times(1)).insert(aryEq(RefreshTokenService.hash(createdToken.getToken())),
+                eq(1L), eq(createdToken.getFamilyId()), eq(createdToken.getExpiresAt()));
+    }
+
+    @Test
+    @DisplayName("Debe generar valor y familia únicos para cada login")
+    void shouldGenerateUniqueValueAndFamilyForEachToken() {
+        // Given
+        when(refreshTokenStore.insert(any(byte[].class), anyLong(), any(UUID.class), any(Instant.class)))
+                .thenAnswer(invocation -> new StoredRefreshToken(1L, 1L, invocation.getArgument(2),
+                        invocation.getArgument(3), false));
+
+        // When
+        RefreshToken token1 = refreshTokenService.createRefreshToken(testUser);
+        RefreshToken token2 = refreshTokenService.createRefreshToken(testUser);
+
+        // Then
+        assertThat(token1.getToken()).isNotEqualTo(token2.getToken());
+        assertThat(token1.getFamilyId()).isNotEqualTo(token2.getFamilyId());
     }
 
     @Test
-    @DisplayName("Debe encontrar token por su valor")
-    void shouldFindTokenByValue() {
+    @DisplayName("Debe calcular un hash SHA-256 de 32 bytes y determinista")
+    void shouldHashTokenWithSha256() {
+        assertThat(RefreshTokenService.hash(tokenValue)).hasSize(32);
+        assertThat(RefreshTokenService.hash(tokenValue)).isEqualTo(RefreshTokenService.hash(tokenValue));
+        assertThat(RefreshTokenService.hash(tokenValue)).isNotEqualTo(RefreshTokenService.hash(tokenValue + "x"));
+    }
+
+    // =====================================================
+    // TESTS: Rotación
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe rotar refresh token en la misma familia")
+    void shouldRotateRefreshToken() {
         // Given
-        when(refreshTokenRepository.findByToken(tokenValue)).thenReturn(Optional.of(testToken));
+        when(refreshTokenStore.rotate(aryEq(RefreshTokenService.hash(tokenValue)), any(byte[].class), any(Instant.class)))
+                .thenAnswer(invocation -> Optional.of(new StoredRefreshToken(2L, 1L, familyId,
+                        invocation.getArgument(2), false)));
+        when(userRepository.findWithPermissionsById(1L)).thenReturn(Optional.of(testUser));
 
         // When
-        RefreshToken found = refreshTokenService.findByToken(tokenValue);
+        RefreshToken rotatedToken = refreshTokenService.rotateRefreshToken(tokenValue);
 
         // Then
-        assertThat(found).isNotNull();
-        assertThat(found).isEqualTo(testToken);
-        verify(refreshTokenRepository, times(1)).findByToken(tokenValue);
+        assertThat(rotatedToken.getId()).isEqualTo(2L);
+        assertThat(rotatedToken.getUser()).isEqualTo(testUser);
+        assertThat(rotatedToken.getFamilyId()).isEqualTo(familyId);
+        assertThat(rotatedToken.getToken()).isNotEqualTo(tokenValue);
+
+        ArgumentCaptor<byte[]> newHash = ArgumentCaptor.forClass(byte[].class);
+        verify(refreshTokenStore).rotate(any(byte[].class), newHash.capture(), any(Instant.class));
+        assertThat(newHash.getValue()).isEqualTo(RefreshTokenService.hash(rotatedToken.getToken()));
+        verify(refreshTokenStore, never()).findByHash(any(byte[].class));
     }
 
     @Test
     @DisplayName("Debe lanzar excepción cuando token no existe")
     void shouldThrowExceptionWhenTokenNotFound() {
         // Given
-        when(refreshTokenRepository.findByToken(anyString())).thenReturn(Optional.empty());
+        when(refreshTokenStore.rotate(any(byte[].class), any(byte[].class), any(Instant.class)))
+                .thenReturn(Optional.empty());
+        when(refreshTokenStore.findByHash(any(byte[].class))).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> refreshTokenService.findByToken("nonexistent-token"))
+        assertThatThrownBy(() -> refreshTokenService.rotateRefreshToken("nonexistent-token"))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("Refresh token no encontrado");
 
-        verify(refreshTokenRepository, times(1)).findByToken("nonexistent-token");
+        verify(refreshTokenStore, never()).revokeFamily(any(UUID.class));
     }
 
     @Test
-    @DisplayName("Debe verificar token válido sin errores")
-    void shouldVerifyValidToken() {
-        // When
-        RefreshToken verified = refreshTokenService.verifyExpiration(testToken);
+    @DisplayName("Debe lanzar excepción para token expirado sin revocar la familia")
+    void shouldThrowExceptionForExpiredToken() {
+        // Given
+        when(refreshTokenStore.rotate(any(byte[].class), any(byte[].class), any(Instant.class)))
+                .thenReturn(Optional.empty());
+        when(refreshTokenStore.findByHash(aryEq(RefreshTokenService.hash(tokenValue))))
+                .thenReturn(Optional.of(new StoredRefreshToken(1L, 1L, familyId,
+                        Instant.now().minusSeconds(3600), false)));
 
-        // Then
-        assertThat(verified).isNotNull();
-        assertThat(verified).isEqualTo(testToken);
-        verifyNoInteractions(refreshTokenRepository); // No se debe llamar al repositorio para token válido
+        // When & Then
+        assertThatThrownBy(() -> refreshTokenService.rotateRefreshToken(tokenValue))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("expirado");
+
+        verify(refreshTokenStore, never()).revokeFamily(any(UUID.class));
     }
 
     @Test
-    @DisplayName("Debe lanzar excepción para token revocado")
-    void shouldThrowExceptionForRevokedToken() {
+    @DisplayName("Debe revocar la familia al presentar un token ya revocado")
+    void shouldRevokeFamilyWhenRevokedTokenIsReused() {
         // Given
-        testToken.revoke();
+        when(refreshTokenStore.rotate(any(byte[].class), any(byte[].class), any(Instant.class)))
+                .thenReturn(Optional.empty());
+        when(refreshTokenStore.findByHash(any(byte[].class)))
+                .thenReturn(Optional.of(new StoredRefreshToken(1L, 1L, familyId,
+                        Instant.now().plusSeconds(3600), true)));
+        when(refreshTokenStore.revokeFamily(familyId)).thenReturn(1);
 
         // When & Then
-        assertThatThrownBy(() -> refreshTokenService.verifyExpiration(testToken))
+        assertThatThrownBy(() -> refreshTokenService.rotateRefreshToken(tokenValue))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("revocado");
 
-        verifyNoInteractions(refreshTokenRepository);
+        verify(refreshTokenStore, times(1)).revokeFamily(familyId);
+        assertThat(meterRegistry.get("vortice.auth.refresh.reuse").counter().count()).isEqualTo(1);
     }
 
     @Test
-    @DisplayName("Debe lanzar excepción y eliminar token expirado")
-    void shouldThrowExceptionAndDeleteExpiredToken() {
-        // Given - token expirado
-        RefreshToken expiredToken = new RefreshToken(tokenValue, testUser, Instant.now().minusSeconds(3600));
-        expiredToken.setId(2L);
+    @DisplayName("Debe detectar en memoria la reutilización de un token ya rotado")
+    void shouldDetectReuseOfRotatedTokenInMemory() {
+        // Given
+        when(refreshTokenStore.rotate(any(byte[].class), any(byte[].class), any(Instant.class)))
+                .thenAnswer(invocation -> Optional.of(new StoredRefreshToken(2L, 1L, familyId,
+                        invocation.getArgument(2), false)));
+        when(userRepository.findWithPermissionsById(1L)).thenReturn(Optional.of(testUser));
+        refreshTokenService.rotateRefreshToken(tokenValue);
 
         // When & Then
-        assertThatThrownBy(() -> refreshTokenService.verifyExpiration(expiredToken))
+        assertThatThrownBy(() -> refreshTokenService.rotateRefreshToken(tokenValue))
                 .isInstanceOf(BusinessException.class)
-                .hasMessageContaining("expirado");
+                .hasMessageContaining("revocado");
 
-        verify(refreshTokenRepository, times(1)).delete(expiredToken);
+        verify(refreshTokenStore, times(1)).rotate(any(byte[].class), any(byte[].class), any(Instant.class));
+        verify(refreshTokenStore, never()).findByHash(any(byte[].class));
+        verify(refreshTokenStore, times(1)).revokeFamily(familyId);
     }
 
+    // =====================================================
+    // TESTS: Revocación
+    // =====================================================
+
     @Test
-    @DisplayName("Debe revocar token exitosamente")
+    @DisplayName("Debe revocar token por su hash")
     void shouldRevokeToken() {
         // Given
-        when(refreshTokenRepository.findByToken(tokenValue)).thenReturn(Optional.of(testToken));
-        when(refreshTokenRepository.save(any(RefreshToken.class))).thenReturn(testToken);
+        when(refreshTokenStore.revoke(any(byte[].class))).thenReturn(1);
 
         // When
         refreshTokenService.revokeToken(tokenValue);
 
         // Then
-        ArgumentCaptor<RefreshToken> tokenCaptor = ArgumentCaptor.forClass(RefreshToken.class);
-        verify(refreshTokenRepository, times(1)).save(tokenCaptor.capture());
-
-        RefreshToken revokedToken = tokenCaptor.getValue();
-        assertThat(revokedToken.getRevoked()).isTrue();
-        assertThat(revokedToken.getRevokedAt()).isNotNull();
+        verify(refreshTokenStore, times(1)).revoke(aryEq(RefreshTokenService.hash(tokenValue)));
     }
 
     @Test
     @DisplayName("No debe fallar al revocar token inexistente")
     void shouldNotFailWhenRevokingNonexistentToken() {
         // Given
-        when(refreshTokenRepository.findByToken(anyString())).thenReturn(Optional.empty());
+        when(refreshTokenStore.revoke(any(byte[].class))).thenReturn(0);
 
         // When - no debe lanzar excepción
         refreshTokenService.revokeToken("nonexistent-token");
 
         // Then
-        verify(refreshTokenRepository, times(1)).findByToken("nonexistent-token");
-        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+        verify(refreshTokenStore, times(1)).revoke(any(byte[].class));
     }
 
     @Test
     @DisplayName("Debe revocar todos los tokens de un usuario")
     void shouldRevokeAllUserTokens() {
         // Given
-        when(refreshTokenRepository.revokeAllUserTokens(eq(testUser), any(Instant.class))).thenReturn(3);
+        when(refreshTokenStore.revokeAllForUser(1L)).thenReturn(3);
 
         // When
         refreshTokenService.revokeAllUserTokens(testUser);
 
         // Then
-        verify(refreshTokenRepository, times(1)).revokeAllUserTokens(eq(testUser), any(Instant.class));
+        verify(refreshTokenStore, times(1)).revokeAllForUser(1L);
     }
 
-    @Test
-    @DisplayName("Debe rotar refresh token exitosamente")
-    void shouldRotateRefreshToken() {
-        // Given
-        RefreshToken newToken = new RefreshToken(UUID.randomUUID().toString(), testUser,
-                Instant.now().plusMillis(REFRESH_TOKEN_EXPIRATION_MS));
-        newToken.setId(2L);
-
-        when(refreshTokenRepository.save(any(RefreshToken.class)))
-                .thenAnswer(invocation -> {
-                    RefreshToken token = invocation.getArgument(0);
-                    if (token.getId() == null) {
-                        token.setId(2L);
-                    }
-                    return token;
-                });
-
-        // When
-        RefreshToken rotatedToken = refreshTokenService.rotateRefreshToken(testToken, testUser);
-
-        // Then
-        assertThat(rotatedToken).isNotNull();
-        assertThat(rotatedToken.getUser()).isEqualTo(testUser);
-        assertThat(rotatedToken.getToken()).isNotEqualTo(tokenValue);
-        assertThat(rotatedToken.getRevoked()).isFalse();
-
-        // Verificar que el token viejo fue revocado
-        assertThat(testToken.getRevoked()).isTrue();
-        assertThat(testToken.getRevokedAt()).isNotNull();
-        assertThat(testToken.getReplacedByToken()).isEqualTo(rotatedToken.getToken());
-
-        verify(refreshTokenRepository, times(2)).save(any(RefreshToken.class));
-    }
+    // =====================================================
+    // TESTS: Limpieza
+    // =====================================================
 
     @Test
-    @DisplayName("Debe limpiar tokens expirados")
-    void shouldCleanupExpiredTokens() {
+    @DisplayName("Debe limpiar tokens expirados por bloques hasta vaciar")
+    void shouldCleanupExpiredTokensInChunks() {
         // Given
-        when(refreshTokenRepository.deleteExpiredTokens(any(Instant.class))).thenReturn(5);
+        properties.setCleanupChunkSize(100);
+        when(refreshTokenStore.deleteExpired(any(Instant.class), eq(100))).thenReturn(100, 100, 5);
 
         // When
-        refreshTokenService.cleanupExpiredTokens();
-
-        // Then
-        verify(refreshTokenRepository, times(1)).deleteExpiredTokens(any(Instant.class));
-    }
-
-    @Test
-    @DisplayName("Debe generar UUID único para cada token")
-    void shouldGenerateUniqueUUIDForEachToken() {
-        // Given
-        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
-            RefreshToken token = invocation.getArgument(0);
-            token.setId(token.getId() != null ? token.getId() : 1L);
-            return token;
-        });
-
-        // When
-        RefreshToken token1 = refreshTokenService.createRefreshToken(testUser);
-        RefreshToken token2 = refreshTokenService.createRefreshToken(testUser);
-        RefreshToken token3 = refreshTokenService.createRefreshToken(testUser);
+        int deleted = refreshTokenService.cleanupExpiredTokens();
 
         // Then
-        assertThat(token1.getToken()).isNotEqualTo(token2.getToken());
-        assertThat(token1.getToken()).isNotEqualTo(token3.getToken());
-        assertThat(token2.getToken()).isNotEqualTo(token3.getToken());
-
-        verify(refreshTokenRepository, times(3)).save(any(RefreshToken.class));
+        assertThat(deleted).isEqualTo(205);
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(refreshTokenStore, times(3)).deleteExpired(cutoff.capture(), eq(100));
+        assertThat(cutoff.getAllValues()).containsOnly(cutoff.getValue());
+        assertThat(cutoff.getValue()).isBeforeOrEqualTo(Instant.now());
     }
 
     @Test
-    @DisplayName("Debe crear token con fecha de expiración correcta")
-    void shouldCreateTokenWithCorrectExpirationDate() {
+    @DisplayName("Debe terminar la limpieza con un bloque incompleto")
+    void shouldStopCleanupWhenChunkIsNotFull() {
         // Given
-        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
-        Instant beforeCreation = Instant.now();
+        when(refreshTokenStore.deleteExpired(any(Instant.class), anyInt())).thenReturn(0);
 
         // When
-        RefreshToken token = refreshTokenService.createRefreshToken(testUser);
+        int deleted = refreshTokenService.cleanupExpiredTokens();
 
         // Then
-        Instant expectedExpiration = beforeCreation.plusMillis(REFRESH_TOKEN_EXPIRATION_MS);
-        long timeDiff = Math.abs(token.getExpiresAt().toEpochMilli() - expectedExpiration.toEpochMilli());
-
-        assertThat(timeDiff).isLessThan(1000); // Diferencia menor a 1 segundo
-    }
-
-    @Test
-    @DisplayName("Debe manejar múltiples usuarios independientemente")
-    void shouldHandleMultipleUsersIndependently() {
-        // Given
-        User anotherUser = new User();
-        anotherUser.setId(2L);
-        anotherUser.setUsername("anotheruser");
-        anotherUser.setEmail("another@example.com");
-
-        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
-            RefreshToken token = invocation.getArgument(0);
-            token.setId(token.getUser().getId());
-            return token;
-        });
-
-        // When
-        RefreshToken token1 = refreshTokenService.createRefreshToken(testUser);
-        RefreshToken token2 = refreshTokenService.createRefreshToken(anotherUser);
-
-        // Then
-        assertThat(token1.getUser()).isEqualTo(testUser);
-        assertThat(token2.getUser()).isEqualTo(anotherUser);
-        assertThat(token1.getToken()).isNotEqualTo(token2.getToken());
-
-        verify(refreshTokenRepository, times(2)).save(any(RefreshToken.class));
-    }
-
-    @Test
-    @DisplayName("Debe verificar que token no expirado pasa validación")
-    void shouldVerifyNonExpiredTokenPassesValidation() {
-        // Given - token con 7 días de validez
-        RefreshToken validToken = new RefreshToken(UUID.randomUUID().toString(), testUser,
-                Instant.now().plusSeconds(604800));
-
-        // When
-        RefreshToken verified = refreshTokenService.verifyExpiration(validToken);
-
-        // Then
-        assertThat(verified).isNotNull();
-        assertThat(verified.isExpired()).isFalse();
-        assertThat(verified.getRevoked()).isFalse();
-    }
-
-    @Test
-    @DisplayName("Debe verificar que cleanup no elimina tokens válidos")
-    void shouldVerifyCleanupDoesNotDeleteValidTokens() {
-        // Given - simular que no se eliminó ningún token válido
-        when(refreshTokenRepository.deleteExpiredTokens(any(Instant.class))).thenReturn(0);
-
-        // When
-        refreshTokenService.cleanupExpiredTokens();
-
-        // Then
-        ArgumentCaptor<Instant> instantCaptor = ArgumentCaptor.forClass(Instant.class);
-        verify(refreshTokenRepository, times(1)).deleteExpiredTokens(instantCaptor.capture());
-
-        Instant deletionTime = instantCaptor.getValue();
-        assertThat(deletionTime).isBeforeOrEqualTo(Instant.now());
+        assertThat(deleted).isZero();
+        verify(refreshTokenStore, times(1)).deleteExpired(any(Instant.class), anyInt());
     }
 }
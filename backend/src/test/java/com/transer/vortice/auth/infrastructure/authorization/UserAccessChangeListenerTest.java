@@ -0,0 +1,110 @@
+package com.transer.vortice.auth.infrastructure.authorization;
+
+import com.transer.vortice.auth.domain.model.Role;
+import com.transer.vortice.auth.domain.model.User;
+import com.transer.vortice.shared.infrastructure.security.jwt.JwtRevocationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios del seguimiento de cambios de acceso de {@link User} y de la
+ * revocación de tokens que hace {@link UserAccessChangeListener} al guardarlo.
+ *
+ * @author Vórtice Development Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserAccessChangeListener Tests")
+class UserAccessChangeListenerTest {
+
+    @Mock
+    private ObjectProvider<JwtRevocationService> jwtRevocationServiceProvider;
+
+    @Mock
+    private JwtRevocationService jwtRevocationService;
+
+    private UserAccessChangeListener listener;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        listener = new UserAccessChangeListener(jwtRevocationServiceProvider);
+
+        user = new User();
+        user.setId(1L);
+        user.setIsActive(true);
+        user.setIsLocked(false);
+        user.setOfficeId(UUID.randomUUID());
+        user.addRole(new Role("USER", "Usuario estándar", false));
+        // Estado guardado: sin cambios pendientes
+        listener.onUserPersist(user);
+    }
+
+    @Test
+    @DisplayName("Debe revocar los tokens al cambiar los roles")
+    void shouldRevokeOnRoleChange() {
+        // Given
+        mockRevocationServiceAvailable();
+        user.addRole(new Role("ADMIN", "Administrador", false));
+
+        // When
+        listener.onUserUpdate(user);
+
+        // Then
+        verify(jwtRevocationService).revokeAllForUser(1L);
+        assertThat(user.isAccessChanged()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe revocar los tokens al cambiar la oficina, desactivar o bloquear")
+    void shouldRevokeOnOfficeActiveOrLockChange() {
+        // Given
+        mockRevocationServiceAvailable();
+
+        // When
+        user.setOfficeId(UUID.randomUUID());
+        listener.onUserUpdate(user);
+        user.setIsActive(false);
+        listener.onUserUpdate(user);
+        user.setIsLocked(true);
+        listener.onUserUpdate(user);
+
+        // Then
+        verify(jwtRevocationService, times(3)).revokeAllForUser(1L);
+    }
+
+    @Test
+    @DisplayName("No debe revocar por cambios que no afectan al acceso")
+    void shouldNotRevokeOnOtherChanges() {
+        // Given
+        user.setFirstName("Otro");
+        user.setIsLocked(false);
+        user.setIsActive(true);
+        user.setOfficeId(user.getOfficeId());
+
+        // When
+        listener.onUserUpdate(user);
+
+        // Then
+        verifyNoInteractions(jwtRevocationServiceProvider);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockRevocationServiceAvailable() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<JwtRevocationService>>getArgument(0).accept(jwtRevocationService);
+            return null;
+        }).when(jwtRevocationServiceProvider).ifAvailable(any(Consumer.class));
+    }
+}
@@ -0,0 +1,125 @@
+package com.transer.vortice.auth.infrastructure.login;
+
+import com.transer.vortice.shared.infrastructure.BaseRepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración de las escrituras de login sobre users: incremento atómico de
+ * intentos fallidos con bloqueo, reinicio del contador y escritura por lotes del último
+ * login. Usa Testcontainers con PostgreSQL.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("LoginAttemptRepository Integration Tests")
+class LoginAttemptRepositoryIntegrationTest extends BaseRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LoginAttemptRepository repository;
+    private long userId;
+    private long otherUserId;
+
+    @BeforeEach
+    void setUp() {
+        repository = new LoginAttemptRepository(jdbcTemplate);
+        // offices y users se referencian entre sí: se insertan sin validar claves foráneas
+        jdbcTemplate.execute("SET LOCAL session_replication_role = 'replica'");
+        userId = insertUser("driver1");
+        otherUserId = insertUser("driver2");
+        jdbcTemplate.execute("SET LOCAL session_replication_role = 'origin'");
+    }
+
+    // =====================================================
+    // TESTS: Intentos fallidos
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe incrementar los intentos fallidos y bloquear al alcanzar el máximo")
+    void shouldIncrementAndLockAtMaxAttempts() {
+        // When
+        for (int i = 1; i < 5; i++) {
+            assertThat(repository.recordFailedAttempt(userId, 5)).contains(new FailedLoginResult(i, false));
+        }
+        FailedLoginResult fifth = repository.recordFailedAttempt(userId, 5).orElseThrow();
+
+        // Then
+        assertThat(fifth).isEqualTo(new FailedLoginResult(5, true));
+        assertThat(jdbcTemplate.queryForMap("SELECT failed_login_attempts, is_locked FROM users WHERE id = ?", userId))
+                .containsEntry("failed_login_attempts", 5)
+                .containsEntry("is_locked", true);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT failed_login_attempts FROM users WHERE id = ?", Integer.class, otherUserId)).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe retornar vacío para un usuario inexistente")
+    void shouldReturnEmptyForUnknownUser() {
+        assertThat(repository.recordFailedAttempt(-1L, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe reiniciar el contador de intentos fallidos")
+    void shouldResetFailedAttempts() {
+        // Given
+        repository.recordFailedAttempt(userId, 5);
+        repository.recordFailedAttempt(userId, 5);
+
+        // When
+        repository.resetFailedAttempts(userId);
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT failed_login_attempts FROM users WHERE id = ?", Integer.class, userId)).isZero();
+    }
+
+    // =====================================================
+    // TESTS: Último login
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe escribir el último login de varios usuarios sin retroceder un valor más reciente")
+    void shouldUpdateLastLoginInBatch() {
+        // Given
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        jdbcTemplate.update("UPDATE users SET last_login_at = ? WHERE id = ?", Timestamp.from(now), otherUserId);
+
+        // When
+        int updated = repository.updateLastLogin(Map.of(
+                userId, now.minusSeconds(60),
+                otherUserId, now.minusSeconds(3_600)));
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(lastLogin(userId)).isEqualTo(now.minusSeconds(60));
+        assertThat(lastLogin(otherUserId)).isEqualTo(now);
+    }
+
+    // =====================================================
+    // MÉTODOS AUXILIARES
+    // =====================================================
+
+    private long insertUser(String username) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO users (username, email, password_hash, first_name, last_name, office_id)
+                VALUES (?, ? || '@transer.com', '$2a$10$hash', 'Test', 'User', 'a0000000-0000-0000-0000-000000000001')
+                RETURNING id
+                """, Long.class, username, username);
+    }
+
+    private Instant lastLogin(long id) {
+        return jdbcTemplate.queryForObject("SELECT last_login_at FROM users WHERE id = ?", Timestamp.class, id)
+                .toInstant();
+    }
+}
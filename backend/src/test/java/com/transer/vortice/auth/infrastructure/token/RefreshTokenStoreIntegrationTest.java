@@ -0,0 +1,233 @@
+package com.transer.vortice.auth.infrastructure.token;
+
+import com.transer.vortice.shared.infrastructure.BaseRepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración del almacén de refresh tokens (V3.14.0): guardado por hash,
+ * rotación en una sentencia, revocación por token, familia y usuario, y limpieza de
+ * expirados por bloques. Usa Testcontainers con PostgreSQL.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("RefreshTokenStore Integration Tests")
+class RefreshTokenStoreIntegrationTest extends BaseRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private RefreshTokenStore store;
+    private long userId;
+    private long otherUserId;
+    private Instant expiresAt;
+
+    @BeforeEach
+    void setUp() {
+        store = new RefreshTokenStore(jdbcTemplate);
+        // offices y users se referencian entre sí: se insertan sin validar claves foráneas
+        jdbcTemplate.execute("SET LOCAL session_replication_role = 'replica'");
+        userId = insertUser("driver1");
+        otherUserId = insertUser("driver2");
+        jdbcTemplate.execute("SET LOCAL session_replication_role = 'origin'");
+        expiresAt = Instant.now().plus(7, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    // =====================================================
+    // TESTS: Guardado y búsqueda
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe guardar el token por su hash y encontrarlo")
+    void shouldInsertAndFindByHash() {
+        // Given
+        UUID familyId = UUID.randomUUID();
+
+        // When
+        StoredRefreshToken inserted = store.insert(hash("token-1"), userId, familyId, expiresAt);
+
+        // Then
+        assertThat(inserted.userId()).isEqualTo(userId);
+        assertThat(inserted.familyId()).isEqualTo(familyId);
+        assertThat(inserted.expiresAt()).isEqualTo(expiresAt);
+        assertThat(inserted.revoked()).isFalse();
+        assertThat(store.findByHash(hash("token-1"))).contains(inserted);
+        assertThat(store.findByHash(hash("token-2"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe calcular en la migración el mismo hash que la aplicación")
+    void shouldMatchDatabaseSha256() {
+        // When
+        byte[] databaseHash = jdbcTemplate.queryForObject(
+                "SELECT sha256(convert_to(?, 'UTF8'))", byte[].class, "token-1");
+
+        // Then
+        assertThat(databaseHash).isEqualTo(hash("token-1"));
+    }
+
+    // =====================================================
+    // TESTS: Rotación
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe revocar el token y guardar su reemplazo en la misma familia")
+    void shouldRotateToken() {
+        // Given
+        UUID familyId = UUID.randomUUID();
+        store.insert(hash("token-1"), userId, familyId, expiresAt);
+
+        // When
+        Optional<StoredRefreshToken> rotated = store.rotate(hash("token-1"), hash("token-2"), expiresAt);
+
+        // Then
+        assertThat(rotated).isPresent();
+        assertThat(rotated.get().userId()).isEqualTo(userId);
+        assertThat(rotated.get().familyId()).isEqualTo(familyId);
+        assertThat(rotated.get().revoked()).isFalse();
+        assertThat(store.findByHash(hash("token-1")).orElseThrow().revoked()).isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT revoked_at FROM refresh_tokens WHERE family_id = ? AND revoked", Timestamp.class, familyId))
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("No debe rotar dos veces el mismo token")
+    void shouldNotRotateTwice() {
+        // Given
+        store.insert(hash("token-1"), userId, UUID.randomUUID(), expiresAt);
+        store.rotate(hash("token-1"), hash("token-2"), expiresAt);
+
+        // When
+        Optional<StoredRefreshToken> second = store.rotate(hash("token-1"), hash("token-3"), expiresAt);
+
+        // Then
+        assertThat(second).isEmpty();
+        assertThat(store.findByHash(hash("token-3"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("No debe rotar un token expirado ni uno inexistente")
+    void shouldNotRotateExpiredOrUnknownToken() {
+        // Given
+        store.insert(hash("expired"), userId, UUID.randomUUID(), Instant.now().minusSeconds(60));
+
+        // When & Then
+        assertThat(store.rotate(hash("expired"), hash("token-2"), expiresAt)).isEmpty();
+        assertThat(store.rotate(hash("unknown"), hash("token-3"), expiresAt)).isEmpty();
+        assertThat(store.findByHash(hash("expired")).orElseThrow().revoked()).isFalse();
+    }
+
+    // =====================================================
+    // TESTS: Revocación
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe revocar un token una sola vez")
+    void shouldRevokeToken() {
+        // Given
+        store.insert(hash("token-1"), userId, UUID.randomUUID(), expiresAt);
+
+        // When & Then
+        assertThat(store.revoke(hash("token-1"))).isEqualTo(1);
+        assertThat(store.revoke(hash("token-1"))).isZero();
+        assertThat(store.revoke(hash("unknown"))).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe revocar solo los tokens vigentes de la familia")
+    void shouldRevokeFamily() {
+        // Given
+        UUID familyId = UUID.randomUUID();
+        store.insert(hash("token-1"), userId, familyId, expiresAt);
+        store.rotate(hash("token-1"), hash("token-2"), expiresAt);
+        store.insert(hash("other-family"), userId, UUID.randomUUID(), expiresAt);
+
+        // When
+        int revoked = store.revokeFamily(familyId);
+
+        // Then
+        assertThat(revoked).isEqualTo(1);
+        assertThat(store.findByHash(hash("token-2")).orElseThrow().revoked()).isTrue();
+        assertThat(store.findByHash(hash("other-family")).orElseThrow().revoked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe revocar todos los tokens de un usuario")
+    void shouldRevokeAllForUser() {
+        // Given
+        store.insert(hash("token-1"), userId, UUID.randomUUID(), expiresAt);
+        store.insert(hash("token-2"), userId, UUID.randomUUID(), expiresAt);
+        store.insert(hash("other-user"), otherUserId, UUID.randomUUID(), expiresAt);
+
+        // When
+        int revoked = store.revokeAllForUser(userId);
+
+        // Then
+        assertThat(revoked).isEqualTo(2);
+        assertThat(store.findByHash(hash("other-user")).orElseThrow().revoked()).isFalse();
+        assertThat(store.revokeAllForUser(userId)).isZero();
+    }
+
+    // =====================================================
+    // TESTS: Limpieza
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe eliminar por bloques solo los tokens expirados")
+    void shouldDeleteExpiredInChunks() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            store.insert(hash("expired-" + i), userId, UUID.randomUUID(), Instant.now().minusSeconds(3_600 + i));
+        }
+        store.insert(hash("valid"), userId, UUID.randomUUID(), expiresAt);
+        Instant now = Instant.now();
+
+        // When
+        int first = store.deleteExpired(now, 2);
+        int second = store.deleteExpired(now, 2);
+        int third = store.deleteExpired(now, 2);
+        int fourth = store.deleteExpired(now, 2);
+
+        // Then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(2);
+        assertThat(third).isEqualTo(1);
+        assertThat(fourth).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM refresh_tokens", Integer.class)).isEqualTo(1);
+        assertThat(store.findByHash(hash("valid"))).isPresent();
+    }
+
+    // =====================================================
+    // MÉTODOS AUXILIARES
+    // =====================================================
+
+    private long insertUser(String username) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO users (username, email, password_hash, first_name, last_name, office_id)
+                VALUES (?, ? || '@transer.com', '$2a$10$hash', 'Test', 'User', 'a0000000-0000-0000-0000-000000000001')
+                RETURNING id
+                """, Long.class, username, username);
+    }
+
+    private static byte[] hash(String tokenValue) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(tokenValue.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
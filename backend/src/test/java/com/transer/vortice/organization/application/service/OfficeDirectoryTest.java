@@ -0,0 +1,124 @@
+package com.transer.vortice.organization.application.service;
+
+import com.transer.vortice.organization.domain.model.OfficeSummary;
+import com.transer.vortice.organization.domain.repository.OfficeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para OfficeDirectory.
+ *
+ * @author Vórtice Development Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OfficeDirectory - Tests Unitarios")
+class OfficeDirectoryTest {
+
+    @Mock
+    private OfficeRepository officeRepository;
+
+    private OfficeDirectory officeDirectory;
+
+    private OfficeSummary bogota;
+    private OfficeSummary cali;
+
+    @BeforeEach
+    void setUp() {
+        officeDirectory = new OfficeDirectory(officeRepository,
+                new ConcurrentMapCacheManager(OfficeDirectory.CACHE_NAME));
+        bogota = new OfficeSummary(UUID.randomUUID(), "BOG", "Bogotá");
+        cali = new OfficeSummary(UUID.randomUUID(), "CALI", "Cali");
+    }
+
+    @Test
+    @DisplayName("Resolver oficinas - una sola consulta IN para todas las faltantes")
+    void findAllById_LoadsMissingWithSingleQuery() {
+        // Given
+        when(officeRepository.findSummariesByIdIn(any())).thenReturn(List.of(bogota, cali));
+
+        // When
+        Map<UUID, OfficeSummary> result = officeDirectory.findAllById(
+                Arrays.asList(bogota.id(), cali.id(), bogota.id(), null));
+
+        // Then
+        assertThat(result).containsEntry(bogota.id(), bogota).containsEntry(cali.id(), cali);
+        verify(officeRepository, times(1)).findSummariesByIdIn(Set.of(bogota.id(), cali.id()));
+    }
+
+    @Test
+    @DisplayName("Resolver oficinas - las oficinas en caché no se consultan de nuevo")
+    void findAllById_ServesCachedOffices() {
+        // Given
+        when(officeRepository.findSummariesByIdIn(any()))
+                .thenReturn(List.of(bogota))
+                .thenReturn(List.of(cali));
+        officeDirectory.findAllById(List.of(bogota.id()));
+
+        // When
+        Map<UUID, OfficeSummary> result = officeDirectory.findAllById(List.of(bogota.id(), cali.id()));
+
+        // Then: la segunda llamada solo consulta la oficina que no estaba en caché
+        assertThat(result).hasSize(2);
+        verify(officeRepository, times(2)).findSummariesByIdIn(any());
+        verify(officeRepository).findSummariesByIdIn(Set.of(cali.id()));
+    }
+
+    @Test
+    @DisplayName("Resolver oficinas - sin consulta cuando todas están en caché")
+    void findById_AllCached_NoQuery() {
+        // Given
+        when(officeRepository.findSummariesByIdIn(any())).thenReturn(List.of(bogota));
+        officeDirectory.findById(bogota.id());
+
+        // When
+        officeDirectory.findById(bogota.id());
+
+        // Then
+        verify(officeRepository, times(1)).findSummariesByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Invalidar oficina - la siguiente lectura vuelve a consultar")
+    void evict_ReloadsOffice() {
+        // Given
+        OfficeSummary renamed = new OfficeSummary(bogota.id(), "BOG", "Bogotá D.C.");
+        when(officeRepository.findSummariesByIdIn(any()))
+                .thenReturn(List.of(bogota))
+                .thenReturn(List.of(renamed));
+        officeDirectory.findById(bogota.id());
+
+        // When
+        officeDirectory.evict(bogota.id());
+
+        // Then
+        assertThat(officeDirectory.findById(bogota.id())).contains(renamed);
+    }
+
+    @Test
+    @DisplayName("Resolver oficina inexistente - retorna vacío sin cachear")
+    void findById_NotFound_ReturnsEmpty() {
+        // Given
+        UUID unknownId = UUID.randomUUID();
+        when(officeRepository.findSummariesByIdIn(any())).thenReturn(List.of());
+
+        // When/Then
+        assertThat(officeDirectory.findById(unknownId)).isEmpty();
+        assertThat(officeDirectory.findById(null)).isEmpty();
+        verify(officeRepository, times(1)).findSummariesByIdIn(any());
+    }
+}
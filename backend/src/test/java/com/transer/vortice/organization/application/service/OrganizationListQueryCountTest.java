@@ -0,0 +1,236 @@
+package com.transer.vortice.organization.application.service;
+
+import com.transer.vortice.organization.application.mapper.TireSupplierMapper;
+import com.transer.vortice.organization.application.mapper.WarehouseLocationMapper;
+import com.transer.vortice.organization.application.mapper.WarehouseMapper;
+import com.transer.vortice.organization.domain.model.Office;
+import com.transer.vortice.organization.domain.model.TireSupplier;
+import com.transer.vortice.organization.domain.model.Warehouse;
+import com.transer.vortice.organization.domain.model.WarehouseLocation;
+import com.transer.vortice.organization.domain.repository.OfficeRepository;
+import com.transer.vortice.organization.domain.repository.TireSupplierRepository;
+import com.transer.vortice.organization.domain.repository.WarehouseLocationRepository;
+import com.transer.vortice.organization.domain.repository.WarehouseRepository;
+import com.transer.vortice.organization.infrastructure.security.SecurityUtils;
+import com.transer.vortice.shared.infrastructure.BaseRepositoryTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests de integración que cuentan las sentencias SQL de los listados organizacionales.
+ * Verifican que listar almacenes, ubicaciones y proveedores emita un número constante
+ * de consultas sin importar cuántas filas (y oficinas distintas) se devuelvan.
+ *
+ * @author Vórtice Development Team
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Listados organizacionales - Conteo de consultas")
+class OrganizationListQueryCountTest extends BaseRepositoryTest {
+
+    @Autowired
+    private OfficeRepository officeRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private WarehouseLocationRepository warehouseLocationRepository;
+
+    @Autowired
+    private TireSupplierRepository tireSupplierRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private int officeSequence;
+
+    @BeforeEach
+    void setUp() {
+        // offices.created_by y users.office_id se referencian mutuamente: omitir las FKs
+        // en esta transacción (igual que cleanup-test-data.sql) para poder crear datos
+        jdbcTemplate.execute("SET LOCAL session_replication_role = 'replica'");
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        officeSequence = 0;
+    }
+
+    // =====================================================
+    // TESTS: Almacenes
+    // =====================================================
+
+    @Test
+    @DisplayName("Listar almacenes - consultas constantes sin importar el tamaño")
+    void listAllWarehouses_ConstantQueries() {
+        seed(2, 1);
+        long small = countStatements(() -> newWarehouseService().listAllWarehouses());
+
+        seed(10, 3);
+        long large = countStatements(() -> newWarehouseService().listAllWarehouses());
+
+        assertThat(large).isEqualTo(small);
+        assertThat(large).isEqualTo(2); // almacenes + oficinas (IN)
+    }
+
+    @Test
+    @DisplayName("Buscar almacenes - consultas constantes sin importar el tamaño de página")
+    void searchWarehouses_ConstantQueries() {
+        seed(12, 3);
+
+        long small = countStatements(() -> newWarehouseService().searchWarehouses("", PageRequest.of(0, 2)));
+        long large = countStatements(() -> newWarehouseService().searchWarehouses("", PageRequest.of(0, 30)));
+
+        assertThat(large).isEqualTo(small);
+        assertThat(large).isEqualTo(3); // página + conteo + oficinas (IN)
+    }
+
+    @Test
+    @DisplayName("Listar almacenes - con el directorio en caché no se consultan oficinas")
+    void listAllWarehouses_WarmDirectory_SkipsOfficeQuery() {
+        seed(5, 2);
+        WarehouseService service = newWarehouseService();
+        service.listAllWarehouses();
+
+        long warm = countStatements(service::listAllWarehouses);
+
+        assertThat(warm).isEqualTo(1);
+    }
+
+    // =====================================================
+    // TESTS: Ubicaciones
+    // =====================================================
+
+    @Test
+    @DisplayName("Listar ubicaciones - consultas constantes sin importar el tamaño")
+    void listAllLocations_ConstantQueries() {
+        seed(2, 1);
+        long small = countStatements(() -> newWarehouseLocationService().listAllLocations());
+
+        seed(10, 3);
+        long large = countStatements(() -> newWarehouseLocationService().listAllLocations());
+
+        assertThat(large).isEqualTo(small);
+        assertThat(large).isEqualTo(3); // ubicaciones + almacenes (IN) + oficinas (IN)
+    }
+
+    @Test
+    @DisplayName("Buscar ubicaciones - consultas constantes sin importar el tamaño de página")
+    void searchLocations_ConstantQueries() {
+        seed(12, 3);
+
+        long small = countStatements(() -> newWarehouseLocationService().searchLocations("", PageRequest.of(0, 2)));
+        long large = countStatements(() -> newWarehouseLocationService().searchLocations("", PageRequest.of(0, 30)));
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    // =====================================================
+    // TESTS: Proveedores
+    // =====================================================
+
+    @Test
+    @DisplayName("Listar proveedores - consultas constantes sin importar el tamaño")
+    void listAllSuppliers_ConstantQueries() {
+        seed(2, 1);
+        long small = countStatements(() -> newTireSupplierService().listAllSuppliers());
+
+        seed(10, 3);
+        long large = countStatements(() -> newTireSupplierService().listAllSuppliers());
+
+        assertThat(large).isEqualTo(small);
+        assertThat(large).isEqualTo(2); // proveedores + oficinas (IN)
+    }
+
+    @Test
+    @DisplayName("Buscar proveedores - consultas constantes sin importar el tamaño de página")
+    void searchSuppliers_ConstantQueries() {
+        seed(12, 3);
+
+        long small = countStatements(() -> newTireSupplierService().searchSuppliers("", PageRequest.of(0, 2)));
+        long large = countStatements(() -> newTireSupplierService().searchSuppliers("", PageRequest.of(0, 30)));
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    // =====================================================
+    // Helpers
+    // =====================================================
+
+    /**
+     * Crea oficinas con almacenes, ubicaciones y proveedores.
+     */
+    private void seed(int offices, int perOffice) {
+        for (int i = 0; i < offices; i++) {
+            String suffix = String.format("%02d", ++officeSequence);
+
+            Office office = new Office("Q" + suffix, "Oficina " + suffix, "Ciudad", null, null);
+            office.setCreatedBy(1L);
+            office = officeRepository.save(office);
+
+            for (int j = 0; j < perOffice; j++) {
+                Warehouse warehouse = new Warehouse("W" + j, "Almacén " + suffix + "-" + j, office.getId(), null);
+                warehouse.setCreatedBy(1L);
+                warehouse = warehouseRepository.save(warehouse);
+
+                WarehouseLocation location = new WarehouseLocation("L" + j, "Ubicación " + j, warehouse.getId(), null);
+                location.setCreatedBy(1L);
+                warehouseLocationRepository.save(location);
+
+                TireSupplier supplier = new TireSupplier("S" + suffix + j, "Proveedor " + suffix + "-" + j,
+                        "900" + suffix + j, office.getId());
+                supplier.setCreatedBy(1L);
+                tireSupplierRepository.save(supplier);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Ejecuta la acción con el contexto de persistencia vacío y retorna las sentencias preparadas.
+     */
+    private long countStatements(Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private OfficeDirectory newOfficeDirectory() {
+        return new OfficeDirectory(officeRepository, new ConcurrentMapCacheManager(OfficeDirectory.CACHE_NAME));
+    }
+
+    private WarehouseService newWarehouseService() {
+        return new WarehouseService(warehouseRepository, officeRepository, warehouseLocationRepository,
+                new WarehouseMapper(), mock(SecurityUtils.class), newOfficeDirectory());
+    }
+
+    private WarehouseLocationService newWarehouseLocationService() {
+        return new WarehouseLocationService(warehouseLocationRepository, warehouseRepository, officeRepository,
+                new WarehouseLocationMapper(), mock(SecurityUtils.class), newOfficeDirectory());
+    }
+
+    private TireSupplierService newTireSupplierService() {
+        return new TireSupplierService(tireSupplierRepository, officeRepository,
+                new TireSupplierMapper(), mock(SecurityUtils.class), newOfficeDirectory());
+    }
+}
@@ -10,6 +10,7 @@ import com.transer.vortice.organization.domain.exception.ForbiddenOfficeAccessEx
 import com.transer.vortice.organization.domain.exception.OfficeNotFoundException;
 import com.transer.vortice.organization.domain.exception.WarehouseNotFoundException;
 import com.transer.vortice.organization.domain.model.Office;
+import com.transer.vortice.organization.domain.model.OfficeSummary;
 import com.transer.vortice.organization.domain.model.Warehouse;
 import com.transer.vortice.organization.domain.repository.OfficeRepository;
 import com.transer.vortice.organization.domain.repository.WarehouseLocationRepository;
@@ -25,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -58,6 +60,9 @@ class WarehouseServiceTest {
     @Mock
     private SecurityUtils securityUtils;
 
+    @Mock
+    private OfficeDirectory officeDirectory;
+
     @InjectMocks
     private WarehouseService warehouseService;
 
@@ -368,4 +373,26 @@ class WarehouseServiceTest {
         verify(warehouseRepository).save(warehouse);
         assertThat(warehouse.getIsActive()).isFalse();
     }
+
+    @Test
+    @DisplayName("Listar todos los almacenes - resuelve las oficinas en lote")
+    void listAllWarehouses_ResolvesOfficesInBatch() {
+        // Given
+        Warehouse warehouse2 = new Warehouse("SEC", "Almacén Secundario", officeId, "Secundario");
+        List<Warehouse> warehouses = List.of(warehouse, warehouse2);
+        OfficeSummary officeSummary = new OfficeSummary(officeId, "MAIN", "Oficina Principal");
+
+        when(warehouseRepository.findAllActive()).thenReturn(warehouses);
+        when(officeDirectory.resolve(eq(warehouses), any())).thenReturn(Map.of(officeId, officeSummary));
+        when(warehouseMapper.toResponseWithOfficeSummary(any(Warehouse.class), eq(officeSummary)))
+                .thenReturn(warehouseResponse);
+
+        // When
+        List<WarehouseResponse> result = warehouseService.listAllWarehouses();
+
+        // Then
+        assertThat(result).hasSize(2);
+        verify(officeDirectory, times(1)).resolve(eq(warehouses), any());
+        verify(officeRepository, never()).findById(any());
+    }
 }
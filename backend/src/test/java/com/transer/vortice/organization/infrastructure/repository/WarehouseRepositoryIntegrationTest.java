@@ -109,7 +109,7 @@ class WarehouseRepositoryIntegrationTest {
     @DisplayName("Con RLS context oficina 1 - encuentra solo almacenes de oficina 1")
     void withRLS_Office1_FindsOnlyOffice1Warehouses() {
         // Given - Establecer contexto RLS para usuario de oficina 1
-        setRLSContext(1L); // Usuario 1 pertenece a officeId1
+        setRLSContext(1L, officeId1); // Usuario 1 pertenece a officeId1
 
         // When
         List<Warehouse> warehouses = warehouseRepository.findAll();
@@ -126,7 +126,7 @@ class WarehouseRepositoryIntegrationTest {
     @DisplayName("Con RLS context oficina 2 - encuentra solo almacenes de oficina 2")
     void withRLS_Office2_FindsOnlyOffice2Warehouses() {
         // Given - Establecer contexto RLS para usuario de oficina 2
-        setRLSContext(2L); // Usuario 2 pertenece a officeId2
+        setRLSContext(2L, officeId2); // Usuario 2 pertenece a officeId2
 
         // When
         List<Warehouse> warehouses = warehouseRepository.findAll();
@@ -143,7 +143,7 @@ class WarehouseRepositoryIntegrationTest {
     @DisplayName("Buscar por código con RLS - solo encuentra si pertenece a misma oficina")
     void findByCode_WithRLS_OnlyFindsIfSameOffice() {
         // Given - Establecer contexto RLS para oficina 1
-        setRLSContext(1L);
+        setRLSContext(1L, officeId1);
 
         // When - Buscar almacén de oficina 1
         Optional<Warehouse> found1 = warehouseRepository.findByCodeAndOfficeIdAndDeletedAtIsNull("W1", officeId1);
@@ -171,7 +171,7 @@ class WarehouseRepositoryIntegrationTest {
         assertThat(totalCount).isEqualTo(2);
 
         // When - Con RLS para oficina 1
-        setRLSContext(1L);
+        setRLSContext(1L, officeId1);
         long office1Count = warehouseRepository.count();
 
         // Then - Solo cuenta almacenes de oficina 1
@@ -185,7 +185,7 @@ class WarehouseRepositoryIntegrationTest {
     @DisplayName("Buscar por ID con RLS - solo encuentra si usuario tiene acceso")
     void findById_WithRLS_OnlyFindsIfUserHasAccess() {
         // Given - Contexto RLS para oficina 1
-        setRLSContext(1L);
+        setRLSContext(1L, officeId1);
 
         // When - Buscar almacén de oficina 1
         Optional<Warehouse> found1 = warehouseRepository.findById(warehouseId1);
@@ -207,7 +207,7 @@ class WarehouseRepositoryIntegrationTest {
     @DisplayName("Actualizar almacén con RLS - solo permite si usuario tiene acceso")
     void updateWarehouse_WithRLS_OnlyAllowsIfUserHasAccess() {
         // Given - Contexto RLS para oficina 1
-        setRLSContext(1L);
+        setRLSContext(1L, officeId1);
 
         // When - Actualizar almacén de oficina 1
         Optional<Warehouse> warehouse1 = warehouseRepository.findById(warehouseId1);
@@ -233,7 +233,7 @@ class WarehouseRepositoryIntegrationTest {
     @DisplayName("Validar existencia de código con RLS")
     void existsByCode_WithRLS_ChecksOnlyInUserOffice() {
         // Given - Contexto RLS para oficina 1
-        setRLSContext(1L);
+        setRLSContext(1L, officeId1);
 
         // When/Then - Verifica código en oficina 1
         boolean exists1 = warehouseRepository.existsByCodeAndOfficeIdAndDeletedAtIsNull("W1", officeId1);
@@ -252,10 +252,12 @@ class WarehouseRepositoryIntegrationTest {
 
     /**
      * Establece el contexto RLS simulando que el usuario con el ID dado está autenticado.
-     * En producción, esto lo hace el RLSContextFilter automáticamente.
+     * En producción, esto lo hace el RlsTransactionManager al iniciar cada transacción.
      */
-    private void setRLSContext(Long userId) {
-        jdbcTemplate.execute(String.format("SET LOCAL app.current_user_id = %d", userId));
+    private void setRLSContext(Long userId, UUID officeId) {
+        jdbcTemplate.queryForList("SELECT set_config('app.current_user_id', ?, true), "
+                        + "set_config('app.current_office_id', ?, true), set_config('app.current_roles', '0', true)",
+                userId.toString(), officeId.toString());
     }
 
     /**
@@ -263,5 +265,7 @@ class WarehouseRepositoryIntegrationTest {
      */
     private void clearRLSContext() {
         jdbcTemplate.execute("RESET app.current_user_id");
+        jdbcTemplate.execute("RESET app.current_office_id");
+        jdbcTemplate.execute("RESET app.current_roles");
     }
 }
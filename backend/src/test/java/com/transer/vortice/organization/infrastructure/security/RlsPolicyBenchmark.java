@@ -0,0 +1,204 @@
+package com.transer.vortice.organization.infrastructure.security;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de las políticas RLS de warehouse_locations con 100.000 ubicaciones.
+ *
+ * - LEGACY: políticas de V3.0.1 (current_user_has_role / get_user_office_id, plpgsql).
+ * - SESSION: políticas de V3.4.0 (app.current_office_id / app.current_roles).
+ *
+ * seqScanCount recorre la tabla completa (count de las ubicaciones visibles) e
+ * indexLookup busca una ubicación por (warehouse_id, code). Antes de medir se imprime
+ * el EXPLAIN ANALYZE de ambas consultas para comparar costo y filas filtradas.
+ *
+ * Las consultas se ejecutan con un rol sin privilegios (rls_bench): el propietario de
+ * las tablas y los superusuarios no están sujetos a RLS.
+ *
+ * Requiere Docker. Ejecución: {@code mvn test-compile} y luego ejecutar {@link #main(String[])} desde el IDE.
+ *
+ * @author Vórtice Development Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RlsPolicyBenchmark {
+
+    private static final int WAREHOUSES = 100;
+    private static final int LOCATIONS_PER_WAREHOUSE = 1_000;
+
+    private static final String SEQ_SCAN_SQL =
+            "SELECT count(*) FROM warehouse_locations WHERE deleted_at IS NULL";
+    private static final String INDEX_LOOKUP_SQL =
+            "SELECT id FROM warehouse_locations WHERE warehouse_id = ? AND code = ? AND deleted_at IS NULL";
+
+    private static final String LEGACY_POLICIES = """
+            DROP POLICY warehouses_office_isolation ON warehouses;
+            CREATE POLICY warehouses_office_isolation ON warehouses FOR ALL TO PUBLIC
+                USING (current_user_has_role('ROLE_ADMIN_NATIONAL') OR office_id = get_user_office_id());
+            DROP POLICY locations_office_isolation ON warehouse_locations;
+            CREATE POLICY locations_office_isolation ON warehouse_locations FOR ALL TO PUBLIC
+                USING (current_user_has_role('ROLE_ADMIN_NATIONAL')
+                       OR warehouse_id IN (SELECT id FROM warehouses
+                                           WHERE office_id = get_user_office_id() AND deleted_at IS NULL));
+            """;
+
+    @Param({"LEGACY", "SESSION"})
+    public String policy;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private PreparedStatement seqScan;
+    private PreparedStatement indexLookup;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        UUID officeId;
+        try (Connection owner = ownerConnection(); Statement statement = owner.createStatement()) {
+            officeId = seed(statement);
+            if ("LEGACY".equals(policy)) {
+                statement.execute(LEGACY_POLICIES);
+            }
+            statement.execute("CREATE ROLE rls_bench NOLOGIN");
+            statement.execute("GRANT USAGE ON SCHEMA public TO rls_bench");
+            statement.execute("GRANT SELECT ON ALL TABLES IN SCHEMA public TO rls_bench");
+        }
+
+        connection = ownerConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET ROLE rls_bench");
+        }
+        try (PreparedStatement context = connection.prepareStatement(
+                "SELECT set_config('app.current_user_id', '1', false), "
+                        + "set_config('app.current_office_id', ?, false), "
+                        + "set_config('app.current_roles', '0', false)")) {
+            context.setString(1, officeId.toString());
+            context.execute();
+        }
+
+        UUID warehouseId;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT min(id::text)::uuid FROM warehouses")) {
+            rs.next();
+            warehouseId = rs.getObject(1, UUID.class);
+        }
+
+        seqScan = connection.prepareStatement(SEQ_SCAN_SQL);
+        indexLookup = connection.prepareStatement(INDEX_LOOKUP_SQL);
+        indexLookup.setObject(1, warehouseId);
+        indexLookup.setString(2, "L00500");
+
+        printPlan("EXPLAIN (ANALYZE, BUFFERS) " + SEQ_SCAN_SQL, null);
+        printPlan("EXPLAIN (ANALYZE, BUFFERS) " + INDEX_LOOKUP_SQL, warehouseId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    public void seqScanCount(Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = seqScan.executeQuery()) {
+            rs.next();
+            blackhole.consume(rs.getLong(1));
+        }
+    }
+
+    @Benchmark
+    public void indexLookup(Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = indexLookup.executeQuery()) {
+            blackhole.consume(rs.next() ? rs.getObject(1) : null);
+        }
+    }
+
+    /**
+     * Crea dos oficinas con 50 almacenes cada una y 1.000 ubicaciones por almacén.
+     * El usuario 1 queda en la primera oficina: ve la mitad de las ubicaciones.
+     *
+     * @return oficina del usuario 1
+     */
+    private UUID seed(Statement statement) throws SQLException {
+        statement.execute("""
+                INSERT INTO offices (code, name, city, created_by)
+                VALUES ('BNA', 'Benchmark A', 'Bogotá', 1), ('BNB', 'Benchmark B', 'Cali', 1)
+                """);
+        statement.execute("UPDATE users SET office_id = (SELECT id FROM offices WHERE code = 'BNA') WHERE id = 1");
+        statement.execute("""
+                INSERT INTO warehouses (code, name, office_id, created_by)
+                SELECT 'W' || lpad(g::text, 4, '0'), 'Almacén ' || g,
+                       (SELECT id FROM offices WHERE code = CASE WHEN g % 2 = 0 THEN 'BNA' ELSE 'BNB' END), 1
+                FROM generate_series(1, %d) g
+                """.formatted(WAREHOUSES));
+        statement.execute("""
+                INSERT INTO warehouse_locations (code, name, warehouse_id, created_by)
+                SELECT 'L' || lpad(g::text, 5, '0'), 'Ubicación ' || g, w.id, 1
+                FROM warehouses w
+                CROSS JOIN generate_series(1, %d) g
+                """.formatted(LOCATIONS_PER_WAREHOUSE));
+        statement.execute("ANALYZE warehouses");
+        statement.execute("ANALYZE warehouse_locations");
+
+        try (ResultSet rs = statement.executeQuery("SELECT id FROM offices WHERE code = 'BNA'")) {
+            rs.next();
+            return rs.getObject(1, UUID.class);
+        }
+    }
+
+    private void printPlan(String sql, UUID warehouseId) throws SQLException {
+        try (PreparedStatement explain = connection.prepareStatement(sql)) {
+            if (warehouseId != null) {
+                explain.setObject(1, warehouseId);
+                explain.setString(2, "L00500");
+            }
+            System.out.println("--- " + policy + ": " + sql);
+            try (ResultSet rs = explain.executeQuery()) {
+                while (rs.next()) {
+                    System.out.println(rs.getString(1));
+                }
+            }
+        }
+    }
+
+    private Connection ownerConnection() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RlsPolicyBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
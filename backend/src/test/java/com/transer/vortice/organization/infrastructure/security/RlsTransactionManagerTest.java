@@ -0,0 +1,119 @@
+package com.transer.vortice.organization.infrastructure.security;
+
+import com.transer.vortice.shared.infrastructure.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para RlsTransactionManager.
+ *
+ * @author Vórtice Development Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RlsTransactionManager Tests")
+class RlsTransactionManagerTest {
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Debe establecer el contexto RLS local a la transacción con una sola sentencia")
+    void shouldApplyTransactionLocalContext() throws Exception {
+        // Given
+        when(connection.prepareStatement(RlsTransactionManager.SET_CONTEXT_SQL)).thenReturn(statement);
+        AuthenticatedUser principal = principal(42L);
+
+        // When
+        RlsTransactionManager.applyContext(connection, principal);
+
+        // Then
+        assertThat(RlsTransactionManager.SET_CONTEXT_SQL)
+                .contains("app.current_user_id")
+                .contains("app.current_office_id")
+                .contains("app.current_roles")
+                .doesNotContain("false)");
+        verify(statement).setString(1, "42");
+        verify(statement).setString(2, principal.getOfficeId().toString());
+        verify(statement).setString(3, "0");
+        verify(statement, times(1)).execute();
+        verify(statement).close();
+        verifyNoMoreInteractions(connection);
+    }
+
+    @Test
+    @DisplayName("Debe publicar la máscara de roles y oficina vacía cuando no hay oficina")
+    void shouldApplyRoleMaskAndEmptyOffice() throws Exception {
+        // Given
+        when(connection.prepareStatement(RlsTransactionManager.SET_CONTEXT_SQL)).thenReturn(statement);
+        AuthenticatedUser principal = AuthenticatedUser.fromToken(1L, "admin", null,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN_NATIONAL"),
+                        new SimpleGrantedAuthority("ROLE_WAREHOUSE_MANAGER")), "jti-1", null);
+
+        // When
+        RlsTransactionManager.applyContext(connection, principal);
+
+        // Then
+        verify(statement).setString(2, "");
+        verify(statement).setString(3, String.valueOf(
+                RlsRole.NATIONAL_ADMIN.getBit() | RlsRole.WAREHOUSE_MANAGER.getBit()));
+    }
+
+    @Test
+    @DisplayName("ADMIN equivale a administrador nacional y de oficina en la máscara")
+    void shouldMapAdminToNationalAndOfficeBits() {
+        assertThat(RlsRole.mask(List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))))
+                .isEqualTo(RlsRole.NATIONAL_ADMIN.getBit() | RlsRole.OFFICE_ADMIN.getBit());
+        assertThat(RlsRole.mask(List.of(new SimpleGrantedAuthority("ROLE_MECHANIC")))).isZero();
+        assertThat(RlsRole.mask(null)).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe tomar el principal autenticado del contexto de seguridad")
+    void shouldResolvePrincipalFromSecurityContext() {
+        // Given
+        AuthenticatedUser principal = principal(7L);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        // When & Then
+        assertThat(RlsTransactionManager.currentPrincipal()).isSameAs(principal);
+    }
+
+    @Test
+    @DisplayName("Sin autenticación no hay principal (no se establece contexto)")
+    void shouldReturnNullWithoutAuthentication() {
+        // Given
+        SecurityContextHolder.clearContext();
+
+        // When & Then
+        assertThat(RlsTransactionManager.currentPrincipal()).isNull();
+    }
+
+    private AuthenticatedUser principal(Long id) {
+        return AuthenticatedUser.fromToken(id, "user" + id, UUID.randomUUID(),
+                List.of(new SimpleGrantedAuthority("ROLE_USER")), "jti-" + id, null);
+    }
+}
@@ -3,12 +3,15 @@ package com.transer.vortice.organization.infrastructure.security;
 import com.transer.vortice.auth.domain.model.Role;
 import com.transer.vortice.auth.domain.model.User;
 import com.transer.vortice.auth.domain.repository.UserRepository;
+import com.transer.vortice.shared.infrastructure.security.AuthenticatedUser;
+import com.transer.vortice.shared.infrastructure.security.AuthorityIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -17,6 +20,7 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -40,6 +44,9 @@ class SecurityUtilsTest {
     @Mock
     private SecurityContext securityContext;
 
+    @Spy
+    private AuthorityIndex authorityIndex = new AuthorityIndex();
+
     @InjectMocks
     private SecurityUtils securityUtils;
 
@@ -275,6 +282,26 @@ class SecurityUtilsTest {
         assertThat(hasAccess).isTrue();
     }
 
+    @Test
+    @DisplayName("Tiene acceso a oficina - los roles del token se verifican con el modelo vigente")
+    void hasAccessToOffice_TokenPrincipal_UsesAuthorizationModel() {
+        // Given
+        authorityIndex.installModel(Map.of("ADMIN_NATIONAL", List.of("OFFICE_VIEW_ALL")));
+        AuthenticatedUser principal = AuthenticatedUser.fromToken(1L, "admin", officeId,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN_NATIONAL")), "jti", null);
+        Authentication tokenAuth = new UsernamePasswordAuthenticationToken(
+                principal, null, principal.getAuthorities());
+        when(securityContext.getAuthentication()).thenReturn(tokenAuth);
+
+        // When
+        boolean hasAccess = securityUtils.hasAccessToOffice(UUID.randomUUID());
+
+        // Then
+        assertThat(hasAccess).isTrue();
+        assertThat(securityUtils.hasRole("ADMIN_NATIONAL")).isTrue();
+        assertThat(securityUtils.isWarehouseManager()).isFalse();
+    }
+
     @Test
     @DisplayName("Tiene acceso a oficina - usuario normal solo a su oficina")
     void hasAccessToOffice_RegularUser_OnlyOwnOffice() {
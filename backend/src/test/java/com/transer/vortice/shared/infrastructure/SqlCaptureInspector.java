@@ -0,0 +1,74 @@
+package com.transer.vortice.shared.infrastructure;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * StatementInspector de Hibernate para tests: guarda el SQL generado para poder ejecutar
+ * EXPLAIN sobre la consulta real de un repositorio.
+ *
+ * Se registra con la propiedad
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ *
+ * @author Vórtice Development Team
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final int MAX_STATEMENTS = 100;
+    private static final Deque<String> STATEMENTS = new ConcurrentLinkedDeque<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.addLast(sql);
+        while (STATEMENTS.size() > MAX_STATEMENTS) {
+            STATEMENTS.pollFirst();
+        }
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    /**
+     * Último SQL generado que contiene el fragmento.
+     *
+     * @throws IllegalStateException si no se generó ninguno
+     */
+    public static String last(String fragment) {
+        return STATEMENTS.stream()
+                .filter(sql -> sql.contains(fragment))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new IllegalStateException("No se generó SQL con '" + fragment + "'"));
+    }
+
+    /**
+     * Sustituye en orden los parámetros JDBC ({@code ?}) por los literales dados, para
+     * ejecutar EXPLAIN con los mismos valores que la consulta.
+     *
+     * @param sql SQL con parámetros posicionales
+     * @param literals literales SQL ya escapados (por ejemplo {@code NULL}, {@code 'FT-000001'})
+     * @return SQL sin parámetros
+     */
+    public static String inline(String sql, String... literals) {
+        StringBuilder inlined = new StringBuilder(sql.length() + 64);
+        int next = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '?') {
+                if (next >= literals.length) {
+                    throw new IllegalArgumentException("Faltan literales para el SQL: " + sql);
+                }
+                inlined.append(literals[next++]);
+            } else {
+                inlined.append(c);
+            }
+        }
+        if (next != literals.length) {
+            throw new IllegalArgumentException("Sobran literales para el SQL: " + sql);
+        }
+        return inlined.toString();
+    }
+}
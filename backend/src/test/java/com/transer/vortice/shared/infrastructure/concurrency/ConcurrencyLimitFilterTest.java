@@ -0,0 +1,187 @@
+package com.transer.vortice.shared.infrastructure.concurrency;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para ConcurrencyLimitFilter y DatabaseConcurrencyLimiter.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("ConcurrencyLimitFilter Tests")
+class ConcurrencyLimitFilterTest {
+
+    private DatabaseConcurrencyLimiter limiter;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new DatabaseConcurrencyLimiter(2, 50);
+        filter = new ConcurrencyLimitFilter(limiter);
+    }
+
+    // =====================================================
+    // TESTS: Limitador
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe rechazar un límite menor a 1")
+    void shouldRejectInvalidLimit() {
+        assertThatThrownBy(() -> new DatabaseConcurrencyLimiter(0, 50))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Debe entregar cupo solo hasta el límite y liberarlo al devolverlo")
+    void shouldLimitPermits() {
+        // When
+        boolean first = limiter.tryAcquire();
+        boolean second = limiter.tryAcquire();
+        boolean third = limiter.tryAcquire();
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+
+        limiter.release();
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    // =====================================================
+    // TESTS: Filtro
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe dejar pasar el request y devolver el cupo al terminar")
+    void shouldPassRequestAndReleasePermit() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request("/api/v1/warehouses"), response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe devolver el cupo aunque el request falle")
+    void shouldReleasePermitOnFailure() {
+        // Given
+        FilterChain failing = (req, res) -> {
+            throw new IllegalStateException("fallo");
+        };
+
+        // When / Then
+        assertThatThrownBy(() -> filter.doFilter(request("/api/v1/warehouses"), new MockHttpServletResponse(), failing))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe responder 503 con Retry-After cuando no hay cupo a tiempo")
+    void shouldRespondServiceUnavailableWhenSaturated() throws Exception {
+        // Given
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request("/api/v1/warehouses"), response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("\"status\":503");
+    }
+
+    @Test
+    @DisplayName("No debe limitar los endpoints de actuator")
+    void shouldNotLimitActuator() throws Exception {
+        // Given
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request("/api/actuator/health"), new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Un request en espera debe pasar cuando otro libera su cupo")
+    void shouldAdmitWaitingRequestWhenPermitReleased() throws Exception {
+        // Given
+        DatabaseConcurrencyLimiter single = new DatabaseConcurrencyLimiter(1, 5_000);
+        ConcurrencyLimitFilter singleFilter = new ConcurrencyLimitFilter(single);
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger passed = new AtomicInteger();
+
+        Thread first = Thread.ofVirtual().start(() -> run(singleFilter, (req, res) -> {
+            passed.incrementAndGet();
+            inside.countDown();
+            await(release);
+        }));
+        inside.await();
+        Thread second = Thread.ofVirtual().start(() -> run(singleFilter, (req, res) -> passed.incrementAndGet()));
+
+        // When
+        while (single.getWaiting() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        first.join();
+        second.join();
+
+        // Then
+        assertThat(passed).hasValue(2);
+        assertThat(single.getInFlight()).isZero();
+    }
+
+    // =====================================================
+    // Helpers
+    // =====================================================
+
+    private static MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setContextPath("/api");
+        return request;
+    }
+
+    private static void run(ConcurrencyLimitFilter filter, FilterChain chain) {
+        try {
+            filter.doFilter(request("/api/v1/warehouses"), new MockHttpServletResponse(), chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
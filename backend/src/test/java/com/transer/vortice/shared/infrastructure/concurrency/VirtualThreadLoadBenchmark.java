@@ -0,0 +1,234 @@
+package com.transer.vortice.shared.infrastructure.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.transer.vortice.VorticeApplication;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Prueba de carga de los endpoints de listado con hilos de plataforma y con hilos virtuales.
+ *
+ * Levanta la aplicación dos veces sobre el mismo PostgreSQL (Testcontainers), primero
+ * con spring.threads.virtual.enabled=false y luego con true, y para cada nivel de
+ * concurrencia ejecuta clientes en lazo cerrado durante {@link #DURATION}: cada cliente
+ * envía el siguiente request al recibir la respuesta. Se reporta throughput, latencia
+ * p50/p99/p99.9 y errores (en modo virtual, los 503 del limitador de concurrencia).
+ *
+ * Ambos modos usan el mismo pool de Hikari (10 conexiones) y el rate limiting
+ * deshabilitado. No es un test de JUnit: requiere Docker y tarda varios minutos.
+ * Ejecución: {@code mvn test-compile} y luego ejecutar {@link #main(String[])} desde el IDE.
+ *
+ * @author Vórtice Development Team
+ */
+public class VirtualThreadLoadBenchmark {
+
+    private static final int[] CONCURRENCY = {50, 200, 1_000};
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+    private static final Duration DURATION = Duration.ofSeconds(30);
+    private static final int SPECIFICATIONS = 500;
+    private static final int POOL_SIZE = 10;
+
+    private static final List<String> ENDPOINTS = List.of(
+            "/api/v1/tire-specifications?page=0&size=20",
+            "/api/v1/warehouses",
+            "/api/v1/offices");
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")) {
+            postgres.start();
+            Flyway.configure()
+                    .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                    .locations("classpath:db/migration")
+                    .load()
+                    .migrate();
+            seed(postgres);
+
+            VirtualThreadLoadBenchmark benchmark = new VirtualThreadLoadBenchmark();
+            List<String> results = new ArrayList<>();
+            for (boolean virtual : new boolean[]{false, true}) {
+                results.addAll(benchmark.run(postgres, virtual));
+            }
+
+            System.out.printf("%n%-9s %-45s %6s %10s %9s %9s %9s %8s%n",
+                    "threads", "endpoint", "conc", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "errors");
+            results.forEach(System.out::println);
+        }
+    }
+
+    private List<String> run(PostgreSQLContainer<?> postgres, boolean virtual) throws Exception {
+        String mode = virtual ? "virtual" : "platform";
+        List<String> results = new ArrayList<>();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(VorticeApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "vortice.rate-limit.enabled=false",
+                        "logging.level.com.transer.vortice=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                .run()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            String token = login(baseUrl);
+
+            for (String endpoint : ENDPOINTS) {
+                URI uri = URI.create(baseUrl + endpoint);
+                load(uri, token, CONCURRENCY[0], WARMUP);
+                for (int concurrency : CONCURRENCY) {
+                    LoadResult result = load(uri, token, concurrency, DURATION);
+                    results.add(String.format("%-9s %-45s %6d %10.1f %9.1f %9.1f %9.1f %8d",
+                            mode, endpoint, concurrency, result.throughput(),
+                            result.percentileMs(0.50), result.percentileMs(0.99), result.percentileMs(0.999),
+                            result.errors()));
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Ejecuta {@code concurrency} clientes en lazo cerrado durante {@code duration}.
+     */
+    private LoadResult load(URI uri, String token, int concurrency, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        AtomicBoolean running = new AtomicBoolean(true);
+        long start = System.nanoTime();
+
+        List<Future<ClientResult>> clients = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.add(executor.submit(() -> {
+                    ClientResult client = new ClientResult();
+                    while (running.get()) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = this.client.send(request, HttpResponse.BodyHandlers.discarding());
+                            client.record(System.nanoTime() - sent, response.statusCode() == 200);
+                        } catch (Exception e) {
+                            client.record(System.nanoTime() - sent, false);
+                        }
+                    }
+                    return client;
+                }));
+            }
+            Thread.sleep(duration.toMillis());
+            running.set(false);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        int total = 0;
+        for (Future<ClientResult> client : clients) {
+            total += client.get().count;
+        }
+        long[] latencies = new long[total];
+        int offset = 0;
+        long errors = 0;
+        for (Future<ClientResult> client : clients) {
+            ClientResult result = client.get();
+            System.arraycopy(result.latencies, 0, latencies, offset, result.count);
+            offset += result.count;
+            errors += result.errors;
+        }
+        Arrays.sort(latencies);
+        return new LoadResult(latencies, total / seconds, errors);
+    }
+
+    private String login(String baseUrl) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"usernameOrEmail\":\"admin\",\"password\":\"Admin123!\"}"))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login fallido: " + response.statusCode() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body()).path("accessToken").asText();
+    }
+
+    private static void seed(PostgreSQLContainer<?> postgres) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO tire_management.brands (code, name) VALUES ('BEN', 'Marca Benchmark');
+                    INSERT INTO tire_management.types (code, name) VALUES ('BEN', 'Tipo Benchmark');
+                    INSERT INTO tire_management.tire_references (code, name) VALUES ('BEN', 'Referencia Benchmark');
+                    """);
+            statement.execute("""
+                    INSERT INTO tire_management.technical_specifications
+                        (code, brand_id, type_id, reference_id, dimension, expected_mileage,
+                         initial_depth_internal_mm, initial_depth_central_mm, initial_depth_external_mm)
+                    SELECT 'FT-' || lpad(g::text, 6, '0'),
+                           (SELECT id FROM tire_management.brands WHERE code = 'BEN'),
+                           (SELECT id FROM tire_management.types WHERE code = 'BEN'),
+                           (SELECT id FROM tire_management.tire_references WHERE code = 'BEN'),
+                           '295/80R22.5', 100000, 18, 18, 18
+                    FROM generate_series(1, %d) g
+                    """.formatted(SPECIFICATIONS));
+        }
+    }
+
+    /**
+     * Latencias (ns) de un cliente.
+     */
+    private static final class ClientResult {
+        private long[] latencies = new long[1_024];
+        private int count;
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+    }
+
+    private record LoadResult(long[] sortedLatencies, double throughput, long errors) {
+
+        double percentileMs(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.min(sortedLatencies.length - 1, Math.ceil(percentile * sortedLatencies.length) - 1);
+            return sortedLatencies[Math.max(0, index)] / 1e6;
+        }
+    }
+}
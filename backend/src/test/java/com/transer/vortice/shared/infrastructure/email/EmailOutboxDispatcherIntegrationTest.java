@@ -0,0 +1,275 @@
+package com.transer.vortice.shared.infrastructure.email;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.transer.vortice.shared.infrastructure.BaseRepositoryTest;
+import com.transer.vortice.shared.infrastructure.config.EmailOutboxProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Multipart;
+import jakarta.mail.Part;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración del outbox de emails (V3.13.0): encolado, despacho por lotes a un
+ * servidor SMTP en memoria (GreenMail), reintentos con backoff, fallos definitivos,
+ * métricas y purga. Usa Testcontainers con PostgreSQL.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("EmailOutboxDispatcher Integration Tests")
+class EmailOutboxDispatcherIntegrationTest extends BaseRepositoryTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private EmailOutboxRepository repository;
+    private EmailOutboxProperties properties;
+    private MeterRegistry meterRegistry;
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM email_outbox");
+        repository = new EmailOutboxRepository(jdbcTemplate);
+        properties = new EmailOutboxProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        emailService = new EmailService(repository, objectMapper);
+        ReflectionTestUtils.setField(emailService, "appName", "Vórtice");
+        ReflectionTestUtils.setField(emailService, "appUrl", "http://localhost:5173");
+    }
+
+    // =====================================================
+    // TESTS: Despacho
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe enviar el email encolado con la plantilla renderizada")
+    void shouldSendQueuedEmail() throws Exception {
+        // Given
+        emailService.sendPasswordResetEmail("ana@transer.com", "Ana Gómez", "token-123");
+
+        // When
+        int sent = dispatcher(ServerSetupTest.SMTP.getPort()).dispatch();
+
+        // Then
+        assertThat(sent).isEqualTo(1);
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getSubject()).isEqualTo("Recuperación de Contraseña - Vórtice");
+        assertThat(received[0].getAllRecipients()[0].toString()).isEqualTo("ana@transer.com");
+        assertThat(html(received[0]))
+                .contains("Ana Gómez")
+                .contains("http://localhost:5173/reset-password?token=token-123");
+
+        assertThat(jdbcTemplate.queryForMap("SELECT status, attempts, sent_at FROM email_outbox"))
+                .containsEntry("status", "SENT")
+                .containsEntry("attempts", 1)
+                .extractingByKey("sent_at").isNotNull();
+        assertThat(meterRegistry.get("vortice.email.outbox.latency").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("vortice.email.outbox.sent").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe vaciar la cola en varios lotes")
+    void shouldDrainQueueInBatches() {
+        // Given
+        properties.setBatchSize(100);
+        for (int i = 0; i < 250; i++) {
+            emailService.sendWelcomeEmail("usuario" + i + "@transer.com", "Usuario " + i);
+        }
+
+        // When
+        int sent = dispatcher(ServerSetupTest.SMTP.getPort()).dispatch();
+
+        // Then
+        assertThat(sent).isEqualTo(250);
+        assertThat(greenMail.getReceivedMessages()).hasSize(250);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM email_outbox WHERE status = 'SENT'", Integer.class)).isEqualTo(250);
+        assertThat(meterRegistry.get("vortice.email.outbox.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe publicar la profundidad de la cola")
+    void shouldPublishQueueDepth() {
+        // Given
+        emailService.sendWelcomeEmail("a@transer.com", "A");
+        emailService.sendWelcomeEmail("b@transer.com", "B");
+        EmailOutboxDispatcher dispatcher = dispatcher(ServerSetupTest.SMTP.getPort());
+
+        // When
+        dispatcher.refreshMetrics();
+
+        // Then
+        assertThat(meterRegistry.get("vortice.email.outbox.pending").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("vortice.email.outbox.oldest.age").gauge().value()).isGreaterThanOrEqualTo(0);
+    }
+
+    // =====================================================
+    // TESTS: Fallos
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe reprogramar con backoff si el servidor SMTP no está disponible")
+    void shouldRetryWithBackoffWhenSmtpIsDown() {
+        // Given
+        emailService.sendWelcomeEmail("ana@transer.com", "Ana Gómez");
+        EmailOutboxDispatcher dispatcher = dispatcher(1);
+
+        // When
+        int sent = dispatcher.dispatch();
+
+        // Then
+        assertThat(sent).isZero();
+        Map<String, Object> row = jdbcTemplate.queryForMap("""
+                SELECT status, attempts, last_error,
+                       next_attempt_at > CURRENT_TIMESTAMP + INTERVAL '29 seconds' AS delayed
+                FROM email_outbox
+                """);
+        assertThat(row)
+                .containsEntry("status", "PENDING")
+                .containsEntry("attempts", 1)
+                .containsEntry("delayed", true);
+        assertThat(row.get("last_error")).isNotNull();
+        assertThat(meterRegistry.get("vortice.email.outbox.failures").tag("outcome", "retry").counter().count())
+                .isEqualTo(1);
+
+        // El reintento no se reclama antes de su espera
+        assertThat(dispatcher(ServerSetupTest.SMTP.getPort()).dispatch()).isZero();
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe marcar como FAILED al agotar los intentos")
+    void shouldFailAfterMaxAttempts() {
+        // Given
+        emailService.sendWelcomeEmail("ana@transer.com", "Ana Gómez");
+        jdbcTemplate.update("UPDATE email_outbox SET attempts = ?", properties.getMaxAttempts() - 1);
+
+        // When
+        dispatcher(1).dispatch();
+
+        // Then
+        assertThat(jdbcTemplate.queryForMap("SELECT status, attempts FROM email_outbox"))
+                .containsEntry("status", "FAILED")
+                .containsEntry("attempts", properties.getMaxAttempts());
+        assertThat(meterRegistry.get("vortice.email.outbox.failures").tag("outcome", "permanent").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe descartar sin reintentos un email con plantilla inexistente sin afectar al resto del lote")
+    void shouldFailPermanentlyWhenTemplateDoesNotExist() {
+        // Given
+        emailService.sendEmail("ana@transer.com", "Asunto", "no-existe", Map.of());
+        emailService.sendWelcomeEmail("luis@transer.com", "Luis Pérez");
+
+        // When
+        int sent = dispatcher(ServerSetupTest.SMTP.getPort()).dispatch();
+
+        // Then
+        assertThat(sent).isEqualTo(1);
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM email_outbox WHERE template_name = 'no-existe'", String.class))
+                .isEqualTo("FAILED");
+    }
+
+    // =====================================================
+    // TESTS: Purga y backoff
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe purgar por bloques solo los enviados fuera del periodo de retención")
+    void shouldPurgeOldSentEmails() {
+        // Given
+        properties.setPurgeChunkSize(2);
+        jdbcTemplate.update("""
+                INSERT INTO email_outbox (recipient, subject, template_name, status, sent_at)
+                SELECT 'old' || g || '@transer.com', 'Asunto', 'welcome', 'SENT', NOW() - INTERVAL '10 days'
+                FROM generate_series(1, 5) g
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO email_outbox (recipient, subject, template_name, status, sent_at)
+                VALUES ('new@transer.com', 'Asunto', 'welcome', 'SENT', NOW() - INTERVAL '1 day')
+                """);
+        emailService.sendWelcomeEmail("pending@transer.com", "Pendiente");
+
+        // When
+        int purged = dispatcher(ServerSetupTest.SMTP.getPort()).purgeSent();
+
+        // Then
+        assertThat(purged).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForList("SELECT recipient FROM email_outbox ORDER BY recipient", String.class))
+                .containsExactly("new@transer.com", "pending@transer.com");
+    }
+
+    @Test
+    @DisplayName("Debe duplicar la espera en cada intento hasta el máximo")
+    void shouldDoubleBackoffUpToMax() {
+        assertThat(EmailOutboxDispatcher.backoffMs(1, 30_000, 3_600_000)).isEqualTo(30_000);
+        assertThat(EmailOutboxDispatcher.backoffMs(2, 30_000, 3_600_000)).isEqualTo(60_000);
+        assertThat(EmailOutboxDispatcher.backoffMs(4, 30_000, 3_600_000)).isEqualTo(240_000);
+        assertThat(EmailOutboxDispatcher.backoffMs(8, 30_000, 3_600_000)).isEqualTo(3_600_000);
+        assertThat(EmailOutboxDispatcher.backoffMs(100, 30_000, 3_600_000)).isEqualTo(3_600_000);
+    }
+
+    // =====================================================
+    // MÉTODOS AUXILIARES
+    // =====================================================
+
+    private EmailOutboxDispatcher dispatcher(int smtpPort) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpPort);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        return new EmailOutboxDispatcher(repository, mailSender, templateEngine, objectMapper, properties,
+                meterRegistry, "noreply@transer.com", "Vórtice", "http://localhost:5173", "soporte@transer.com");
+    }
+
+    private static String html(Part part) throws Exception {
+        if (part.isMimeType("text/html")) {
+            return (String) part.getContent();
+        }
+        if (part.isMimeType("multipart/*")) {
+            Multipart multipart = (Multipart) part.getContent();
+            for (int i = 0; i < multipart.getCount(); i++) {
+                String html = html(multipart.getBodyPart(i));
+                if (html != null) {
+                    return html;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,158 @@
+package com.transer.vortice.shared.infrastructure.pagination;
+
+import com.transer.vortice.shared.infrastructure.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para KeysetCursor y CursorPage.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("KeysetCursor Tests")
+class KeysetCursorTest {
+
+    private static final String FILTERS = KeysetCursor.hashFilters(UUID.fromString(
+            "a0000000-0000-0000-0000-000000000001"), null, null, true);
+
+    // =====================================================
+    // TESTS: Codificación
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe decodificar el mismo cursor que se codificó")
+    void shouldRoundTrip() {
+        // Given
+        KeysetCursor cursor = new KeysetCursor("Almacén: Bodega/Norte ñ", UUID.randomUUID(),
+                Sort.Direction.DESC, FILTERS);
+
+        // When
+        String encoded = cursor.encode();
+
+        // Then
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(KeysetCursor.decode(encoded, Sort.Direction.DESC, FILTERS)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Sin cursor se interpreta como primera página")
+    void shouldReturnNullForMissingCursor() {
+        assertThat(KeysetCursor.decode(null, Sort.Direction.ASC, FILTERS)).isNull();
+        assertThat(KeysetCursor.decode("  ", Sort.Direction.ASC, FILTERS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar cursores mal formados")
+    void shouldRejectMalformedCursor() {
+        String notBase64 = "%%%";
+        String previousVersion = encodeRaw("1:" + UUID.randomUUID() + ":FT-000001");
+        String badDirection = encodeRaw("2:X:" + FILTERS + ":" + UUID.randomUUID() + ":FT-000001");
+        String badUuid = encodeRaw("2:A:" + FILTERS + ":not-a-uuid-not-a-uuid-not-a-uuid-xxx:FT");
+
+        for (String cursor : List.of(notBase64, previousVersion, badDirection, badUuid)) {
+            assertThatThrownBy(() -> KeysetCursor.decode(cursor, Sort.Direction.ASC, FILTERS))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Cursor de paginación inválido");
+        }
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un cursor generado con otra dirección")
+    void shouldRejectCursorFromOtherDirection() {
+        // Given
+        String cursor = new KeysetCursor("FT-000001", UUID.randomUUID(), Sort.Direction.ASC, FILTERS).encode();
+
+        // When / Then
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, Sort.Direction.DESC, FILTERS))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("dirección");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un cursor generado con otros filtros")
+    void shouldRejectCursorFromOtherFilters() {
+        // Given
+        String cursor = new KeysetCursor("FT-000001", UUID.randomUUID(), Sort.Direction.ASC, FILTERS).encode();
+        String otherFilters = KeysetCursor.hashFilters(UUID.fromString(
+                "a0000000-0000-0000-0000-000000000001"), null, null, false);
+
+        // When / Then
+        assertThat(otherFilters).isNotEqualTo(FILTERS);
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, Sort.Direction.ASC, otherFilters))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("filtros");
+    }
+
+    @Test
+    @DisplayName("El hash de filtros debe ser estable y depender del orden y los nulos")
+    void shouldHashFilters() {
+        UUID brandId = UUID.randomUUID();
+
+        assertThat(KeysetCursor.hashFilters(brandId, null)).isEqualTo(KeysetCursor.hashFilters(brandId, null))
+                .hasSize(8);
+        assertThat(KeysetCursor.hashFilters(brandId, null)).isNotEqualTo(KeysetCursor.hashFilters(null, brandId));
+        assertThat(KeysetCursor.hashFilters("")).isNotEqualTo(KeysetCursor.hashFilters());
+    }
+
+    // =====================================================
+    // TESTS: CursorPage
+    // =====================================================
+
+    @Test
+    @DisplayName("Con una fila extra hay página siguiente y el cursor apunta a la última entregada")
+    void shouldDetectNextPageFromExtraRow() {
+        // Given: se pidieron 3 y el repositorio devolvió 4 (size + 1)
+        List<UUID> ids = IntStream.range(0, 4).mapToObj(i -> UUID.randomUUID()).toList();
+
+        // When
+        CursorPage<String> page = CursorPage.of(ids, 3,
+                id -> new KeysetCursor(id.toString(), id, Sort.Direction.ASC, FILTERS), UUID::toString);
+
+        // Then
+        assertThat(page.content()).hasSize(3);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.nextCursor(), Sort.Direction.ASC, FILTERS).id()).isEqualTo(ids.get(2));
+    }
+
+    @Test
+    @DisplayName("Sin fila extra es la última página")
+    void shouldDetectLastPage() {
+        // Given
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+        // When
+        CursorPage<UUID> page = CursorPage.of(ids, 3,
+                id -> new KeysetCursor("k", id, Sort.Direction.ASC, FILTERS), id -> id);
+
+        // Then
+        assertThat(page.content()).containsExactlyElementsOf(ids);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe leer size + 1 filas y rechazar tamaños fuera de rango")
+    void shouldLimitPageSize() {
+        assertThat(CursorPage.limit(20).getPageSize()).isEqualTo(21);
+        assertThatThrownBy(() -> CursorPage.limit(0)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> CursorPage.limit(CursorPage.MAX_SIZE + 1)).isInstanceOf(ValidationException.class);
+    }
+
+    // =====================================================
+    // Helpers
+    // =====================================================
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
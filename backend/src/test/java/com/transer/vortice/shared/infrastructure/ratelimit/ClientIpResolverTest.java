@@ -0,0 +1,53 @@
+package com.transer.vortice.shared.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para ClientIpResolver.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("ClientIpResolver Tests")
+class ClientIpResolverTest {
+
+    @Test
+    @DisplayName("Debe retornar el mismo String cuando el header tiene un solo salto")
+    void shouldReturnSameInstanceForSingleHop() {
+        String header = "10.0.0.1";
+
+        assertThat(ClientIpResolver.firstHop(header)).isSameAs(header);
+    }
+
+    @Test
+    @DisplayName("Debe extraer el primer salto sin espacios")
+    void shouldExtractFirstHopTrimmed() {
+        assertThat(ClientIpResolver.firstHop(" 10.0.0.1 , 172.16.0.1, 192.168.1.1")).isEqualTo("10.0.0.1");
+        assertThat(ClientIpResolver.firstHop("10.0.0.1,172.16.0.1")).isEqualTo("10.0.0.1");
+    }
+
+    @Test
+    @DisplayName("Debe retornar null para headers vacíos")
+    void shouldReturnNullForEmptyHeader() {
+        assertThat(ClientIpResolver.firstHop(null)).isNull();
+        assertThat(ClientIpResolver.firstHop("")).isNull();
+        assertThat(ClientIpResolver.firstHop("  , 10.0.0.1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe usar X-Real-IP y luego la dirección remota como respaldo")
+    void shouldFallbackToRealIpAndRemoteAddr() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("192.168.1.50");
+        assertThat(ClientIpResolver.resolve(request)).isEqualTo("192.168.1.50");
+
+        request.addHeader("X-Real-IP", "10.0.0.9");
+        assertThat(ClientIpResolver.resolve(request)).isEqualTo("10.0.0.9");
+
+        request.addHeader("X-Forwarded-For", "10.0.0.1, 10.0.0.2");
+        assertThat(ClientIpResolver.resolve(request)).isEqualTo("10.0.0.1");
+    }
+}
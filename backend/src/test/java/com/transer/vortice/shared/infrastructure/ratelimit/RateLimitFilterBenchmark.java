@@ -0,0 +1,99 @@
+package com.transer.vortice.shared.infrastructure.ratelimit;
+
+import com.transer.vortice.shared.infrastructure.config.RateLimitProperties;
+import com.transer.vortice.shared.infrastructure.ratelimit.store.CaffeineRateLimitBucketStore;
+import com.transer.vortice.shared.infrastructure.security.jwt.JwtTokenProvider;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH del camino de decisión de {@link RateLimitFilter}.
+ *
+ * - legacyDecision / compiledDecision: resolución del tipo de límite y de la IP con la
+ *   implementación anterior (String.contains + split de X-Forwarded-For) frente a la tabla
+ *   precompilada y el parser del primer salto.
+ * - filterAllowedRequest: filtro completo para un request permitido con el almacén Caffeine.
+ *
+ * Ejecutar con {@code -prof gc} para verificar la asignación por operación.
+ * Ejecución: {@code mvn test-compile} y luego ejecutar {@link #main(String[])} desde el IDE.
+ *
+ * @author Vórtice Development Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitFilterBenchmark {
+
+    private static final String FORWARDED_FOR = "10.20.30.40, 172.16.0.1, 192.168.1.1";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private RateLimitRouteTable routeTable;
+    private RateLimitFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getGlobal().setCapacity(1_000_000_000L);
+        properties.getGlobal().setRefillTokens(1_000_000_000L);
+
+        routeTable = new RateLimitRouteTable(properties);
+        RateLimitService rateLimitService =
+                new RateLimitService(properties, new CaffeineRateLimitBucketStore(properties));
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                "benchmark-secret-key-with-at-least-256-bits-for-hs256-algorithm", 3_600_000L, 604_800_000L, 10_000L);
+        filter = new RateLimitFilter(rateLimitService, routeTable, jwtTokenProvider);
+
+        request = new MockHttpServletRequest("GET", "/api/tire-specifications/search");
+        request.setContextPath("/api");
+        request.addHeader("X-Forwarded-For", FORWARDED_FOR);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void legacyDecision(Blackhole blackhole) {
+        String uri = request.getRequestURI();
+        RateLimitService.RateLimitType limitType;
+        if (uri.contains("/auth/login")) {
+            limitType = RateLimitService.RateLimitType.AUTH;
+        } else if (uri.contains("/auth/register")) {
+            limitType = RateLimitService.RateLimitType.REGISTER;
+        } else {
+            limitType = RateLimitService.RateLimitType.GLOBAL;
+        }
+        blackhole.consume(limitType);
+        blackhole.consume(request.getHeader("X-Forwarded-For").split(",")[0].trim());
+    }
+
+    @Benchmark
+    public void compiledDecision(Blackhole blackhole) {
+        blackhole.consume(routeTable.resolve(
+                request.getMethod(), request.getRequestURI(), request.getContextPath().length()));
+        blackhole.consume(ClientIpResolver.resolve(request));
+    }
+
+    @Benchmark
+    public void filterAllowedRequest() throws ServletException, IOException {
+        filter.doFilter(request, response, NO_OP_CHAIN);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RateLimitFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
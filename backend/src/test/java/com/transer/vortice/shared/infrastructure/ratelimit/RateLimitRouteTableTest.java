@@ -0,0 +1,72 @@
+package com.transer.vortice.shared.infrastructure.ratelimit;
+
+import com.transer.vortice.shared.infrastructure.config.RateLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para RateLimitRouteTable.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("RateLimitRouteTable Tests")
+class RateLimitRouteTableTest {
+
+    private RateLimitRouteTable routeTable;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(
+                new RateLimitProperties.RouteConfig("/auth", null, RateLimitService.RateLimitType.AUTH, 1),
+                new RateLimitProperties.RouteConfig("/auth/register", "post", RateLimitService.RateLimitType.REGISTER, 1),
+                new RateLimitProperties.RouteConfig("/v1/tire-specifications/search", "GET",
+                        RateLimitService.RateLimitType.GLOBAL, 5)
+        ));
+        routeTable = new RateLimitRouteTable(properties);
+    }
+
+    @Test
+    @DisplayName("Debe aplicar el prefijo más largo que coincide")
+    void shouldApplyLongestMatchingPrefix() {
+        assertThat(routeTable.resolve("POST", "/auth/register", 0).limitType())
+                .isEqualTo(RateLimitService.RateLimitType.REGISTER);
+        assertThat(routeTable.resolve("POST", "/auth/login", 0).limitType())
+                .isEqualTo(RateLimitService.RateLimitType.AUTH);
+    }
+
+    @Test
+    @DisplayName("Debe respetar el método HTTP configurado")
+    void shouldMatchConfiguredMethod() {
+        assertThat(routeTable.resolve("GET", "/auth/register", 0).limitType())
+                .isEqualTo(RateLimitService.RateLimitType.AUTH);
+    }
+
+    @Test
+    @DisplayName("Debe ignorar el context-path al comparar")
+    void shouldIgnoreContextPath() {
+        assertThat(routeTable.resolve("POST", "/api/auth/register", "/api".length()).limitType())
+                .isEqualTo(RateLimitService.RateLimitType.REGISTER);
+    }
+
+    @Test
+    @DisplayName("Debe retornar el costo configurado de la ruta")
+    void shouldReturnConfiguredCost() {
+        assertThat(routeTable.resolve("GET", "/api/v1/tire-specifications/search", "/api".length()).cost())
+                .isEqualTo(5);
+        assertThat(routeTable.resolve("GET", "/api/v1/tire-specifications/1", "/api".length()).cost())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe usar el límite GLOBAL si ninguna ruta coincide")
+    void shouldDefaultToGlobal() {
+        assertThat(routeTable.resolve("GET", "/api/tire-specifications", "/api".length()).limitType())
+                .isEqualTo(RateLimitService.RateLimitType.GLOBAL);
+    }
+}
@@ -0,0 +1,75 @@
+package com.transer.vortice.shared.infrastructure.ratelimit;
+
+import com.transer.vortice.shared.infrastructure.config.RateLimitProperties;
+import com.transer.vortice.shared.infrastructure.ratelimit.store.CaffeineRateLimitBucketStore;
+import io.github.bucket4j.Bucket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para RateLimitService.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("RateLimitService Tests")
+class RateLimitServiceTest {
+
+    private RateLimitService rateLimitService;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getAuth().setCapacity(5);
+        properties.getAuth().setRefillTokens(5);
+        properties.getAuthenticated().getDefaultTier().setCapacity(300);
+
+        RateLimitProperties.LimitConfig adminTier = new RateLimitProperties.LimitConfig();
+        adminTier.setCapacity(1000);
+        RateLimitProperties.LimitConfig supervisorTier = new RateLimitProperties.LimitConfig();
+        supervisorTier.setCapacity(500);
+        properties.getAuthenticated().getTiers().put("ADMIN", adminTier);
+        properties.getAuthenticated().getTiers().put("SUPERVISOR", supervisorTier);
+
+        rateLimitService = new RateLimitService(properties, new CaffeineRateLimitBucketStore(properties));
+    }
+
+    @Test
+    @DisplayName("Debe aplicar el nivel por defecto a usuarios sin rol con nivel")
+    void shouldApplyDefaultTier() {
+        RateLimitPolicy policy = rateLimitService.getTierPolicy(List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        assertThat(policy.getName()).isEqualTo("TIER_DEFAULT");
+        assertThat(policy.getLimitHeader()).isEqualTo("300");
+    }
+
+    @Test
+    @DisplayName("Debe aplicar el nivel de mayor capacidad entre los roles del usuario")
+    void shouldApplyHighestTier() {
+        RateLimitPolicy policy = rateLimitService.getTierPolicy(List.of(
+                new SimpleGrantedAuthority("ROLE_SUPERVISOR"),
+                new SimpleGrantedAuthority("ROLE_ADMIN"),
+                new SimpleGrantedAuthority("TIRE_VIEW")));
+
+        assertThat(policy.getName()).isEqualTo("TIER_ADMIN");
+        assertThat(policy.getCapacity()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("Debe reportar la capacidad real de la política en las estadísticas")
+    void shouldReportRealCapacity() {
+        Bucket bucket = rateLimitService.resolveBucket("10.0.0.1", RateLimitService.RateLimitType.AUTH);
+        bucket.tryConsume(2);
+
+        RateLimitService.BucketStats stats =
+                rateLimitService.getStats("10.0.0.1", RateLimitService.RateLimitType.AUTH);
+
+        assertThat(stats.capacity()).isEqualTo(5);
+        assertThat(stats.remainingTokens()).isEqualTo(3);
+    }
+}
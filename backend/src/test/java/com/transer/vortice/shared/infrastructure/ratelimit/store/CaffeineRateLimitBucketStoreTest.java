@@ -0,0 +1,86 @@
+package com.transer.vortice.shared.infrastructure.ratelimit.store;
+
+import com.transer.vortice.shared.infrastructure.config.RateLimitProperties;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.Refill;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para CaffeineRateLimitBucketStore.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("CaffeineRateLimitBucketStore Tests")
+class CaffeineRateLimitBucketStoreTest {
+
+    private CaffeineRateLimitBucketStore store;
+    private AtomicInteger createdConfigurations;
+    private Supplier<BucketConfiguration> configuration;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxBuckets(100);
+        properties.setIdleExpirationMinutes(60);
+        store = new CaffeineRateLimitBucketStore(properties);
+
+        createdConfigurations = new AtomicInteger();
+        configuration = () -> {
+            createdConfigurations.incrementAndGet();
+            return BucketConfiguration.builder()
+                    .addLimit(Bandwidth.classic(3, Refill.intervally(3, Duration.ofMinutes(1))))
+                    .build();
+        };
+    }
+
+    @Test
+    @DisplayName("Debe reutilizar el bucket de la misma clave")
+    void shouldReuseBucketForSameKey() {
+        // When
+        Bucket first = store.resolve("GLOBAL:10.0.0.1", configuration);
+        first.tryConsume(1);
+        Bucket second = store.resolve("GLOBAL:10.0.0.1", configuration);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getAvailableTokens()).isEqualTo(2);
+        assertThat(createdConfigurations).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Debe crear un bucket nuevo tras invalidar la clave")
+    void shouldCreateNewBucketAfterInvalidate() {
+        // Given
+        Bucket first = store.resolve("AUTH:10.0.0.1", configuration);
+        first.tryConsume(3);
+
+        // When
+        store.invalidate("AUTH:10.0.0.1");
+        Bucket second = store.resolve("AUTH:10.0.0.1", configuration);
+
+        // Then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getAvailableTokens()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Debe mantener buckets independientes por clave")
+    void shouldKeepIndependentBucketsPerKey() {
+        // When
+        store.resolve("GLOBAL:10.0.0.1", configuration).tryConsume(3);
+        Bucket other = store.resolve("GLOBAL:10.0.0.2", configuration);
+
+        // Then
+        assertThat(other.getAvailableTokens()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,209 @@
+package com.transer.vortice.shared.infrastructure.ratelimit.store;
+
+import com.transer.vortice.shared.infrastructure.BaseRepositoryTest;
+import com.transer.vortice.shared.infrastructure.config.RateLimitProperties;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.Refill;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración del almacén de buckets en PostgreSQL (V3.1.0): dos instancias
+ * sobre la misma tabla se comportan como dos réplicas detrás de nginx. Usa
+ * Testcontainers con PostgreSQL.
+ *
+ * Bucket4j usa sus propias conexiones y transacciones (advisory lock por bucket): los
+ * tests no se ejecutan en la transacción del test y limpian la tabla en cada caso.
+ *
+ * @author Vórtice Development Team
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("JdbcRateLimitBucketStore Integration Tests")
+class JdbcRateLimitBucketStoreIntegrationTest extends BaseRepositoryTest {
+
+    private static final String TABLE_NAME = "shared.rate_limit_buckets";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcRateLimitBucketStore nodeA;
+    private JdbcRateLimitBucketStore nodeB;
+    private Supplier<BucketConfiguration> configuration;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM " + TABLE_NAME);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setIdleExpirationMinutes(60);
+        nodeA = new JdbcRateLimitBucketStore(dataSource, jdbcTemplate, properties);
+        nodeB = new JdbcRateLimitBucketStore(dataSource, jdbcTemplate, properties);
+
+        configuration = () -> BucketConfiguration.builder()
+                .addLimit(Bandwidth.classic(3, Refill.intervally(3, Duration.ofMinutes(1))))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM " + TABLE_NAME);
+    }
+
+    // =====================================================
+    // TESTS: Límites compartidos
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe compartir el consumo de un bucket entre instancias")
+    void shouldShareConsumptionAcrossInstances() {
+        // Given
+        Bucket bucketA = nodeA.resolve("AUTH:10.0.0.1", configuration);
+        Bucket bucketB = nodeB.resolve("AUTH:10.0.0.1", configuration);
+
+        // When
+        boolean firstA = bucketA.tryConsume(2);
+        long remainingSeenByB = bucketB.getAvailableTokens();
+        boolean firstB = bucketB.tryConsume(1);
+        boolean secondA = bucketA.tryConsume(1);
+
+        // Then
+        assertThat(firstA).isTrue();
+        assertThat(remainingSeenByB).isEqualTo(1);
+        assertThat(firstB).isTrue();
+        assertThat(secondA).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + TABLE_NAME, Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe mantener buckets independientes por clave")
+    void shouldKeepIndependentBucketsPerKey() {
+        // When
+        nodeA.resolve("AUTH:10.0.0.1", configuration).tryConsume(3);
+
+        // Then
+        assertThat(nodeB.resolve("AUTH:10.0.0.2", configuration).getAvailableTokens()).isEqualTo(3);
+        assertThat(nodeB.resolve("AUTH:10.0.0.1", configuration).getAvailableTokens()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe reiniciar el bucket en todas las instancias al invalidarlo")
+    void shouldInvalidateAcrossInstances() {
+        // Given
+        nodeA.resolve("AUTH:10.0.0.1", configuration).tryConsume(3);
+
+        // When
+        nodeB.invalidate("AUTH:10.0.0.1");
+
+        // Then
+        assertThat(nodeA.resolve("AUTH:10.0.0.1", configuration).getAvailableTokens()).isEqualTo(3);
+    }
+
+    // =====================================================
+    // TESTS: Esquema de la migración
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe coincidir la tabla de la migración con las columnas que usa Bucket4j")
+    void shouldMatchBucket4jTableSchema() {
+        // When
+        Map<String, String> columns = jdbcTemplate.queryForList("""
+                        SELECT column_name, data_type
+                        FROM information_schema.columns
+                        WHERE table_schema = 'shared' AND table_name = 'rate_limit_buckets'
+                        """).stream()
+                .collect(Collectors.toMap(
+                        row -> (String) row.get("column_name"),
+                        row -> (String) row.get("data_type")));
+        String primaryKey = jdbcTemplate.queryForObject("""
+                SELECT a.attname
+                FROM pg_index i
+                JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = ANY (i.indkey)
+                WHERE i.indrelid = 'shared.rate_limit_buckets'::regclass AND i.indisprimary
+                """, String.class);
+
+        // Then - clave de texto (PrimaryKeyMapper.STRING) y estado serializado en bytea
+        assertThat(columns).containsEntry("id", "character varying")
+                .containsEntry("state", "bytea")
+                .containsEntry("updated_at", "timestamp with time zone");
+        assertThat(primaryKey).isEqualTo("id");
+    }
+
+    @Test
+    @DisplayName("Debe guardar el estado del bucket en la fila de su clave")
+    void shouldPersistBucketState() {
+        // When
+        nodeA.resolve("GLOBAL:10.0.0.1", configuration).tryConsume(1);
+
+        // Then
+        byte[] state = jdbcTemplate.queryForObject(
+                "SELECT state FROM " + TABLE_NAME + " WHERE id = ?", byte[].class, "GLOBAL:10.0.0.1");
+        assertThat(state).isNotEmpty();
+    }
+
+    // =====================================================
+    // TESTS: Limpieza de buckets inactivos
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe actualizar updated_at en cada consumo y limpiar solo los inactivos")
+    void shouldTouchAndCleanupIdleBuckets() {
+        // Given
+        nodeA.resolve("GLOBAL:10.0.0.1", configuration).tryConsume(1);
+        nodeA.resolve("GLOBAL:10.0.0.2", configuration).tryConsume(1);
+        markAllIdle();
+        Timestamp idleSince = jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM " + TABLE_NAME + " WHERE id = ?", Timestamp.class, "GLOBAL:10.0.0.2");
+
+        // When - el consumo en otra instancia marca el bucket como usado
+        nodeB.resolve("GLOBAL:10.0.0.2", configuration).tryConsume(1);
+        nodeA.cleanupIdleBuckets();
+
+        // Then
+        Timestamp touchedAt = jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM " + TABLE_NAME + " WHERE id = ?", Timestamp.class, "GLOBAL:10.0.0.2");
+        assertThat(touchedAt).isAfter(idleSince);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM " + TABLE_NAME, String.class))
+                .containsExactly("GLOBAL:10.0.0.2");
+    }
+
+    // =====================================================
+    // MÉTODOS AUXILIARES
+    // =====================================================
+
+    /**
+     * Marca todos los buckets como sin uso desde hace dos horas. El trigger de la tabla
+     * sobrescribe updated_at: se desactiva en la misma conexión solo para esta sentencia.
+     */
+    private void markAllIdle() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET session_replication_role = 'replica'");
+                statement.executeUpdate("UPDATE " + TABLE_NAME + " SET updated_at = now() - INTERVAL '2 hours'");
+                statement.execute("SET session_replication_role = 'origin'");
+            }
+            return null;
+        });
+    }
+}
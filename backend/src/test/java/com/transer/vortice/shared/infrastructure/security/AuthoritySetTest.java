@@ -0,0 +1,234 @@
+package com.transer.vortice.shared.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios del índice de authorities, del conjunto compilado de authorities y de
+ * los permisos efectivos del principal según el modelo de autorización.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("AuthoritySet Tests")
+class AuthoritySetTest {
+
+    private final AuthorityIndex index = new AuthorityIndex();
+
+    // =====================================================
+    // TESTS: AuthorityIndex
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe asignar un ordinal estable y una instancia única por authority")
+    void shouldInternAuthorityOnce() {
+        // When
+        int first = index.intern("TEST_INTERN_READ");
+        int second = index.intern("TEST_INTERN_READ");
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(index.ordinalOf("TEST_INTERN_READ")).isEqualTo(first);
+        assertThat(index.authority("TEST_INTERN_READ")).isSameAs(index.authority(first));
+        assertThat(index.authority(first).getAuthority()).isEqualTo("TEST_INTERN_READ");
+    }
+
+    @Test
+    @DisplayName("Debe resolver un rol con o sin prefijo ROLE_")
+    void shouldResolveRoleWithOrWithoutPrefix() {
+        // When
+        int ordinal = index.internRole("TEST_INTERN_ROLE");
+
+        // Then
+        assertThat(index.ordinalOf("ROLE_TEST_INTERN_ROLE")).isEqualTo(ordinal);
+        assertThat(index.roleOrdinalOf("TEST_INTERN_ROLE")).isEqualTo(ordinal);
+        assertThat(index.roleOrdinalOf("ROLE_TEST_INTERN_ROLE")).isEqualTo(ordinal);
+    }
+
+    @Test
+    @DisplayName("No debe registrar authorities al consultarlas")
+    void shouldNotInternOnLookup() {
+        // Given
+        int size = index.size();
+
+        // When
+        int ordinal = index.ordinalOf("TEST_UNKNOWN_AUTHORITY");
+        int roleOrdinal = index.roleOrdinalOf("TEST_UNKNOWN_ROLE");
+
+        // Then
+        assertThat(ordinal).isEqualTo(-1);
+        assertThat(roleOrdinal).isEqualTo(-1);
+        assertThat(index.size()).isEqualTo(size);
+    }
+
+    // =====================================================
+    // TESTS: AuthoritySet
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe verificar authorities y roles del conjunto")
+    void shouldCheckAuthoritiesAndRoles() {
+        // Given
+        AuthoritySet set = index.setOf(List.of(
+                new SimpleGrantedAuthority("ROLE_TEST_SET_ADMIN"),
+                new SimpleGrantedAuthority("TEST_SET_TIRE_READ")));
+
+        // When & Then
+        assertThat(set.hasAuthority("TEST_SET_TIRE_READ")).isTrue();
+        assertThat(set.hasAuthority("TEST_SET_TIRE_WRITE")).isFalse();
+        assertThat(set.hasAnyAuthority("TEST_SET_TIRE_WRITE", "TEST_SET_TIRE_READ")).isTrue();
+        assertThat(set.hasRole("TEST_SET_ADMIN")).isTrue();
+        assertThat(set.hasRole("ROLE_TEST_SET_ADMIN")).isTrue();
+        assertThat(set.hasRole("TEST_SET_TIRE_READ")).isFalse();
+        assertThat(set.hasAnyRole("TEST_SET_USER", "TEST_SET_ADMIN")).isTrue();
+        assertThat(set.hasAnyRole("TEST_SET_USER")).isFalse();
+    }
+
+    @Test
+    @DisplayName("No debe contener authorities de otro conjunto")
+    void shouldNotContainAuthoritiesOfOtherSet() {
+        // Given
+        index.intern("TEST_OTHER_WRITE");
+        AuthoritySet set = index.setOf(List.of(new SimpleGrantedAuthority("TEST_OTHER_READ")));
+
+        // When & Then
+        assertThat(set.hasAuthority("TEST_OTHER_WRITE")).isFalse();
+        assertThat(set.contains(-1)).isFalse();
+        assertThat(index.setOf(List.of()).hasAuthority("TEST_OTHER_READ")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe devolver las authorities sin duplicados y con las instancias del índice")
+    void shouldReturnDistinctCanonicalAuthorities() {
+        // Given
+        AuthoritySet set = index.setOf(List.of(
+                new SimpleGrantedAuthority("TEST_LIST_B"),
+                new SimpleGrantedAuthority("TEST_LIST_A"),
+                new SimpleGrantedAuthority("TEST_LIST_B")));
+
+        // When
+        List<GrantedAuthority> authorities = set.toAuthorities();
+
+        // Then
+        assertThat(authorities).extracting(GrantedAuthority::getAuthority)
+                .containsExactlyInAnyOrder("TEST_LIST_A", "TEST_LIST_B");
+        assertThat(authorities).allSatisfy(authority ->
+                assertThat(authority).isSameAs(index.authority(authority.getAuthority())));
+    }
+
+    @Test
+    @DisplayName("Debe manejar más de 64 authorities")
+    void shouldHandleMoreThanOneWord() {
+        // Given
+        for (int i = 0; i < 70; i++) {
+            index.intern("TEST_WIDE_" + i);
+        }
+        AuthoritySet set = index.setOf(List.of(new SimpleGrantedAuthority("TEST_WIDE_69")));
+
+        // When & Then
+        assertThat(set.hasAuthority("TEST_WIDE_69")).isTrue();
+        assertThat(set.hasAuthority("TEST_WIDE_5")).isFalse();
+        assertThat(set.toAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("TEST_WIDE_69");
+    }
+
+    // =====================================================
+    // TESTS: Permisos efectivos
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe usar las authorities del token mientras no se carga el modelo")
+    void shouldUseTokenAuthoritiesUntilModelLoaded() {
+        // Given
+        AuthenticatedUser user = principal("ROLE_TEST_ADMIN", "TEST_TIRE_READ");
+
+        // When
+        AuthoritySet authorities = index.authoritiesOf(user);
+
+        // Then
+        assertThat(index.isModelLoaded()).isFalse();
+        assertThat(authorities.hasRole("TEST_ADMIN")).isTrue();
+        assertThat(authorities.hasAuthority("TEST_TIRE_READ")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe resolver los permisos de los roles del token con el modelo vigente")
+    void shouldResolvePermissionsFromModel() {
+        // Given - el token conserva un permiso que el rol ya no tiene
+        index.installModel(Map.of(
+                "TEST_ADMIN", List.of("TEST_TIRE_WRITE"),
+                "TEST_USER", List.of("TEST_TIRE_READ")));
+        AuthenticatedUser user = principal("ROLE_TEST_ADMIN", "TEST_TIRE_READ");
+
+        // When
+        AuthoritySet authorities = index.authoritiesOf(user);
+
+        // Then
+        assertThat(authorities.hasRole("TEST_ADMIN")).isTrue();
+        assertThat(authorities.hasAuthority("TEST_TIRE_WRITE")).isTrue();
+        assertThat(authorities.hasAuthority("TEST_TIRE_READ")).isFalse();
+        assertThat(authorities.hasRole("TEST_USER")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe aplicar un cambio del modelo a un principal ya construido")
+    void shouldApplyModelChangeToExistingPrincipal() {
+        // Given
+        index.installModel(Map.of("TEST_ADMIN", List.of("TEST_TIRE_WRITE")));
+        AuthenticatedUser user = principal("ROLE_TEST_ADMIN", "TEST_TIRE_WRITE");
+        assertThat(index.authoritiesOf(user).hasAuthority("TEST_TIRE_WRITE")).isTrue();
+
+        // When
+        index.installModel(Map.of("TEST_ADMIN", List.of("TEST_TIRE_READ")));
+
+        // Then
+        AuthoritySet authorities = index.authoritiesOf(user);
+        assertThat(authorities.hasAuthority("TEST_TIRE_WRITE")).isFalse();
+        assertThat(authorities.hasAuthority("TEST_TIRE_READ")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe conservar un rol del token que no está en el modelo, sin permisos")
+    void shouldKeepUnknownRoleWithoutPermissions() {
+        // Given
+        index.installModel(Map.of("TEST_ADMIN", List.of("TEST_TIRE_WRITE")));
+        AuthenticatedUser user = principal("ROLE_TEST_REMOVED", "TEST_TIRE_WRITE");
+
+        // When
+        AuthoritySet authorities = index.authoritiesOf(user);
+
+        // Then
+        assertThat(authorities.hasRole("TEST_REMOVED")).isTrue();
+        assertThat(authorities.hasAuthority("TEST_TIRE_WRITE")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe reutilizar el conjunto efectivo de principales con las mismas authorities")
+    void shouldReuseEffectiveSetForSameGrantedAuthorities() {
+        // Given
+        index.installModel(Map.of("TEST_ADMIN", List.of("TEST_TIRE_WRITE")));
+
+        // When
+        AuthoritySet first = index.authoritiesOf(principal("ROLE_TEST_ADMIN"));
+        AuthoritySet second = index.authoritiesOf(principal("ROLE_TEST_ADMIN"));
+
+        // Then
+        assertThat(second).isSameAs(first);
+    }
+
+    // =====================================================
+    // Helpers
+    // =====================================================
+
+    private AuthenticatedUser principal(String... authorities) {
+        return AuthenticatedUser.fromToken(1L, "admin", UUID.randomUUID(),
+                Arrays.stream(authorities).map(SimpleGrantedAuthority::new).toList(), "jti", null);
+    }
+}
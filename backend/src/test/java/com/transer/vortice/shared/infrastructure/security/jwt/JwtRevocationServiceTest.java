@@ -0,0 +1,170 @@
+package com.transer.vortice.shared.infrastructure.security.jwt;
+
+import com.transer.vortice.shared.infrastructure.config.JwtRevocationProperties;
+import com.transer.vortice.shared.infrastructure.security.jwt.JwtRevocationStore.Revocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para JwtRevocationService: revocación local con precisión completa y
+ * sincronización con las revocaciones registradas por otras réplicas.
+ *
+ * @author Vórtice Development Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtRevocationService Tests")
+class JwtRevocationServiceTest {
+
+    private static final long TOKEN_LIFETIME_MS = 3_600_000;
+    private static final Instant NOW = Instant.parse("2026-10-18T10:00:00.750123Z");
+
+    @Mock
+    private JwtRevocationStore store;
+
+    private JwtRevocationProperties properties;
+    private JwtRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtRevocationProperties();
+        service = new JwtRevocationService(store, properties, TOKEN_LIFETIME_MS, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    // =====================================================
+    // TESTS: Revocación por usuario
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe revocar un token emitido en el mismo segundo que la revocación")
+    void shouldRevokeTokenIssuedInSameSecond() {
+        // Given - iat tiene precisión de segundos: 10:00:00 para un token emitido a las 10:00:00.400
+        Instant issuedAt = NOW.truncatedTo(ChronoUnit.SECONDS);
+
+        // When
+        service.revokeAllForUser(1L);
+
+        // Then
+        assertThat(service.isRevoked("jti-1", 1L, issuedAt)).isTrue();
+        assertThat(service.isRevoked("jti-2", 1L, issuedAt.minusSeconds(60))).isTrue();
+    }
+
+    @Test
+    @DisplayName("No debe revocar tokens emitidos en un segundo posterior ni de otro usuario")
+    void shouldNotRevokeLaterOrOtherUsersTokens() {
+        // When
+        service.revokeAllForUser(1L);
+
+        // Then
+        assertThat(service.isRevoked("jti-1", 1L, NOW.truncatedTo(ChronoUnit.SECONDS).plusSeconds(1))).isFalse();
+        assertThat(service.isRevoked("jti-2", 2L, NOW.minusSeconds(60))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe guardar la revocación del usuario con precisión de microsegundos")
+    void shouldStoreUserRevocationWithFullPrecision() {
+        // When
+        service.revokeAllForUser(1L);
+
+        // Then
+        verify(store).insertUser(1L, NOW, NOW.plusMillis(TOKEN_LIFETIME_MS));
+    }
+
+    // =====================================================
+    // TESTS: Revocación por token
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe revocar un token hasta su expiración")
+    void shouldRevokeToken() {
+        // Given
+        Instant expiresAt = NOW.plusSeconds(600);
+
+        // When
+        service.revokeToken("jti-1", expiresAt);
+
+        // Then
+        assertThat(service.isRevoked("jti-1", 1L, NOW)).isTrue();
+        assertThat(service.isRevoked("jti-2", 1L, NOW)).isFalse();
+        verify(store).insertToken("jti-1", NOW, expiresAt);
+    }
+
+    @Test
+    @DisplayName("No debe guardar revocaciones sin jti ni usuario")
+    void shouldIgnoreNullTargets() {
+        // When
+        service.revokeToken(null, null);
+        service.revokeAllForUser(null);
+
+        // Then
+        verifyNoInteractions(store);
+    }
+
+    // =====================================================
+    // TESTS: Sincronización entre réplicas
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe cargar todas las revocaciones vigentes en la primera sincronización")
+    void shouldLoadActiveRevocationsFirst() {
+        // Given
+        when(store.findActive()).thenReturn(List.of(
+                new Revocation("jti-remote", null, NOW.minusSeconds(10), NOW.plusSeconds(600)),
+                new Revocation(null, 7L, NOW.minusSeconds(10), NOW.plusSeconds(3_600))));
+
+        // When
+        int loaded = service.synchronize();
+
+        // Then
+        assertThat(loaded).isEqualTo(2);
+        assertThat(service.isRevoked("jti-remote", 1L, NOW)).isTrue();
+        assertThat(service.isRevoked("jti-3", 7L, NOW.minusSeconds(10))).isTrue();
+        assertThat(service.isRevoked("jti-4", 7L, NOW)).isFalse();
+        verify(store, never()).findRecordedSince(any());
+    }
+
+    @Test
+    @DisplayName("Debe leer las revocaciones nuevas desde la lectura anterior menos el margen")
+    void shouldReadRecordedSinceLastSyncWithLookback() {
+        // Given
+        when(store.findActive()).thenReturn(List.of());
+        when(store.findRecordedSince(any())).thenReturn(List.of(
+                new Revocation(null, 9L, NOW, NOW.plusSeconds(3_600))));
+        service.synchronize();
+
+        // When
+        service.synchronize();
+
+        // Then
+        verify(store).findRecordedSince(NOW.minusMillis(properties.getPollLookbackMs()));
+        assertThat(service.isRevoked("jti-1", 9L, NOW.truncatedTo(ChronoUnit.SECONDS))).isTrue();
+    }
+
+    @Test
+    @DisplayName("No debe retroceder la revocación de un usuario al leer una anterior")
+    void shouldKeepLatestUserRevocation() {
+        // Given
+        service.revokeAllForUser(1L);
+        when(store.findActive()).thenReturn(List.of(
+                new Revocation(null, 1L, NOW.minusSeconds(120), NOW.plusSeconds(3_000))));
+
+        // When
+        service.synchronize();
+
+        // Then
+        assertThat(service.isRevoked("jti-1", 1L, NOW.truncatedTo(ChronoUnit.SECONDS))).isTrue();
+    }
+}
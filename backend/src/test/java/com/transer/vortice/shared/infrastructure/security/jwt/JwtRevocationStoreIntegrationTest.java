@@ -0,0 +1,104 @@
+package com.transer.vortice.shared.infrastructure.security.jwt;
+
+import com.transer.vortice.shared.infrastructure.BaseRepositoryTest;
+import com.transer.vortice.shared.infrastructure.config.JwtRevocationProperties;
+import com.transer.vortice.shared.infrastructure.security.jwt.JwtRevocationStore.Revocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración de la lista de revocación compartida (V3.15.0): dos instancias
+ * del servicio sobre la misma tabla se comportan como dos réplicas. Usa Testcontainers
+ * con PostgreSQL.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("JwtRevocationStore Integration Tests")
+class JwtRevocationStoreIntegrationTest extends BaseRepositoryTest {
+
+    private static final long TOKEN_LIFETIME_MS = 3_600_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JwtRevocationStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new JwtRevocationStore(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Debe aplicar en otra réplica las revocaciones registradas por una")
+    void shouldShareRevocationsAcrossInstances() {
+        // Given
+        JwtRevocationService nodeA = new JwtRevocationService(store, new JwtRevocationProperties(), TOKEN_LIFETIME_MS);
+        JwtRevocationService nodeB = new JwtRevocationService(store, new JwtRevocationProperties(), TOKEN_LIFETIME_MS);
+        nodeB.synchronize();
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        // When
+        nodeA.revokeAllForUser(1L);
+        nodeA.revokeToken("jti-logout", Instant.now().plusSeconds(600));
+        int read = nodeB.synchronize();
+
+        // Then
+        assertThat(read).isEqualTo(2);
+        assertThat(nodeB.isRevoked("jti-1", 1L, issuedAt)).isTrue();
+        assertThat(nodeB.isRevoked("jti-logout", 2L, issuedAt)).isTrue();
+        assertThat(nodeB.isRevoked("jti-2", 2L, issuedAt)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe conservar la precisión de microsegundos del instante de revocación")
+    void shouldKeepMicrosecondPrecision() {
+        // Given
+        Instant revokedAt = Instant.parse("2026-10-18T10:00:00.123456Z");
+
+        // When
+        store.insertUser(1L, revokedAt, Instant.now().plusSeconds(600));
+
+        // Then
+        assertThat(store.findActive()).extracting(Revocation::revokedAt).containsExactly(revokedAt);
+    }
+
+    @Test
+    @DisplayName("Debe leer solo las revocaciones vigentes registradas desde el instante dado")
+    void shouldFindRecordedSince() {
+        // Given
+        store.insertToken("jti-old", Instant.now(), Instant.now().plusSeconds(600));
+        jdbcTemplate.update("UPDATE jwt_revocations SET recorded_at = recorded_at - INTERVAL '10 minutes'");
+        store.insertToken("jti-new", Instant.now(), Instant.now().plusSeconds(600));
+        store.insertToken("jti-expired", Instant.now().minusSeconds(120), Instant.now().minusSeconds(60));
+
+        // When
+        List<Revocation> recent = store.findRecordedSince(Instant.now().minusSeconds(60));
+
+        // Then
+        assertThat(recent).extracting(Revocation::tokenId).containsExactly("jti-new");
+    }
+
+    @Test
+    @DisplayName("Debe eliminar solo las revocaciones vencidas")
+    void shouldDeleteExpired() {
+        // Given
+        store.insertToken("jti-valid", Instant.now(), Instant.now().plusSeconds(600));
+        store.insertUser(1L, Instant.now().minusSeconds(120), Instant.now().minusSeconds(60));
+
+        // When
+        int deleted = store.deleteExpired();
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(store.findActive()).extracting(Revocation::tokenId).containsExactly("jti-valid");
+    }
+}
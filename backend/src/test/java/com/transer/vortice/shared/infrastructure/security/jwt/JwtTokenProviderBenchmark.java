@@ -0,0 +1,86 @@
+package com.transer.vortice.shared.infrastructure.security.jwt;
+
+import com.transer.vortice.shared.infrastructure.security.AuthenticatedUser;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH del procesamiento del access token en el filtro JWT.
+ *
+ * Compara:
+ * - legacyDoubleParse: camino anterior (validateToken + getUsernameFromToken), construyendo
+ *   un parser nuevo y verificando la firma dos veces por request.
+ * - singlePassNoCache: verificación y extracción de claims en una sola pasada con parser reutilizado.
+ * - singlePassCached: {@link JwtTokenProvider#parseToken(String)} con el token ya en caché.
+ *
+ * Ejecución: {@code mvn test-compile} y luego ejecutar {@link #main(String[])} desde el IDE
+ * (o {@code java -cp <test-classpath> org.openjdk.jmh.Main JwtTokenProviderBenchmark}).
+ *
+ * @author Vórtice Development Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-with-at-least-256-bits-for-hs256-algorithm";
+
+    private JwtTokenProvider provider;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(SECRET, 3_600_000L, 604_800_000L, 10_000L);
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+        AuthenticatedUser principal = new AuthenticatedUser(
+                1L, "benchmark", null, UUID.randomUUID(),
+                List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("TIRE_VIEW")),
+                true, true);
+        token = provider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        // Calentar la caché para singlePassCached
+        provider.parseToken(token);
+    }
+
+    @Benchmark
+    public String legacyDoubleParse() {
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+        Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public JwtClaims singlePassNoCache() {
+        return provider.verifyAndExtract(token);
+    }
+
+    @Benchmark
+    public JwtClaims singlePassCached() {
+        return provider.parseToken(token).orElseThrow();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtTokenProviderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,111 @@
+package com.transer.vortice.shared.infrastructure.security.jwt;
+
+import com.transer.vortice.shared.infrastructure.security.AuthenticatedUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para JwtTokenProvider.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("JwtTokenProvider Tests")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-with-at-least-256-bits-for-hs256-algorithm";
+
+    private JwtTokenProvider provider;
+    private UUID officeId;
+
+    @BeforeEach
+    void setUp() {
+        provider = new JwtTokenProvider(SECRET, 3_600_000L, 604_800_000L, 100L);
+        officeId = UUID.randomUUID();
+    }
+
+    private String generateToken() {
+        AuthenticatedUser principal = new AuthenticatedUser(
+                7L, "testuser", null, officeId,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("TIRE_VIEW")),
+                true, true);
+        return provider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @Test
+    @DisplayName("Debe extraer todos los claims del token en una sola pasada")
+    void shouldParseAllClaimsInSinglePass() {
+        // Given
+        String token = generateToken();
+
+        // When
+        Optional<JwtClaims> result = provider.parseToken(token);
+
+        // Then
+        assertThat(result).isPresent();
+        JwtClaims claims = result.get();
+        assertThat(claims.subject()).isEqualTo("testuser");
+        assertThat(claims.userId()).isEqualTo(7L);
+        assertThat(claims.officeId()).isEqualTo(officeId);
+        assertThat(claims.tokenId()).isNotBlank();
+        assertThat(claims.expiresAt()).isAfter(claims.issuedAt());
+        assertThat(claims.authorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER", "TIRE_VIEW");
+    }
+
+    @Test
+    @DisplayName("Debe reutilizar los claims verificados de la caché")
+    void shouldReuseCachedClaims() {
+        // Given
+        String token = generateToken();
+        JwtClaims first = provider.parseToken(token).orElseThrow();
+
+        // When
+        JwtClaims second = provider.parseToken(token).orElseThrow();
+
+        // Then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un token con firma alterada")
+    void shouldRejectTamperedToken() {
+        // Given
+        String token = generateToken();
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // When & Then
+        assertThat(provider.parseToken(tampered)).isEmpty();
+        assertThat(provider.validateToken(tampered)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un token firmado con otra clave")
+    void shouldRejectTokenSignedWithOtherKey() {
+        // Given
+        JwtTokenProvider other = new JwtTokenProvider(
+                "another-secret-key-with-at-least-256-bits-for-hs256-algorithm", 3_600_000L, 604_800_000L, 100L);
+        String foreignToken = other.generateRefreshToken("testuser");
+
+        // When & Then
+        assertThat(provider.parseToken(foreignToken)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar tokens vacíos o nulos")
+    void shouldRejectEmptyToken() {
+        assertThat(provider.parseToken(null)).isEmpty();
+        assertThat(provider.parseToken("")).isEmpty();
+    }
+}
@@ -0,0 +1,96 @@
+package com.transer.vortice.shared.infrastructure.sequence;
+
+import com.transer.vortice.shared.infrastructure.BaseRepositoryTest;
+import com.transer.vortice.tire.application.service.CodeGeneratorService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración para CodeAllocator.
+ * Usa Testcontainers con PostgreSQL para validar la asignación concurrente
+ * contra las secuencias reales creadas por Flyway.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("CodeAllocator Integration Tests")
+class CodeAllocatorIntegrationTest extends BaseRepositoryTest {
+
+    private static final CodeSequence SEQUENCE = CodeGeneratorService.TIRE_SPECIFICATION;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Debe asignar códigos únicos a muchos creadores concurrentes en varias réplicas")
+    void shouldAllocateUniqueCodesAcrossConcurrentCreatorsAndReplicas() throws Exception {
+        // Given: dos asignadores simulan dos réplicas del backend sobre la misma secuencia
+        List<CodeAllocator> replicas = List.of(new CodeAllocator(jdbcTemplate), new CodeAllocator(jdbcTemplate));
+        int creators = 16;
+        int codesPerCreator = 100;
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(creators);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < creators; i++) {
+            CodeAllocator allocator = replicas.get(i % replicas.size());
+            results.add(executor.submit(() -> {
+                start.await();
+                int duplicates = 0;
+                for (int j = 0; j < codesPerCreator; j++) {
+                    if (!codes.add(allocator.nextCode(SEQUENCE))) {
+                        duplicates++;
+                    }
+                }
+                return duplicates;
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        for (Future<Integer> result : results) {
+            assertThat(result.get()).isZero();
+        }
+        assertThat(codes).hasSize(creators * codesPerCreator);
+        assertThat(codes).allMatch(code -> code.matches("FT-\\d{6,}"));
+    }
+
+    @Test
+    @DisplayName("Debe reservar bloques del tamaño del INCREMENT BY de la secuencia")
+    void shouldReserveBlocksOfSequenceIncrement() {
+        // Given
+        CodeAllocator allocator = new CodeAllocator(jdbcTemplate);
+        Long blockSize = jdbcTemplate.queryForObject(
+                "SELECT increment_by FROM pg_sequences WHERE schemaname = 'tire_management' "
+                        + "AND sequencename = 'seq_technical_specification_code'", Long.class);
+
+        // When
+        long first = allocator.nextValue(SEQUENCE);
+        for (int i = 1; i < blockSize; i++) {
+            allocator.nextValue(SEQUENCE);
+        }
+        Long lastReserved = jdbcTemplate.queryForObject(
+                "SELECT last_value FROM tire_management.seq_technical_specification_code", Long.class);
+
+        // Then: todo el bloque se entregó desde memoria, sin avanzar la secuencia
+        assertThat(lastReserved).isEqualTo(first);
+        assertThat(allocator.nextValue(SEQUENCE)).isGreaterThanOrEqualTo(first + blockSize);
+    }
+}
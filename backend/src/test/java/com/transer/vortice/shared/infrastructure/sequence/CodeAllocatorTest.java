@@ -0,0 +1,131 @@
+package com.transer.vortice.shared.infrastructure.sequence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para CodeAllocator.
+ * Simula la secuencia de PostgreSQL con un contador atómico.
+ *
+ * @author Vórtice Development Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CodeAllocator Tests")
+class CodeAllocatorTest {
+
+    private static final CodeSequence SEQUENCE = new CodeSequence("FT", "tire_management.seq_test", 6);
+    private static final long BLOCK_SIZE = 10;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CodeAllocator codeAllocator;
+    private AtomicLong sequenceValue;
+
+    @BeforeEach
+    void setUp() {
+        codeAllocator = new CodeAllocator(jdbcTemplate);
+        sequenceValue = new AtomicLong(1);
+    }
+
+    private void givenSequenceWithBlockSize(long blockSize) {
+        when(jdbcTemplate.queryForObject(contains("pg_sequences"), eq(Long.class), eq("tire_management"), eq("seq_test")))
+                .thenReturn(blockSize);
+        when(jdbcTemplate.queryForObject(contains("nextval"), eq(Long.class), eq("tire_management.seq_test")))
+                .thenAnswer(invocation -> sequenceValue.getAndAdd(blockSize));
+    }
+
+    @Test
+    @DisplayName("Debe entregar un bloque completo con un solo nextval")
+    void shouldServeWholeBlockWithSingleRoundTrip() {
+        // Given
+        givenSequenceWithBlockSize(BLOCK_SIZE);
+
+        // When
+        List<String> codes = codeAllocator.nextCodes(SEQUENCE, (int) BLOCK_SIZE);
+
+        // Then
+        assertThat(codes).first().isEqualTo("FT-000001");
+        assertThat(codes).last().isEqualTo("FT-000010");
+        verify(jdbcTemplate, times(1)).queryForObject(contains("nextval"), eq(Long.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Debe reservar un nuevo bloque al agotar el actual")
+    void shouldReserveNewBlockWhenExhausted() {
+        // Given
+        givenSequenceWithBlockSize(BLOCK_SIZE);
+        codeAllocator.nextCodes(SEQUENCE, (int) BLOCK_SIZE);
+
+        // When
+        String code = codeAllocator.nextCode(SEQUENCE);
+
+        // Then
+        assertThat(code).isEqualTo("FT-000011");
+        verify(jdbcTemplate, times(2)).queryForObject(contains("nextval"), eq(Long.class), any(Object[].class));
+        verify(jdbcTemplate, times(1)).queryForObject(contains("pg_sequences"), eq(Long.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar secuencias sin INCREMENT BY positivo")
+    void shouldRejectSequenceWithoutPositiveIncrement() {
+        // Given
+        when(jdbcTemplate.queryForObject(contains("pg_sequences"), eq(Long.class), any(Object[].class)))
+                .thenReturn(null);
+
+        // When & Then
+        assertThatThrownBy(() -> codeAllocator.nextCode(SEQUENCE))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Debe asignar códigos únicos a muchos hilos concurrentes")
+    void shouldAllocateUniqueCodesConcurrently() throws InterruptedException {
+        // Given
+        givenSequenceWithBlockSize(BLOCK_SIZE);
+        int threads = 32;
+        int codesPerThread = 250;
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < codesPerThread; j++) {
+                    codes.add(codeAllocator.nextCode(SEQUENCE));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        int total = threads * codesPerThread;
+        assertThat(codes).hasSize(total);
+        verify(jdbcTemplate, times(total / (int) BLOCK_SIZE))
+                .queryForObject(contains("nextval"), eq(Long.class), any(Object[].class));
+    }
+}
@@ -1,7 +1,6 @@
 package com.transer.vortice.tire.application.service;
 
-import com.transer.vortice.tire.domain.repository.TireSpecificationRepository;
-import org.junit.jupiter.api.BeforeEach;
+import com.transer.vortice.shared.infrastructure.sequence.CodeAllocator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,152 +22,76 @@ import static org.mockito.Mockito.*;
 class CodeGeneratorServiceTest {
 
     @Mock
-    private TireSpecificationRepository tireSpecificationRepository;
+    private CodeAllocator codeAllocator;
 
     @InjectMocks
     private CodeGeneratorService codeGeneratorService;
 
-    @BeforeEach
-    void setUp() {
-        // Setup inicial si es necesario
-    }
-
     // =====================================================
-    // TESTS: Generación de Código
+    // TESTS: Formato de Código
     // =====================================================
 
     @Test
     @DisplayName("Debe generar código con formato correcto FT-000001")
     void shouldGenerateCodeWithCorrectFormat() {
-        // Given
-        when(tireSpecificationRepository.count()).thenReturn(0L);
-        when(tireSpecificationRepository.existsByCode("FT-000001")).thenReturn(false);
-
-        // When
-        String generatedCode = codeGeneratorService.generateTireSpecificationCode();
-
-        // Then
-        assertThat(generatedCode).isNotNull();
-        assertThat(generatedCode).isEqualTo("FT-000001");
-        assertThat(generatedCode).matches("FT-\\d{6}");
-
-        verify(tireSpecificationRepository, times(1)).count();
-        verify(tireSpecificationRepository, times(1)).existsByCode("FT-000001");
-    }
-
-    @Test
-    @DisplayName("Debe generar código secuencial basado en el contador")
-    void shouldGenerateSequentialCodeBasedOnCount() {
-        // Given
-        when(tireSpecificationRepository.count()).thenReturn(42L);
-        when(tireSpecificationRepository.existsByCode("FT-000043")).thenReturn(false);
-
-        // When
-        String generatedCode = codeGeneratorService.generateTireSpecificationCode();
-
-        // Then
-        assertThat(generatedCode).isNotNull();
-        assertThat(generatedCode).isEqualTo("FT-000043");
-
-        verify(tireSpecificationRepository, times(1)).count();
-        verify(tireSpecificationRepository, times(1)).existsByCode("FT-000043");
+        assertThat(CodeGeneratorService.TIRE_SPECIFICATION.format(1)).isEqualTo("FT-000001");
+        assertThat(CodeGeneratorService.TIRE_SPECIFICATION.format(43)).matches("FT-\\d{6}");
     }
 
     @Test
     @DisplayName("Debe generar código con padding de 6 dígitos")
     void shouldGenerateCodeWithSixDigitPadding() {
-        // Given
-        when(tireSpecificationRepository.count()).thenReturn(99999L);
-        when(tireSpecificationRepository.existsByCode("FT-100000")).thenReturn(false);
-
-        // When
-        String generatedCode = codeGeneratorService.generateTireSpecificationCode();
-
-        // Then
-        assertThat(generatedCode).isNotNull();
-        assertThat(generatedCode).isEqualTo("FT-100000");
-        assertThat(generatedCode).hasSize(9); // FT- (3) + 6 dígitos
+        String code = CodeGeneratorService.TIRE_SPECIFICATION.format(100000);
 
-        verify(tireSpecificationRepository, times(1)).count();
+        assertThat(code).isEqualTo("FT-100000");
+        assertThat(code).hasSize(9); // FT- (3) + 6 dígitos
     }
 
     @Test
-    @DisplayName("Debe saltar código si ya existe (manejo de eliminaciones)")
-    void shouldSkipCodeIfAlreadyExists() {
-        // Given
-        when(tireSpecificationRepository.count()).thenReturn(5L);
-        when(tireSpecificationRepository.existsByCode("FT-000006")).thenReturn(true);
-        when(tireSpecificationRepository.existsByCode("FT-000007")).thenReturn(false);
-
-        // When
-        String generatedCode = codeGeneratorService.generateTireSpecificationCode();
-
-        // Then
-        assertThat(generatedCode).isNotNull();
-        assertThat(generatedCode).isEqualTo("FT-000007");
-
-        verify(tireSpecificationRepository, times(1)).count();
-        verify(tireSpecificationRepository, times(1)).existsByCode("FT-000006");
-        verify(tireSpecificationRepository, times(1)).existsByCode("FT-000007");
+    @DisplayName("Debe conservar todos los dígitos cuando el número supera el ancho")
+    void shouldKeepAllDigitsWhenNumberExceedsWidth() {
+        assertThat(CodeGeneratorService.TIRE_SPECIFICATION.format(1234567)).isEqualTo("FT-1234567");
     }
 
     @Test
-    @DisplayName("Debe intentar múltiples códigos hasta encontrar uno disponible")
-    void shouldTryMultipleCodesUntilFindingAvailableOne() {
-        // Given
-        when(tireSpecificationRepository.count()).thenReturn(10L);
-        when(tireSpecificationRepository.existsByCode("FT-000011")).thenReturn(true);
-        when(tireSpecificationRepository.existsByCode("FT-000012")).thenReturn(true);
-        when(tireSpecificationRepository.existsByCode("FT-000013")).thenReturn(false);
-
-        // When
-        String generatedCode = codeGeneratorService.generateTireSpecificationCode();
-
-        // Then
-        assertThat(generatedCode).isNotNull();
-        assertThat(generatedCode).isEqualTo("FT-000013");
-
-        verify(tireSpecificationRepository, times(1)).count();
-        verify(tireSpecificationRepository, times(1)).existsByCode("FT-000011");
-        verify(tireSpecificationRepository, times(1)).existsByCode("FT-000012");
-        verify(tireSpecificationRepository, times(1)).existsByCode("FT-000013");
+    @DisplayName("Debe formatear números de llanta y certificados de baja")
+    void shouldFormatTireNumbersAndRetirementCertificates() {
+        assertThat(CodeGeneratorService.TIRE_NUMBER.format(7)).isEqualTo("LL-00000007");
+        assertThat(CodeGeneratorService.RETIREMENT_CERTIFICATE.format(7)).isEqualTo("CB-000007");
     }
 
+    // =====================================================
+    // TESTS: Generación de Código
+    // =====================================================
+
     @Test
-    @DisplayName("Debe generar código con prefijo FT-")
-    void shouldGenerateCodeWithPrefixFT() {
+    @DisplayName("Debe asignar el código de ficha técnica desde la secuencia")
+    void shouldAllocateSpecificationCodeFromSequence() {
         // Given
-        when(tireSpecificationRepository.count()).thenReturn(0L);
-        when(tireSpecificationRepository.existsByCode(anyString())).thenReturn(false);
+        when(codeAllocator.nextCode(CodeGeneratorService.TIRE_SPECIFICATION)).thenReturn("FT-000043");
 
         // When
         String generatedCode = codeGeneratorService.generateTireSpecificationCode();
 
         // Then
-        assertThat(generatedCode).startsWith("FT-");
-        assertThat(generatedCode).matches("^FT-\\d{6}$");
+        assertThat(generatedCode).isEqualTo("FT-000043");
+        verify(codeAllocator, times(1)).nextCode(CodeGeneratorService.TIRE_SPECIFICATION);
     }
 
     @Test
-    @DisplayName("Debe generar diferentes códigos en múltiples llamadas")
-    void shouldGenerateDifferentCodesOnMultipleCalls() {
+    @DisplayName("Debe usar una secuencia distinta por tipo de código")
+    void shouldUseDistinctSequencePerCodeType() {
         // Given
-        when(tireSpecificationRepository.count())
-                .thenReturn(0L)
-                .thenReturn(1L)
-                .thenReturn(2L);
-        when(tireSpecificationRepository.existsByCode(anyString())).thenReturn(false);
+        when(codeAllocator.nextCode(CodeGeneratorService.TIRE_NUMBER)).thenReturn("LL-00000001");
+        when(codeAllocator.nextCode(CodeGeneratorService.RETIREMENT_CERTIFICATE)).thenReturn("CB-000001");
 
         // When
-        String code1 = codeGeneratorService.generateTireSpecificationCode();
-        String code2 = codeGeneratorService.generateTireSpecificationCode();
-        String code3 = codeGeneratorService.generateTireSpecificationCode();
+        String tireNumber = codeGeneratorService.generateTireNumber();
+        String certificate = codeGeneratorService.generateRetirementCertificateNumber();
 
         // Then
-        assertThat(code1).isEqualTo("FT-000001");
-        assertThat(code2).isEqualTo("FT-000002");
-        assertThat(code3).isEqualTo("FT-000003");
-        assertThat(code1).isNotEqualTo(code2);
-        assertThat(code2).isNotEqualTo(code3);
+        assertThat(tireNumber).isEqualTo("LL-00000001");
+        assertThat(certificate).isEqualTo("CB-000001");
+        verify(codeAllocator, never()).nextCode(CodeGeneratorService.TIRE_SPECIFICATION);
     }
 }
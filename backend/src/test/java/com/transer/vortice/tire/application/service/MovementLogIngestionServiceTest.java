@@ -0,0 +1,144 @@
+package com.transer.vortice.tire.application.service;
+
+import com.transer.vortice.organization.infrastructure.security.SecurityUtils;
+import com.transer.vortice.tire.application.dto.request.MovementLogBatchRequest;
+import com.transer.vortice.tire.application.dto.request.MovementLogTicketRequest;
+import com.transer.vortice.tire.application.dto.response.MovementLogBatchResponse;
+import com.transer.vortice.tire.application.dto.response.MovementLogTicketResponse;
+import com.transer.vortice.tire.infrastructure.ingestion.MovementLogStagingRepository;
+import com.transer.vortice.tire.infrastructure.ingestion.MovementLogStatus;
+import com.transer.vortice.tire.infrastructure.ingestion.StagedTicket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para MovementLogIngestionService.
+ *
+ * @author Vórtice Development Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MovementLogIngestionService Tests")
+class MovementLogIngestionServiceTest {
+
+    private static final String LOG = "@P@P01@LL-100@000@18@18@18@110@@M;";
+
+    @Mock
+    private MovementLogStagingRepository stagingRepository;
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    @InjectMocks
+    private MovementLogIngestionService ingestionService;
+
+    private UUID officeId;
+
+    @BeforeEach
+    void setUp() {
+        officeId = UUID.randomUUID();
+        when(securityUtils.getCurrentUserId()).thenReturn(7L);
+        when(securityUtils.getCurrentUserOfficeId()).thenReturn(officeId);
+    }
+
+    // =====================================================
+    // TESTS: Recepción de Tickets
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe encolar los tickets válidos y devolver el resumen del envío")
+    void shouldQueueValidTickets() {
+        // Given
+        when(stagingRepository.insert(anyList(), eq(7L), eq(officeId))).thenReturn(Set.of(100L, 101L));
+
+        // When
+        MovementLogBatchResponse response = ingestionService.receive(batch(ticket(100L, LOG), ticket(101L, LOG)));
+
+        // Then
+        assertThat(response.getReceived()).isEqualTo(2);
+        assertThat(response.getQueued()).isEqualTo(2);
+        assertThat(response.getRejected()).isZero();
+        assertThat(response.getDuplicateTickets()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe guardar como rechazado un ticket con el log mal formado")
+    void shouldRejectMalformedLog() {
+        // Given
+        when(stagingRepository.insert(anyList(), eq(7L), eq(officeId))).thenReturn(Set.of(100L));
+
+        // When
+        MovementLogBatchResponse response = ingestionService.receive(batch(ticket(100L, "sin formato")));
+
+        // Then
+        assertThat(response.getQueued()).isZero();
+        assertThat(response.getRejected()).isEqualTo(1);
+        assertThat(response.getRejectedTickets()).extracting(MovementLogTicketResponse::getStatus)
+                .containsExactly(MovementLogStatus.R);
+    }
+
+    // =====================================================
+    // TESTS: Duplicados
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe informar como duplicado un ticket que ya estaba en la cola")
+    void shouldReportTicketAlreadyQueued() {
+        // Given
+        when(stagingRepository.insert(anyList(), eq(7L), eq(officeId))).thenReturn(Set.of(101L));
+
+        // When
+        MovementLogBatchResponse response = ingestionService.receive(batch(ticket(100L, LOG), ticket(101L, LOG)));
+
+        // Then
+        assertThat(response.getQueued()).isEqualTo(1);
+        assertThat(response.getDuplicateTickets()).containsExactly(100L);
+    }
+
+    @Test
+    @DisplayName("Debe encolar una sola vez un ticket repetido dentro del envío e informar las repeticiones")
+    @SuppressWarnings("unchecked")
+    void shouldDeduplicateTicketsWithinBatch() {
+        // Given
+        when(stagingRepository.insert(anyList(), eq(7L), eq(officeId))).thenReturn(Set.of(100L, 101L));
+
+        // When
+        MovementLogBatchResponse response = ingestionService.receive(batch(
+                ticket(100L, LOG), ticket(101L, LOG), ticket(100L, LOG), ticket(100L, LOG)));
+
+        // Then
+        assertThat(response.getReceived()).isEqualTo(4);
+        assertThat(response.getQueued()).isEqualTo(2);
+        assertThat(response.getDuplicateTickets()).containsExactly(100L, 100L);
+
+        ArgumentCaptor<List<StagedTicket>> staged = ArgumentCaptor.forClass(List.class);
+        verify(stagingRepository).insert(staged.capture(), eq(7L), eq(officeId));
+        assertThat(staged.getValue()).extracting(StagedTicket::ticket).containsExactly(100L, 101L);
+    }
+
+    // =====================================================
+    // Helpers
+    // =====================================================
+
+    private MovementLogBatchRequest batch(MovementLogTicketRequest... tickets) {
+        return new MovementLogBatchRequest(List.of(tickets));
+    }
+
+    private MovementLogTicketRequest ticket(Long ticket, String movementLog) {
+        return new MovementLogTicketRequest(ticket, "tst123", 50_000, movementLog);
+    }
+}
@@ -0,0 +1,186 @@
+package com.transer.vortice.tire.application.service;
+
+import com.transer.vortice.shared.infrastructure.config.MovementLogProperties;
+import com.transer.vortice.tire.domain.exception.InvalidTireTransitionException;
+import com.transer.vortice.tire.domain.model.lifecycle.TireMovement;
+import com.transer.vortice.tire.domain.model.lifecycle.TireMovementType;
+import com.transer.vortice.tire.infrastructure.ingestion.MovementLogStagingRepository;
+import com.transer.vortice.tire.infrastructure.ingestion.PendingTicket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para MovementLogProcessor.
+ * El pool de workers se sustituye por un executor síncrono.
+ *
+ * @author Vórtice Development Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MovementLogProcessor Tests")
+class MovementLogProcessorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+    private static final String LOG = "@P@P01@LL-100@000@18@18@18@110@@M;";
+
+    @Mock
+    private MovementLogStagingRepository stagingRepository;
+
+    @Mock
+    private TireLifecycleService tireLifecycleService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MovementLogProcessor processor;
+    private UUID vehicleId;
+
+    @BeforeEach
+    void setUp() {
+        MovementLogProperties properties = new MovementLogProperties();
+        processor = new MovementLogProcessor(
+                stagingRepository, tireLifecycleService, transactionManager, Runnable::run, properties);
+        vehicleId = UUID.randomUUID();
+    }
+
+    // =====================================================
+    // TESTS: Procesamiento por Placa
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe aplicar los tickets de una placa en orden y marcarlos como procesados")
+    void shouldApplyTicketsInOrder() {
+        // Given
+        givenTransactions();
+        PendingTicket first = ticket(1L, 100L, vehicleId);
+        PendingTicket second = ticket(2L, 101L, vehicleId);
+        when(stagingRepository.findPending(eq("TST123"), anyInt())).thenReturn(List.of(first, second));
+        when(stagingRepository.lockPending(anyLong())).thenReturn(true);
+
+        // When
+        int done = processor.processPlate("TST123");
+
+        // Then
+        assertThat(done).isEqualTo(2);
+        InOrder inOrder = inOrder(tireLifecycleService, stagingRepository);
+        inOrder.verify(tireLifecycleService).applyMovements(vehicleId, 50_000, TODAY,
+                List.of(new TireMovement(TireMovementType.MOUNT, "LL-100", (short) 1, null)), 7L);
+        inOrder.verify(stagingRepository).markProcessed(1L);
+        inOrder.verify(tireLifecycleService).applyMovements(any(), anyInt(), any(), anyList(), any());
+        inOrder.verify(stagingRepository).markProcessed(2L);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un ticket inválido y continuar con el siguiente de la placa")
+    void shouldRejectInvalidTicketAndContinue() {
+        // Given
+        givenTransactions();
+        when(stagingRepository.findPending(eq("TST123"), anyInt()))
+                .thenReturn(List.of(ticket(1L, 100L, vehicleId), ticket(2L, 101L, vehicleId)));
+        when(stagingRepository.lockPending(anyLong())).thenReturn(true);
+        doThrow(new InvalidTireTransitionException("La llanta LL-100 está en estado ACTIVE"))
+                .doReturn(null)
+                .when(tireLifecycleService).applyMovements(any(), anyInt(), any(), anyList(), any());
+
+        // When
+        int done = processor.processPlate("TST123");
+
+        // Then
+        assertThat(done).isEqualTo(2);
+        verify(stagingRepository).markRejected(eq(1L), contains("ACTIVE"));
+        verify(stagingRepository, never()).markProcessed(1L);
+        verify(stagingRepository).markProcessed(2L);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el ticket si la placa no corresponde a un vehículo")
+    void shouldRejectUnknownPlate() {
+        // Given
+        when(stagingRepository.findPending(eq("NOEXIS"), anyInt())).thenReturn(List.of(ticket(1L, 100L, null)));
+
+        // When
+        processor.processPlate("NOEXIS");
+
+        // Then
+        verify(stagingRepository).markRejected(eq(1L), contains("NOEXIS"));
+        verifyNoInteractions(tireLifecycleService, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Debe dejar pendiente el ticket y detener la placa ante un error de infraestructura")
+    void shouldStopPlateOnInfrastructureError() {
+        // Given
+        givenTransactions();
+        when(stagingRepository.findPending(eq("TST123"), anyInt()))
+                .thenReturn(List.of(ticket(1L, 100L, vehicleId), ticket(2L, 101L, vehicleId)));
+        when(stagingRepository.lockPending(1L)).thenReturn(true);
+        doThrow(new QueryTimeoutException("timeout"))
+                .when(tireLifecycleService).applyMovements(any(), anyInt(), any(), anyList(), any());
+
+        // When
+        int done = processor.processPlate("TST123");
+
+        // Then
+        assertThat(done).isZero();
+        verify(stagingRepository, never()).markRejected(anyLong(), anyString());
+        verify(stagingRepository, never()).lockPending(2L);
+    }
+
+    // =====================================================
+    // TESTS: Vaciado de la Cola
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe procesar rondas hasta vaciar la cola")
+    void shouldDrainUntilEmpty() {
+        // Given
+        givenTransactions();
+        UUID otherVehicleId = UUID.randomUUID();
+        when(stagingRepository.findPendingPlates(anyInt()))
+                .thenReturn(List.of("TST123", "TST456"))
+                .thenReturn(List.of());
+        when(stagingRepository.findPending(eq("TST123"), anyInt())).thenReturn(List.of(ticket(1L, 100L, vehicleId)));
+        when(stagingRepository.findPending(eq("TST456"), anyInt()))
+                .thenReturn(List.of(ticket(2L, 200L, otherVehicleId)));
+        when(stagingRepository.lockPending(anyLong())).thenReturn(true);
+
+        // When
+        int done = processor.drain();
+
+        // Then
+        assertThat(done).isEqualTo(2);
+        verify(tireLifecycleService).applyMovements(eq(vehicleId), anyInt(), any(), anyList(), any());
+        verify(tireLifecycleService).applyMovements(eq(otherVehicleId), anyInt(), any(), anyList(), any());
+    }
+
+    // =====================================================
+    // Helpers
+    // =====================================================
+
+    private void givenTransactions() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    private PendingTicket ticket(long id, long ticket, UUID vehicle) {
+        return new PendingTicket(id, ticket, vehicle != null ? "TST123" : "NOEXIS", vehicle, 50_000, LOG, 7L, TODAY);
+    }
+}
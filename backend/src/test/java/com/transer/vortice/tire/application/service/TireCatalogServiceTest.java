@@ -1,5 +1,7 @@
 package com.transer.vortice.tire.application.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.transer.vortice.tire.application.dto.response.CatalogSnapshot;
 import com.transer.vortice.tire.application.dto.response.TireBrandResponse;
 import com.transer.vortice.tire.application.dto.response.TireReferenceResponse;
 import com.transer.vortice.tire.application.dto.response.TireSupplierResponse;
@@ -13,13 +15,17 @@ import com.transer.vortice.tire.domain.repository.TireBrandRepository;
 import com.transer.vortice.tire.domain.repository.TireReferenceRepository;
 import com.transer.vortice.tire.domain.repository.TireCatalogSupplierRepository;
 import com.transer.vortice.tire.domain.repository.TireTypeRepository;
+import com.transer.vortice.tire.infrastructure.cache.TireCatalog;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 import java.util.List;
 import java.util.UUID;
@@ -52,6 +58,12 @@ class TireCatalogServiceTest {
     @Mock
     private TireSpecificationMapper mapper;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private TireCatalogService tireCatalogService;
 
@@ -427,4 +439,80 @@ class TireCatalogServiceTest {
         verify(tireReferenceRepository, times(1)).findAllActive();
         verify(tireCatalogSupplierRepository, times(1)).findAllActive();
     }
+
+    // =====================================================
+    // TESTS: Caché de catálogos
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe servir el catálogo desde caché sin consultar la base de datos")
+    void shouldServeCatalogFromCache() {
+        // Given
+        TireCatalogService cachedService = new TireCatalogService(
+                tireBrandRepository, tireTypeRepository, tireReferenceRepository,
+                tireCatalogSupplierRepository, mapper, new ConcurrentMapCacheManager(TireCatalog.BRANDS_CACHE),
+                objectMapper);
+        when(tireBrandRepository.findAllActive()).thenReturn(List.of(activeBrand));
+        when(mapper.toBrandResponse(activeBrand)).thenReturn(brandResponse);
+
+        // When
+        CatalogSnapshot<TireBrandResponse> first = cachedService.getActiveBrandsCatalog();
+        CatalogSnapshot<TireBrandResponse> second = cachedService.getActiveBrandsCatalog();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(second.etag()).startsWith("\"").endsWith("\"");
+        verify(tireBrandRepository, times(1)).findAllActive();
+    }
+
+    @Test
+    @DisplayName("Debe conservar el ETag al recargar un catálogo sin cambios, en cualquier instancia")
+    void shouldKeepETagForUnchangedContent() {
+        // Given
+        ConcurrentMapCacheManager manager = new ConcurrentMapCacheManager(TireCatalog.BRANDS_CACHE);
+        TireCatalogService cachedService = newCachedService(manager);
+        TireCatalogService otherInstance = newCachedService(new ConcurrentMapCacheManager(TireCatalog.BRANDS_CACHE));
+        when(tireBrandRepository.findAllActive()).thenReturn(List.of(activeBrand));
+        when(mapper.toBrandResponse(activeBrand)).thenReturn(brandResponse);
+        String firstETag = cachedService.getActiveBrandsCatalog().etag();
+
+        // When - recarga (expiración o invalidación) y carga en otra réplica
+        manager.getCache(TireCatalog.BRANDS_CACHE).clear();
+        String reloadedETag = cachedService.getActiveBrandsCatalog().etag();
+        String otherInstanceETag = otherInstance.getActiveBrandsCatalog().etag();
+
+        // Then
+        assertThat(reloadedETag).isEqualTo(firstETag);
+        assertThat(otherInstanceETag).isEqualTo(firstETag);
+        verify(tireBrandRepository, times(3)).findAllActive();
+    }
+
+    @Test
+    @DisplayName("Debe generar un ETag nuevo al recargar un catálogo modificado")
+    void shouldGenerateNewETagWhenContentChanges() {
+        // Given
+        ConcurrentMapCacheManager manager = new ConcurrentMapCacheManager(TireCatalog.BRANDS_CACHE);
+        TireCatalogService cachedService = newCachedService(manager);
+        when(tireBrandRepository.findAllActive()).thenReturn(List.of(activeBrand));
+        when(mapper.toBrandResponse(activeBrand)).thenReturn(brandResponse);
+        String firstETag = cachedService.getActiveBrandsCatalog().etag();
+
+        // When - invalidación por escritura que renombra la marca
+        TireBrandResponse renamed = new TireBrandResponse();
+        renamed.setId(activeBrand.getId());
+        renamed.setName("Michelin Colombia");
+        when(mapper.toBrandResponse(activeBrand)).thenReturn(renamed);
+        manager.getCache(TireCatalog.BRANDS_CACHE).clear();
+        String secondETag = cachedService.getActiveBrandsCatalog().etag();
+
+        // Then
+        assertThat(secondETag).isNotEqualTo(firstETag);
+        verify(tireBrandRepository, times(2)).findAllActive();
+    }
+
+    private TireCatalogService newCachedService(CacheManager manager) {
+        return new TireCatalogService(
+                tireBrandRepository, tireTypeRepository, tireReferenceRepository,
+                tireCatalogSupplierRepository, mapper, manager, objectMapper);
+    }
 }
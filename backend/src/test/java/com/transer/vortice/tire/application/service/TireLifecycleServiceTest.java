@@ -0,0 +1,133 @@
+package com.transer.vortice.tire.application.service;
+
+import com.transer.vortice.organization.infrastructure.security.SecurityUtils;
+import com.transer.vortice.shared.infrastructure.exception.NotFoundException;
+import com.transer.vortice.tire.application.dto.request.TireMovementBatchRequest;
+import com.transer.vortice.tire.application.dto.request.TireMovementRequest;
+import com.transer.vortice.tire.application.dto.response.TireMovementBatchResponse;
+import com.transer.vortice.tire.domain.exception.InvalidTireTransitionException;
+import com.transer.vortice.tire.domain.model.lifecycle.TireLifecyclePlan;
+import com.transer.vortice.tire.domain.model.lifecycle.TireMovementType;
+import com.transer.vortice.tire.domain.model.lifecycle.TireSnapshot;
+import com.transer.vortice.tire.domain.model.lifecycle.TireState;
+import com.transer.vortice.tire.domain.model.lifecycle.VehicleSnapshot;
+import com.transer.vortice.tire.infrastructure.lifecycle.TireLifecycleJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para TireLifecycleService.
+ *
+ * @author Vórtice Development Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TireLifecycleService Tests")
+class TireLifecycleServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+
+    @Mock
+    private TireLifecycleJdbcRepository tireLifecycleJdbcRepository;
+
+    @Mock
+    private TireAlertService tireAlertService;
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    @InjectMocks
+    private TireLifecycleService tireLifecycleService;
+
+    private UUID vehicleId;
+    private UUID mountedTireId;
+
+    @BeforeEach
+    void setUp() {
+        vehicleId = UUID.randomUUID();
+        mountedTireId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Debe validar el lote completo y aplicarlo con una sola llamada al repositorio")
+    void shouldApplyValidatedBatch() {
+        // Given
+        when(tireLifecycleJdbcRepository.lockVehicle(vehicleId)).thenReturn(Optional.of(
+                new VehicleSnapshot(vehicleId, 50_000, 10, Map.of((short) 1, mountedTireId))));
+        when(tireLifecycleJdbcRepository.lockTires(anyList())).thenReturn(Map.of(
+                "LL-001", new TireSnapshot(mountedTireId, "LL-001", TireState.ACTIVE, "010", false,
+                        UUID.randomUUID(), vehicleId, (short) 1, 40_000, TODAY.minusMonths(6)),
+                "LL-100", new TireSnapshot(UUID.randomUUID(), "LL-100", TireState.INVENTORY, "000", true,
+                        null, null, null, null, null)));
+        when(securityUtils.getCurrentUserId()).thenReturn(7L);
+
+        TireMovementBatchRequest request = new TireMovementBatchRequest(51_000, TODAY, List.of(
+                new TireMovementRequest(TireMovementType.DISMOUNT, "LL-001", null, null),
+                new TireMovementRequest(TireMovementType.MOUNT, " LL-100 ", (short) 1, null)));
+
+        // When
+        TireMovementBatchResponse response = tireLifecycleService.applyMovements(vehicleId, request);
+
+        // Then
+        ArgumentCaptor<TireLifecyclePlan> plan = ArgumentCaptor.forClass(TireLifecyclePlan.class);
+        verify(tireLifecycleJdbcRepository).apply(plan.capture(), eq(TODAY), eq(7L));
+        verify(tireAlertService).evaluateVehicle(vehicleId, 51_000);
+        assertThat(plan.getValue().dismounts()).hasSize(1);
+        assertThat(plan.getValue().mounts()).singleElement()
+                .satisfies(m -> assertThat(m.tireNumber()).isEqualTo("LL-100"));
+        assertThat(response.getDismounted()).isEqualTo(1);
+        assertThat(response.getMounted()).isEqualTo(1);
+        assertThat(response.getMovements()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("No debe escribir nada si algún movimiento es inválido")
+    void shouldNotApplyInvalidBatch() {
+        // Given
+        when(tireLifecycleJdbcRepository.lockVehicle(vehicleId)).thenReturn(Optional.of(
+                new VehicleSnapshot(vehicleId, 50_000, 10, Map.of())));
+        when(tireLifecycleJdbcRepository.lockTires(anyList())).thenReturn(Map.of(
+                "LL-100", new TireSnapshot(UUID.randomUUID(), "LL-100", TireState.RETIRED, "031", false,
+                        null, null, null, null, null)));
+
+        TireMovementBatchRequest request = new TireMovementBatchRequest(50_000, TODAY, List.of(
+                new TireMovementRequest(TireMovementType.MOUNT, "LL-100", (short) 1, null)));
+
+        // When & Then
+        assertThatThrownBy(() -> tireLifecycleService.applyMovements(vehicleId, request))
+                .isInstanceOf(InvalidTireTransitionException.class);
+        verify(tireLifecycleJdbcRepository, never()).apply(any(), any(), any());
+        verifyNoInteractions(tireAlertService);
+    }
+
+    @Test
+    @DisplayName("Debe lanzar NotFoundException si el vehículo no existe")
+    void shouldFailWhenVehicleNotFound() {
+        // Given
+        when(tireLifecycleJdbcRepository.lockVehicle(vehicleId)).thenReturn(Optional.empty());
+        TireMovementBatchRequest request = new TireMovementBatchRequest(50_000, TODAY, List.of(
+                new TireMovementRequest(TireMovementType.MOUNT, "LL-100", (short) 1, null)));
+
+        // When & Then
+        assertThatThrownBy(() -> tireLifecycleService.applyMovements(vehicleId, request))
+                .isInstanceOf(NotFoundException.class);
+        verify(tireLifecycleJdbcRepository, never()).lockTires(anyList());
+    }
+}
@@ -6,6 +6,7 @@ import com.transer.vortice.shared.infrastructure.exception.ValidationException;
 import com.transer.vortice.tire.application.dto.request.CreateTireSpecificationRequest;
 import com.transer.vortice.tire.application.dto.request.UpdateTireSpecificationRequest;
 import com.transer.vortice.tire.application.dto.response.TireSpecificationResponse;
+import com.transer.vortice.tire.application.dto.response.TireSpecificationSearchResult;
 import com.transer.vortice.tire.application.dto.response.TireSpecificationSummaryResponse;
 import com.transer.vortice.tire.application.mapper.TireSpecificationMapper;
 import com.transer.vortice.tire.domain.model.TireSpecification;
@@ -14,6 +15,7 @@ import com.transer.vortice.tire.domain.model.catalog.TireReference;
 import com.transer.vortice.tire.domain.model.catalog.TireSupplier;
 import com.transer.vortice.tire.domain.model.catalog.TireType;
 import com.transer.vortice.tire.domain.repository.*;
+import com.transer.vortice.tire.infrastructure.search.TireSpecificationSearchRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -67,6 +69,9 @@ class TireSpecificationServiceTest {
     @Mock
     private CodeGeneratorService codeGeneratorService;
 
+    @Mock
+    private TireSpecificationSearchRepository tireSpecificationSearchRepository;
+
     @InjectMocks
     private TireSpecificationService tireSpecificationService;
 
@@ -575,4 +580,37 @@ class TireSpecificationServiceTest {
         verify(tireBrandRepository, times(1)).findById(brandId);
         verify(tireSpecificationRepository, never()).findByBrandId(any(), any());
     }
+
+    // =====================================================
+    // TESTS: Búsqueda Rápida (Typeahead)
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe delegar la búsqueda rápida al motor de búsqueda")
+    void shouldDelegateTypeaheadToSearchRepository() {
+        // Given
+        TireSpecificationSearchResult hit = new TireSpecificationSearchResult(testId, "FT-000001", "295/80R22.5",
+                "Michelin", "Radial", "Medida estándar", true, 0.6);
+        when(tireSpecificationSearchRepository.search("mich", false, 10)).thenReturn(List.of(hit));
+
+        // When
+        List<TireSpecificationSearchResult> result =
+                tireSpecificationService.typeaheadTireSpecifications("mich", false, 10);
+
+        // Then
+        assertThat(result).containsExactly(hit);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un límite de resultados fuera de rango")
+    void shouldRejectTypeaheadLimitOutOfRange() {
+        // When & Then
+        assertThatThrownBy(() -> tireSpecificationService.typeaheadTireSpecifications("mich", false, 0))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> tireSpecificationService.typeaheadTireSpecifications(
+                "mich", false, TireSpecificationService.MAX_TYPEAHEAD_RESULTS + 1))
+                .isInstanceOf(ValidationException.class);
+
+        verifyNoInteractions(tireSpecificationSearchRepository);
+    }
 }
@@ -0,0 +1,69 @@
+package com.transer.vortice.tire.domain.model.alert;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de la evaluación de reglas de alertas sobre un lote de 20.000 muestreos
+ * con 500 especificaciones técnicas compiladas. Uno de cada 20 muestreos dispara alguna
+ * alerta.
+ *
+ * Mide solo la evaluación en memoria; se compara con el tiempo de registro del lote en
+ * {@code TireSamplingBenchmark} (la escritura de las alertas es una sentencia adicional).
+ * Ejecución: {@code mvn test-compile} y luego ejecutar {@link #main(String[])} desde el IDE.
+ *
+ * @author Vórtice Development Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AlertEvaluatorBenchmark {
+
+    private static final int READINGS = 20_000;
+    private static final int SPECIFICATIONS = 500;
+
+    private AlertEvaluator evaluator;
+    private TireReading[] readings;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<SpecificationThresholds> specifications = new ArrayList<>(SPECIFICATIONS);
+        for (int i = 0; i < SPECIFICATIONS; i++) {
+            specifications.add(new SpecificationThresholds(UUID.randomUUID(), 80_000 + i * 100, 18.0, 100, 120));
+        }
+        evaluator = AlertEvaluator.compile(specifications, 3.0, 1.5, 2_000, System.currentTimeMillis());
+
+        readings = new TireReading[READINGS];
+        for (int i = 0; i < READINGS; i++) {
+            double depth = i % 20 == 0 ? 2.5 : 12.0;
+            readings[i] = new TireReading(UUID.randomUUID(), UUID.randomUUID(), "LL-" + i, UUID.randomUUID(),
+                    specifications.get(i % SPECIFICATIONS).specificationId(), 40_000, depth, depth, depth, 110,
+                    35_000, 12.6);
+        }
+    }
+
+    @Benchmark
+    public List<AlertCandidate> evaluateBatch() {
+        List<AlertCandidate> alerts = new ArrayList<>();
+        for (TireReading reading : readings) {
+            evaluator.evaluate(reading, alerts);
+        }
+        return alerts;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AlertEvaluatorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,154 @@
+package com.transer.vortice.tire.domain.model.alert;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para AlertEvaluator.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("AlertEvaluator Tests")
+class AlertEvaluatorTest {
+
+    private static final double CRITICAL_DEPTH = 3.0;
+
+    private UUID specificationId;
+    private UUID noPressureSpecificationId;
+    private AlertEvaluator evaluator;
+    private List<AlertCandidate> alerts;
+
+    @BeforeEach
+    void setUp() {
+        specificationId = UUID.randomUUID();
+        noPressureSpecificationId = UUID.randomUUID();
+        // 18 mm iniciales y 100.000 km: desgaste esperado 0,15 mm por 1000 km, anormal sobre 0,225
+        evaluator = AlertEvaluator.compile(List.of(
+                new SpecificationThresholds(specificationId, 100_000, 18.0, 100, 120),
+                new SpecificationThresholds(noPressureSpecificationId, 100_000, 18.0, null, null)),
+                CRITICAL_DEPTH, 1.5, 2_000, 0L);
+        alerts = new ArrayList<>();
+    }
+
+    // =====================================================
+    // TESTS: Reglas
+    // =====================================================
+
+    @Test
+    @DisplayName("No debe generar alertas para una lectura dentro de todos los umbrales")
+    void shouldNotAlertNormalReading() {
+        // When
+        evaluator.evaluate(reading(specificationId, 20_000, 15.0, 110, 10_000, 16.5), alerts);
+
+        // Then
+        assertThat(alerts).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe generar CRITICAL_DEPTH si alguna banda está bajo la profundidad crítica")
+    void shouldAlertCriticalDepth() {
+        // When
+        evaluator.evaluate(new TireReading(UUID.randomUUID(), UUID.randomUUID(), "LL-001", UUID.randomUUID(),
+                specificationId, 20_000, 5.0, 2.5, 5.0, 110, Double.NaN, Double.NaN), alerts);
+
+        // Then
+        assertThat(alerts).singleElement().satisfies(alert -> {
+            assertThat(alert.type()).isEqualTo(AlertType.CRITICAL_DEPTH);
+            assertThat(alert.type().getPriority()).isEqualTo(AlertPriority.HIGH);
+            assertThat(alert.message()).contains("LL-001", "2.5");
+            assertThat(alert.alertData()).isEqualTo("{\"depth_mm\":2.5,\"threshold_mm\":3.0}");
+        });
+    }
+
+    @Test
+    @DisplayName("Debe generar INCORRECT_PRESSURE fuera del rango de la especificación")
+    void shouldAlertPressureOutOfRange() {
+        // When
+        evaluator.evaluate(reading(specificationId, 20_000, 15.0, 95, Double.NaN, Double.NaN), alerts);
+        evaluator.evaluate(reading(specificationId, 20_000, 15.0, 121, Double.NaN, Double.NaN), alerts);
+        evaluator.evaluate(reading(specificationId, 20_000, 15.0, 120, Double.NaN, Double.NaN), alerts);
+
+        // Then
+        assertThat(alerts).extracting(AlertCandidate::type)
+                .containsExactly(AlertType.INCORRECT_PRESSURE, AlertType.INCORRECT_PRESSURE);
+        assertThat(alerts.get(0).alertData()).isEqualTo("{\"pressure_psi\":95,\"min_psi\":100,\"max_psi\":120}");
+    }
+
+    @Test
+    @DisplayName("No debe evaluar presión si la especificación no tiene rango")
+    void shouldIgnorePressureWithoutRange() {
+        // When
+        evaluator.evaluate(reading(noPressureSpecificationId, 20_000, 15.0, 40, Double.NaN, Double.NaN), alerts);
+
+        // Then
+        assertThat(alerts).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe generar IRREGULAR_WEAR si el desgaste desde el muestreo anterior supera el esperado")
+    void shouldAlertAbnormalWearRate() {
+        // When: 1 mm en 2.000 km = 0,5 mm por 1000 km
+        evaluator.evaluate(reading(specificationId, 22_000, 14.0, 110, 20_000, 15.0), alerts);
+
+        // Then
+        assertThat(alerts).extracting(AlertCandidate::type).containsExactly(AlertType.IRREGULAR_WEAR);
+    }
+
+    @Test
+    @DisplayName("No debe medir el desgaste entre muestreos más cercanos que el tramo mínimo")
+    void shouldIgnoreWearOnShortSegment() {
+        // When
+        evaluator.evaluate(reading(specificationId, 21_000, 14.0, 110, 20_000, 15.0), alerts);
+
+        // Then
+        assertThat(alerts).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe generar MILEAGE_EXCEEDED en muestreos y en llantas montadas sobre el kilometraje esperado")
+    void shouldAlertMileageExceeded() {
+        // When
+        evaluator.evaluate(reading(specificationId, 100_001, 8.0, 110, Double.NaN, Double.NaN), alerts);
+        evaluator.evaluate(new MountedTire(UUID.randomUUID(), UUID.randomUUID(), "LL-002", UUID.randomUUID(),
+                specificationId, 120_000), alerts);
+        evaluator.evaluate(new MountedTire(UUID.randomUUID(), UUID.randomUUID(), "LL-003", UUID.randomUUID(),
+                specificationId, 100_000), alerts);
+
+        // Then
+        assertThat(alerts).extracting(AlertCandidate::type)
+                .containsExactly(AlertType.MILEAGE_EXCEEDED, AlertType.MILEAGE_EXCEEDED);
+        assertThat(alerts.get(1).alertData()).isEqualTo("{\"km\":120000,\"expected_km\":100000}");
+    }
+
+    @Test
+    @DisplayName("Con una especificación desconocida solo debe evaluar la profundidad crítica")
+    void shouldOnlyCheckDepthForUnknownSpecification() {
+        // Given
+        UUID unknown = UUID.randomUUID();
+
+        // When
+        evaluator.evaluate(reading(unknown, 200_000, 2.0, 10, Double.NaN, Double.NaN), alerts);
+
+        // Then
+        assertThat(evaluator.covers(unknown)).isFalse();
+        assertThat(evaluator.covers(specificationId)).isTrue();
+        assertThat(alerts).extracting(AlertCandidate::type).containsExactly(AlertType.CRITICAL_DEPTH);
+    }
+
+    // =====================================================
+    // Helpers
+    // =====================================================
+
+    private TireReading reading(UUID specification, int km, double depth, int pressure,
+                                double previousKm, double previousDepth) {
+        return new TireReading(UUID.randomUUID(), UUID.randomUUID(), "LL-001", UUID.randomUUID(), specification,
+                km, depth, depth, depth, pressure, previousKm, previousDepth);
+    }
+}
@@ -0,0 +1,177 @@
+package com.transer.vortice.tire.domain.model.lifecycle;
+
+import com.transer.vortice.shared.infrastructure.exception.NotFoundException;
+import com.transer.vortice.shared.infrastructure.exception.ValidationException;
+import com.transer.vortice.tire.domain.exception.InvalidTireTransitionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para TireLifecycleStateMachine.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("TireLifecycleStateMachine Tests")
+class TireLifecycleStateMachineTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+    private static final LocalDate INSTALLED_ON = LocalDate.of(2026, 6, 1);
+
+    private UUID vehicleId;
+    private Map<String, TireSnapshot> tires;
+    private Map<Short, UUID> occupied;
+
+    @BeforeEach
+    void setUp() {
+        vehicleId = UUID.randomUUID();
+        tires = new HashMap<>();
+        occupied = new HashMap<>();
+
+        mounted("LL-001", (short) 1);
+        mounted("LL-002", (short) 2);
+        inInventory("LL-100");
+        inInventory("LL-101");
+    }
+
+    // =====================================================
+    // TESTS: Transiciones Válidas
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe agrupar desmontajes, rotaciones y montajes de un mismo lote")
+    void shouldPlanMixedBatch() {
+        // When
+        TireLifecyclePlan plan = plan(
+                new TireMovement(TireMovementType.DISMOUNT, "LL-001", null, null),
+                new TireMovement(TireMovementType.ROTATE, "LL-002", (short) 3, null),
+                new TireMovement(TireMovementType.MOUNT, "LL-100", (short) 1, null),
+                new TireMovement(TireMovementType.MOUNT, "LL-101", (short) 2, null));
+
+        // Then
+        assertThat(plan.dismounts()).extracting(TireLifecyclePlan.Dismount::tireNumber).containsExactly("LL-001");
+        assertThat(plan.rotations()).singleElement()
+                .satisfies(r -> {
+                    assertThat(r.fromPosition()).isEqualTo((short) 2);
+                    assertThat(r.toPosition()).isEqualTo((short) 3);
+                });
+        assertThat(plan.mounts()).extracting(TireLifecyclePlan.Mount::position)
+                .containsExactly((short) 1, (short) 2);
+        assertThat(plan.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Debe permitir intercambiar posiciones entre dos llantas en el mismo lote")
+    void shouldAllowPositionSwap() {
+        // When
+        TireLifecyclePlan plan = plan(
+                new TireMovement(TireMovementType.ROTATE, "LL-001", (short) 2, null),
+                new TireMovement(TireMovementType.ROTATE, "LL-002", (short) 1, null));
+
+        // Then
+        assertThat(plan.rotations()).hasSize(2);
+    }
+
+    // =====================================================
+    // TESTS: Transiciones Inválidas
+    // =====================================================
+
+    @Test
+    @DisplayName("No debe montar una llanta que ya está activa")
+    void shouldRejectMountOfActiveTire() {
+        assertThatThrownBy(() -> plan(new TireMovement(TireMovementType.MOUNT, "LL-001", (short) 5, null)))
+                .isInstanceOf(InvalidTireTransitionException.class)
+                .hasMessageContaining("ACTIVE");
+    }
+
+    @Test
+    @DisplayName("No debe desmontar una llanta montada en otro vehículo")
+    void shouldRejectDismountFromOtherVehicle() {
+        // Given
+        tires.put("LL-900", new TireSnapshot(UUID.randomUUID(), "LL-900", TireState.ACTIVE, "010", false,
+                UUID.randomUUID(), UUID.randomUUID(), (short) 1, 1000, INSTALLED_ON));
+
+        // When & Then
+        assertThatThrownBy(() -> plan(new TireMovement(TireMovementType.DISMOUNT, "LL-900", null, null)))
+                .isInstanceOf(InvalidTireTransitionException.class)
+                .hasMessageContaining("no está montada en el vehículo");
+    }
+
+    @Test
+    @DisplayName("No debe montar en una posición que sigue ocupada al final del lote")
+    void shouldRejectOccupiedPosition() {
+        assertThatThrownBy(() -> plan(new TireMovement(TireMovementType.MOUNT, "LL-100", (short) 1, null)))
+                .isInstanceOf(InvalidTireTransitionException.class)
+                .hasMessageContaining("posición 1");
+    }
+
+    @Test
+    @DisplayName("No debe aceptar posiciones fuera de la clase del vehículo")
+    void shouldRejectPositionOutOfRange() {
+        assertThatThrownBy(() -> plan(new TireMovement(TireMovementType.MOUNT, "LL-100", (short) 11, null)))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> plan(new TireMovement(TireMovementType.MOUNT, "LL-100", null, null)))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("No debe aceptar la misma llanta dos veces en el lote")
+    void shouldRejectDuplicatedTire() {
+        assertThatThrownBy(() -> plan(
+                new TireMovement(TireMovementType.ROTATE, "LL-001", (short) 5, null),
+                new TireMovement(TireMovementType.DISMOUNT, "LL-001", null, null)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("más de una vez");
+    }
+
+    @Test
+    @DisplayName("No debe aceptar un kilometraje menor al actual del vehículo")
+    void shouldRejectMileageBelowVehicle() {
+        // Given
+        VehicleSnapshot vehicle = new VehicleSnapshot(vehicleId, 60_000, 10, occupied);
+        List<TireMovement> movements = List.of(new TireMovement(TireMovementType.DISMOUNT, "LL-001", null, null));
+
+        // When & Then
+        assertThatThrownBy(() -> TireLifecycleStateMachine.plan(vehicle, 59_999, TODAY, tires, movements))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("kilometraje");
+    }
+
+    @Test
+    @DisplayName("Debe reportar llantas inexistentes")
+    void shouldRejectUnknownTire() {
+        assertThatThrownBy(() -> plan(new TireMovement(TireMovementType.MOUNT, "NO-EXISTE", (short) 5, null)))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("NO-EXISTE");
+    }
+
+    // =====================================================
+    // Helpers
+    // =====================================================
+
+    private TireLifecyclePlan plan(TireMovement... movements) {
+        VehicleSnapshot vehicle = new VehicleSnapshot(vehicleId, 50_000, 10, occupied);
+        return TireLifecycleStateMachine.plan(vehicle, 52_000, TODAY, tires, List.of(movements));
+    }
+
+    private void mounted(String number, short position) {
+        UUID tireId = UUID.randomUUID();
+        tires.put(number, new TireSnapshot(tireId, number, TireState.ACTIVE, "010", false,
+                UUID.randomUUID(), vehicleId, position, 40_000, INSTALLED_ON));
+        occupied.put(position, tireId);
+    }
+
+    private void inInventory(String number) {
+        tires.put(number, new TireSnapshot(UUID.randomUUID(), number, TireState.INVENTORY, "000", true,
+                null, null, null, null, null));
+    }
+}
@@ -0,0 +1,160 @@
+package com.transer.vortice.tire.domain.model.sampling;
+
+import com.transer.vortice.shared.infrastructure.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para SamplingValidator.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("SamplingValidator Tests")
+class SamplingValidatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+    private static final LocalDate INSTALLED_ON = LocalDate.of(2026, 6, 1);
+    private static final LocalDate LAST_SAMPLED_ON = LocalDate.of(2026, 9, 1);
+
+    private UUID vehicleId;
+    private Map<String, SamplingBaseline> baselines;
+
+    @BeforeEach
+    void setUp() {
+        vehicleId = UUID.randomUUID();
+        baselines = new HashMap<>();
+
+        neverSampled("LL-001");
+        sampled("LL-002", 45_000, "15.00");
+    }
+
+    // =====================================================
+    // TESTS: Muestreos Válidos
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe convertir los muestreos válidos en filas con su instalación en el orden recibido")
+    void shouldBuildRecordsInOrder() {
+        // When
+        List<SamplingRecord> records = SamplingValidator.validate(List.of(
+                vehicle(vehicleId, 50_000, TODAY, sample("LL-002", "14.0"), sample("LL-001", "17.0"))), baselines);
+
+        // Then
+        assertThat(records).extracting(SamplingRecord::installationId).containsExactly(
+                baselines.get("LL-002").installationId(), baselines.get("LL-001").installationId());
+        assertThat(records).allSatisfy(r -> {
+            assertThat(r.vehicleId()).isEqualTo(vehicleId);
+            assertThat(r.mileage()).isEqualTo(50_000);
+            assertThat(r.samplingDate()).isEqualTo(TODAY);
+        });
+    }
+
+    @Test
+    @DisplayName("Debe aceptar una profundidad promedio igual a la del último muestreo")
+    void shouldAcceptSameAverageDepth() {
+        // When
+        List<SamplingRecord> records = SamplingValidator.validate(
+                List.of(vehicle(vehicleId, 50_000, TODAY, sample("LL-002", "15.0"))), baselines);
+
+        // Then
+        assertThat(records).hasSize(1);
+    }
+
+    // =====================================================
+    // TESTS: Muestreos Inválidos
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe reportar juntos los errores de todas las llantas del envío")
+    void shouldCollectAllErrors() {
+        // Given
+        UUID otherVehicleId = UUID.randomUUID();
+
+        // When / Then
+        assertThatThrownBy(() -> SamplingValidator.validate(List.of(
+                vehicle(vehicleId, 45_000, TODAY, sample("LL-002", "14.0"), sample("LL-001", "17.0")),
+                vehicle(otherVehicleId, 10_000, TODAY, sample("LL-003", "17.0"))), baselines))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("2 errores")
+                .satisfies(e -> assertThat(((ValidationException) e).getErrors())
+                        .containsOnlyKeys("LL-002", "LL-003")
+                        .hasEntrySatisfying("LL-002", m -> assertThat(m).contains("45000"))
+                        .hasEntrySatisfying("LL-003", m -> assertThat(m).contains("no está montada")));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una profundidad promedio mayor a la del último muestreo")
+    void shouldRejectDepthIncrease() {
+        // When / Then
+        assertThatThrownBy(() -> SamplingValidator.validate(
+                List.of(vehicle(vehicleId, 50_000, TODAY, sample("LL-002", "15.1"))), baselines))
+                .isInstanceOf(ValidationException.class)
+                .satisfies(e -> assertThat(((ValidationException) e).getErrors().get("LL-002"))
+                        .contains("profundidades"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar fechas anteriores al último muestreo y al montaje")
+    void shouldRejectEarlierDates() {
+        // When / Then
+        assertThatThrownBy(() -> SamplingValidator.validate(List.of(vehicle(vehicleId, 50_000,
+                LocalDate.of(2026, 8, 1), sample("LL-002", "14.0"))), baselines))
+                .isInstanceOf(ValidationException.class)
+                .satisfies(e -> assertThat(((ValidationException) e).getErrors().get("LL-002"))
+                        .contains("anterior al último muestreo"));
+
+        assertThatThrownBy(() -> SamplingValidator.validate(List.of(vehicle(vehicleId, 50_000,
+                LocalDate.of(2026, 5, 1), sample("LL-001", "17.0"))), baselines))
+                .isInstanceOf(ValidationException.class)
+                .satisfies(e -> assertThat(((ValidationException) e).getErrors().get("LL-001"))
+                        .contains("anterior al montaje"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una llanta montada en otro vehículo y las llantas o vehículos repetidos")
+    void shouldRejectWrongVehicleAndDuplicates() {
+        // When / Then
+        assertThatThrownBy(() -> SamplingValidator.validate(List.of(
+                vehicle(UUID.randomUUID(), 50_000, TODAY, sample("LL-001", "17.0")),
+                vehicle(vehicleId, 50_000, TODAY, sample("LL-002", "14.0"), sample("LL-002", "14.0")),
+                vehicle(vehicleId, 50_000, TODAY, sample("LL-001", "17.0"))), baselines))
+                .isInstanceOf(ValidationException.class)
+                .satisfies(e -> assertThat(((ValidationException) e).getErrors())
+                        .containsOnlyKeys("LL-001", "LL-002", vehicleId.toString()));
+    }
+
+    // =====================================================
+    // Helpers
+    // =====================================================
+
+    private void neverSampled(String tireNumber) {
+        baselines.put(tireNumber, new SamplingBaseline(UUID.randomUUID(), UUID.randomUUID(), tireNumber,
+                UUID.randomUUID(), vehicleId, (short) (baselines.size() + 1), 40_000, INSTALLED_ON, null, null, null));
+    }
+
+    private void sampled(String tireNumber, int lastMileage, String lastAverageDepth) {
+        baselines.put(tireNumber, new SamplingBaseline(UUID.randomUUID(), UUID.randomUUID(), tireNumber,
+                UUID.randomUUID(), vehicleId, (short) (baselines.size() + 1), 40_000, INSTALLED_ON, lastMileage, LAST_SAMPLED_ON,
+                new BigDecimal(lastAverageDepth)));
+    }
+
+    private VehicleSampling vehicle(UUID id, int mileage, LocalDate date, TireSample... samples) {
+        return new VehicleSampling(id, mileage, date, List.of(samples));
+    }
+
+    private TireSample sample(String tireNumber, String depth) {
+        BigDecimal value = new BigDecimal(depth);
+        return new TireSample(tireNumber, value, value, value, 110);
+    }
+}
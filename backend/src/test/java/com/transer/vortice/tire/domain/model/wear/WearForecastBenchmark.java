@@ -0,0 +1,75 @@
+package com.transer.vortice.tire.domain.model.wear;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH del cálculo de la proyección de desgaste de la flota en memoria:
+ * 200.000 instalaciones con 12 muestreos cada una (2,4 millones de puntos), ya cargadas
+ * en un {@link WearSampleSet}.
+ *
+ * - parallelism = 1: el ajuste de todas las instalaciones en un hilo.
+ * - parallelism = 0: el pool fork-join con un hilo por procesador, como el cálculo nocturno.
+ *
+ * No mide la carga desde la base de datos ni la escritura de resultados.
+ * Ejecución: {@code mvn test-compile} y luego ejecutar {@link #main(String[])} desde el IDE.
+ *
+ * @author Vórtice Development Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WearForecastBenchmark {
+
+    private static final int INSTALLATIONS = 200_000;
+    private static final int SAMPLES_PER_INSTALLATION = 12;
+    private static final double MINIMUM_DEPTH = 3.0;
+
+    @Param({"1", "0"})
+    public int parallelism;
+
+    private WearSampleSet samples;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long start = LocalDate.of(2025, 1, 1).toEpochDay();
+        WearSampleSet.Builder builder = WearSampleSet.builder(INSTALLATIONS * SAMPLES_PER_INSTALLATION);
+        for (int i = 0; i < INSTALLATIONS; i++) {
+            UUID installationId = UUID.randomUUID();
+            double wearPerKm = 0.00008 + (i % 13) * 0.00001;
+            for (int s = 0; s < SAMPLES_PER_INSTALLATION; s++) {
+                double km = s * (2_500 + i % 17 * 100);
+                builder.add(installationId, km, 18.0 - km * wearPerKm + (s % 3) * 0.05, start + s * 30L);
+            }
+        }
+        samples = builder.build();
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.close();
+    }
+
+    @Benchmark
+    public WearForecastBatch forecastFleet() {
+        return samples.forecast(MINIMUM_DEPTH, pool);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(WearForecastBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
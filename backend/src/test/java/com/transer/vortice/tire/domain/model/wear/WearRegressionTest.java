@@ -0,0 +1,195 @@
+package com.transer.vortice.tire.domain.model.wear;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests unitarios para WearRegression, WearSampleSet y WearForecastBatch.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("WearRegression Tests")
+class WearRegressionTest {
+
+    private static final double MINIMUM_DEPTH = 3.0;
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+
+    // =====================================================
+    // TESTS: Ajuste
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe ajustar exactamente una recta de desgaste y proyectar km restantes y fecha de retiro")
+    void shouldFitExactLine() {
+        // Given: 1 mm cada 5.000 km, 100 km por día
+        double[] stats = new double[WearRegression.STATS];
+        for (int i = 0; i <= 4; i++) {
+            WearRegression.add(stats, 0, i * 5_000, 18.0 - i, START.plusDays(i * 50L).toEpochDay());
+        }
+
+        // When
+        double[] results = predict(stats);
+
+        // Then: profundidad ajustada 14 mm, faltan 11 mm = 55.000 km = 550 días
+        assertThat(results[WearRegression.SLOPE]).isCloseTo(-0.0002, within(1e-12));
+        assertThat(results[WearRegression.FITTED_DEPTH]).isCloseTo(14.0, within(1e-9));
+        assertThat(results[WearRegression.REMAINING_KM]).isCloseTo(55_000, within(1e-6));
+        assertThat(results[WearRegression.KM_PER_DAY]).isCloseTo(100, within(1e-9));
+        assertThat(LocalDate.ofEpochDay((long) results[WearRegression.REMOVAL_DAY]))
+                .isEqualTo(START.plusDays(200 + 550));
+    }
+
+    @Test
+    @DisplayName("No debe proyectar con menos de dos muestreos")
+    void shouldNotPredictWithSingleSample() {
+        // Given
+        double[] stats = new double[WearRegression.STATS];
+        WearRegression.add(stats, 0, 1_000, 17.0, START.toEpochDay());
+
+        // When
+        double[] results = predict(stats);
+
+        // Then
+        assertThat(results[WearRegression.SLOPE]).isNaN();
+        assertThat(results[WearRegression.REMAINING_KM]).isNaN();
+        assertThat(results[WearRegression.REMOVAL_DAY]).isNaN();
+    }
+
+    @Test
+    @DisplayName("No debe proyectar retiro si la profundidad no disminuye")
+    void shouldNotPredictWithoutWear() {
+        // Given
+        double[] stats = new double[WearRegression.STATS];
+        WearRegression.add(stats, 0, 1_000, 17.0, START.toEpochDay());
+        WearRegression.add(stats, 0, 6_000, 17.5, START.plusDays(30).toEpochDay());
+
+        // When
+        double[] results = predict(stats);
+
+        // Then
+        assertThat(results[WearRegression.SLOPE]).isPositive();
+        assertThat(results[WearRegression.REMAINING_KM]).isNaN();
+        assertThat(results[WearRegression.REMOVAL_DAY]).isNaN();
+    }
+
+    @Test
+    @DisplayName("Debe proyectar 0 km restantes si la llanta ya está bajo la profundidad mínima")
+    void shouldClampRemainingKmAtZero() {
+        // Given
+        double[] stats = new double[WearRegression.STATS];
+        WearRegression.add(stats, 0, 0, 4.0, START.toEpochDay());
+        WearRegression.add(stats, 0, 10_000, 2.0, START.plusDays(100).toEpochDay());
+
+        // When
+        double[] results = predict(stats);
+
+        // Then
+        assertThat(results[WearRegression.REMAINING_KM]).isZero();
+        assertThat((long) results[WearRegression.REMOVAL_DAY]).isEqualTo(START.plusDays(100).toEpochDay());
+    }
+
+    @Test
+    @DisplayName("No debe proyectar fecha si el vehículo no registró avance en días")
+    void shouldNotPredictDateWithoutElapsedDays() {
+        // Given
+        double[] stats = new double[WearRegression.STATS];
+        WearRegression.add(stats, 0, 0, 18.0, START.toEpochDay());
+        WearRegression.add(stats, 0, 5_000, 17.0, START.toEpochDay());
+
+        // When
+        double[] results = predict(stats);
+
+        // Then
+        assertThat(results[WearRegression.REMAINING_KM]).isCloseTo(70_000, within(1e-6));
+        assertThat(results[WearRegression.KM_PER_DAY]).isNaN();
+        assertThat(results[WearRegression.REMOVAL_DAY]).isNaN();
+    }
+
+    // =====================================================
+    // TESTS: Actualización Incremental y Fork-Join
+    // =====================================================
+
+    @Test
+    @DisplayName("Agregar un muestreo a los estadísticos debe igualar el cálculo desde todos los muestreos")
+    void shouldMatchFullRecalculationWhenAddingIncrementally() {
+        // Given
+        UUID installationId = UUID.randomUUID();
+        WearSampleSet previous = WearSampleSet.builder(2)
+                .add(installationId, 0, 18.0, START)
+                .add(installationId, 8_000, 16.6, START.plusDays(60))
+                .build();
+        WearSampleSet all = WearSampleSet.builder(3)
+                .add(installationId, 0, 18.0, START)
+                .add(installationId, 8_000, 16.6, START.plusDays(60))
+                .add(installationId, 15_000, 15.1, START.plusDays(120))
+                .build();
+        WearForecastBatch stored = previous.forecast(MINIMUM_DEPTH, ForkJoinPool.commonPool());
+
+        // When
+        WearForecastBatch incremental = new WearForecastBatch(new UUID[]{installationId}, stored.stats().clone());
+        incremental.add(0, 15_000, 15.1, START.plusDays(120));
+        incremental.predict(MINIMUM_DEPTH);
+        WearForecastBatch full = all.forecast(MINIMUM_DEPTH, ForkJoinPool.commonPool());
+
+        // Then
+        assertThat(incremental.stats()).containsExactly(full.stats());
+        for (int field = 0; field < WearRegression.RESULTS; field++) {
+            assertThat(incremental.result(0, field)).isEqualTo(full.result(0, field));
+        }
+        assertThat(incremental.removalDate(0)).isEqualTo(full.removalDate(0)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("El cálculo fork-join de muchas instalaciones debe igualar el cálculo secuencial")
+    void shouldMatchSequentialForecastInParallel() {
+        // Given: más instalaciones que el umbral de división
+        int installations = WearForecastBatch.SPLIT_THRESHOLD * 5 + 7;
+        UUID[] ids = new UUID[installations];
+        WearSampleSet.Builder builder = WearSampleSet.builder(installations * 6);
+        double[] sequential = new double[installations * WearRegression.STATS];
+        for (int i = 0; i < installations; i++) {
+            ids[i] = UUID.randomUUID();
+            for (int s = 0; s < 1 + i % 6; s++) {
+                double km = s * (3_000 + i % 11 * 100);
+                double depth = 18.0 - km * (0.0001 + i % 7 * 0.00002) + (s % 2) * 0.1;
+                long day = START.toEpochDay() + s * (20 + i % 5);
+                builder.add(ids[i], km, depth, day);
+                WearRegression.add(sequential, i * WearRegression.STATS, km, depth, day);
+            }
+        }
+        WearForecastBatch expected = new WearForecastBatch(ids, sequential);
+        expected.predict(MINIMUM_DEPTH);
+
+        // When
+        WearForecastBatch batch;
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            batch = builder.build().forecast(MINIMUM_DEPTH, pool);
+        }
+
+        // Then
+        assertThat(batch.size()).isEqualTo(installations);
+        for (int i = 0; i < installations; i++) {
+            assertThat(batch.installationId(i)).isEqualTo(ids[i]);
+            for (int field = 0; field < WearRegression.RESULTS; field++) {
+                assertThat(batch.result(i, field)).isEqualTo(expected.result(i, field));
+            }
+        }
+    }
+
+    // =====================================================
+    // MÉTODOS AUXILIARES
+    // =====================================================
+
+    private static double[] predict(double[] stats) {
+        double[] results = new double[WearRegression.RESULTS];
+        WearRegression.predict(stats, 0, MINIMUM_DEPTH, results, 0);
+        return results;
+    }
+}
@@ -0,0 +1,140 @@
+package com.transer.vortice.tire.domain.repository;
+
+import com.transer.vortice.shared.infrastructure.BaseRepositoryTest;
+import com.transer.vortice.shared.infrastructure.SqlCaptureInspector;
+import com.transer.vortice.tire.domain.model.TireSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests del plan de ejecución de la paginación por keyset de fichas técnicas (V3.2.1).
+ *
+ * Ejecuta EXPLAIN sobre el SQL que Hibernate genera para las consultas del repositorio
+ * con un cursor profundo y verifica que la posición del cursor es la condición del Index
+ * Scan sobre (code, id): la página se lee desde el cursor, sin recorrer ni descartar las
+ * filas anteriores.
+ *
+ * @author Vórtice Development Team
+ */
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.transer.vortice.shared.infrastructure.SqlCaptureInspector")
+@DisplayName("TireSpecificationRepository Keyset Plan Tests")
+class TireSpecificationKeysetPlanTest extends BaseRepositoryTest {
+
+    private static final int SPECIFICATIONS = 5_000;
+    private static final String INDEX = "idx_tech_specs_code_id";
+
+    @Autowired
+    private TireSpecificationRepository tireSpecificationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Volumen suficiente para que el planificador elija entre índice y recorrido secuencial
+        UUID brandId = jdbcTemplate.queryForObject(
+                "INSERT INTO tire_management.brands (code, name) VALUES ('KPB', 'Keyset') RETURNING id", UUID.class);
+        UUID typeId = jdbcTemplate.queryForObject(
+                "INSERT INTO tire_management.types (code, name) VALUES ('KPT', 'Keyset') RETURNING id", UUID.class);
+        UUID referenceId = jdbcTemplate.queryForObject(
+                "INSERT INTO tire_management.tire_references (code, name) VALUES ('KPR', 'Keyset') RETURNING id",
+                UUID.class);
+        jdbcTemplate.update("""
+                INSERT INTO tire_management.technical_specifications
+                    (code, brand_id, type_id, reference_id, dimension, expected_mileage,
+                     initial_depth_internal_mm, initial_depth_central_mm, initial_depth_external_mm)
+                SELECT 'FT-' || lpad(g::text, 6, '0'), ?, ?, ?, '11R22.5', 100000, 18, 18, 18
+                FROM generate_series(1, ?) g
+                """, brandId, typeId, referenceId, SPECIFICATIONS);
+        jdbcTemplate.execute("ANALYZE tire_management.technical_specifications");
+        SqlCaptureInspector.clear();
+    }
+
+    @Test
+    @DisplayName("Debe leer la página siguiente desde el cursor con un Index Scan sobre (code, id)")
+    void shouldSeekForwardWithIndexCondition() {
+        // Given - cursor profundo
+        TireSpecification cursor = findByCode("FT-004000");
+
+        // When
+        List<TireSpecification> page = tireSpecificationRepository.scrollByFiltersAfter(
+                null, null, null, null, cursor.getCode(), cursor.getId(), PageRequest.of(0, 4));
+        List<String> plan = explain(cursor);
+
+        // Then
+        assertThat(page).extracting(TireSpecification::getCode).containsExactly(
+                "FT-004001", "FT-004002", "FT-004003", "FT-004004");
+        assertUsesIndexCondition(plan);
+    }
+
+    @Test
+    @DisplayName("Debe leer la página anterior desde el cursor con un Index Scan Backward sobre (code, id)")
+    void shouldSeekBackwardWithIndexCondition() {
+        // Given
+        TireSpecification cursor = findByCode("FT-001000");
+
+        // When
+        List<TireSpecification> page = tireSpecificationRepository.scrollByFiltersBefore(
+                null, null, null, null, cursor.getCode(), cursor.getId(), PageRequest.of(0, 4));
+        List<String> plan = explain(cursor);
+
+        // Then
+        assertThat(page).extracting(TireSpecification::getCode).containsExactly(
+                "FT-000999", "FT-000998", "FT-000997", "FT-000996");
+        assertThat(String.join("\n", plan)).contains("Index Scan Backward using " + INDEX);
+        assertUsesIndexCondition(plan);
+    }
+
+    // =====================================================
+    // Helpers
+    // =====================================================
+
+    private TireSpecification findByCode(String code) {
+        return tireSpecificationRepository.findByCode(code).orElseThrow();
+    }
+
+    /**
+     * EXPLAIN del último SQL de keyset generado, con los mismos valores: filtros nulos,
+     * posición del cursor y el límite.
+     */
+    private List<String> explain(TireSpecification cursor) {
+        String sql = SqlCaptureInspector.last("technical_specifications");
+        int parameters = (int) sql.chars().filter(c -> c == '?').count();
+
+        List<String> literals = new ArrayList<>();
+        // brandId, typeId, referenceId e isActive aparecen dos veces cada uno
+        for (int i = 0; i < 8; i++) {
+            literals.add("NULL");
+        }
+        literals.add("'" + cursor.getCode() + "'");
+        literals.add("'" + cursor.getId() + "'");
+        // Límite (y desplazamiento, si Hibernate lo incluye)
+        while (literals.size() < parameters) {
+            literals.add("4");
+        }
+
+        return jdbcTemplate.queryForList(
+                "EXPLAIN " + SqlCaptureInspector.inline(sql, literals.toArray(String[]::new)), String.class);
+    }
+
+    private void assertUsesIndexCondition(List<String> plan) {
+        assertThat(String.join("\n", plan)).contains(INDEX).doesNotContain("Seq Scan on technical_specifications");
+        assertThat(plan).anySatisfy(line -> assertThat(line)
+                .contains("Index Cond")
+                .contains("code")
+                .contains("id"));
+    }
+}
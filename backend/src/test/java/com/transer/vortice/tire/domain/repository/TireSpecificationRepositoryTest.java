@@ -477,6 +477,71 @@ class TireSpecificationRepositoryTest extends BaseRepositoryTest {
         assertThat(spec.validateMileageRanges()).isFalse();
     }
 
+    // =====================================================
+    // TESTS: Paginación por Keyset
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe recorrer todas las especificaciones por keyset sin repetir ni omitir")
+    void shouldScrollAllSpecificationsByKeyset() {
+        // Given - FT-000001 (setUp) + FT-000002..FT-000007 y una eliminada
+        for (int i = 2; i <= 7; i++) {
+            tireSpecificationRepository.save(newSpecification(String.format("FT-%06d", i)));
+        }
+        TireSpecification deletedSpec = newSpecification("FT-000008");
+        deletedSpec.markAsDeleted(1L);
+        tireSpecificationRepository.save(deletedSpec);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When - páginas de 3 (se leen 4 filas para saber si hay siguiente)
+        Pageable limit = PageRequest.of(0, 4);
+        List<TireSpecification> first = tireSpecificationRepository.scrollByFilters(null, null, null, null, limit);
+        TireSpecification last = first.get(2);
+        List<TireSpecification> second = tireSpecificationRepository.scrollByFiltersAfter(
+                null, null, null, null, last.getCode(), last.getId(), limit);
+        last = second.get(2);
+        List<TireSpecification> third = tireSpecificationRepository.scrollByFiltersAfter(
+                null, null, null, null, last.getCode(), last.getId(), limit);
+
+        // Then
+        assertThat(first).extracting(TireSpecification::getCode)
+                .containsExactly("FT-000001", "FT-000002", "FT-000003", "FT-000004");
+        assertThat(second).extracting(TireSpecification::getCode)
+                .containsExactly("FT-000004", "FT-000005", "FT-000006", "FT-000007");
+        assertThat(third).extracting(TireSpecification::getCode)
+                .containsExactly("FT-000007");
+        // Marca, tipo y referencia llegan cargados en la misma consulta
+        assertThat(third.get(0).getBrand().getName()).isEqualTo("Michelin");
+    }
+
+    @Test
+    @DisplayName("Debe recorrer por keyset en orden descendente aplicando filtros")
+    void shouldScrollDescendingWithFilters() {
+        // Given
+        for (int i = 2; i <= 4; i++) {
+            TireSpecification spec = newSpecification(String.format("FT-%06d", i));
+            spec.setIsActive(i % 2 == 0);
+            tireSpecificationRepository.save(spec);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        Pageable limit = PageRequest.of(0, 2);
+        List<TireSpecification> first = tireSpecificationRepository.scrollByFiltersDesc(
+                testBrand.getId(), null, null, true, limit);
+        TireSpecification last = first.get(0);
+        List<TireSpecification> second = tireSpecificationRepository.scrollByFiltersBefore(
+                testBrand.getId(), null, null, true, last.getCode(), last.getId(), limit);
+
+        // Then - solo activas: FT-000004, FT-000002, FT-000001
+        assertThat(first).extracting(TireSpecification::getCode)
+                .containsExactly("FT-000004", "FT-000002");
+        assertThat(second).extracting(TireSpecification::getCode)
+                .containsExactly("FT-000002", "FT-000001");
+    }
+
     // =====================================================
     // TESTS: Contador para Generación de Códigos
     // =====================================================
@@ -509,4 +574,18 @@ class TireSpecificationRepositoryTest extends BaseRepositoryTest {
         // Then
         assertThat(tireSpecificationRepository.count()).isEqualTo(2L);
     }
+
+    private TireSpecification newSpecification(String code) {
+        TireSpecification spec = new TireSpecification();
+        spec.setCode(code);
+        spec.setBrand(testBrand);
+        spec.setType(testType);
+        spec.setReference(testReference);
+        spec.setExpectedMileage(150000);
+        spec.setExpectedRetreads((short) 2);
+        spec.setInitialDepthInternalMm(new BigDecimal("18.0"));
+        spec.setInitialDepthCentralMm(new BigDecimal("18.0"));
+        spec.setInitialDepthExternalMm(new BigDecimal("18.0"));
+        return spec;
+    }
 }
@@ -0,0 +1,115 @@
+package com.transer.vortice.tire.infrastructure;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Datos de prueba del ciclo de vida de llantas insertados con JDBC.
+ *
+ * Las tablas de llantas, vehículos y montajes no tienen entidades JPA; los tests de
+ * integración construyen el escenario directamente con SQL.
+ *
+ * @author Vórtice Development Team
+ */
+public class TireTestData {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private UUID specificationId;
+    private UUID supplierId;
+    private UUID locationId;
+
+    public TireTestData(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Crea la ficha técnica, el proveedor y la ubicación de bodega compartidos por las llantas.
+     */
+    public TireTestData withCatalogs() {
+        UUID brandId = insertReturningId(
+                "INSERT INTO tire_management.brands (code, name) VALUES ('TST', 'Marca Test') RETURNING id");
+        UUID typeId = insertReturningId(
+                "INSERT INTO tire_management.types (code, name) VALUES ('TST', 'Tipo Test') RETURNING id");
+        UUID referenceId = insertReturningId(
+                "INSERT INTO tire_management.tire_references (code, name) VALUES ('TST', 'Referencia Test') RETURNING id");
+        specificationId = insertReturningId("""
+                INSERT INTO tire_management.technical_specifications
+                    (code, brand_id, type_id, reference_id, dimension, expected_mileage,
+                     initial_depth_internal_mm, initial_depth_central_mm, initial_depth_external_mm)
+                VALUES ('FT-TEST01', ?, ?, ?, '295/80R22.5', 100000, 18, 18, 18)
+                RETURNING id
+                """, brandId, typeId, referenceId);
+        supplierId = insertReturningId("""
+                INSERT INTO tire_management.suppliers (code, name, tax_id)
+                VALUES ('PRV-TEST', 'Proveedor Test', '900000000') RETURNING id
+                """);
+        locationId = insertReturningId("""
+                INSERT INTO tire_management.warehouse_locations (code, name)
+                VALUES ('BOD-TEST', 'Bodega Test') RETURNING id
+                """);
+        return this;
+    }
+
+    /**
+     * Crea un vehículo con una clase de {@code numberOfTires} posiciones.
+     */
+    public UUID vehicle(String licensePlate, int numberOfTires, int currentMileage) {
+        UUID classId = insertReturningId("""
+                INSERT INTO shared.vehicle_classes (code, name, number_of_tires, category)
+                VALUES (?, 'Clase Test', ?, 'C') RETURNING id
+                """, "C" + licensePlate, numberOfTires);
+        return insertReturningId("""
+                INSERT INTO shared.vehicles
+                    (license_plate, vehicle_class_id, brand, model_year, initial_mileage, current_mileage)
+                VALUES (?, ?, 'Kenworth', 2020, 0, ?) RETURNING id
+                """, licensePlate, classId, currentMileage);
+    }
+
+    /**
+     * Crea una llanta nueva (generation 000) en inventario.
+     */
+    public UUID inventoryTire(String tireNumber) {
+        UUID tireId = insertTire(tireNumber, "000", "INVENTORY");
+        jdbcTemplate.update("""
+                INSERT INTO tire_management.inventory
+                    (tire_id, warehouse_location_id, purchase_cost, purchase_date, supplier_id, invoice_number)
+                VALUES (?, ?, 1500000, DATE '2026-01-15', ?, 'FAC-001')
+                """, tireId, locationId, supplierId);
+        return tireId;
+    }
+
+    /**
+     * Crea una llanta montada en el vehículo y la posición indicados.
+     *
+     * @return ID de la instalación activa
+     */
+    public UUID installedTire(String tireNumber, UUID vehicleId, int position, int mileageAtInstallation,
+                              LocalDate installationDate) {
+        UUID tireId = insertTire(tireNumber, "010", "ACTIVE");
+        return insertReturningId("""
+                INSERT INTO tire_management.active_installations
+                    (tire_id, vehicle_id, position, purchase_cost, purchase_date, supplier_id, invoice_number,
+                     mileage_at_installation, installation_date)
+                VALUES (?, ?, ?, 1500000, DATE '2026-01-15', ?, 'FAC-001', ?, ?)
+                RETURNING id
+                """, tireId, vehicleId, position, supplierId, mileageAtInstallation, installationDate);
+    }
+
+    public UUID getSpecificationId() {
+        return specificationId;
+    }
+
+    private UUID insertTire(String tireNumber, String generation, String state) {
+        return insertReturningId("""
+                INSERT INTO tire_management.tires (tire_number, generation, current_state, technical_specification_id)
+                VALUES (?, ?, ?::tire_management.tire_state, ?) RETURNING id
+                """, tireNumber, generation, state, specificationId);
+    }
+
+    private UUID insertReturningId(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, UUID.class, args);
+    }
+}
@@ -0,0 +1,152 @@
+package com.transer.vortice.tire.infrastructure.alert;
+
+import com.transer.vortice.shared.infrastructure.BaseRepositoryTest;
+import com.transer.vortice.tire.domain.model.alert.AlertCandidate;
+import com.transer.vortice.tire.domain.model.alert.AlertType;
+import com.transer.vortice.tire.domain.model.alert.MountedTire;
+import com.transer.vortice.tire.domain.model.alert.SpecificationThresholds;
+import com.transer.vortice.tire.infrastructure.TireTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración de la escritura de alertas y lectura de umbrales (V3.11.0).
+ * Usa Testcontainers con PostgreSQL.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("AlertJdbcRepository Integration Tests")
+class AlertJdbcRepositoryIntegrationTest extends BaseRepositoryTest {
+
+    private static final LocalDate INSTALLED_ON = LocalDate.of(2026, 6, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AlertJdbcRepository repository;
+    private TireTestData data;
+    private UUID vehicleId;
+    private UUID installationId;
+
+    @BeforeEach
+    void setUp() {
+        repository = new AlertJdbcRepository(jdbcTemplate);
+        data = new TireTestData(jdbcTemplate).withCatalogs();
+        vehicleId = data.vehicle("TST123", 10, 40_000);
+        installationId = data.installedTire("LL-001", vehicleId, 1, 40_000, INSTALLED_ON);
+    }
+
+    // =====================================================
+    // TESTS: Umbrales
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe leer el rango de presión de expected_performance y la profundidad inicial promedio")
+    void shouldLoadThresholds() {
+        // Given
+        jdbcTemplate.update("""
+                UPDATE tire_management.technical_specifications
+                SET expected_performance = '{"cost_per_km": 45.5, "pressure_range": {"min": 100, "max": 120}}'
+                WHERE id = ?
+                """, data.getSpecificationId());
+
+        // When
+        List<SpecificationThresholds> thresholds = repository.findThresholds();
+
+        // Then
+        assertThat(thresholds).singleElement().satisfies(spec -> {
+            assertThat(spec.specificationId()).isEqualTo(data.getSpecificationId());
+            assertThat(spec.expectedMileage()).isEqualTo(100_000);
+            assertThat(spec.initialAverageDepth()).isEqualTo(18.0);
+            assertThat(spec.pressureMin()).isEqualTo(100);
+            assertThat(spec.pressureMax()).isEqualTo(120);
+        });
+    }
+
+    @Test
+    @DisplayName("Debe dejar el rango de presión en null si la especificación no lo define")
+    void shouldLoadThresholdsWithoutPressureRange() {
+        // When
+        List<SpecificationThresholds> thresholds = repository.findThresholds();
+
+        // Then
+        assertThat(thresholds).singleElement().satisfies(spec -> {
+            assertThat(spec.pressureMin()).isNull();
+            assertThat(spec.pressureMax()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Debe leer las llantas montadas con los km recorridos al kilometraje dado")
+    void shouldFindMountedTires() {
+        // When
+        List<MountedTire> tires = repository.findMountedTires(vehicleId, 55_000);
+
+        // Then
+        assertThat(tires).singleElement().satisfies(tire -> {
+            assertThat(tire.installationId()).isEqualTo(installationId);
+            assertThat(tire.tireNumber()).isEqualTo("LL-001");
+            assertThat(tire.specificationId()).isEqualTo(data.getSpecificationId());
+            assertThat(tire.kmSinceInstallation()).isEqualTo(15_000);
+        });
+    }
+
+    // =====================================================
+    // TESTS: Escritura
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe escribir una sola alerta abierta por tipo e instalación")
+    void shouldDeduplicateOpenAlerts() {
+        // Given
+        repository.insert(List.of(alert(AlertType.CRITICAL_DEPTH)));
+
+        // When
+        int inserted = repository.insert(List.of(
+                alert(AlertType.CRITICAL_DEPTH),
+                alert(AlertType.INCORRECT_PRESSURE),
+                alert(AlertType.INCORRECT_PRESSURE)));
+
+        // Then
+        assertThat(inserted).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM tire_management.alerts
+                WHERE tire_installation_id = ? AND priority = 'HIGH' AND alert_data ->> 'depth_mm' = '2.5'
+                """, Long.class, installationId)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM tire_management.alerts", Long.class)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debe volver a generar la alerta después de reconocer la anterior")
+    void shouldRaiseAgainAfterAcknowledge() {
+        // Given
+        repository.insert(List.of(alert(AlertType.CRITICAL_DEPTH)));
+        jdbcTemplate.update("UPDATE tire_management.alerts SET is_acknowledged = true, acknowledged_at = CURRENT_TIMESTAMP");
+
+        // When
+        int inserted = repository.insert(List.of(alert(AlertType.CRITICAL_DEPTH)));
+
+        // Then
+        assertThat(inserted).isEqualTo(1);
+    }
+
+    // =====================================================
+    // Helpers
+    // =====================================================
+
+    private AlertCandidate alert(AlertType type) {
+        UUID tireId = jdbcTemplate.queryForObject(
+                "SELECT tire_id FROM tire_management.active_installations WHERE id = ?", UUID.class, installationId);
+        return new AlertCandidate(type, tireId, installationId, vehicleId, "Llanta LL-001", "{\"depth_mm\":2.5}");
+    }
+}
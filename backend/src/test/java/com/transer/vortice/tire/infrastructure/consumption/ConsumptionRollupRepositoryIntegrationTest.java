@@ -0,0 +1,250 @@
+package com.transer.vortice.tire.infrastructure.consumption;
+
+import com.transer.vortice.shared.infrastructure.BaseRepositoryTest;
+import com.transer.vortice.tire.application.dto.response.ConsumptionMonthResponse;
+import com.transer.vortice.tire.application.dto.response.ConsumptionSpecificationResponse;
+import com.transer.vortice.tire.infrastructure.TireTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Tests de integración de los acumulados mensuales de consumo (V3.12.0): triggers de
+ * inventario, montaje e historial, reconstrucción (V3.16.0: solo el historial conservado)
+ * y vista v_monthly_consumption.
+ * Usa Testcontainers con PostgreSQL.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("ConsumptionRollupRepository Integration Tests")
+class ConsumptionRollupRepositoryIntegrationTest extends BaseRepositoryTest {
+
+    private static final UUID MAIN_OFFICE_ID = UUID.fromString("a0000000-0000-0000-0000-000000000001");
+    private static final LocalDate JANUARY = LocalDate.of(2026, 1, 1);
+    private static final LocalDate JUNE = LocalDate.of(2026, 6, 1);
+    private static final LocalDate DECEMBER = LocalDate.of(2026, 12, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ConsumptionRollupRepository repository;
+    private TireTestData data;
+    private UUID vehicleId;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ConsumptionRollupRepository(jdbcTemplate);
+        data = new TireTestData(jdbcTemplate).withCatalogs();
+        vehicleId = data.vehicle("TST123", 10, 40_000);
+        // Acumulados de la carga inicial de la migración
+        jdbcTemplate.update("DELETE FROM tire_management.consumption_monthly");
+    }
+
+    // =====================================================
+    // TESTS: Triggers
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe contar la compra de una llanta nueva al ingresar a inventario")
+    void shouldCountNewTireOnInventoryInsert() {
+        // When
+        data.inventoryTire("LL-001");
+        data.inventoryTire("LL-002");
+
+        // Then
+        assertThat(repository.findMonthly(JANUARY, DECEMBER, null)).singleElement().satisfies(month -> {
+            assertThat(month.getMonth()).isEqualTo(JANUARY);
+            assertThat(month.getNewTires()).isEqualTo(2);
+            assertThat(month.getNewTiresCost()).isEqualByComparingTo("3000000");
+            assertThat(month.getInstallations()).isZero();
+        });
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT DISTINCT office_id FROM tire_management.consumption_monthly", UUID.class))
+                .isEqualTo(MAIN_OFFICE_ID);
+    }
+
+    @Test
+    @DisplayName("Debe contar el montaje sin volver a contar la compra de la llanta")
+    void shouldCountInstallationOnce() {
+        // Given
+        UUID tireId = data.inventoryTire("LL-001");
+
+        // When
+        mount(tireId, 1, JUNE.plusDays(9));
+
+        // Then
+        assertThat(repository.findMonthly(JANUARY, DECEMBER, null))
+                .extracting(ConsumptionMonthResponse::getMonth, ConsumptionMonthResponse::getNewTires,
+                        ConsumptionMonthResponse::getInstallations)
+                .containsExactly(
+                        tuple(JANUARY, 1L, 0L),
+                        tuple(JUNE, 0L, 1L));
+    }
+
+    @Test
+    @DisplayName("Debe contar el desmontaje al registrar el historial")
+    void shouldCountRemovalOnHistoryInsert() {
+        // Given
+        UUID installationId = data.installedTire("LL-001", vehicleId, 1, 40_000, JUNE);
+
+        // When
+        dismount(installationId, LocalDate.of(2026, 9, 15));
+
+        // Then
+        List<ConsumptionMonthResponse> months = repository.findMonthly(JANUARY, DECEMBER, null);
+        assertThat(months).extracting(ConsumptionMonthResponse::getMonth)
+                .containsExactly(JUNE, LocalDate.of(2026, 9, 1));
+        assertThat(months.get(0).getInstallations()).isEqualTo(1);
+        assertThat(months.get(1).getRemovals()).isEqualTo(1);
+        assertThat(months).allSatisfy(month -> assertThat(month.getNewTires()).isZero());
+    }
+
+    // =====================================================
+    // TESTS: Reconstrucción y consultas
+    // =====================================================
+
+    @Test
+    @DisplayName("La reconstrucción debe coincidir con los acumulados de los triggers")
+    void shouldRebuildSameAsIncremental() {
+        // Given
+        UUID mounted = data.inventoryTire("LL-001");
+        data.inventoryTire("LL-002");
+        mount(mounted, 1, JUNE);
+        UUID installationId = data.installedTire("LL-003", vehicleId, 2, 40_000, JUNE);
+        dismount(installationId, LocalDate.of(2026, 9, 15));
+        List<Map<String, Object>> incremental = snapshot();
+
+        // When
+        int rows = repository.rebuild();
+
+        // Then
+        assertThat(rows).isEqualTo(3);
+        assertThat(snapshot()).isEqualTo(incremental);
+    }
+
+    @Test
+    @DisplayName("La reconstrucción debe conservar los meses de las particiones archivadas")
+    void shouldKeepArchivedMonthsOnRebuild() {
+        // Given - desmontajes registrados en 2024 (history_records_2024) y en 2026
+        UUID archivedId = data.installedTire("LL-001", vehicleId, 1, 40_000, LocalDate.of(2024, 3, 10));
+        dismount(archivedId, LocalDate.of(2024, 6, 15));
+        UUID retainedId = data.installedTire("LL-002", vehicleId, 2, 40_000, JUNE);
+        dismount(retainedId, LocalDate.of(2026, 9, 15));
+        List<Map<String, Object>> incremental = snapshot();
+
+        // Archivo de la partición 2024 y un acumulado conservado desviado
+        jdbcTemplate.execute("ALTER TABLE tire_management.history_records "
+                + "DETACH PARTITION tire_management.history_records_2024");
+        jdbcTemplate.update("UPDATE tire_management.consumption_monthly SET removals = 99 WHERE month = ?",
+                LocalDate.of(2026, 9, 1));
+
+        // When
+        int rows = repository.rebuild();
+
+        // Then - 2024 sin cambios, 2026 recalculado
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT tire_management.history_records_retained_from()", LocalDate.class))
+                .isEqualTo(LocalDate.of(2025, 1, 1));
+        assertThat(rows).isEqualTo(2);
+        assertThat(snapshot()).isEqualTo(incremental);
+        assertThat(repository.findMonthly(LocalDate.of(2024, 1, 1), DECEMBER, null))
+                .extracting(ConsumptionMonthResponse::getMonth, ConsumptionMonthResponse::getInstallations,
+                        ConsumptionMonthResponse::getRemovals)
+                .containsExactly(
+                        tuple(LocalDate.of(2024, 3, 1), 1L, 0L),
+                        tuple(LocalDate.of(2024, 6, 1), 0L, 1L),
+                        tuple(JUNE, 1L, 0L),
+                        tuple(LocalDate.of(2026, 9, 1), 0L, 1L));
+    }
+
+    @Test
+    @DisplayName("Debe agrupar por especificación con el costo promedio y filtrar por oficina")
+    void shouldFindBySpecification() {
+        // Given
+        data.inventoryTire("LL-001");
+        data.inventoryTire("LL-002");
+
+        // When
+        List<ConsumptionSpecificationResponse> specifications = repository.findBySpecification(JANUARY, DECEMBER, null);
+
+        // Then
+        assertThat(specifications).singleElement().satisfies(spec -> {
+            assertThat(spec.getTechnicalSpecificationId()).isEqualTo(data.getSpecificationId());
+            assertThat(spec.getSpecificationCode()).isEqualTo("FT-TEST01");
+            assertThat(spec.getBrandName()).isEqualTo("Marca Test");
+            assertThat(spec.getNewTires()).isEqualTo(2);
+            assertThat(spec.getAverageCostPerNewTire()).isEqualByComparingTo(new BigDecimal("1500000"));
+        });
+        assertThat(repository.findBySpecification(JANUARY, DECEMBER, UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("v_monthly_consumption debe leer de los acumulados")
+    void shouldServeMonthlyConsumptionView() {
+        // Given
+        data.inventoryTire("LL-001");
+        data.inventoryTire("LL-002");
+
+        // When
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM tire_management.v_monthly_consumption");
+
+        // Then
+        assertThat(((Number) row.get("year")).intValue()).isEqualTo(2026);
+        assertThat(((Number) row.get("month")).intValue()).isEqualTo(1);
+        assertThat(((Number) row.get("total_consumption")).intValue()).isEqualTo(2);
+    }
+
+    // =====================================================
+    // Helpers
+    // =====================================================
+
+    private void mount(UUID tireId, int position, LocalDate installationDate) {
+        jdbcTemplate.update("""
+                INSERT INTO tire_management.active_installations (
+                    tire_id, vehicle_id, position, purchase_cost, purchase_date, supplier_id, invoice_number,
+                    mileage_at_installation, installation_date)
+                SELECT i.tire_id, ?, ?, i.purchase_cost, i.purchase_date, i.supplier_id, i.invoice_number, 40000, ?
+                FROM tire_management.inventory i
+                WHERE i.tire_id = ?
+                """, vehicleId, position, installationDate, tireId);
+        jdbcTemplate.update("DELETE FROM tire_management.inventory WHERE tire_id = ?", tireId);
+        jdbcTemplate.update("UPDATE tire_management.tires SET generation = '010', current_state = 'ACTIVE' WHERE id = ?",
+                tireId);
+    }
+
+    private void dismount(UUID installationId, LocalDate removalDate) {
+        jdbcTemplate.update("""
+                INSERT INTO tire_management.history_records (
+                    tire_id, generation_at_event, purchase_cost, purchase_date, supplier_id, invoice_number,
+                    technical_specification_id, vehicle_id, position, mileage_at_installation, installation_date,
+                    mileage_at_removal, removal_date, created_at)
+                SELECT ai.tire_id, t.generation, ai.purchase_cost, ai.purchase_date, ai.supplier_id, ai.invoice_number,
+                       t.technical_specification_id, ai.vehicle_id, ai.position, ai.mileage_at_installation,
+                       ai.installation_date, 55000, ?, ?
+                FROM tire_management.active_installations ai
+                JOIN tire_management.tires t ON t.id = ai.tire_id
+                WHERE ai.id = ?
+                """, removalDate, removalDate, installationId);
+        jdbcTemplate.update("DELETE FROM tire_management.active_installations WHERE id = ?", installationId);
+    }
+
+    private List<Map<String, Object>> snapshot() {
+        return jdbcTemplate.queryForList("""
+                SELECT month, office_id, technical_specification_id, brand_id,
+                       new_tires, new_tires_cost, installations, removals
+                FROM tire_management.consumption_monthly
+                ORDER BY month
+                """);
+    }
+}
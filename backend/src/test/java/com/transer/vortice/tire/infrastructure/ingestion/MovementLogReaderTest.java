@@ -0,0 +1,138 @@
+package com.transer.vortice.tire.infrastructure.ingestion;
+
+import com.transer.vortice.shared.infrastructure.exception.ValidationException;
+import com.transer.vortice.tire.domain.model.lifecycle.TireMovement;
+import com.transer.vortice.tire.domain.model.lifecycle.TireMovementType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para MovementLogReader.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("MovementLogReader Tests")
+class MovementLogReaderTest {
+
+    // =====================================================
+    // TESTS: Registros Válidos
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe leer todos los campos de un registro del formato TMPLOGMOV")
+    void shouldReadAllFields() {
+        // Given
+        MovementLogReader reader = new MovementLogReader("@P01@P12@L12345@001@10.5@11,2@10.8@100@OBS001@M;");
+
+        // When
+        boolean read = reader.next();
+
+        // Then
+        assertThat(read).isTrue();
+        assertThat(reader.originPosition()).isEqualTo((short) 1);
+        assertThat(reader.destinationPosition()).isEqualTo((short) 12);
+        assertThat(reader.tireNumber()).isEqualTo("L12345");
+        assertThat(reader.group()).hasToString("001");
+        assertThat(reader.depthInternal()).isEqualTo(10.5);
+        assertThat(reader.depthCentral()).isEqualTo(11.2);
+        assertThat(reader.depthExternal()).isEqualTo(10.8);
+        assertThat(reader.pressure()).isEqualTo(100.0);
+        assertThat(reader.observation()).hasToString("OBS001");
+        assertThat(reader.type()).isEqualTo(TireMovementType.MOUNT);
+        assertThat(reader.next()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe convertir un ticket con varios registros a movimientos del ciclo de vida")
+    void shouldReadTicketWithSeveralRecords() {
+        // Given - desmontaje sin destino, rotación y montaje; saltos de línea entre registros
+        String log = "@P03@P@LL-001@010@@@@@@R;\n"
+                + "@P04@P03@LL-002@010@@@@@@T;\r\n"
+                + "P@P04@LL-100@000@18@18@18@110@NUEVA@M;";
+
+        // When
+        List<TireMovement> movements = MovementLogReader.readAll(log);
+
+        // Then
+        assertThat(movements).containsExactly(
+                new TireMovement(TireMovementType.DISMOUNT, "LL-001", null, null),
+                new TireMovement(TireMovementType.ROTATE, "LL-002", (short) 3, null),
+                new TireMovement(TireMovementType.MOUNT, "LL-100", (short) 4, null));
+    }
+
+    @Test
+    @DisplayName("Debe tratar los campos opcionales vacíos como nulos")
+    void shouldReturnNullForEmptyFields() {
+        // Given
+        MovementLogReader reader = new MovementLogReader("@P@P@LL-001@@@@@@@R;");
+
+        // When
+        reader.next();
+
+        // Then
+        assertThat(reader.originPosition()).isNull();
+        assertThat(reader.destinationPosition()).isNull();
+        assertThat(reader.depthInternal()).isNull();
+        assertThat(reader.pressure()).isNull();
+        assertThat(reader.observation()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe leer un log vacío sin registros")
+    void shouldReadEmptyLog() {
+        assertThat(MovementLogReader.readAll("  \n")).isEmpty();
+    }
+
+    // =====================================================
+    // TESTS: Registros Mal Formados
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe rechazar un registro con campos faltantes indicando el número de registro")
+    void shouldRejectMissingFields() {
+        assertThatThrownBy(() -> MovementLogReader.readAll("@P01@P02@LL-001@010@@@@@@T;@P01@P02@LL-002@M;"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Registro 2")
+                .hasMessageContaining("faltan campos");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un registro sin terminador")
+    void shouldRejectMissingTerminator() {
+        assertThatThrownBy(() -> MovementLogReader.readAll("@P01@P02@LL-001@010@@@@@@T"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("terminador");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar tipos de transacción desconocidos")
+    void shouldRejectUnknownType() {
+        assertThatThrownBy(() -> MovementLogReader.readAll("@P01@P02@LL-001@010@@@@@@X;"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("tipo de transacción inválido 'X'");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar posiciones y valores numéricos inválidos")
+    void shouldRejectInvalidNumbers() {
+        assertThatThrownBy(() -> MovementLogReader.readAll("@P01@PXX@LL-001@010@@@@@@T;"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("posición inválida 'PXX'");
+        assertThatThrownBy(() -> MovementLogReader.readAll("@P01@P02@LL-001@010@1.2.3@@@@@M;"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("valor numérico inválido '1.2.3'");
+    }
+
+    @Test
+    @DisplayName("Debe exigir el número de llanta")
+    void shouldRequireTireNumber() {
+        assertThatThrownBy(() -> MovementLogReader.readAll("@P01@P02@ @010@@@@@@M;"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("número de llanta");
+    }
+}
@@ -0,0 +1,125 @@
+package com.transer.vortice.tire.infrastructure.ingestion;
+
+import com.transer.vortice.shared.infrastructure.BaseRepositoryTest;
+import com.transer.vortice.tire.application.dto.response.MovementLogTicketResponse;
+import com.transer.vortice.tire.infrastructure.TireTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración de la cola de tickets del canal móvil (V3.6.0).
+ * Usa Testcontainers con PostgreSQL.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("MovementLogStagingRepository Integration Tests")
+class MovementLogStagingRepositoryIntegrationTest extends BaseRepositoryTest {
+
+    private static final String LOG = "@P@P01@LL-100@000@18@18@18@110@@M;";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MovementLogStagingRepository repository;
+    private UUID vehicleId;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MovementLogStagingRepository(jdbcTemplate);
+        vehicleId = new TireTestData(jdbcTemplate).withCatalogs().vehicle("TST123", 10, 40_000);
+    }
+
+    // =====================================================
+    // TESTS: Recepción
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe ignorar los tickets ya recibidos, también dentro del mismo envío")
+    void shouldIgnoreDuplicatedTickets() {
+        // Given
+        repository.insert(List.of(pending(100L, "TST123")), null, null);
+
+        // When
+        Set<Long> inserted = repository.insert(
+                List.of(pending(100L, "TST123"), pending(101L, "TST123"), pending(101L, "TST123")), null, null);
+
+        // Then
+        assertThat(inserted).containsExactly(101L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM tire_management.movement_log_staging", Long.class)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debe guardar como rechazados con su motivo los tickets mal formados")
+    void shouldStoreRejectedTickets() {
+        // When
+        repository.insert(List.of(new StagedTicket(
+                200L, "TST123", 40_000, "@basura", 1, MovementLogStatus.R, "mal formado")), null, null);
+
+        // Then
+        MovementLogTicketResponse ticket = repository.findByTicket(200L).orElseThrow();
+        assertThat(ticket.getStatus()).isEqualTo(MovementLogStatus.R);
+        assertThat(ticket.getErrorMessage()).isEqualTo("mal formado");
+        assertThat(ticket.getProcessedAt()).isNotNull();
+        assertThat(repository.findPendingPlates(10)).isEmpty();
+    }
+
+    // =====================================================
+    // TESTS: Procesamiento
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe listar los pendientes de una placa en orden de ticket con su vehículo")
+    void shouldListPendingInTicketOrder() {
+        // Given
+        repository.insert(List.of(pending(102L, "TST123"), pending(100L, "TST123"),
+                pending(101L, "ZZZ999"), pending(103L, "TST123")), null, null);
+
+        // When
+        List<PendingTicket> pending = repository.findPending("TST123", 2);
+
+        // Then
+        assertThat(repository.findPendingPlates(10)).containsExactly("TST123", "ZZZ999");
+        assertThat(pending).extracting(PendingTicket::ticket).containsExactly(100L, 102L);
+        assertThat(pending).allSatisfy(t -> assertThat(t.vehicleId()).isEqualTo(vehicleId));
+        assertThat(repository.findPending("ZZZ999", 10)).singleElement()
+                .satisfies(t -> assertThat(t.vehicleId()).isNull());
+    }
+
+    @Test
+    @DisplayName("Debe sacar de la cola los tickets procesados y rechazados")
+    void shouldMarkTickets() {
+        // Given
+        repository.insert(List.of(pending(100L, "TST123"), pending(101L, "TST123")), null, null);
+        List<PendingTicket> pending = repository.findPending("TST123", 10);
+
+        // When
+        assertThat(repository.lockPending(pending.get(0).id())).isTrue();
+        repository.markProcessed(pending.get(0).id());
+        repository.markRejected(pending.get(1).id(), "La llanta LL-100 no existe");
+
+        // Then
+        assertThat(repository.lockPending(pending.get(0).id())).isFalse();
+        assertThat(repository.findPending("TST123", 10)).isEmpty();
+        assertThat(repository.findByTicket(100L).orElseThrow().getStatus()).isEqualTo(MovementLogStatus.P);
+        assertThat(repository.findByTicket(101L).orElseThrow().getErrorMessage()).contains("LL-100");
+        assertThat(repository.findByTicket(999L)).isEmpty();
+    }
+
+    // =====================================================
+    // Helpers
+    // =====================================================
+
+    private StagedTicket pending(long ticket, String licensePlate) {
+        return new StagedTicket(ticket, licensePlate, 41_000, LOG, 1, MovementLogStatus.A, null);
+    }
+}
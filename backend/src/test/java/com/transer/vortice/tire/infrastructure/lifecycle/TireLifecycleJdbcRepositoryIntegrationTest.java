@@ -0,0 +1,175 @@
+package com.transer.vortice.tire.infrastructure.lifecycle;
+
+import com.transer.vortice.shared.infrastructure.BaseRepositoryTest;
+import com.transer.vortice.tire.domain.model.lifecycle.TireLifecyclePlan;
+import com.transer.vortice.tire.domain.model.lifecycle.TireLifecycleStateMachine;
+import com.transer.vortice.tire.domain.model.lifecycle.TireMovement;
+import com.transer.vortice.tire.domain.model.lifecycle.TireMovementType;
+import com.transer.vortice.tire.domain.model.lifecycle.TireSnapshot;
+import com.transer.vortice.tire.domain.model.lifecycle.TireState;
+import com.transer.vortice.tire.domain.model.lifecycle.VehicleSnapshot;
+import com.transer.vortice.tire.infrastructure.TireTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración del acceso JDBC del ciclo de vida de llantas.
+ * Usa Testcontainers con PostgreSQL para validar las sentencias por lote,
+ * los triggers existentes y la restricción de posición diferible (V3.5.0).
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("TireLifecycleJdbcRepository Integration Tests")
+class TireLifecycleJdbcRepositoryIntegrationTest extends BaseRepositoryTest {
+
+    private static final LocalDate INSTALLED_ON = LocalDate.of(2026, 3, 1);
+    private static final LocalDate SERVICE_DATE = LocalDate.of(2026, 10, 18);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TireLifecycleJdbcRepository repository;
+    private TireTestData data;
+    private UUID vehicleId;
+
+    @BeforeEach
+    void setUp() {
+        repository = new TireLifecycleJdbcRepository(jdbcTemplate);
+        data = new TireTestData(jdbcTemplate).withCatalogs();
+
+        vehicleId = data.vehicle("TST123", 10, 40_000);
+        data.installedTire("LL-001", vehicleId, 1, 40_000, INSTALLED_ON);
+        data.installedTire("LL-002", vehicleId, 2, 40_000, INSTALLED_ON);
+        data.inventoryTire("LL-100");
+    }
+
+    // =====================================================
+    // TESTS: Lectura
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe leer el vehículo con su ocupación y las llantas del lote en una consulta")
+    void shouldLoadSnapshots() {
+        // When
+        VehicleSnapshot vehicle = repository.lockVehicle(vehicleId).orElseThrow();
+        Map<String, TireSnapshot> tires = repository.lockTires(List.of("LL-001", "LL-100", "NO-EXISTE"));
+
+        // Then
+        assertThat(vehicle.numberOfTires()).isEqualTo(10);
+        assertThat(vehicle.occupiedPositions()).containsOnlyKeys((short) 1, (short) 2);
+        assertThat(tires).containsOnlyKeys("LL-001", "LL-100");
+        assertThat(tires.get("LL-001").state()).isEqualTo(TireState.ACTIVE);
+        assertThat(tires.get("LL-001").position()).isEqualTo((short) 1);
+        assertThat(tires.get("LL-100").inInventory()).isTrue();
+        assertThat(tires.get("LL-100").installationId()).isNull();
+        assertThat(repository.lockVehicle(UUID.randomUUID())).isEmpty();
+    }
+
+    // =====================================================
+    // TESTS: Escritura por Lote
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe desmontar, rotar y montar en un mismo lote")
+    void shouldApplyMixedBatch() {
+        // When - LL-001 sale, LL-002 pasa a la posición 1 y LL-100 entra en la 2
+        apply(52_000,
+                new TireMovement(TireMovementType.DISMOUNT, "LL-001", null, null),
+                new TireMovement(TireMovementType.ROTATE, "LL-002", (short) 1, null),
+                new TireMovement(TireMovementType.MOUNT, "LL-100", (short) 2, null));
+        checkDeferredConstraints();
+
+        // Then - desmontada: intermedio, historial y kilometraje del periodo
+        assertThat(stateOf("LL-001")).isEqualTo("INTERMEDIATE");
+        assertThat(count("SELECT count(*) FROM tire_management.intermediate i JOIN tire_management.tires t "
+                + "ON t.id = i.tire_id WHERE t.tire_number = 'LL-001' AND i.evaluation_status = 'PENDING'")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT h.mileage_at_removal - h.mileage_at_installation
+                FROM tire_management.history_records h JOIN tire_management.tires t ON t.id = h.tire_id
+                WHERE t.tire_number = 'LL-001'
+                """, Integer.class)).isEqualTo(12_000);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT am.total_accumulated_mileage
+                FROM tire_management.accumulated_mileage am JOIN tire_management.tires t ON t.id = am.tire_id
+                WHERE t.tire_number = 'LL-001' AND am.generation = t.generation
+                """, Integer.class)).isEqualTo(12_000);
+
+        // Then - ocupación final del vehículo
+        assertThat(positionOf("LL-002")).isEqualTo(1);
+        assertThat(positionOf("LL-100")).isEqualTo(2);
+        assertThat(count("SELECT count(*) FROM tire_management.active_installations WHERE vehicle_id = '"
+                + vehicleId + "'")).isEqualTo(2);
+
+        // Then - montada: sale de inventario, incrementa vehículos en generation
+        assertThat(stateOf("LL-100")).isEqualTo("ACTIVE");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT generation FROM tire_management.tires WHERE tire_number = 'LL-100'", String.class))
+                .isEqualTo("010");
+        assertThat(count("SELECT count(*) FROM tire_management.inventory i JOIN tire_management.tires t "
+                + "ON t.id = i.tire_id WHERE t.tire_number = 'LL-100'")).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT current_mileage FROM shared.vehicles WHERE id = ?", Integer.class, vehicleId))
+                .isEqualTo(52_000);
+    }
+
+    @Test
+    @DisplayName("Debe intercambiar dos posiciones con la restricción única diferida")
+    void shouldSwapPositions() {
+        // When
+        apply(41_000,
+                new TireMovement(TireMovementType.ROTATE, "LL-001", (short) 2, null),
+                new TireMovement(TireMovementType.ROTATE, "LL-002", (short) 1, null));
+        checkDeferredConstraints();
+
+        // Then
+        assertThat(positionOf("LL-001")).isEqualTo(2);
+        assertThat(positionOf("LL-002")).isEqualTo(1);
+        assertThat(stateOf("LL-001")).isEqualTo("ACTIVE");
+    }
+
+    // =====================================================
+    // Helpers
+    // =====================================================
+
+    private void apply(int mileage, TireMovement... movements) {
+        List<TireMovement> batch = List.of(movements);
+        VehicleSnapshot vehicle = repository.lockVehicle(vehicleId).orElseThrow();
+        Map<String, TireSnapshot> tires = repository.lockTires(batch.stream().map(TireMovement::tireNumber).toList());
+        TireLifecyclePlan plan = TireLifecycleStateMachine.plan(vehicle, mileage, SERVICE_DATE, tires, batch);
+        repository.apply(plan, SERVICE_DATE, null);
+    }
+
+    /**
+     * El test corre en una transacción que se revierte: fuerza ahora la verificación
+     * que en producción ocurre al hacer commit.
+     */
+    private void checkDeferredConstraints() {
+        jdbcTemplate.execute("SET CONSTRAINTS ALL IMMEDIATE");
+    }
+
+    private String stateOf(String tireNumber) {
+        return jdbcTemplate.queryForObject(
+                "SELECT current_state::text FROM tire_management.tires WHERE tire_number = ?", String.class, tireNumber);
+    }
+
+    private Integer positionOf(String tireNumber) {
+        return jdbcTemplate.queryForObject("""
+                SELECT ai.position FROM tire_management.active_installations ai
+                JOIN tire_management.tires t ON t.id = ai.tire_id WHERE t.tire_number = ?
+                """, Integer.class, tireNumber);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
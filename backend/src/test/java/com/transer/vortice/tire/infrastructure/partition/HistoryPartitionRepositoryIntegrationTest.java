@@ -0,0 +1,130 @@
+package com.transer.vortice.tire.infrastructure.partition;
+
+import com.transer.vortice.shared.infrastructure.BaseRepositoryTest;
+import com.transer.vortice.tire.infrastructure.TireTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración del mantenimiento de particiones de las tablas históricas (V3.9.0).
+ * Usa Testcontainers con PostgreSQL.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("HistoryPartitionRepository Integration Tests")
+class HistoryPartitionRepositoryIntegrationTest extends BaseRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path archiveDirectory;
+
+    private HistoryPartitionRepository repository;
+    private UUID tireId;
+
+    @BeforeEach
+    void setUp() {
+        repository = new HistoryPartitionRepository(jdbcTemplate);
+        new TireTestData(jdbcTemplate).withCatalogs().inventoryTire("LL-001");
+        tireId = jdbcTemplate.queryForObject(
+                "SELECT id FROM tire_management.tires WHERE tire_number = 'LL-001'", UUID.class);
+    }
+
+    // =====================================================
+    // TESTS: Creación de Particiones
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe particionar sampling_history igual que history_records")
+    void shouldListRangePartitions() {
+        // When
+        List<PartitionInfo> partitions = repository.findPartitions("sampling_history");
+
+        // Then
+        assertThat(partitions).extracting(PartitionInfo::name).startsWith(
+                "sampling_history_2024", "sampling_history_2025", "sampling_history_2026");
+        assertThat(partitions.get(partitions.size() - 1).isDefault()).isTrue();
+        assertThat(partitions.get(0).totalBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Debe crear particiones mensuales contiguas moviendo las filas que estaban en DEFAULT")
+    void shouldCreateMonthlyPartitionsAndMoveDefaultRows() {
+        // Given
+        insertSampling("2027-02-15 10:00:00-05");
+
+        // When
+        List<String> created = repository.createPartitionsUntil("sampling_history", Instant.parse("2027-03-10T00:00:00Z"));
+        List<String> again = repository.createPartitionsUntil("sampling_history", Instant.parse("2027-03-10T00:00:00Z"));
+
+        // Then
+        assertThat(created).containsExactly(
+                "sampling_history_2027_01", "sampling_history_2027_02", "sampling_history_2027_03");
+        assertThat(again).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM tire_management.sampling_history", String.class))
+                .isEqualTo("tire_management.sampling_history_2027_02");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM tire_management.sampling_history_default", Long.class)).isZero();
+    }
+
+    // =====================================================
+    // TESTS: Archivo
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe exportar la partición a gzip y eliminarla de la tabla")
+    void shouldArchivePartition() throws IOException {
+        // Given
+        insertSampling("2024-05-01 08:00:00-05");
+        insertSampling("2024-06-01 08:00:00-05");
+
+        // When
+        long rows = repository.archive("sampling_history", "sampling_history_2024", archiveDirectory, 1);
+
+        // Then
+        assertThat(rows).isEqualTo(2);
+        assertThat(repository.findPartitions("sampling_history")).extracting(PartitionInfo::name)
+                .doesNotContain("sampling_history_2024");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM tire_management.sampling_history", Long.class)).isZero();
+
+        Path file = archiveDirectory.resolve("sampling_history_2024.jsonl.gz");
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            List<String> lines = reader.lines().toList();
+            assertThat(lines).hasSize(2).allSatisfy(line -> assertThat(line).contains(tireId.toString()));
+        }
+    }
+
+    // =====================================================
+    // Helpers
+    // =====================================================
+
+    private void insertSampling(String createdAt) {
+        jdbcTemplate.update("""
+                INSERT INTO tire_management.sampling_history (
+                    tire_id, generation, sampling_date, vehicle_mileage_at_sampling,
+                    depth_internal_mm, depth_central_mm, depth_external_mm, pressure_psi, created_at)
+                VALUES (?, '000', DATE '2026-10-18', 50000, 12.0, 12.0, 12.0, 110, ?::timestamptz)
+                """, tireId, createdAt);
+    }
+}
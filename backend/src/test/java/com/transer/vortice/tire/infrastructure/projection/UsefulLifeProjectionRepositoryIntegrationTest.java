@@ -0,0 +1,96 @@
+package com.transer.vortice.tire.infrastructure.projection;
+
+import com.transer.vortice.shared.infrastructure.BaseRepositoryTest;
+import com.transer.vortice.tire.application.dto.response.UsefulLifeResponse;
+import com.transer.vortice.tire.infrastructure.TireTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración del refresco por demanda de mv_useful_life (V3.8.0).
+ * Usa Testcontainers con PostgreSQL.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("UsefulLifeProjectionRepository Integration Tests")
+class UsefulLifeProjectionRepositoryIntegrationTest extends BaseRepositoryTest {
+
+    private static final LocalDate INSTALLED_ON = LocalDate.of(2026, 6, 1);
+    private static final long WRITER_WAIT_MS = 1_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UsefulLifeProjectionRepository repository;
+    private UUID vehicleId;
+    private UUID installationId;
+
+    @BeforeEach
+    void setUp() {
+        repository = new UsefulLifeProjectionRepository(jdbcTemplate);
+        TireTestData data = new TireTestData(jdbcTemplate).withCatalogs();
+        vehicleId = data.vehicle("TST123", 10, 50_000);
+        installationId = data.installedTire("LL-001", vehicleId, 1, 40_000, INSTALLED_ON);
+        data.installedTire("LL-002", vehicleId, 2, 40_000, INSTALLED_ON);
+    }
+
+    // =====================================================
+    // TESTS: Marca de Sucia
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe refrescar solo cuando hubo escrituras desde el último refresco")
+    void shouldRefreshOnlyWhenDirty() {
+        // Given: los montajes del escenario marcaron la vista
+        assertThat(repository.findState().stale()).isTrue();
+
+        // When
+        boolean first = repository.refreshIfDirty(WRITER_WAIT_MS);
+        boolean second = repository.refreshIfDirty(WRITER_WAIT_MS);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        UsefulLifeRefreshState state = repository.findState();
+        assertThat(state.stale()).isFalse();
+        assertThat(state.refreshedAt()).isNotNull();
+        assertThat(state.lastDurationMs()).isNotNull();
+        assertThat(repository.find(vehicleId, 10)).extracting(UsefulLifeResponse::getTireNumber)
+                .containsExactlyInAnyOrder("LL-001", "LL-002");
+    }
+
+    @Test
+    @DisplayName("Debe volver a marcar la vista con un muestreo y reflejarlo en el siguiente refresco")
+    void shouldMarkDirtyOnSampling() {
+        // Given
+        repository.refreshIfDirty(WRITER_WAIT_MS);
+
+        // When
+        jdbcTemplate.update("""
+                INSERT INTO tire_management.samplings (
+                    tire_installation_id, sampling_date, vehicle_mileage_at_sampling,
+                    depth_internal_mm, depth_central_mm, depth_external_mm, pressure_psi)
+                VALUES (?, DATE '2026-10-18', 50000, 12.0, 12.0, 12.0, 110)
+                """, installationId);
+
+        // Then
+        assertThat(repository.findState().stale()).isTrue();
+        assertThat(repository.findState().dirtySince()).isNotNull();
+        assertThat(repository.refreshIfDirty(WRITER_WAIT_MS)).isTrue();
+
+        List<UsefulLifeResponse> tires = repository.find(vehicleId, 10);
+        assertThat(tires).extracting(UsefulLifeResponse::getTireNumber).containsExactly("LL-001", "LL-002");
+        assertThat(tires.get(0).getCurrentAvgDepth()).isEqualByComparingTo("12.00");
+        assertThat(tires.get(0).getLastSamplingDate()).isEqualTo(LocalDate.of(2026, 10, 18));
+        assertThat(tires.get(1).getLastSamplingDate()).isNull();
+    }
+}
@@ -0,0 +1,223 @@
+package com.transer.vortice.tire.infrastructure.sampling;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH del registro de 50.000 muestreos (5.000 vehículos x 10 llantas).
+ *
+ * - ROW_TRIGGER: trigger por fila de V2.0.0 (duplicate_sampling_to_history) y un
+ *   INSERT por muestreo enviado en batch JDBC, como el registro por llanta de MLFR009.
+ * - BULK: trigger por sentencia de V3.7.0 y la sentencia única de
+ *   {@link TireSamplingJdbcRepository#insert}, que además actualiza accumulated_mileage
+ *   y el kilometraje de los vehículos.
+ *
+ * Cada invocación es un envío completo en su propia transacción; el kilometraje avanza
+ * en cada invocación para no chocar con uq_sampling_installation_mileage.
+ *
+ * Requiere Docker. Ejecución: {@code mvn test-compile} y luego ejecutar {@link #main(String[])} desde el IDE.
+ *
+ * @author Vórtice Development Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TireSamplingBenchmark {
+
+    private static final int VEHICLES = 5_000;
+    private static final int TIRES_PER_VEHICLE = 10;
+    private static final BigDecimal DEPTH = new BigDecimal("12.5");
+
+    private static final String ROW_INSERT_SQL = """
+            INSERT INTO tire_management.samplings (
+                tire_installation_id, sampling_date, vehicle_mileage_at_sampling,
+                depth_internal_mm, depth_central_mm, depth_external_mm, pressure_psi, created_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, 1)
+            """;
+
+    private static final String ROW_TRIGGER = """
+            DROP TRIGGER duplicate_sampling_trigger ON tire_management.samplings;
+            CREATE TRIGGER duplicate_sampling_trigger
+                AFTER INSERT ON tire_management.samplings
+                FOR EACH ROW EXECUTE FUNCTION tire_management.duplicate_sampling_to_history();
+            """;
+
+    @Param({"ROW_TRIGGER", "BULK"})
+    public String path;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private UUID[] installationIds;
+    private UUID[] vehicleIds;
+    private int mileage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            seed(statement);
+            if ("ROW_TRIGGER".equals(path)) {
+                statement.execute(ROW_TRIGGER);
+            }
+        }
+        loadInstallations();
+        connection.setAutoCommit(false);
+        mileage = 50_000;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    public int registerSamplings() throws SQLException {
+        mileage += 1_000;
+        Date samplingDate = Date.valueOf(LocalDate.of(2026, 10, 18));
+        int inserted = "BULK".equals(path) ? bulkInsert(samplingDate) : rowInsert(samplingDate);
+        connection.commit();
+        return inserted;
+    }
+
+    private int rowInsert(Date samplingDate) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(ROW_INSERT_SQL)) {
+            for (UUID installationId : installationIds) {
+                insert.setObject(1, installationId);
+                insert.setDate(2, samplingDate);
+                insert.setInt(3, mileage);
+                insert.setBigDecimal(4, DEPTH);
+                insert.setBigDecimal(5, DEPTH);
+                insert.setBigDecimal(6, DEPTH);
+                insert.setInt(7, 110);
+                insert.addBatch();
+            }
+            return insert.executeBatch().length;
+        }
+    }
+
+    private int bulkInsert(Date samplingDate) throws SQLException {
+        int size = installationIds.length;
+        Date[] dates = new Date[size];
+        Integer[] mileages = new Integer[size];
+        BigDecimal[] depths = new BigDecimal[size];
+        Integer[] pressures = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            dates[i] = samplingDate;
+            mileages[i] = mileage;
+            depths[i] = DEPTH;
+            pressures[i] = 110;
+        }
+        try (PreparedStatement insert = connection.prepareStatement(TireSamplingJdbcRepository.INSERT_SQL)) {
+            insert.setArray(1, connection.createArrayOf("uuid", installationIds));
+            insert.setArray(2, connection.createArrayOf("uuid", vehicleIds));
+            insert.setArray(3, connection.createArrayOf("date", dates));
+            insert.setArray(4, connection.createArrayOf("int4", mileages));
+            insert.setArray(5, connection.createArrayOf("numeric", depths));
+            insert.setArray(6, connection.createArrayOf("numeric", depths));
+            insert.setArray(7, connection.createArrayOf("numeric", depths));
+            insert.setArray(8, connection.createArrayOf("int4", pressures));
+            insert.setLong(9, 1L);
+            insert.setLong(10, 1L);
+            try (ResultSet rs = insert.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    /**
+     * Crea 5.000 vehículos con 10 llantas montadas cada uno (generation 010).
+     */
+    private void seed(Statement statement) throws SQLException {
+        statement.execute("""
+                INSERT INTO tire_management.brands (code, name) VALUES ('BNC', 'Marca Benchmark');
+                INSERT INTO tire_management.types (code, name) VALUES ('BNC', 'Tipo Benchmark');
+                INSERT INTO tire_management.tire_references (code, name) VALUES ('BNC', 'Referencia Benchmark');
+                INSERT INTO tire_management.technical_specifications
+                    (code, brand_id, type_id, reference_id, dimension, expected_mileage,
+                     initial_depth_internal_mm, initial_depth_central_mm, initial_depth_external_mm)
+                SELECT 'FT-BENCH', b.id, t.id, r.id, '295/80R22.5', 100000, 18, 18, 18
+                FROM tire_management.brands b, tire_management.types t, tire_management.tire_references r
+                WHERE b.code = 'BNC' AND t.code = 'BNC' AND r.code = 'BNC';
+                INSERT INTO tire_management.suppliers (code, name, tax_id)
+                VALUES ('PRV-BENCH', 'Proveedor Benchmark', '900000000');
+                INSERT INTO shared.vehicle_classes (code, name, number_of_tires, category)
+                VALUES ('CBENCH', 'Clase Benchmark', %2$d, 'C');
+                INSERT INTO shared.vehicles
+                    (license_plate, vehicle_class_id, brand, model_year, initial_mileage, current_mileage)
+                SELECT 'B' || lpad(g::text, 5, '0'), (SELECT id FROM shared.vehicle_classes WHERE code = 'CBENCH'),
+                       'Kenworth', 2020, 0, 40000
+                FROM generate_series(1, %1$d) g;
+                INSERT INTO tire_management.tires (tire_number, generation, current_state, technical_specification_id)
+                SELECT 'LL-' || lpad(g::text, 6, '0'), '010', 'ACTIVE'::tire_management.tire_state,
+                       (SELECT id FROM tire_management.technical_specifications WHERE code = 'FT-BENCH')
+                FROM generate_series(1, %1$d * %2$d) g;
+                INSERT INTO tire_management.active_installations
+                    (tire_id, vehicle_id, position, purchase_cost, purchase_date, supplier_id, invoice_number,
+                     mileage_at_installation, installation_date)
+                SELECT t.id, v.id, (n - 1) %% %2$d + 1, 1500000, DATE '2026-01-15',
+                       (SELECT id FROM tire_management.suppliers WHERE code = 'PRV-BENCH'), 'FAC-001',
+                       40000, DATE '2026-06-01'
+                FROM (SELECT id, row_number() OVER (ORDER BY tire_number) AS n FROM tire_management.tires) t
+                JOIN (SELECT id, row_number() OVER (ORDER BY license_plate) AS n FROM shared.vehicles) v
+                  ON v.n = (t.n - 1) / %2$d + 1;
+                ANALYZE;
+                """.formatted(VEHICLES, TIRES_PER_VEHICLE));
+    }
+
+    private void loadInstallations() throws SQLException {
+        List<UUID> installations = new ArrayList<>();
+        List<UUID> vehicles = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT id, vehicle_id FROM tire_management.active_installations ORDER BY vehicle_id, position")) {
+            while (rs.next()) {
+                installations.add(rs.getObject(1, UUID.class));
+                vehicles.add(rs.getObject(2, UUID.class));
+            }
+        }
+        installationIds = installations.toArray(UUID[]::new);
+        vehicleIds = vehicles.toArray(UUID[]::new);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TireSamplingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
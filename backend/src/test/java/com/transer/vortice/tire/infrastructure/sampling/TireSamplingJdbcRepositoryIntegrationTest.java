@@ -0,0 +1,150 @@
+package com.transer.vortice.tire.infrastructure.sampling;
+
+import com.transer.vortice.shared.infrastructure.BaseRepositoryTest;
+import com.transer.vortice.tire.domain.model.sampling.SamplingBaseline;
+import com.transer.vortice.tire.domain.model.sampling.SamplingRecord;
+import com.transer.vortice.tire.infrastructure.TireTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración del registro masivo de muestreos (V3.7.0).
+ * Usa Testcontainers con PostgreSQL.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("TireSamplingJdbcRepository Integration Tests")
+class TireSamplingJdbcRepositoryIntegrationTest extends BaseRepositoryTest {
+
+    private static final LocalDate INSTALLED_ON = LocalDate.of(2026, 6, 1);
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TireSamplingJdbcRepository repository;
+    private UUID vehicleId;
+    private UUID otherVehicleId;
+    private UUID firstInstallationId;
+    private UUID secondInstallationId;
+    private UUID otherInstallationId;
+
+    @BeforeEach
+    void setUp() {
+        repository = new TireSamplingJdbcRepository(jdbcTemplate);
+        TireTestData data = new TireTestData(jdbcTemplate).withCatalogs();
+        vehicleId = data.vehicle("TST123", 10, 40_000);
+        otherVehicleId = data.vehicle("TST456", 10, 60_000);
+        firstInstallationId = data.installedTire("LL-001", vehicleId, 1, 40_000, INSTALLED_ON);
+        secondInstallationId = data.installedTire("LL-002", vehicleId, 2, 40_000, INSTALLED_ON);
+        otherInstallationId = data.installedTire("LL-003", otherVehicleId, 1, 30_000, INSTALLED_ON);
+    }
+
+    // =====================================================
+    // TESTS: Línea Base
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe traer en una consulta las instalaciones de los vehículos con su último muestreo")
+    void shouldLoadBaselinesWithLastSampling() {
+        // Given
+        repository.insert(List.of(
+                record(firstInstallationId, vehicleId, 44_000, LocalDate.of(2026, 8, 1), "16.0"),
+                record(otherInstallationId, otherVehicleId, 35_000, LocalDate.of(2026, 8, 1), "16.0")), null);
+        repository.insert(List.of(
+                record(firstInstallationId, vehicleId, 46_000, LocalDate.of(2026, 9, 1), "15.5")), null);
+
+        // When
+        Map<String, SamplingBaseline> baselines = repository.lockBaselines(List.of(vehicleId));
+
+        // Then
+        assertThat(baselines).containsOnlyKeys("LL-001", "LL-002");
+        SamplingBaseline first = baselines.get("LL-001");
+        assertThat(first.installationId()).isEqualTo(firstInstallationId);
+        assertThat(first.position()).isEqualTo((short) 1);
+        assertThat(first.mileageAtInstallation()).isEqualTo(40_000);
+        assertThat(first.lastMileage()).isEqualTo(46_000);
+        assertThat(first.lastSamplingDate()).isEqualTo(LocalDate.of(2026, 9, 1));
+        assertThat(first.lastAverageDepth()).isEqualByComparingTo("15.5");
+        SamplingBaseline second = baselines.get("LL-002");
+        assertThat(second.lastMileage()).isNull();
+        assertThat(second.lastSamplingDate()).isNull();
+        assertThat(second.lastAverageDepth()).isNull();
+    }
+
+    // =====================================================
+    // TESTS: Escritura
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe escribir muestreos, histórico y kilometrajes en una sola sentencia")
+    void shouldInsertSamplingsWithHistoryAndMileage() {
+        // When
+        int inserted = repository.insert(List.of(
+                record(firstInstallationId, vehicleId, 50_000, TODAY, "15.0"),
+                record(secondInstallationId, vehicleId, 50_000, TODAY, "14.0"),
+                record(otherInstallationId, otherVehicleId, 35_000, TODAY, "16.0")), null);
+
+        // Then
+        assertThat(inserted).isEqualTo(3);
+        assertThat(count("SELECT count(*) FROM tire_management.samplings")).isEqualTo(3);
+        assertThat(count("""
+                SELECT count(*) FROM tire_management.sampling_history
+                WHERE generation = '010' AND sampling_date = DATE '2026-10-18'
+                """)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT am.total_accumulated_mileage
+                FROM tire_management.accumulated_mileage am
+                JOIN tire_management.tires t ON t.id = am.tire_id
+                WHERE t.tire_number = 'LL-001'
+                """, Integer.class)).isEqualTo(10_000);
+        assertThat(vehicleMileage(vehicleId)).isEqualTo(50_000);
+        // El kilometraje del vehículo nunca retrocede
+        assertThat(vehicleMileage(otherVehicleId)).isEqualTo(60_000);
+    }
+
+    @Test
+    @DisplayName("Debe conservar el mayor kilometraje acumulado entre muestreos")
+    void shouldKeepGreatestAccumulatedMileage() {
+        // Given
+        repository.insert(List.of(record(firstInstallationId, vehicleId, 50_000, TODAY, "15.0")), null);
+
+        // When
+        repository.insert(List.of(record(firstInstallationId, vehicleId, 45_000, TODAY, "15.0")), null);
+
+        // Then
+        assertThat(count("SELECT count(*) FROM tire_management.accumulated_mileage")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT total_accumulated_mileage FROM tire_management.accumulated_mileage", Integer.class))
+                .isEqualTo(10_000);
+        assertThat(count("SELECT count(*) FROM tire_management.sampling_history")).isEqualTo(2);
+    }
+
+    // =====================================================
+    // Helpers
+    // =====================================================
+
+    private SamplingRecord record(UUID installationId, UUID vehicle, int mileage, LocalDate date, String depth) {
+        BigDecimal value = new BigDecimal(depth);
+        return new SamplingRecord(installationId, vehicle, date, mileage, value, value, value, 110);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private int vehicleMileage(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT current_mileage FROM shared.vehicles WHERE id = ?", Integer.class, id);
+    }
+}
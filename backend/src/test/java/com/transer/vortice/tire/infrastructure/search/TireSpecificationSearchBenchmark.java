@@ -0,0 +1,171 @@
+package com.transer.vortice.tire.infrastructure.search;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH del typeahead de fichas técnicas
+ * ({@link TireSpecificationSearchRepository#SEARCH_SQL}) con 100.000 fichas.
+ *
+ * Mide la latencia por consulta (Mode.SampleTime, con percentiles) para términos
+ * típicos: prefijo de marca, dimensión en dos palabras, texto dentro de una palabra
+ * (trigramas) y código. Antes de medir se imprime el EXPLAIN ANALYZE de cada término.
+ * Al terminar, {@link #main(String[])} compara el p99 de cada término con el objetivo
+ * de {@value #TARGET_P99_MS} ms.
+ *
+ * Requiere Docker. Ejecución: {@code mvn test-compile} y luego ejecutar {@link #main(String[])} desde el IDE.
+ *
+ * @author Vórtice Development Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TireSpecificationSearchBenchmark {
+
+    private static final int SPECIFICATIONS = 100_000;
+    private static final int LIMIT = 10;
+    private static final double TARGET_P99_MS = 20.0;
+
+    @Param({"mich", "295 80", "helin", "ft-0500"})
+    public String term;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private PreparedStatement search;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            seed(statement);
+        }
+
+        // Mismos parámetros que TireSpecificationSearchRepository#search
+        List<String> tokens = TireSpecificationSearchRepository.tokenize(term);
+        String prefixQuery = TireSpecificationSearchRepository.toPrefixQuery(tokens);
+        String substring = String.join("", tokens).length() >= TireSpecificationSearchRepository.MIN_SUBSTRING_LENGTH
+                ? term : null;
+
+        search = connection.prepareStatement(TireSpecificationSearchRepository.SEARCH_SQL);
+        bind(search, prefixQuery, substring);
+
+        try (PreparedStatement explain = connection.prepareStatement(
+                "EXPLAIN (ANALYZE, BUFFERS) " + TireSpecificationSearchRepository.SEARCH_SQL)) {
+            bind(explain, prefixQuery, substring);
+            System.out.println("--- '" + term + "' (" + prefixQuery + ")");
+            try (ResultSet rs = explain.executeQuery()) {
+                while (rs.next()) {
+                    System.out.println(rs.getString(1));
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    public void typeahead(Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = search.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getString("code"));
+            }
+        }
+    }
+
+    /**
+     * Crea 20 marcas, 5 tipos, 50 referencias y 100.000 fichas repartidas entre ellas y
+     * entre 8 dimensiones. El documento de búsqueda lo llena el trigger de V3.3.0.
+     */
+    private static void seed(Statement statement) throws SQLException {
+        statement.execute("""
+                INSERT INTO tire_management.brands (code, name)
+                SELECT 'B' || g, (ARRAY['Michelin', 'Goodyear', 'Bridgestone', 'Continental', 'Pirelli',
+                                        'Firestone', 'Hankook', 'Yokohama', 'Dunlop', 'Kumho'])[(g % 10) + 1]
+                                 || ' ' || g
+                FROM generate_series(1, 20) g
+                """);
+        statement.execute("""
+                INSERT INTO tire_management.types (code, name)
+                VALUES ('RAD', 'Radial'), ('CNV', 'Convencional'), ('DIR', 'Direccional'),
+                       ('TRC', 'Tracción'), ('MIX', 'Mixta')
+                """);
+        statement.execute("""
+                INSERT INTO tire_management.tire_references (code, name)
+                SELECT 'R' || g, 'Referencia estándar ' || g
+                FROM generate_series(1, 50) g
+                """);
+        statement.execute("""
+                WITH b AS (SELECT array_agg(id ORDER BY code) ids FROM tire_management.brands),
+                     t AS (SELECT array_agg(id ORDER BY code) ids FROM tire_management.types),
+                     r AS (SELECT array_agg(id ORDER BY code) ids FROM tire_management.tire_references)
+                INSERT INTO tire_management.technical_specifications
+                    (code, brand_id, type_id, reference_id, dimension, expected_mileage,
+                     initial_depth_internal_mm, initial_depth_central_mm, initial_depth_external_mm)
+                SELECT 'FT-' || lpad(g::text, 6, '0'),
+                       b.ids[(g % 20) + 1], t.ids[(g % 5) + 1], r.ids[(g % 50) + 1],
+                       (ARRAY['295/80R22.5', '11R22.5', '315/80R22.5', '275/70R22.5',
+                              '12R22.5', '385/65R22.5', '215/75R17.5', '225/70R19.5'])[(g % 8) + 1],
+                       150000, 18, 18, 18
+                FROM generate_series(1, %d) g, b, t, r
+                """.formatted(SPECIFICATIONS));
+        statement.execute("ANALYZE tire_management.technical_specifications");
+        statement.execute("ANALYZE tire_management.specification_search");
+    }
+
+    private static void bind(PreparedStatement statement, String prefixQuery, String substring) throws SQLException {
+        statement.setString(1, prefixQuery);
+        statement.setString(2, prefixQuery);
+        statement.setString(3, substring);
+        statement.setBoolean(4, false);
+        statement.setInt(5, LIMIT);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(TireSpecificationSearchBenchmark.class.getSimpleName())
+                .build()).run();
+
+        for (RunResult result : results) {
+            double p99 = result.getPrimaryResult().getStatistics().getPercentile(99);
+            System.out.printf("typeahead '%s': p99 = %.2f ms (objetivo %.0f ms) %s%n",
+                    result.getParams().getParam("term"), p99, TARGET_P99_MS,
+                    p99 <= TARGET_P99_MS ? "OK" : "EXCEDIDO");
+        }
+    }
+}
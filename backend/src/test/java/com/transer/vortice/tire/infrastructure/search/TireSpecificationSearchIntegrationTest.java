@@ -0,0 +1,245 @@
+package com.transer.vortice.tire.infrastructure.search;
+
+import com.transer.vortice.shared.infrastructure.BaseRepositoryTest;
+import com.transer.vortice.tire.application.dto.response.TireSpecificationSearchResult;
+import com.transer.vortice.tire.domain.model.TireSpecification;
+import com.transer.vortice.tire.domain.model.catalog.TireBrand;
+import com.transer.vortice.tire.domain.model.catalog.TireReference;
+import com.transer.vortice.tire.domain.model.catalog.TireType;
+import com.transer.vortice.tire.domain.repository.TireBrandRepository;
+import com.transer.vortice.tire.domain.repository.TireReferenceRepository;
+import com.transer.vortice.tire.domain.repository.TireSpecificationRepository;
+import com.transer.vortice.tire.domain.repository.TireTypeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración del motor de búsqueda de fichas técnicas.
+ * Usa Testcontainers con PostgreSQL para validar el documento de búsqueda
+ * mantenido por triggers (migración V3.3.0) y los índices GIN.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("TireSpecificationSearch Integration Tests")
+class TireSpecificationSearchIntegrationTest extends BaseRepositoryTest {
+
+    @Autowired
+    private TireSpecificationRepository tireSpecificationRepository;
+
+    @Autowired
+    private TireBrandRepository tireBrandRepository;
+
+    @Autowired
+    private TireTypeRepository tireTypeRepository;
+
+    @Autowired
+    private TireReferenceRepository tireReferenceRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TireSpecificationSearchRepository searchRepository;
+
+    private TireBrand michelin;
+    private TireBrand radialBrand;
+    private TireType radial;
+    private TireType conventional;
+    private TireReference reference;
+
+    @BeforeEach
+    void setUp() {
+        searchRepository = new TireSpecificationSearchRepository(jdbcTemplate);
+
+        michelin = saveBrand("MCH", "Michelin");
+        radialBrand = saveBrand("RDP", "Radial Plus");
+        radial = saveType("RAD", "Radial");
+        conventional = saveType("CNV", "Convencional");
+        reference = saveReference("295/80R22.5", "Medida estándar para camiones");
+
+        // FT-000001: Michelin / Radial (la palabra "radial" aparece en el tipo, peso C)
+        saveSpecification("FT-000001", michelin, radial, "295/80R22.5");
+        // FT-000002: Radial Plus / Convencional (la palabra "radial" aparece en la marca, peso B)
+        saveSpecification("FT-000002", radialBrand, conventional, "11R22.5");
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // =====================================================
+    // TESTS: Coincidencias
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe encontrar por prefijo de marca, código y dimensión")
+    void shouldMatchByPrefix() {
+        assertThat(codes(search("mich"))).containsExactly("FT-000001");
+        assertThat(codes(search("ft-000002"))).containsExactly("FT-000002");
+        assertThat(codes(search("295/80"))).containsExactly("FT-000001");
+        assertThat(codes(search("MICH 295"))).containsExactly("FT-000001");
+    }
+
+    @Test
+    @DisplayName("Debe ignorar acentos y mayúsculas")
+    void shouldMatchIgnoringAccents() {
+        assertThat(codes(search("ESTANDAR"))).containsExactlyInAnyOrder("FT-000001", "FT-000002");
+        assertThat(codes(search("estánd"))).containsExactlyInAnyOrder("FT-000001", "FT-000002");
+        assertThat(codes(search("michelín"))).containsExactly("FT-000001");
+    }
+
+    @Test
+    @DisplayName("Debe encontrar texto dentro de una palabra a partir de 3 caracteres")
+    void shouldMatchSubstringWithTrigrams() {
+        assertThat(codes(search("helin"))).containsExactly("FT-000001");
+        assertThat(codes(search("el"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe ordenar por relevancia: marca antes que tipo")
+    void shouldRankBrandAboveType() {
+        // When
+        List<TireSpecificationSearchResult> results = search("radial");
+
+        // Then
+        assertThat(codes(results)).containsExactly("FT-000002", "FT-000001");
+        assertThat(results.get(0).getRank()).isGreaterThan(results.get(1).getRank());
+    }
+
+    @Test
+    @DisplayName("Debe tolerar caracteres especiales de tsquery sin fallar")
+    void shouldIgnoreTsqueryOperators() {
+        assertThat(codes(search("mich & | ! :* ( ' \\"))).containsExactly("FT-000001");
+        assertThat(search("&|!")).isEmpty();
+        assertThat(search(null)).isEmpty();
+    }
+
+    // =====================================================
+    // TESTS: Sincronización del Documento
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe actualizar el documento al renombrar una marca")
+    void shouldRefreshDocumentWhenBrandIsRenamed() {
+        // Given
+        TireBrand brand = tireBrandRepository.findById(michelin.getId()).orElseThrow();
+        brand.setName("Goodyear");
+        tireBrandRepository.save(brand);
+        entityManager.flush();
+
+        // When & Then
+        assertThat(search("mich")).isEmpty();
+        assertThat(codes(search("goody"))).containsExactly("FT-000001");
+    }
+
+    @Test
+    @DisplayName("Debe excluir fichas eliminadas e inactivas")
+    void shouldExcludeDeletedAndInactiveSpecifications() {
+        // Given
+        TireSpecification deleted = tireSpecificationRepository.findByCode("FT-000001").orElseThrow();
+        deleted.markAsDeleted(1L);
+        tireSpecificationRepository.save(deleted);
+
+        TireSpecification inactive = tireSpecificationRepository.findByCode("FT-000002").orElseThrow();
+        inactive.deactivate();
+        tireSpecificationRepository.save(inactive);
+        entityManager.flush();
+
+        // When & Then
+        assertThat(search("radial")).isEmpty();
+        assertThat(codes(searchRepository.search("radial", true, 10))).containsExactly("FT-000002");
+    }
+
+    // =====================================================
+    // TESTS: Plan de Ejecución
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe resolver la búsqueda con los índices GIN y no con un recorrido secuencial")
+    void shouldUseGinIndexes() {
+        // Given - volumen suficiente para que el planificador prefiera los índices
+        TireBrand generic = saveBrand("GEN", "Genérica");
+        entityManager.flush();
+        jdbcTemplate.update("""
+                INSERT INTO tire_management.technical_specifications
+                    (code, brand_id, type_id, reference_id, dimension, expected_mileage,
+                     initial_depth_internal_mm, initial_depth_central_mm, initial_depth_external_mm)
+                SELECT 'FT-' || lpad(g::text, 6, '0'), ?, ?, ?, '11R22.5', 100000, 18, 18, 18
+                FROM generate_series(100, 5099) g
+                """, generic.getId(), conventional.getId(), reference.getId());
+        jdbcTemplate.execute("ANALYZE tire_management.specification_search");
+
+        // When
+        String prefixQuery = TireSpecificationSearchRepository.toPrefixQuery(
+                TireSpecificationSearchRepository.tokenize("mich"));
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + TireSpecificationSearchRepository.SEARCH_SQL,
+                String.class, prefixQuery, prefixQuery, "mich", false, 10);
+
+        // Then
+        String planText = String.join("\n", plan);
+        assertThat(planText).contains("idx_specification_search_document", "idx_specification_search_trgm");
+        assertThat(planText).doesNotContain("Seq Scan on specification_search");
+        assertThat(codes(search("mich"))).containsExactly("FT-000001");
+    }
+
+    // =====================================================
+    // Helpers
+    // =====================================================
+
+    private List<TireSpecificationSearchResult> search(String term) {
+        return searchRepository.search(term, false, 10);
+    }
+
+    private List<String> codes(List<TireSpecificationSearchResult> results) {
+        return results.stream().map(TireSpecificationSearchResult::getCode).toList();
+    }
+
+    private TireBrand saveBrand(String code, String name) {
+        TireBrand brand = new TireBrand();
+        brand.setCode(code);
+        brand.setName(name);
+        brand.setIsActive(true);
+        return tireBrandRepository.save(brand);
+    }
+
+    private TireType saveType(String code, String name) {
+        TireType type = new TireType();
+        type.setCode(code);
+        type.setName(name);
+        type.setIsActive(true);
+        return tireTypeRepository.save(type);
+    }
+
+    private TireReference saveReference(String code, String name) {
+        TireReference tireReference = new TireReference();
+        tireReference.setCode(code);
+        tireReference.setName(name);
+        tireReference.setIsActive(true);
+        return tireReferenceRepository.save(tireReference);
+    }
+
+    private void saveSpecification(String code, TireBrand brand, TireType type, String dimension) {
+        TireSpecification specification = new TireSpecification();
+        specification.setCode(code);
+        specification.setBrand(brand);
+        specification.setType(type);
+        specification.setReference(reference);
+        specification.setDimension(dimension);
+        specification.setExpectedMileage(150000);
+        specification.setExpectedRetreads((short) 2);
+        specification.setInitialDepthInternalMm(new BigDecimal("18.0"));
+        specification.setInitialDepthCentralMm(new BigDecimal("18.0"));
+        specification.setInitialDepthExternalMm(new BigDecimal("18.0"));
+        tireSpecificationRepository.save(specification);
+    }
+}
@@ -0,0 +1,165 @@
+package com.transer.vortice.tire.infrastructure.wear;
+
+import com.transer.vortice.shared.infrastructure.BaseRepositoryTest;
+import com.transer.vortice.tire.application.dto.response.WearPredictionResponse;
+import com.transer.vortice.tire.domain.model.sampling.SamplingRecord;
+import com.transer.vortice.tire.domain.model.wear.WearForecastBatch;
+import com.transer.vortice.tire.domain.model.wear.WearRegression;
+import com.transer.vortice.tire.domain.model.wear.WearSampleSet;
+import com.transer.vortice.tire.infrastructure.TireTestData;
+import com.transer.vortice.tire.infrastructure.sampling.TireSamplingJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración de la proyección de desgaste (V3.10.0).
+ * Usa Testcontainers con PostgreSQL.
+ *
+ * @author Vórtice Development Team
+ */
+@DisplayName("WearPredictionRepository Integration Tests")
+class WearPredictionRepositoryIntegrationTest extends BaseRepositoryTest {
+
+    private static final double MINIMUM_DEPTH = 3.0;
+    private static final LocalDate INSTALLED_ON = LocalDate.of(2026, 1, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private WearPredictionRepository repository;
+    private TireSamplingJdbcRepository samplingRepository;
+    private UUID vehicleId;
+    private UUID firstInstallationId;
+    private UUID secondInstallationId;
+
+    @BeforeEach
+    void setUp() {
+        repository = new WearPredictionRepository(jdbcTemplate);
+        samplingRepository = new TireSamplingJdbcRepository(jdbcTemplate);
+        TireTestData data = new TireTestData(jdbcTemplate).withCatalogs();
+        vehicleId = data.vehicle("TST123", 10, 40_000);
+        firstInstallationId = data.installedTire("LL-001", vehicleId, 1, 40_000, INSTALLED_ON);
+        secondInstallationId = data.installedTire("LL-002", vehicleId, 2, 40_000, INSTALLED_ON);
+
+        // LL-001: 1 mm cada 5.000 km a 100 km por día; LL-002: un solo muestreo
+        sample(firstInstallationId, 40_000, INSTALLED_ON, "18.0");
+        sample(firstInstallationId, 45_000, INSTALLED_ON.plusDays(50), "17.0");
+        sample(firstInstallationId, 50_000, INSTALLED_ON.plusDays(100), "16.0");
+        sample(secondInstallationId, 50_000, INSTALLED_ON.plusDays(100), "16.0");
+    }
+
+    // =====================================================
+    // TESTS: Cálculo de la Flota
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe cargar los muestreos por instalación y guardar la proyección de cada llanta")
+    void shouldForecastAndSaveFleet() {
+        // Given
+        WearSampleSet samples = repository.loadFleet(1);
+
+        // When
+        WearForecastBatch batch = samples.forecast(MINIMUM_DEPTH, ForkJoinPool.commonPool());
+        int saved = repository.save(batch, 1);
+
+        // Then
+        assertThat(samples.installations()).isEqualTo(2);
+        assertThat(samples.samples()).isEqualTo(4);
+        assertThat(saved).isEqualTo(2);
+
+        List<WearPredictionResponse> predictions = repository.findByVehicle(vehicleId);
+        assertThat(predictions).extracting(WearPredictionResponse::getTireNumber).containsExactly("LL-001", "LL-002");
+        WearPredictionResponse first = predictions.get(0);
+        assertThat(first.getSampleCount()).isEqualTo(3);
+        assertThat(first.getWearRateMmPer1000Km()).isEqualByComparingTo("0.2");
+        assertThat(first.getFittedDepthMm()).isEqualByComparingTo("16.0");
+        assertThat(first.getKmPerDay()).isEqualByComparingTo("100");
+        assertThat(first.getRemainingKm()).isEqualTo(65_000);
+        assertThat(first.getProjectedRemovalDate()).isEqualTo(INSTALLED_ON.plusDays(100 + 650));
+        WearPredictionResponse second = predictions.get(1);
+        assertThat(second.getSampleCount()).isEqualTo(1);
+        assertThat(second.getWearRateMmPer1000Km()).isNull();
+        assertThat(second.getRemainingKm()).isNull();
+        assertThat(second.getProjectedRemovalDate()).isNull();
+    }
+
+    // =====================================================
+    // TESTS: Actualización Incremental
+    // =====================================================
+
+    @Test
+    @DisplayName("Debe leer los estadísticos guardados y actualizarlos con un muestreo nuevo")
+    void shouldUpdateStoredStatsIncrementally() {
+        // Given
+        repository.save(repository.loadFleet(100).forecast(MINIMUM_DEPTH, ForkJoinPool.commonPool()), 100);
+        sample(firstInstallationId, 55_000, INSTALLED_ON.plusDays(150), "15.0");
+
+        // When
+        WearForecastBatch stored = repository.lockStats(List.of(firstInstallationId, UUID.randomUUID()));
+        stored.add(0, 15_000, 15.0, INSTALLED_ON.plusDays(150));
+        stored.predict(MINIMUM_DEPTH);
+        repository.save(stored, 100);
+
+        // Then
+        assertThat(stored.size()).isEqualTo(1);
+        WearForecastBatch recalculated = repository.loadSamples(List.of(firstInstallationId))
+                .forecast(MINIMUM_DEPTH, ForkJoinPool.commonPool());
+        assertThat(stored.stats()).containsExactly(recalculated.stats());
+        assertThat(repository.findByVehicle(vehicleId).get(0).getRemainingKm()).isEqualTo(60_000);
+    }
+
+    @Test
+    @DisplayName("No debe sobrescribir una proyección con un cálculo de muestreos anteriores")
+    void shouldNotOverwriteNewerPrediction() {
+        // Given
+        WearForecastBatch older = repository.loadFleet(100).forecast(MINIMUM_DEPTH, ForkJoinPool.commonPool());
+        sample(firstInstallationId, 55_000, INSTALLED_ON.plusDays(150), "15.0");
+        repository.save(repository.loadFleet(100).forecast(MINIMUM_DEPTH, ForkJoinPool.commonPool()), 100);
+
+        // When
+        int saved = repository.save(older, 100);
+
+        // Then: solo LL-002, que no cambió
+        assertThat(saved).isEqualTo(1);
+        assertThat(repository.findByVehicle(vehicleId).get(0).getSampleCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Debe eliminar las proyecciones de instalaciones dadas de baja")
+    void shouldDeleteInactivePredictions() {
+        // Given
+        repository.save(repository.loadFleet(100).forecast(MINIMUM_DEPTH, ForkJoinPool.commonPool()), 100);
+        jdbcTemplate.update("UPDATE tire_management.active_installations SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?",
+                secondInstallationId);
+
+        // When
+        int deleted = repository.deleteInactive();
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(repository.findByVehicle(vehicleId)).extracting(WearPredictionResponse::getTireNumber)
+                .containsExactly("LL-001");
+        assertThat(repository.loadFleet(100).installations()).isEqualTo(1);
+    }
+
+    // =====================================================
+    // Helpers
+    // =====================================================
+
+    private void sample(UUID installationId, int mileage, LocalDate date, String depth) {
+        BigDecimal value = new BigDecimal(depth);
+        samplingRepository.insert(List.of(
+                new SamplingRecord(installationId, vehicleId, date, mileage, value, value, value, 110)), null);
+    }
+}
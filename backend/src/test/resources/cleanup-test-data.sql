@@ -6,6 +6,7 @@ SET session_replication_role = 'replica';
 
 -- Truncar tablas en orden correcto (respetando foreign keys)
 TRUNCATE TABLE refresh_tokens CASCADE;
+TRUNCATE TABLE jwt_revocations;
 TRUNCATE TABLE user_roles CASCADE;
 TRUNCATE TABLE role_permissions CASCADE;
 TRUNCATE TABLE users CASCADE;